@@ -0,0 +1,88 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.model.services;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares url building through {@link UrlTemplate} with the previous regex based interpolation.
+ * Run with <code>mvn -Pbenchmark test-compile exec:exec -Dbenchmark.args="UrlTemplateBenchmark -prof gc"</code>
+ * to get the allocation rate per call (<code>gc.alloc.rate.norm</code>).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UrlTemplateBenchmark {
+
+    private static final String ENDPOINT = "https://api.amazonalexa.com/";
+    private static final String PATH = "/v2/householdlists/{listId}/items/{itemId}";
+
+    private final Map<String, String> pathParams = new HashMap<>();
+    private final List<Pair<String, String>> queryParams = new ArrayList<>();
+
+    public UrlTemplateBenchmark() {
+        pathParams.put("listId", "YW16bjEuYWNjb3VudC5BRVlBQkhMS1lSVkVKU1EzRTNGS1BMSFhXUS1TSE9QUElOR19JVEVN");
+        pathParams.put("itemId", "c8bbcc5d-5bf4-4b3b-9d69-a2fd4f4a3f2e");
+        queryParams.add(new Pair<>("status", "active"));
+        queryParams.add(new Pair<>("nextToken", "a token/with+reserved chars"));
+    }
+
+    @Benchmark
+    public String urlTemplate() {
+        return UrlTemplate.of(PATH).buildUrl(ENDPOINT, queryParams, pathParams);
+    }
+
+    @Benchmark
+    public String regexInterpolation() {
+        String processedEndpoint = ENDPOINT.endsWith("/") ? ENDPOINT.substring(0, ENDPOINT.length() - 1) : ENDPOINT;
+        String result = PATH;
+        for (Map.Entry<String, String> param : pathParams.entrySet()) {
+            result = result.replaceAll("\\{" + param.getKey() + "\\}", escapeString(param.getValue()));
+        }
+        StringBuilder query = new StringBuilder(result.contains("?") ? "&" : "?");
+        for (Pair<String, String> param : queryParams) {
+            query.append(escapeString(param.getName())).append("=").append(escapeString(param.getValue())).append("&");
+        }
+        query.deleteCharAt(query.length() - 1);
+        return processedEndpoint + result + query;
+    }
+
+    private static String escapeString(final String s) {
+        try {
+            return URLEncoder.encode(s, StandardCharsets.UTF_8.name()).replaceAll("\\+", "%20");
+        } catch (UnsupportedEncodingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
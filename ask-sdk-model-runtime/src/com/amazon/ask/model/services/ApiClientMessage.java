@@ -12,14 +12,37 @@
  */
 package com.amazon.ask.model.services;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
+import java.util.Locale;
 
 /**
  * Represents the interface between <code>ApiClient</code> and a Service Client.
+ *
+ * The body can be carried as a String, as encoded bytes or as a stream. Setting one representation clears the
+ * others, and {@link #getBody()} always returns the String form, decoding the bytes or reading the stream to its
+ * end the first time it is called, so implementations only aware of String bodies keep working. Bytes of a binary
+ * media type, such as <code>application/cbor</code>, are not text and are Base64 encoded instead of decoded.
  */
 public class ApiClientMessage {
+  /**
+   * Name of the header declaring the media type of the body.
+   */
+  public static final String CONTENT_TYPE_HEADER = "Content-Type";
+
+  private static final int BUFFER_SIZE = 8192;
+
   private List<Pair<String, String>> headers;
   private String body;
+  private ByteBuffer bodyBuffer;
+  private InputStream bodyStream;
 
   public List<Pair<String, String>> getHeaders() {
     return headers;
@@ -29,11 +52,146 @@ public class ApiClientMessage {
     this.headers = headers;
   }
 
+  /**
+   * Gets the media type of the body, as declared by the first <code>Content-Type</code> header, whatever its case.
+   * @return media type, or null if no header declares it
+   */
+  public String getContentType() {
+    if (headers != null) {
+      for (Pair<String, String> header : headers) {
+        if (CONTENT_TYPE_HEADER.equalsIgnoreCase(header.getName())) {
+          return header.getValue();
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Declares the media type of the body, replacing the <code>Content-Type</code> headers already set.
+   * @param contentType media type, or null to remove the declaration
+   */
+  public void setContentType(final String contentType) {
+    List<Pair<String, String>> newHeaders = new ArrayList<>();
+    if (headers != null) {
+      for (Pair<String, String> header : headers) {
+        if (!CONTENT_TYPE_HEADER.equalsIgnoreCase(header.getName())) {
+          newHeaders.add(header);
+        }
+      }
+    }
+    if (contentType != null) {
+      newHeaders.add(new Pair<>(CONTENT_TYPE_HEADER, contentType));
+    }
+    this.headers = newHeaders;
+  }
+
+  /**
+   * Gets the body as a String, converting it from the byte or stream representation if that is how it was set.
+   * The bytes are decoded as UTF-8, unless the content type declares a binary media type, in which case they are
+   * Base64 encoded so that they can be recovered intact. A stream body is consumed and closed by this call.
+   * @return body, or null if no body is set
+   */
   public String getBody() {
+    if (body == null) {
+      if (bodyBuffer != null) {
+        body = isTextual(getContentType())
+            ? StandardCharsets.UTF_8.decode(bodyBuffer.duplicate()).toString()
+            : StandardCharsets.ISO_8859_1.decode(Base64.getEncoder().encode(bodyBuffer.duplicate())).toString();
+      } else if (bodyStream != null) {
+        byte[] bytes = readFully(bodyStream);
+        body = isTextual(getContentType())
+            ? new String(bytes, StandardCharsets.UTF_8) : Base64.getEncoder().encodeToString(bytes);
+        bodyStream = null;
+      }
+    }
     return body;
   }
 
   public void setBody(final String body) {
     this.body = body;
+    this.bodyBuffer = null;
+    this.bodyStream = null;
+  }
+
+  /**
+   * Gets the UTF-8 encoded body, if it was set as bytes.
+   * @return body bytes between the buffer position and limit, or null if the body was not set as bytes
+   */
+  public ByteBuffer getBodyBuffer() {
+    return bodyBuffer;
+  }
+
+  public void setBodyBuffer(final ByteBuffer bodyBuffer) {
+    this.bodyBuffer = bodyBuffer;
+    this.body = null;
+    this.bodyStream = null;
+  }
+
+  /**
+   * Gets the UTF-8 encoded body stream, if it was set as a stream and not consumed through {@link #getBody()}.
+   * Whoever reads the stream is responsible for closing it.
+   * @return body stream, or null if the body was not set as a stream
+   */
+  public InputStream getBodyStream() {
+    return bodyStream;
+  }
+
+  public void setBodyStream(final InputStream bodyStream) {
+    this.bodyStream = bodyStream;
+    this.body = null;
+    this.bodyBuffer = null;
+  }
+
+  /**
+   * Checks if two content types declare the same media type, ignoring their parameters and case.
+   * @param contentType content type
+   * @param otherContentType other content type
+   * @return true if both are set and declare the same media type
+   */
+  static boolean isSameMediaType(final String contentType, final String otherContentType) {
+    return contentType != null && otherContentType != null
+        && getMediaType(contentType).equals(getMediaType(otherContentType));
+  }
+
+  /**
+   * Checks if a content type declares JSON, including the <code>+json</code> structured syntax suffix.
+   * @param contentType content type
+   * @return true if the media type is JSON or if the content type is not set
+   */
+  static boolean isJson(final String contentType) {
+    if (contentType == null) {
+      return true;
+    }
+    String mediaType = getMediaType(contentType);
+    return mediaType.equals("application/json") || mediaType.endsWith("+json");
+  }
+
+  private static boolean isTextual(final String contentType) {
+    if (isJson(contentType)) {
+      return true;
+    }
+    String mediaType = getMediaType(contentType);
+    return mediaType.startsWith("text/") || mediaType.endsWith("+xml") || mediaType.equals("application/xml")
+        || mediaType.equals("application/x-www-form-urlencoded") || mediaType.equals("application/javascript");
+  }
+
+  private static String getMediaType(final String contentType) {
+    int parameters = contentType.indexOf(';');
+    return (parameters >= 0 ? contentType.substring(0, parameters) : contentType).trim().toLowerCase(Locale.ROOT);
+  }
+
+  private static byte[] readFully(final InputStream inputStream) {
+    try (InputStream stream = inputStream) {
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+      byte[] buffer = new byte[BUFFER_SIZE];
+      int read;
+      while ((read = stream.read(buffer)) != -1) {
+        outputStream.write(buffer, 0, read);
+      }
+      return outputStream.toByteArray();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to read message body", e);
+    }
   }
 }
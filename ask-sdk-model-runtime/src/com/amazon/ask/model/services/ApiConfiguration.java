@@ -34,4 +34,44 @@ public interface ApiConfiguration {
    * @return the endpoint for the client to invoke the remote call on.
    */
   String getApiEndpoint();
+
+  /**
+   * Retrieves the policy service clients use to retry failed calls.
+   * @return the retry policy, or null if calls are not retried
+   */
+  default RetryPolicy getRetryPolicy() {
+    return null;
+  }
+
+  /**
+   * Retrieves the policy service clients use to limit the rate of outgoing calls.
+   * @return the rate limit policy, or null if calls are not limited
+   */
+  default RateLimitPolicy getRateLimitPolicy() {
+    return null;
+  }
+
+  /**
+   * Retrieves the policy service clients use to stop calling failing operations.
+   * @return the circuit breaker policy, or null if calls are never refused
+   */
+  default CircuitBreakerPolicy getCircuitBreakerPolicy() {
+    return null;
+  }
+
+  /**
+   * Retrieves the policy service clients use to limit their calls in flight.
+   * @return the bulkhead policy, or null if calls in flight are not limited
+   */
+  default BulkheadPolicy getBulkheadPolicy() {
+    return null;
+  }
+
+  /**
+   * Retrieves the policy service clients use to hedge GET calls.
+   * @return the hedging policy, or null if calls are not hedged
+   */
+  default HedgingPolicy getHedgingPolicy() {
+    return null;
+  }
 }
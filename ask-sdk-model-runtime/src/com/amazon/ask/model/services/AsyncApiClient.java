@@ -0,0 +1,40 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+package com.amazon.ask.model.services;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Represents a non-blocking contract for API request execution. Implementations are picked up by
+ * {@link BaseServiceClient#executeRequestAsync} so the calling thread is not held while the request is in flight.
+ */
+public interface AsyncApiClient extends ApiClient {
+
+  /**
+   * Dispatches a request to an API endpoint described in the request without blocking the caller.
+   * The returned future is expected to complete normally in the case an API returns a non-200 HTTP
+   * status code, and to complete exceptionally only when the request could not be dispatched.
+   * The responsibility of translating a particular response code to an error lies with the caller.
+   * @param request Request to dispatch to the ApiClient
+   * @return Future completed with the response from the ApiClient
+   */
+  CompletableFuture<ApiClientResponse> invokeAsync(ApiClientRequest request);
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  default ApiClientResponse invoke(ApiClientRequest request) {
+    return invokeAsync(request).join();
+  }
+}
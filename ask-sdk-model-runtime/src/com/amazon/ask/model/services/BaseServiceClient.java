@@ -12,14 +12,20 @@
  */
 package com.amazon.ask.model.services;
 
-import java.io.UnsupportedEncodingException;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
+import com.amazon.ask.model.services.util.JacksonSerializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Class to be used as the base class for the generated service clients.
@@ -29,15 +35,35 @@ public abstract class BaseServiceClient {
   protected Serializer serializer;
   protected String authorizationValue;
   protected String apiEndpoint;
+  protected RetryPolicy retryPolicy;
+  protected RateLimitPolicy rateLimitPolicy;
+  protected CircuitBreakerPolicy circuitBreakerPolicy;
+  protected BulkheadPolicy bulkheadPolicy;
+  protected HedgingPolicy hedgingPolicy;
+  private final Serializer binarySerializer;
+  private final String clientName = getClass().getSimpleName();
 
   protected BaseServiceClient(ApiConfiguration apiConfiguration) {
     if (apiConfiguration == null) {
         throw new IllegalArgumentException("ApiConfiguration must be provided");
     }
     this.apiClient = apiConfiguration.getApiClient();
-    this.serializer = apiConfiguration.getSerializer();
+    // The Alexa APIs only accept JSON: a serializer of another format is only used to read responses declaring it
+    Serializer configuredSerializer = apiConfiguration.getSerializer();
+    if (configuredSerializer != null && !ApiClientMessage.isJson(configuredSerializer.getContentType())) {
+      this.serializer = new JacksonSerializer();
+      this.binarySerializer = configuredSerializer;
+    } else {
+      this.serializer = configuredSerializer;
+      this.binarySerializer = null;
+    }
     this.authorizationValue = apiConfiguration.getAuthorizationValue();
     this.apiEndpoint = apiConfiguration.getApiEndpoint();
+    this.retryPolicy = apiConfiguration.getRetryPolicy();
+    this.rateLimitPolicy = apiConfiguration.getRateLimitPolicy();
+    this.circuitBreakerPolicy = apiConfiguration.getCircuitBreakerPolicy();
+    this.bulkheadPolicy = apiConfiguration.getBulkheadPolicy();
+    this.hedgingPolicy = apiConfiguration.getHedgingPolicy();
   }
 
   /**
@@ -107,125 +133,610 @@ public abstract class BaseServiceClient {
   protected <T> ApiResponse<T> executeRequest(String method, String endpoint, String path, List<Pair<String, String>> queryParams,
                                           List<Pair<String, String>> headerParams, Map<String, String> pathParams,
                                           List<ServiceClientResponse> responseDefinitions, Object body, Class<T> responseType, boolean rawRequest) throws ServiceException {
-    ApiClientRequest request = new ApiClientRequest();
-    request.setUrl(buildUrl(endpoint, path, queryParams, pathParams));
-    request.setMethod(method);
-    request.setHeaders(headerParams);
-    if (body != null) {
-      if (!rawRequest) {
-        request.setBody(this.serializer.serialize(body));
-      } else {
-        request.setBody((String) body);
+    return executeRequest(OperationDescriptor.of(method, path, responseDefinitions, responseType, rawRequest), endpoint,
+            queryParams, headerParams, pathParams, body);
+  }
+
+  /**
+   * Calls the ApiClient for the operation described by a descriptor, as well as handles the well-known responses
+   * from the Api
+   * @param operation Descriptor of the operation
+   * @param endpoint Base Endpoint to make the request to
+   * @param queryParams Parameter values to be sent as part of the query string
+   * @param headerParams Parameter values to be sent as headers, in addition to the constant headers of the operation
+   * @param pathParams Parameter values to be interpolated in the path
+   * @param body Request body
+   * @return ApiResponse containing a Response object instance of the response type of the operation
+   * @throws ServiceException Thrown when a failure happens or when getting an Error Response from
+   * the Api.
+   */
+  protected <T> ApiResponse<T> executeRequest(OperationDescriptor<T> operation, String endpoint, List<Pair<String, String>> queryParams,
+                                              List<Pair<String, String>> headerParams, Map<String, String> pathParams,
+                                              Object body) throws ServiceException {
+    String method = operation.getMethod();
+    String path = operation.getPath();
+    acquireBulkhead();
+    try {
+      ApiClientRequest request = buildRequest(operation, endpoint, queryParams, headerParams, pathParams, body);
+      RetryPolicy operationRetryPolicy = startCall(method, path);
+      CircuitBreaker circuitBreaker = getCircuitBreaker(method, path);
+
+      for (int attempt = 1; ; attempt++) {
+        awaitPermit(endpoint, method, path);
+        CircuitBreaker.Snapshot admitted = acquireCircuit(circuitBreaker);
+        ApiClientResponse response;
+        try {
+          response = send(request, endpoint, path, circuitBreaker);
+        } catch(Exception ex) {
+          recordOutcome(circuitBreaker, admitted, null);
+          if (sleep(getRetryDelayMillis(operationRetryPolicy, method, attempt, null, null))) {
+            continue;
+          }
+          throw new ServiceException("Call to service failed: " + ex.getMessage(), 500, null, null, ex);
+        }
+        recordOutcome(circuitBreaker, admitted, response.getStatusCode());
+
+        long retryDelayMillis = getRetryDelayMillis(operationRetryPolicy, method, attempt, response.getStatusCode(), response.getHeaders());
+        if (retryDelayMillis >= 0) {
+          closeQuietly(response.getBodyStream());
+          if (sleep(retryDelayMillis)) {
+            continue;
+          }
+          throw new ServiceException("Call to service interrupted while waiting to retry", response.getStatusCode(),
+                  response.getHeaders(), null);
+        }
+        return handleResponse(response, operation);
+      }
+    } finally {
+      releaseBulkhead();
+    }
+  }
+
+  /**
+   * Calls the ApiClient without blocking the calling thread, based on the ServiceClient specific data provided,
+   * and handles the well-known responses from the Api in the same way as {@link #executeRequest}.
+   * When the configured ApiClient is not an {@link AsyncApiClient}, the request is executed on the calling thread
+   * and an already completed future is returned.
+   * @param method Http Method
+   * @param endpoint Base Endpoint to make the request to
+   * @param path Specific path to hit. It might contain variables to be interpolated with pathParams.
+   * @param queryParams Parameter values to be sent as part of the query string
+   * @param headerParams Parameter values to be sent as headers
+   * @param pathParams Parameter values to be interpolated in the path
+   * @param responseDefinitions Well-known expected responses by the ServiceClient
+   * @param body Request body
+   * @param responseType Type of the expected Response if applicable
+   * @return Future completed with an ApiResponse containing a Response object instance of the responseType provided,
+   * or completed exceptionally with a ServiceException when a failure happens or when getting an Error Response
+   * from the Api.
+   */
+  protected <T> CompletableFuture<ApiResponse<T>> executeRequestAsync(String method, String endpoint, String path, List<Pair<String, String>> queryParams,
+                                                                      List<Pair<String, String>> headerParams, Map<String, String> pathParams,
+                                                                      List<ServiceClientResponse> responseDefinitions, Object body, Class<T> responseType, boolean rawRequest) {
+    return executeRequestAsync(OperationDescriptor.of(method, path, responseDefinitions, responseType, rawRequest), endpoint,
+            queryParams, headerParams, pathParams, body);
+  }
+
+  /**
+   * Calls the ApiClient for the operation described by a descriptor without blocking the calling thread, and
+   * handles the well-known responses from the Api in the same way as {@link #executeRequest}.
+   * When the configured ApiClient is not an {@link AsyncApiClient}, the request is executed on the calling thread
+   * and an already completed future is returned.
+   * @param operation Descriptor of the operation
+   * @param endpoint Base Endpoint to make the request to
+   * @param queryParams Parameter values to be sent as part of the query string
+   * @param headerParams Parameter values to be sent as headers, in addition to the constant headers of the operation
+   * @param pathParams Parameter values to be interpolated in the path
+   * @param body Request body
+   * @return Future completed with an ApiResponse containing a Response object instance of the response type of the
+   * operation, or completed exceptionally with a ServiceException when a failure happens or when getting an Error
+   * Response from the Api.
+   */
+  protected <T> CompletableFuture<ApiResponse<T>> executeRequestAsync(OperationDescriptor<T> operation, String endpoint,
+                                                                      List<Pair<String, String>> queryParams,
+                                                                      List<Pair<String, String>> headerParams, Map<String, String> pathParams,
+                                                                      Object body) {
+    CompletableFuture<ApiResponse<T>> result = new CompletableFuture<>();
+    if (!(apiClient instanceof AsyncApiClient)) {
+      try {
+        result.complete(executeRequest(operation, endpoint, queryParams, headerParams, pathParams, body));
+      } catch (Exception ex) {
+        result.completeExceptionally(ex);
       }
+      return result;
     }
 
-    ApiClientResponse response;
     try {
-      response = apiClient.invoke(request);
-    } catch(Exception ex) {
-      throw new ServiceException("Call to service failed: " + ex.getMessage(), 500, null, null, ex);
+      acquireBulkhead();
+    } catch (ServiceException ex) {
+      result.completeExceptionally(ex);
+      return result;
+    }
+    if (bulkheadPolicy != null) {
+      result.whenComplete((response, throwable) -> releaseBulkhead());
     }
 
-    if (isCodeSuccessful(response.getStatusCode())) {
-      //  Body of 204 (No Content) response should be empty (see https://tools.ietf.org/html/rfc7231#section-6.3.5).
-      //  Return null immediately, empty body is not a valid json value and therefore can't be successfully parsed.
-      if (responseType == null || (response.getStatusCode() == 204 && (response.getBody() == null || "".equals(response.getBody())))) {
-        return new ApiResponse<T>(null, response.getStatusCode(), response.getHeaders());
-      }
+    ApiClientRequest request;
+    try {
+      request = buildRequest(operation, endpoint, queryParams, headerParams, pathParams, body);
+    } catch (Exception ex) {
+      result.completeExceptionally(ex);
+      return result;
+    }
+    String method = operation.getMethod();
+    String path = operation.getPath();
+    attemptAsync(new AsyncCall<>(request, endpoint, operation, startCall(method, path), getCircuitBreaker(method, path),
+            result), 1);
+    return result;
+  }
+
+  /**
+   * Makes one asynchronous attempt of a call once its rate limit permits are available, without blocking the
+   * calling thread while waiting for them.
+   */
+  private <T> void attemptAsync(AsyncCall<T> call, int attempt) {
+    long waitNanos;
+    try {
+      waitNanos = reservePermit(call.endpoint, call.operation.getMethod(), call.operation.getPath());
+    } catch (ServiceException ex) {
+      call.result.completeExceptionally(ex);
+      return;
+    }
+    if (waitNanos > 0) {
+      DelayScheduler.schedule(() -> dispatchAsync(call, attempt), waitNanos, TimeUnit.NANOSECONDS);
+    } else {
+      dispatchAsync(call, attempt);
+    }
+  }
 
-      T unmarshalledResponse = this.serializer.deserialize(response.getBody(), responseType);
-      return new ApiResponse<T>(unmarshalledResponse, response.getStatusCode(), response.getHeaders());
+  /**
+   * Dispatches one asynchronous attempt of a call, scheduling the next attempt if the retry policy allows it, and
+   * completes the result once no further attempt is made.
+   */
+  private <T> void dispatchAsync(AsyncCall<T> call, int attempt) {
+    CompletableFuture<ApiClientResponse> responseFuture;
+    CircuitBreaker.Snapshot admitted;
+    try {
+      admitted = acquireCircuit(call.circuitBreaker);
+    } catch (ServiceException ex) {
+      call.result.completeExceptionally(ex);
+      return;
+    }
+    try {
+      responseFuture = sendAsync(call.request, call.endpoint, call.operation.getPath(), call.circuitBreaker);
+    } catch (Exception ex) {
+      responseFuture = new CompletableFuture<>();
+      responseFuture.completeExceptionally(ex);
     }
 
-    ServiceClientResponse errorMetadata = responseDefinitions.stream()
-            .filter(x -> x.getStatusCode() == response.getStatusCode())
-            .findFirst()
-            .orElseThrow(() -> new ServiceException("Unknown error", response.getStatusCode(),
-                    response.getHeaders(), response.getBody()));
+    responseFuture.whenComplete((response, throwable) -> {
+      if (throwable != null) {
+        recordOutcome(call.circuitBreaker, admitted, null);
+        long retryDelayMillis = getRetryDelayMillis(call.operationRetryPolicy, call.request.getMethod(), attempt, null, null);
+        if (retryDelayMillis >= 0) {
+          scheduleRetry(call, attempt + 1, retryDelayMillis);
+          return;
+        }
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+        call.result.completeExceptionally(new ServiceException("Call to service failed: " + cause.getMessage(), 500, null, null, cause));
+        return;
+      }
+      recordOutcome(call.circuitBreaker, admitted, response.getStatusCode());
 
-    Object errorBody = this.serializer.deserialize(response.getBody(), errorMetadata.getType());
-    throw new ServiceException(errorMetadata.getMessage(), errorMetadata.getStatusCode(),
-            response.getHeaders(), errorBody);
+      long retryDelayMillis = getRetryDelayMillis(call.operationRetryPolicy, call.request.getMethod(), attempt,
+              response.getStatusCode(), response.getHeaders());
+      if (retryDelayMillis >= 0) {
+        closeQuietly(response.getBodyStream());
+        scheduleRetry(call, attempt + 1, retryDelayMillis);
+        return;
+      }
+      try {
+        call.result.complete(handleResponse(response, call.operation));
+      } catch (Exception ex) {
+        call.result.completeExceptionally(ex);
+      }
+    });
   }
 
   /**
-   * Checks if the response code is a success code
-   * @param responseCode response code from the API call response
+   * Sends one attempt of a synchronous call, hedging it when the hedging policy covers the operation.
+   * @param request Request to send
+   * @param endpoint Base Endpoint of the request
+   * @param path Path template of the operation
+   * @param circuitBreaker Circuit breaker of the operation, or null if calls are never refused
+   * @return Response returned by the ApiClient
    */
-  private static boolean isCodeSuccessful(final int responseCode) {
-    return responseCode >= 200 && responseCode < 300;
+  private ApiClientResponse send(ApiClientRequest request, String endpoint, String path, CircuitBreaker circuitBreaker) {
+    if (!isHedged(request.getMethod(), path)) {
+      return apiClient.invoke(request);
+    }
+    try {
+      return HedgedRequest.send((AsyncApiClient) apiClient, request, path, hedgingPolicy,
+              new HedgeAdmission(endpoint, request.getMethod(), path, circuitBreaker)).join();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      throw ex;
+    }
   }
 
   /**
-   * Builds a url to make an Api call.
-   * @param endpoint Endpoint to be sending the api call
-   * @param path Specific path to send the api Call. This might contain variables in between {} braces
-   * @param queryParameters Query parameters to be appended to the url.
-   * @param pathParameters Parameters to be interpolated in the path. Its keys should match one of the
-   *  variables specified in the path.
-   * @return Built url.
+   * Sends one attempt of an asynchronous call, hedging it when the hedging policy covers the operation.
+   * @param request Request to send
+   * @param endpoint Base Endpoint of the request
+   * @param path Path template of the operation
+   * @param circuitBreaker Circuit breaker of the operation, or null if calls are never refused
+   * @return Future completed with the response returned by the ApiClient
    */
-  private static String buildUrl(final String endpoint, final String path,
-      final List<Pair<String, String>> queryParameters, final Map<String, String> pathParameters) {
+  private CompletableFuture<ApiClientResponse> sendAsync(ApiClientRequest request, String endpoint, String path,
+                                                         CircuitBreaker circuitBreaker) {
+    if (isHedged(request.getMethod(), path)) {
+      return HedgedRequest.send((AsyncApiClient) apiClient, request, path, hedgingPolicy,
+              new HedgeAdmission(endpoint, request.getMethod(), path, circuitBreaker));
+    }
+    return ((AsyncApiClient) apiClient).invokeAsync(request);
+  }
 
-    String processedEndpoint = endpoint.endsWith("/") ? endpoint.substring(0, endpoint.length() - 1) : endpoint;
-    String pathWithParams = interpolatePathParams(path, pathParameters);
-    boolean isConstantQueryPresent = pathWithParams.contains("?");
-    String queryString = buildQueryString(queryParameters, isConstantQueryPresent);
+  private boolean isHedged(String method, String path) {
+    return hedgingPolicy != null && apiClient instanceof AsyncApiClient && hedgingPolicy.isHedged(method, path);
+  }
 
-    StringBuilder sb = new StringBuilder();
-    sb.append(processedEndpoint);
-    sb.append(pathWithParams);
-    sb.append(queryString);
+  /**
+   * Records a new call against the configured retry policy.
+   * @param method Http Method
+   * @param path Path template of the operation
+   * @return Retry policy applying to the operation, or null if calls are not retried
+   */
+  private RetryPolicy startCall(String method, String path) {
+    if (retryPolicy == null) {
+      return null;
+    }
+    retryPolicy.recordCall();
+    return retryPolicy.forOperation(method, path);
+  }
 
-    return sb.toString();
+  /**
+   * Returns the circuit breaker guarding an operation of this client.
+   * @return Circuit breaker, or null if calls are never refused
+   */
+  private CircuitBreaker getCircuitBreaker(String method, String path) {
+    return circuitBreakerPolicy != null ? circuitBreakerPolicy.getCircuitBreaker(clientName, method, path) : null;
   }
 
-  private static String buildQueryString(final List<Pair<String, String>> queryParameters, boolean isQueryStart) {
-    if (queryParameters == null || queryParameters.isEmpty()) {
-      return "";
+  /**
+   * Checks that the circuit breaker of an operation lets an attempt through.
+   * @return Snapshot of the circuit breaker admitting the attempt, or null if calls are never refused
+   * @throws CallNotPermittedException Thrown when the circuit breaker is open.
+   */
+  private static CircuitBreaker.Snapshot acquireCircuit(CircuitBreaker circuitBreaker) throws CallNotPermittedException {
+    if (circuitBreaker == null) {
+      return null;
+    }
+    CircuitBreaker.Snapshot admitted = circuitBreaker.tryAcquirePermission();
+    if (admitted == null) {
+      throw new CallNotPermittedException("Circuit breaker is open for " + circuitBreaker.getName(), circuitBreaker.getName());
     }
+    return admitted;
+  }
 
-    StringBuilder sb = new StringBuilder();
-    if (isQueryStart) {
-      sb.append("&");
+  /**
+   * Records the outcome of an attempt against the circuit breaker of its operation.
+   * @param admitted Snapshot of the circuit breaker that admitted the attempt
+   * @param statusCode Status code of the response, or null if the attempt failed in transport
+   */
+  private void recordOutcome(CircuitBreaker circuitBreaker, CircuitBreaker.Snapshot admitted, Integer statusCode) {
+    if (circuitBreaker == null) {
+      return;
+    }
+    if (statusCode == null || circuitBreakerPolicy.isFailure(statusCode)) {
+      circuitBreaker.onFailure(admitted);
     } else {
-      sb.append("?");
+      circuitBreaker.onSuccess(admitted);
+    }
+  }
+
+  /**
+   * Takes a slot in the bulkhead of this client for the duration of a call.
+   * @throws CallNotPermittedException Thrown when the client already has the maximum number of calls in flight.
+   */
+  private void acquireBulkhead() throws CallNotPermittedException {
+    if (bulkheadPolicy != null && !bulkheadPolicy.tryAcquire(clientName)) {
+      throw new CallNotPermittedException("Too many concurrent calls for " + clientName, clientName);
     }
+  }
+
+  private void releaseBulkhead() {
+    if (bulkheadPolicy != null) {
+      bulkheadPolicy.release(clientName);
+    }
+  }
+
+  /**
+   * Reserves the rate limit permits of an attempt.
+   * @return Nanoseconds to wait before dispatching the attempt
+   * @throws ServiceException Thrown when the attempt exceeds the configured rate limit.
+   */
+  private long reservePermit(String endpoint, String method, String path) throws ServiceException {
+    if (rateLimitPolicy == null) {
+      return 0;
+    }
+    long waitNanos = rateLimitPolicy.reserve(endpoint, method, path);
+    if (waitNanos < 0) {
+      throw new ServiceException("Client-side rate limit exceeded", 429, null, null);
+    }
+    return waitNanos;
+  }
 
-    for (int i = 0; i < queryParameters.size(); i++) {
-      Pair<String, String> param = queryParameters.get(i);
-      sb.append(escapeString(param.getName()));
-      sb.append("=");
-      sb.append(escapeString(param.getValue()));
-      sb.append("&");
+  /**
+   * Blocks the calling thread until the rate limit permits of an attempt are available.
+   * @throws ServiceException Thrown when the attempt exceeds the configured rate limit or the thread is interrupted.
+   */
+  private void awaitPermit(String endpoint, String method, String path) throws ServiceException {
+    long waitNanos = reservePermit(endpoint, method, path);
+    if (waitNanos > 0) {
+      try {
+        TimeUnit.NANOSECONDS.sleep(waitNanos);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ServiceException("Call to service interrupted while waiting for rate limit", 429, null, null, e);
+      }
     }
-    sb.deleteCharAt(sb.length() - 1);
+  }
 
-    return sb.toString();
+  /**
+   * Computes the delay before retrying a failed attempt, withdrawing the retry from the retry budget.
+   * @return Delay in milliseconds, or a negative value if the call must not be retried
+   */
+  private long getRetryDelayMillis(RetryPolicy operationRetryPolicy, String method, int attempt, Integer statusCode,
+                                   List<Pair<String, String>> headers) {
+    if (operationRetryPolicy == null) {
+      return -1;
+    }
+    long retryDelayMillis = operationRetryPolicy.getRetryDelayMillis(method, attempt, statusCode, headers);
+    if (retryDelayMillis < 0 || !retryPolicy.tryAcquireRetry()) {
+      return -1;
+    }
+    return retryDelayMillis;
   }
 
-  private static String escapeString(final String s) {
+  /**
+   * Blocks the calling thread before a retry.
+   * @param delayMillis Delay in milliseconds. A negative value means no retry.
+   * @return true if the caller should retry
+   */
+  private static boolean sleep(long delayMillis) {
+    if (delayMillis < 0) {
+      return false;
+    }
     try {
-      return URLEncoder.encode(s, StandardCharsets.UTF_8.name()).replaceAll("\\+", "%20");
-    } catch (UnsupportedEncodingException e) {
-      throw new RuntimeException("UTF-8 unsupported on system. Unable to encode query string", e);
+      Thread.sleep(delayMillis);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
     }
   }
 
-  private static String interpolatePathParams(final String path, final Map<String, String> params) {
-    if (params == null || params.isEmpty()) {
-      return path;
+  private <T> void scheduleRetry(AsyncCall<T> call, int attempt, long delayMillis) {
+    DelayScheduler.schedule(() -> attemptAsync(call, attempt), delayMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Builds the request to be dispatched to the ApiClient.
+   * @param operation Descriptor of the operation
+   * @param endpoint Base Endpoint to make the request to
+   * @param queryParams Parameter values to be sent as part of the query string
+   * @param headerParams Parameter values to be sent as headers, in addition to the constant headers of the operation
+   * @param pathParams Parameter values to be interpolated in the path
+   * @param body Request body
+   * @return Request to dispatch
+   */
+  private ApiClientRequest buildRequest(OperationDescriptor<?> operation, String endpoint, List<Pair<String, String>> queryParams,
+                                        List<Pair<String, String>> headerParams, Map<String, String> pathParams, Object body) {
+    ApiClientRequest request = new ApiClientRequest();
+    request.setUrl(operation.getUrlTemplate().buildUrl(endpoint, queryParams, pathParams));
+    request.setMethod(operation.getMethod());
+    List<Pair<String, String>> constantHeaders = operation.getHeaders();
+    if (constantHeaders.isEmpty()) {
+      request.setHeaders(headerParams);
+    } else {
+      List<Pair<String, String>> headers = new ArrayList<>(constantHeaders.size() + (headerParams != null ? headerParams.size() : 0));
+      headers.addAll(constantHeaders);
+      if (headerParams != null) {
+        headers.addAll(headerParams);
+      }
+      request.setHeaders(headers);
+    }
+    if (body != null) {
+      if (!operation.isRawRequest()) {
+        BodyOutputStream outputStream = new BodyOutputStream();
+        this.serializer.serialize(body, outputStream);
+        request.setBodyBuffer(outputStream.toByteBuffer());
+      } else if (body instanceof byte[]) {
+        request.setBodyBuffer(ByteBuffer.wrap((byte[]) body));
+      } else {
+        request.setBody((String) body);
+      }
     }
+    return request;
+  }
+
+  /**
+   * Maps the response returned by the ApiClient to either the ApiResponse of the expected type or to the
+   * ServiceException matching the well-known error responses.
+   * @param response Response returned by the ApiClient
+   * @param operation Descriptor of the operation, holding its well-known responses
+   * @return ApiResponse containing a Response object instance of the response type of the operation
+   * @throws ServiceException Thrown when getting an Error Response from the Api.
+   */
+  private <T> ApiResponse<T> handleResponse(ApiClientResponse response, OperationDescriptor<T> operation) throws ServiceException {
+    Class<T> responseType = operation.getResponseType();
+    try {
+      if (isCodeSuccessful(response.getStatusCode())) {
+        //  Body of 204 (No Content) response should be empty (see https://tools.ietf.org/html/rfc7231#section-6.3.5).
+        //  Return null immediately, empty body is not a valid json value and therefore can't be successfully parsed.
+        if (responseType == null || (response.getStatusCode() == 204 && isBodyEmpty(response))) {
+          return new ApiResponse<T>(null, response.getStatusCode(), response.getHeaders());
+        }
 
-    String result = path;
+        T unmarshalledResponse = deserializeBody(response, responseType);
+        return new ApiResponse<T>(unmarshalledResponse, response.getStatusCode(), response.getHeaders());
+      }
+
+      int errorIndex = operation.findResponse(response.getStatusCode());
+      if (errorIndex < 0) {
+        throw new ServiceException("Unknown error", response.getStatusCode(), response.getHeaders(), response.getBody());
+      }
 
-    for (Entry<String, String> param : params.entrySet()) {
-      String paramName = param.getKey();
-      String paramValue = param.getValue();
-      result = result.replaceAll("\\{" + paramName + "\\}", escapeString(paramValue));
+      Object errorBody = deserializeBody(response, operation.getResponseType(errorIndex));
+      throw new ServiceException(operation.getResponseMessage(errorIndex), operation.getResponseStatusCode(errorIndex),
+              response.getHeaders(), errorBody);
+    } finally {
+      closeQuietly(response.getBodyStream());
     }
+  }
 
-    return result;
+  /**
+   * Deserializes the response body, reading it straight from the stream or the bytes returned by the ApiClient
+   * when available, without materializing it as a String first. The body is read as JSON, unless the response
+   * declares the content type of the binary serializer configured on the ApiConfiguration.
+   * @param response Response returned by the ApiClient
+   * @param type Target type of deserialization
+   * @return Deserialized body
+   */
+  private <T> T deserializeBody(ApiClientResponse response, Class<T> type) {
+    Serializer bodySerializer = binarySerializer != null
+        && ApiClientMessage.isSameMediaType(binarySerializer.getContentType(), response.getContentType())
+        ? binarySerializer : this.serializer;
+    InputStream bodyStream = response.getBodyStream();
+    if (bodyStream != null) {
+      return bodySerializer.deserialize(bodyStream, type);
+    }
+    ByteBuffer bodyBuffer = response.getBodyBuffer();
+    if (bodyBuffer != null) {
+      return bodySerializer.deserialize(bodyBuffer, type);
+    }
+    return bodySerializer.deserialize(response.getBody(), type);
+  }
+
+  /**
+   * Checks if the response carries no body, peeking at most one byte of a stream body.
+   * @param response Response returned by the ApiClient
+   */
+  private static boolean isBodyEmpty(ApiClientResponse response) {
+    InputStream bodyStream = response.getBodyStream();
+    if (bodyStream != null) {
+      PushbackInputStream pushbackStream = new PushbackInputStream(bodyStream);
+      try {
+        int firstByte = pushbackStream.read();
+        if (firstByte == -1) {
+          return true;
+        }
+        pushbackStream.unread(firstByte);
+      } catch (IOException e) {
+        throw new ServiceException("Unable to read response body: " + e.getMessage(), response.getStatusCode(),
+                response.getHeaders(), null, e);
+      }
+      response.setBodyStream(pushbackStream);
+      return false;
+    }
+    ByteBuffer bodyBuffer = response.getBodyBuffer();
+    if (bodyBuffer != null) {
+      return !bodyBuffer.hasRemaining();
+    }
+    return response.getBody() == null || "".equals(response.getBody());
+  }
+
+  private static void closeQuietly(InputStream inputStream) {
+    if (inputStream != null) {
+      try {
+        inputStream.close();
+      } catch (IOException e) {
+        // The body has already been consumed, nothing left to release
+      }
+    }
+  }
+
+  /**
+   * Checks if the response code is a success code
+   * @param responseCode response code from the API call response
+   */
+  private static boolean isCodeSuccessful(final int responseCode) {
+    return responseCode >= 200 && responseCode < 300;
+  }
+
+  /**
+   * Output stream handing its buffer over as the request body without copying it.
+   */
+  private static final class BodyOutputStream extends ByteArrayOutputStream {
+    ByteBuffer toByteBuffer() {
+      return ByteBuffer.wrap(buf, 0, count);
+    }
+  }
+
+  /**
+   * Admits the hedges of a call through the guards of its attempts, without waiting: a hedge is only sent when a rate
+   * limit permit, a bulkhead slot and a circuit breaker permission are all available right away.
+   */
+  private final class HedgeAdmission implements HedgedRequest.HedgeGuard {
+    private final String endpoint;
+    private final String method;
+    private final String path;
+    private final CircuitBreaker circuitBreaker;
+    private volatile CircuitBreaker.Snapshot admitted;
+
+    private HedgeAdmission(String endpoint, String method, String path, CircuitBreaker circuitBreaker) {
+      this.endpoint = endpoint;
+      this.method = method;
+      this.path = path;
+      this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public boolean tryAcquire() {
+      if (rateLimitPolicy != null && !rateLimitPolicy.tryAcquire(endpoint, method, path)) {
+        return false;
+      }
+      if (bulkheadPolicy != null && !bulkheadPolicy.tryAcquire(clientName)) {
+        return false;
+      }
+      if (circuitBreaker != null && (admitted = circuitBreaker.tryAcquirePermission()) == null) {
+        releaseBulkhead();
+        return false;
+      }
+      return true;
+    }
+
+    @Override
+    public void onComplete(ApiClientResponse response, Throwable throwable) {
+      releaseBulkhead();
+      if (!(throwable instanceof CancellationException)) {
+        recordOutcome(circuitBreaker, admitted, throwable == null ? response.getStatusCode() : null);
+      }
+    }
+  }
+
+  /**
+   * State of an asynchronous call shared by its attempts.
+   */
+  private static final class AsyncCall<T> {
+    private final ApiClientRequest request;
+    private final String endpoint;
+    private final OperationDescriptor<T> operation;
+    private final RetryPolicy operationRetryPolicy;
+    private final CircuitBreaker circuitBreaker;
+    private final CompletableFuture<ApiResponse<T>> result;
+
+    private AsyncCall(ApiClientRequest request, String endpoint, OperationDescriptor<T> operation,
+                      RetryPolicy operationRetryPolicy, CircuitBreaker circuitBreaker,
+                      CompletableFuture<ApiResponse<T>> result) {
+      this.request = request;
+      this.endpoint = endpoint;
+      this.operation = operation;
+      this.operationRetryPolicy = operationRetryPolicy;
+      this.circuitBreaker = circuitBreaker;
+      this.result = result;
+    }
   }
 }
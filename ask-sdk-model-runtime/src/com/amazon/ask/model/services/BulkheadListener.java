@@ -0,0 +1,28 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+package com.amazon.ask.model.services;
+
+/**
+ * Callbacks notified by a {@link BulkheadPolicy}, e.g. to log or publish metrics. Callbacks run on the thread
+ * making the call and must not block.
+ */
+public interface BulkheadListener {
+
+  /**
+   * Called when a call is refused because the client already has the maximum number of calls in flight.
+   * @param name Name of the bulkhead, i.e. the simple class name of the service client
+   * @param maxConcurrentCalls Maximum number of calls in flight for the client
+   */
+  default void onCallRejected(String name, int maxConcurrentCalls) {
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+package com.amazon.ask.model.services;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limits the number of calls each service client has in flight, so that a slow dependency cannot hold every
+ * request thread of the skill. Clients are identified by their simple class name, e.g.
+ * <code>ListManagementServiceClient</code>, so the limit is shared by all instances of a client built from the same
+ * configuration. Calls beyond the limit fail right away with a {@link CallNotPermittedException}. A call holds its
+ * slot across all of its attempts.
+ */
+public final class BulkheadPolicy {
+
+  private static final BulkheadListener NO_OP_LISTENER = new BulkheadListener() { };
+
+  private final int maxConcurrentCalls;
+  private final Map<String, Integer> clientMaxConcurrentCalls;
+  private final BulkheadListener listener;
+  private final ConcurrentMap<String, AtomicInteger> concurrentCalls = new ConcurrentHashMap<>();
+
+  private BulkheadPolicy(Builder builder) {
+    this.maxConcurrentCalls = builder.maxConcurrentCalls;
+    this.clientMaxConcurrentCalls = Collections.unmodifiableMap(new HashMap<>(builder.clientMaxConcurrentCalls));
+    this.listener = builder.listener != null ? builder.listener : NO_OP_LISTENER;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Takes a slot for a call of the given client. Every slot taken must be given back with {@link #release(String)}.
+   * @param clientName Simple class name of the service client
+   * @return true if the call may proceed
+   */
+  public boolean tryAcquire(String clientName) {
+    Integer clientMax = clientMaxConcurrentCalls.get(clientName);
+    int max = clientMax != null ? clientMax : maxConcurrentCalls;
+    AtomicInteger calls = getConcurrentCallsCounter(clientName);
+    int current;
+    do {
+      current = calls.get();
+      if (current >= max) {
+        listener.onCallRejected(clientName, max);
+        return false;
+      }
+    } while (!calls.compareAndSet(current, current + 1));
+    return true;
+  }
+
+  /**
+   * Gives back the slot of a completed call.
+   * @param clientName Simple class name of the service client
+   */
+  public void release(String clientName) {
+    getConcurrentCallsCounter(clientName).decrementAndGet();
+  }
+
+  /**
+   * Gets the number of calls the given client has in flight.
+   * @param clientName Simple class name of the service client
+   * @return number of calls in flight
+   */
+  public int getConcurrentCalls(String clientName) {
+    AtomicInteger calls = concurrentCalls.get(clientName);
+    return calls != null ? calls.get() : 0;
+  }
+
+  private AtomicInteger getConcurrentCallsCounter(String clientName) {
+    AtomicInteger calls = concurrentCalls.get(clientName);
+    if (calls == null) {
+      calls = concurrentCalls.computeIfAbsent(clientName, key -> new AtomicInteger());
+    }
+    return calls;
+  }
+
+  /**
+   * Helper class that builds an instance of a BulkheadPolicy.
+   */
+  public static final class Builder {
+    private int maxConcurrentCalls = Integer.MAX_VALUE;
+    private final Map<String, Integer> clientMaxConcurrentCalls = new HashMap<>();
+    private BulkheadListener listener;
+
+    private Builder() {}
+
+    /**
+     * Sets the maximum number of calls in flight for each client.
+     * @param maxConcurrentCalls Maximum number of calls in flight. Unlimited by default.
+     * @return This instance to continue the build process
+     */
+    public Builder withMaxConcurrentCalls(int maxConcurrentCalls) {
+      this.maxConcurrentCalls = maxConcurrentCalls;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of calls in flight for a given client, instead of the shared maximum.
+     * @param clientName Simple class name of the service client, e.g. <code>UpsServiceClient</code>
+     * @param maxConcurrentCalls Maximum number of calls in flight for the client
+     * @return This instance to continue the build process
+     */
+    public Builder withClientMaxConcurrentCalls(String clientName, int maxConcurrentCalls) {
+      this.clientMaxConcurrentCalls.put(clientName, maxConcurrentCalls);
+      return this;
+    }
+
+    /**
+     * Sets the listener notified of rejected calls.
+     * @param listener <code>BulkheadListener</code> instance to be configured.
+     * @return This instance to continue the build process
+     */
+    public Builder withListener(BulkheadListener listener) {
+      this.listener = listener;
+      return this;
+    }
+
+    /**
+     * Builds the <code>BulkheadPolicy</code> instance with the values previously provided.
+     * @return New <code>BulkheadPolicy</code> instance
+     */
+    public BulkheadPolicy build() {
+      if (maxConcurrentCalls < 1 || clientMaxConcurrentCalls.values().stream().anyMatch(max -> max < 1)) {
+        throw new IllegalArgumentException("Max concurrent calls must be at least 1");
+      }
+      return new BulkheadPolicy(this);
+    }
+  }
+}
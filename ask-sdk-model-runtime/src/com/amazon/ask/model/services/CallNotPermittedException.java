@@ -0,0 +1,35 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+package com.amazon.ask.model.services;
+
+/**
+ * Exception thrown by a Service client when a call is refused before being sent, because the circuit breaker of
+ * the operation is open or the bulkhead of the client is full. It carries the status code 503.
+ */
+public class CallNotPermittedException extends ServiceException {
+
+  private final String name;
+
+  public CallNotPermittedException(final String message, final String name) {
+    super(message, 503, null, null);
+    this.name = name;
+  }
+
+  /**
+   * Gets the name of the circuit breaker or bulkhead that refused the call.
+   * @return circuit breaker or bulkhead name
+   */
+  public String getName() {
+    return name;
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+package com.amazon.ask.model.services;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Circuit breaker guarding one operation, or all operations of one client, see {@link CircuitBreakerPolicy}.
+ *
+ * The breaker starts closed and opens once consecutive calls fail. While open, calls are refused without being sent.
+ * Once the open duration has elapsed the breaker becomes half-open and lets a limited number of probe calls through:
+ * a successful probe closes it again while a failed one reopens it. State changes are lock-free, every state being
+ * an immutable snapshot swapped with a compare-and-set. Outcomes are recorded against the snapshot that admitted the
+ * call and ignored once that snapshot has been replaced.
+ */
+public final class CircuitBreaker {
+
+  /**
+   * States of a circuit breaker.
+   */
+  public enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private final String name;
+  private final CircuitBreakerPolicy policy;
+  private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(new Snapshot(State.CLOSED, 0));
+  private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+  CircuitBreaker(String name, CircuitBreakerPolicy policy) {
+    this.name = name;
+    this.policy = policy;
+  }
+
+  /**
+   * Gets the name of this circuit breaker.
+   * @return name of the circuit breaker
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Gets the current state of this circuit breaker.
+   * @return current state
+   */
+  public State getState() {
+    return snapshot.get().state;
+  }
+
+  /**
+   * Checks if a call may be sent, taking one of the probe slots when half-open. Every permitted call must be
+   * followed by {@link #onSuccess(Snapshot)} or {@link #onFailure(Snapshot)} with the returned snapshot.
+   * @return snapshot of the state admitting the call, or null if the call may not be sent
+   */
+  public Snapshot tryAcquirePermission() {
+    while (true) {
+      Snapshot current = snapshot.get();
+      switch (current.state) {
+        case CLOSED:
+          return current;
+        case OPEN:
+          if (System.nanoTime() - current.openedAtNanos < policy.getOpenDurationNanos()) {
+            policy.getListener().onCallNotPermitted(name);
+            return null;
+          }
+          transition(current, new Snapshot(State.HALF_OPEN, current.openedAtNanos));
+          break;
+        default:
+          if (current.probes.incrementAndGet() <= policy.getHalfOpenMaxCalls()) {
+            return current;
+          }
+          policy.getListener().onCallNotPermitted(name);
+          return null;
+      }
+    }
+  }
+
+  /**
+   * Records a successful call. The outcome is ignored when the state admitting the call is no longer current, so
+   * that a call sent before the breaker opened cannot close it while half-open.
+   * @param admitted snapshot returned by {@link #tryAcquirePermission()} for the call
+   */
+  public void onSuccess(Snapshot admitted) {
+    Snapshot current = snapshot.get();
+    if (current != admitted) {
+      return;
+    }
+    if (current.state == State.HALF_OPEN) {
+      consecutiveFailures.set(0);
+      transition(current, new Snapshot(State.CLOSED, 0));
+    } else if (consecutiveFailures.get() != 0) {
+      consecutiveFailures.set(0);
+    }
+  }
+
+  /**
+   * Records a failed call. The outcome is ignored when the state admitting the call is no longer current, so that a
+   * call sent before the breaker opened cannot reopen it while half-open.
+   * @param admitted snapshot returned by {@link #tryAcquirePermission()} for the call
+   */
+  public void onFailure(Snapshot admitted) {
+    Snapshot current = snapshot.get();
+    if (current != admitted) {
+      return;
+    }
+    if (current.state == State.HALF_OPEN
+            || (current.state == State.CLOSED && consecutiveFailures.incrementAndGet() >= policy.getFailureThreshold())) {
+      transition(current, new Snapshot(State.OPEN, System.nanoTime()));
+    }
+  }
+
+  private void transition(Snapshot from, Snapshot to) {
+    if (snapshot.compareAndSet(from, to)) {
+      policy.getListener().onStateTransition(name, from.state, to.state);
+    }
+  }
+
+  /**
+   * State of a circuit breaker as it admitted a call. Snapshots are replaced on every state change and compared by
+   * identity only.
+   */
+  public static final class Snapshot {
+    private final State state;
+    private final long openedAtNanos;
+    private final AtomicInteger probes = new AtomicInteger();
+
+    private Snapshot(State state, long openedAtNanos) {
+      this.state = state;
+      this.openedAtNanos = openedAtNanos;
+    }
+  }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+package com.amazon.ask.model.services;
+
+/**
+ * Callbacks notified by a {@link CircuitBreaker}, e.g. to log or publish metrics. Callbacks run on the thread
+ * making the call and must not block.
+ */
+public interface CircuitBreakerListener {
+
+  /**
+   * Called when a circuit breaker changes state.
+   * @param name Name of the circuit breaker
+   * @param from Previous state
+   * @param to New state
+   */
+  default void onStateTransition(String name, CircuitBreaker.State from, CircuitBreaker.State to) {
+  }
+
+  /**
+   * Called when a call is refused by a circuit breaker.
+   * @param name Name of the circuit breaker
+   */
+  default void onCallNotPermitted(String name) {
+  }
+}
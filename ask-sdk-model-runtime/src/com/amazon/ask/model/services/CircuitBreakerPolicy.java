@@ -0,0 +1,194 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+package com.amazon.ask.model.services;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Describes how service clients stop calling a failing dependency. Each operation of each service client gets its
+ * own {@link CircuitBreaker}, named after the simple class name of the client and the operation, e.g.
+ * <code>ListManagementServiceClient GET /v2/householdlists/{listId}/{status}</code>, or one breaker per client when
+ * breakers are not kept per operation. Calls refused by an open breaker fail right away with a
+ * {@link CallNotPermittedException}.
+ *
+ * Every attempt of a call counts: transport failures and responses with a failure status code are failures, any
+ * other response is a success.
+ */
+public final class CircuitBreakerPolicy {
+
+  private static final int DEFAULT_FAILURE_THRESHOLD = 5;
+  private static final long DEFAULT_OPEN_DURATION_MILLIS = 30000;
+  private static final int DEFAULT_HALF_OPEN_MAX_CALLS = 1;
+  private static final Set<Integer> DEFAULT_FAILURE_STATUS_CODES =
+          Collections.unmodifiableSet(new HashSet<>(Arrays.asList(500, 502, 503, 504)));
+  private static final CircuitBreakerListener NO_OP_LISTENER = new CircuitBreakerListener() { };
+
+  private final int failureThreshold;
+  private final long openDurationNanos;
+  private final int halfOpenMaxCalls;
+  private final Set<Integer> failureStatusCodes;
+  private final boolean perOperation;
+  private final CircuitBreakerListener listener;
+  private final ConcurrentMap<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+  private CircuitBreakerPolicy(Builder builder) {
+    this.failureThreshold = builder.failureThreshold;
+    this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(builder.openDurationMillis);
+    this.halfOpenMaxCalls = builder.halfOpenMaxCalls;
+    this.failureStatusCodes = Collections.unmodifiableSet(new HashSet<>(builder.failureStatusCodes));
+    this.perOperation = builder.perOperation;
+    this.listener = builder.listener != null ? builder.listener : NO_OP_LISTENER;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Returns the circuit breaker guarding an operation of a service client, creating it on first use.
+   * @param clientName Simple class name of the service client
+   * @param method Http Method of the operation
+   * @param path Path template of the operation, e.g. <code>/v2/householdlists/{listId}</code>
+   * @return Circuit breaker of the operation, or of the client when breakers are not kept per operation
+   */
+  public CircuitBreaker getCircuitBreaker(String clientName, String method, String path) {
+    String name = perOperation ? clientName + " " + RetryPolicy.operationKey(method, path) : clientName;
+    CircuitBreaker circuitBreaker = circuitBreakers.get(name);
+    if (circuitBreaker == null) {
+      circuitBreaker = circuitBreakers.computeIfAbsent(name, key -> new CircuitBreaker(key, this));
+    }
+    return circuitBreaker;
+  }
+
+  /**
+   * Checks if a response status code counts as a failure.
+   * @param statusCode Status code of the response
+   * @return true if the status code is a failure status code
+   */
+  public boolean isFailure(int statusCode) {
+    return failureStatusCodes.contains(statusCode);
+  }
+
+  int getFailureThreshold() {
+    return failureThreshold;
+  }
+
+  long getOpenDurationNanos() {
+    return openDurationNanos;
+  }
+
+  int getHalfOpenMaxCalls() {
+    return halfOpenMaxCalls;
+  }
+
+  CircuitBreakerListener getListener() {
+    return listener;
+  }
+
+  /**
+   * Helper class that builds an instance of a CircuitBreakerPolicy.
+   */
+  public static final class Builder {
+    private int failureThreshold = DEFAULT_FAILURE_THRESHOLD;
+    private long openDurationMillis = DEFAULT_OPEN_DURATION_MILLIS;
+    private int halfOpenMaxCalls = DEFAULT_HALF_OPEN_MAX_CALLS;
+    private Set<Integer> failureStatusCodes = DEFAULT_FAILURE_STATUS_CODES;
+    private boolean perOperation = true;
+    private CircuitBreakerListener listener;
+
+    private Builder() {}
+
+    /**
+     * Sets the number of consecutive failures opening a breaker.
+     * @param failureThreshold Number of consecutive failures. Defaults to 5.
+     * @return This instance to continue the build process
+     */
+    public Builder withFailureThreshold(int failureThreshold) {
+      this.failureThreshold = failureThreshold;
+      return this;
+    }
+
+    /**
+     * Sets how long a breaker stays open before letting probe calls through.
+     * @param openDurationMillis Open duration in milliseconds. Defaults to 30000.
+     * @return This instance to continue the build process
+     */
+    public Builder withOpenDurationMillis(long openDurationMillis) {
+      this.openDurationMillis = openDurationMillis;
+      return this;
+    }
+
+    /**
+     * Sets how many probe calls a half-open breaker lets through at once.
+     * @param halfOpenMaxCalls Number of probe calls. Defaults to 1.
+     * @return This instance to continue the build process
+     */
+    public Builder withHalfOpenMaxCalls(int halfOpenMaxCalls) {
+      this.halfOpenMaxCalls = halfOpenMaxCalls;
+      return this;
+    }
+
+    /**
+     * Sets the response status codes counted as failures.
+     * @param failureStatusCodes Status codes. Defaults to 500, 502, 503 and 504.
+     * @return This instance to continue the build process
+     */
+    public Builder withFailureStatusCodes(Set<Integer> failureStatusCodes) {
+      this.failureStatusCodes = failureStatusCodes;
+      return this;
+    }
+
+    /**
+     * Sets whether each operation gets its own breaker, or all operations of a client share one.
+     * @param perOperation true for a breaker per operation. Defaults to true.
+     * @return This instance to continue the build process
+     */
+    public Builder withPerOperation(boolean perOperation) {
+      this.perOperation = perOperation;
+      return this;
+    }
+
+    /**
+     * Sets the listener notified of state transitions and refused calls.
+     * @param listener <code>CircuitBreakerListener</code> instance to be configured.
+     * @return This instance to continue the build process
+     */
+    public Builder withListener(CircuitBreakerListener listener) {
+      this.listener = listener;
+      return this;
+    }
+
+    /**
+     * Builds the <code>CircuitBreakerPolicy</code> instance with the values previously provided.
+     * @return New <code>CircuitBreakerPolicy</code> instance
+     */
+    public CircuitBreakerPolicy build() {
+      if (failureThreshold < 1 || halfOpenMaxCalls < 1) {
+        throw new IllegalArgumentException("Failure threshold and half-open max calls must be at least 1");
+      }
+      if (openDurationMillis < 0) {
+        throw new IllegalArgumentException("Open duration must not be negative");
+      }
+      if (failureStatusCodes == null) {
+        throw new IllegalArgumentException("Failure status codes must be provided");
+      }
+      return new CircuitBreakerPolicy(this);
+    }
+  }
+}
@@ -0,0 +1,331 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+package com.amazon.ask.model.services;
+
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLSocketFactory;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <code>ApiClient</code> implementation bundled with the runtime, used by {@link DefaultApiConfiguration} when no
+ * client is supplied.
+ *
+ * Requests are sent through <code>HttpURLConnection</code>, which keeps idle connections alive in a per-host pool
+ * and, for HTTPS, resumes TLS sessions from the shared <code>SSLSocketFactory</code> instead of performing a full
+ * handshake on every call. Asynchronous calls are dispatched on a bounded executor. Response bodies are returned as
+ * unread streams, see {@link ApiClientMessage#getBodyStream()}.
+ */
+public class DefaultApiClient implements AsyncApiClient {
+
+  private static final int DEFAULT_CONNECT_TIMEOUT_MILLIS = 5000;
+  private static final int DEFAULT_READ_TIMEOUT_MILLIS = 10000;
+  private static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 50;
+  private static final int DEFAULT_MAX_QUEUED_REQUESTS = 1000;
+  private static final int BUFFER_SIZE = 8192;
+
+  private final int connectTimeoutMillis;
+  private final int readTimeoutMillis;
+  private final SSLSocketFactory sslSocketFactory;
+  private final ExecutorService executor;
+
+  private DefaultApiClient(Builder builder) {
+    this.connectTimeoutMillis = builder.connectTimeoutMillis;
+    this.readTimeoutMillis = builder.readTimeoutMillis;
+    this.sslSocketFactory = builder.sslSocketFactory;
+    this.executor = builder.executor != null ? builder.executor
+            : newBoundedExecutor(builder.maxConcurrentRequests, builder.maxQueuedRequests);
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Returns the instance shared by every {@link DefaultApiConfiguration} built without an explicit client, so that
+   * all service clients in the JVM draw from the same connection pool and executor.
+   * @return shared <code>DefaultApiClient</code> instance
+   */
+  public static DefaultApiClient getDefault() {
+    return SharedInstanceHolder.INSTANCE;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ApiClientResponse invoke(ApiClientRequest request) {
+    try {
+      return execute(request);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to complete request to " + request.getUrl(), e);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * Cancelling the returned future skips the request if it has not been sent yet, and otherwise releases the
+   * response once it arrives. When the executor rejects the request, the returned future is completed exceptionally
+   * with the RejectedExecutionException.
+   */
+  @Override
+  public CompletableFuture<ApiClientResponse> invokeAsync(ApiClientRequest request) {
+    CompletableFuture<ApiClientResponse> future = new CompletableFuture<>();
+    try {
+      executor.execute(() -> {
+        if (future.isDone()) {
+          return;
+        }
+        try {
+          ApiClientResponse response = invoke(request);
+          if (!future.complete(response) && response.getBodyStream() != null) {
+            response.getBodyStream().close();
+          }
+        } catch (Throwable t) {
+          future.completeExceptionally(t);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
+
+  private ApiClientResponse execute(ApiClientRequest request) throws IOException {
+    HttpURLConnection connection = (HttpURLConnection) new URL(request.getUrl()).openConnection();
+    if (sslSocketFactory != null && connection instanceof HttpsURLConnection) {
+      ((HttpsURLConnection) connection).setSSLSocketFactory(sslSocketFactory);
+    }
+    connection.setConnectTimeout(connectTimeoutMillis);
+    connection.setReadTimeout(readTimeoutMillis);
+    connection.setRequestMethod(request.getMethod());
+    connection.setUseCaches(false);
+    if (request.getHeaders() != null) {
+      for (Pair<String, String> header : request.getHeaders()) {
+        connection.addRequestProperty(header.getName(), header.getValue());
+      }
+    }
+
+    writeBody(connection, request);
+
+    ApiClientResponse response = new ApiClientResponse();
+    response.setStatusCode(connection.getResponseCode());
+    response.setHeaders(readHeaders(connection));
+    InputStream bodyStream = openBody(connection, request.getMethod());
+    if (bodyStream != null) {
+      response.setBodyStream(bodyStream);
+    }
+    return response;
+  }
+
+  private static void writeBody(HttpURLConnection connection, ApiClientRequest request) throws IOException {
+    InputStream bodyStream = request.getBodyStream();
+    if (bodyStream != null) {
+      connection.setDoOutput(true);
+      connection.setChunkedStreamingMode(BUFFER_SIZE);
+      try (InputStream inputStream = bodyStream; OutputStream outputStream = connection.getOutputStream()) {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+          outputStream.write(buffer, 0, read);
+        }
+      }
+      return;
+    }
+
+    ByteBuffer bodyBuffer = request.getBodyBuffer();
+    if (bodyBuffer == null && request.getBody() != null) {
+      bodyBuffer = ByteBuffer.wrap(request.getBody().getBytes(StandardCharsets.UTF_8));
+    }
+    if (bodyBuffer != null) {
+      ByteBuffer body = bodyBuffer.duplicate();
+      connection.setDoOutput(true);
+      connection.setFixedLengthStreamingMode(body.remaining());
+      try (OutputStream outputStream = connection.getOutputStream()) {
+        if (body.hasArray()) {
+          outputStream.write(body.array(), body.arrayOffset() + body.position(), body.remaining());
+        } else {
+          byte[] buffer = new byte[Math.min(BUFFER_SIZE, body.remaining())];
+          while (body.hasRemaining()) {
+            int length = Math.min(buffer.length, body.remaining());
+            body.get(buffer, 0, length);
+            outputStream.write(buffer, 0, length);
+          }
+        }
+      }
+    }
+  }
+
+  private static List<Pair<String, String>> readHeaders(HttpURLConnection connection) {
+    List<Pair<String, String>> headers = new ArrayList<>();
+    for (Map.Entry<String, List<String>> header : connection.getHeaderFields().entrySet()) {
+      // The status line is reported under a null key
+      if (header.getKey() == null) {
+        continue;
+      }
+      for (String value : header.getValue()) {
+        headers.add(new Pair<>(header.getKey(), value));
+      }
+    }
+    return headers;
+  }
+
+  /**
+   * Opens the response body stream, which is handed to the caller unread. Once the caller reads it to the end and
+   * closes it, the connection goes back to the keep-alive pool. <code>HttpURLConnection#disconnect</code> is
+   * deliberately not called as it would close the socket. Responses that cannot carry a body are drained here.
+   */
+  private static InputStream openBody(HttpURLConnection connection, String method) throws IOException {
+    int statusCode = connection.getResponseCode();
+    InputStream inputStream = statusCode >= 400 ? connection.getErrorStream() : connection.getInputStream();
+    if (inputStream == null) {
+      return null;
+    }
+    if (statusCode == 204 || "HEAD".equals(method) || connection.getContentLengthLong() == 0) {
+      try (InputStream stream = inputStream) {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        while (stream.read(buffer) != -1) {
+          // drain so the connection can be reused
+        }
+      }
+      return null;
+    }
+    return inputStream;
+  }
+
+  private static ExecutorService newBoundedExecutor(int maxConcurrentRequests, int maxQueuedRequests) {
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(maxConcurrentRequests, maxConcurrentRequests,
+            60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(maxQueuedRequests), new DaemonThreadFactory());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  private static final class DaemonThreadFactory implements ThreadFactory {
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "ask-api-client-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+
+  private static final class SharedInstanceHolder {
+    private static final DefaultApiClient INSTANCE = DefaultApiClient.builder().build();
+  }
+
+  /**
+   * Helper class that builds an instance of a DefaultApiClient.
+   */
+  public static final class Builder {
+    private int connectTimeoutMillis = DEFAULT_CONNECT_TIMEOUT_MILLIS;
+    private int readTimeoutMillis = DEFAULT_READ_TIMEOUT_MILLIS;
+    private int maxConcurrentRequests = DEFAULT_MAX_CONCURRENT_REQUESTS;
+    private int maxQueuedRequests = DEFAULT_MAX_QUEUED_REQUESTS;
+    private SSLSocketFactory sslSocketFactory;
+    private ExecutorService executor;
+
+    private Builder() {}
+
+    /**
+     * Sets the timeout for establishing a connection.
+     * @param connectTimeoutMillis Connect timeout in milliseconds. Zero means no timeout.
+     * @return This instance to continue the build process
+     */
+    public Builder withConnectTimeoutMillis(int connectTimeoutMillis) {
+      this.connectTimeoutMillis = connectTimeoutMillis;
+      return this;
+    }
+
+    /**
+     * Sets the timeout for reading the response once connected.
+     * @param readTimeoutMillis Read timeout in milliseconds. Zero means no timeout.
+     * @return This instance to continue the build process
+     */
+    public Builder withReadTimeoutMillis(int readTimeoutMillis) {
+      this.readTimeoutMillis = readTimeoutMillis;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of asynchronous requests in flight. Ignored when an executor is supplied.
+     * @param maxConcurrentRequests Number of executor threads.
+     * @return This instance to continue the build process
+     */
+    public Builder withMaxConcurrentRequests(int maxConcurrentRequests) {
+      this.maxConcurrentRequests = maxConcurrentRequests;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of asynchronous requests waiting for a free executor thread. Further requests are
+     * rejected. Ignored when an executor is supplied.
+     * @param maxQueuedRequests Executor queue capacity.
+     * @return This instance to continue the build process
+     */
+    public Builder withMaxQueuedRequests(int maxQueuedRequests) {
+      this.maxQueuedRequests = maxQueuedRequests;
+      return this;
+    }
+
+    /**
+     * Sets the socket factory used for HTTPS connections. Defaults to the JVM default factory.
+     * @param sslSocketFactory <code>SSLSocketFactory</code> instance to be configured.
+     * @return This instance to continue the build process
+     */
+    public Builder withSslSocketFactory(SSLSocketFactory sslSocketFactory) {
+      this.sslSocketFactory = sslSocketFactory;
+      return this;
+    }
+
+    /**
+     * Sets the executor asynchronous requests are dispatched on, replacing the bounded default executor.
+     * @param executor <code>ExecutorService</code> instance to be configured.
+     * @return This instance to continue the build process
+     */
+    public Builder withExecutor(ExecutorService executor) {
+      this.executor = executor;
+      return this;
+    }
+
+    /**
+     * Builds the <code>DefaultApiClient</code> instance with the values previously provided.
+     * @return New <code>DefaultApiClient</code> instance
+     */
+    public DefaultApiClient build() {
+      if (maxConcurrentRequests <= 0 || maxQueuedRequests <= 0) {
+        throw new IllegalArgumentException("Max concurrent and queued requests must be positive");
+      }
+      return new DefaultApiClient(this);
+    }
+  }
+}
@@ -12,6 +12,7 @@
  */
 package com.amazon.ask.model.services;
 
+import com.amazon.ask.model.services.util.GeneratedCodecSerializer;
 import com.amazon.ask.model.services.util.JacksonSerializer;
 
 /**
@@ -26,12 +27,26 @@ public class DefaultApiConfiguration implements ApiConfiguration {
   private ApiClient apiClient;
   private String authorizationValue;
   private String apiEndpoint;
+  private RetryPolicy retryPolicy;
+  private RateLimitPolicy rateLimitPolicy;
+  private CircuitBreakerPolicy circuitBreakerPolicy;
+  private BulkheadPolicy bulkheadPolicy;
+  private HedgingPolicy hedgingPolicy;
 
   private DefaultApiConfiguration(Builder builder) {
-    this.apiClient = builder.apiClient;
+    this.apiClient = builder.apiClient != null ? builder.apiClient : DefaultApiClient.getDefault();
     this.authorizationValue = builder.authorizationValue;
-    this.serializer = builder.serializer != null ? builder.serializer : new JacksonSerializer();
+    if (builder.serializer != null) {
+      this.serializer = builder.serializer;
+    } else {
+      this.serializer = builder.generatedCodecs ? new GeneratedCodecSerializer() : new JacksonSerializer();
+    }
     this.apiEndpoint = builder.apiEndpoint != null ? builder.apiEndpoint : DEFAULT_API_ENDPOINT;
+    this.retryPolicy = builder.retryPolicy;
+    this.rateLimitPolicy = builder.rateLimitPolicy;
+    this.circuitBreakerPolicy = builder.circuitBreakerPolicy;
+    this.bulkheadPolicy = builder.bulkheadPolicy;
+    this.hedgingPolicy = builder.hedgingPolicy;
   }
 
   public static Builder builder() {
@@ -54,6 +69,26 @@ public class DefaultApiConfiguration implements ApiConfiguration {
     return apiEndpoint;
   }
 
+  public RetryPolicy getRetryPolicy() {
+    return retryPolicy;
+  }
+
+  public RateLimitPolicy getRateLimitPolicy() {
+    return rateLimitPolicy;
+  }
+
+  public CircuitBreakerPolicy getCircuitBreakerPolicy() {
+    return circuitBreakerPolicy;
+  }
+
+  public BulkheadPolicy getBulkheadPolicy() {
+    return bulkheadPolicy;
+  }
+
+  public HedgingPolicy getHedgingPolicy() {
+    return hedgingPolicy;
+  }
+
   /**
    * Helper class that builds an instance of a DefaultConfiguration.
    */
@@ -62,6 +97,12 @@ public class DefaultApiConfiguration implements ApiConfiguration {
     private ApiClient apiClient;
     private String authorizationValue;
     private String apiEndpoint;
+    private RetryPolicy retryPolicy;
+    private RateLimitPolicy rateLimitPolicy;
+    private CircuitBreakerPolicy circuitBreakerPolicy;
+    private BulkheadPolicy bulkheadPolicy;
+    private HedgingPolicy hedgingPolicy;
+    private boolean generatedCodecs = Boolean.getBoolean(GeneratedCodecSerializer.ENABLED_PROPERTY);
 
     private Builder() {}
 
@@ -76,7 +117,20 @@ public class DefaultApiConfiguration implements ApiConfiguration {
     }
 
     /**
-     * Sets the default <code>ApiClient</code> instance to be configured.
+     * Sets whether the default serializer, used when none is provided, is a {@link GeneratedCodecSerializer}
+     * rather than a {@link JacksonSerializer}.
+     * @param generatedCodecs true to serialize through the generated codecs. Defaults to the value of the
+     *                        <code>{@value GeneratedCodecSerializer#ENABLED_PROPERTY}</code> system property.
+     * @return This instance to continue the build process
+     */
+    public Builder withGeneratedCodecs(boolean generatedCodecs) {
+      this.generatedCodecs = generatedCodecs;
+      return this;
+    }
+
+    /**
+     * Sets the default <code>ApiClient</code> instance to be configured. When not provided, the shared
+     * {@link DefaultApiClient} instance is used.
      * @param apiClient <code>ApiClient</code> instance to be configured.
      * @return This instance to continue the build process
      */
@@ -105,6 +159,58 @@ public class DefaultApiConfiguration implements ApiConfiguration {
       return this;
     }
 
+    /**
+     * Sets the policy used to retry failed calls. Calls are attempted once when no policy is provided.
+     * @param retryPolicy <code>RetryPolicy</code> instance to be configured.
+     * @return This instance to continue the build process
+     */
+    public Builder withRetryPolicy(RetryPolicy retryPolicy) {
+      this.retryPolicy = retryPolicy;
+      return this;
+    }
+
+    /**
+     * Sets the policy used to limit the rate of outgoing calls. Calls are not limited when no policy is provided.
+     * @param rateLimitPolicy <code>RateLimitPolicy</code> instance to be configured.
+     * @return This instance to continue the build process
+     */
+    public Builder withRateLimitPolicy(RateLimitPolicy rateLimitPolicy) {
+      this.rateLimitPolicy = rateLimitPolicy;
+      return this;
+    }
+
+    /**
+     * Sets the policy used to stop calling failing operations. Calls are never refused when no policy is provided.
+     * @param circuitBreakerPolicy <code>CircuitBreakerPolicy</code> instance to be configured.
+     * @return This instance to continue the build process
+     */
+    public Builder withCircuitBreakerPolicy(CircuitBreakerPolicy circuitBreakerPolicy) {
+      this.circuitBreakerPolicy = circuitBreakerPolicy;
+      return this;
+    }
+
+    /**
+     * Sets the policy used to limit the calls each service client has in flight. Calls are not limited when no
+     * policy is provided.
+     * @param bulkheadPolicy <code>BulkheadPolicy</code> instance to be configured.
+     * @return This instance to continue the build process
+     */
+    public Builder withBulkheadPolicy(BulkheadPolicy bulkheadPolicy) {
+      this.bulkheadPolicy = bulkheadPolicy;
+      return this;
+    }
+
+    /**
+     * Sets the policy used to hedge GET calls. Calls are not hedged when no policy is provided or when the
+     * <code>ApiClient</code> is not an {@link AsyncApiClient}.
+     * @param hedgingPolicy <code>HedgingPolicy</code> instance to be configured.
+     * @return This instance to continue the build process
+     */
+    public Builder withHedgingPolicy(HedgingPolicy hedgingPolicy) {
+      this.hedgingPolicy = hedgingPolicy;
+      return this;
+    }
+
     /**
      * Builds the <code>ApiConfiguration</code> instance with the values previously provided.
      * @return New <code>ApiConfiguration</code> instance
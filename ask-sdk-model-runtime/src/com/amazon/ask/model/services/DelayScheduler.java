@@ -0,0 +1,44 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+package com.amazon.ask.model.services;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared timer used to delay asynchronous work such as retries or rate limited calls. Scheduled tasks are expected
+ * to only hand work over to non-blocking components, so a single daemon thread suffices.
+ */
+final class DelayScheduler {
+
+  private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "ask-service-client-scheduler");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private DelayScheduler() {}
+
+  /**
+   * Runs a task after the given delay.
+   * @param task Task to run
+   * @param delay Delay before running the task
+   * @param unit Unit of the delay
+   * @return Handle to cancel the task
+   */
+  static ScheduledFuture<?> schedule(Runnable task, long delay, TimeUnit unit) {
+    return SCHEDULER.schedule(task, delay, unit);
+  }
+}
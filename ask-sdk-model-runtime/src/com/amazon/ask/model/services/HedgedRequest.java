@@ -0,0 +1,196 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+package com.amazon.ask.model.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * One attempt of a hedged call, racing the original request against a hedge sent after the hedge delay. The first
+ * successful response, i.e. any response but a server error, completes the attempt and the other request is
+ * cancelled. When both requests fail, the attempt completes with the last failure. The hedge is only sent when its
+ * {@link HedgeGuard} admits it right away, so that hedges never wait for nor bypass the guards of the client.
+ * The latency recorded for the hedge delay is the one of the attempt, measured from the start of the original request,
+ * so that a winning hedge still counts the delay the original request was given.
+ */
+final class HedgedRequest {
+
+  private final AsyncApiClient apiClient;
+  private final ApiClientRequest request;
+  private final String path;
+  private final HedgingPolicy hedgingPolicy;
+  private final HedgeGuard hedgeGuard;
+  private final CompletableFuture<ApiClientResponse> result = new CompletableFuture<>();
+  private final AtomicInteger pendingRequests = new AtomicInteger(1);
+  private final AtomicReference<Failure> lastFailure = new AtomicReference<>();
+  private final long startNanos = System.nanoTime();
+  private volatile CompletableFuture<ApiClientResponse> primary;
+  private volatile CompletableFuture<ApiClientResponse> hedge;
+  private volatile ScheduledFuture<?> hedgeTimer;
+
+  private HedgedRequest(AsyncApiClient apiClient, ApiClientRequest request, String path, HedgingPolicy hedgingPolicy,
+                        HedgeGuard hedgeGuard) {
+    this.apiClient = apiClient;
+    this.request = request;
+    this.path = path;
+    this.hedgingPolicy = hedgingPolicy;
+    this.hedgeGuard = hedgeGuard;
+  }
+
+  /**
+   * Sends a request, hedging it if its response does not arrive within the hedge delay and the hedge budget allows.
+   * @param apiClient Client sending the requests
+   * @param request Request to send
+   * @param path Path template of the operation
+   * @param hedgingPolicy Policy providing the hedge delay and budget
+   * @param hedgeGuard Guard admitting the hedge
+   * @return Future completed with the winning response
+   */
+  static CompletableFuture<ApiClientResponse> send(AsyncApiClient apiClient, ApiClientRequest request, String path,
+                                                   HedgingPolicy hedgingPolicy, HedgeGuard hedgeGuard) {
+    HedgedRequest hedgedRequest = new HedgedRequest(apiClient, request, path, hedgingPolicy, hedgeGuard);
+    hedgingPolicy.recordCall();
+    hedgedRequest.primary = hedgedRequest.sendRequest(null);
+    if (!hedgedRequest.result.isDone()) {
+      hedgedRequest.hedgeTimer = DelayScheduler.schedule(hedgedRequest::sendHedge,
+              hedgingPolicy.getHedgeDelayNanos(request.getMethod(), path), TimeUnit.NANOSECONDS);
+    }
+    return hedgedRequest.result;
+  }
+
+  private CompletableFuture<ApiClientResponse> sendRequest(HedgeGuard guard) {
+    CompletableFuture<ApiClientResponse> future;
+    try {
+      future = apiClient.invokeAsync(request);
+    } catch (Exception ex) {
+      future = new CompletableFuture<>();
+      future.completeExceptionally(ex);
+    }
+    future.whenComplete((response, throwable) -> {
+      if (guard != null) {
+        guard.onComplete(response, throwable);
+      }
+      onRequestComplete(response, throwable);
+    });
+    return future;
+  }
+
+  private void sendHedge() {
+    pendingRequests.incrementAndGet();
+    if (result.isDone() || !hedgingPolicy.tryAcquireHedge() || !hedgeGuard.tryAcquire()) {
+      onRequestDone();
+      return;
+    }
+    hedge = sendRequest(hedgeGuard);
+    if (result.isDone()) {
+      hedge.cancel(false);
+    }
+  }
+
+  private void onRequestComplete(ApiClientResponse response, Throwable throwable) {
+    if (throwable == null && response.getStatusCode() < 500) {
+      if (result.complete(response)) {
+        hedgingPolicy.recordLatency(request.getMethod(), path, System.nanoTime() - startNanos);
+        cancelPending();
+      } else {
+        closeQuietly(response.getBodyStream());
+      }
+    } else {
+      Failure previous = lastFailure.getAndSet(new Failure(response, throwable));
+      if (previous != null && previous.response != null) {
+        closeQuietly(previous.response.getBodyStream());
+      }
+    }
+    onRequestDone();
+  }
+
+  /**
+   * Completes the attempt with the last failure once no request is pending anymore and no response won, or
+   * discards that failure otherwise.
+   */
+  private void onRequestDone() {
+    if (pendingRequests.decrementAndGet() != 0) {
+      return;
+    }
+    Failure failure = lastFailure.getAndSet(null);
+    if (failure == null) {
+      return;
+    }
+    if (failure.response != null) {
+      if (!result.complete(failure.response)) {
+        closeQuietly(failure.response.getBodyStream());
+      }
+    } else {
+      result.completeExceptionally(failure.throwable);
+    }
+  }
+
+  private void cancelPending() {
+    ScheduledFuture<?> timer = hedgeTimer;
+    if (timer != null) {
+      timer.cancel(false);
+    }
+    CompletableFuture<ApiClientResponse> primaryRequest = primary;
+    if (primaryRequest != null) {
+      primaryRequest.cancel(false);
+    }
+    CompletableFuture<ApiClientResponse> hedgeRequest = hedge;
+    if (hedgeRequest != null) {
+      hedgeRequest.cancel(false);
+    }
+  }
+
+  private static void closeQuietly(InputStream inputStream) {
+    if (inputStream != null) {
+      try {
+        inputStream.close();
+      } catch (IOException e) {
+        // The losing response is discarded, nothing left to release
+      }
+    }
+  }
+
+  /**
+   * Admission of the hedge of a request, checked when the hedge is due.
+   */
+  interface HedgeGuard {
+
+    /**
+     * Takes the permits the hedge needs, without waiting for them.
+     * @return true if the hedge may be sent
+     */
+    boolean tryAcquire();
+
+    /**
+     * Releases the permits of a hedge that was sent, and records its outcome.
+     * @param response Response of the hedge, or null if it failed or was cancelled
+     * @param throwable Failure of the hedge, or null if it returned a response
+     */
+    void onComplete(ApiClientResponse response, Throwable throwable);
+  }
+
+  private static final class Failure {
+    private final ApiClientResponse response;
+    private final Throwable throwable;
+
+    private Failure(ApiClientResponse response, Throwable throwable) {
+      this.response = response;
+      this.throwable = throwable;
+    }
+  }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+package com.amazon.ask.model.services;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Describes how service clients hedge GET calls to cut their tail latency: when the response of an attempt has not
+ * arrived after the hedge delay, an identical request is sent and the first successful response wins, the other
+ * request being cancelled. Hedging requires an {@link AsyncApiClient}.
+ *
+ * The hedge delay is either fixed or derived from a percentile of the latencies observed for the operation, e.g.
+ * the 95th percentile so that only the slowest 5% of calls are hedged. A global hedge budget caps hedges to a
+ * fraction of the calls made, so that hedging cannot double the load on a slow service.
+ */
+public final class HedgingPolicy {
+
+  private static final String HEDGEABLE_METHOD = "GET";
+  private static final long DEFAULT_DELAY_MILLIS = 100;
+  private static final int DEFAULT_MIN_SAMPLES = 100;
+  private static final double DEFAULT_BUDGET_HEDGE_RATIO = 0.05;
+  private static final int DEFAULT_BUDGET_MAX_HEDGES = 10;
+  private static final long MILLI_TOKENS_PER_HEDGE = 1000;
+  private static final int PERCENTILE_REFRESH_INTERVAL = 64;
+
+  private final long delayNanos;
+  private final double percentile;
+  private final int minSamples;
+  private final Set<String> operations;
+  private final long budgetMilliTokensPerCall;
+  private final long budgetMaxMilliTokens;
+  private final AtomicLong budgetMilliTokens;
+  private final ConcurrentMap<String, OperationLatency> latencies = new ConcurrentHashMap<>();
+
+  private HedgingPolicy(Builder builder) {
+    this.delayNanos = TimeUnit.MILLISECONDS.toNanos(builder.delayMillis);
+    this.percentile = builder.percentile;
+    this.minSamples = builder.minSamples;
+    this.operations = Collections.unmodifiableSet(new HashSet<>(builder.operations));
+    this.budgetMilliTokensPerCall = Math.round(builder.budgetHedgeRatio * MILLI_TOKENS_PER_HEDGE);
+    this.budgetMaxMilliTokens = builder.budgetMaxHedges * MILLI_TOKENS_PER_HEDGE;
+    this.budgetMilliTokens = new AtomicLong(budgetMaxMilliTokens);
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Checks if calls of the given operation are hedged.
+   * @param method Http Method of the operation
+   * @param path Path template of the operation, e.g. <code>/v2/accounts/~current/settings/Profile.email</code>
+   * @return true if the operation is a GET operation covered by this policy
+   */
+  public boolean isHedged(String method, String path) {
+    return HEDGEABLE_METHOD.equals(method) && (operations.isEmpty() || operations.contains(path));
+  }
+
+  /**
+   * Computes how long to wait for the response of an attempt before hedging it.
+   * @param method Http Method of the operation
+   * @param path Path template of the operation
+   * @return Hedge delay in nanoseconds
+   */
+  public long getHedgeDelayNanos(String method, String path) {
+    if (percentile <= 0) {
+      return delayNanos;
+    }
+    OperationLatency latency = latencies.get(RetryPolicy.operationKey(method, path));
+    return latency != null ? latency.getDelayNanos() : delayNanos;
+  }
+
+  /**
+   * Records the latency of a successful attempt, measured from the start of its original request, used to derive
+   * percentile based hedge delays.
+   * @param method Http Method of the operation
+   * @param path Path template of the operation
+   * @param latencyNanos Latency of the request in nanoseconds
+   */
+  public void recordLatency(String method, String path, long latencyNanos) {
+    if (percentile <= 0) {
+      return;
+    }
+    String key = RetryPolicy.operationKey(method, path);
+    OperationLatency latency = latencies.get(key);
+    if (latency == null) {
+      latency = latencies.computeIfAbsent(key, k -> new OperationLatency());
+    }
+    latency.record(latencyNanos);
+  }
+
+  /**
+   * Records that a hedged call is being made, adding its share to the hedge budget.
+   */
+  public void recordCall() {
+    long current;
+    do {
+      current = budgetMilliTokens.get();
+      if (current >= budgetMaxMilliTokens) {
+        return;
+      }
+    } while (!budgetMilliTokens.compareAndSet(current, Math.min(budgetMaxMilliTokens, current + budgetMilliTokensPerCall)));
+  }
+
+  /**
+   * Withdraws one hedge from the hedge budget.
+   * @return true if the budget allows another hedge
+   */
+  public boolean tryAcquireHedge() {
+    long current;
+    do {
+      current = budgetMilliTokens.get();
+      if (current < MILLI_TOKENS_PER_HEDGE) {
+        return false;
+      }
+    } while (!budgetMilliTokens.compareAndSet(current, current - MILLI_TOKENS_PER_HEDGE));
+    return true;
+  }
+
+  /**
+   * Latencies of one operation, with the hedge delay derived from them refreshed every few samples rather than
+   * on every call.
+   */
+  private final class OperationLatency {
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private volatile long cachedDelayNanos = delayNanos;
+
+    private void record(long latencyNanos) {
+      histogram.record(latencyNanos);
+      long samples = histogram.getSampleCount();
+      if (samples >= minSamples && samples % PERCENTILE_REFRESH_INTERVAL == 0) {
+        cachedDelayNanos = histogram.getPercentileNanos(percentile);
+      }
+    }
+
+    private long getDelayNanos() {
+      return cachedDelayNanos;
+    }
+  }
+
+  /**
+   * Helper class that builds an instance of a HedgingPolicy.
+   */
+  public static final class Builder {
+    private long delayMillis = DEFAULT_DELAY_MILLIS;
+    private double percentile;
+    private int minSamples = DEFAULT_MIN_SAMPLES;
+    private final Set<String> operations = new HashSet<>();
+    private double budgetHedgeRatio = DEFAULT_BUDGET_HEDGE_RATIO;
+    private int budgetMaxHedges = DEFAULT_BUDGET_MAX_HEDGES;
+
+    private Builder() {}
+
+    /**
+     * Sets the fixed hedge delay, also used by percentile based policies until enough latencies are recorded.
+     * @param delayMillis Hedge delay in milliseconds. Defaults to 100.
+     * @return This instance to continue the build process
+     */
+    public Builder withDelayMillis(long delayMillis) {
+      this.delayMillis = delayMillis;
+      return this;
+    }
+
+    /**
+     * Derives the hedge delay of each operation from a percentile of its observed latencies.
+     * @param percentile Percentile between 0 and 1, e.g. 0.95
+     * @param minSamples Number of latencies to record before the fixed delay is replaced. Defaults to 100.
+     * @return This instance to continue the build process
+     */
+    public Builder withPercentileDelay(double percentile, int minSamples) {
+      this.percentile = percentile;
+      this.minSamples = minSamples;
+      return this;
+    }
+
+    /**
+     * Restricts hedging to the given operation. All GET operations are hedged when no operation is registered.
+     * @param path Path template of the GET operation, e.g. <code>/v1/devices/{deviceId}/settings/address/countryAndPostalCode</code>
+     * @return This instance to continue the build process
+     */
+    public Builder withOperation(String path) {
+      this.operations.add(path);
+      return this;
+    }
+
+    /**
+     * Caps hedges to a fraction of the hedged calls. Every call adds <code>hedgeRatio</code> to the budget, up to
+     * <code>maxHedges</code>, and every hedge withdraws one.
+     * @param hedgeRatio Hedges allowed per call. Defaults to 0.05, one hedge every twenty calls.
+     * @param maxHedges Hedges the budget can hold, which is also its initial balance. Defaults to 10.
+     * @return This instance to continue the build process
+     */
+    public Builder withHedgeBudget(double hedgeRatio, int maxHedges) {
+      this.budgetHedgeRatio = hedgeRatio;
+      this.budgetMaxHedges = maxHedges;
+      return this;
+    }
+
+    /**
+     * Builds the <code>HedgingPolicy</code> instance with the values previously provided.
+     * @return New <code>HedgingPolicy</code> instance
+     */
+    public HedgingPolicy build() {
+      if (delayMillis < 0) {
+        throw new IllegalArgumentException("Hedge delay must not be negative");
+      }
+      if (percentile < 0 || percentile > 1) {
+        throw new IllegalArgumentException("Percentile must be between 0 and 1");
+      }
+      if (budgetHedgeRatio < 0 || budgetHedgeRatio > 1 || budgetMaxHedges < 0) {
+        throw new IllegalArgumentException("Hedge ratio must be between 0 and 1 and max hedges must not be negative");
+      }
+      return new HedgingPolicy(this);
+    }
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+package com.amazon.ask.model.services;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram with log-linear buckets of microseconds, four per power of two, giving percentiles
+ * within 25% of the recorded values. Counts are halved every time the window fills up, so that percentiles follow
+ * recent latencies.
+ */
+final class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 2;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS + SUB_BUCKETS;
+  private static final int WINDOW_SIZE = 1024;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+  private final AtomicLong samples = new AtomicLong();
+
+  /**
+   * Records a latency.
+   * @param latencyNanos Latency in nanoseconds
+   */
+  void record(long latencyNanos) {
+    counts.incrementAndGet(bucketOf(Math.max(0, TimeUnit.NANOSECONDS.toMicros(latencyNanos))));
+    if (samples.incrementAndGet() % WINDOW_SIZE == 0) {
+      for (int i = 0; i < BUCKET_COUNT; i++) {
+        long count;
+        do {
+          count = counts.get(i);
+        } while (count != 0 && !counts.compareAndSet(i, count, count / 2));
+      }
+    }
+  }
+
+  /**
+   * Gets the number of latencies recorded since creation, regardless of decay.
+   * @return number of recorded latencies
+   */
+  long getSampleCount() {
+    return samples.get();
+  }
+
+  /**
+   * Computes a percentile of the recorded latencies.
+   * @param percentile Percentile between 0 and 1, e.g. 0.95
+   * @return Upper bound of the bucket holding the percentile in nanoseconds, or -1 if nothing was recorded
+   */
+  long getPercentileNanos(double percentile) {
+    long total = 0;
+    long[] snapshot = new long[BUCKET_COUNT];
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      snapshot[i] = counts.get(i);
+      total += snapshot[i];
+    }
+    if (total == 0) {
+      return -1;
+    }
+    long rank = (long) Math.ceil(percentile * total);
+    long cumulative = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      cumulative += snapshot[i];
+      if (cumulative >= rank && snapshot[i] > 0) {
+        return TimeUnit.MICROSECONDS.toNanos(upperBoundOf(i));
+      }
+    }
+    return TimeUnit.MICROSECONDS.toNanos(upperBoundOf(BUCKET_COUNT - 1));
+  }
+
+  static int bucketOf(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+    int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+  }
+
+  static long upperBoundOf(int bucket) {
+    if (bucket < SUB_BUCKETS) {
+      return bucket;
+    }
+    int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+    long subBucket = bucket % SUB_BUCKETS;
+    long lowerBound = (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+    return lowerBound + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+  }
+}
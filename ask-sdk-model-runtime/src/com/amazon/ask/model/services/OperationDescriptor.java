@@ -0,0 +1,219 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+package com.amazon.ask.model.services;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable description of a service client operation: its Http Method, path template, constant headers and
+ * well-known responses. Generated service clients hold one descriptor per operation in a static field, so that
+ * nothing describing the operation is allocated per call and responses are matched to their definition through a
+ * sorted status code table rather than a scan over a list.
+ * @param <T> Type of the response returned on success, <code>Void</code> if the operation returns no body
+ */
+public final class OperationDescriptor<T> {
+
+  private final String method;
+  private final String path;
+  private final Class<T> responseType;
+  private final boolean rawRequest;
+  private final List<Pair<String, String>> headers;
+  private final int[] statusCodes;
+  private final Class<?>[] types;
+  private final String[] messages;
+  private final UrlTemplate urlTemplate;
+
+  private OperationDescriptor(Builder<T> builder) {
+    this.method = builder.method;
+    this.path = builder.path;
+    this.responseType = builder.responseType == Void.class ? null : builder.responseType;
+    this.rawRequest = builder.rawRequest;
+    this.headers = Collections.unmodifiableList(new ArrayList<>(builder.headers));
+
+    List<ServiceClientResponse> responses = new ArrayList<>(builder.responses);
+    // Stable sort, so that the first definition registered for a status code wins as with a list scan
+    responses.sort((a, b) -> Integer.compare(a.getStatusCode(), b.getStatusCode()));
+    int[] codes = new int[responses.size()];
+    Class<?>[] responseTypes = new Class<?>[responses.size()];
+    String[] responseMessages = new String[responses.size()];
+    int count = 0;
+    for (ServiceClientResponse response : responses) {
+      if (count > 0 && codes[count - 1] == response.getStatusCode()) {
+        continue;
+      }
+      codes[count] = response.getStatusCode();
+      responseTypes[count] = response.getType();
+      responseMessages[count] = response.getMessage();
+      count++;
+    }
+    this.statusCodes = Arrays.copyOf(codes, count);
+    this.types = Arrays.copyOf(responseTypes, count);
+    this.messages = Arrays.copyOf(responseMessages, count);
+    this.urlTemplate = UrlTemplate.of(path);
+  }
+
+  /**
+   * Starts building the descriptor of an operation.
+   * @param method Http Method of the operation
+   * @param path Path template of the operation, e.g. <code>/v2/householdlists/{listId}</code>
+   * @param responseType Type of the response returned on success, <code>Void.class</code> if there is none
+   * @param <T> Type of the response returned on success
+   * @return Builder of the descriptor
+   */
+  public static <T> Builder<T> builder(String method, String path, Class<T> responseType) {
+    return new Builder<>(method, path, responseType);
+  }
+
+  /**
+   * Builds a descriptor from the arguments of the legacy, per call, <code>executeRequest</code> signature.
+   */
+  static <T> OperationDescriptor<T> of(String method, String path, List<ServiceClientResponse> responseDefinitions,
+                                       Class<T> responseType, boolean rawRequest) {
+    Builder<T> builder = new Builder<>(method, path, responseType).withRawRequest(rawRequest);
+    if (responseDefinitions != null) {
+      builder.responses.addAll(responseDefinitions);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Gets the Http Method of the operation.
+   * @return Http Method
+   */
+  public String getMethod() {
+    return method;
+  }
+
+  /**
+   * Gets the path template of the operation.
+   * @return path template
+   */
+  public String getPath() {
+    return path;
+  }
+
+  /**
+   * Gets the type of the response returned on success.
+   * @return response type, or null if the operation returns no body
+   */
+  public Class<T> getResponseType() {
+    return responseType;
+  }
+
+  /**
+   * Checks whether the request body is an already serialized String to be sent as is.
+   * @return true if the body is sent as is
+   */
+  public boolean isRawRequest() {
+    return rawRequest;
+  }
+
+  /**
+   * Gets the headers sent with every call of the operation.
+   * @return unmodifiable list of headers
+   */
+  public List<Pair<String, String>> getHeaders() {
+    return headers;
+  }
+
+  UrlTemplate getUrlTemplate() {
+    return urlTemplate;
+  }
+
+  /**
+   * Finds the well-known response definition of a status code.
+   * @param statusCode Status code of the response
+   * @return Index of the definition, or a negative value if the status code has none
+   */
+  int findResponse(int statusCode) {
+    return Arrays.binarySearch(statusCodes, statusCode);
+  }
+
+  Class<?> getResponseType(int index) {
+    return types[index];
+  }
+
+  String getResponseMessage(int index) {
+    return messages[index];
+  }
+
+  int getResponseStatusCode(int index) {
+    return statusCodes[index];
+  }
+
+  /**
+   * Helper class that builds an instance of an OperationDescriptor.
+   * @param <T> Type of the response returned on success
+   */
+  public static final class Builder<T> {
+    private final String method;
+    private final String path;
+    private final Class<T> responseType;
+    private boolean rawRequest;
+    private final List<Pair<String, String>> headers = new ArrayList<>();
+    private final List<ServiceClientResponse> responses = new ArrayList<>();
+
+    private Builder(String method, String path, Class<T> responseType) {
+      this.method = method;
+      this.path = path;
+      this.responseType = responseType;
+    }
+
+    /**
+     * Adds a header sent with every call of the operation.
+     * @param name Header name
+     * @param value Header value
+     * @return This instance to continue the build process
+     */
+    public Builder<T> withHeader(String name, String value) {
+      this.headers.add(new Pair<>(name, value));
+      return this;
+    }
+
+    /**
+     * Registers a well-known response of the operation.
+     * @param type Type of the response body
+     * @param statusCode Status code of the response
+     * @param message Message of the <code>ServiceException</code> thrown when the status code is an error
+     * @return This instance to continue the build process
+     */
+    public Builder<T> withResponse(Class<?> type, int statusCode, String message) {
+      this.responses.add(new ServiceClientResponse(type, statusCode, message));
+      return this;
+    }
+
+    /**
+     * Sets whether the request body is an already serialized String, or UTF-8 encoded byte array, to be sent as is.
+     * @param rawRequest true to send the body as is. Defaults to false.
+     * @return This instance to continue the build process
+     */
+    public Builder<T> withRawRequest(boolean rawRequest) {
+      this.rawRequest = rawRequest;
+      return this;
+    }
+
+    /**
+     * Builds the <code>OperationDescriptor</code> instance with the values previously provided.
+     * @return New <code>OperationDescriptor</code> instance
+     */
+    public OperationDescriptor<T> build() {
+      if (method == null || path == null) {
+        throw new IllegalArgumentException("Method and path must be provided");
+      }
+      return new OperationDescriptor<>(this);
+    }
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+package com.amazon.ask.model.services;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Describes how service clients limit the rate of their outgoing calls, so that a skill stays within the quotas of
+ * the Alexa services instead of being throttled by them. Limiters can be registered per endpoint and per operation,
+ * and a call has to obtain a permit from every limiter that applies to it. Every attempt of a call, retries
+ * included, takes its own permits.
+ *
+ * Calls wait for their permits, blocking the calling thread for synchronous calls and delaying the dispatch for
+ * asynchronous ones. A maximum wait can be set, beyond which calls fail fast with a <code>ServiceException</code>
+ * carrying the status code 429.
+ */
+public final class RateLimitPolicy {
+
+  private final Map<String, RateLimiter> endpointLimiters;
+  private final Map<String, RateLimiter> operationLimiters;
+  private final RateLimiter defaultLimiter;
+  private final long maxWaitNanos;
+
+  private RateLimitPolicy(Builder builder) {
+    this.endpointLimiters = Collections.unmodifiableMap(new HashMap<>(builder.endpointLimiters));
+    this.operationLimiters = Collections.unmodifiableMap(new HashMap<>(builder.operationLimiters));
+    this.defaultLimiter = builder.defaultLimiter;
+    this.maxWaitNanos = builder.maxWaitNanos;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Reserves the permits a call needs from the limiters applying to it. Permits already reserved are not given back
+   * when a later limiter refuses the call.
+   * @param endpoint Endpoint the call is sent to
+   * @param method Http Method of the operation
+   * @param path Path template of the operation, e.g. <code>/v2/householdlists/{listId}</code>
+   * @return Nanoseconds to wait before sending the call, or a negative value if the call exceeds the rate limit
+   */
+  public long reserve(String endpoint, String method, String path) {
+    return reserve(endpoint, method, path, maxWaitNanos);
+  }
+
+  /**
+   * Takes the permits a call needs if they are all available right away, without waiting. As with
+   * {@link #reserve(String, String, String)}, permits already taken are not given back when a later limiter refuses
+   * the call.
+   * @param endpoint Endpoint the call is sent to
+   * @param method Http Method of the operation
+   * @param path Path template of the operation
+   * @return true if the call may be sent now
+   */
+  public boolean tryAcquire(String endpoint, String method, String path) {
+    return reserve(endpoint, method, path, 0) == 0;
+  }
+
+  private long reserve(String endpoint, String method, String path, long maxWaitNanos) {
+    long waitNanos = 0;
+    RateLimiter operationLimiter = operationLimiters.isEmpty() ? null
+            : operationLimiters.get(RetryPolicy.operationKey(method, path));
+    if (operationLimiter != null) {
+      waitNanos = operationLimiter.reserve(maxWaitNanos);
+      if (waitNanos < 0) {
+        return -1;
+      }
+    }
+    RateLimiter endpointLimiter = endpointLimiters.isEmpty() ? null : endpointLimiters.get(normalize(endpoint));
+    if (endpointLimiter == null && operationLimiter == null) {
+      endpointLimiter = defaultLimiter;
+    }
+    if (endpointLimiter != null) {
+      long endpointWaitNanos = endpointLimiter.reserve(maxWaitNanos);
+      if (endpointWaitNanos < 0) {
+        return -1;
+      }
+      waitNanos = Math.max(waitNanos, endpointWaitNanos);
+    }
+    return waitNanos;
+  }
+
+  private static String normalize(String endpoint) {
+    return endpoint != null && endpoint.endsWith("/") ? endpoint.substring(0, endpoint.length() - 1) : endpoint;
+  }
+
+  /**
+   * Helper class that builds an instance of a RateLimitPolicy.
+   */
+  public static final class Builder {
+    private final Map<String, RateLimiter> endpointLimiters = new HashMap<>();
+    private final Map<String, RateLimiter> operationLimiters = new HashMap<>();
+    private RateLimiter defaultLimiter;
+    private long maxWaitNanos = Long.MAX_VALUE;
+
+    private Builder() {}
+
+    /**
+     * Registers the limiter shared by all calls sent to an endpoint.
+     * @param endpoint Endpoint, e.g. <code>https://api.amazonalexa.com</code>. A trailing slash is ignored.
+     * @param rateLimiter Limiter to apply
+     * @return This instance to continue the build process
+     */
+    public Builder withEndpointLimiter(String endpoint, RateLimiter rateLimiter) {
+      this.endpointLimiters.put(normalize(endpoint), rateLimiter);
+      return this;
+    }
+
+    /**
+     * Registers the limiter of an operation. It applies in addition to the limiter of the endpoint, if any.
+     * @param method Http Method of the operation
+     * @param path Path template of the operation, e.g. <code>/v1/skills/{skillId}/submit</code>
+     * @param rateLimiter Limiter to apply
+     * @return This instance to continue the build process
+     */
+    public Builder withOperationLimiter(String method, String path, RateLimiter rateLimiter) {
+      this.operationLimiters.put(RetryPolicy.operationKey(method, path), rateLimiter);
+      return this;
+    }
+
+    /**
+     * Sets the limiter applying to calls matched by neither an endpoint nor an operation limiter.
+     * @param rateLimiter Limiter to apply
+     * @return This instance to continue the build process
+     */
+    public Builder withDefaultLimiter(RateLimiter rateLimiter) {
+      this.defaultLimiter = rateLimiter;
+      return this;
+    }
+
+    /**
+     * Sets how long a call may wait for its permits before failing. Zero makes calls fail as soon as no permit is
+     * available.
+     * @param maxWaitMillis Maximum wait in milliseconds. Calls wait as long as needed by default.
+     * @return This instance to continue the build process
+     */
+    public Builder withMaxWaitMillis(long maxWaitMillis) {
+      this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+      return this;
+    }
+
+    /**
+     * Builds the <code>RateLimitPolicy</code> instance with the values previously provided.
+     * @return New <code>RateLimitPolicy</code> instance
+     */
+    public RateLimitPolicy build() {
+      if (maxWaitNanos < 0) {
+        throw new IllegalArgumentException("Max wait must not be negative");
+      }
+      return new RateLimitPolicy(this);
+    }
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+package com.amazon.ask.model.services;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket rate limiter handing out permits at a steady rate while allowing bursts up to the bucket size.
+ * With a burst of one it behaves as a leaky bucket, spacing permits evenly.
+ *
+ * The bucket is tracked as the theoretical arrival time of the next permit (generic cell rate algorithm), held in
+ * a single <code>AtomicLong</code>, so permits are reserved with a compare-and-set and no lock.
+ */
+public final class RateLimiter {
+
+  private final long intervalNanos;
+  private final long burstToleranceNanos;
+  private final AtomicLong theoreticalArrivalNanos;
+
+  private RateLimiter(Builder builder) {
+    this.intervalNanos = Math.max(1, Math.round(TimeUnit.SECONDS.toNanos(1) / builder.permitsPerSecond));
+    this.burstToleranceNanos = intervalNanos * (builder.burst - 1);
+    this.theoreticalArrivalNanos = new AtomicLong(System.nanoTime());
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Takes a permit if one is available right away.
+   * @return true if a permit was taken
+   */
+  public boolean tryAcquire() {
+    return reserve(0) == 0;
+  }
+
+  /**
+   * Takes a permit, blocking the calling thread until it is available.
+   * @throws InterruptedException if the thread is interrupted while waiting. The permit is consumed regardless.
+   */
+  public void acquire() throws InterruptedException {
+    long waitNanos = reserve(Long.MAX_VALUE);
+    if (waitNanos > 0) {
+      TimeUnit.NANOSECONDS.sleep(waitNanos);
+    }
+  }
+
+  /**
+   * Takes a permit without blocking the calling thread.
+   * @return Future completed once the permit is available
+   */
+  public CompletableFuture<Void> acquireAsync() {
+    CompletableFuture<Void> permit = new CompletableFuture<>();
+    long waitNanos = reserve(Long.MAX_VALUE);
+    if (waitNanos > 0) {
+      DelayScheduler.schedule(() -> permit.complete(null), waitNanos, TimeUnit.NANOSECONDS);
+    } else {
+      permit.complete(null);
+    }
+    return permit;
+  }
+
+  /**
+   * Reserves a permit if it becomes available within the given wait. The caller must wait for the returned time
+   * before using the permit.
+   * @param maxWaitNanos Longest acceptable wait in nanoseconds
+   * @return Nanoseconds to wait before the permit can be used, or a negative value if no permit was reserved
+   */
+  public long reserve(long maxWaitNanos) {
+    while (true) {
+      long now = System.nanoTime();
+      long current = theoreticalArrivalNanos.get();
+      long arrival = current - now > 0 ? current : now;
+      long waitNanos = arrival - now - burstToleranceNanos;
+      if (waitNanos < 0) {
+        waitNanos = 0;
+      }
+      if (waitNanos > maxWaitNanos) {
+        return -1;
+      }
+      if (theoreticalArrivalNanos.compareAndSet(current, arrival + intervalNanos)) {
+        return waitNanos;
+      }
+    }
+  }
+
+  /**
+   * Helper class that builds an instance of a RateLimiter.
+   */
+  public static final class Builder {
+    private double permitsPerSecond;
+    private int burst = 1;
+
+    private Builder() {}
+
+    /**
+     * Sets the steady rate permits are handed out at.
+     * @param permitsPerSecond Permits per second. Must be positive.
+     * @return This instance to continue the build process
+     */
+    public Builder withPermitsPerSecond(double permitsPerSecond) {
+      this.permitsPerSecond = permitsPerSecond;
+      return this;
+    }
+
+    /**
+     * Sets how many permits can be taken at once after a quiet period.
+     * @param burst Bucket size. Defaults to 1.
+     * @return This instance to continue the build process
+     */
+    public Builder withBurst(int burst) {
+      this.burst = burst;
+      return this;
+    }
+
+    /**
+     * Builds the <code>RateLimiter</code> instance with the values previously provided.
+     * @return New <code>RateLimiter</code> instance
+     */
+    public RateLimiter build() {
+      if (permitsPerSecond <= 0 || burst < 1) {
+        throw new IllegalArgumentException("Permits per second must be positive and burst at least 1");
+      }
+      return new RateLimiter(this);
+    }
+  }
+}
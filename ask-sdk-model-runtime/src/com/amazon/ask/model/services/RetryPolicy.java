@@ -0,0 +1,308 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+package com.amazon.ask.model.services;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Describes how service clients retry a failed call: exponential backoff with full jitter, honoring the
+ * <code>Retry-After</code> header, retrying idempotent methods by default and non idempotent methods only when
+ * opted in. Operations can be given their own policy, and an optional retry budget caps retries to a fraction of
+ * the calls made so that retries cannot multiply the load on a struggling service.
+ */
+public final class RetryPolicy {
+
+  private static final int DEFAULT_MAX_ATTEMPTS = 3;
+  private static final long DEFAULT_BASE_DELAY_MILLIS = 100;
+  private static final long DEFAULT_MAX_DELAY_MILLIS = 20000;
+  private static final Set<Integer> DEFAULT_RETRYABLE_STATUS_CODES =
+          Collections.unmodifiableSet(new HashSet<>(Arrays.asList(429, 500, 502, 503, 504)));
+  private static final Set<String> IDEMPOTENT_METHODS =
+          Collections.unmodifiableSet(new HashSet<>(Arrays.asList("GET", "HEAD", "PUT", "DELETE", "OPTIONS")));
+  private static final String RETRY_AFTER_HEADER = "Retry-After";
+  private static final long MILLI_TOKENS_PER_RETRY = 1000;
+
+  private final int maxAttempts;
+  private final long baseDelayMillis;
+  private final long maxDelayMillis;
+  private final Set<Integer> retryableStatusCodes;
+  private final boolean retryNonIdempotentMethods;
+  private final boolean retryTransportErrors;
+  private final Map<String, RetryPolicy> operationOverrides;
+  private final long budgetMilliTokensPerCall;
+  private final long budgetMaxMilliTokens;
+  private final AtomicLong budgetMilliTokens;
+
+  private RetryPolicy(Builder builder) {
+    this.maxAttempts = builder.maxAttempts;
+    this.baseDelayMillis = builder.baseDelayMillis;
+    this.maxDelayMillis = builder.maxDelayMillis;
+    this.retryableStatusCodes = Collections.unmodifiableSet(new HashSet<>(builder.retryableStatusCodes));
+    this.retryNonIdempotentMethods = builder.retryNonIdempotentMethods;
+    this.retryTransportErrors = builder.retryTransportErrors;
+    this.operationOverrides = Collections.unmodifiableMap(new HashMap<>(builder.operationOverrides));
+    this.budgetMilliTokensPerCall = Math.round(builder.budgetRetryRatio * MILLI_TOKENS_PER_RETRY);
+    this.budgetMaxMilliTokens = builder.budgetMaxRetries * MILLI_TOKENS_PER_RETRY;
+    this.budgetMilliTokens = new AtomicLong(budgetMaxMilliTokens);
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Returns the policy that applies to the given operation, that is its override if one was registered or this
+   * policy otherwise.
+   * @param method Http Method of the operation
+   * @param path Path template of the operation, e.g. <code>/v2/householdlists/{listId}</code>
+   * @return Policy to apply
+   */
+  public RetryPolicy forOperation(String method, String path) {
+    RetryPolicy override = operationOverrides.get(operationKey(method, path));
+    return override != null ? override : this;
+  }
+
+  /**
+   * Records that a call is being made, adding its share to the retry budget if one is configured.
+   */
+  public void recordCall() {
+    if (budgetMaxMilliTokens <= 0) {
+      return;
+    }
+    long current;
+    do {
+      current = budgetMilliTokens.get();
+      if (current >= budgetMaxMilliTokens) {
+        return;
+      }
+    } while (!budgetMilliTokens.compareAndSet(current, Math.min(budgetMaxMilliTokens, current + budgetMilliTokensPerCall)));
+  }
+
+  /**
+   * Withdraws one retry from the retry budget.
+   * @return true if no budget is configured or the budget allows another retry
+   */
+  public boolean tryAcquireRetry() {
+    if (budgetMaxMilliTokens <= 0) {
+      return true;
+    }
+    long current;
+    do {
+      current = budgetMilliTokens.get();
+      if (current < MILLI_TOKENS_PER_RETRY) {
+        return false;
+      }
+    } while (!budgetMilliTokens.compareAndSet(current, current - MILLI_TOKENS_PER_RETRY));
+    return true;
+  }
+
+  /**
+   * Computes how long to wait before retrying a failed attempt, without consulting the retry budget.
+   * @param method Http Method of the call
+   * @param attempt Number of the attempt that failed, starting at 1
+   * @param statusCode Status code returned by the failed attempt, or null if the call failed in transport
+   * @param headers Headers returned by the failed attempt, if any
+   * @return Delay in milliseconds, or a negative value if the call must not be retried
+   */
+  public long getRetryDelayMillis(String method, int attempt, Integer statusCode, List<Pair<String, String>> headers) {
+    if (attempt >= maxAttempts || !isRetryableMethod(method)) {
+      return -1;
+    }
+    if (statusCode == null ? !retryTransportErrors : !retryableStatusCodes.contains(statusCode)) {
+      return -1;
+    }
+    long retryAfterMillis = getRetryAfterMillis(headers);
+    if (retryAfterMillis >= 0) {
+      return retryAfterMillis <= maxDelayMillis ? retryAfterMillis : -1;
+    }
+    long exponentialDelay = attempt >= 31 ? maxDelayMillis
+            : Math.min(maxDelayMillis, baseDelayMillis * (1L << (attempt - 1)));
+    return ThreadLocalRandom.current().nextLong(exponentialDelay + 1);
+  }
+
+  /**
+   * Checks if calls with the given Http Method may be retried under this policy.
+   * @param method Http Method of the call
+   * @return true if the method is idempotent or non idempotent retries are enabled
+   */
+  public boolean isRetryableMethod(String method) {
+    return retryNonIdempotentMethods || IDEMPOTENT_METHODS.contains(method);
+  }
+
+  /**
+   * Retrieves the maximum number of attempts, including the first one.
+   * @return maximum number of attempts
+   */
+  public int getMaxAttempts() {
+    return maxAttempts;
+  }
+
+  static String operationKey(String method, String path) {
+    return method + " " + path;
+  }
+
+  private static long getRetryAfterMillis(List<Pair<String, String>> headers) {
+    if (headers == null) {
+      return -1;
+    }
+    for (Pair<String, String> header : headers) {
+      if (RETRY_AFTER_HEADER.equalsIgnoreCase(header.getName()) && header.getValue() != null) {
+        String value = header.getValue().trim();
+        try {
+          return TimeUnit.SECONDS.toMillis(Math.max(0, Long.parseLong(value)));
+        } catch (NumberFormatException e) {
+          try {
+            ZonedDateTime retryAt = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0, retryAt.toInstant().toEpochMilli() - System.currentTimeMillis());
+          } catch (DateTimeParseException ex) {
+            return -1;
+          }
+        }
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Helper class that builds an instance of a RetryPolicy.
+   */
+  public static final class Builder {
+    private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+    private long baseDelayMillis = DEFAULT_BASE_DELAY_MILLIS;
+    private long maxDelayMillis = DEFAULT_MAX_DELAY_MILLIS;
+    private Set<Integer> retryableStatusCodes = DEFAULT_RETRYABLE_STATUS_CODES;
+    private boolean retryNonIdempotentMethods;
+    private boolean retryTransportErrors = true;
+    private final Map<String, RetryPolicy> operationOverrides = new HashMap<>();
+    private double budgetRetryRatio;
+    private int budgetMaxRetries;
+
+    private Builder() {}
+
+    /**
+     * Sets the maximum number of attempts, including the first one.
+     * @param maxAttempts Maximum number of attempts. Defaults to 3.
+     * @return This instance to continue the build process
+     */
+    public Builder withMaxAttempts(int maxAttempts) {
+      this.maxAttempts = maxAttempts;
+      return this;
+    }
+
+    /**
+     * Sets the backoff of the first retry, doubled on every following retry. The actual delay is picked at random
+     * between zero and the backoff.
+     * @param baseDelayMillis Base backoff in milliseconds. Defaults to 100.
+     * @return This instance to continue the build process
+     */
+    public Builder withBaseDelayMillis(long baseDelayMillis) {
+      this.baseDelayMillis = baseDelayMillis;
+      return this;
+    }
+
+    /**
+     * Sets the upper bound of the backoff. A <code>Retry-After</code> header asking for a longer wait stops retries.
+     * @param maxDelayMillis Maximum delay in milliseconds. Defaults to 20000.
+     * @return This instance to continue the build process
+     */
+    public Builder withMaxDelayMillis(long maxDelayMillis) {
+      this.maxDelayMillis = maxDelayMillis;
+      return this;
+    }
+
+    /**
+     * Sets the status codes that are retried.
+     * @param retryableStatusCodes Status codes. Defaults to 429, 500, 502, 503 and 504.
+     * @return This instance to continue the build process
+     */
+    public Builder withRetryableStatusCodes(Set<Integer> retryableStatusCodes) {
+      this.retryableStatusCodes = retryableStatusCodes;
+      return this;
+    }
+
+    /**
+     * Sets whether calls with non idempotent methods such as POST are retried.
+     * @param retryNonIdempotentMethods true to retry non idempotent calls. Defaults to false.
+     * @return This instance to continue the build process
+     */
+    public Builder withRetryNonIdempotentMethods(boolean retryNonIdempotentMethods) {
+      this.retryNonIdempotentMethods = retryNonIdempotentMethods;
+      return this;
+    }
+
+    /**
+     * Sets whether calls failing before a response is received are retried.
+     * @param retryTransportErrors true to retry transport failures. Defaults to true.
+     * @return This instance to continue the build process
+     */
+    public Builder withRetryTransportErrors(boolean retryTransportErrors) {
+      this.retryTransportErrors = retryTransportErrors;
+      return this;
+    }
+
+    /**
+     * Registers the policy to apply to a given operation instead of this one. The retry budget of this policy
+     * still applies to the overridden operation.
+     * @param method Http Method of the operation
+     * @param path Path template of the operation, e.g. <code>/v1/skills/{skillId}/submit</code>
+     * @param retryPolicy Policy to apply to the operation
+     * @return This instance to continue the build process
+     */
+    public Builder withOperationOverride(String method, String path, RetryPolicy retryPolicy) {
+      this.operationOverrides.put(operationKey(method, path), retryPolicy);
+      return this;
+    }
+
+    /**
+     * Caps retries to a fraction of the calls made. Every call adds <code>retryRatio</code> to the budget, up to
+     * <code>maxRetries</code>, and every retry withdraws one.
+     * @param retryRatio Retries allowed per call, e.g. 0.1 for one retry every ten calls
+     * @param maxRetries Retries the budget can hold, which is also its initial balance
+     * @return This instance to continue the build process
+     */
+    public Builder withRetryBudget(double retryRatio, int maxRetries) {
+      this.budgetRetryRatio = retryRatio;
+      this.budgetMaxRetries = maxRetries;
+      return this;
+    }
+
+    /**
+     * Builds the <code>RetryPolicy</code> instance with the values previously provided.
+     * @return New <code>RetryPolicy</code> instance
+     */
+    public RetryPolicy build() {
+      if (maxAttempts < 1) {
+        throw new IllegalArgumentException("Max attempts must be at least 1");
+      }
+      if (baseDelayMillis < 0 || maxDelayMillis < 0) {
+        throw new IllegalArgumentException("Delays must not be negative");
+      }
+      if (retryableStatusCodes == null) {
+        throw new IllegalArgumentException("Retryable status codes must be provided");
+      }
+      return new RetryPolicy(this);
+    }
+  }
+}
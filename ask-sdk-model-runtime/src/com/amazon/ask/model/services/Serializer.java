@@ -12,8 +12,15 @@
  */
 package com.amazon.ask.model.services;
 
+import com.amazon.ask.model.services.util.ByteBufferInputStream;
+import com.amazon.ask.model.services.util.ByteBufferOutputStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Collection;
 
 /**
  * Represents an object used for Serialization tasks.
@@ -36,6 +43,30 @@ public interface Serializer {
    */
   <T> void serialize(T object, OutputStream outputStream);
 
+  /**
+   * Serializes an Object into bytes. Goes through {@link #serialize(Object, OutputStream)} by default.
+   * @param object Object to serialize
+   * @param <T> Type of the Object to serialize
+   * @return Serialized object
+   */
+  default <T> byte[] serializeToBytes(T object) {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    serialize(object, outputStream);
+    return outputStream.toByteArray();
+  }
+
+  /**
+   * Serializes an Object into a ByteBuffer, from its position, which is advanced past the serialized bytes.
+   * Goes through {@link #serialize(Object, OutputStream)} by default.
+   * @param object Object to serialize
+   * @param buffer Buffer to serialize to
+   * @param <T> Type of the Object to serialize
+   * @throws SerializerException if the object cannot be serialized or does not fit in the remaining bytes
+   */
+  default <T> void serialize(T object, ByteBuffer buffer) {
+    serialize(object, new ByteBufferOutputStream(buffer));
+  }
+
   /**
    * Deserializes a String into an Object of a Well-known type.
    * @param payload String to deserialize
@@ -54,4 +85,52 @@ public interface Serializer {
    */
   <T> T deserialize(InputStream inputStream, Class<T> type);
 
+  /**
+   * Deserializes a range of bytes into an Object of a Well-known type. Goes through
+   * {@link #deserialize(InputStream, Class)} by default.
+   * @param payload Bytes to deserialize
+   * @param offset Offset of the first byte of the payload
+   * @param length Number of bytes of the payload
+   * @param type Target type of deserialization
+   * @param <T> Type of the Object to deserialize
+   * @return Deserialized object
+   */
+  default <T> T deserialize(byte[] payload, int offset, int length, Class<T> type) {
+    return deserialize(new ByteArrayInputStream(payload, offset, length), type);
+  }
+
+  /**
+   * Deserializes the bytes of a ByteBuffer between its position and its limit into an Object of a Well-known type,
+   * leaving its position untouched. Buffers backed by an array go through
+   * {@link #deserialize(byte[], int, int, Class)} and others, such as direct buffers, through
+   * {@link #deserialize(InputStream, Class)}.
+   * @param buffer Buffer to deserialize
+   * @param type Target type of deserialization
+   * @param <T> Type of the Object to deserialize
+   * @return Deserialized object
+   */
+  default <T> T deserialize(ByteBuffer buffer, Class<T> type) {
+    if (buffer.hasArray()) {
+      return deserialize(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), type);
+    }
+    return deserialize(new ByteBufferInputStream(buffer.duplicate()), type);
+  }
+
+  /**
+   * Prepares the serializer for the given types ahead of their first use, e.g. at startup, so that the first call
+   * for each type does not pay for introspection. Does nothing by default.
+   * @param types Types to prepare
+   */
+  default void warmUp(Collection<Class<?>> types) {
+  }
+
+  /**
+   * Retrieves the media type of the payloads produced and consumed by this serializer, declared as the content type
+   * of the request bodies it serializes.
+   * @return media type, <code>application/json</code> by default
+   */
+  default String getContentType() {
+    return "application/json";
+  }
+
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+package com.amazon.ask.model.services;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Adapts blocking service calls to the asynchronous contract of the service interfaces, for implementations that
+ * only provide the blocking calls, such as those written before the asynchronous calls were added.
+ */
+public final class ServiceFutures {
+
+  private ServiceFutures() {
+  }
+
+  /**
+   * Makes a blocking call on the calling thread.
+   * @param call Call to make
+   * @param <T> Type of the result of the call
+   * @return Future completed with the result of the call, or completed exceptionally with the exception it threw
+   */
+  public static <T> CompletableFuture<T> fromCall(Supplier<T> call) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    try {
+      result.complete(call.get());
+    } catch (RuntimeException e) {
+      result.completeExceptionally(e);
+    }
+    return result;
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+package com.amazon.ask.model.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Precompiled representation of an operation path such as <code>/v2/householdlists/{listId}/items/{itemId}</code>.
+ * The path is split once into its literal segments and variable names, and urls are then built in a single pass
+ * into one <code>StringBuilder</code>, percent-encoding path and query values on the fly.
+ */
+final class UrlTemplate {
+
+  private static final ConcurrentMap<String, UrlTemplate> CACHE = new ConcurrentHashMap<>();
+  private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+  private static final int QUERY_CAPACITY_HINT = 64;
+
+  private final String[] literals;
+  private final String[] variables;
+  private final boolean constantQueryPresent;
+  private final int literalLength;
+
+  private UrlTemplate(String path) {
+    List<String> literalList = new ArrayList<>();
+    List<String> variableList = new ArrayList<>();
+    int start = 0;
+    int open = path.indexOf('{');
+    while (open >= 0) {
+      int close = path.indexOf('}', open + 1);
+      if (close < 0) {
+        break;
+      }
+      literalList.add(path.substring(start, open));
+      variableList.add(path.substring(open + 1, close));
+      start = close + 1;
+      open = path.indexOf('{', start);
+    }
+    literalList.add(path.substring(start));
+
+    this.literals = literalList.toArray(new String[0]);
+    this.variables = variableList.toArray(new String[0]);
+    this.constantQueryPresent = path.indexOf('?') >= 0;
+    int length = 0;
+    for (String literal : literals) {
+      length += literal.length();
+    }
+    this.literalLength = length;
+  }
+
+  /**
+   * Returns the precompiled template for the given path, compiling and caching it on first use.
+   * @param path Operation path, optionally containing variables in between {} braces
+   * @return Precompiled template
+   */
+  static UrlTemplate of(final String path) {
+    UrlTemplate template = CACHE.get(path);
+    if (template == null) {
+      template = new UrlTemplate(path);
+      UrlTemplate existing = CACHE.putIfAbsent(path, template);
+      if (existing != null) {
+        template = existing;
+      }
+    }
+    return template;
+  }
+
+  /**
+   * Builds a url from this template.
+   * @param endpoint Endpoint to be sending the api call. A trailing slash is dropped.
+   * @param queryParameters Query parameters to be appended to the url.
+   * @param pathParameters Parameters to be interpolated in the path. Variables without a value are left as is.
+   * @return Built url.
+   */
+  String buildUrl(final String endpoint, final List<Pair<String, String>> queryParameters,
+                  final Map<String, String> pathParameters) {
+    int endpointLength = endpoint.endsWith("/") ? endpoint.length() - 1 : endpoint.length();
+    boolean hasQuery = queryParameters != null && !queryParameters.isEmpty();
+    StringBuilder sb = new StringBuilder(endpointLength + literalLength + variables.length * 16
+            + (hasQuery ? QUERY_CAPACITY_HINT : 0));
+    sb.append(endpoint, 0, endpointLength);
+
+    sb.append(literals[0]);
+    for (int i = 0; i < variables.length; i++) {
+      String value = pathParameters != null ? pathParameters.get(variables[i]) : null;
+      if (value != null) {
+        encode(value, sb);
+      } else {
+        sb.append('{').append(variables[i]).append('}');
+      }
+      sb.append(literals[i + 1]);
+    }
+
+    if (hasQuery) {
+      char separator = constantQueryPresent ? '&' : '?';
+      for (int i = 0; i < queryParameters.size(); i++) {
+        Pair<String, String> param = queryParameters.get(i);
+        sb.append(separator);
+        encode(param.getName(), sb);
+        sb.append('=');
+        encode(param.getValue(), sb);
+        separator = '&';
+      }
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Percent-encodes the UTF-8 bytes of a value into the given builder. Produces the same output as
+   * <code>URLEncoder.encode(value, "UTF-8")</code> with spaces encoded as <code>%20</code> instead of <code>+</code>.
+   * @param value Value to encode
+   * @param sb Builder to append the encoded value to
+   */
+  static void encode(final String value, final StringBuilder sb) {
+    int length = value.length();
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      if (isUnreserved(c)) {
+        sb.append(c);
+      } else if (c < 0x80) {
+        appendEscaped(c, sb);
+      } else if (c < 0x800) {
+        appendEscaped(0xC0 | (c >> 6), sb);
+        appendEscaped(0x80 | (c & 0x3F), sb);
+      } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+        int codePoint = Character.toCodePoint(c, value.charAt(++i));
+        appendEscaped(0xF0 | (codePoint >> 18), sb);
+        appendEscaped(0x80 | ((codePoint >> 12) & 0x3F), sb);
+        appendEscaped(0x80 | ((codePoint >> 6) & 0x3F), sb);
+        appendEscaped(0x80 | (codePoint & 0x3F), sb);
+      } else if (Character.isSurrogate(c)) {
+        // Unpaired surrogates are not encodable in UTF-8 and are replaced the same way the JDK encoder does
+        appendEscaped('?', sb);
+      } else {
+        appendEscaped(0xE0 | (c >> 12), sb);
+        appendEscaped(0x80 | ((c >> 6) & 0x3F), sb);
+        appendEscaped(0x80 | (c & 0x3F), sb);
+      }
+    }
+  }
+
+  private static boolean isUnreserved(final char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+            || c == '-' || c == '_' || c == '.' || c == '*';
+  }
+
+  private static void appendEscaped(final int b, final StringBuilder sb) {
+    sb.append('%').append(HEX_DIGITS[(b >> 4) & 0xF]).append(HEX_DIGITS[b & 0xF]);
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.model.services.lwa;
+
+import com.amazon.ask.model.services.Serializer;
+import com.amazon.ask.model.services.SerializerException;
+import com.amazon.ask.model.services.lwa.model.AccessTokenResponse;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collection;
+
+/**
+ * Serializer reading {@link AccessTokenResponse} bodies with a streaming parser that only knows the four fields
+ * returned by LWA, bypassing data binding. Any other type, including error bodies, is handled by the wrapped
+ * serializer.
+ */
+final class AccessTokenResponseSerializer implements Serializer {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final Serializer delegate;
+
+    AccessTokenResponseSerializer(Serializer delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public <T> String serialize(T object) {
+        return delegate.serialize(object);
+    }
+
+    @Override
+    public <T> void serialize(T object, OutputStream outputStream) {
+        delegate.serialize(object, outputStream);
+    }
+
+    @Override
+    public <T> T deserialize(String payload, Class<T> type) {
+        if (type != AccessTokenResponse.class) {
+            return delegate.deserialize(payload, type);
+        }
+        try (JsonParser parser = JSON_FACTORY.createParser(payload)) {
+            return type.cast(parse(parser));
+        } catch (IOException e) {
+            throw new SerializerException("Deserialization error", e);
+        }
+    }
+
+    @Override
+    public <T> T deserialize(InputStream inputStream, Class<T> type) {
+        if (type != AccessTokenResponse.class) {
+            return delegate.deserialize(inputStream, type);
+        }
+        try (JsonParser parser = JSON_FACTORY.createParser(inputStream)) {
+            return type.cast(parse(parser));
+        } catch (IOException e) {
+            throw new SerializerException("Deserialization error", e);
+        }
+    }
+
+    @Override
+    public void warmUp(Collection<Class<?>> types) {
+        delegate.warmUp(types);
+    }
+
+    static AccessTokenResponse parse(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new SerializerException("Access token response is not a JSON object");
+        }
+        AccessTokenResponse.Builder builder = AccessTokenResponse.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case "access_token":
+                    builder.withAccessToken(parser.getValueAsString());
+                    break;
+                case "expires_in":
+                    builder.withExpiresIn(parser.getValueAsLong());
+                    break;
+                case "scope":
+                    builder.withScope(parser.getValueAsString());
+                    break;
+                case "token_type":
+                    builder.withTokenType(parser.getValueAsString());
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        if (parser.currentToken() != JsonToken.END_OBJECT) {
+            throw new SerializerException("Malformed access token response");
+        }
+        return builder.build();
+    }
+
+}
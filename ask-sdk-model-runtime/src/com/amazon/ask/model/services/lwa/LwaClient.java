@@ -14,36 +14,75 @@
 package com.amazon.ask.model.services.lwa;
 
 import com.amazon.ask.model.services.ApiConfiguration;
+import com.amazon.ask.model.services.AsyncApiClient;
 import com.amazon.ask.model.services.AuthenticationConfiguration;
 import com.amazon.ask.model.services.BaseServiceClient;
-import com.amazon.ask.model.services.Pair;
-import com.amazon.ask.model.services.ServiceClientResponse;
+import com.amazon.ask.model.services.OperationDescriptor;
 import com.amazon.ask.model.services.lwa.model.AccessToken;
-import com.amazon.ask.model.services.lwa.model.AccessTokenRequest;
 import com.amazon.ask.model.services.lwa.model.AccessTokenResponse;
 import com.amazon.ask.model.services.lwa.model.Error;
 import com.amazon.ask.model.services.lwa.model.GrantType;
+import com.amazon.ask.model.services.lwa.store.AccessTokenStore;
+import com.amazon.ask.model.services.lwa.store.AccessTokenStoreStats;
+import com.amazon.ask.model.services.lwa.store.BoundedAccessTokenStore;
+import com.amazon.ask.model.services.util.JacksonSerializer;
+import org.slf4j.Logger;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
+import static org.slf4j.LoggerFactory.getLogger;
+
 /**
  * Client for calling Amazon LWA to retrieve access tokens.
+ *
+ * Only one token request is in flight per scope at any time: concurrent callers needing a new token wait for the
+ * same request instead of each calling LWA. A cached token entering the refresh ahead window is refreshed in the
+ * background while callers keep using it, so that in steady state callers do not wait for LWA.
+ *
+ * When an {@link AccessTokenStore} is configured, it is consulted before requesting a token from LWA and updated
+ * with every new token, so that tokens can be reused across LwaClient instances, process restarts or hosts.
  */
 public class LwaClient extends BaseServiceClient {
 
+    private static Logger logger = getLogger(LwaClient.class);
+
     private final AuthenticationConfiguration authenticationConfiguration;
-    private final Map<String, AccessToken> scopeTokenStore;
+    private final BoundedAccessTokenStore scopeTokenStore;
+    private final Map<String, CompletableFuture<AccessToken>> inFlightRefreshes;
+    private final String cacheKeyPrefix;
+    private final long refreshAheadMillis;
+    private final AccessTokenStore accessTokenStore;
     private final String endpoint;
     private final GrantType grantType;
+    private final byte[] credentialsPrefix;
+    private final byte[] refreshTokenBody;
 
     private static final long EXPIRY_OFFSET_MILLIS = 60000;
+    private static final long DEFAULT_REFRESH_AHEAD_MILLIS = 300000;
+    private static final int DEFAULT_MAX_CACHED_TOKENS = 1024;
+    private static final byte[] SCOPE_PARAMETER = "&scope=".getBytes(StandardCharsets.US_ASCII);
     private static final String DEFAULT_LWA_ENDPOINT = "https://api.amazon.com";
     private static final String DEFAULT_API_ENDPOINT = "https://api.amazonalexa.com";
+    private static final OperationDescriptor<AccessTokenResponse> GENERATE_ACCESS_TOKEN = OperationDescriptor
+            .builder("POST", "/auth/O2/token", AccessTokenResponse.class)
+            .withHeader("Content-Type", "application/x-www-form-urlencoded")
+            .withResponse(AccessTokenResponse.class, 200, "Token request sent.")
+            .withResponse(Error.class, 400, "Bad Request")
+            .withResponse(Error.class, 401, "Authentication Failed")
+            .withResponse(Error.class, 500, "Internal Server Error")
+            .withRawRequest(true)
+            .build();
 
     private LwaClient(Builder builder) {
         super(builder.apiConfiguration);
@@ -51,10 +90,32 @@ public class LwaClient extends BaseServiceClient {
             throw new IllegalArgumentException("AuthenticationConfiguration must be provided");
         }
         this.authenticationConfiguration = builder.authenticationConfiguration;
-        this.scopeTokenStore = new ConcurrentHashMap<>();
+        if (builder.sharedTokenCache != null) {
+            this.scopeTokenStore = builder.sharedTokenCache;
+            this.inFlightRefreshes = builder.sharedInFlightRefreshes;
+            this.cacheKeyPrefix = builder.cacheKeyPrefix;
+        } else {
+            this.scopeTokenStore = new BoundedAccessTokenStore(builder.maxCachedTokens != null
+                    ? builder.maxCachedTokens : DEFAULT_MAX_CACHED_TOKENS);
+            this.inFlightRefreshes = new ConcurrentHashMap<>();
+            this.cacheKeyPrefix = null;
+        }
+        // Refreshing ahead with a blocking ApiClient would hold the request thread, tokens are then only refreshed on demand
+        this.refreshAheadMillis = !(apiClient instanceof AsyncApiClient) ? 0
+                : builder.refreshAheadMillis != null ? builder.refreshAheadMillis : DEFAULT_REFRESH_AHEAD_MILLIS;
+        this.accessTokenStore = builder.accessTokenStore;
         final String lwaEndpoint =  builder.apiConfiguration.getApiEndpoint();
         this.endpoint = lwaEndpoint != null && !lwaEndpoint.equals(DEFAULT_API_ENDPOINT) ? lwaEndpoint : "https://api.amazon.com";
         this.grantType = builder.grantType != null ? builder.grantType : GrantType.CLIENT_CREDENTIALS;
+        String credentials = "grant_type=" + formEncode(grantType.getValue())
+                + "&client_id=" + formEncode(authenticationConfiguration.getClientId())
+                + "&client_secret=" + formEncode(authenticationConfiguration.getClientSecret());
+        this.credentialsPrefix = credentials.getBytes(StandardCharsets.US_ASCII);
+        this.refreshTokenBody = (credentials + "&refresh_token=" + formEncode(authenticationConfiguration.getRefreshToken()))
+                .getBytes(StandardCharsets.US_ASCII);
+        if (serializer instanceof JacksonSerializer) {
+            this.serializer = new AccessTokenResponseSerializer(serializer);
+        }
     }
 
     public static Builder builder() { return new Builder(); }
@@ -76,43 +137,268 @@ public class LwaClient extends BaseServiceClient {
         if (scope == null || scope.isEmpty()) {
             throw new IllegalArgumentException("Scope must be provided");
         }
-        AccessToken token = scopeTokenStore.get(scope);
-        if (token != null && token.getExpiry() > System.currentTimeMillis() + EXPIRY_OFFSET_MILLIS) {
+        String cacheKey = cacheKeyPrefix != null ? cacheKeyPrefix + scope : scope;
+        long currentEpochMillis = System.currentTimeMillis();
+        AccessToken token = scopeTokenStore.get(cacheKey);
+        if (isValid(token, currentEpochMillis)) {
+            if (token.getExpiry() <= currentEpochMillis + EXPIRY_OFFSET_MILLIS + refreshAheadMillis) {
+                refreshAccessTokenInBackground(scope, cacheKey);
+            }
             return token.getToken();
         }
-        long currentEpochMillis = System.currentTimeMillis();
-        AccessTokenResponse lwaResponse = generateAccessToken(AccessTokenRequest.builder()
-                .withScope(scope)
-                .withClientId(authenticationConfiguration.getClientId())
-                .withClientSecret(authenticationConfiguration.getClientSecret())
-                .withRefreshToken(authenticationConfiguration.getRefreshToken())
-                .build());
-        scopeTokenStore.put(scope, new AccessToken(lwaResponse.getAccessToken(),
-                currentEpochMillis + TimeUnit.SECONDS.toMillis(lwaResponse.getExpiresIn())));
-        return lwaResponse.getAccessToken();
-    }
-
-    private AccessTokenResponse generateAccessToken(AccessTokenRequest request) {
-        List<Pair<String, String>> queryParams = new ArrayList<>();
-        Map<String, String> pathParams = new HashMap<>();
-        List<Pair<String, String>> headerParams = new ArrayList<>();
-        headerParams.add(new Pair<>("Content-Type", "application/x-www-form-urlencoded"));
-        String payload = "grant_type=" + grantType.getValue() + "&client_id=" + request.getClientId() +
-                "&client_secret=" + request.getClientSecret();
-        if (request.getScope().equals(GrantType.REFRESH_TOKEN.name())) {
-            payload += "&refresh_token=" + request.getRefreshToken();
+        return refreshAccessToken(scope, cacheKey).getToken();
+    }
+
+    /**
+     * Retrieves an access token using the configured client id, client secret, and refresh token, without blocking
+     * the calling thread on LWA when the ApiClient is an {@link AsyncApiClient}.
+     * @return future completed with the retrieved access token, or completed exceptionally when it cannot be
+     * retrieved
+     */
+    public CompletableFuture<String> getAccessTokenForRefreshTokenAsync() {
+        return getAccessTokenForScopeAsync(GrantType.REFRESH_TOKEN.toString());
+    }
+
+    /**
+     * Retrieves an access token for the given scope, using the configured client id and client secret, without
+     * blocking the calling thread on LWA when the ApiClient is an {@link AsyncApiClient}.
+     * @param scope target scope
+     * @return future completed with the retrieved access token, or completed exceptionally when it cannot be
+     * retrieved
+     */
+    public CompletableFuture<String> getAccessTokenForScopeAsync(String scope) {
+        try {
+            if (scope == null || scope.isEmpty()) {
+                throw new IllegalArgumentException("Scope must be provided");
+            }
+            String cacheKey = cacheKeyPrefix != null ? cacheKeyPrefix + scope : scope;
+            long currentEpochMillis = System.currentTimeMillis();
+            AccessToken token = scopeTokenStore.get(cacheKey);
+            if (isValid(token, currentEpochMillis)) {
+                if (token.getExpiry() <= currentEpochMillis + EXPIRY_OFFSET_MILLIS + refreshAheadMillis) {
+                    refreshAccessTokenInBackground(scope, cacheKey);
+                }
+                return CompletableFuture.completedFuture(token.getToken());
+            }
+            return refreshAccessTokenAsync(scope, cacheKey).thenApply(AccessToken::getToken);
+        } catch (RuntimeException e) {
+            CompletableFuture<String> result = new CompletableFuture<>();
+            result.completeExceptionally(e);
+            return result;
+        }
+    }
+
+    /**
+     * Retrieves the statistics of the tokens cached by this client, or by all clients of its pool when it was
+     * obtained from a {@link LwaClientPool}.
+     * @return statistics of the token cache
+     */
+    public AccessTokenStoreStats getTokenCacheStats() {
+        return scopeTokenStore.getStats();
+    }
+
+    AuthenticationConfiguration getAuthenticationConfiguration() {
+        return authenticationConfiguration;
+    }
+
+    private AccessToken refreshAccessToken(String scope, String cacheKey) {
+        CompletableFuture<AccessToken> refresh = new CompletableFuture<>();
+        CompletableFuture<AccessToken> inFlight = inFlightRefreshes.putIfAbsent(cacheKey, refresh);
+        if (inFlight != null) {
+            return awaitRefresh(inFlight);
+        }
+        try {
+            long currentEpochMillis = System.currentTimeMillis();
+            AccessToken token = scopeTokenStore.get(cacheKey);
+            if (!isValid(token, currentEpochMillis)) {
+                token = loadStoredToken(scope);
+            }
+            if (!isValid(token, currentEpochMillis)) {
+                token = toAccessToken(generateAccessToken(scope), currentEpochMillis);
+                storeToken(scope, token);
+            }
+            completeRefresh(cacheKey, refresh, token, null);
+            return token;
+        } catch (RuntimeException e) {
+            completeRefresh(cacheKey, refresh, null, e);
+            throw e;
+        }
+    }
+
+    private CompletableFuture<AccessToken> refreshAccessTokenAsync(String scope, String cacheKey) {
+        CompletableFuture<AccessToken> refresh = new CompletableFuture<>();
+        CompletableFuture<AccessToken> inFlight = inFlightRefreshes.putIfAbsent(cacheKey, refresh);
+        if (inFlight != null) {
+            return inFlight;
+        }
+        try {
+            long currentEpochMillis = System.currentTimeMillis();
+            AccessToken token = scopeTokenStore.get(cacheKey);
+            if (!isValid(token, currentEpochMillis)) {
+                token = loadStoredToken(scope);
+            }
+            if (isValid(token, currentEpochMillis)) {
+                completeRefresh(cacheKey, refresh, token, null);
+            } else {
+                generateAccessTokenAsync(scope, cacheKey, refresh, currentEpochMillis);
+            }
+        } catch (RuntimeException e) {
+            completeRefresh(cacheKey, refresh, null, e);
+        }
+        return refresh;
+    }
+
+    private void refreshAccessTokenInBackground(String scope, String cacheKey) {
+        CompletableFuture<AccessToken> refresh = new CompletableFuture<>();
+        if (inFlightRefreshes.putIfAbsent(cacheKey, refresh) != null) {
+            return;
+        }
+        try {
+            generateAccessTokenAsync(scope, cacheKey, refresh, System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            completeRefresh(cacheKey, refresh, null, e);
+        }
+    }
+
+    private void generateAccessTokenAsync(String scope, String cacheKey, CompletableFuture<AccessToken> refresh,
+                                          long currentEpochMillis) {
+        generateAccessTokenAsync(scope).whenComplete((response, error) -> {
+            if (error != null) {
+                completeRefresh(cacheKey, refresh, null, error);
+                return;
+            }
+            try {
+                AccessToken token = toAccessToken(response, currentEpochMillis);
+                storeToken(scope, token);
+                completeRefresh(cacheKey, refresh, token, null);
+            } catch (RuntimeException e) {
+                completeRefresh(cacheKey, refresh, null, e);
+            }
+        });
+    }
+
+    private void completeRefresh(String cacheKey, CompletableFuture<AccessToken> refresh, AccessToken token, Throwable error) {
+        if (token != null) {
+            scopeTokenStore.put(cacheKey, token);
+        }
+        inFlightRefreshes.remove(cacheKey, refresh);
+        if (error != null) {
+            refresh.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error);
         } else {
-            payload += "&scope=" + request.getScope();
+            refresh.complete(token);
+        }
+    }
+
+    private AccessToken loadStoredToken(String scope) {
+        if (accessTokenStore == null) {
+            return null;
         }
-        List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-        serviceResponseDefinitions.add(new ServiceClientResponse(AccessTokenResponse.class, 200, "Token request sent."));
-        serviceResponseDefinitions.add(new ServiceClientResponse(Error.class, 400, "Bad Request"));
-        serviceResponseDefinitions.add(new ServiceClientResponse(Error.class, 401, "Authentication Failed"));
-        serviceResponseDefinitions.add(new ServiceClientResponse(Error.class, 500, "Internal Server Error"));
+        try {
+            return accessTokenStore.get(getStoreKey(scope));
+        } catch (RuntimeException e) {
+            logger.warn("Unable to read access token from store", e);
+            return null;
+        }
+    }
+
+    private void storeToken(String scope, AccessToken token) {
+        if (accessTokenStore == null) {
+            return;
+        }
+        try {
+            accessTokenStore.put(getStoreKey(scope), token);
+        } catch (RuntimeException e) {
+            logger.warn("Unable to write access token to store", e);
+        }
+    }
 
-        String lwaEndpoint = endpoint != null ? endpoint : DEFAULT_LWA_ENDPOINT;
-        return (AccessTokenResponse)invoke("POST", lwaEndpoint, "/auth/O2/token",
-                queryParams, headerParams, pathParams, serviceResponseDefinitions, payload, AccessTokenResponse.class, true);
+    private String getStoreKey(String scope) {
+        return getCredentialKey(authenticationConfiguration) + ":" + scope;
+    }
+
+    /**
+     * Builds the key identifying a set of credentials: the client id, followed by digests of the client secret and,
+     * if any, of the refresh token, so that tokens are only shared between callers presenting the same credentials.
+     * @param authenticationConfiguration Credentials of the client
+     * @return key of the credentials
+     */
+    static String getCredentialKey(AuthenticationConfiguration authenticationConfiguration) {
+        String clientSecret = authenticationConfiguration.getClientSecret();
+        String key = authenticationConfiguration.getClientId() + ":" + (clientSecret != null ? sha256(clientSecret) : "");
+        String refreshToken = authenticationConfiguration.getRefreshToken();
+        return refreshToken != null ? key + ":" + sha256(refreshToken) : key;
+    }
+
+    static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static AccessToken awaitRefresh(CompletableFuture<AccessToken> refresh) {
+        try {
+            return refresh.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            while (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+    }
+
+    private static boolean isValid(AccessToken token, long currentEpochMillis) {
+        return token != null && token.getExpiry() > currentEpochMillis + EXPIRY_OFFSET_MILLIS;
+    }
+
+    private static AccessToken toAccessToken(AccessTokenResponse lwaResponse, long requestEpochMillis) {
+        return new AccessToken(lwaResponse.getAccessToken(),
+                requestEpochMillis + TimeUnit.SECONDS.toMillis(lwaResponse.getExpiresIn()));
+    }
+
+    private AccessTokenResponse generateAccessToken(String scope) {
+        return executeRequest(GENERATE_ACCESS_TOKEN, getLwaEndpoint(), Collections.emptyList(), Collections.emptyList(),
+                Collections.emptyMap(), buildPayload(scope)).getResponse();
+    }
+
+    private CompletableFuture<AccessTokenResponse> generateAccessTokenAsync(String scope) {
+        return executeRequestAsync(GENERATE_ACCESS_TOKEN, getLwaEndpoint(), Collections.emptyList(),
+                Collections.emptyList(), Collections.emptyMap(), buildPayload(scope))
+                .thenApply(response -> response.getResponse());
+    }
+
+    private byte[] buildPayload(String scope) {
+        if (scope.equals(GrantType.REFRESH_TOKEN.name())) {
+            return refreshTokenBody;
+        }
+        byte[] encodedScope = formEncode(scope).getBytes(StandardCharsets.US_ASCII);
+        byte[] payload = new byte[credentialsPrefix.length + SCOPE_PARAMETER.length + encodedScope.length];
+        System.arraycopy(credentialsPrefix, 0, payload, 0, credentialsPrefix.length);
+        System.arraycopy(SCOPE_PARAMETER, 0, payload, credentialsPrefix.length, SCOPE_PARAMETER.length);
+        System.arraycopy(encodedScope, 0, payload, credentialsPrefix.length + SCOPE_PARAMETER.length, encodedScope.length);
+        return payload;
+    }
+
+    private static String formEncode(String value) {
+        if (value == null) {
+            return "";
+        }
+        try {
+            return URLEncoder.encode(value, "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String getLwaEndpoint() {
+        return endpoint != null ? endpoint : DEFAULT_LWA_ENDPOINT;
     }
 
     public static final class Builder {
@@ -120,6 +406,12 @@ public class LwaClient extends BaseServiceClient {
         private AuthenticationConfiguration authenticationConfiguration;
         private ApiConfiguration apiConfiguration;
         private GrantType grantType;
+        private Long refreshAheadMillis;
+        private AccessTokenStore accessTokenStore;
+        private Integer maxCachedTokens;
+        private BoundedAccessTokenStore sharedTokenCache;
+        private Map<String, CompletableFuture<AccessToken>> sharedInFlightRefreshes;
+        private String cacheKeyPrefix;
 
         public Builder withAuthenticationConfiguration(AuthenticationConfiguration authenticationConfiguration) {
             this.authenticationConfiguration = authenticationConfiguration;
@@ -136,6 +428,48 @@ public class LwaClient extends BaseServiceClient {
             return this;
         }
 
+        /**
+         * Sets how long before a cached token stops being used it is refreshed in the background. Only applies when the
+         * ApiClient is an {@link AsyncApiClient}: with a blocking ApiClient, tokens are refreshed on demand.
+         * @param refreshAheadMillis Refresh ahead window in milliseconds, or 0 to only refresh on demand.
+         *                           Defaults to 300000.
+         * @return This instance to continue the build process
+         */
+        public Builder withRefreshAheadMillis(long refreshAheadMillis) {
+            this.refreshAheadMillis = refreshAheadMillis;
+            return this;
+        }
+
+        /**
+         * Sets the store consulted before requesting a token from LWA and updated with every new token.
+         * @param accessTokenStore Access token store. Tokens are only cached by this client when none is set.
+         * @return This instance to continue the build process
+         */
+        public Builder withAccessTokenStore(AccessTokenStore accessTokenStore) {
+            this.accessTokenStore = accessTokenStore;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of tokens, one per scope, cached by this client. The least recently used tokens
+         * are evicted beyond that number.
+         * @param maxCachedTokens Maximum number of cached tokens. Defaults to 1024.
+         * @return This instance to continue the build process
+         */
+        public Builder withMaxCachedTokens(int maxCachedTokens) {
+            this.maxCachedTokens = maxCachedTokens;
+            return this;
+        }
+
+        Builder withSharedTokenCache(BoundedAccessTokenStore sharedTokenCache,
+                                     Map<String, CompletableFuture<AccessToken>> sharedInFlightRefreshes,
+                                     String cacheKeyPrefix) {
+            this.sharedTokenCache = sharedTokenCache;
+            this.sharedInFlightRefreshes = sharedInFlightRefreshes;
+            this.cacheKeyPrefix = cacheKeyPrefix;
+            return this;
+        }
+
         public LwaClient build() {
             return new LwaClient(this);
         }
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.model.services.lwa;
+
+import com.amazon.ask.model.services.ApiConfiguration;
+import com.amazon.ask.model.services.AuthenticationConfiguration;
+import com.amazon.ask.model.services.lwa.model.AccessToken;
+import com.amazon.ask.model.services.lwa.model.GrantType;
+import com.amazon.ask.model.services.lwa.store.AccessTokenStore;
+import com.amazon.ask.model.services.lwa.store.AccessTokenStoreStats;
+import com.amazon.ask.model.services.lwa.store.BoundedAccessTokenStore;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of {@link LwaClient} instances for applications retrieving tokens for many sets of credentials, such as
+ * hosts of many skills.
+ *
+ * Clients are keyed by client id and digests of the client secret and, when one is configured, of the refresh token.
+ * Tokens are cached, and kept in the {@link AccessTokenStore} when one is set, under the key of the client that
+ * retrieved them, so they are only served to callers presenting the same credentials. All clients of a pool share the
+ * pool's {@link ApiConfiguration}, and with it the transport that also runs background refreshes, as well as a
+ * single bounded token cache and a single map of in-flight refreshes. Each set of credentials therefore costs a
+ * handful of small objects and its cached tokens, while single-flight refresh still applies per credentials and
+ * scope. A rotated client secret gets a client of its own, with tokens of its own; the client of the former secret
+ * can be released with {@link #removeClient(AuthenticationConfiguration)}.
+ */
+public final class LwaClientPool {
+
+    private static final int DEFAULT_MAX_CACHED_TOKENS = 8192;
+
+    private final ApiConfiguration apiConfiguration;
+    private final GrantType grantType;
+    private final Long refreshAheadMillis;
+    private final AccessTokenStore accessTokenStore;
+    private final BoundedAccessTokenStore tokenCache;
+    private final Map<String, CompletableFuture<AccessToken>> inFlightRefreshes = new ConcurrentHashMap<>();
+    private final Map<String, LwaClient> clients = new ConcurrentHashMap<>();
+
+    private LwaClientPool(Builder builder) {
+        this.apiConfiguration = builder.apiConfiguration;
+        this.grantType = builder.grantType;
+        this.refreshAheadMillis = builder.refreshAheadMillis;
+        this.accessTokenStore = builder.accessTokenStore;
+        this.tokenCache = new BoundedAccessTokenStore(builder.maxCachedTokens);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Retrieves the client for the given credentials, creating it on first use.
+     * @param authenticationConfiguration Credentials of the client
+     * @return Client for the credentials
+     */
+    public LwaClient getClient(AuthenticationConfiguration authenticationConfiguration) {
+        if (authenticationConfiguration == null || authenticationConfiguration.getClientId() == null) {
+            throw new IllegalArgumentException("AuthenticationConfiguration with a client id must be provided");
+        }
+        String key = getClientKey(authenticationConfiguration);
+        LwaClient client = clients.get(key);
+        if (client != null) {
+            return client;
+        }
+        return clients.computeIfAbsent(key, clientKey -> newClient(authenticationConfiguration, clientKey));
+    }
+
+    /**
+     * Retrieves an access token for the given scope and credentials.
+     * @param authenticationConfiguration Credentials of the client
+     * @param scope target scope
+     * @return retrieved access token
+     */
+    public String getAccessTokenForScope(AuthenticationConfiguration authenticationConfiguration, String scope) {
+        return getClient(authenticationConfiguration).getAccessTokenForScope(scope);
+    }
+
+    /**
+     * Retrieves an access token using the given client id, client secret, and refresh token.
+     * @param authenticationConfiguration Credentials of the client
+     * @return retrieved access token
+     */
+    public String getAccessTokenForRefreshToken(AuthenticationConfiguration authenticationConfiguration) {
+        return getClient(authenticationConfiguration).getAccessTokenForRefreshToken();
+    }
+
+    /**
+     * Removes the client for the given credentials. Tokens it cached are evicted from the shared cache over time.
+     * @param authenticationConfiguration Credentials of the client
+     */
+    public void removeClient(AuthenticationConfiguration authenticationConfiguration) {
+        clients.remove(getClientKey(authenticationConfiguration));
+    }
+
+    /**
+     * Retrieves the number of clients held by this pool.
+     * @return number of clients
+     */
+    public int size() {
+        return clients.size();
+    }
+
+    /**
+     * Retrieves the statistics of the token cache shared by the clients of this pool.
+     * @return statistics of the token cache
+     */
+    public AccessTokenStoreStats getTokenCacheStats() {
+        return tokenCache.getStats();
+    }
+
+    private LwaClient newClient(AuthenticationConfiguration authenticationConfiguration, String clientKey) {
+        LwaClient.Builder builder = LwaClient.builder()
+                .withApiConfiguration(apiConfiguration)
+                .withAuthenticationConfiguration(authenticationConfiguration)
+                .withGrantType(grantType)
+                .withAccessTokenStore(accessTokenStore)
+                .withSharedTokenCache(tokenCache, inFlightRefreshes, clientKey + " ");
+        if (refreshAheadMillis != null) {
+            builder.withRefreshAheadMillis(refreshAheadMillis);
+        }
+        return builder.build();
+    }
+
+    private static String getClientKey(AuthenticationConfiguration authenticationConfiguration) {
+        return LwaClient.getCredentialKey(authenticationConfiguration);
+    }
+
+    /**
+     * Helper class that builds an instance of a LwaClientPool.
+     */
+    public static final class Builder {
+        private ApiConfiguration apiConfiguration;
+        private GrantType grantType;
+        private Long refreshAheadMillis;
+        private AccessTokenStore accessTokenStore;
+        private int maxCachedTokens = DEFAULT_MAX_CACHED_TOKENS;
+
+        private Builder() {}
+
+        /**
+         * Sets the configuration, including the ApiClient and Serializer, shared by all clients of the pool.
+         * @param apiConfiguration Api configuration
+         * @return This instance to continue the build process
+         */
+        public Builder withApiConfiguration(ApiConfiguration apiConfiguration) {
+            this.apiConfiguration = apiConfiguration;
+            return this;
+        }
+
+        /**
+         * Sets the grant type used by all clients of the pool.
+         * @param grantType Grant type. Defaults to client credentials.
+         * @return This instance to continue the build process
+         */
+        public Builder withGrantType(GrantType grantType) {
+            this.grantType = grantType;
+            return this;
+        }
+
+        /**
+         * Sets how long before a cached token stops being used it is refreshed in the background.
+         * @param refreshAheadMillis Refresh ahead window in milliseconds, or 0 to only refresh on demand.
+         * @return This instance to continue the build process
+         */
+        public Builder withRefreshAheadMillis(long refreshAheadMillis) {
+            this.refreshAheadMillis = refreshAheadMillis;
+            return this;
+        }
+
+        /**
+         * Sets the store consulted by all clients of the pool before requesting a token from LWA.
+         * @param accessTokenStore Access token store
+         * @return This instance to continue the build process
+         */
+        public Builder withAccessTokenStore(AccessTokenStore accessTokenStore) {
+            this.accessTokenStore = accessTokenStore;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of tokens cached for all clients of the pool together.
+         * @param maxCachedTokens Maximum number of cached tokens. Defaults to 8192.
+         * @return This instance to continue the build process
+         */
+        public Builder withMaxCachedTokens(int maxCachedTokens) {
+            this.maxCachedTokens = maxCachedTokens;
+            return this;
+        }
+
+        /**
+         * Builds the <code>LwaClientPool</code> instance with the values previously provided.
+         * @return New <code>LwaClientPool</code> instance
+         */
+        public LwaClientPool build() {
+            if (apiConfiguration == null) {
+                throw new IllegalArgumentException("ApiConfiguration must be provided");
+            }
+            return new LwaClientPool(this);
+        }
+    }
+
+}
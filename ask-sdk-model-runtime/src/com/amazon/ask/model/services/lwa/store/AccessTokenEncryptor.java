@@ -0,0 +1,36 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.model.services.lwa.store;
+
+/**
+ * Encrypts access tokens before a {@link KeyValueAccessTokenStore} writes them to its {@link KeyValueStore}, and
+ * decrypts them when read back.
+ */
+public interface AccessTokenEncryptor {
+
+    /**
+     * Encrypts a serialized access token.
+     * @param plaintext Serialized access token
+     * @return Encrypted access token
+     */
+    byte[] encrypt(byte[] plaintext);
+
+    /**
+     * Decrypts a serialized access token previously encrypted by {@link #encrypt}.
+     * @param ciphertext Encrypted access token
+     * @return Serialized access token
+     */
+    byte[] decrypt(byte[] ciphertext);
+
+}
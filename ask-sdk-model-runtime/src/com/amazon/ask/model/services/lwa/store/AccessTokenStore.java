@@ -0,0 +1,50 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.model.services.lwa.store;
+
+import com.amazon.ask.model.services.lwa.model.AccessToken;
+
+/**
+ * Storage for LWA access tokens, consulted by the LwaClient before requesting a new token from LWA and updated
+ * whenever a new token is retrieved. Implementations backed by storage outlasting the JVM or shared between hosts
+ * let a new process reuse a token instead of paying for an LWA round trip.
+ *
+ * Keys are scoped to the credentials of the client: the LwaClient builds them from the client id, digests of the
+ * client secret and refresh token, and the scope, so a caller presenting another secret for the same client id
+ * does not get the stored tokens. The store itself does not authenticate readers: anyone able to read the underlying
+ * storage can read the tokens, see {@link AccessTokenEncryptor}.
+ */
+public interface AccessTokenStore {
+
+    /**
+     * Retrieves the token stored under the given key. Expired tokens are not returned.
+     * @param key Key of the token, identifying the credentials and the scope it was issued for
+     * @return Stored token, or null if there is none or it has expired
+     */
+    AccessToken get(String key);
+
+    /**
+     * Stores a token under the given key, replacing any previous token.
+     * @param key Key of the token, identifying the credentials and the scope it was issued for
+     * @param token Token to store
+     */
+    void put(String key, AccessToken token);
+
+    /**
+     * Removes the token stored under the given key, if any.
+     * @param key Key of the token
+     */
+    void remove(String key);
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.model.services.lwa.store;
+
+/**
+ * Snapshot of the statistics of a {@link BoundedAccessTokenStore}.
+ */
+public final class AccessTokenStoreStats {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long expirationCount;
+    private final int size;
+
+    AccessTokenStoreStats(long hitCount, long missCount, long evictionCount, long expirationCount, int size) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.expirationCount = expirationCount;
+        this.size = size;
+    }
+
+    /**
+     * Returns the number of reads that found a token.
+     * @return number of hits
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of reads that found no token or an expired one.
+     * @return number of misses
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of tokens evicted to keep the store within its capacity.
+     * @return number of evictions
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Returns the number of tokens removed because they had expired.
+     * @return number of expirations
+     */
+    public long getExpirationCount() {
+        return expirationCount;
+    }
+
+    /**
+     * Returns the number of tokens held when the snapshot was taken.
+     * @return number of tokens
+     */
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return "AccessTokenStoreStats{hitCount=" + hitCount + ", missCount=" + missCount + ", evictionCount="
+                + evictionCount + ", expirationCount=" + expirationCount + ", size=" + size + "}";
+    }
+
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.model.services.lwa.store;
+
+import com.amazon.ask.model.services.lwa.model.AccessToken;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory {@link AccessTokenStore} holding at most a given number of tokens.
+ *
+ * Reads are lock free: they look the token up in a concurrent map and mark it as referenced. Writes are
+ * serialized. Each write first drops the tokens that have expired, tracked in expiry order, and then evicts tokens
+ * with the CLOCK algorithm while the store is over capacity. CLOCK gives tokens referenced since the hand last
+ * passed them a second chance, which approximates LRU without reordering anything on reads. Hits, misses,
+ * evictions and expirations are counted and reported by {@link #getStats()}.
+ */
+public final class BoundedAccessTokenStore implements AccessTokenStore {
+
+    private static final Comparator<Entry> EXPIRY_ORDER = Comparator.<Entry>comparingLong(entry -> entry.token.getExpiry())
+            .thenComparingLong(entry -> entry.sequence);
+
+    private final int maxEntries;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ArrayDeque<Entry> clock = new ArrayDeque<>();
+    private final TreeSet<Entry> expiryOrder = new TreeSet<>(EXPIRY_ORDER);
+    private final Object writeLock = new Object();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private long sequence;
+
+    /**
+     * Constructs a store holding at most the given number of tokens.
+     * @param maxEntries Maximum number of tokens
+     */
+    public BoundedAccessTokenStore(int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Max entries must be at least 1");
+        }
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public AccessToken get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.token.getExpiry() <= System.currentTimeMillis()) {
+            synchronized (writeLock) {
+                if (entries.remove(key, entry)) {
+                    detach(entry);
+                    expirations.increment();
+                }
+            }
+            misses.increment();
+            return null;
+        }
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        hits.increment();
+        return entry.token;
+    }
+
+    @Override
+    public void put(String key, AccessToken token) {
+        synchronized (writeLock) {
+            purgeExpired(System.currentTimeMillis());
+            Entry entry = new Entry(key, token, ++sequence);
+            Entry previous = entries.put(key, entry);
+            if (previous != null) {
+                detach(previous);
+            }
+            expiryOrder.add(entry);
+            clock.addLast(entry);
+            while (entries.size() > maxEntries) {
+                evict();
+            }
+            if (clock.size() > 2 * entries.size() + 16) {
+                clock.removeIf(candidate -> candidate.removed);
+            }
+        }
+    }
+
+    @Override
+    public void remove(String key) {
+        synchronized (writeLock) {
+            Entry entry = entries.remove(key);
+            if (entry != null) {
+                detach(entry);
+            }
+        }
+    }
+
+    /**
+     * Retrieves a snapshot of the statistics of this store.
+     * @return Statistics of this store
+     */
+    public AccessTokenStoreStats getStats() {
+        return new AccessTokenStoreStats(hits.sum(), misses.sum(), evictions.sum(), expirations.sum(), entries.size());
+    }
+
+    private void purgeExpired(long currentEpochMillis) {
+        while (!expiryOrder.isEmpty() && expiryOrder.first().token.getExpiry() <= currentEpochMillis) {
+            Entry entry = expiryOrder.pollFirst();
+            entry.removed = true;
+            entries.remove(entry.key, entry);
+            expirations.increment();
+        }
+    }
+
+    private void evict() {
+        while (true) {
+            Entry entry = clock.pollFirst();
+            if (entry.removed) {
+                continue;
+            }
+            if (entry.referenced) {
+                entry.referenced = false;
+                clock.addLast(entry);
+                continue;
+            }
+            entries.remove(entry.key, entry);
+            detach(entry);
+            evictions.increment();
+            return;
+        }
+    }
+
+    private void detach(Entry entry) {
+        entry.removed = true;
+        expiryOrder.remove(entry);
+    }
+
+    private static final class Entry {
+        private final String key;
+        private final AccessToken token;
+        private final long sequence;
+        private volatile boolean referenced;
+        private boolean removed;
+
+        private Entry(String key, AccessToken token, long sequence) {
+            this.key = key;
+            this.token = token;
+            this.sequence = sequence;
+        }
+    }
+
+}
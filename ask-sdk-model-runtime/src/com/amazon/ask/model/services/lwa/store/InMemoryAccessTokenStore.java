@@ -0,0 +1,49 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.model.services.lwa.store;
+
+import com.amazon.ask.model.services.lwa.model.AccessToken;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link AccessTokenStore} keeping tokens in memory, which can be shared by several LwaClient instances of the same
+ * JVM. Expired tokens are removed when read.
+ */
+public class InMemoryAccessTokenStore implements AccessTokenStore {
+
+    private final Map<String, AccessToken> tokens = new ConcurrentHashMap<>();
+
+    @Override
+    public AccessToken get(String key) {
+        AccessToken token = tokens.get(key);
+        if (token != null && token.getExpiry() <= System.currentTimeMillis()) {
+            tokens.remove(key, token);
+            return null;
+        }
+        return token;
+    }
+
+    @Override
+    public void put(String key, AccessToken token) {
+        tokens.put(key, token);
+    }
+
+    @Override
+    public void remove(String key) {
+        tokens.remove(key);
+    }
+
+}
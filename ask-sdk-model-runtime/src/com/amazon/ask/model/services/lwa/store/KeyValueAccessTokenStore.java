@@ -0,0 +1,133 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.model.services.lwa.store;
+
+import com.amazon.ask.model.services.lwa.model.AccessToken;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link AccessTokenStore} writing tokens to a {@link KeyValueStore}, optionally encrypted. Tokens are serialized
+ * as a version byte, the expiry and the UTF-8 token. Values that are expired, cannot be decrypted or cannot be
+ * decoded are deleted and reported as missing.
+ */
+public final class KeyValueAccessTokenStore implements AccessTokenStore {
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 1 + Long.BYTES;
+
+    private final KeyValueStore keyValueStore;
+    private final AccessTokenEncryptor encryptor;
+
+    private KeyValueAccessTokenStore(Builder builder) {
+        this.keyValueStore = builder.keyValueStore;
+        this.encryptor = builder.encryptor;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public AccessToken get(String key) {
+        byte[] value = keyValueStore.get(key);
+        if (value == null) {
+            return null;
+        }
+        AccessToken token;
+        try {
+            token = decode(encryptor != null ? encryptor.decrypt(value) : value);
+        } catch (RuntimeException e) {
+            token = null;
+        }
+        if (token == null || token.getExpiry() <= System.currentTimeMillis()) {
+            keyValueStore.delete(key);
+            return null;
+        }
+        return token;
+    }
+
+    @Override
+    public void put(String key, AccessToken token) {
+        byte[] value = encode(token);
+        keyValueStore.put(key, encryptor != null ? encryptor.encrypt(value) : value, token.getExpiry());
+    }
+
+    @Override
+    public void remove(String key) {
+        keyValueStore.delete(key);
+    }
+
+    static byte[] encode(AccessToken token) {
+        byte[] tokenBytes = token.getToken().getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(HEADER_SIZE + tokenBytes.length)
+                .put(FORMAT_VERSION)
+                .putLong(token.getExpiry())
+                .put(tokenBytes)
+                .array();
+    }
+
+    static AccessToken decode(byte[] value) {
+        if (value == null || value.length < HEADER_SIZE || value[0] != FORMAT_VERSION) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(value);
+        buffer.get();
+        long expiry = buffer.getLong();
+        return new AccessToken(new String(value, HEADER_SIZE, value.length - HEADER_SIZE, StandardCharsets.UTF_8), expiry);
+    }
+
+    /**
+     * Helper class that builds an instance of a KeyValueAccessTokenStore.
+     */
+    public static final class Builder {
+        private KeyValueStore keyValueStore;
+        private AccessTokenEncryptor encryptor;
+
+        private Builder() {}
+
+        /**
+         * Sets the store the tokens are written to.
+         * @param keyValueStore Key-value store
+         * @return This instance to continue the build process
+         */
+        public Builder withKeyValueStore(KeyValueStore keyValueStore) {
+            this.keyValueStore = keyValueStore;
+            return this;
+        }
+
+        /**
+         * Sets the encryptor applied to the tokens before they are written.
+         * @param encryptor Encryptor. Tokens are written unencrypted when none is set.
+         * @return This instance to continue the build process
+         */
+        public Builder withEncryptor(AccessTokenEncryptor encryptor) {
+            this.encryptor = encryptor;
+            return this;
+        }
+
+        /**
+         * Builds the <code>KeyValueAccessTokenStore</code> instance with the values previously provided.
+         * @return New <code>KeyValueAccessTokenStore</code> instance
+         */
+        public KeyValueAccessTokenStore build() {
+            if (keyValueStore == null) {
+                throw new IllegalArgumentException("KeyValueStore must be provided");
+            }
+            return new KeyValueAccessTokenStore(this);
+        }
+    }
+
+}
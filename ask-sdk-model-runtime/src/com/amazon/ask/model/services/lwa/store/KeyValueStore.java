@@ -0,0 +1,44 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.model.services.lwa.store;
+
+/**
+ * Service provider interface for the key-value storage behind a {@link KeyValueAccessTokenStore}, such as a local
+ * file, a distributed cache or a database table. Values are opaque, and encrypted when the token store is
+ * configured with an {@link AccessTokenEncryptor}.
+ */
+public interface KeyValueStore {
+
+    /**
+     * Retrieves the value stored under the given key.
+     * @param key Key of the value
+     * @return Stored value, or null if there is none
+     */
+    byte[] get(String key);
+
+    /**
+     * Stores a value under the given key, replacing any previous value.
+     * @param key Key of the value
+     * @param value Value to store
+     * @param expiryEpochMillis Time after which the value is no longer used, for stores able to expire entries
+     */
+    void put(String key, byte[] value, long expiryEpochMillis);
+
+    /**
+     * Removes the value stored under the given key, if any.
+     * @param key Key of the value
+     */
+    void delete(String key);
+
+}
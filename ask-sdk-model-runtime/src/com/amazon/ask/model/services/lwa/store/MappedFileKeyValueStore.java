@@ -0,0 +1,290 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.model.services.lwa.store;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * {@link KeyValueStore} keeping its entries in a memory-mapped local file, so that tokens survive process restarts
+ * and are shared by all processes of a host using the same file. Wrap it in a {@link KeyValueAccessTokenStore} to
+ * use it as an {@link AccessTokenStore}.
+ *
+ * The file holds a fixed number of fixed size slots addressed by the hash of the key with linear probing. Slots of
+ * expired or deleted entries are reused. Reads take a shared lock on the file and writes an exclusive one, so
+ * processes never observe a partially written entry. Each file should be opened by a single instance per JVM.
+ *
+ * The file is created readable and writable by its owner only on file systems supporting POSIX permissions; a file
+ * that already exists keeps its permissions. Tokens are otherwise stored as given, so on hosts shared with other
+ * users, or whose file systems lack POSIX permissions, the store is expected to be wrapped in a
+ * {@link KeyValueAccessTokenStore} configured with an {@link AccessTokenEncryptor}.
+ */
+public final class MappedFileKeyValueStore implements KeyValueStore, Closeable {
+
+    private static final int MAGIC = 0x41534b54;
+    private static final int FORMAT_VERSION = 1;
+    private static final int FILE_HEADER_SIZE = 16;
+    private static final int DEFAULT_SLOT_COUNT = 64;
+    private static final int DEFAULT_SLOT_SIZE = 4096;
+
+    private static final int STATE_OFFSET = 0;
+    private static final int HASH_OFFSET = 1;
+    private static final int KEY_LENGTH_OFFSET = 5;
+    private static final int VALUE_LENGTH_OFFSET = 9;
+    private static final int EXPIRY_OFFSET = 13;
+    private static final int SLOT_HEADER_SIZE = 21;
+
+    private static final byte EMPTY = 0;
+    private static final byte USED = 1;
+    private static final byte DELETED = 2;
+
+    private static final Set<StandardOpenOption> OPEN_OPTIONS = Collections.unmodifiableSet(
+            EnumSet.of(StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE));
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int slotCount;
+    private final int slotSize;
+
+    private MappedFileKeyValueStore(Builder builder) {
+        FileChannel fileChannel = null;
+        try {
+            fileChannel = FileChannel.open(builder.path, OPEN_OPTIONS, ownerOnlyAttributes(builder.path));
+            try (FileLock lock = fileChannel.lock()) {
+                ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE);
+                if (fileChannel.size() >= FILE_HEADER_SIZE) {
+                    fileChannel.read(header, 0);
+                    header.flip();
+                    if (header.getInt() != MAGIC || header.getInt() != FORMAT_VERSION) {
+                        throw new IllegalArgumentException("File " + builder.path + " is not an access token store");
+                    }
+                } else {
+                    header.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(builder.slotCount).putInt(builder.slotSize);
+                    header.flip();
+                    fileChannel.write(header, 0);
+                    header.position(8);
+                }
+                this.slotCount = header.getInt();
+                this.slotSize = header.getInt();
+                this.buffer = fileChannel.map(FileChannel.MapMode.READ_WRITE, 0,
+                        FILE_HEADER_SIZE + (long) slotCount * slotSize);
+            }
+            this.channel = fileChannel;
+        } catch (IOException | RuntimeException e) {
+            if (fileChannel != null) {
+                try {
+                    fileChannel.close();
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+            }
+            if (e instanceof IOException) {
+                throw new UncheckedIOException("Unable to open access token store " + builder.path, (IOException) e);
+            }
+            throw (RuntimeException) e;
+        }
+    }
+
+    /**
+     * Restricts a file created by the store to its owner, on file systems supporting POSIX permissions.
+     */
+    private static FileAttribute<?>[] ownerOnlyAttributes(Path path) {
+        if (!path.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            return new FileAttribute<?>[0];
+        }
+        return new FileAttribute<?>[] {PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------"))};
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public synchronized byte[] get(String key) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        try (FileLock lock = channel.lock(0, Long.MAX_VALUE, true)) {
+            int offset = find(keyBytes, key.hashCode());
+            if (offset < 0 || buffer.getLong(offset + EXPIRY_OFFSET) <= System.currentTimeMillis()) {
+                return null;
+            }
+            byte[] value = new byte[buffer.getInt(offset + VALUE_LENGTH_OFFSET)];
+            read(offset + SLOT_HEADER_SIZE + keyBytes.length, value);
+            return value;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void put(String key, byte[] value, long expiryEpochMillis) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        if (SLOT_HEADER_SIZE + keyBytes.length + value.length > slotSize) {
+            throw new IllegalArgumentException("Entry does not fit in a slot of " + slotSize + " bytes");
+        }
+        int hash = key.hashCode();
+        try (FileLock lock = channel.lock()) {
+            int offset = find(keyBytes, hash);
+            if (offset < 0) {
+                offset = findFree(hash);
+            }
+            buffer.put(offset + STATE_OFFSET, DELETED);
+            buffer.putInt(offset + HASH_OFFSET, hash);
+            buffer.putInt(offset + KEY_LENGTH_OFFSET, keyBytes.length);
+            buffer.putInt(offset + VALUE_LENGTH_OFFSET, value.length);
+            buffer.putLong(offset + EXPIRY_OFFSET, expiryEpochMillis);
+            write(offset + SLOT_HEADER_SIZE, keyBytes);
+            write(offset + SLOT_HEADER_SIZE + keyBytes.length, value);
+            buffer.put(offset + STATE_OFFSET, USED);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void delete(String key) {
+        try (FileLock lock = channel.lock()) {
+            int offset = find(key.getBytes(StandardCharsets.UTF_8), key.hashCode());
+            if (offset >= 0) {
+                buffer.put(offset + STATE_OFFSET, DELETED);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    private int find(byte[] keyBytes, int hash) {
+        int start = Math.floorMod(hash, slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            int offset = slotOffset((start + i) % slotCount);
+            byte state = buffer.get(offset + STATE_OFFSET);
+            if (state == EMPTY) {
+                return -1;
+            }
+            if (state == USED && buffer.getInt(offset + HASH_OFFSET) == hash
+                    && buffer.getInt(offset + KEY_LENGTH_OFFSET) == keyBytes.length) {
+                byte[] storedKey = new byte[keyBytes.length];
+                read(offset + SLOT_HEADER_SIZE, storedKey);
+                if (Arrays.equals(storedKey, keyBytes)) {
+                    return offset;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private int findFree(int hash) {
+        long now = System.currentTimeMillis();
+        int start = Math.floorMod(hash, slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            int offset = slotOffset((start + i) % slotCount);
+            if (buffer.get(offset + STATE_OFFSET) != USED || buffer.getLong(offset + EXPIRY_OFFSET) <= now) {
+                return offset;
+            }
+        }
+        throw new IllegalStateException("Access token store is full");
+    }
+
+    private int slotOffset(int slot) {
+        return FILE_HEADER_SIZE + slot * slotSize;
+    }
+
+    private void read(int offset, byte[] destination) {
+        ByteBuffer view = buffer.duplicate();
+        view.position(offset);
+        view.get(destination);
+    }
+
+    private void write(int offset, byte[] source) {
+        ByteBuffer view = buffer.duplicate();
+        view.position(offset);
+        view.put(source);
+    }
+
+    /**
+     * Helper class that builds an instance of a MappedFileKeyValueStore.
+     */
+    public static final class Builder {
+        private Path path;
+        private int slotCount = DEFAULT_SLOT_COUNT;
+        private int slotSize = DEFAULT_SLOT_SIZE;
+
+        private Builder() {}
+
+        /**
+         * Sets the file holding the entries. It is created if it does not exist.
+         * @param path Path of the file
+         * @return This instance to continue the build process
+         */
+        public Builder withPath(Path path) {
+            this.path = path;
+            return this;
+        }
+
+        /**
+         * Sets the number of entries a new file can hold. Existing files keep the layout they were created with.
+         * @param slotCount Number of slots. Defaults to 64.
+         * @return This instance to continue the build process
+         */
+        public Builder withSlotCount(int slotCount) {
+            this.slotCount = slotCount;
+            return this;
+        }
+
+        /**
+         * Sets the size of each entry of a new file, including the key and a 21 bytes header. Existing files keep
+         * the layout they were created with.
+         * @param slotSize Slot size in bytes. Defaults to 4096.
+         * @return This instance to continue the build process
+         */
+        public Builder withSlotSize(int slotSize) {
+            this.slotSize = slotSize;
+            return this;
+        }
+
+        /**
+         * Builds the <code>MappedFileKeyValueStore</code> instance with the values previously provided, opening or
+         * creating its file.
+         * @return New <code>MappedFileKeyValueStore</code> instance
+         */
+        public MappedFileKeyValueStore build() {
+            if (path == null) {
+                throw new IllegalArgumentException("Path must be provided");
+            }
+            if (slotCount < 1 || slotSize <= SLOT_HEADER_SIZE || (long) slotCount * slotSize > Integer.MAX_VALUE - FILE_HEADER_SIZE) {
+                throw new IllegalArgumentException("Invalid slot layout");
+            }
+            return new MappedFileKeyValueStore(this);
+        }
+    }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.model.services.util;
+
+import com.amazon.ask.model.services.Serializer;
+import com.amazon.ask.model.services.SerializerException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Base64;
+import java.util.Collection;
+
+/**
+ * Base of the {@link Serializer}s writing binary JSON data formats through Jackson, with the same configuration as
+ * {@link JacksonSerializer} so that every model reads and writes the same way as in JSON. Those formats are meant
+ * for the transport and caching of models between services of a skill, while the Alexa facing payloads stay JSON.
+ *
+ * Payloads are binary and are best exchanged as bytes or streams. The String methods of {@link Serializer} map them
+ * to and from their Base64 encoding, which keeps them intact, the same way {@link
+ * com.amazon.ask.model.services.ApiClientMessage#getBody()} represents binary bodies.
+ */
+public abstract class BinaryJacksonSerializer implements Serializer {
+
+    private final JacksonSerializer.TypeCache typeCache;
+    private final String contentType;
+
+    BinaryJacksonSerializer(JacksonSerializer.TypeCache typeCache, String contentType) {
+        this.typeCache = typeCache;
+        this.contentType = contentType;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public void warmUp(Collection<Class<?>> types) {
+        for (Class<?> type : types) {
+            typeCache.getReader(type);
+            typeCache.getWriter(type);
+        }
+    }
+
+    /**
+     * Serializes an Object into bytes.
+     * @param object Object to serialize
+     * @param <T> Type of the Object to serialize
+     * @return Serialized object
+     */
+    @Override
+    public <T> byte[] serializeToBytes(T object) {
+        try {
+            return typeCache.getWriter(object).writeValueAsBytes(object);
+        } catch (IOException e) {
+            throw new SerializerException("Serialization error", e);
+        }
+    }
+
+    @Override
+    public <T> void serialize(T object, OutputStream outputStream) {
+        try {
+            typeCache.getWriter(object).writeValue(outputStream, object);
+        } catch (IOException e) {
+            throw new SerializerException("Serialization error", e);
+        }
+    }
+
+    /**
+     * Deserializes bytes into an Object of a Well-known type.
+     * @param payload Bytes to deserialize
+     * @param type Target type of deserialization
+     * @param <T> Type of the Object to deserialize
+     * @return Deserialized object
+     */
+    public <T> T deserialize(byte[] payload, Class<T> type) {
+        return deserialize(payload, 0, payload.length, type);
+    }
+
+    /**
+     * Deserializes a range of bytes into an Object of a Well-known type.
+     * @param payload Bytes to deserialize
+     * @param offset Offset of the first byte of the payload
+     * @param length Number of bytes of the payload
+     * @param type Target type of deserialization
+     * @param <T> Type of the Object to deserialize
+     * @return Deserialized object
+     */
+    @Override
+    public <T> T deserialize(byte[] payload, int offset, int length, Class<T> type) {
+        try {
+            return typeCache.getReader(type).readValue(payload, offset, length);
+        } catch (IOException e) {
+            throw new SerializerException("Deserialization error", e);
+        }
+    }
+
+    @Override
+    public <T> T deserialize(InputStream inputStream, Class<T> type) {
+        try {
+            return typeCache.getReader(type).readValue(inputStream);
+        } catch (IOException e) {
+            throw new SerializerException("Deserialization error", e);
+        }
+    }
+
+    /**
+     * Serializes an Object into the Base64 encoding of its binary payload.
+     * @param object Object to serialize
+     * @param <T> Type of the Object to serialize
+     * @return Base64 encoded payload
+     */
+    @Override
+    public <T> String serialize(T object) {
+        return Base64.getEncoder().encodeToString(serializeToBytes(object));
+    }
+
+    /**
+     * Deserializes the Base64 encoding of a binary payload into an Object of a Well-known type.
+     * @param payload Base64 encoded payload
+     * @param type Target type of deserialization
+     * @param <T> Type of the Object to deserialize
+     * @return Deserialized object
+     * @throws SerializerException if the payload is not valid Base64
+     */
+    @Override
+    public <T> T deserialize(String payload, Class<T> type) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getDecoder().decode(payload);
+        } catch (IllegalArgumentException e) {
+            throw new SerializerException("Deserialization error", e);
+        }
+        return deserialize(bytes, type);
+    }
+
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.model.services.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+/**
+ * {@link BinaryJacksonSerializer} writing the CBOR format (RFC 7049). Requires
+ * <code>com.fasterxml.jackson.dataformat:jackson-dataformat-cbor</code> on the classpath.
+ */
+public final class CborSerializer extends BinaryJacksonSerializer {
+
+    /**
+     * Media type of CBOR payloads.
+     */
+    public static final String CONTENT_TYPE = "application/cbor";
+
+    private static final JacksonSerializer.TypeCache TYPE_CACHE =
+            new JacksonSerializer.TypeCache(JacksonSerializer.configure(new ObjectMapper(new CBORFactory())));
+
+    public CborSerializer() {
+        super(TYPE_CACHE, CONTENT_TYPE);
+    }
+
+}
@@ -0,0 +1,362 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.model.services.util;
+
+import com.amazon.ask.model.services.Serializer;
+import com.amazon.ask.model.services.SerializerException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.TreeNode;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.core.io.SegmentedStringWriter;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.core.type.ResolvedType;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * {@link Serializer} reading and writing values through generated {@link JsonCodec}s, which stream the JSON tokens
+ * directly instead of introspecting the types through reflection. Types without a codec, and values of such types
+ * found inside untyped properties, go through a fallback serializer, a {@link JacksonSerializer} by default.
+ *
+ * Serializers created with the default constructor use the codecs of every {@link JsonCodecProvider} found with
+ * {@link ServiceLoader}, such as the one of <code>ask-sdk-model</code>. The default serializer of
+ * <code>DefaultApiConfiguration</code> is a GeneratedCodecSerializer when the
+ * <code>{@value #ENABLED_PROPERTY}</code> system property is set to <code>true</code>.
+ */
+public final class GeneratedCodecSerializer implements Serializer {
+
+    /**
+     * System property making GeneratedCodecSerializer the default serializer of <code>DefaultApiConfiguration</code>.
+     */
+    public static final String ENABLED_PROPERTY = "ask.sdk.serializer.generatedCodecs";
+
+    private final JsonCodecRegistry registry;
+    private final Serializer fallback;
+    private final JsonFactory jsonFactory;
+
+    public GeneratedCodecSerializer() {
+        this(builder());
+    }
+
+    private GeneratedCodecSerializer(Builder builder) {
+        this.registry = builder.registry != null ? builder.registry : ServiceLoaderRegistryHolder.REGISTRY;
+        this.fallback = builder.fallback != null ? builder.fallback : new JacksonSerializer();
+        this.jsonFactory = new JsonFactory(new RegistryObjectCodec(this));
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Checks if values of a type are read and written through a codec.
+     * @param type Type of the values
+     * @return true if the type has a codec, false if it goes through the fallback serializer
+     */
+    public boolean hasCodec(Class<?> type) {
+        return registry.getCodec(type) != null;
+    }
+
+    /**
+     * Prepares the fallback serializer for the given types that do not have a codec.
+     * @param types Types to prepare
+     */
+    @Override
+    public void warmUp(Collection<Class<?>> types) {
+        List<Class<?>> fallbackTypes = new ArrayList<>();
+        for (Class<?> type : types) {
+            if (!hasCodec(type)) {
+                fallbackTypes.add(type);
+            }
+        }
+        if (!fallbackTypes.isEmpty()) {
+            fallback.warmUp(fallbackTypes);
+        }
+    }
+
+    @Override
+    public <T> String serialize(T t) {
+        JsonCodec<T> codec = getCodec(t);
+        if (codec == null) {
+            return fallback.serialize(t);
+        }
+        SegmentedStringWriter writer = new SegmentedStringWriter(jsonFactory._getBufferRecycler());
+        try (JsonGenerator generator = jsonFactory.createGenerator(writer)) {
+            codec.write(generator, t);
+        } catch (IOException e) {
+            throw new SerializerException("Serialization error", e);
+        }
+        return writer.getAndClear();
+    }
+
+    @Override
+    public <T> void serialize(T object, OutputStream outputStream) {
+        JsonCodec<T> codec = getCodec(object);
+        if (codec == null) {
+            fallback.serialize(object, outputStream);
+            return;
+        }
+        try (JsonGenerator generator = jsonFactory.createGenerator(outputStream)) {
+            codec.write(generator, object);
+        } catch (IOException e) {
+            throw new SerializerException("Serialization error", e);
+        }
+    }
+
+    @Override
+    public <T> byte[] serializeToBytes(T object) {
+        JsonCodec<T> codec = getCodec(object);
+        if (codec == null) {
+            return fallback.serializeToBytes(object);
+        }
+        ByteArrayBuilder builder = new ByteArrayBuilder(jsonFactory._getBufferRecycler());
+        try (JsonGenerator generator = jsonFactory.createGenerator(builder, JsonEncoding.UTF8)) {
+            codec.write(generator, object);
+        } catch (IOException e) {
+            throw new SerializerException("Serialization error", e);
+        }
+        byte[] bytes = builder.toByteArray();
+        builder.release();
+        return bytes;
+    }
+
+    @Override
+    public <T> T deserialize(String s, Class<T> aClass) {
+        JsonCodec<T> codec = registry.getCodec(aClass);
+        if (codec == null) {
+            return fallback.deserialize(s, aClass);
+        }
+        try (JsonParser parser = jsonFactory.createParser(s)) {
+            return read(parser, codec);
+        } catch (IOException e) {
+            throw new SerializerException("Deserialization error", e);
+        }
+    }
+
+    @Override
+    public <T> T deserialize(InputStream inputStream, Class<T> type) {
+        JsonCodec<T> codec = registry.getCodec(type);
+        if (codec == null) {
+            return fallback.deserialize(inputStream, type);
+        }
+        try (JsonParser parser = jsonFactory.createParser(inputStream)) {
+            return read(parser, codec);
+        } catch (IOException e) {
+            throw new SerializerException("Deserialization error", e);
+        }
+    }
+
+    @Override
+    public <T> T deserialize(byte[] payload, int offset, int length, Class<T> type) {
+        JsonCodec<T> codec = registry.getCodec(type);
+        if (codec == null) {
+            return fallback.deserialize(payload, offset, length, type);
+        }
+        try (JsonParser parser = jsonFactory.createParser(payload, offset, length)) {
+            return read(parser, codec);
+        } catch (IOException e) {
+            throw new SerializerException("Deserialization error", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> JsonCodec<T> getCodec(T value) {
+        return value != null ? registry.getCodec((Class<T>) value.getClass()) : null;
+    }
+
+    private static <T> T read(JsonParser parser, JsonCodec<T> codec) throws IOException {
+        if (parser.nextToken() == null) {
+            throw new IOException("No content to read");
+        }
+        return codec.read(parser);
+    }
+
+    /**
+     * Holds the registry of the codecs found with {@link ServiceLoader}, created on first use.
+     */
+    private static final class ServiceLoaderRegistryHolder {
+        private static final JsonCodecRegistry REGISTRY = load();
+
+        private static JsonCodecRegistry load() {
+            JsonCodecRegistry.Builder registry = JsonCodecRegistry.builder();
+            for (JsonCodecProvider provider : ServiceLoader.load(JsonCodecProvider.class,
+                    GeneratedCodecSerializer.class.getClassLoader())) {
+                registry.withProvider(provider);
+            }
+            return registry.build();
+        }
+    }
+
+    /**
+     * Codec of the generators and parsers of a GeneratedCodecSerializer, through which untyped values that are
+     * neither scalars nor containers are written with their codec, or with the fallback serializer. Values read
+     * without a codec, and trees, go through the mapper of the fallback serializer when it is a
+     * {@link JacksonSerializer}, or through a mapper configured the same way otherwise.
+     */
+    private static final class RegistryObjectCodec extends ObjectCodec {
+        private final GeneratedCodecSerializer serializer;
+        private final ObjectMapper mapper;
+
+        private RegistryObjectCodec(GeneratedCodecSerializer serializer) {
+            this.serializer = serializer;
+            this.mapper = serializer.fallback instanceof JacksonSerializer
+                    ? ((JacksonSerializer) serializer.fallback).getObjectMapper()
+                    : JacksonSerializer.configure(new ObjectMapper());
+        }
+
+        @Override
+        public void writeValue(JsonGenerator generator, Object value) throws IOException {
+            JsonCodec<Object> codec = serializer.getCodec(value);
+            if (codec != null) {
+                codec.write(generator, value);
+            } else {
+                generator.writeRawValue(serializer.fallback.serialize(value));
+            }
+        }
+
+        @Override
+        public <T> T readValue(JsonParser parser, Class<T> type) throws IOException {
+            JsonCodec<T> codec = serializer.registry.getCodec(type);
+            if (codec == null) {
+                return mapper.readValue(parser, type);
+            }
+            return codec.read(parser);
+        }
+
+        @Override
+        public Version version() {
+            return Version.unknownVersion();
+        }
+
+        @Override
+        public JsonFactory getFactory() {
+            return serializer.jsonFactory;
+        }
+
+        @Override
+        @Deprecated
+        public JsonFactory getJsonFactory() {
+            return serializer.jsonFactory;
+        }
+
+        @Override
+        public <T> T readValue(JsonParser parser, TypeReference<?> type) throws IOException {
+            return mapper.readValue(parser, type);
+        }
+
+        @Override
+        public <T> T readValue(JsonParser parser, ResolvedType type) throws IOException {
+            return mapper.readValue(parser, type);
+        }
+
+        @Override
+        public <T> Iterator<T> readValues(JsonParser parser, Class<T> type) throws IOException {
+            return mapper.readValues(parser, type);
+        }
+
+        @Override
+        public <T> Iterator<T> readValues(JsonParser parser, TypeReference<?> type) throws IOException {
+            return mapper.readValues(parser, type);
+        }
+
+        @Override
+        public <T> Iterator<T> readValues(JsonParser parser, ResolvedType type) throws IOException {
+            return mapper.readValues(parser, type);
+        }
+
+        @Override
+        public <T extends TreeNode> T readTree(JsonParser parser) throws IOException {
+            return mapper.readTree(parser);
+        }
+
+        @Override
+        public void writeTree(JsonGenerator generator, TreeNode tree) throws IOException {
+            mapper.writeTree(generator, tree);
+        }
+
+        @Override
+        public TreeNode createObjectNode() {
+            return mapper.createObjectNode();
+        }
+
+        @Override
+        public TreeNode createArrayNode() {
+            return mapper.createArrayNode();
+        }
+
+        @Override
+        public JsonParser treeAsTokens(TreeNode tree) {
+            return mapper.treeAsTokens(tree);
+        }
+
+        @Override
+        public <T> T treeToValue(TreeNode tree, Class<T> type) throws JsonProcessingException {
+            return mapper.treeToValue(tree, type);
+        }
+    }
+
+    /**
+     * Helper class that builds an instance of a GeneratedCodecSerializer.
+     */
+    public static final class Builder {
+        private JsonCodecRegistry registry;
+        private Serializer fallback;
+
+        private Builder() {}
+
+        /**
+         * Sets the codecs to use.
+         * @param registry Registry of the codecs. Defaults to the codecs of every {@link JsonCodecProvider} found
+         *                 with {@link ServiceLoader}.
+         * @return This instance to continue the build process
+         */
+        public Builder withRegistry(JsonCodecRegistry registry) {
+            this.registry = registry;
+            return this;
+        }
+
+        /**
+         * Sets the serializer used for the types without a codec.
+         * @param fallback Fallback serializer. Defaults to a {@link JacksonSerializer}.
+         * @return This instance to continue the build process
+         */
+        public Builder withFallback(Serializer fallback) {
+            this.fallback = fallback;
+            return this;
+        }
+
+        /**
+         * Builds the <code>GeneratedCodecSerializer</code> instance with the values previously provided.
+         * @return New <code>GeneratedCodecSerializer</code> instance
+         */
+        public GeneratedCodecSerializer build() {
+            return new GeneratedCodecSerializer(this);
+        }
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+
+
+package com.amazon.ask.model.services.util;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock free table of canonical strings. Strings are looked up by their characters, so that a value already
+ * in the table is returned without allocating a new String, and equal values read from different payloads are the
+ * same instance. Each value has two candidate slots; when both hold other values, the first one is replaced, so the
+ * table keeps the most recent values of each slot and never grows past its capacity.
+ */
+final class InternTable {
+
+    /**
+     * Longest value kept in the table, so that large unique values do not evict the repeated ones.
+     */
+    static final int MAX_LENGTH = 256;
+
+    private final AtomicReferenceArray<String> slots;
+    private final int mask;
+
+    /**
+     * @param capacity Number of values kept, rounded up to a power of two
+     */
+    InternTable(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Intern table capacity must be positive: " + capacity);
+        }
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * @return number of values the table can hold
+     */
+    int capacity() {
+        return slots.length();
+    }
+
+    /**
+     * Returns the canonical String holding the given characters.
+     * @param chars Buffer holding the characters
+     * @param offset Offset of the first character
+     * @param length Number of characters
+     * @return canonical String, or a new String if the value is longer than {@link #MAX_LENGTH}
+     */
+    String intern(char[] chars, int offset, int length) {
+        if (length > MAX_LENGTH) {
+            return new String(chars, offset, length);
+        }
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        int first = spread(hash) & mask;
+        String value = slots.get(first);
+        if (matches(value, hash, chars, offset, length)) {
+            return value;
+        }
+        int second = (first + 1) & mask;
+        String other = slots.get(second);
+        if (matches(other, hash, chars, offset, length)) {
+            return other;
+        }
+        String result = new String(chars, offset, length);
+        slots.lazySet(value != null && other == null ? second : first, result);
+        return result;
+    }
+
+    private static boolean matches(String value, int hash, char[] chars, int offset, int length) {
+        if (value == null || value.length() != length || value.hashCode() != hash) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) != chars[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
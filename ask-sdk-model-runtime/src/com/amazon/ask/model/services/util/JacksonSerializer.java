@@ -16,26 +16,130 @@ package com.amazon.ask.model.services.util;
 import com.amazon.ask.model.services.Serializer;
 import com.amazon.ask.model.services.SerializerException;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBuilder;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import com.fasterxml.jackson.databind.jsontype.TypeResolverBuilder;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.util.LRUMap;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Jackson backed implementation of {@link Serializer}
+ *
+ * The accelerated mode replaces reflective property access with bytecode generated accessors through the Jackson
+ * Afterburner module, and keeps buffer recycling enabled while avoiding a flush after every value written. It
+ * requires <code>com.fasterxml.jackson.module:jackson-module-afterburner</code> on the classpath and is enabled
+ * through {@link Builder#withAccelerated(boolean)}, or for serializers created with the default constructor, such as
+ * the default serializer of <code>DefaultApiConfiguration</code>, by setting the
+ * <code>{@value #ACCELERATED_PROPERTY}</code> system property to <code>true</code>.
+ *
+ * Values are read and written through an ObjectReader and ObjectWriter cached per type, which hold the resolved
+ * root (de)serializer. {@link #warmUp(Collection)} builds them ahead of the first call.
+ *
+ * Payloads whose concrete subtype was already resolved from their discriminator, such as requests routed on their
+ * type, can be read directly as that subtype through {@link #deserializeResolvedSubtype(String, Class)}, so that
+ * Jackson does not buffer the properties preceding the discriminator. The other methods always check it.
+ *
+ * String properties with few distinct values, such as locales, intent names or application ids, can be interned
+ * through {@link Builder#withInternedProperty(Class, String)}: their values are looked up in a bounded table shared by
+ * the requests deserialized by the serializer, so that repeated values are not allocated again for every request and
+ * equal values are the same instance. Serializers interning properties have their own mapper.
  */
 public final class JacksonSerializer implements Serializer {
 
+    /**
+     * System property enabling the accelerated mode for serializers created with the default constructor.
+     */
+    public static final String ACCELERATED_PROPERTY = "ask.sdk.serializer.accelerated";
+
+    /**
+     * Default number of values kept by the intern table of serializers interning properties.
+     */
+    public static final int DEFAULT_INTERN_TABLE_SIZE = 1024;
+
     private static ObjectMapper mapper = new ObjectMapper();
     static {
-        mapper.setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
-        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
-        mapper.registerModule(new JavaTimeModule());
+        configure(mapper);
+    }
+    private static TypeCache typeCache = new TypeCache(mapper);
+
+    private final boolean accelerated;
+    private final TypeCache interningTypeCache;
+
+    public JacksonSerializer() {
+        this(Boolean.getBoolean(ACCELERATED_PROPERTY), Collections.<Class<?>, Set<String>>emptyMap(), 0);
+    }
+
+    private JacksonSerializer(boolean accelerated, Map<Class<?>, Set<String>> internedProperties, int internTableSize) {
+        this.accelerated = accelerated;
+        if (accelerated) {
+            AcceleratedMapperHolder.getTypeCache();
+        }
+        if (internedProperties.isEmpty()) {
+            this.interningTypeCache = null;
+        } else {
+            ObjectMapper objectMapper = accelerated
+                    ? AcceleratedMapperHolder.newAcceleratedMapper() : configure(new ObjectMapper());
+            objectMapper.registerModule(new SimpleModule("InternedProperties").setDeserializerModifier(
+                    new InterningDeserializerModifier(internedProperties, new InternTable(internTableSize))));
+            this.interningTypeCache = new TypeCache(objectMapper);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Checks if this serializer uses the accelerated mode.
+     * @return true if property access goes through generated accessors
+     */
+    public boolean isAccelerated() {
+        return accelerated;
+    }
+
+    /**
+     * Checks if this serializer interns the values of some properties.
+     * @return true if properties were registered through {@link Builder#withInternedProperty(Class, String)}
+     */
+    public boolean isInterning() {
+        return interningTypeCache != null;
     }
 
     /**
@@ -43,12 +147,27 @@ public final class JacksonSerializer implements Serializer {
      */
     static void setMapper(ObjectMapper objectMapper) {
         mapper = objectMapper;
+        typeCache = new TypeCache(objectMapper);
+    }
+
+    /**
+     * Builds and caches the reader and writer of each given type, resolving their (de)serializers, so that the first
+     * call for those types does not pay for introspection.
+     * @param types Types to prepare
+     */
+    @Override
+    public void warmUp(Collection<Class<?>> types) {
+        TypeCache cache = getTypeCache();
+        for (Class<?> type : types) {
+            cache.getReader(type);
+            cache.getWriter(type);
+        }
     }
 
     @Override
     public <T> String serialize(T t) {
         try {
-            return mapper.writeValueAsString(t);
+            return getTypeCache().getWriter(t).writeValueAsString(t);
         } catch (IOException e) {
             throw new SerializerException("Serialization error", e);
         }
@@ -57,16 +176,31 @@ public final class JacksonSerializer implements Serializer {
     @Override
     public <T> void serialize(T object, OutputStream outputStream) {
         try {
-            mapper.writeValue(outputStream, object);
+            getTypeCache().getWriter(object).writeValue(outputStream, object);
+        } catch (IOException e) {
+            throw new SerializerException("Serialization error", e);
+        }
+    }
+
+    /**
+     * Serializes an Object into UTF-8 encoded bytes, written directly as bytes with recycled buffers.
+     * @param object Object to serialize
+     * @param <T> Type of the Object to serialize
+     * @return Serialized object
+     */
+    @Override
+    public <T> byte[] serializeToBytes(T object) {
+        try {
+            return getTypeCache().getWriter(object).writeValueAsBytes(object);
         } catch (IOException e) {
-            throw new SerializerException("Serialization error");
+            throw new SerializerException("Serialization error", e);
         }
     }
 
     @Override
     public <T> T deserialize(String s, Class<T> aClass) {
         try {
-            return mapper.readValue(s, aClass);
+            return getTypeCache().getReader(aClass).readValue(s);
         } catch (IOException e) {
             throw new SerializerException("Deserialization error", e);
         }
@@ -75,10 +209,369 @@ public final class JacksonSerializer implements Serializer {
     @Override
     public <T> T deserialize(InputStream inputStream, Class<T> type) {
         try {
-            return mapper.readValue(inputStream, type);
+            return getTypeCache().getReader(type).readValue(inputStream);
+        } catch (IOException e) {
+            throw new SerializerException("Deserialization error", e);
+        }
+    }
+
+    /**
+     * Deserializes a range of UTF-8 encoded bytes, parsed in place by a byte based parser without decoding them into
+     * characters first.
+     * @param payload Bytes to deserialize
+     * @param offset Offset of the first byte of the payload
+     * @param length Number of bytes of the payload
+     * @param type Target type of deserialization
+     * @param <T> Type of the Object to deserialize
+     * @return Deserialized object
+     */
+    @Override
+    public <T> T deserialize(byte[] payload, int offset, int length, Class<T> type) {
+        try {
+            return getTypeCache().getReader(type).readValue(payload, offset, length);
+        } catch (IOException e) {
+            throw new SerializerException("Deserialization error", e);
+        }
+    }
+
+    /**
+     * Deserializes a payload as the concrete subtype its discriminator was already resolved to, such as a request
+     * routed on its type, without checking the discriminator again: properties are read directly instead of being
+     * buffered until the discriminator is found. The discriminator is neither required nor validated, so this must
+     * only be used once the caller resolved the type from the payload itself; {@link #deserialize(String, Class)}
+     * rejects payloads whose discriminator does not match the requested type.
+     * @param payload Payload to deserialize
+     * @param type Concrete type resolved from the discriminator of the payload
+     * @param <T> Type of the Object to deserialize
+     * @return Deserialized object
+     */
+    public <T> T deserializeResolvedSubtype(String payload, Class<T> type) {
+        try {
+            return getTypeCache().getSubtypeReader(type).readValue(payload);
+        } catch (IOException e) {
+            throw new SerializerException("Deserialization error", e);
+        }
+    }
+
+    /**
+     * Deserializes a range of UTF-8 encoded bytes as the concrete subtype its discriminator was already resolved to,
+     * see {@link #deserializeResolvedSubtype(String, Class)}.
+     * @param payload Bytes to deserialize
+     * @param offset Offset of the first byte of the payload
+     * @param length Number of bytes of the payload
+     * @param type Concrete type resolved from the discriminator of the payload
+     * @param <T> Type of the Object to deserialize
+     * @return Deserialized object
+     */
+    public <T> T deserializeResolvedSubtype(byte[] payload, int offset, int length, Class<T> type) {
+        try {
+            return getTypeCache().getSubtypeReader(type).readValue(payload, offset, length);
         } catch (IOException e) {
             throw new SerializerException("Deserialization error", e);
         }
     }
 
-}
\ No newline at end of file
+    /**
+     * Retrieves the mapper backing this serializer, for codecs handing it values it has no codec for.
+     * @return Mapper of this serializer
+     */
+    ObjectMapper getObjectMapper() {
+        return getTypeCache().objectMapper;
+    }
+
+    private TypeCache getTypeCache() {
+        if (interningTypeCache != null) {
+            return interningTypeCache;
+        }
+        return accelerated ? AcceleratedMapperHolder.getTypeCache() : typeCache;
+    }
+
+    /**
+     * Applies the configuration shared by the serializers backed by Jackson, whatever the data format.
+     * @param objectMapper Mapper to configure
+     * @return The configured mapper
+     */
+    static ObjectMapper configure(ObjectMapper objectMapper) {
+        objectMapper.setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        objectMapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        objectMapper.registerModule(new JavaTimeModule());
+        return objectMapper;
+    }
+
+    /**
+     * Holds the mapper of the accelerated mode, created on first use so that the Afterburner module is only loaded
+     * when that mode is enabled.
+     */
+    private static final class AcceleratedMapperHolder {
+        private static final ObjectMapper ACCELERATED_MAPPER = newAcceleratedMapper();
+        private static final TypeCache ACCELERATED_TYPE_CACHE = ACCELERATED_MAPPER != null
+                ? new TypeCache(ACCELERATED_MAPPER) : null;
+
+        static TypeCache getTypeCache() {
+            if (ACCELERATED_TYPE_CACHE == null) {
+                throw new IllegalStateException("Accelerated mode requires "
+                        + "com.fasterxml.jackson.module:jackson-module-afterburner on the classpath");
+            }
+            return ACCELERATED_TYPE_CACHE;
+        }
+
+        private static ObjectMapper newAcceleratedMapper() {
+            Module afterburner;
+            try {
+                afterburner = Afterburner.newModule();
+            } catch (LinkageError e) {
+                return null;
+            }
+            JsonFactory jsonFactory = new JsonFactory()
+                    .enable(JsonFactory.Feature.USE_THREAD_LOCAL_FOR_BUFFER_RECYCLING)
+                    .enable(JsonFactory.Feature.CANONICALIZE_FIELD_NAMES);
+            ObjectMapper objectMapper = configure(new ObjectMapper(jsonFactory));
+            objectMapper.configure(SerializationFeature.FLUSH_AFTER_WRITE_VALUE, false);
+            objectMapper.registerModule(afterburner);
+            return objectMapper;
+        }
+    }
+
+    /**
+     * Readers and writers of a mapper, per type. Writers are looked up by the runtime class of the values written, so
+     * each map is bounded like the caches of Jackson itself and cleared once full, well above the few hundred model
+     * types prepared by {@link JacksonSerializer#warmUp(Collection)}.
+     */
+    static final class TypeCache {
+        private static final int MAX_CACHED_TYPES = 1000;
+
+        private final ObjectMapper objectMapper;
+        private final LRUMap<Class<?>, ObjectReader> readers = new LRUMap<>(64, MAX_CACHED_TYPES);
+        private final LRUMap<Class<?>, ObjectReader> subtypeReaders = new LRUMap<>(16, MAX_CACHED_TYPES);
+        private final LRUMap<Class<?>, ObjectWriter> writers = new LRUMap<>(64, MAX_CACHED_TYPES);
+        private volatile ObjectMapper subtypeMapper;
+
+        TypeCache(ObjectMapper objectMapper) {
+            this.objectMapper = objectMapper;
+        }
+
+        ObjectReader getReader(Class<?> type) {
+            ObjectReader reader = readers.get(type);
+            if (reader == null) {
+                reader = objectMapper.readerFor(type);
+                ObjectReader existing = readers.putIfAbsent(type, reader);
+                if (existing != null) {
+                    reader = existing;
+                }
+            }
+            return reader;
+        }
+
+        ObjectReader getSubtypeReader(Class<?> type) {
+            if (!isConcreteSubtype(type)) {
+                return getReader(type);
+            }
+            ObjectReader reader = subtypeReaders.get(type);
+            if (reader == null) {
+                reader = getSubtypeMapper().readerFor(type);
+                ObjectReader existing = subtypeReaders.putIfAbsent(type, reader);
+                if (existing != null) {
+                    reader = existing;
+                }
+            }
+            return reader;
+        }
+
+        private ObjectMapper getSubtypeMapper() {
+            ObjectMapper mapper = subtypeMapper;
+            if (mapper == null) {
+                mapper = objectMapper.copy();
+                mapper.setAnnotationIntrospector(new ConcreteSubtypeIntrospector());
+                subtypeMapper = mapper;
+            }
+            return mapper;
+        }
+
+        ObjectWriter getWriter(Object value) {
+            return value != null ? getWriter(value.getClass()) : objectMapper.writer();
+        }
+
+        ObjectWriter getWriter(Class<?> type) {
+            ObjectWriter writer = writers.get(type);
+            if (writer == null) {
+                writer = objectMapper.writerFor(type);
+                ObjectWriter existing = writers.putIfAbsent(type, writer);
+                if (existing != null) {
+                    writer = existing;
+                }
+            }
+            return writer;
+        }
+    }
+
+    /**
+     * Checks if a type is a concrete class inheriting the polymorphic type handling of a superclass.
+     */
+    private static boolean isConcreteSubtype(Class<?> type) {
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers())
+                || type.isAnnotationPresent(JsonTypeInfo.class)) {
+            return false;
+        }
+        for (Class<?> superclass = type.getSuperclass(); superclass != null; superclass = superclass.getSuperclass()) {
+            if (superclass.isAnnotationPresent(JsonTypeInfo.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Introspector leaving out the type handling inherited by concrete subtypes, so that subtypes resolved by the
+     * caller are read directly.
+     */
+    private static final class ConcreteSubtypeIntrospector extends JacksonAnnotationIntrospector {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public TypeResolverBuilder<?> findTypeResolver(MapperConfig<?> config, AnnotatedClass ac, JavaType baseType) {
+            return isConcreteSubtype(baseType.getRawClass()) ? null : super.findTypeResolver(config, ac, baseType);
+        }
+    }
+
+    /**
+     * Replaces the deserializer of the interned String properties of a type, its subtypes and their nested builders.
+     */
+    private static final class InterningDeserializerModifier extends BeanDeserializerModifier {
+        private final Map<Class<?>, Set<String>> internedProperties;
+        private final InterningStringDeserializer deserializer;
+
+        InterningDeserializerModifier(Map<Class<?>, Set<String>> internedProperties, InternTable internTable) {
+            this.internedProperties = internedProperties;
+            this.deserializer = new InterningStringDeserializer(internTable);
+        }
+
+        @Override
+        public BeanDeserializerBuilder updateBuilder(DeserializationConfig config, BeanDescription beanDesc,
+                                                     BeanDeserializerBuilder builder) {
+            Set<String> properties = findInternedProperties(beanDesc.getBeanClass());
+            if (properties.isEmpty()) {
+                return builder;
+            }
+            List<SettableBeanProperty> interned = new ArrayList<>();
+            Iterator<SettableBeanProperty> iterator = builder.getProperties();
+            while (iterator.hasNext()) {
+                SettableBeanProperty property = iterator.next();
+                if (properties.contains(property.getName()) && property.getType().hasRawClass(String.class)) {
+                    interned.add(property.withValueDeserializer(deserializer));
+                }
+            }
+            for (SettableBeanProperty property : interned) {
+                builder.addOrReplaceProperty(property, true);
+            }
+            return builder;
+        }
+
+        private Set<String> findInternedProperties(Class<?> beanClass) {
+            Set<String> properties = new HashSet<>();
+            for (Map.Entry<Class<?>, Set<String>> entry : internedProperties.entrySet()) {
+                if (entry.getKey().isAssignableFrom(beanClass) || (beanClass.getDeclaringClass() != null
+                        && entry.getKey().isAssignableFrom(beanClass.getDeclaringClass()))) {
+                    properties.addAll(entry.getValue());
+                }
+            }
+            return properties;
+        }
+    }
+
+    /**
+     * Reads Strings through an intern table, straight from the characters of the parser.
+     */
+    private static final class InterningStringDeserializer extends StdScalarDeserializer<String> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient InternTable internTable;
+
+        InterningStringDeserializer(InternTable internTable) {
+            super(String.class);
+            this.internTable = internTable;
+        }
+
+        @Override
+        public String deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            if (parser.hasToken(JsonToken.VALUE_STRING)) {
+                return internTable.intern(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+            }
+            return StringDeserializer.instance.deserialize(parser, context);
+        }
+
+        @Override
+        public boolean isCachable() {
+            return true;
+        }
+    }
+
+    /**
+     * Isolates the reference to the Afterburner module, so that its absence surfaces as a LinkageError when this
+     * class is first used instead of when JacksonSerializer is loaded.
+     */
+    private static final class Afterburner {
+        static Module newModule() {
+            return new AfterburnerModule();
+        }
+    }
+
+    /**
+     * Helper class that builds an instance of a JacksonSerializer.
+     */
+    public static final class Builder {
+        private boolean accelerated = Boolean.getBoolean(ACCELERATED_PROPERTY);
+        private final Map<Class<?>, Set<String>> internedProperties = new LinkedHashMap<>();
+        private int internTableSize = DEFAULT_INTERN_TABLE_SIZE;
+
+        private Builder() {}
+
+        /**
+         * Sets whether the serializer uses the accelerated mode.
+         * @param accelerated true to use generated accessors. Defaults to the value of the
+         *                    <code>{@value JacksonSerializer#ACCELERATED_PROPERTY}</code> system property.
+         * @return This instance to continue the build process
+         */
+        public Builder withAccelerated(boolean accelerated) {
+            this.accelerated = accelerated;
+            return this;
+        }
+
+        /**
+         * Interns the values of a String property when deserializing a type, its subtypes, and their builders.
+         * Intended for properties with few distinct values; others would only churn the intern table.
+         * @param type Type declaring the property
+         * @param property Name of the property in the payload
+         * @return This instance to continue the build process
+         */
+        public Builder withInternedProperty(Class<?> type, String property) {
+            internedProperties.computeIfAbsent(type, t -> new LinkedHashSet<>()).add(property);
+            return this;
+        }
+
+        /**
+         * Sets the number of values kept by the intern table.
+         * @param internTableSize Number of values, rounded up to a power of two. Defaults to
+         *                        {@value JacksonSerializer#DEFAULT_INTERN_TABLE_SIZE}.
+         * @return This instance to continue the build process
+         */
+        public Builder withInternTableSize(int internTableSize) {
+            if (internTableSize <= 0) {
+                throw new IllegalArgumentException("Intern table size must be positive: " + internTableSize);
+            }
+            this.internTableSize = internTableSize;
+            return this;
+        }
+
+        /**
+         * Builds the <code>JacksonSerializer</code> instance with the values previously provided.
+         * @return New <code>JacksonSerializer</code> instance
+         */
+        public JacksonSerializer build() {
+            Map<Class<?>, Set<String>> properties = new LinkedHashMap<>();
+            internedProperties.forEach((type, names) -> properties.put(type, new HashSet<>(names)));
+            return new JacksonSerializer(accelerated, properties, internTableSize);
+        }
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.model.services.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+
+/**
+ * Reads and writes values of a type directly from a {@link JsonParser} and to a {@link JsonGenerator}, without
+ * introspecting the type at runtime.
+ * @param <T> Type of the values
+ */
+public interface JsonCodec<T> {
+
+    /**
+     * Reads a value. The parser is positioned on the first token of the value, and is left on its last token.
+     * @param parser Parser to read from
+     * @return Value read, or null if the value is a JSON null
+     * @throws IOException if the value cannot be read
+     */
+    T read(JsonParser parser) throws IOException;
+
+    /**
+     * Writes a value.
+     * @param generator Generator to write to
+     * @param value Value to write, not null
+     * @throws IOException if the value cannot be written
+     */
+    void write(JsonGenerator generator, T value) throws IOException;
+
+    /**
+     * Creates a codec from a reader and a writer.
+     * @param reader Function reading values
+     * @param writer Function writing values
+     * @param <T> Type of the values
+     * @return Codec combining the reader and the writer
+     */
+    static <T> JsonCodec<T> of(Reader<T> reader, Writer<? super T> writer) {
+        return new JsonCodec<T>() {
+            @Override
+            public T read(JsonParser parser) throws IOException {
+                return reader.read(parser);
+            }
+
+            @Override
+            public void write(JsonGenerator generator, T value) throws IOException {
+                writer.write(generator, value);
+            }
+        };
+    }
+
+    /**
+     * Reading half of a codec.
+     * @param <T> Type of the values
+     */
+    @FunctionalInterface
+    interface Reader<T> {
+
+        /**
+         * Reads a value, see {@link JsonCodec#read(JsonParser)}.
+         * @param parser Parser to read from
+         * @return Value read
+         * @throws IOException if the value cannot be read
+         */
+        T read(JsonParser parser) throws IOException;
+    }
+
+    /**
+     * Writing half of a codec.
+     * @param <T> Type of the values
+     */
+    @FunctionalInterface
+    interface Writer<T> {
+
+        /**
+         * Writes a value, see {@link JsonCodec#write(JsonGenerator, Object)}.
+         * @param generator Generator to write to
+         * @param value Value to write
+         * @throws IOException if the value cannot be written
+         */
+        void write(JsonGenerator generator, T value) throws IOException;
+    }
+
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.model.services.util;
+
+/**
+ * Service provider interface through which a model library contributes its codecs to a
+ * {@link GeneratedCodecSerializer}. Providers are discovered with {@link java.util.ServiceLoader} when the
+ * serializer is not given any explicitly.
+ */
+public interface JsonCodecProvider {
+
+    /**
+     * Registers the codecs of this provider.
+     * @param registry Registry being built
+     */
+    void registerCodecs(JsonCodecRegistry.Builder registry);
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.model.services.util;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable set of codecs, keyed by the exact class they read and write.
+ */
+public final class JsonCodecRegistry {
+
+    private final Map<Class<?>, JsonCodec<?>> codecs;
+
+    private JsonCodecRegistry(Builder builder) {
+        this.codecs = Collections.unmodifiableMap(new HashMap<>(builder.codecs));
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Retrieves the codec of a type.
+     * @param type Type of the values
+     * @param <T> Type of the values
+     * @return Codec of the type, or null if none is registered
+     */
+    @SuppressWarnings("unchecked")
+    public <T> JsonCodec<T> getCodec(Class<T> type) {
+        return (JsonCodec<T>) codecs.get(type);
+    }
+
+    /**
+     * Retrieves the number of types having a codec.
+     * @return number of codecs
+     */
+    public int size() {
+        return codecs.size();
+    }
+
+    /**
+     * Helper class that builds an instance of a JsonCodecRegistry.
+     */
+    public static final class Builder {
+        private final Map<Class<?>, JsonCodec<?>> codecs = new HashMap<>();
+
+        private Builder() {}
+
+        /**
+         * Registers the codec of a type, replacing any codec previously registered for it.
+         * @param type Type of the values
+         * @param codec Codec of the type
+         * @param <T> Type of the values
+         * @return This instance to continue the build process
+         */
+        public <T> Builder withCodec(Class<T> type, JsonCodec<T> codec) {
+            if (type == null || codec == null) {
+                throw new IllegalArgumentException("Type and codec must be provided");
+            }
+            codecs.put(type, codec);
+            return this;
+        }
+
+        /**
+         * Registers the codec of a type from its reader and writer.
+         * @param type Type of the values
+         * @param reader Function reading values
+         * @param writer Function writing values
+         * @param <T> Type of the values
+         * @return This instance to continue the build process
+         */
+        public <T> Builder withCodec(Class<T> type, JsonCodec.Reader<T> reader, JsonCodec.Writer<? super T> writer) {
+            return withCodec(type, JsonCodec.of(reader, writer));
+        }
+
+        /**
+         * Registers all the codecs of a provider.
+         * @param provider Provider of codecs
+         * @return This instance to continue the build process
+         */
+        public Builder withProvider(JsonCodecProvider provider) {
+            provider.registerCodecs(this);
+            return this;
+        }
+
+        /**
+         * Builds the <code>JsonCodecRegistry</code> instance with the values previously provided.
+         * @return New <code>JsonCodecRegistry</code> instance
+         */
+        public JsonCodecRegistry build() {
+            return new JsonCodecRegistry(this);
+        }
+    }
+
+}
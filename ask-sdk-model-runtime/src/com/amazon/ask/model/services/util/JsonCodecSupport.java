@@ -0,0 +1,605 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.model.services.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.util.RawValue;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Building blocks of the generated codecs. Values are read and written the way {@link JacksonSerializer} does:
+ * empty values are not written, scalars are coerced from strings, date-times are written in ISO-8601 and read in
+ * UTC, and untyped values are read as maps, lists, strings, numbers and booleans.
+ */
+public final class JsonCodecSupport {
+
+    private static final JsonFactory BUFFER_FACTORY = new JsonFactory();
+
+    private JsonCodecSupport() {
+    }
+
+    /**
+     * Checks that the parser is positioned at the start of an object.
+     * @param parser Parser positioned on the first token of a value
+     * @return true if the value is an object, false if it is a JSON null
+     * @throws IOException if the value is neither
+     */
+    public static boolean beginObject(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            return true;
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        throw mismatch(parser, "an object");
+    }
+
+    /**
+     * Reads an object of a polymorphic type, picking the reader of its subtype from its discriminator property.
+     * When the discriminator is not the first property, the object is buffered so that it can be read again.
+     * @param parser Parser positioned on the first token of a value
+     * @param property Name of the discriminator property
+     * @param subtypes Function returning the reader of a discriminator value, or null if the value is unknown. The
+     *                 reader is given the parser positioned on the discriminator value, or on the start of the
+     *                 buffered object, and reads the remaining properties.
+     * @param <T> Base type
+     * @return Value read, or null if the value is a JSON null
+     * @throws IOException if the value cannot be read or its discriminator is missing or unknown
+     */
+    public static <T> T readPolymorphic(JsonParser parser, String property,
+                                        Function<String, JsonCodec.Reader<? extends T>> subtypes) throws IOException {
+        if (!beginObject(parser)) {
+            return null;
+        }
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.FIELD_NAME && property.equals(parser.getCurrentName())) {
+            parser.nextToken();
+            return resolveSubtype(parser, property, subtypes, parser.getValueAsString()).read(parser);
+        }
+
+        ByteArrayBuilder buffer = new ByteArrayBuilder();
+        String typeId = null;
+        try (JsonGenerator generator = BUFFER_FACTORY.createGenerator(buffer)) {
+            generator.writeStartObject();
+            for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+                boolean discriminator = typeId == null && property.equals(parser.getCurrentName());
+                generator.copyCurrentStructure(parser);
+                if (discriminator) {
+                    typeId = parser.getValueAsString();
+                }
+            }
+            generator.writeEndObject();
+        }
+        JsonCodec.Reader<? extends T> reader = resolveSubtype(parser, property, subtypes, typeId);
+        try (JsonParser bufferedParser = BUFFER_FACTORY.createParser(buffer.toByteArray())) {
+            bufferedParser.nextToken();
+            return reader.read(bufferedParser);
+        }
+    }
+
+    public static String readString(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != null && token.isScalarValue()) {
+            return parser.getValueAsString();
+        }
+        throw mismatch(parser, "a string");
+    }
+
+    public static Boolean readBoolean(JsonParser parser) throws IOException {
+        switch (currentToken(parser)) {
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_NULL:
+                return null;
+            case VALUE_NUMBER_INT:
+                return parser.getIntValue() != 0;
+            case VALUE_STRING:
+                String text = parser.getText().trim();
+                if ("true".equals(text) || "True".equals(text)) {
+                    return Boolean.TRUE;
+                }
+                if ("false".equals(text) || "False".equals(text)) {
+                    return Boolean.FALSE;
+                }
+                if (text.isEmpty()) {
+                    return null;
+                }
+                throw mismatch(parser, "a boolean");
+            default:
+                throw mismatch(parser, "a boolean");
+        }
+    }
+
+    public static Integer readInteger(JsonParser parser) throws IOException {
+        switch (currentToken(parser)) {
+            case VALUE_NUMBER_INT:
+                return parser.getIntValue();
+            case VALUE_NUMBER_FLOAT:
+                return parser.getValueAsInt();
+            case VALUE_NULL:
+                return null;
+            case VALUE_STRING:
+                String text = parser.getText().trim();
+                try {
+                    return text.isEmpty() ? null : Integer.valueOf(text);
+                } catch (NumberFormatException e) {
+                    throw mismatch(parser, "an integer");
+                }
+            default:
+                throw mismatch(parser, "an integer");
+        }
+    }
+
+    public static Long readLong(JsonParser parser) throws IOException {
+        switch (currentToken(parser)) {
+            case VALUE_NUMBER_INT:
+                return parser.getLongValue();
+            case VALUE_NUMBER_FLOAT:
+                return parser.getValueAsLong();
+            case VALUE_NULL:
+                return null;
+            case VALUE_STRING:
+                String text = parser.getText().trim();
+                try {
+                    return text.isEmpty() ? null : Long.valueOf(text);
+                } catch (NumberFormatException e) {
+                    throw mismatch(parser, "a long");
+                }
+            default:
+                throw mismatch(parser, "a long");
+        }
+    }
+
+    public static Double readDouble(JsonParser parser) throws IOException {
+        switch (currentToken(parser)) {
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return parser.getDoubleValue();
+            case VALUE_NULL:
+                return null;
+            case VALUE_STRING:
+                String text = parser.getText().trim();
+                try {
+                    return text.isEmpty() ? null : Double.valueOf(text);
+                } catch (NumberFormatException e) {
+                    throw mismatch(parser, "a double");
+                }
+            default:
+                throw mismatch(parser, "a double");
+        }
+    }
+
+    public static Float readFloat(JsonParser parser) throws IOException {
+        Double value = readDouble(parser);
+        return value != null ? value.floatValue() : null;
+    }
+
+    public static BigDecimal readBigDecimal(JsonParser parser) throws IOException {
+        switch (currentToken(parser)) {
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return parser.getDecimalValue();
+            case VALUE_NULL:
+                return null;
+            case VALUE_STRING:
+                String text = parser.getText().trim();
+                try {
+                    return text.isEmpty() ? null : new BigDecimal(text);
+                } catch (NumberFormatException e) {
+                    throw mismatch(parser, "a decimal");
+                }
+            default:
+                throw mismatch(parser, "a decimal");
+        }
+    }
+
+    /**
+     * Reads a date-time from an ISO-8601 string or from seconds since the epoch, adjusted to UTC.
+     * @param parser Parser positioned on the value
+     * @return Date-time read, or null if the value is a JSON null or an empty string
+     * @throws IOException if the value is not a date-time
+     */
+    public static OffsetDateTime readOffsetDateTime(JsonParser parser) throws IOException {
+        switch (currentToken(parser)) {
+            case VALUE_STRING:
+                String text = parser.getText().trim();
+                if (text.isEmpty()) {
+                    return null;
+                }
+                try {
+                    return OffsetDateTime.parse(text, DateTimeFormatter.ISO_OFFSET_DATE_TIME)
+                            .withOffsetSameInstant(ZoneOffset.UTC);
+                } catch (DateTimeException e) {
+                    try {
+                        return fromEpochSeconds(new BigDecimal(text));
+                    } catch (NumberFormatException | ArithmeticException ex) {
+                        throw mismatch(parser, "a date-time");
+                    }
+                }
+            case VALUE_NUMBER_INT:
+                return OffsetDateTime.ofInstant(Instant.ofEpochSecond(parser.getLongValue()), ZoneOffset.UTC);
+            case VALUE_NUMBER_FLOAT:
+                return fromEpochSeconds(parser.getDecimalValue());
+            case VALUE_NULL:
+                return null;
+            default:
+                throw mismatch(parser, "a date-time");
+        }
+    }
+
+    /**
+     * Reads a local date-time from an ISO-8601 string, converting instants in UTC, or from an array of its fields.
+     * @param parser Parser positioned on the first token of the value
+     * @return Date-time read, or null if the value is a JSON null or an empty string
+     * @throws IOException if the value is not a local date-time
+     */
+    public static LocalDateTime readLocalDateTime(JsonParser parser) throws IOException {
+        switch (currentToken(parser)) {
+            case VALUE_STRING:
+                String text = parser.getText().trim();
+                if (text.isEmpty()) {
+                    return null;
+                }
+                try {
+                    if (text.endsWith("Z")) {
+                        return LocalDateTime.ofInstant(Instant.parse(text), ZoneOffset.UTC);
+                    }
+                    return LocalDateTime.parse(text, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+                } catch (DateTimeException e) {
+                    throw mismatch(parser, "a local date-time");
+                }
+            case START_ARRAY:
+                List<Integer> fields = readList(parser, JsonCodecSupport::readInteger);
+                if (fields.size() < 5 || fields.size() > 7 || fields.contains(null)) {
+                    throw mismatch(parser, "a local date-time");
+                }
+                return LocalDateTime.of(fields.get(0), fields.get(1), fields.get(2), fields.get(3), fields.get(4),
+                        fields.size() > 5 ? fields.get(5) : 0, fields.size() > 6 ? fields.get(6) : 0);
+            case VALUE_NULL:
+                return null;
+            default:
+                throw mismatch(parser, "a local date-time");
+        }
+    }
+
+    /**
+     * Reads a value of unknown type as a map, a list, a string, a number or a boolean.
+     * @param parser Parser positioned on the first token of the value
+     * @return Value read
+     * @throws IOException if the value cannot be read
+     */
+    public static Object readUntyped(JsonParser parser) throws IOException {
+        switch (currentToken(parser)) {
+            case START_OBJECT:
+                Map<String, Object> map = new LinkedHashMap<>();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String key = parser.getCurrentName();
+                    parser.nextToken();
+                    map.put(key, readUntyped(parser));
+                }
+                return map;
+            case START_ARRAY:
+                List<Object> list = new ArrayList<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    list.add(readUntyped(parser));
+                }
+                return list;
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+                return parser.getNumberValue();
+            case VALUE_NUMBER_FLOAT:
+                return parser.getDoubleValue();
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_EMBEDDED_OBJECT:
+                return parser.getEmbeddedObject();
+            case VALUE_NULL:
+                return null;
+            default:
+                throw mismatch(parser, "a value");
+        }
+    }
+
+    public static <T> List<T> readList(JsonParser parser, JsonCodec.Reader<T> elementReader) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw mismatch(parser, "an array");
+        }
+        List<T> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(elementReader.read(parser));
+        }
+        return list;
+    }
+
+    public static <T> Map<String, T> readMap(JsonParser parser, JsonCodec.Reader<T> valueReader) throws IOException {
+        if (!beginObject(parser)) {
+            return null;
+        }
+        Map<String, T> map = new LinkedHashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String key = parser.getCurrentName();
+            parser.nextToken();
+            map.put(key, valueReader.read(parser));
+        }
+        return map;
+    }
+
+    /**
+     * Checks if a value is left out when written as a property or a map entry: null, empty strings, empty
+     * collections, empty arrays and maps whose entries are all empty are.
+     * @param value Value to check
+     * @return true if the value is empty
+     */
+    public static boolean isEmpty(Object value) {
+        if (value == null) {
+            return true;
+        }
+        if (value instanceof String) {
+            return ((String) value).isEmpty();
+        }
+        if (value instanceof Collection) {
+            return ((Collection<?>) value).isEmpty();
+        }
+        if (value instanceof Map) {
+            for (Object entryValue : ((Map<?, ?>) value).values()) {
+                if (!isEmpty(entryValue)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return value instanceof Object[] && ((Object[]) value).length == 0;
+    }
+
+    public static void writeStringField(JsonGenerator generator, String name, String value) throws IOException {
+        if (value != null && !value.isEmpty()) {
+            generator.writeStringField(name, value);
+        }
+    }
+
+    /**
+     * Writes a property unless its value is empty, see {@link #isEmpty(Object)}.
+     * @param generator Generator to write to
+     * @param name Name of the property
+     * @param value Value of the property
+     * @param writer Function writing the value
+     * @param <T> Type of the value
+     * @throws IOException if the property cannot be written
+     */
+    public static <T> void writeField(JsonGenerator generator, String name, T value,
+                                      JsonCodec.Writer<? super T> writer) throws IOException {
+        if (!isEmpty(value)) {
+            generator.writeFieldName(name);
+            writer.write(generator, value);
+        }
+    }
+
+    /**
+     * Writes a property even if its value is empty or null.
+     * @param generator Generator to write to
+     * @param name Name of the property
+     * @param value Value of the property
+     * @param writer Function writing the value
+     * @param <T> Type of the value
+     * @throws IOException if the property cannot be written
+     */
+    public static <T> void writeFieldAlways(JsonGenerator generator, String name, T value,
+                                            JsonCodec.Writer<? super T> writer) throws IOException {
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            writer.write(generator, value);
+        }
+    }
+
+    public static void writeString(JsonGenerator generator, String value) throws IOException {
+        generator.writeString(value);
+    }
+
+    public static void writeBoolean(JsonGenerator generator, Boolean value) throws IOException {
+        generator.writeBoolean(value);
+    }
+
+    public static void writeInteger(JsonGenerator generator, Integer value) throws IOException {
+        generator.writeNumber(value);
+    }
+
+    public static void writeLong(JsonGenerator generator, Long value) throws IOException {
+        generator.writeNumber(value);
+    }
+
+    public static void writeDouble(JsonGenerator generator, Double value) throws IOException {
+        generator.writeNumber(value);
+    }
+
+    public static void writeFloat(JsonGenerator generator, Float value) throws IOException {
+        generator.writeNumber(value);
+    }
+
+    public static void writeBigDecimal(JsonGenerator generator, BigDecimal value) throws IOException {
+        generator.writeNumber(value);
+    }
+
+    public static void writeOffsetDateTime(JsonGenerator generator, OffsetDateTime value) throws IOException {
+        generator.writeString(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(value));
+    }
+
+    public static void writeLocalDateTime(JsonGenerator generator, LocalDateTime value) throws IOException {
+        generator.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+    }
+
+    /**
+     * Writes a value of unknown type. Strings, numbers, booleans, maps, collections and arrays are written directly,
+     * leaving out empty map entries, raw JSON values are copied as they are, and any other value goes through the
+     * codec of the generator.
+     * @param generator Generator to write to
+     * @param value Value to write
+     * @throws IOException if the value cannot be written
+     */
+    public static void writeUntyped(JsonGenerator generator, Object value) throws IOException {
+        writeUntyped(generator, value, false);
+    }
+
+    /**
+     * Writes a value of unknown type like {@link #writeUntyped(JsonGenerator, Object)}, keeping empty map entries,
+     * as for properties whose values are always included.
+     * @param generator Generator to write to
+     * @param value Value to write
+     * @throws IOException if the value cannot be written
+     */
+    public static void writeUntypedAlways(JsonGenerator generator, Object value) throws IOException {
+        writeUntyped(generator, value, true);
+    }
+
+    public static <T> void writeList(JsonGenerator generator, List<T> list,
+                                     JsonCodec.Writer<? super T> elementWriter) throws IOException {
+        generator.writeStartArray();
+        for (T element : list) {
+            if (element == null) {
+                generator.writeNull();
+            } else {
+                elementWriter.write(generator, element);
+            }
+        }
+        generator.writeEndArray();
+    }
+
+    public static <T> void writeMap(JsonGenerator generator, Map<String, T> map,
+                                    JsonCodec.Writer<? super T> valueWriter) throws IOException {
+        generator.writeStartObject();
+        for (Map.Entry<String, T> entry : map.entrySet()) {
+            if (!isEmpty(entry.getValue())) {
+                generator.writeFieldName(entry.getKey());
+                valueWriter.write(generator, entry.getValue());
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeUntyped(JsonGenerator generator, Object value, boolean keepEmpty) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof String) {
+            generator.writeString((String) value);
+        } else if (value instanceof Boolean) {
+            generator.writeBoolean((Boolean) value);
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            generator.writeNumber(((Number) value).intValue());
+        } else if (value instanceof Long) {
+            generator.writeNumber((Long) value);
+        } else if (value instanceof Double) {
+            generator.writeNumber((Double) value);
+        } else if (value instanceof Float) {
+            generator.writeNumber((Float) value);
+        } else if (value instanceof BigDecimal) {
+            generator.writeNumber((BigDecimal) value);
+        } else if (value instanceof BigInteger) {
+            generator.writeNumber((BigInteger) value);
+        } else if (value instanceof Map) {
+            generator.writeStartObject();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (keepEmpty || !isEmpty(entry.getValue())) {
+                    generator.writeFieldName(String.valueOf(entry.getKey()));
+                    writeUntyped(generator, entry.getValue(), keepEmpty);
+                }
+            }
+            generator.writeEndObject();
+        } else if (value instanceof Collection) {
+            generator.writeStartArray();
+            for (Object element : (Collection<?>) value) {
+                writeUntyped(generator, element, keepEmpty);
+            }
+            generator.writeEndArray();
+        } else if (value instanceof Object[]) {
+            generator.writeStartArray();
+            for (Object element : (Object[]) value) {
+                writeUntyped(generator, element, keepEmpty);
+            }
+            generator.writeEndArray();
+        } else if (value instanceof RawValue) {
+            generator.writeRawValue(String.valueOf(((RawValue) value).rawValue()));
+        } else {
+            generator.writeObject(value);
+        }
+    }
+
+    private static <T> JsonCodec.Reader<? extends T> resolveSubtype(
+            JsonParser parser, String property, Function<String, JsonCodec.Reader<? extends T>> subtypes,
+            String typeId) throws JsonParseException {
+        if (typeId == null) {
+            throw new JsonParseException(parser, "Missing type id property '" + property + "'");
+        }
+        JsonCodec.Reader<? extends T> reader = subtypes.apply(typeId);
+        if (reader == null) {
+            throw new JsonParseException(parser, "Unknown type id '" + typeId + "'");
+        }
+        return reader;
+    }
+
+    private static OffsetDateTime fromEpochSeconds(BigDecimal seconds) {
+        long wholeSeconds = seconds.longValue();
+        int nanos = seconds.subtract(BigDecimal.valueOf(wholeSeconds)).movePointRight(9).intValue();
+        return OffsetDateTime.ofInstant(Instant.ofEpochSecond(wholeSeconds, nanos), ZoneOffset.UTC);
+    }
+
+    private static JsonToken currentToken(JsonParser parser) throws JsonParseException {
+        JsonToken token = parser.currentToken();
+        if (token == null) {
+            throw new JsonParseException(parser, "No content to read");
+        }
+        return token;
+    }
+
+    private static JsonParseException mismatch(JsonParser parser, String expected) {
+        return new JsonParseException(parser, "Expected " + expected + " but found " + parser.currentToken());
+    }
+
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.model.services.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * {@link BinaryJacksonSerializer} writing the Smile binary JSON format. Requires
+ * <code>com.fasterxml.jackson.dataformat:jackson-dataformat-smile</code> on the classpath.
+ */
+public final class SmileSerializer extends BinaryJacksonSerializer {
+
+    /**
+     * Media type of Smile payloads.
+     */
+    public static final String CONTENT_TYPE = "application/x-jackson-smile";
+
+    private static final JacksonSerializer.TypeCache TYPE_CACHE =
+            new JacksonSerializer.TypeCache(JacksonSerializer.configure(new ObjectMapper(new SmileFactory())));
+
+    public SmileSerializer() {
+        super(TYPE_CACHE, CONTENT_TYPE);
+    }
+
+}
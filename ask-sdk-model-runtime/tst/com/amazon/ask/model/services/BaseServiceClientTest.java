@@ -13,22 +13,37 @@
 
 package com.amazon.ask.model.services;
 
+import com.amazon.ask.model.services.util.CborSerializer;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -213,7 +228,6 @@ public class BaseServiceClientTest {
         ArgumentCaptor<Object> bodyCaptor = ArgumentCaptor.forClass(Object.class);
         Object fakeBody = mock(Object.class);
 
-        when(fakeSerializer.serialize(bodyCaptor.capture())).thenReturn("payload");
         when(fakeApiClient.invoke(any())).thenReturn(fakeResponse);
 
         ApiConfiguration config = getApiConfiguration(fakeApiClient, fakeSerializer);
@@ -221,9 +235,77 @@ public class BaseServiceClientTest {
         TestableBaseServiceClient client = new TestableBaseServiceClient(config);
         client.invoke("GET", "http://fake.com", "", new ArrayList<>(), new ArrayList<>(), new HashMap<>(), new ArrayList<>(), fakeBody, null);
 
+        verify(fakeSerializer).serialize(bodyCaptor.capture(), any(OutputStream.class));
         assertEquals(fakeBody, bodyCaptor.getValue());
     }
 
+    @Test
+    public void invoke_SerializesBodyIntoRequestBuffer_WhenItIsPassed() throws ServiceException {
+        Serializer fakeSerializer = mock(Serializer.class);
+        ApiClient fakeApiClient = mock(ApiClient.class);
+
+        Mockito.doAnswer(invocation -> {
+            ((OutputStream) invocation.getArguments()[1]).write("{\"foo\":\"bar\"}".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(fakeSerializer).serialize(any(), any(OutputStream.class));
+
+        ArgumentCaptor<ApiClientRequest> captor = ArgumentCaptor.forClass(ApiClientRequest.class);
+        when(fakeApiClient.invoke(captor.capture())).thenReturn(getEmptyResponse());
+
+        TestableBaseServiceClient client = getBaseServiceClient(fakeApiClient, fakeSerializer);
+        client.invoke("POST", "http://fake.com", "", new ArrayList<>(), new ArrayList<>(), new HashMap<>(), new ArrayList<>(), new Object(), null);
+
+        ApiClientRequest request = captor.getValue();
+        assertEquals(13, request.getBodyBuffer().remaining());
+        assertEquals("{\"foo\":\"bar\"}", request.getBody());
+    }
+
+    @Test
+    public void invoke_DeserializesResponseStream_WhenClientReturnsStreamBody() throws Exception {
+        Serializer fakeSerializer = mock(Serializer.class);
+        ApiClient fakeApiClient = mock(ApiClient.class);
+        Object fakeResponseObj = new Object();
+        AtomicBoolean closed = new AtomicBoolean();
+
+        ApiClientResponse fakeResponse = new ApiClientResponse();
+        fakeResponse.setStatusCode(200);
+        fakeResponse.setBodyStream(new ByteArrayInputStream("Test".getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public void close() throws IOException {
+                closed.set(true);
+                super.close();
+            }
+        });
+
+        when(fakeApiClient.invoke(any())).thenReturn(fakeResponse);
+        when(fakeSerializer.deserialize(any(InputStream.class), any())).thenReturn(fakeResponseObj);
+
+        TestableBaseServiceClient client = getBaseServiceClient(fakeApiClient, fakeSerializer);
+        Object result = client.invoke("GET", "http://fake.com", "", new ArrayList<>(), new ArrayList<>(), new HashMap<>(), new ArrayList<>(), null, Object.class);
+
+        assertEquals(fakeResponseObj, result);
+        assertTrue(closed.get());
+        verify(fakeSerializer, Mockito.never()).deserialize((String) any(), any());
+    }
+
+    @Test
+    public void invoke_ReturnsNull_WhenNoContentResponseWithEmptyStream() throws ServiceException {
+        Serializer fakeSerializer = mock(Serializer.class);
+        ApiClient fakeApiClient = mock(ApiClient.class);
+
+        ApiClientResponse fakeResponse = new ApiClientResponse();
+        fakeResponse.setStatusCode(204);
+        fakeResponse.setBodyStream(new ByteArrayInputStream(new byte[0]));
+
+        when(fakeApiClient.invoke(any())).thenReturn(fakeResponse);
+
+        TestableBaseServiceClient client = getBaseServiceClient(fakeApiClient, fakeSerializer);
+        Object result = client.invoke("GET", "http://fake.com", "", new ArrayList<>(), new ArrayList<>(), new HashMap<>(), new ArrayList<>(), null, Object.class);
+
+        assertNull(result);
+        verify(fakeSerializer, Mockito.never()).deserialize((InputStream) any(), any());
+    }
+
     @Test
     public void invoke_NotSerializesBody_WhenBodyIsNull() throws ServiceException {
         Serializer fakeSerializer = mock(Serializer.class);
@@ -240,6 +322,7 @@ public class BaseServiceClientTest {
         client.invoke("GET", "http://fake.com", "", new ArrayList<>(), new ArrayList<>(), new HashMap<>(), new ArrayList<>(), null, null);
 
         verify(fakeSerializer, Mockito.never()).serialize(any());
+        verify(fakeSerializer, Mockito.never()).serialize(any(), any(OutputStream.class));
     }
 
     @Test
@@ -460,15 +543,513 @@ public class BaseServiceClientTest {
         assertEquals(fakeResponseObj, result.getResponse());
     }
 
+    @Test
+    public void execute_request_async_uses_async_api_client_when_configured() throws Exception {
+        Serializer fakeSerializer = mock(Serializer.class);
+        AsyncApiClient fakeApiClient = mock(AsyncApiClient.class);
+        Object fakeResponseObj = new Object();
+
+        ApiClientResponse fakeResponse = new ApiClientResponse();
+        fakeResponse.setStatusCode(200);
+        fakeResponse.setBody("Test");
+
+        when(fakeApiClient.invokeAsync(any())).thenReturn(CompletableFuture.completedFuture(fakeResponse));
+        when(fakeSerializer.deserialize(anyString(), any())).thenReturn(fakeResponseObj);
+
+        ApiConfiguration config = getApiConfiguration(fakeApiClient, fakeSerializer);
+
+        TestableBaseServiceClient client = new TestableBaseServiceClient(config);
+        ApiResponse<Object> result = client.executeRequestAsync("GET", "http://fake.com", "", new ArrayList<>(), new ArrayList<>(), new HashMap<>(), new ArrayList<>(), null, Object.class).get();
+
+        assertEquals(fakeResponseObj, result.getResponse());
+        assertEquals(200, result.getStatusCode());
+        verify(fakeApiClient, Mockito.never()).invoke(any());
+    }
+
+    @Test
+    public void execute_request_async_falls_back_to_blocking_api_client() throws Exception {
+        Serializer fakeSerializer = mock(Serializer.class);
+        ApiClient fakeApiClient = mock(ApiClient.class);
+
+        when(fakeApiClient.invoke(any())).thenReturn(getEmptyResponse());
+
+        ApiConfiguration config = getApiConfiguration(fakeApiClient, fakeSerializer);
+
+        TestableBaseServiceClient client = new TestableBaseServiceClient(config);
+        CompletableFuture<ApiResponse<Object>> result = client.executeRequestAsync("GET", "http://fake.com", "", new ArrayList<>(), new ArrayList<>(), new HashMap<>(), new ArrayList<>(), null, null);
+
+        assertTrue(result.isDone());
+        assertEquals(200, result.get().getStatusCode());
+    }
+
+    @Test
+    public void execute_request_async_completes_with_error_that_matches_the_status_code() throws Exception {
+        Serializer fakeSerializer = mock(Serializer.class);
+        AsyncApiClient fakeApiClient = mock(AsyncApiClient.class);
+
+        ApiClientResponse fakeResponse = new ApiClientResponse();
+        fakeResponse.setStatusCode(400);
+        fakeResponse.setBody("");
+
+        List<ServiceClientResponse> responses = new ArrayList<>();
+        responses.add(new ServiceClientResponse(Class.class, 200, "Success"));
+        responses.add(new ServiceClientResponse(Class.class, 400, "ERROR"));
+
+        when(fakeSerializer.deserialize(anyString(), any())).thenReturn(new Object());
+        when(fakeApiClient.invokeAsync(any())).thenReturn(CompletableFuture.completedFuture(fakeResponse));
+
+        ApiConfiguration config = getApiConfiguration(fakeApiClient, fakeSerializer);
+
+        TestableBaseServiceClient client = new TestableBaseServiceClient(config);
+        try {
+            client.executeRequestAsync("GET", "http://fake.com", "", new ArrayList<>(), new ArrayList<>(), new HashMap<>(), responses, null, null).get();
+            fail("Expected ServiceException");
+        } catch (ExecutionException ex) {
+            ServiceException cause = (ServiceException) ex.getCause();
+            assertEquals(400, cause.getStatusCode());
+            assertEquals("ERROR", cause.getMessage());
+        }
+    }
+
+    @Test
+    public void execute_request_async_completes_with_service_exception_when_transport_fails() throws Exception {
+        Serializer fakeSerializer = mock(Serializer.class);
+        AsyncApiClient fakeApiClient = mock(AsyncApiClient.class);
+
+        CompletableFuture<ApiClientResponse> failedResponse = new CompletableFuture<>();
+        failedResponse.completeExceptionally(new IllegalStateException("connection reset"));
+        when(fakeApiClient.invokeAsync(any())).thenReturn(failedResponse);
+
+        ApiConfiguration config = getApiConfiguration(fakeApiClient, fakeSerializer);
+
+        TestableBaseServiceClient client = new TestableBaseServiceClient(config);
+        try {
+            client.executeRequestAsync("GET", "http://fake.com", "", new ArrayList<>(), new ArrayList<>(), new HashMap<>(), new ArrayList<>(), null, null).get();
+            fail("Expected ServiceException");
+        } catch (ExecutionException ex) {
+            ServiceException cause = (ServiceException) ex.getCause();
+            assertEquals(500, cause.getStatusCode());
+            assertEquals("Call to service failed: connection reset", cause.getMessage());
+        }
+    }
+
+    @Test
+    public void execute_request_retries_retryable_status_until_success() {
+        Serializer fakeSerializer = mock(Serializer.class);
+        ApiClient fakeApiClient = mock(ApiClient.class);
+
+        ApiClientResponse throttledResponse = new ApiClientResponse();
+        throttledResponse.setStatusCode(429);
+
+        when(fakeApiClient.invoke(any())).thenReturn(throttledResponse, throttledResponse, getEmptyResponse());
+
+        TestableBaseServiceClient client = new TestableBaseServiceClient(getApiConfiguration(fakeApiClient, fakeSerializer,
+                RetryPolicy.builder().withBaseDelayMillis(1).build()));
+        ApiResponse<Object> response = client.executeRequest("GET", "http://fake.com", "", new ArrayList<>(), new ArrayList<>(), new HashMap<>(), new ArrayList<>(), null, null);
+
+        assertEquals(200, response.getStatusCode());
+        verify(fakeApiClient, times(3)).invoke(any());
+    }
+
+    @Test
+    public void execute_request_does_not_retry_post_by_default() {
+        Serializer fakeSerializer = mock(Serializer.class);
+        ApiClient fakeApiClient = mock(ApiClient.class);
+
+        ApiClientResponse unavailableResponse = new ApiClientResponse();
+        unavailableResponse.setStatusCode(503);
+        unavailableResponse.setBody("");
+
+        when(fakeApiClient.invoke(any())).thenReturn(unavailableResponse);
+
+        TestableBaseServiceClient client = new TestableBaseServiceClient(getApiConfiguration(fakeApiClient, fakeSerializer,
+                RetryPolicy.builder().withBaseDelayMillis(1).build()));
+        try {
+            client.executeRequest("POST", "http://fake.com", "", new ArrayList<>(), new ArrayList<>(), new HashMap<>(), new ArrayList<>(), null, null);
+            fail("Expected ServiceException");
+        } catch (ServiceException ex) {
+            assertEquals(503, ex.getStatusCode());
+        }
+        verify(fakeApiClient, times(1)).invoke(any());
+    }
+
+    @Test
+    public void execute_request_retries_transport_failures() {
+        Serializer fakeSerializer = mock(Serializer.class);
+        ApiClient fakeApiClient = mock(ApiClient.class);
+
+        when(fakeApiClient.invoke(any())).thenThrow(new IllegalStateException("connection reset")).thenReturn(getEmptyResponse());
+
+        TestableBaseServiceClient client = new TestableBaseServiceClient(getApiConfiguration(fakeApiClient, fakeSerializer,
+                RetryPolicy.builder().withBaseDelayMillis(1).build()));
+        ApiResponse<Object> response = client.executeRequest("DELETE", "http://fake.com", "", new ArrayList<>(), new ArrayList<>(), new HashMap<>(), new ArrayList<>(), null, null);
+
+        assertEquals(200, response.getStatusCode());
+        verify(fakeApiClient, times(2)).invoke(any());
+    }
+
+    @Test
+    public void execute_request_async_retries_retryable_status_until_success() throws Exception {
+        Serializer fakeSerializer = mock(Serializer.class);
+        AsyncApiClient fakeApiClient = mock(AsyncApiClient.class);
+
+        ApiClientResponse unavailableResponse = new ApiClientResponse();
+        unavailableResponse.setStatusCode(503);
+
+        when(fakeApiClient.invokeAsync(any())).thenReturn(CompletableFuture.completedFuture(unavailableResponse),
+                CompletableFuture.completedFuture(getEmptyResponse()));
+
+        TestableBaseServiceClient client = new TestableBaseServiceClient(getApiConfiguration(fakeApiClient, fakeSerializer,
+                RetryPolicy.builder().withBaseDelayMillis(1).build()));
+        ApiResponse<Object> response = client.executeRequestAsync("GET", "http://fake.com", "", new ArrayList<>(), new ArrayList<>(), new HashMap<>(), new ArrayList<>(), null, null).get();
+
+        assertEquals(200, response.getStatusCode());
+        verify(fakeApiClient, times(2)).invokeAsync(any());
+    }
+
+    @Test
+    public void execute_request_fails_fast_when_rate_limit_exceeded() {
+        Serializer fakeSerializer = mock(Serializer.class);
+        ApiClient fakeApiClient = mock(ApiClient.class);
+
+        when(fakeApiClient.invoke(any())).thenReturn(getEmptyResponse());
+
+        RateLimitPolicy rateLimitPolicy = RateLimitPolicy.builder()
+                .withEndpointLimiter("http://fake.com/", RateLimiter.builder().withPermitsPerSecond(0.01).build())
+                .withMaxWaitMillis(0)
+                .build();
+        TestableBaseServiceClient client = new TestableBaseServiceClient(DefaultApiConfiguration.builder()
+                .withApiClient(fakeApiClient)
+                .withSerializer(fakeSerializer)
+                .withRateLimitPolicy(rateLimitPolicy)
+                .build());
+
+        client.executeRequest("GET", "http://fake.com", "", new ArrayList<>(), new ArrayList<>(), new HashMap<>(), new ArrayList<>(), null, null);
+        try {
+            client.executeRequest("GET", "http://fake.com", "", new ArrayList<>(), new ArrayList<>(), new HashMap<>(), new ArrayList<>(), null, null);
+            fail("Expected ServiceException");
+        } catch (ServiceException ex) {
+            assertEquals(429, ex.getStatusCode());
+        }
+        verify(fakeApiClient, times(1)).invoke(any());
+    }
+
+    @Test
+    public void execute_request_async_completes_exceptionally_when_rate_limit_exceeded() throws Exception {
+        Serializer fakeSerializer = mock(Serializer.class);
+        AsyncApiClient fakeApiClient = mock(AsyncApiClient.class);
+
+        when(fakeApiClient.invokeAsync(any())).thenReturn(CompletableFuture.completedFuture(getEmptyResponse()));
+
+        RateLimitPolicy rateLimitPolicy = RateLimitPolicy.builder()
+                .withOperationLimiter("GET", "/v1/items/{id}", RateLimiter.builder().withPermitsPerSecond(0.01).build())
+                .withMaxWaitMillis(0)
+                .build();
+        TestableBaseServiceClient client = new TestableBaseServiceClient(DefaultApiConfiguration.builder()
+                .withApiClient(fakeApiClient)
+                .withSerializer(fakeSerializer)
+                .withRateLimitPolicy(rateLimitPolicy)
+                .build());
+
+        client.executeRequestAsync("GET", "http://fake.com", "/v1/items/{id}", new ArrayList<>(), new ArrayList<>(), new HashMap<>(), new ArrayList<>(), null, null).get();
+        try {
+            client.executeRequestAsync("GET", "http://fake.com", "/v1/items/{id}", new ArrayList<>(), new ArrayList<>(), new HashMap<>(), new ArrayList<>(), null, null).get();
+            fail("Expected ExecutionException");
+        } catch (ExecutionException ex) {
+            assertEquals(429, ((ServiceException) ex.getCause()).getStatusCode());
+        }
+        verify(fakeApiClient, times(1)).invokeAsync(any());
+    }
+
+    @Test
+    public void execute_request_fails_fast_once_circuit_breaker_opens() {
+        Serializer fakeSerializer = mock(Serializer.class);
+        ApiClient fakeApiClient = mock(ApiClient.class);
+
+        ApiClientResponse unavailableResponse = new ApiClientResponse();
+        unavailableResponse.setStatusCode(503);
+        unavailableResponse.setBody("");
+
+        when(fakeApiClient.invoke(any())).thenReturn(unavailableResponse);
+
+        TestableBaseServiceClient client = new TestableBaseServiceClient(DefaultApiConfiguration.builder()
+                .withApiClient(fakeApiClient)
+                .withSerializer(fakeSerializer)
+                .withCircuitBreakerPolicy(CircuitBreakerPolicy.builder().withFailureThreshold(2).build())
+                .build());
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                client.executeRequest("GET", "http://fake.com", "/v1/items", new ArrayList<>(), new ArrayList<>(), new HashMap<>(), new ArrayList<>(), null, null);
+                fail("Expected ServiceException");
+            } catch (ServiceException ex) {
+                assertEquals(503, ex.getStatusCode());
+            }
+        }
+        try {
+            client.executeRequest("GET", "http://fake.com", "/v1/items", new ArrayList<>(), new ArrayList<>(), new HashMap<>(), new ArrayList<>(), null, null);
+            fail("Expected CallNotPermittedException");
+        } catch (CallNotPermittedException ex) {
+            assertEquals("TestableBaseServiceClient GET /v1/items", ex.getName());
+        }
+        verify(fakeApiClient, times(2)).invoke(any());
+    }
+
+    @Test
+    public void execute_request_async_is_rejected_when_bulkhead_is_full() throws Exception {
+        Serializer fakeSerializer = mock(Serializer.class);
+        AsyncApiClient fakeApiClient = mock(AsyncApiClient.class);
+
+        CompletableFuture<ApiClientResponse> pendingResponse = new CompletableFuture<>();
+        when(fakeApiClient.invokeAsync(any())).thenReturn(pendingResponse);
+
+        BulkheadPolicy bulkheadPolicy = BulkheadPolicy.builder().withMaxConcurrentCalls(1).build();
+        TestableBaseServiceClient client = new TestableBaseServiceClient(DefaultApiConfiguration.builder()
+                .withApiClient(fakeApiClient)
+                .withSerializer(fakeSerializer)
+                .withBulkheadPolicy(bulkheadPolicy)
+                .build());
+
+        CompletableFuture<ApiResponse<Object>> first = client.executeRequestAsync("GET", "http://fake.com", "", new ArrayList<>(), new ArrayList<>(), new HashMap<>(), new ArrayList<>(), null, null);
+        CompletableFuture<ApiResponse<Object>> second = client.executeRequestAsync("GET", "http://fake.com", "", new ArrayList<>(), new ArrayList<>(), new HashMap<>(), new ArrayList<>(), null, null);
+        try {
+            second.get();
+            fail("Expected ExecutionException");
+        } catch (ExecutionException ex) {
+            assertTrue(ex.getCause() instanceof CallNotPermittedException);
+        }
+
+        pendingResponse.complete(getEmptyResponse());
+        assertEquals(200, first.get().getStatusCode());
+        assertEquals(0, bulkheadPolicy.getConcurrentCalls("TestableBaseServiceClient"));
+    }
+
+    @Test
+    public void execute_request_hedges_slow_get_and_cancels_loser() throws Exception {
+        Serializer fakeSerializer = mock(Serializer.class);
+        AsyncApiClient fakeApiClient = mock(AsyncApiClient.class);
+
+        CompletableFuture<ApiClientResponse> slowResponse = new CompletableFuture<>();
+        when(fakeApiClient.invokeAsync(any())).thenReturn(slowResponse, CompletableFuture.completedFuture(getEmptyResponse()));
+
+        TestableBaseServiceClient client = new TestableBaseServiceClient(DefaultApiConfiguration.builder()
+                .withApiClient(fakeApiClient)
+                .withSerializer(fakeSerializer)
+                .withHedgingPolicy(HedgingPolicy.builder().withDelayMillis(1).build())
+                .build());
+        ApiResponse<Object> response = client.executeRequest("GET", "http://fake.com", "/v1/items", new ArrayList<>(), new ArrayList<>(), new HashMap<>(), new ArrayList<>(), null, null);
+
+        assertEquals(200, response.getStatusCode());
+        // The loser is cancelled right after the winner completes the call, possibly on another thread
+        for (int i = 0; i < 100 && !slowResponse.isDone(); i++) {
+            Thread.sleep(10);
+        }
+        assertTrue(slowResponse.isCancelled());
+        verify(fakeApiClient, times(2)).invokeAsync(any());
+    }
+
+    @Test
+    public void hedge_delay_does_not_shrink_once_hedges_win() throws Exception {
+        Serializer fakeSerializer = mock(Serializer.class);
+        AsyncApiClient fakeApiClient = mock(AsyncApiClient.class);
+        // Every original request stalls until cancelled while its hedge answers right away
+        AtomicInteger calls = new AtomicInteger();
+        when(fakeApiClient.invokeAsync(any())).thenAnswer(invocation -> calls.getAndIncrement() % 2 == 0
+                ? new CompletableFuture<>() : CompletableFuture.completedFuture(getEmptyResponse()));
+
+        HedgingPolicy hedgingPolicy = HedgingPolicy.builder()
+                .withDelayMillis(5)
+                .withPercentileDelay(0.95, 64)
+                .withHedgeBudget(1, 1)
+                .build();
+        TestableBaseServiceClient client = new TestableBaseServiceClient(DefaultApiConfiguration.builder()
+                .withApiClient(fakeApiClient)
+                .withSerializer(fakeSerializer)
+                .withHedgingPolicy(hedgingPolicy)
+                .build());
+        for (int i = 0; i < 64; i++) {
+            client.executeRequest("GET", "http://fake.com", "/v1/items", new ArrayList<>(), new ArrayList<>(), new HashMap<>(), new ArrayList<>(), null, null);
+        }
+
+        verify(fakeApiClient, times(128)).invokeAsync(any());
+        assertTrue(hedgingPolicy.getHedgeDelayNanos("GET", "/v1/items") >= TimeUnit.MILLISECONDS.toNanos(5));
+    }
+
+    @Test
+    public void execute_request_async_skips_hedge_without_rate_limit_permit() throws Exception {
+        Serializer fakeSerializer = mock(Serializer.class);
+        AsyncApiClient fakeApiClient = mock(AsyncApiClient.class);
+
+        CompletableFuture<ApiClientResponse> slowResponse = new CompletableFuture<>();
+        when(fakeApiClient.invokeAsync(any())).thenReturn(slowResponse, CompletableFuture.completedFuture(getEmptyResponse()));
+
+        TestableBaseServiceClient client = new TestableBaseServiceClient(DefaultApiConfiguration.builder()
+                .withApiClient(fakeApiClient)
+                .withSerializer(fakeSerializer)
+                .withHedgingPolicy(HedgingPolicy.builder().withDelayMillis(1).build())
+                .withRateLimitPolicy(RateLimitPolicy.builder()
+                        .withEndpointLimiter("http://fake.com", RateLimiter.builder().withPermitsPerSecond(0.01).build())
+                        .build())
+                .build());
+        CompletableFuture<ApiResponse<Object>> response = client.executeRequestAsync("GET", "http://fake.com", "/v1/items", new ArrayList<>(), new ArrayList<>(), new HashMap<>(), new ArrayList<>(), null, null);
+        Thread.sleep(50);
+        slowResponse.complete(getEmptyResponse());
+
+        assertEquals(200, response.get().getStatusCode());
+        verify(fakeApiClient, times(1)).invokeAsync(any());
+    }
+
+    @Test
+    public void execute_request_async_skips_hedge_when_circuit_refuses_it() throws Exception {
+        Serializer fakeSerializer = mock(Serializer.class);
+        AsyncApiClient fakeApiClient = mock(AsyncApiClient.class);
+
+        CompletableFuture<ApiClientResponse> slowResponse = new CompletableFuture<>();
+        when(fakeApiClient.invokeAsync(any())).thenReturn(slowResponse, CompletableFuture.completedFuture(getEmptyResponse()));
+
+        CircuitBreakerPolicy circuitBreakerPolicy = CircuitBreakerPolicy.builder().withFailureThreshold(1).build();
+        TestableBaseServiceClient client = new TestableBaseServiceClient(DefaultApiConfiguration.builder()
+                .withApiClient(fakeApiClient)
+                .withSerializer(fakeSerializer)
+                .withHedgingPolicy(HedgingPolicy.builder().withDelayMillis(20).build())
+                .withCircuitBreakerPolicy(circuitBreakerPolicy)
+                .build());
+        CompletableFuture<ApiResponse<Object>> response = client.executeRequestAsync("GET", "http://fake.com", "/v1/items", new ArrayList<>(), new ArrayList<>(), new HashMap<>(), new ArrayList<>(), null, null);
+        CircuitBreaker circuitBreaker = circuitBreakerPolicy.getCircuitBreaker("TestableBaseServiceClient", "GET", "/v1/items");
+        circuitBreaker.onFailure(circuitBreaker.tryAcquirePermission());
+        Thread.sleep(50);
+        slowResponse.complete(getEmptyResponse());
+
+        assertEquals(200, response.get().getStatusCode());
+        verify(fakeApiClient, times(1)).invokeAsync(any());
+    }
+
+    @Test
+    public void execute_request_async_does_not_hedge_post() throws Exception {
+        Serializer fakeSerializer = mock(Serializer.class);
+        AsyncApiClient fakeApiClient = mock(AsyncApiClient.class);
+
+        CompletableFuture<ApiClientResponse> slowResponse = new CompletableFuture<>();
+        when(fakeApiClient.invokeAsync(any())).thenReturn(slowResponse);
+
+        TestableBaseServiceClient client = new TestableBaseServiceClient(DefaultApiConfiguration.builder()
+                .withApiClient(fakeApiClient)
+                .withSerializer(fakeSerializer)
+                .withHedgingPolicy(HedgingPolicy.builder().withDelayMillis(0).build())
+                .build());
+        CompletableFuture<ApiResponse<Object>> response = client.executeRequestAsync("POST", "http://fake.com", "/v1/items", new ArrayList<>(), new ArrayList<>(), new HashMap<>(), new ArrayList<>(), null, null);
+        Thread.sleep(20);
+        slowResponse.complete(getEmptyResponse());
+
+        assertEquals(200, response.get().getStatusCode());
+        verify(fakeApiClient, times(1)).invokeAsync(any());
+    }
+
+    @Test
+    public void execute_request_with_descriptor_prepends_constant_headers_and_maps_errors() {
+        Serializer fakeSerializer = mock(Serializer.class);
+        ApiClient fakeApiClient = mock(ApiClient.class);
+
+        ApiClientResponse notFoundResponse = new ApiClientResponse();
+        notFoundResponse.setStatusCode(404);
+        notFoundResponse.setBody("{}");
+
+        ArgumentCaptor<ApiClientRequest> captor = ArgumentCaptor.forClass(ApiClientRequest.class);
+        when(fakeApiClient.invoke(captor.capture())).thenReturn(notFoundResponse);
+        when(fakeSerializer.deserialize("{}", String.class)).thenReturn("not found");
+
+        OperationDescriptor<Void> operation = OperationDescriptor.builder("GET", "/v1/items/{id}", Void.class)
+                .withHeader("Content-type", "application/json")
+                .withResponse(String.class, 404, "Not Found")
+                .build();
+        TestableBaseServiceClient client = getBaseServiceClient(fakeApiClient, fakeSerializer);
+        try {
+            client.executeRequest(operation, "http://fake.com", Collections.emptyList(),
+                    Collections.singletonList(new Pair<>("Authorization", "Bearer token")), Collections.singletonMap("id", "42"), null);
+            fail("Expected ServiceException");
+        } catch (ServiceException ex) {
+            assertEquals("Not Found", ex.getMessage());
+            assertEquals("not found", ex.getBody());
+        }
+
+        ApiClientRequest request = captor.getValue();
+        assertEquals("http://fake.com/v1/items/42", request.getUrl());
+        assertEquals("Content-type", request.getHeaders().get(0).getName());
+        assertEquals("Authorization", request.getHeaders().get(1).getName());
+    }
+
+    @Test
+    public void execute_request_sends_json_with_binary_serializer() throws ServiceException {
+        ApiClient fakeApiClient = mock(ApiClient.class);
+
+        ArgumentCaptor<ApiClientRequest> captor = ArgumentCaptor.forClass(ApiClientRequest.class);
+        when(fakeApiClient.invoke(captor.capture())).thenReturn(getEmptyResponse());
+
+        OperationDescriptor<Void> operation = OperationDescriptor.builder("POST", "/v1/items", Void.class)
+                .withHeader("Content-type", "application/json")
+                .withResponse(Void.class, 200, "Success")
+                .build();
+        TestableBaseServiceClient client = getBaseServiceClient(fakeApiClient, new CborSerializer());
+        client.executeRequest(operation, "http://fake.com", Collections.emptyList(),
+                Collections.singletonList(new Pair<>("Authorization", "Bearer token")), Collections.emptyMap(),
+                Collections.singletonMap("foo", "bar"));
+
+        ApiClientRequest request = captor.getValue();
+        assertEquals("application/json", request.getContentType());
+        assertEquals(2, request.getHeaders().size());
+        assertEquals("{\"foo\":\"bar\"}", request.getBody());
+    }
+
+    @Test
+    public void execute_request_reads_response_with_serializer_of_its_content_type() throws ServiceException {
+        CborSerializer cborSerializer = new CborSerializer();
+        ApiClient fakeApiClient = mock(ApiClient.class);
+
+        ApiClientResponse cborResponse = new ApiClientResponse();
+        cborResponse.setStatusCode(200);
+        cborResponse.setHeaders(Collections.singletonList(new Pair<>("content-type", "application/cbor")));
+        cborResponse.setBodyBuffer(ByteBuffer.wrap(cborSerializer.serializeToBytes(Collections.singletonMap("foo", "cbor"))));
+        ApiClientResponse jsonResponse = new ApiClientResponse();
+        jsonResponse.setStatusCode(200);
+        jsonResponse.setHeaders(Collections.singletonList(new Pair<>("Content-Type", "application/json; charset=utf-8")));
+        jsonResponse.setBodyBuffer(ByteBuffer.wrap("{\"foo\":\"json\"}".getBytes(StandardCharsets.UTF_8)));
+        when(fakeApiClient.invoke(any())).thenReturn(cborResponse, jsonResponse);
+
+        OperationDescriptor<Map> operation = OperationDescriptor.builder("GET", "/v1/items", Map.class)
+                .withResponse(Map.class, 200, "Success")
+                .build();
+        TestableBaseServiceClient client = getBaseServiceClient(fakeApiClient, cborSerializer);
+
+        assertEquals(Collections.singletonMap("foo", "cbor"), client.executeRequest(operation, "http://fake.com",
+                Collections.emptyList(), Collections.emptyList(), Collections.emptyMap(), null).getResponse());
+        assertEquals(Collections.singletonMap("foo", "json"), client.executeRequest(operation, "http://fake.com",
+                Collections.emptyList(), Collections.emptyList(), Collections.emptyMap(), null).getResponse());
+    }
+
+    @Test
+    public void binary_body_is_base64_encoded_when_read_as_string() {
+        byte[] bytes = new byte[] {(byte) 0xd9, (byte) 0xd9, (byte) 0xf7, 0x00, (byte) 0xff};
+        ApiClientResponse response = new ApiClientResponse();
+        response.setHeaders(Collections.singletonList(new Pair<>("Content-Type", "application/cbor")));
+        response.setBodyStream(new ByteArrayInputStream(bytes));
+
+        assertEquals(Base64.getEncoder().encodeToString(bytes), response.getBody());
+    }
+
     private TestableBaseServiceClient getBaseServiceClient(ApiClient client, Serializer serializer) {
         return new TestableBaseServiceClient(getApiConfiguration(client, serializer));
     }
 
     private ApiConfiguration getApiConfiguration(ApiClient client, Serializer serializer) {
+        return getApiConfiguration(client, serializer, null);
+    }
+
+    private ApiConfiguration getApiConfiguration(ApiClient client, Serializer serializer, RetryPolicy retryPolicy) {
         return DefaultApiConfiguration.builder()
                 .withApiClient(client)
                 .withAuthorizationValue("token")
                 .withSerializer(serializer)
+                .withRetryPolicy(retryPolicy)
                 .build();
     }
 
@@ -496,5 +1077,11 @@ public class BaseServiceClientTest {
                                                  List<ServiceClientResponse> responseDefinitions, Object body, Class responseType) throws ServiceException {
             return super.executeRequest(method, endpoint, path, queryParams, headerParams, pathParams, responseDefinitions, body, responseType, false);
         }
+
+        public <T> CompletableFuture<ApiResponse<T>> executeRequestAsync(String method, String endpoint, String path, List<Pair<String, String>> queryParams,
+                                                                         List<Pair<String, String>> headerParams, Map<String, String> pathParams,
+                                                                         List<ServiceClientResponse> responseDefinitions, Object body, Class responseType) {
+            return super.executeRequestAsync(method, endpoint, path, queryParams, headerParams, pathParams, responseDefinitions, body, responseType, false);
+        }
     }
 }
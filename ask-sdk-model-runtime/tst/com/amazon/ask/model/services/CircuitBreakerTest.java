@@ -0,0 +1,134 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.model.services;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CircuitBreakerTest {
+
+    @Test
+    public void opens_after_consecutive_failures() {
+        CircuitBreaker circuitBreaker = CircuitBreakerPolicy.builder().withFailureThreshold(2).build()
+                .getCircuitBreaker("UpsServiceClient", "GET", "/v2/accounts/~current/settings/Profile.email");
+
+        circuitBreaker.onFailure(circuitBreaker.tryAcquirePermission());
+        circuitBreaker.onSuccess(circuitBreaker.tryAcquirePermission());
+        circuitBreaker.onFailure(circuitBreaker.tryAcquirePermission());
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        circuitBreaker.onFailure(circuitBreaker.tryAcquirePermission());
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertNull(circuitBreaker.tryAcquirePermission());
+    }
+
+    @Test
+    public void half_open_probe_closes_or_reopens() {
+        List<String> transitions = new ArrayList<>();
+        CircuitBreaker circuitBreaker = CircuitBreakerPolicy.builder()
+                .withFailureThreshold(1)
+                .withOpenDurationMillis(0)
+                .withListener(new CircuitBreakerListener() {
+                    @Override
+                    public void onStateTransition(String name, CircuitBreaker.State from, CircuitBreaker.State to) {
+                        transitions.add(from + "->" + to);
+                    }
+                })
+                .build()
+                .getCircuitBreaker("UpsServiceClient", "GET", "/v2/persons/~current/profile/name");
+
+        circuitBreaker.onFailure(circuitBreaker.tryAcquirePermission());
+        CircuitBreaker.Snapshot probe = circuitBreaker.tryAcquirePermission();
+        assertNotNull(probe);
+        assertNull(circuitBreaker.tryAcquirePermission());
+        circuitBreaker.onFailure(probe);
+        probe = circuitBreaker.tryAcquirePermission();
+        assertNotNull(probe);
+        circuitBreaker.onSuccess(probe);
+
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertEquals("[CLOSED->OPEN, OPEN->HALF_OPEN, HALF_OPEN->OPEN, OPEN->HALF_OPEN, HALF_OPEN->CLOSED]",
+                transitions.toString());
+    }
+
+    @Test
+    public void late_outcomes_of_calls_admitted_while_closed_are_ignored_when_half_open() {
+        CircuitBreaker circuitBreaker = CircuitBreakerPolicy.builder()
+                .withFailureThreshold(1)
+                .withOpenDurationMillis(0)
+                .build()
+                .getCircuitBreaker("UpsServiceClient", "GET", "/v2/accounts/~current/settings/Profile.email");
+
+        CircuitBreaker.Snapshot slowSuccess = circuitBreaker.tryAcquirePermission();
+        CircuitBreaker.Snapshot slowFailure = circuitBreaker.tryAcquirePermission();
+        circuitBreaker.onFailure(circuitBreaker.tryAcquirePermission());
+        CircuitBreaker.Snapshot probe = circuitBreaker.tryAcquirePermission();
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+
+        circuitBreaker.onSuccess(slowSuccess);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        circuitBreaker.onFailure(slowFailure);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        circuitBreaker.onSuccess(probe);
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        circuitBreaker.onFailure(probe);
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    public void breakers_are_kept_per_client_and_operation() {
+        CircuitBreakerPolicy policy = CircuitBreakerPolicy.builder().build();
+        CircuitBreakerPolicy perClientPolicy = CircuitBreakerPolicy.builder().withPerOperation(false).build();
+
+        assertSame(policy.getCircuitBreaker("UpsServiceClient", "GET", "/a"), policy.getCircuitBreaker("UpsServiceClient", "GET", "/a"));
+        assertNotSame(policy.getCircuitBreaker("UpsServiceClient", "GET", "/a"), policy.getCircuitBreaker("UpsServiceClient", "GET", "/b"));
+        assertSame(perClientPolicy.getCircuitBreaker("UpsServiceClient", "GET", "/a"), perClientPolicy.getCircuitBreaker("UpsServiceClient", "GET", "/b"));
+        assertEquals("UpsServiceClient GET /a", policy.getCircuitBreaker("UpsServiceClient", "GET", "/a").getName());
+    }
+
+    @Test
+    public void bulkhead_limits_concurrent_calls_per_client() {
+        List<String> rejections = new ArrayList<>();
+        BulkheadPolicy bulkheadPolicy = BulkheadPolicy.builder()
+                .withMaxConcurrentCalls(1)
+                .withClientMaxConcurrentCalls("UpsServiceClient", 2)
+                .withListener(new BulkheadListener() {
+                    @Override
+                    public void onCallRejected(String name, int maxConcurrentCalls) {
+                        rejections.add(name + ":" + maxConcurrentCalls);
+                    }
+                })
+                .build();
+
+        assertTrue(bulkheadPolicy.tryAcquire("ListManagementServiceClient"));
+        assertFalse(bulkheadPolicy.tryAcquire("ListManagementServiceClient"));
+        assertTrue(bulkheadPolicy.tryAcquire("UpsServiceClient"));
+        assertTrue(bulkheadPolicy.tryAcquire("UpsServiceClient"));
+        bulkheadPolicy.release("ListManagementServiceClient");
+        assertTrue(bulkheadPolicy.tryAcquire("ListManagementServiceClient"));
+
+        assertEquals(2, bulkheadPolicy.getConcurrentCalls("UpsServiceClient"));
+        assertEquals("[ListManagementServiceClient:1]", rejections.toString());
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.model.services;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class DefaultApiClientTest {
+
+    private HttpServer server;
+    private String baseUrl;
+    private final AtomicReference<String> receivedMethod = new AtomicReference<>();
+    private final AtomicReference<String> receivedBody = new AtomicReference<>();
+    private final AtomicReference<String> receivedHeader = new AtomicReference<>();
+
+    @Before
+    public void setup() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/echo", exchange -> {
+            receivedMethod.set(exchange.getRequestMethod());
+            receivedHeader.set(exchange.getRequestHeaders().getFirst("Authorization"));
+            receivedBody.set(read(exchange.getRequestBody()));
+            byte[] response = "{\"foo\":\"bar\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("x-amzn-requestid", "1234");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(response);
+            }
+        });
+        server.createContext("/v1/missing", exchange -> {
+            byte[] response = "{\"message\":\"not found\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(404, response.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(response);
+            }
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void invoke_sends_method_headers_and_body() {
+        ApiClientRequest request = new ApiClientRequest();
+        request.setUrl(baseUrl + "/v1/echo");
+        request.setMethod("POST");
+        request.setHeaders(Collections.singletonList(new Pair<>("Authorization", "Bearer token")));
+        request.setBody("payload");
+
+        ApiClientResponse response = DefaultApiClient.builder().build().invoke(request);
+
+        assertEquals(200, response.getStatusCode());
+        assertEquals("{\"foo\":\"bar\"}", response.getBody());
+        assertTrue(response.getHeaders().stream().anyMatch(h -> h.getValue().equals("1234")));
+        assertEquals("POST", receivedMethod.get());
+        assertEquals("Bearer token", receivedHeader.get());
+        assertEquals("payload", receivedBody.get());
+    }
+
+    @Test
+    public void invoke_returns_error_responses_without_throwing() {
+        ApiClientRequest request = new ApiClientRequest();
+        request.setUrl(baseUrl + "/v1/missing");
+        request.setMethod("GET");
+
+        ApiClientResponse response = DefaultApiClient.builder().build().invoke(request);
+
+        assertEquals(404, response.getStatusCode());
+        assertEquals("{\"message\":\"not found\"}", response.getBody());
+    }
+
+    @Test
+    public void invoke_async_completes_with_response() {
+        ApiClientRequest request = new ApiClientRequest();
+        request.setUrl(baseUrl + "/v1/echo");
+        request.setMethod("GET");
+
+        ApiClientResponse response = DefaultApiClient.builder()
+                .withMaxConcurrentRequests(1)
+                .build()
+                .invokeAsync(request)
+                .join();
+
+        assertEquals(200, response.getStatusCode());
+        assertEquals("GET", receivedMethod.get());
+    }
+
+    @Test
+    public void invoke_async_completes_exceptionally_when_executor_rejects_request() {
+        ApiClientRequest request = new ApiClientRequest();
+        request.setUrl(baseUrl + "/v1/echo");
+        request.setMethod("GET");
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+
+        CompletableFuture<ApiClientResponse> response = DefaultApiClient.builder()
+                .withExecutor(executor)
+                .build()
+                .invokeAsync(request);
+
+        assertTrue(response.isCompletedExceptionally());
+        try {
+            response.join();
+        } catch (CompletionException e) {
+            assertTrue(e.getCause() instanceof RejectedExecutionException);
+        }
+    }
+
+    @Test
+    public void api_configuration_uses_shared_default_client_when_none_provided() {
+        ApiConfiguration configuration = DefaultApiConfiguration.builder().build();
+
+        assertSame(DefaultApiClient.getDefault(), configuration.getApiClient());
+    }
+
+    private static String read(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, read);
+        }
+        return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.model.services;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class HedgingPolicyTest {
+
+    @Test
+    public void only_get_operations_are_hedged() {
+        HedgingPolicy policy = HedgingPolicy.builder().build();
+        HedgingPolicy restrictedPolicy = HedgingPolicy.builder().withOperation("/v2/accounts/~current/settings/Profile.email").build();
+
+        assertTrue(policy.isHedged("GET", "/v1/users/~current/skills/{skillId}/inSkillProducts"));
+        assertFalse(policy.isHedged("POST", "/v2/householdlists"));
+        assertTrue(restrictedPolicy.isHedged("GET", "/v2/accounts/~current/settings/Profile.email"));
+        assertFalse(restrictedPolicy.isHedged("GET", "/v2/accounts/~current/settings/Profile.name"));
+    }
+
+    @Test
+    public void hedge_budget_limits_hedges_to_ratio_of_calls() {
+        HedgingPolicy policy = HedgingPolicy.builder().withHedgeBudget(0.5, 1).build();
+
+        assertTrue(policy.tryAcquireHedge());
+        assertFalse(policy.tryAcquireHedge());
+        policy.recordCall();
+        assertFalse(policy.tryAcquireHedge());
+        policy.recordCall();
+        assertTrue(policy.tryAcquireHedge());
+    }
+
+    @Test
+    public void delay_is_derived_from_percentile_once_enough_latencies_recorded() {
+        HedgingPolicy policy = HedgingPolicy.builder()
+                .withDelayMillis(100)
+                .withPercentileDelay(0.9, 64)
+                .build();
+
+        for (int i = 0; i < 63; i++) {
+            policy.recordLatency("GET", "/v1/items", TimeUnit.MILLISECONDS.toNanos(i < 57 ? 10 : 1000));
+        }
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), policy.getHedgeDelayNanos("GET", "/v1/items"));
+
+        policy.recordLatency("GET", "/v1/items", TimeUnit.MILLISECONDS.toNanos(10));
+        long delayNanos = policy.getHedgeDelayNanos("GET", "/v1/items");
+        assertTrue(delayNanos >= TimeUnit.MILLISECONDS.toNanos(10));
+        assertTrue(delayNanos < TimeUnit.MILLISECONDS.toNanos(13));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), policy.getHedgeDelayNanos("GET", "/v1/other"));
+    }
+
+    @Test
+    public void histogram_buckets_bound_values() {
+        for (long value : new long[] {0, 1, 3, 4, 7, 8, 9, 1000, 123456789}) {
+            long upperBound = LatencyHistogram.upperBoundOf(LatencyHistogram.bucketOf(value));
+            assertTrue(upperBound >= value);
+            assertTrue(upperBound <= value + value / 4 + 1);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.model.services;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class OperationDescriptorTest {
+
+    @Test
+    public void responses_are_looked_up_by_status_code_with_first_definition_winning() {
+        OperationDescriptor<String> operation = OperationDescriptor.builder("GET", "/v1/items/{id}", String.class)
+                .withResponse(Integer.class, 500, "Internal Server Error")
+                .withResponse(String.class, 200, "Success")
+                .withResponse(Long.class, 404, "Not Found")
+                .withResponse(Double.class, 404, "Duplicate")
+                .build();
+
+        int index = operation.findResponse(404);
+        assertSame(Long.class, operation.getResponseType(index));
+        assertEquals("Not Found", operation.getResponseMessage(index));
+        assertEquals(404, operation.getResponseStatusCode(index));
+        assertEquals("Internal Server Error", operation.getResponseMessage(operation.findResponse(500)));
+        assertTrue(operation.findResponse(403) < 0);
+    }
+
+    @Test
+    public void void_operations_have_no_response_type() {
+        OperationDescriptor<Void> operation = OperationDescriptor.builder("DELETE", "/v1/items/{id}", Void.class)
+                .withHeader("Content-type", "application/json")
+                .build();
+
+        assertNull(operation.getResponseType());
+        assertEquals("Content-type", operation.getHeaders().get(0).getName());
+        assertSame(UrlTemplate.of("/v1/items/{id}"), operation.getUrlTemplate());
+    }
+}
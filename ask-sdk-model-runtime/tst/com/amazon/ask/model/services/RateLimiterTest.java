@@ -0,0 +1,72 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.model.services;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RateLimiterTest {
+
+    @Test
+    public void burst_is_available_right_away_then_refused() {
+        RateLimiter limiter = RateLimiter.builder().withPermitsPerSecond(1).withBurst(3).build();
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+    }
+
+    @Test
+    public void reserve_returns_wait_until_next_permit() {
+        RateLimiter limiter = RateLimiter.builder().withPermitsPerSecond(1).build();
+
+        assertEquals(0, limiter.reserve(0));
+        long waitNanos = limiter.reserve(Long.MAX_VALUE);
+        assertTrue(waitNanos > TimeUnit.MILLISECONDS.toNanos(900));
+        assertTrue(waitNanos <= TimeUnit.SECONDS.toNanos(1));
+        assertTrue(limiter.reserve(TimeUnit.MILLISECONDS.toNanos(500)) < 0);
+    }
+
+    @Test
+    public void acquire_async_completes_once_permit_is_available() throws Exception {
+        RateLimiter limiter = RateLimiter.builder().withPermitsPerSecond(50).build();
+
+        limiter.acquireAsync().get(1, TimeUnit.SECONDS);
+        long start = System.nanoTime();
+        limiter.acquireAsync().get(1, TimeUnit.SECONDS);
+
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(10));
+    }
+
+    @Test
+    public void policy_applies_operation_and_endpoint_limiters() {
+        RateLimitPolicy policy = RateLimitPolicy.builder()
+                .withEndpointLimiter("https://api.amazonalexa.com", RateLimiter.builder().withPermitsPerSecond(1).withBurst(2).build())
+                .withOperationLimiter("GET", "/v2/householdlists", RateLimiter.builder().withPermitsPerSecond(1).build())
+                .withMaxWaitMillis(0)
+                .build();
+
+        assertEquals(0, policy.reserve("https://api.amazonalexa.com/", "GET", "/v2/householdlists"));
+        assertTrue(policy.reserve("https://api.amazonalexa.com", "GET", "/v2/householdlists") < 0);
+        assertEquals(0, policy.reserve("https://api.amazonalexa.com", "POST", "/v2/householdlists"));
+        assertTrue(policy.reserve("https://api.amazonalexa.com", "DELETE", "/v2/householdlists/{listId}") < 0);
+        assertEquals(0, policy.reserve("https://api.eu.amazonalexa.com", "DELETE", "/v2/householdlists/{listId}"));
+    }
+}
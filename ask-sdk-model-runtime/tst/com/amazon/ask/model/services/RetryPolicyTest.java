@@ -0,0 +1,104 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.model.services;
+
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class RetryPolicyTest {
+
+    @Test
+    public void backoff_is_bounded_by_exponential_delay() {
+        RetryPolicy policy = RetryPolicy.builder()
+                .withMaxAttempts(10)
+                .withBaseDelayMillis(100)
+                .withMaxDelayMillis(500)
+                .build();
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(policy.getRetryDelayMillis("GET", 1, 503, null) <= 100);
+            assertTrue(policy.getRetryDelayMillis("GET", 3, 503, null) <= 400);
+            assertTrue(policy.getRetryDelayMillis("GET", 9, 503, null) <= 500);
+        }
+    }
+
+    @Test
+    public void stops_after_max_attempts() {
+        RetryPolicy policy = RetryPolicy.builder().withMaxAttempts(2).build();
+
+        assertTrue(policy.getRetryDelayMillis("GET", 1, 500, null) >= 0);
+        assertTrue(policy.getRetryDelayMillis("GET", 2, 500, null) < 0);
+    }
+
+    @Test
+    public void only_retries_configured_status_codes_and_transport_errors() {
+        RetryPolicy policy = RetryPolicy.builder().build();
+
+        assertTrue(policy.getRetryDelayMillis("GET", 1, 429, null) >= 0);
+        assertTrue(policy.getRetryDelayMillis("GET", 1, null, null) >= 0);
+        assertTrue(policy.getRetryDelayMillis("GET", 1, 400, null) < 0);
+        assertTrue(policy.getRetryDelayMillis("GET", 1, 404, null) < 0);
+    }
+
+    @Test
+    public void post_is_retried_only_when_opted_in() {
+        RetryPolicy defaultPolicy = RetryPolicy.builder().build();
+        RetryPolicy optedInPolicy = RetryPolicy.builder().withRetryNonIdempotentMethods(true).build();
+
+        assertFalse(defaultPolicy.isRetryableMethod("POST"));
+        assertTrue(defaultPolicy.isRetryableMethod("PUT"));
+        assertTrue(defaultPolicy.isRetryableMethod("DELETE"));
+        assertTrue(optedInPolicy.isRetryableMethod("POST"));
+        assertTrue(defaultPolicy.getRetryDelayMillis("POST", 1, 503, null) < 0);
+    }
+
+    @Test
+    public void retry_after_seconds_is_honored() {
+        RetryPolicy policy = RetryPolicy.builder().withMaxDelayMillis(5000).build();
+
+        assertEquals(2000, policy.getRetryDelayMillis("GET", 1, 429,
+                Collections.singletonList(new Pair<>("retry-after", "2"))));
+        assertTrue(policy.getRetryDelayMillis("GET", 1, 429,
+                Collections.singletonList(new Pair<>("Retry-After", "60"))) < 0);
+    }
+
+    @Test
+    public void operation_override_replaces_policy() {
+        RetryPolicy override = RetryPolicy.builder().withRetryNonIdempotentMethods(true).build();
+        RetryPolicy policy = RetryPolicy.builder()
+                .withOperationOverride("POST", "/v1/skills/{skillId}/submit", override)
+                .build();
+
+        assertSame(override, policy.forOperation("POST", "/v1/skills/{skillId}/submit"));
+        assertSame(policy, policy.forOperation("POST", "/v1/skills/{skillId}/withdraw"));
+    }
+
+    @Test
+    public void retry_budget_limits_retries_to_ratio_of_calls() {
+        RetryPolicy policy = RetryPolicy.builder().withRetryBudget(0.5, 1).build();
+
+        assertTrue(policy.tryAcquireRetry());
+        assertFalse(policy.tryAcquireRetry());
+        policy.recordCall();
+        assertFalse(policy.tryAcquireRetry());
+        policy.recordCall();
+        assertTrue(policy.tryAcquireRetry());
+    }
+}
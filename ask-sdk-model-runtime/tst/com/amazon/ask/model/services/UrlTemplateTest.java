@@ -0,0 +1,74 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.model.services;
+
+import org.junit.Test;
+
+import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class UrlTemplateTest {
+
+    @Test
+    public void encode_matches_url_encoder_with_encoded_spaces() throws Exception {
+        String[] values = {"", "plain", "with space", "a+b=c&d", "<50%>", "~tilde*star.dot-dash_under",
+                "café", "日本語", "emoji 😀", "lone \ud83d surrogate", "/path/?query#frag"};
+        for (String value : values) {
+            StringBuilder sb = new StringBuilder();
+            UrlTemplate.encode(value, sb);
+            assertEquals(URLEncoder.encode(value, "UTF-8").replaceAll("\\+", "%20"), sb.toString());
+        }
+    }
+
+    @Test
+    public void build_url_interpolates_repeated_and_adjacent_variables() {
+        Map<String, String> pathParams = new HashMap<>();
+        pathParams.put("listId", "a b");
+        pathParams.put("itemId", "42");
+
+        String url = UrlTemplate.of("/v2/householdlists/{listId}/items/{itemId}{itemId}/{listId}")
+                .buildUrl("https://api.amazonalexa.com/", null, pathParams);
+
+        assertEquals("https://api.amazonalexa.com/v2/householdlists/a%20b/items/4242/a%20b", url);
+    }
+
+    @Test
+    public void build_url_leaves_variables_without_values_untouched() {
+        String url = UrlTemplate.of("/v1/{unknown}/items/{").buildUrl("https://foo.com", null, new HashMap<>());
+
+        assertEquals("https://foo.com/v1/{unknown}/items/{", url);
+    }
+
+    @Test
+    public void build_url_appends_query_after_constant_query() {
+        List<Pair<String, String>> query = new ArrayList<>();
+        query.add(new Pair<>("a", "1"));
+        query.add(new Pair<>("b", "2"));
+
+        String url = UrlTemplate.of("/v1/items?static=value").buildUrl("https://foo.com", query, null);
+
+        assertEquals("https://foo.com/v1/items?static=value&a=1&b=2", url);
+    }
+
+    @Test
+    public void templates_are_cached_per_path() {
+        assertSame(UrlTemplate.of("/v1/skills/{skillId}"), UrlTemplate.of("/v1/skills/{skillId}"));
+    }
+}
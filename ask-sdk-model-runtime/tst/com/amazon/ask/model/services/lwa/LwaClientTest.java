@@ -17,16 +17,37 @@ import com.amazon.ask.model.services.ApiClient;
 import com.amazon.ask.model.services.ApiClientRequest;
 import com.amazon.ask.model.services.ApiClientResponse;
 import com.amazon.ask.model.services.ApiConfiguration;
+import com.amazon.ask.model.services.AsyncApiClient;
 import com.amazon.ask.model.services.AuthenticationConfiguration;
 import com.amazon.ask.model.services.Pair;
 import com.amazon.ask.model.services.Serializer;
+import com.amazon.ask.model.services.ServiceException;
+import com.amazon.ask.model.services.lwa.model.AccessToken;
 import com.amazon.ask.model.services.lwa.model.AccessTokenResponse;
 import com.amazon.ask.model.services.lwa.model.GrantType;
+import com.amazon.ask.model.services.lwa.store.AccessTokenStore;
+import com.amazon.ask.model.services.lwa.store.InMemoryAccessTokenStore;
+import com.amazon.ask.model.services.util.JacksonSerializer;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -134,6 +155,294 @@ public class LwaClientTest {
         Mockito.verify(mockApiClient, times(2)).invoke(any(ApiClientRequest.class));
     }
 
+    @Test
+    public void concurrent_callers_share_single_token_request() throws Exception {
+        AccessTokenResponse response = getMockResponse(testAccessToken, 3600L);
+        Serializer mockSerializer = getMockSerializer(response, null);
+
+        CountDownLatch requestStarted = new CountDownLatch(1);
+        CountDownLatch releaseRequest = new CountDownLatch(1);
+        AtomicInteger invocations = new AtomicInteger();
+        ApiClientResponse mockApiClientResponse = mock(ApiClientResponse.class);
+        when(mockApiClientResponse.getStatusCode()).thenReturn(200);
+        when(mockApiClientResponse.getBody()).thenReturn(testResponseBody);
+        ApiClient mockApiClient = mock(ApiClient.class);
+        when(mockApiClient.invoke(any(ApiClientRequest.class))).thenAnswer(invocation -> {
+            invocations.incrementAndGet();
+            requestStarted.countDown();
+            releaseRequest.await(5, TimeUnit.SECONDS);
+            return mockApiClientResponse;
+        });
+        ApiConfiguration mockApiConfiguration = mock(ApiConfiguration.class);
+        when(mockApiConfiguration.getApiClient()).thenReturn(mockApiClient);
+        when(mockApiConfiguration.getSerializer()).thenReturn(mockSerializer);
+
+        LwaClient lwaClient = LwaClient.builder()
+                .withApiConfiguration(mockApiConfiguration)
+                .withAuthenticationConfiguration(getMockAuthenticationConfiguration())
+                .build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> tokens = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                tokens.add(executor.submit(() -> lwaClient.getAccessTokenForScope(testScope)));
+            }
+            requestStarted.await(5, TimeUnit.SECONDS);
+            Thread.sleep(100);
+            releaseRequest.countDown();
+            for (Future<String> token : tokens) {
+                assertEquals(testAccessToken, token.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, invocations.get());
+    }
+
+    @Test
+    public void token_within_refresh_ahead_window_refreshed_while_still_served() {
+        AccessTokenResponse response = mock(AccessTokenResponse.class);
+        when(response.getAccessToken()).thenReturn("first", "second");
+        when(response.getExpiresIn()).thenReturn(120L, 3600L);
+        Serializer mockSerializer = getMockSerializer(response, null);
+
+        ApiClientResponse mockApiClientResponse = mock(ApiClientResponse.class);
+        when(mockApiClientResponse.getStatusCode()).thenReturn(200);
+        when(mockApiClientResponse.getBody()).thenReturn(testResponseBody);
+        AsyncApiClient mockApiClient = mock(AsyncApiClient.class);
+        when(mockApiClient.invoke(any(ApiClientRequest.class))).thenReturn(mockApiClientResponse);
+        when(mockApiClient.invokeAsync(any(ApiClientRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(mockApiClientResponse));
+        ApiConfiguration mockApiConfiguration = mock(ApiConfiguration.class);
+        when(mockApiConfiguration.getApiClient()).thenReturn(mockApiClient);
+        when(mockApiConfiguration.getSerializer()).thenReturn(mockSerializer);
+
+        LwaClient lwaClient = LwaClient.builder()
+                .withApiConfiguration(mockApiConfiguration)
+                .withAuthenticationConfiguration(getMockAuthenticationConfiguration())
+                .build();
+
+        assertEquals("first", lwaClient.getAccessTokenForScope(testScope));
+        assertEquals("first", lwaClient.getAccessTokenForScope(testScope));
+        assertEquals("second", lwaClient.getAccessTokenForScope(testScope));
+        Mockito.verify(mockApiClient, times(1)).invoke(any(ApiClientRequest.class));
+        Mockito.verify(mockApiClient, times(1)).invokeAsync(any(ApiClientRequest.class));
+    }
+
+    @Test
+    public void token_within_refresh_ahead_window_not_refreshed_with_blocking_api_client() {
+        AccessTokenResponse response = mock(AccessTokenResponse.class);
+        when(response.getAccessToken()).thenReturn("first", "second");
+        when(response.getExpiresIn()).thenReturn(120L, 3600L);
+        Serializer mockSerializer = getMockSerializer(response, null);
+
+        ApiClient mockApiClient = getMockApiClient(200, null);
+        ApiConfiguration mockApiConfiguration = mock(ApiConfiguration.class);
+        when(mockApiConfiguration.getApiClient()).thenReturn(mockApiClient);
+        when(mockApiConfiguration.getSerializer()).thenReturn(mockSerializer);
+
+        LwaClient lwaClient = LwaClient.builder()
+                .withApiConfiguration(mockApiConfiguration)
+                .withAuthenticationConfiguration(getMockAuthenticationConfiguration())
+                .build();
+
+        assertEquals("first", lwaClient.getAccessTokenForScope(testScope));
+        assertEquals("first", lwaClient.getAccessTokenForScope(testScope));
+        Mockito.verify(mockApiClient, times(1)).invoke(any(ApiClientRequest.class));
+    }
+
+    @Test
+    public void async_token_cached_and_shared_with_sync_callers() throws Exception {
+        AccessTokenResponse response = getMockResponse(testAccessToken, 3600L);
+        Serializer mockSerializer = getMockSerializer(response, null);
+
+        ApiClient mockApiClient = getMockApiClient(200, null);
+        ApiConfiguration mockApiConfiguration = mock(ApiConfiguration.class);
+        when(mockApiConfiguration.getApiClient()).thenReturn(mockApiClient);
+        when(mockApiConfiguration.getSerializer()).thenReturn(mockSerializer);
+
+        LwaClient lwaClient = LwaClient.builder()
+                .withApiConfiguration(mockApiConfiguration)
+                .withAuthenticationConfiguration(getMockAuthenticationConfiguration())
+                .build();
+
+        assertEquals(testAccessToken, lwaClient.getAccessTokenForScopeAsync(testScope).get(5, TimeUnit.SECONDS));
+        assertEquals(testAccessToken, lwaClient.getAccessTokenForScopeAsync(testScope).get(5, TimeUnit.SECONDS));
+        assertEquals(testAccessToken, lwaClient.getAccessTokenForScope(testScope));
+        Mockito.verify(mockApiClient, times(1)).invoke(any(ApiClientRequest.class));
+    }
+
+    @Test
+    public void async_token_failure_completes_future_exceptionally() throws Exception {
+        AccessTokenResponse response = getMockResponse(testAccessToken, 3600L);
+        Serializer mockSerializer = getMockSerializer(response, null);
+
+        ApiClient mockApiClient = getMockApiClient(500, null);
+        ApiConfiguration mockApiConfiguration = mock(ApiConfiguration.class);
+        when(mockApiConfiguration.getApiClient()).thenReturn(mockApiClient);
+        when(mockApiConfiguration.getSerializer()).thenReturn(mockSerializer);
+
+        LwaClient lwaClient = LwaClient.builder()
+                .withApiConfiguration(mockApiConfiguration)
+                .withAuthenticationConfiguration(getMockAuthenticationConfiguration())
+                .build();
+
+        CompletableFuture<String> token = lwaClient.getAccessTokenForScopeAsync(testScope);
+        try {
+            token.get(5, TimeUnit.SECONDS);
+            fail("Expected the token request to fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof ServiceException);
+        }
+        assertTrue(lwaClient.getAccessTokenForScopeAsync("").isCompletedExceptionally());
+    }
+
+    @Test
+    public void token_from_access_token_store_reused_and_new_tokens_stored() {
+        AccessTokenResponse response = getMockResponse(testAccessToken, 3600L);
+        Serializer mockSerializer = getMockSerializer(response, null);
+
+        ApiClient mockApiClient = getMockApiClient(200, null);
+        ApiConfiguration mockApiConfiguration = mock(ApiConfiguration.class);
+        when(mockApiConfiguration.getApiClient()).thenReturn(mockApiClient);
+        when(mockApiConfiguration.getSerializer()).thenReturn(mockSerializer);
+
+        AccessTokenStore store = new InMemoryAccessTokenStore();
+        String credentialKey = LwaClient.getCredentialKey(getMockAuthenticationConfiguration());
+        store.put(credentialKey + ":" + testScope, new AccessToken("stored", System.currentTimeMillis() + 3600000L));
+
+        LwaClient lwaClient = LwaClient.builder()
+                .withApiConfiguration(mockApiConfiguration)
+                .withAuthenticationConfiguration(getMockAuthenticationConfiguration())
+                .withAccessTokenStore(store)
+                .build();
+
+        assertEquals("stored", lwaClient.getAccessTokenForScope(testScope));
+        Mockito.verify(mockApiClient, times(0)).invoke(any(ApiClientRequest.class));
+
+        assertEquals(testAccessToken, lwaClient.getAccessTokenForScope("otherScope"));
+        assertEquals(testAccessToken, store.get(credentialKey + ":otherScope").getToken());
+        Mockito.verify(mockApiClient, times(1)).invoke(any(ApiClientRequest.class));
+    }
+
+    @Test
+    public void stored_token_not_served_to_client_with_other_secret() {
+        ApiConfiguration apiConfiguration = getGrantThenDenyApiConfiguration();
+        AccessTokenStore store = new InMemoryAccessTokenStore();
+
+        assertEquals("granted", getStoreBackedClient(apiConfiguration, store, "secret").getAccessTokenForScope(testScope));
+        try {
+            getStoreBackedClient(apiConfiguration, store, "wrong").getAccessTokenForScope(testScope);
+            fail("Expected the token request with the wrong secret to fail");
+        } catch (ServiceException e) {
+            assertEquals(401, e.getStatusCode());
+        }
+        assertEquals("granted", getStoreBackedClient(apiConfiguration, store, "secret").getAccessTokenForScope(testScope));
+        Mockito.verify(apiConfiguration.getApiClient(), times(2)).invoke(any(ApiClientRequest.class));
+    }
+
+    @Test
+    public void pool_shares_token_cache_and_keys_clients_by_credentials() {
+        AccessTokenResponse response = getMockResponse(testAccessToken, 3600L);
+        Serializer mockSerializer = getMockSerializer(response, null);
+
+        ArgumentCaptor<ApiClientRequest> requestCaptor = ArgumentCaptor.forClass(ApiClientRequest.class);
+        ApiClient mockApiClient = getMockApiClient(200, requestCaptor);
+        ApiConfiguration mockApiConfiguration = mock(ApiConfiguration.class);
+        when(mockApiConfiguration.getApiClient()).thenReturn(mockApiClient);
+        when(mockApiConfiguration.getSerializer()).thenReturn(mockSerializer);
+
+        LwaClientPool pool = LwaClientPool.builder().withApiConfiguration(mockApiConfiguration).build();
+        AuthenticationConfiguration first = getMockAuthenticationConfiguration("first", "secret");
+        AuthenticationConfiguration second = getMockAuthenticationConfiguration("second", "secret");
+
+        assertEquals(testAccessToken, pool.getAccessTokenForScope(first, testScope));
+        assertEquals(testAccessToken, pool.getAccessTokenForScope(first, testScope));
+        assertEquals(testAccessToken, pool.getAccessTokenForScope(second, testScope));
+        Mockito.verify(mockApiClient, times(2)).invoke(any(ApiClientRequest.class));
+        assertEquals(2, pool.getTokenCacheStats().getSize());
+        assertSame(pool.getClient(first), pool.getClient(getMockAuthenticationConfiguration("first", "secret")));
+
+        LwaClient client = pool.getClient(first);
+        assertNotSame(client, pool.getClient(getMockAuthenticationConfiguration("first", "rotated")));
+        assertSame(client, pool.getClient(first));
+        assertEquals(3, pool.size());
+    }
+
+    @Test
+    public void pool_does_not_serve_cached_token_to_wrong_client_secret() {
+        AccessTokenResponse response = mock(AccessTokenResponse.class);
+        when(response.getAccessToken()).thenReturn("granted");
+        when(response.getExpiresIn()).thenReturn(3600L);
+        Serializer mockSerializer = getMockSerializer(response, null);
+
+        ApiClientResponse grantedResponse = mock(ApiClientResponse.class);
+        when(grantedResponse.getStatusCode()).thenReturn(200);
+        when(grantedResponse.getBody()).thenReturn(testResponseBody);
+        ApiClientResponse deniedResponse = mock(ApiClientResponse.class);
+        when(deniedResponse.getStatusCode()).thenReturn(401);
+        when(deniedResponse.getBody()).thenReturn(testResponseBody);
+        ApiClient mockApiClient = mock(ApiClient.class);
+        when(mockApiClient.invoke(any(ApiClientRequest.class))).thenReturn(grantedResponse, deniedResponse);
+        ApiConfiguration mockApiConfiguration = mock(ApiConfiguration.class);
+        when(mockApiConfiguration.getApiClient()).thenReturn(mockApiClient);
+        when(mockApiConfiguration.getSerializer()).thenReturn(mockSerializer);
+
+        LwaClientPool pool = LwaClientPool.builder().withApiConfiguration(mockApiConfiguration).build();
+        assertEquals("granted", pool.getAccessTokenForScope(getMockAuthenticationConfiguration("client", "secret"), testScope));
+
+        try {
+            pool.getAccessTokenForScope(getMockAuthenticationConfiguration("client", "wrong"), testScope);
+            fail("Expected the token request with the wrong secret to fail");
+        } catch (ServiceException e) {
+            assertEquals(401, e.getStatusCode());
+        }
+        assertEquals("granted", pool.getAccessTokenForScope(getMockAuthenticationConfiguration("client", "secret"), testScope));
+        Mockito.verify(mockApiClient, times(2)).invoke(any(ApiClientRequest.class));
+    }
+
+    @Test
+    public void pool_does_not_serve_stored_token_to_wrong_client_secret() {
+        ApiConfiguration apiConfiguration = getGrantThenDenyApiConfiguration();
+        AccessTokenStore store = new InMemoryAccessTokenStore();
+        LwaClientPool pool = LwaClientPool.builder().withApiConfiguration(apiConfiguration).withAccessTokenStore(store).build();
+        assertEquals("granted", pool.getAccessTokenForScope(getMockAuthenticationConfiguration("client", "secret"), testScope));
+
+        try {
+            pool.getAccessTokenForScope(getMockAuthenticationConfiguration("client", "wrong"), testScope);
+            fail("Expected the token request with the wrong secret to fail");
+        } catch (ServiceException e) {
+            assertEquals(401, e.getStatusCode());
+        }
+        LwaClientPool restartedPool = LwaClientPool.builder().withApiConfiguration(apiConfiguration).withAccessTokenStore(store).build();
+        assertEquals("granted", restartedPool.getAccessTokenForScope(getMockAuthenticationConfiguration("client", "secret"), testScope));
+        Mockito.verify(apiConfiguration.getApiClient(), times(2)).invoke(any(ApiClientRequest.class));
+    }
+
+    @Test
+    public void form_values_are_url_encoded_and_response_parsed_without_data_binding() {
+        ArgumentCaptor<ApiClientRequest> requestCaptor = ArgumentCaptor.forClass(ApiClientRequest.class);
+        ApiClient mockApiClient = mock(ApiClient.class);
+        ApiClientResponse apiClientResponse = new ApiClientResponse();
+        apiClientResponse.setStatusCode(200);
+        apiClientResponse.setBody("{\"access_token\":\"Atc|token\",\"refresh_token\":null,\"extra\":{\"nested\":[1]},"
+                + "\"token_type\":\"bearer\",\"expires_in\":3600,\"scope\":\"alexa::proactive_events\"}");
+        when(mockApiClient.invoke(requestCaptor.capture())).thenReturn(apiClientResponse);
+        ApiConfiguration mockApiConfiguration = mock(ApiConfiguration.class);
+        when(mockApiConfiguration.getApiClient()).thenReturn(mockApiClient);
+        when(mockApiConfiguration.getSerializer()).thenReturn(new JacksonSerializer());
+
+        LwaClient lwaClient = LwaClient.builder()
+                .withApiConfiguration(mockApiConfiguration)
+                .withAuthenticationConfiguration(getMockAuthenticationConfiguration("amzn1.id", "s3cr&t=+ /"))
+                .build();
+
+        assertEquals("Atc|token", lwaClient.getAccessTokenForScope("alexa::proactive_events"));
+        assertEquals("grant_type=client_credentials&client_id=amzn1.id&client_secret=s3cr%26t%3D%2B+%2F"
+                + "&scope=alexa%3A%3Aproactive_events", requestCaptor.getValue().getBody());
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void null_api_configuration_throws_exception() {
         LwaClient.builder()
@@ -204,6 +513,30 @@ public class LwaClientTest {
 
     }
 
+    private LwaClient getStoreBackedClient(ApiConfiguration apiConfiguration, AccessTokenStore store, String clientSecret) {
+        return LwaClient.builder()
+                .withApiConfiguration(apiConfiguration)
+                .withAuthenticationConfiguration(getMockAuthenticationConfiguration("client", clientSecret))
+                .withAccessTokenStore(store)
+                .build();
+    }
+
+    private ApiConfiguration getGrantThenDenyApiConfiguration() {
+        Serializer mockSerializer = getMockSerializer(getMockResponse("granted", 3600L), null);
+        ApiClientResponse grantedResponse = mock(ApiClientResponse.class);
+        when(grantedResponse.getStatusCode()).thenReturn(200);
+        when(grantedResponse.getBody()).thenReturn(testResponseBody);
+        ApiClientResponse deniedResponse = mock(ApiClientResponse.class);
+        when(deniedResponse.getStatusCode()).thenReturn(401);
+        when(deniedResponse.getBody()).thenReturn(testResponseBody);
+        ApiClient mockApiClient = mock(ApiClient.class);
+        when(mockApiClient.invoke(any(ApiClientRequest.class))).thenReturn(grantedResponse, deniedResponse);
+        ApiConfiguration mockApiConfiguration = mock(ApiConfiguration.class);
+        when(mockApiConfiguration.getApiClient()).thenReturn(mockApiClient);
+        when(mockApiConfiguration.getSerializer()).thenReturn(mockSerializer);
+        return mockApiConfiguration;
+    }
+
     private AccessTokenResponse getMockResponse(String accessToken, long expiresIn) {
         AccessTokenResponse response = mock(AccessTokenResponse.class);
         when(response.getAccessToken()).thenReturn(accessToken);
@@ -227,9 +560,13 @@ public class LwaClientTest {
     }
 
     private AuthenticationConfiguration getMockAuthenticationConfiguration() {
+        return getMockAuthenticationConfiguration(testClientId, testClientSecret);
+    }
+
+    private AuthenticationConfiguration getMockAuthenticationConfiguration(String clientId, String clientSecret) {
         AuthenticationConfiguration mockAuthenticationConfiguration = mock(AuthenticationConfiguration.class);
-        when(mockAuthenticationConfiguration.getClientId()).thenReturn(testClientId);
-        when(mockAuthenticationConfiguration.getClientSecret()).thenReturn(testClientSecret);
+        when(mockAuthenticationConfiguration.getClientId()).thenReturn(clientId);
+        when(mockAuthenticationConfiguration.getClientSecret()).thenReturn(clientSecret);
         when(mockAuthenticationConfiguration.getRefreshToken()).thenReturn(testRefreshToken);
         return mockAuthenticationConfiguration;
     }
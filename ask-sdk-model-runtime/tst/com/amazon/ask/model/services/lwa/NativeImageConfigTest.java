@@ -0,0 +1,71 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.model.services.lwa;
+
+import com.amazon.ask.model.services.lwa.model.AccessTokenRequest;
+import com.amazon.ask.model.services.lwa.model.AccessTokenResponse;
+import com.amazon.ask.model.services.lwa.model.Error;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+public class NativeImageConfigTest {
+
+    private static final String REFLECT_CONFIG =
+            "META-INF/native-image/com.amazon.alexa/ask-sdk-model-runtime/reflect-config.json";
+
+    @Test
+    public void lwa_models_and_builders_are_registered_for_reflection() throws Exception {
+        Map<String, Map<String, Object>> entries = loadReflectConfig();
+
+        for (Class<?> type : Arrays.asList(AccessTokenRequest.class, AccessTokenRequest.Builder.class,
+                AccessTokenResponse.class, AccessTokenResponse.Builder.class, Error.class, Error.Builder.class)) {
+            Map<String, Object> entry = entries.get(type.getName());
+            assertNotNull(type.getName() + " is not registered", entry);
+            assertEquals(true, entry.get("allDeclaredConstructors"));
+            assertEquals(true, entry.get("allDeclaredMethods"));
+            assertEquals(true, entry.get("allDeclaredFields"));
+        }
+    }
+
+    @Test
+    public void registered_classes_exist() throws Exception {
+        for (String name : loadReflectConfig().keySet()) {
+            Class.forName(name, false, getClass().getClassLoader());
+        }
+    }
+
+    private Map<String, Map<String, Object>> loadReflectConfig() throws IOException {
+        try (InputStream config = getClass().getClassLoader().getResourceAsStream(REFLECT_CONFIG)) {
+            assertNotNull(REFLECT_CONFIG + " is missing", config);
+            List<Map<String, Object>> entries = new ObjectMapper().readValue(config,
+                    new TypeReference<List<Map<String, Object>>>() {});
+            Map<String, Map<String, Object>> entriesByName = new HashMap<>();
+            for (Map<String, Object> entry : entries) {
+                entriesByName.put((String) entry.get("name"), entry);
+            }
+            return entriesByName;
+        }
+    }
+}
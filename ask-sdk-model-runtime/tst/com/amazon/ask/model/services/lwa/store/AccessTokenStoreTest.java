@@ -0,0 +1,177 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.model.services.lwa.store;
+
+import com.amazon.ask.model.services.lwa.model.AccessToken;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+public class AccessTokenStoreTest {
+
+    private static final long ONE_HOUR_MILLIS = 3600000;
+
+    @Test
+    public void in_memory_store_does_not_return_expired_tokens() {
+        InMemoryAccessTokenStore store = new InMemoryAccessTokenStore();
+        store.put("valid", new AccessToken("foo", System.currentTimeMillis() + ONE_HOUR_MILLIS));
+        store.put("expired", new AccessToken("bar", System.currentTimeMillis() - 1));
+
+        assertEquals("foo", store.get("valid").getToken());
+        assertNull(store.get("expired"));
+    }
+
+    @Test
+    public void key_value_store_encrypts_tokens_and_drops_unreadable_values() {
+        Map<String, byte[]> values = new HashMap<>();
+        KeyValueStore keyValueStore = new KeyValueStore() {
+            @Override
+            public byte[] get(String key) {
+                return values.get(key);
+            }
+
+            @Override
+            public void put(String key, byte[] value, long expiryEpochMillis) {
+                values.put(key, value);
+            }
+
+            @Override
+            public void delete(String key) {
+                values.remove(key);
+            }
+        };
+        AccessTokenStore store = KeyValueAccessTokenStore.builder()
+                .withKeyValueStore(keyValueStore)
+                .withEncryptor(new XorEncryptor())
+                .build();
+        long expiry = System.currentTimeMillis() + ONE_HOUR_MILLIS;
+
+        store.put("client:scope", new AccessToken("fooBar", expiry));
+        assertFalse(new String(values.get("client:scope")).contains("fooBar"));
+        AccessToken token = store.get("client:scope");
+        assertEquals("fooBar", token.getToken());
+        assertEquals(expiry, token.getExpiry());
+
+        values.put("client:scope", new byte[] {1, 2, 3});
+        assertNull(store.get("client:scope"));
+        assertFalse(values.containsKey("client:scope"));
+    }
+
+    @Test
+    public void mapped_file_store_persists_entries_across_instances() throws Exception {
+        Path path = Files.createTempFile("access-tokens", ".bin");
+        Files.delete(path);
+        try {
+            long expiry = System.currentTimeMillis() + ONE_HOUR_MILLIS;
+            try (MappedFileKeyValueStore keyValueStore = MappedFileKeyValueStore.builder()
+                    .withPath(path).withSlotCount(4).withSlotSize(256).build()) {
+                AccessTokenStore store = KeyValueAccessTokenStore.builder().withKeyValueStore(keyValueStore).build();
+                for (int i = 0; i < 4; i++) {
+                    store.put("client:scope" + i, new AccessToken("token" + i, expiry));
+                }
+                store.remove("client:scope1");
+                store.put("client:scope4", new AccessToken("token4", expiry));
+                store.put("client:scope0", new AccessToken("updated", expiry));
+            }
+
+            try (MappedFileKeyValueStore keyValueStore = MappedFileKeyValueStore.builder().withPath(path).build()) {
+                AccessTokenStore store = KeyValueAccessTokenStore.builder().withKeyValueStore(keyValueStore).build();
+                assertEquals("updated", store.get("client:scope0").getToken());
+                assertNull(store.get("client:scope1"));
+                assertEquals("token2", store.get("client:scope2").getToken());
+                assertEquals("token4", store.get("client:scope4").getToken());
+                assertEquals(expiry, store.get("client:scope4").getExpiry());
+            }
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    public void mapped_file_store_creates_file_readable_by_owner_only() throws Exception {
+        Path path = Files.createTempFile("access-tokens", ".bin");
+        Files.delete(path);
+        Assume.assumeTrue(path.getFileSystem().supportedFileAttributeViews().contains("posix"));
+        try {
+            try (MappedFileKeyValueStore keyValueStore = MappedFileKeyValueStore.builder()
+                    .withPath(path).withSlotCount(4).withSlotSize(256).build()) {
+                assertEquals(PosixFilePermissions.fromString("rw-------"), Files.getPosixFilePermissions(path));
+            }
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    public void bounded_store_evicts_tokens_not_referenced_since_last_sweep() {
+        BoundedAccessTokenStore store = new BoundedAccessTokenStore(2);
+        long expiry = System.currentTimeMillis() + ONE_HOUR_MILLIS;
+        store.put("a", new AccessToken("a", expiry));
+        store.put("b", new AccessToken("b", expiry));
+        assertEquals("a", store.get("a").getToken());
+
+        store.put("c", new AccessToken("c", expiry));
+
+        assertEquals("a", store.get("a").getToken());
+        assertNull(store.get("b"));
+        assertEquals("c", store.get("c").getToken());
+        AccessTokenStoreStats stats = store.getStats();
+        assertEquals(3, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(1, stats.getEvictionCount());
+        assertEquals(2, stats.getSize());
+    }
+
+    @Test
+    public void bounded_store_drops_expired_tokens_before_evicting() {
+        BoundedAccessTokenStore store = new BoundedAccessTokenStore(2);
+        long expiry = System.currentTimeMillis() + ONE_HOUR_MILLIS;
+        store.put("expired", new AccessToken("expired", System.currentTimeMillis() - 1));
+        store.put("a", new AccessToken("a", expiry));
+        store.put("b", new AccessToken("b", expiry));
+
+        assertEquals("a", store.get("a").getToken());
+        assertEquals("b", store.get("b").getToken());
+        assertNull(store.get("expired"));
+        AccessTokenStoreStats stats = store.getStats();
+        assertEquals(0, stats.getEvictionCount());
+        assertEquals(1, stats.getExpirationCount());
+        assertEquals(2, stats.getSize());
+    }
+
+    private static final class XorEncryptor implements AccessTokenEncryptor {
+        @Override
+        public byte[] encrypt(byte[] plaintext) {
+            byte[] ciphertext = plaintext.clone();
+            for (int i = 0; i < ciphertext.length; i++) {
+                ciphertext[i] ^= 0x5a;
+            }
+            return ciphertext;
+        }
+
+        @Override
+        public byte[] decrypt(byte[] ciphertext) {
+            return encrypt(ciphertext);
+        }
+    }
+}
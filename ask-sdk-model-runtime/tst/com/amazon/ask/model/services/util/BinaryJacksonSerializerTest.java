@@ -0,0 +1,102 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.model.services.util;
+
+import com.amazon.ask.model.services.SerializerException;
+import com.amazon.ask.model.services.lwa.model.AccessTokenResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Base64;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BinaryJacksonSerializerTest {
+
+    @Test
+    public void smile_round_trips_models() {
+        SmileSerializer serializer = new SmileSerializer();
+        byte[] payload = serializer.serializeToBytes(tokenResponse());
+
+        assertEquals("application/x-jackson-smile", serializer.getContentType());
+        assertArrayEquals(new byte[] {':', ')', '\n'}, Arrays.copyOf(payload, 3));
+        assertTokenResponse(serializer.deserialize(payload, AccessTokenResponse.class));
+    }
+
+    @Test
+    public void cbor_round_trips_models_through_streams() {
+        CborSerializer serializer = new CborSerializer();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        serializer.serialize(tokenResponse(), outputStream);
+
+        assertEquals("application/cbor", serializer.getContentType());
+        assertTokenResponse(serializer.deserialize(new ByteArrayInputStream(outputStream.toByteArray()),
+                AccessTokenResponse.class));
+    }
+
+    @Test
+    public void payloads_are_read_from_byte_ranges() {
+        CborSerializer serializer = new CborSerializer();
+        byte[] payload = serializer.serializeToBytes(tokenResponse());
+        byte[] padded = new byte[payload.length + 4];
+        System.arraycopy(payload, 0, padded, 2, payload.length);
+
+        assertTokenResponse(serializer.deserialize(padded, 2, payload.length, AccessTokenResponse.class));
+    }
+
+    @Test
+    public void binary_payloads_are_smaller_than_json() throws IOException {
+        AccessTokenResponse response = tokenResponse();
+        int jsonLength = JacksonSerializer.configure(new ObjectMapper()).writeValueAsBytes(response).length;
+
+        assertTrue(new SmileSerializer().serializeToBytes(response).length < jsonLength);
+        assertTrue(new CborSerializer().serializeToBytes(response).length < jsonLength);
+    }
+
+    @Test
+    public void strings_hold_base64_encoded_payloads() {
+        SmileSerializer serializer = new SmileSerializer();
+        String payload = serializer.serialize(tokenResponse());
+
+        assertArrayEquals(serializer.serializeToBytes(tokenResponse()), Base64.getDecoder().decode(payload));
+        assertTokenResponse(serializer.deserialize(payload, AccessTokenResponse.class));
+    }
+
+    @Test(expected = SerializerException.class)
+    public void strings_not_base64_encoded_are_rejected() {
+        new CborSerializer().deserialize("{\"access_token\":\"Atza|token\"}", AccessTokenResponse.class);
+    }
+
+    private static AccessTokenResponse tokenResponse() {
+        return AccessTokenResponse.builder()
+                .withAccessToken("Atza|token")
+                .withExpiresIn(3600)
+                .withScope("")
+                .withTokenType("bearer")
+                .build();
+    }
+
+    private static void assertTokenResponse(AccessTokenResponse response) {
+        assertEquals("Atza|token", response.getAccessToken());
+        assertEquals(3600, response.getExpiresIn());
+        assertEquals(null, response.getScope());
+        assertEquals("bearer", response.getTokenType());
+    }
+}
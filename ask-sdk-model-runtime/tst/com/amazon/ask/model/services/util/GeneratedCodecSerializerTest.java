@@ -0,0 +1,206 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.model.services.util;
+
+import com.amazon.ask.model.services.Serializer;
+import com.amazon.ask.model.services.SerializerException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.TreeNode;
+import com.fasterxml.jackson.databind.util.RawValue;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class GeneratedCodecSerializerTest {
+    private Serializer fallback;
+    private GeneratedCodecSerializer serializer;
+
+    @Before
+    public void setup() {
+        fallback = mock(Serializer.class);
+        JsonCodecRegistry registry = JsonCodecRegistry.builder()
+                .withCodec(Shape.class, GeneratedCodecSerializerTest::readShape, GeneratedCodecSerializerTest::writeShape)
+                .withCodec(Circle.class, GeneratedCodecSerializerTest::readCircle, GeneratedCodecSerializerTest::writeShape)
+                .build();
+        serializer = GeneratedCodecSerializer.builder().withRegistry(registry).withFallback(fallback).build();
+    }
+
+    @Test
+    public void types_without_codec_go_through_fallback() {
+        when(fallback.serialize("foo")).thenReturn("\"foo\"");
+        when(fallback.deserialize("1", Integer.class)).thenReturn(1);
+
+        assertEquals("\"foo\"", serializer.serialize("foo"));
+        assertEquals(Integer.valueOf(1), serializer.deserialize("1", Integer.class));
+        assertTrue(serializer.hasCodec(Shape.class));
+        assertFalse(serializer.hasCodec(String.class));
+        serializer.warmUp(Arrays.asList(Shape.class, String.class));
+        verify(fallback).warmUp(Arrays.<Class<?>>asList(String.class));
+    }
+
+    @Test
+    public void polymorphic_values_are_read_whatever_the_position_of_the_discriminator() {
+        Circle first = (Circle) serializer.deserialize("{\"type\":\"circle\",\"radius\":2,\"extra\":{\"a\":[1]}}", Shape.class);
+        Circle last = (Circle) serializer.deserialize("{\"radius\":3,\"extra\":[{}],\"type\":\"circle\"}", Shape.class);
+        Circle direct = serializer.deserialize("{\"radius\":4,\"type\":\"circle\"}", Circle.class);
+
+        assertEquals(2, first.radius);
+        assertEquals(3, last.radius);
+        assertEquals(4, direct.radius);
+    }
+
+    @Test
+    public void values_are_read_and_written_as_bytes() {
+        Circle circle = new Circle();
+        circle.radius = 6;
+        byte[] bytes = serializer.serializeToBytes(circle);
+        byte[] padded = new byte[bytes.length + 2];
+        System.arraycopy(bytes, 0, padded, 1, bytes.length);
+
+        assertEquals("{\"type\":\"circle\",\"radius\":6}", new String(bytes, StandardCharsets.UTF_8));
+        assertEquals(6, serializer.deserialize(padded, 1, bytes.length, Circle.class).radius);
+        assertEquals(6, ((Circle) serializer.deserialize(ByteBuffer.wrap(padded, 1, bytes.length), Shape.class)).radius);
+    }
+
+    @Test(expected = SerializerException.class)
+    public void unknown_discriminator_fails() {
+        serializer.deserialize("{\"type\":\"square\",\"side\":2}", Shape.class);
+    }
+
+    @Test
+    public void untyped_values_are_written_with_their_codec_or_fallback() {
+        Circle circle = new Circle();
+        circle.radius = 5;
+        circle.attributes.put("nested", Arrays.asList(1, 2.5, true, null, "text"));
+        circle.attributes.put("shape", new Circle());
+        circle.attributes.put("other", new Object());
+        circle.attributes.put("empty", "");
+        circle.attributes.put("raw", new RawValue("{\"kept\":[1]}"));
+        when(fallback.serialize(circle.attributes.get("other"))).thenReturn("{\"raw\":true}");
+
+        assertEquals("{\"type\":\"circle\",\"radius\":5,\"attributes\":{\"nested\":[1,2.5,true,null,\"text\"],"
+                + "\"shape\":{\"type\":\"circle\",\"radius\":0},\"other\":{\"raw\":true},\"raw\":{\"kept\":[1]}}}",
+                serializer.serialize(circle));
+    }
+
+    @Test
+    public void values_without_codec_are_read_through_the_fallback_mapper() {
+        JsonCodecRegistry registry = JsonCodecRegistry.builder()
+                .withCodec(Box.class, GeneratedCodecSerializerTest::readBox, (generator, box) -> generator.writeNull())
+                .build();
+        GeneratedCodecSerializer boxSerializer = GeneratedCodecSerializer.builder().withRegistry(registry).build();
+
+        Box box = boxSerializer.deserialize("{\"content\":{\"a\":[1,2]},\"tree\":{\"b\":true}}", Box.class);
+
+        assertEquals(Collections.singletonMap("a", Arrays.asList(1, 2)), box.content);
+        assertEquals("{\"b\":true}", box.tree.toString());
+    }
+
+    @Test
+    public void date_times_are_read_in_utc() throws IOException {
+        OffsetDateTime expected = OffsetDateTime.of(2019, 6, 20, 15, 42, 28, 0, ZoneOffset.UTC);
+
+        assertEquals(expected, readDateTime("\"2019-06-20T17:42:28+02:00\""));
+        assertEquals(expected, readDateTime(String.valueOf(expected.toEpochSecond())));
+        assertEquals(expected.plusNanos(500000000), readDateTime(expected.toEpochSecond() + ".5"));
+    }
+
+    private static OffsetDateTime readDateTime(String json) throws IOException {
+        try (JsonParser parser = new JsonFactory().createParser(json)) {
+            parser.nextToken();
+            return JsonCodecSupport.readOffsetDateTime(parser);
+        }
+    }
+
+    private static Shape readShape(JsonParser parser) throws IOException {
+        return JsonCodecSupport.readPolymorphic(parser, "type",
+                type -> "circle".equals(type) ? GeneratedCodecSerializerTest::readCircleFields : null);
+    }
+
+    private static Circle readCircle(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readCircleFields(parser) : null;
+    }
+
+    private static Circle readCircleFields(JsonParser parser) throws IOException {
+        Circle circle = new Circle();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if ("radius".equals(field)) {
+                circle.radius = JsonCodecSupport.readInteger(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return circle;
+    }
+
+    private static Box readBox(JsonParser parser) throws IOException {
+        Box box = new Box();
+        JsonCodecSupport.beginObject(parser);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if ("content".equals(field)) {
+                box.content = parser.readValueAs(Map.class);
+            } else if ("tree".equals(field)) {
+                box.tree = parser.readValueAsTree();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return box;
+    }
+
+    private static void writeShape(JsonGenerator generator, Shape shape) throws IOException {
+        Circle circle = (Circle) shape;
+        generator.writeStartObject();
+        generator.writeStringField("type", "circle");
+        JsonCodecSupport.writeField(generator, "radius", circle.radius, JsonCodecSupport::writeInteger);
+        JsonCodecSupport.writeField(generator, "attributes", circle.attributes, JsonCodecSupport::writeUntyped);
+        generator.writeEndObject();
+    }
+
+    private abstract static class Shape {
+    }
+
+    private static final class Circle extends Shape {
+        private int radius;
+        private Map<String, Object> attributes = new LinkedHashMap<>();
+    }
+
+    private static final class Box {
+        private Map<?, ?> content;
+        private TreeNode tree;
+    }
+}
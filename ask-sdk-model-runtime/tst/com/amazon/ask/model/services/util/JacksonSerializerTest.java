@@ -14,8 +14,15 @@
 package com.amazon.ask.model.services.util;
 
 import com.amazon.ask.model.services.SerializerException;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
@@ -23,39 +30,62 @@ import org.mockito.ArgumentCaptor;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class JacksonSerializerTest {
     private JacksonSerializer serializer;
     private ObjectMapper mockMapper;
+    private ObjectReader mockReader;
+    private ObjectWriter mockWriter;
     private TestRequest testRequest;
 
     @Before
     public void setup() {
         mockMapper = mock(ObjectMapper.class);
+        mockReader = mock(ObjectReader.class);
+        mockWriter = mock(ObjectWriter.class);
+        when(mockMapper.readerFor(TestRequest.class)).thenReturn(mockReader);
+        when(mockMapper.writerFor(TestRequest.class)).thenReturn(mockWriter);
         serializer = new JacksonSerializer();
         serializer.setMapper(mockMapper);
         testRequest = new TestRequest();
     }
 
+    @After
+    public void restoreMapper() {
+        JacksonSerializer.setMapper(JacksonSerializer.configure(new ObjectMapper()));
+    }
+
     @Test
     public void serialize_to_string_correct_input_to_mapper() throws IOException {
         ArgumentCaptor<TestRequest> captor = ArgumentCaptor.forClass(TestRequest.class);
-        when(mockMapper.writeValueAsString(testRequest)).thenReturn("foo");
+        when(mockWriter.writeValueAsString(testRequest)).thenReturn("foo");
         serializer.serialize(testRequest);
-        verify(mockMapper).writeValueAsString(captor.capture());
+        verify(mockWriter).writeValueAsString(captor.capture());
         assertEquals(captor.getValue(), testRequest);
     }
 
     @Test
     public void serialize_to_string_correct_output_from_serializer() throws IOException {
-        when(mockMapper.writeValueAsString(testRequest)).thenReturn("foo");
+        when(mockWriter.writeValueAsString(testRequest)).thenReturn("foo");
         assertEquals(serializer.serialize(testRequest), "foo");
     }
 
@@ -64,22 +94,22 @@ public class JacksonSerializerTest {
         OutputStream os = mock(OutputStream.class);
         ArgumentCaptor<TestRequest> captor = ArgumentCaptor.forClass(TestRequest.class);
         serializer.serialize(testRequest, os);
-        verify(mockMapper).writeValue(any(OutputStream.class), captor.capture());
+        verify(mockWriter).writeValue(any(OutputStream.class), captor.capture());
         assertEquals(captor.getValue(), testRequest);
     }
 
     @Test
     public void deserialize_from_string_correct_input_to_serializer() throws IOException {
         ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
-        when(mockMapper.readValue("foo", TestRequest.class)).thenReturn(testRequest);
+        when(mockReader.readValue("foo")).thenReturn(testRequest);
         serializer.deserialize("foo", TestRequest.class);
-        verify(mockMapper).readValue(captor.capture(), any(Class.class));
+        verify(mockReader).readValue(captor.capture());
         assertEquals(captor.getValue(), "foo");
     }
 
     @Test
     public void deserialize_from_string_correct_output_from_mapper() throws IOException {
-        when(mockMapper.readValue("foo", TestRequest.class)).thenReturn(testRequest);
+        when(mockReader.readValue("foo")).thenReturn(testRequest);
         assertEquals(serializer.deserialize("foo", TestRequest.class), testRequest);
     }
 
@@ -87,23 +117,83 @@ public class JacksonSerializerTest {
     public void deserialize_from_stream_correct_input_to_serializer() throws IOException {
         InputStream is = mock(InputStream.class);
         ArgumentCaptor<InputStream> captor = ArgumentCaptor.forClass(InputStream.class);
-        when(mockMapper.readValue(is, TestRequest.class)).thenReturn(testRequest);
+        when(mockReader.readValue(is)).thenReturn(testRequest);
         serializer.deserialize(is, TestRequest.class);
-        verify(mockMapper).readValue(captor.capture(), any(Class.class));
+        verify(mockReader).readValue(captor.capture());
         assertEquals(captor.getValue(), is);
     }
 
     @Test
     public void deserialize_from_stream_correct_output_from_mapper() throws IOException {
         InputStream is = mock(InputStream.class);
-        when(mockMapper.readValue(is, TestRequest.class)).thenReturn(testRequest);
+        when(mockReader.readValue(is)).thenReturn(testRequest);
         assertEquals(serializer.deserialize(is, TestRequest.class), testRequest);
     }
 
+    @Test
+    public void serialize_to_bytes_writes_bytes_directly() throws IOException {
+        byte[] bytes = new byte[] {'{', '}'};
+        when(mockWriter.writeValueAsBytes(testRequest)).thenReturn(bytes);
+        assertEquals(bytes, serializer.serializeToBytes(testRequest));
+    }
+
+    @Test
+    public void serialize_to_buffer_writes_from_its_position() throws IOException {
+        doAnswer(invocation -> {
+            ((OutputStream) invocation.getArguments()[0]).write(new byte[] {'{', '}'});
+            return null;
+        }).when(mockWriter).writeValue(any(OutputStream.class), eq(testRequest));
+        ByteBuffer buffer = ByteBuffer.allocate(4);
+        buffer.put((byte) ' ');
+
+        serializer.serialize(testRequest, buffer);
+
+        assertEquals(3, buffer.position());
+        assertEquals('{', buffer.get(1));
+    }
+
+    @Test(expected = SerializerException.class)
+    public void serialize_to_full_buffer_throws_sdk_exception() throws IOException {
+        doAnswer(invocation -> {
+            ((OutputStream) invocation.getArguments()[0]).write(new byte[] {'{', '}'});
+            return null;
+        }).when(mockWriter).writeValue(any(OutputStream.class), eq(testRequest));
+        serializer.serialize(testRequest, ByteBuffer.allocate(1));
+    }
+
+    @Test
+    public void deserialize_from_byte_range_reads_bytes_in_place() throws IOException {
+        byte[] bytes = new byte[8];
+        when(mockReader.readValue(bytes, 2, 4)).thenReturn(testRequest);
+        assertEquals(testRequest, serializer.deserialize(bytes, 2, 4, TestRequest.class));
+    }
+
+    @Test
+    public void deserialize_from_heap_buffer_reads_backing_array() throws IOException {
+        byte[] bytes = new byte[8];
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 2, 4);
+        when(mockReader.readValue(bytes, 2, 4)).thenReturn(testRequest);
+
+        assertEquals(testRequest, serializer.deserialize(buffer, TestRequest.class));
+        assertEquals(2, buffer.position());
+    }
+
+    @Test
+    public void deserialize_from_direct_buffer_reads_stream() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(4);
+        when(mockReader.readValue(any(InputStream.class))).thenAnswer(invocation -> {
+            InputStream stream = (InputStream) invocation.getArguments()[0];
+            return stream.available() == 4 ? testRequest : null;
+        });
+
+        assertEquals(testRequest, serializer.deserialize(buffer, TestRequest.class));
+        assertEquals(0, buffer.position());
+    }
+
     @Test(expected = SerializerException.class)
     public void serialize_from_string_ioexception_throws_sdk_exception() throws Exception {
         JsonProcessingException exception = mock(JsonProcessingException.class);
-        when(mockMapper.writeValueAsString(testRequest)).thenThrow(exception);
+        when(mockWriter.writeValueAsString(testRequest)).thenThrow(exception);
         serializer.serialize(testRequest);
     }
 
@@ -111,23 +201,205 @@ public class JacksonSerializerTest {
     public void serialize_from_stream_ioexception_throws_sdk_exception() throws Exception {
         OutputStream os = mock(OutputStream.class);
         JsonProcessingException exception = mock(JsonProcessingException.class);
-        doThrow(exception).when(mockMapper).writeValue(os, testRequest);
+        doThrow(exception).when(mockWriter).writeValue(os, testRequest);
         serializer.serialize(testRequest, os);
     }
 
     @Test(expected = SerializerException.class)
     public void deserialize_from_string_ioexception_throws_sdk_exception() throws Exception {
-        when(mockMapper.readValue("foo", TestRequest.class)).thenThrow(new IOException());
+        when(mockReader.readValue("foo")).thenThrow(new IOException());
         serializer.deserialize("foo", TestRequest.class);
     }
 
     @Test(expected = SerializerException.class)
     public void deserialize_from_stream_ioexception_throws_sdk_exception() throws Exception {
         InputStream is = mock(InputStream.class);
-        when(mockMapper.readValue(is, TestRequest.class)).thenThrow(new IOException());
+        when(mockReader.readValue(is)).thenThrow(new IOException());
         serializer.deserialize(is, TestRequest.class);
     }
 
+    @Test
+    public void readers_and_writers_are_cached_per_type_and_built_by_warm_up() throws IOException {
+        serializer.warmUp(Collections.singletonList(TestRequest.class));
+        when(mockReader.readValue("foo")).thenReturn(testRequest);
+        when(mockWriter.writeValueAsString(testRequest)).thenReturn("foo");
+
+        serializer.deserialize("foo", TestRequest.class);
+        serializer.deserialize("foo", TestRequest.class);
+        serializer.serialize(testRequest);
+
+        verify(mockMapper, times(1)).readerFor(TestRequest.class);
+        verify(mockMapper, times(1)).writerFor(TestRequest.class);
+    }
+
+    @Test
+    public void accelerated_serializer_round_trips_like_default_mapper() {
+        JacksonSerializer accelerated = JacksonSerializer.builder().withAccelerated(true).build();
+        AcceleratedRequest request = new AcceleratedRequest();
+        request.setName("foo");
+        request.setCount(3);
+
+        String json = accelerated.serialize(request);
+        AcceleratedRequest deserialized = accelerated.deserialize("{\"name\":\"bar\",\"count\":5,\"unknown\":true}",
+                AcceleratedRequest.class);
+
+        assertTrue(accelerated.isAccelerated());
+        assertEquals("{\"name\":\"foo\",\"count\":3}", json);
+        assertEquals("bar", deserialized.getName());
+        assertEquals(5, deserialized.getCount());
+    }
+
+    @Test
+    public void concrete_subtypes_are_rejected_when_discriminator_does_not_match() {
+        JacksonSerializer.setMapper(JacksonSerializer.configure(new ObjectMapper()));
+
+        assertEquals(2, serializer.deserialize("{\"radius\":2,\"kind\":\"circle\"}", Circle.class).getRadius());
+        assertEquals(4, ((Circle) serializer.deserialize("{\"radius\":4,\"kind\":\"circle\"}", Shape.class)).getRadius());
+        assertRejected("{\"kind\":\"square\",\"radius\":2}", Circle.class);
+        assertRejected("{\"radius\":3}", Circle.class);
+    }
+
+    @Test
+    public void resolved_subtypes_are_read_without_resolving_discriminator() {
+        JacksonSerializer.setMapper(JacksonSerializer.configure(new ObjectMapper()));
+        byte[] payload = "{\"radius\":3,\"kind\":\"circle\"}".getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(2, serializer.deserializeResolvedSubtype("{\"radius\":2,\"kind\":\"circle\"}", Circle.class).getRadius());
+        assertEquals(3, serializer.deserializeResolvedSubtype(payload, 0, payload.length, Circle.class).getRadius());
+        assertEquals(4, ((Circle) serializer.deserializeResolvedSubtype("{\"radius\":4,\"kind\":\"circle\"}",
+                Shape.class)).getRadius());
+        assertRejected("{\"kind\":\"square\",\"radius\":2}", Circle.class);
+        assertEquals("{\"kind\":\"circle\",\"radius\":5}", serializer.serialize(new Circle(5)));
+    }
+
+    private void assertRejected(String payload, Class<?> type) {
+        try {
+            serializer.deserialize(payload, type);
+            fail("Expected " + payload + " to be rejected as " + type.getSimpleName());
+        } catch (SerializerException | IllegalArgumentException e) {
+            // expected, Jackson reports a subtype of another branch of the hierarchy as an illegal argument
+        }
+    }
+
+    @Test
+    public void interned_properties_are_shared_between_requests() {
+        for (boolean accelerated : new boolean[] {false, true}) {
+            JacksonSerializer interning = JacksonSerializer.builder()
+                    .withAccelerated(accelerated)
+                    .withInternedProperty(Label.class, "name")
+                    .withInternTableSize(16)
+                    .build();
+            Label first = interning.deserialize("{\"name\":\"en-US\",\"text\":\"first\"}", Label.class);
+            Label second = interning.deserialize("{\"text\":\"first\",\"name\":\"en-US\"}", Label.class);
+
+            assertTrue(interning.isInterning());
+            assertEquals("en-US", first.getName());
+            assertSame(first.getName(), second.getName());
+            assertEquals(first.getText(), second.getText());
+            assertNotSame(first.getText(), second.getText());
+            assertNull(interning.deserialize("{\"name\":null}", Label.class).getName());
+            assertEquals("12", interning.deserialize("{\"name\":12}", Label.class).getName());
+        }
+        assertFalse(JacksonSerializer.builder().build().isInterning());
+    }
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, include = JsonTypeInfo.As.PROPERTY, property = "kind")
+    @JsonSubTypes({@JsonSubTypes.Type(value = Circle.class, name = "circle"),
+            @JsonSubTypes.Type(value = Square.class, name = "square")})
+    public abstract static class Shape {
+    }
+
+    public static class Square extends Shape {
+        private int side;
+
+        public int getSide() {
+            return side;
+        }
+
+        public void setSide(int side) {
+            this.side = side;
+        }
+    }
+
+    public static class Circle extends Shape {
+        private int radius;
+
+        public Circle() {
+        }
+
+        Circle(int radius) {
+            this.radius = radius;
+        }
+
+        public int getRadius() {
+            return radius;
+        }
+
+        public void setRadius(int radius) {
+            this.radius = radius;
+        }
+    }
+
+    @JsonDeserialize(builder = Label.Builder.class)
+    public static final class Label {
+        private final String name;
+        private final String text;
+
+        private Label(Builder builder) {
+            this.name = builder.name;
+            this.text = builder.text;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        @JsonPOJOBuilder(withPrefix = "with")
+        public static final class Builder {
+            private String name;
+            private String text;
+
+            public Builder withName(String name) {
+                this.name = name;
+                return this;
+            }
+
+            public Builder withText(String text) {
+                this.text = text;
+                return this;
+            }
+
+            public Label build() {
+                return new Label(this);
+            }
+        }
+    }
+
+    public static class AcceleratedRequest {
+        private String name;
+        private int count;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+    }
+
     private class TestRequest {
         private String param;
 
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.model;
+
+import com.amazon.ask.model.services.Serializer;
+import com.amazon.ask.model.services.util.GeneratedCodecSerializer;
+import com.amazon.ask.model.services.util.JacksonSerializer;
+import com.amazon.ask.model.utils.InternedProperties;
+import com.amazon.ask.model.utils.LazyRequestEnvelope;
+import com.amazon.ask.model.utils.RequestTypeRouter;
+import com.amazon.ask.model.utils.SessionAttributes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures request envelope deserialization and response envelope serialization, from and to Strings and UTF-8
+ * bytes, through {@link JacksonSerializer} with and without the accelerated mode or {@link InternedProperties},
+ * and through the generated codecs of {@link GeneratedCodecSerializer}, the partial parsing of
+ * {@link LazyRequestEnvelope} for routing, the carry over of {@link SessionAttributes} to the response, and the
+ * deserialization of a request whose type comes last, as a Request and through {@link RequestTypeRouter}.
+ * Run with <code>mvn -Pbenchmark test-compile exec:exec -Dbenchmark.args="EnvelopeSerializationBenchmark -prof gc"</code>
+ * from the ask-sdk-model directory, after installing ask-sdk-model-runtime.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnvelopeSerializationBenchmark {
+
+    static final String REQUEST_ENVELOPE = "{"
+            + "\"version\":\"1.0\","
+            + "\"session\":{\"new\":false,\"sessionId\":\"amzn1.echo-api.session.0000000-0000-0000-0000-00000000000\","
+            + "\"application\":{\"applicationId\":\"amzn1.ask.skill.00000000-0000-0000-0000-000000000000\"},"
+            + "\"attributes\":{\"counter\":3,\"lastIntent\":\"OrderIntent\",\"cart\":{\"items\":[\"pizza\",\"soda\"]}},"
+            + "\"user\":{\"userId\":\"amzn1.ask.account.AEXAMPLEUSERIDAEXAMPLEUSERIDAEXAMPLEUSERIDAEXAMPLEUSERID\","
+            + "\"accessToken\":\"Atza|AEXAMPLETOKEN\"}},"
+            + "\"context\":{\"System\":{\"application\":{\"applicationId\":\"amzn1.ask.skill.00000000-0000-0000-0000-000000000000\"},"
+            + "\"user\":{\"userId\":\"amzn1.ask.account.AEXAMPLEUSERIDAEXAMPLEUSERIDAEXAMPLEUSERIDAEXAMPLEUSERID\"},"
+            + "\"device\":{\"deviceId\":\"amzn1.ask.device.AEXAMPLEDEVICEID\",\"supportedInterfaces\":{\"AudioPlayer\":{},"
+            + "\"Display\":{\"templateVersion\":\"1.0\",\"markupVersion\":\"1.0\"}}},"
+            + "\"apiEndpoint\":\"https://api.amazonalexa.com\",\"apiAccessToken\":\"eyJ0eXAiOiJKV1QiLCJhbGciOiJSUzI1NiJ9.EXAMPLE\"},"
+            + "\"AudioPlayer\":{\"playerActivity\":\"IDLE\"},"
+            + "\"Viewport\":{\"experiences\":[{\"arcMinuteWidth\":246,\"arcMinuteHeight\":144,\"canRotate\":false,\"canResize\":false}],"
+            + "\"shape\":\"RECTANGLE\",\"pixelWidth\":1024,\"pixelHeight\":600,\"dpi\":160,\"currentPixelWidth\":1024,"
+            + "\"currentPixelHeight\":600,\"touch\":[\"SINGLE\"]}},"
+            + "\"request\":{\"type\":\"IntentRequest\",\"requestId\":\"amzn1.echo-api.request.00000000-0000-0000-0000-000000000000\","
+            + "\"timestamp\":\"2019-03-01T19:46:32Z\",\"locale\":\"en-US\",\"dialogState\":\"IN_PROGRESS\","
+            + "\"intent\":{\"name\":\"OrderIntent\",\"confirmationStatus\":\"NONE\",\"slots\":{"
+            + "\"size\":{\"name\":\"size\",\"value\":\"large\",\"confirmationStatus\":\"NONE\",\"resolutions\":{\"resolutionsPerAuthority\":[{"
+            + "\"authority\":\"amzn1.er-authority.echo-sdk.amzn1.ask.skill.00000000-0000-0000-0000-000000000000.Size\","
+            + "\"status\":{\"code\":\"ER_SUCCESS_MATCH\"},\"values\":[{\"value\":{\"name\":\"large\",\"id\":\"LARGE\"}}]}]}},"
+            + "\"topping\":{\"name\":\"topping\",\"value\":\"pepperoni\",\"confirmationStatus\":\"NONE\"}}}}"
+            + "}";
+
+    static final String RESPONSE_ENVELOPE = "{"
+            + "\"version\":\"1.0\","
+            + "\"sessionAttributes\":{\"counter\":4,\"lastIntent\":\"OrderIntent\"},"
+            + "\"userAgent\":\"ask-java/2.20.2 Java/1.8.0_392\","
+            + "\"response\":{\"outputSpeech\":{\"type\":\"SSML\",\"ssml\":\"<speak>One large pepperoni pizza. Anything else?</speak>\"},"
+            + "\"card\":{\"type\":\"Simple\",\"title\":\"Order\",\"content\":\"One large pepperoni pizza\"},"
+            + "\"reprompt\":{\"outputSpeech\":{\"type\":\"PlainText\",\"text\":\"Anything else?\"}},"
+            + "\"shouldEndSession\":false}"
+            + "}";
+
+    static final byte[] REQUEST_ENVELOPE_BYTES = REQUEST_ENVELOPE.getBytes(StandardCharsets.UTF_8);
+
+    static final String TRAILING_TYPE_REQUEST = "{"
+            + "\"requestId\":\"amzn1.echo-api.request.00000000-0000-0000-0000-000000000000\","
+            + "\"timestamp\":\"2019-03-01T19:46:32Z\",\"locale\":\"en-US\",\"dialogState\":\"IN_PROGRESS\","
+            + "\"intent\":{\"name\":\"OrderIntent\",\"confirmationStatus\":\"NONE\",\"slots\":{"
+            + "\"size\":{\"name\":\"size\",\"value\":\"large\",\"confirmationStatus\":\"NONE\"},"
+            + "\"topping\":{\"name\":\"topping\",\"value\":\"pepperoni\",\"confirmationStatus\":\"NONE\"}}},"
+            + "\"type\":\"IntentRequest\""
+            + "}";
+
+    @Param({"jackson", "accelerated", "interning", "generated"})
+    public String serializerType;
+
+    private Serializer serializer;
+    private ResponseEnvelope responseEnvelope;
+
+    @Setup
+    public void setup() {
+        if ("generated".equals(serializerType)) {
+            serializer = new GeneratedCodecSerializer();
+        } else if ("interning".equals(serializerType)) {
+            serializer = InternedProperties.withDefaults(JacksonSerializer.builder()).build();
+        } else {
+            serializer = JacksonSerializer.builder().withAccelerated("accelerated".equals(serializerType)).build();
+        }
+        responseEnvelope = serializer.deserialize(RESPONSE_ENVELOPE, ResponseEnvelope.class);
+    }
+
+    @Benchmark
+    public RequestEnvelope deserializeRequestEnvelope() {
+        return serializer.deserialize(REQUEST_ENVELOPE, RequestEnvelope.class);
+    }
+
+    @Benchmark
+    public RequestEnvelope deserializeRequestEnvelopeBytes() {
+        return serializer.deserialize(REQUEST_ENVELOPE_BYTES, 0, REQUEST_ENVELOPE_BYTES.length, RequestEnvelope.class);
+    }
+
+    @Benchmark
+    public Request parseLazyRequestEnvelope() {
+        return LazyRequestEnvelope.parse(REQUEST_ENVELOPE_BYTES, 0, REQUEST_ENVELOPE_BYTES.length, serializer)
+                .getRequest();
+    }
+
+    @Benchmark
+    public String carryOverSessionAttributes() {
+        SessionAttributes attributes = LazyRequestEnvelope.parse(REQUEST_ENVELOPE_BYTES, 0,
+                REQUEST_ENVELOPE_BYTES.length, serializer).getSessionAttributes();
+        attributes.put("counter", attributes.get("counter", Integer.class) + 1);
+        return serializer.serialize(ResponseEnvelope.builder()
+                .withVersion("1.0")
+                .withSessionAttributes(attributes.toResponseAttributes())
+                .build());
+    }
+
+    @Benchmark
+    public Request deserializeTrailingTypeRequest() {
+        return serializer.deserialize(TRAILING_TYPE_REQUEST, Request.class);
+    }
+
+    @Benchmark
+    public Request routeTrailingTypeRequest() {
+        return RequestTypeRouter.deserialize(TRAILING_TYPE_REQUEST, serializer);
+    }
+
+    @Benchmark
+    public String serializeResponseEnvelope() {
+        return serializer.serialize(responseEnvelope);
+    }
+
+    @Benchmark
+    public byte[] serializeResponseEnvelopeToBytes() {
+        return serializer.serializeToBytes(responseEnvelope);
+    }
+}
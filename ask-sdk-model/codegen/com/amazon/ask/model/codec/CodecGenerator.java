@@ -0,0 +1,604 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+package com.amazon.ask.model.codec;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+* Generates the streaming codecs of the models from their compiled classes, following the same Jackson annotations
+* that JacksonSerializer relies on. Run it through the <code>codegen</code> profile after regenerating the models:
+* <pre>mvn -Pcodegen compile exec:exec</pre>
+* The generated sources replace the content of the <code>com.amazon.ask.model.codec</code> package.
+*/
+public final class CodecGenerator {
+
+  private static final String MODEL_PACKAGE = "com.amazon.ask.model";
+  private static final String CODEC_PACKAGE = MODEL_PACKAGE + ".codec";
+  private static final String PROVIDER_CLASS = "ModelCodecProvider";
+  private static final String SUPPORT = "JsonCodecSupport";
+
+  private static final Map<Class<?>, String> SCALARS = new LinkedHashMap<>();
+  static {
+    SCALARS.put(String.class, "String");
+    SCALARS.put(Boolean.class, "Boolean");
+    SCALARS.put(Integer.class, "Integer");
+    SCALARS.put(Long.class, "Long");
+    SCALARS.put(Double.class, "Double");
+    SCALARS.put(Float.class, "Float");
+    SCALARS.put(BigDecimal.class, "BigDecimal");
+    SCALARS.put(OffsetDateTime.class, "OffsetDateTime");
+    SCALARS.put(LocalDateTime.class, "LocalDateTime");
+    SCALARS.put(Object.class, "Untyped");
+  }
+
+  private final Map<String, List<Class<?>>> typesByPackage = new TreeMap<>();
+
+  private CodecGenerator(List<Class<?>> types) {
+    for (Class<?> type : types) {
+      typesByPackage.computeIfAbsent(type.getPackage().getName(), p -> new ArrayList<>()).add(type);
+    }
+    for (List<Class<?>> packageTypes : typesByPackage.values()) {
+      packageTypes.sort(Comparator.comparing(Class::getSimpleName));
+    }
+  }
+
+  /**
+  * @param args Directory of the compiled models and source directory to generate the codecs into
+  * @throws Exception if the models cannot be loaded or the codecs cannot be written
+  */
+  public static void main(String[] args) throws Exception {
+    Path classes = Paths.get(args[0]);
+    Path sources = Paths.get(args[1]);
+    new CodecGenerator(loadModelTypes(classes)).generate(sources.resolve(CODEC_PACKAGE.replace('.', '/')));
+  }
+
+  private static List<Class<?>> loadModelTypes(Path classes) throws IOException, ClassNotFoundException {
+    List<Class<?>> types = new ArrayList<>();
+    List<Path> classFiles;
+    try (Stream<Path> files = Files.walk(classes.resolve(MODEL_PACKAGE.replace('.', '/')))) {
+      classFiles = files.filter(f -> f.toString().endsWith(".class") && !f.getFileName().toString().contains("$"))
+          .sorted().collect(Collectors.toList());
+    }
+    for (Path classFile : classFiles) {
+      String path = classes.relativize(classFile).toString();
+      String className = path.substring(0, path.length() - ".class".length()).replace('/', '.');
+      if (className.startsWith(CODEC_PACKAGE + ".")) {
+        continue;
+      }
+      Class<?> type = Class.forName(className, false, CodecGenerator.class.getClassLoader());
+      if (isEnum(type) || isBase(type) || isModel(type) || isAbstractModel(type)) {
+        types.add(type);
+      }
+    }
+    return types;
+  }
+
+  private void generate(Path directory) throws IOException {
+    Map<String, String> files = new TreeMap<>();
+    for (Map.Entry<String, List<Class<?>>> entry : typesByPackage.entrySet()) {
+      files.put(codecsClass(entry.getKey()) + ".java", generateCodecs(entry.getKey(), entry.getValue()));
+    }
+    files.put(PROVIDER_CLASS + ".java", generateProvider());
+
+    Files.createDirectories(directory);
+    try (Stream<Path> existing = Files.list(directory)) {
+      for (Path file : existing.collect(Collectors.toList())) {
+        Files.delete(file);
+      }
+    }
+    for (Map.Entry<String, String> file : files.entrySet()) {
+      write(directory.resolve(file.getKey()), file.getValue());
+    }
+  }
+
+  private String generateProvider() {
+    Source source = new Source();
+    source.header();
+    source.line("package " + CODEC_PACKAGE + ";");
+    source.line();
+    source.line("import com.amazon.ask.model.services.util.JsonCodecProvider;");
+    source.line("import com.amazon.ask.model.services.util.JsonCodecRegistry;");
+    source.line();
+    source.line("/**");
+    source.line(" * Provides the generated codecs of all the models, see GeneratedCodecSerializer.");
+    source.line(" */");
+    source.line("public final class " + PROVIDER_CLASS + " implements JsonCodecProvider {");
+    source.line();
+    source.line("    @Override");
+    source.line("    public void registerCodecs(JsonCodecRegistry.Builder registry) {");
+    for (String packageName : typesByPackage.keySet()) {
+      source.line("        " + codecsClass(packageName) + ".register(registry);");
+    }
+    source.line("    }");
+    source.line("}");
+    return source.toString();
+  }
+
+  private String generateCodecs(String packageName, List<Class<?>> types) {
+    String codecsClass = codecsClass(packageName);
+    Source body = new Source();
+    boolean usesCodec = false;
+    boolean usesToken = false;
+
+    body.line("    private " + codecsClass + "() {");
+    body.line("    }");
+    body.line();
+    body.line("    static void register(JsonCodecRegistry.Builder registry) {");
+    for (Class<?> type : types) {
+      body.line("        registry.withCodec(" + type.getName() + ".class, " + codecsClass + "::read" + type.getSimpleName()
+          + ", " + codecsClass + "::write" + type.getSimpleName() + ");");
+    }
+    body.line("    }");
+
+    for (Class<?> type : types) {
+      body.line();
+      if (isEnum(type)) {
+        generateEnum(body, type);
+      } else if (isBase(type)) {
+        generateBase(body, packageName, type);
+        usesCodec = true;
+      } else if (isModel(type)) {
+        generateModel(body, packageName, type);
+        usesToken = true;
+      } else {
+        generateAbstractModel(body, type);
+      }
+    }
+
+    Source source = new Source();
+    source.header();
+    source.line("package " + CODEC_PACKAGE + ";");
+    source.line();
+    if (usesCodec) {
+      source.line("import com.amazon.ask.model.services.util.JsonCodec;");
+    }
+    source.line("import com.amazon.ask.model.services.util.JsonCodecRegistry;");
+    source.line("import com.amazon.ask.model.services.util.JsonCodecSupport;");
+    source.line("import com.fasterxml.jackson.core.JsonGenerator;");
+    source.line("import com.fasterxml.jackson.core.JsonParser;");
+    if (usesToken) {
+      source.line("import com.fasterxml.jackson.core.JsonToken;");
+    }
+    source.line();
+    source.line("import java.io.IOException;");
+    source.line();
+    source.line("/**");
+    source.line(" * Streaming codecs of the models in " + packageName + ".");
+    source.line(" */");
+    source.line("final class " + codecsClass + " {");
+    source.line();
+    source.append(body);
+    source.line("}");
+    return source.toString();
+  }
+
+  private void generateEnum(Source source, Class<?> type) {
+    Method creator = annotatedMethod(type, JsonCreator.class);
+    Method value = annotatedMethod(type, JsonValue.class);
+    String name = type.getName();
+    source.line("    static " + name + " read" + type.getSimpleName() + "(JsonParser parser) throws IOException {");
+    source.line("        String value = " + SUPPORT + ".readString(parser);");
+    source.line("        return value != null ? " + name + "." + creator.getName() + "(value) : null;");
+    source.line("    }");
+    source.line();
+    source.line("    static void write" + type.getSimpleName() + "(JsonGenerator generator, " + name
+        + " value) throws IOException {");
+    source.line("        " + SUPPORT + ".writeUntyped(generator, value." + value.getName() + "());");
+    source.line("    }");
+  }
+
+  private void generateBase(Source source, String packageName, Class<?> type) {
+    JsonTypeInfo typeInfo = type.getDeclaredAnnotation(JsonTypeInfo.class);
+    String name = type.getName();
+    String resolver = Character.toLowerCase(type.getSimpleName().charAt(0)) + type.getSimpleName().substring(1)
+        + "Subtype";
+    Map<String, Class<?>> subtypes = subtypes(type);
+
+    source.line("    static " + name + " read" + type.getSimpleName() + "(JsonParser parser) throws IOException {");
+    source.line("        return " + SUPPORT + ".readPolymorphic(parser, \"" + typeInfo.property() + "\", "
+        + codecsClass(packageName) + "::" + resolver + ");");
+    source.line("    }");
+    source.line();
+    source.line("    private static JsonCodec.Reader<? extends " + name + "> " + resolver + "(String type) {");
+    source.line("        switch (type) {");
+    for (Map.Entry<String, Class<?>> subtype : subtypes.entrySet()) {
+      source.line("            case \"" + subtype.getKey() + "\":");
+      source.line("                return " + reference(subtype.getValue(), "read") + "Fields;");
+    }
+    source.line("            default:");
+    source.line("                return null;");
+    source.line("        }");
+    source.line("    }");
+    source.line();
+    source.line("    static void write" + type.getSimpleName() + "(JsonGenerator generator, " + name
+        + " value) throws IOException {");
+    source.line("        switch (String.valueOf(value." + discriminatorGetter(type).getName() + "())) {");
+    for (Map.Entry<String, Class<?>> subtype : subtypes.entrySet()) {
+      source.line("            case \"" + subtype.getKey() + "\":");
+      source.line("                " + call(packageName, subtype.getValue(), "write") + "(generator, ("
+          + subtype.getValue().getName() + ") value);");
+      source.line("                break;");
+    }
+    source.line("            default:");
+    source.line("                generator.writeObject(value);");
+    source.line("        }");
+    source.line("    }");
+  }
+
+  private void generateAbstractModel(Source source, Class<?> type) {
+    String name = type.getName();
+    source.line("    static " + name + " read" + type.getSimpleName() + "(JsonParser parser) throws IOException {");
+    source.line("        if (" + SUPPORT + ".beginObject(parser)) {");
+    source.line("            throw new com.fasterxml.jackson.core.JsonParseException(parser, \"Cannot read abstract type "
+        + type.getSimpleName() + "\");");
+    source.line("        }");
+    source.line("        return null;");
+    source.line("    }");
+    source.line();
+    source.line("    static void write" + type.getSimpleName() + "(JsonGenerator generator, " + name
+        + " value) throws IOException {");
+    source.line("        generator.writeObject(value);");
+    source.line("    }");
+  }
+
+  private void generateModel(Source source, String packageName, Class<?> type) {
+    String name = type.getName();
+    Class<?> base = polymorphicBase(type);
+    String simpleName = type.getSimpleName();
+    Class<?> builder = type.getAnnotation(JsonDeserialize.class).builder();
+
+    source.line("    static " + name + " read" + simpleName + "(JsonParser parser) throws IOException {");
+    if (base != null) {
+      source.line("        return " + SUPPORT + ".beginObject(parser) ? read" + simpleName + "Fields(parser) : null;");
+      source.line("    }");
+      source.line();
+      source.line("    static " + name + " read" + simpleName + "Fields(JsonParser parser) throws IOException {");
+    } else {
+      source.line("        if (!" + SUPPORT + ".beginObject(parser)) {");
+      source.line("            return null;");
+      source.line("        }");
+    }
+    source.line("        " + builder.getName().replace('$', '.') + " builder = " + name + ".builder();");
+    source.line("        while (parser.nextToken() == JsonToken.FIELD_NAME) {");
+    source.line("            String field = parser.getCurrentName();");
+    source.line("            parser.nextToken();");
+    source.line("            switch (field) {");
+    for (Map.Entry<String, Method> property : builderProperties(type, builder).entrySet()) {
+      Method setter = property.getValue();
+      source.line("                case \"" + property.getKey() + "\":");
+      source.line("                    builder." + setter.getName() + "("
+          + readCall(packageName, setter.getGenericParameterTypes()[0], "parser") + ");");
+      source.line("                    break;");
+    }
+    source.line("                default:");
+    source.line("                    parser.skipChildren();");
+    source.line("            }");
+    source.line("        }");
+    source.line("        return builder.build();");
+    source.line("    }");
+    source.line();
+    source.line("    static void write" + simpleName + "(JsonGenerator generator, " + name + " value) throws IOException {");
+    source.line("        generator.writeStartObject();");
+    if (base != null) {
+      JsonTypeInfo typeInfo = base.getDeclaredAnnotation(JsonTypeInfo.class);
+      source.line("        generator.writeStringField(\"" + typeInfo.property() + "\", \"" + typeId(base, type) + "\");");
+    }
+    for (Property property : writtenProperties(type)) {
+      String getter = "value." + property.getter.getName() + "()";
+      Type valueType = property.getter.getGenericReturnType();
+      if (valueType == String.class && !property.always) {
+        source.line("        " + SUPPORT + ".writeStringField(generator, \"" + property.name + "\", " + getter + ");");
+      } else if (property.always) {
+        String writer = valueType == Object.class ? SUPPORT + "::writeUntypedAlways"
+            : writerReference(packageName, valueType, 0);
+        source.line("        " + SUPPORT + ".writeFieldAlways(generator, \"" + property.name + "\", " + getter + ", "
+            + writer + ");");
+      } else {
+        source.line("        " + SUPPORT + ".writeField(generator, \"" + property.name + "\", " + getter + ", "
+            + writerReference(packageName, valueType, 0) + ");");
+      }
+    }
+    source.line("        generator.writeEndObject();");
+    source.line("    }");
+  }
+
+  private String readCall(String packageName, Type type, String parser) {
+    if (type instanceof ParameterizedType) {
+      return container(type, "read") + "(" + parser + ", " + readerReference(packageName, elementType(type), 0) + ")";
+    }
+    Class<?> clazz = (Class<?>) type;
+    if (SCALARS.containsKey(clazz)) {
+      return SUPPORT + ".read" + SCALARS.get(clazz) + "(" + parser + ")";
+    }
+    return call(packageName, modelType(clazz), "read") + "(" + parser + ")";
+  }
+
+  private String readerReference(String packageName, Type type, int depth) {
+    if (type instanceof ParameterizedType) {
+      String parser = "p" + depth;
+      return parser + " -> " + container(type, "read") + "(" + parser + ", "
+          + readerReference(packageName, elementType(type), depth + 1) + ")";
+    }
+    Class<?> clazz = (Class<?>) type;
+    if (SCALARS.containsKey(clazz)) {
+      return SUPPORT + "::read" + SCALARS.get(clazz);
+    }
+    return reference(modelType(clazz), "read");
+  }
+
+  private String writerReference(String packageName, Type type, int depth) {
+    if (type instanceof ParameterizedType) {
+      String generator = "g" + depth;
+      String value = "v" + depth;
+      return "(" + generator + ", " + value + ") -> " + container(type, "write") + "(" + generator + ", " + value + ", "
+          + writerReference(packageName, elementType(type), depth + 1) + ")";
+    }
+    Class<?> clazz = (Class<?>) type;
+    if (SCALARS.containsKey(clazz)) {
+      return SUPPORT + "::write" + SCALARS.get(clazz);
+    }
+    return reference(modelType(clazz), "write");
+  }
+
+  private static String container(Type type, String prefix) {
+    Class<?> raw = (Class<?>) ((ParameterizedType) type).getRawType();
+    if (raw == List.class) {
+      return SUPPORT + "." + prefix + "List";
+    }
+    if (raw == Map.class && ((ParameterizedType) type).getActualTypeArguments()[0] == String.class) {
+      return SUPPORT + "." + prefix + "Map";
+    }
+    throw new IllegalStateException("Unsupported container type " + type);
+  }
+
+  private static Type elementType(Type type) {
+    Type[] arguments = ((ParameterizedType) type).getActualTypeArguments();
+    return arguments[arguments.length - 1];
+  }
+
+  private Class<?> modelType(Class<?> type) {
+    List<Class<?>> packageTypes = typesByPackage.get(type.getPackage().getName());
+    if (packageTypes == null || !packageTypes.contains(type)) {
+      throw new IllegalStateException("Unsupported property type " + type.getName());
+    }
+    return type;
+  }
+
+  private static String reference(Class<?> type, String prefix) {
+    return codecsClass(type.getPackage().getName()) + "::" + prefix + type.getSimpleName();
+  }
+
+  private static String call(String packageName, Class<?> type, String prefix) {
+    String typePackage = type.getPackage().getName();
+    return (typePackage.equals(packageName) ? "" : codecsClass(typePackage) + ".") + prefix + type.getSimpleName();
+  }
+
+  private static Map<String, Method> builderProperties(Class<?> type, Class<?> builder) {
+    Map<String, Method> setters = new LinkedHashMap<>();
+    for (Method method : builder.getMethods()) {
+      JsonProperty property = method.getAnnotation(JsonProperty.class);
+      if (property != null && method.getParameterCount() == 1) {
+        setters.put(property.value(), method);
+      }
+    }
+    Map<String, Method> ordered = new LinkedHashMap<>();
+    for (Property property : writtenProperties(type)) {
+      Method setter = setters.remove(property.name);
+      if (setter != null) {
+        ordered.put(property.name, setter);
+      }
+    }
+    new TreeMap<>(setters).forEach(ordered::put);
+    return ordered;
+  }
+
+  private static List<Property> writtenProperties(Class<?> type) {
+    Map<String, Method> getters = new LinkedHashMap<>();
+    for (Method method : type.getMethods()) {
+      JsonProperty property = method.getAnnotation(JsonProperty.class);
+      if (property != null && method.getParameterCount() == 0 && !method.isAnnotationPresent(JsonIgnore.class)) {
+        getters.put(property.value(), method);
+      }
+    }
+    List<Class<?>> hierarchy = new ArrayList<>();
+    for (Class<?> c = type; c != Object.class; c = c.getSuperclass()) {
+      hierarchy.add(0, c);
+    }
+    List<Property> properties = new ArrayList<>();
+    for (Class<?> c : hierarchy) {
+      for (Field field : c.getDeclaredFields()) {
+        JsonProperty property = field.getAnnotation(JsonProperty.class);
+        if (property != null && !Modifier.isStatic(field.getModifiers())) {
+          Method getter = getters.remove(property.value());
+          if (getter == null) {
+            throw new IllegalStateException("No getter for " + c.getName() + "." + field.getName());
+          }
+          properties.add(new Property(property.value(), getter, isAlways(field) || isAlways(getter)));
+        }
+      }
+    }
+    new TreeMap<>(getters).forEach((name, getter) -> properties.add(new Property(name, getter, isAlways(getter))));
+    return properties;
+  }
+
+  private static boolean isAlways(java.lang.reflect.AnnotatedElement element) {
+    JsonInclude include = element.getAnnotation(JsonInclude.class);
+    return include != null && include.value() == JsonInclude.Include.ALWAYS;
+  }
+
+  private static Map<String, Class<?>> subtypes(Class<?> base) {
+    Map<String, Class<?>> subtypes = new LinkedHashMap<>();
+    for (JsonSubTypes.Type subtype : base.getDeclaredAnnotation(JsonSubTypes.class).value()) {
+      subtypes.put(subtype.name(), subtype.value());
+    }
+    return subtypes;
+  }
+
+  private static String typeId(Class<?> base, Class<?> type) {
+    for (Map.Entry<String, Class<?>> subtype : subtypes(base).entrySet()) {
+      if (subtype.getValue() == type) {
+        return subtype.getKey();
+      }
+    }
+    return type.getSimpleName();
+  }
+
+  private static Method discriminatorGetter(Class<?> base) {
+    String property = base.getDeclaredAnnotation(JsonTypeInfo.class).property().replace("@", "");
+    try {
+      return base.getMethod("get" + Character.toUpperCase(property.charAt(0)) + property.substring(1));
+    } catch (NoSuchMethodException e) {
+      throw new IllegalStateException("No discriminator getter on " + base.getName(), e);
+    }
+  }
+
+  private static Class<?> polymorphicBase(Class<?> type) {
+    for (Class<?> c = type.getSuperclass(); c != null; c = c.getSuperclass()) {
+      if (isBase(c)) {
+        return c;
+      }
+    }
+    return null;
+  }
+
+  private static Method annotatedMethod(Class<?> type, Class<? extends java.lang.annotation.Annotation> annotation) {
+    for (Method method : type.getMethods()) {
+      if (method.isAnnotationPresent(annotation)) {
+        return method;
+      }
+    }
+    throw new IllegalStateException("No @" + annotation.getSimpleName() + " method on " + type.getName());
+  }
+
+  private static boolean isEnum(Class<?> type) {
+    return type.isEnum() && Stream.of(type.getMethods()).anyMatch(m -> m.isAnnotationPresent(JsonValue.class));
+  }
+
+  private static boolean isBase(Class<?> type) {
+    return Modifier.isAbstract(type.getModifiers()) && type.getDeclaredAnnotation(JsonTypeInfo.class) != null;
+  }
+
+  private static boolean isModel(Class<?> type) {
+    JsonDeserialize deserialize = type.getAnnotation(JsonDeserialize.class);
+    return !Modifier.isAbstract(type.getModifiers()) && deserialize != null && deserialize.builder() != Void.class;
+  }
+
+  private static boolean isAbstractModel(Class<?> type) {
+    return Modifier.isAbstract(type.getModifiers()) && !type.isInterface() && !isBase(type)
+        && Stream.of(type.getDeclaredClasses()).anyMatch(c -> c.getSimpleName().equals("Builder"));
+  }
+
+  private static String codecsClass(String packageName) {
+    StringBuilder name = new StringBuilder();
+    String relative = packageName.equals(MODEL_PACKAGE) ? "model" : packageName.substring(MODEL_PACKAGE.length() + 1);
+    for (String segment : relative.split("\\.")) {
+      name.append(Character.toUpperCase(segment.charAt(0))).append(segment.substring(1));
+    }
+    return name.append("Codecs").toString();
+  }
+
+  private static void write(Path file, String content) {
+    try {
+      Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+  * Property written by a model, in the order Jackson writes it.
+  */
+  private static final class Property {
+    private final String name;
+    private final Method getter;
+    private final boolean always;
+
+    private Property(String name, Method getter, boolean always) {
+      this.name = name;
+      this.getter = getter;
+      this.always = always;
+    }
+  }
+
+  /**
+  * Source file being generated.
+  */
+  private static final class Source {
+    private final StringBuilder content = new StringBuilder();
+
+    void header() {
+      line("/*");
+      line("* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.");
+      line("*");
+      line("* Licensed under the Apache License, Version 2.0 (the \"License\"). You may not use this file");
+      line("* except in compliance with the License. A copy of the License is located at");
+      line("*");
+      line("* http://aws.amazon.com/apache2.0/");
+      line("*");
+      line("* or in the \"license\" file accompanying this file. This file is distributed on an \"AS IS\" BASIS,");
+      line("* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for");
+      line("* the specific language governing permissions and limitations under the License.");
+      line("*/");
+      line();
+      line();
+    }
+
+    void line() {
+      content.append('\n');
+    }
+
+    void line(String text) {
+      content.append(text).append('\n');
+    }
+
+    void append(Source source) {
+      content.append(source.content);
+    }
+
+    @Override
+    public String toString() {
+      return content.toString();
+    }
+  }
+}
@@ -0,0 +1,176 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+package com.amazon.ask.model.nativeimage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+* Generates the GraalVM native-image configuration of a model module from its compiled classes. Every class bound
+* through Jackson annotations, the builders of those classes and every provider declared in
+* <code>META-INF/services</code> is registered for reflection, and the service declarations are registered as
+* resources so that providers are found with ServiceLoader in native images. Run it through the
+* <code>codegen</code> profile after regenerating the models:
+* <pre>mvn -Pcodegen test-compile exec:exec@native-image</pre>
+*/
+public final class NativeImageConfigGenerator {
+
+  private static final String JACKSON_PACKAGE = "com.fasterxml.jackson.";
+  private static final String SERVICES_DIRECTORY = "META-INF/services";
+  private static final String BUILDER_NAME = "Builder";
+
+  private final TreeMap<String, Boolean> reflectedTypes = new TreeMap<>();
+  private final TreeSet<String> resources = new TreeSet<>();
+
+  private NativeImageConfigGenerator() {
+  }
+
+  /**
+  * @param args Directory of the compiled models, package of the models and directory to write the configuration to
+  * @throws Exception if the models cannot be loaded or the configuration cannot be written
+  */
+  public static void main(String[] args) throws Exception {
+    Path classes = Paths.get(args[0]);
+    NativeImageConfigGenerator generator = new NativeImageConfigGenerator();
+    generator.addModelTypes(classes, args[1]);
+    generator.addServiceProviders(classes);
+    generator.generate(Paths.get(args[2]));
+  }
+
+  private void addModelTypes(Path classes, String modelPackage) throws IOException, ClassNotFoundException {
+    List<Path> classFiles;
+    try (Stream<Path> files = Files.walk(classes.resolve(modelPackage.replace('.', '/')))) {
+      classFiles = files.filter(f -> f.toString().endsWith(".class")).sorted().collect(Collectors.toList());
+    }
+    for (Path classFile : classFiles) {
+      String path = classes.relativize(classFile).toString();
+      String className = path.substring(0, path.length() - ".class".length()).replace('/', '.');
+      Class<?> type = Class.forName(className, false, NativeImageConfigGenerator.class.getClassLoader());
+      if (type.isAnonymousClass() || type.isSynthetic()) {
+        continue;
+      }
+      if (isBound(type) || isBuilderOfBoundType(type)) {
+        reflectedTypes.put(type.getName(), true);
+      }
+    }
+  }
+
+  private void addServiceProviders(Path classes) throws IOException {
+    Path services = classes.resolve(SERVICES_DIRECTORY);
+    if (!Files.isDirectory(services)) {
+      return;
+    }
+    List<Path> serviceFiles;
+    try (Stream<Path> files = Files.list(services)) {
+      serviceFiles = files.sorted().collect(Collectors.toList());
+    }
+    for (Path serviceFile : serviceFiles) {
+      resources.add(SERVICES_DIRECTORY + "/" + serviceFile.getFileName());
+      for (String line : Files.readAllLines(serviceFile, StandardCharsets.UTF_8)) {
+        String provider = line.replaceAll("#.*", "").trim();
+        if (!provider.isEmpty()) {
+          reflectedTypes.putIfAbsent(provider, false);
+        }
+      }
+    }
+  }
+
+  private void generate(Path directory) throws IOException {
+    Files.createDirectories(directory);
+    write(directory.resolve("reflect-config.json"), generateReflectConfig());
+    Path resourceConfig = directory.resolve("resource-config.json");
+    if (resources.isEmpty()) {
+      Files.deleteIfExists(resourceConfig);
+    } else {
+      write(resourceConfig, generateResourceConfig());
+    }
+  }
+
+  private String generateReflectConfig() {
+    List<String> entries = new ArrayList<>();
+    reflectedTypes.forEach((name, bound) -> entries.add(bound
+        ? "{\n  \"name\":\"" + name + "\",\n  \"allDeclaredFields\":true,\n  \"allDeclaredMethods\":true,\n"
+            + "  \"allDeclaredConstructors\":true,\n  \"allPublicMethods\":true\n}"
+        : "{\n  \"name\":\"" + name + "\",\n  \"methods\":[{\"name\":\"<init>\",\"parameterTypes\":[]}]\n}"));
+    return "[\n" + String.join(",\n", entries) + "\n]\n";
+  }
+
+  private String generateResourceConfig() {
+    List<String> patterns = new ArrayList<>();
+    for (String resource : resources) {
+      patterns.add("      {\"pattern\":\"\\\\Q" + resource + "\\\\E\"}");
+    }
+    return "{\n  \"resources\":{\n    \"includes\":[\n" + String.join(",\n", patterns) + "\n    ]\n  },\n"
+        + "  \"bundles\":[]\n}\n";
+  }
+
+  private static boolean isBound(Class<?> type) {
+    if (hasJacksonAnnotation(type)) {
+      return true;
+    }
+    for (Field field : type.getDeclaredFields()) {
+      if (hasJacksonAnnotation(field)) {
+        return true;
+      }
+    }
+    for (Method method : type.getDeclaredMethods()) {
+      if (hasJacksonAnnotation(method)) {
+        return true;
+      }
+    }
+    for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+      if (hasJacksonAnnotation(constructor)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isBuilderOfBoundType(Class<?> type) {
+    return BUILDER_NAME.equals(type.getSimpleName()) && type.getEnclosingClass() != null
+        && isBound(type.getEnclosingClass());
+  }
+
+  private static boolean hasJacksonAnnotation(AnnotatedElement element) {
+    for (Annotation annotation : element.getDeclaredAnnotations()) {
+      if (annotation.annotationType().getName().startsWith(JACKSON_PACKAGE)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static void write(Path file, String content) {
+    try {
+      Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
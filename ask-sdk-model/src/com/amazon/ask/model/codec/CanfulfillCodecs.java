@@ -0,0 +1,169 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.canfulfill.
+ */
+final class CanfulfillCodecs {
+
+    private CanfulfillCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.canfulfill.CanFulfillIntent.class, CanfulfillCodecs::readCanFulfillIntent, CanfulfillCodecs::writeCanFulfillIntent);
+        registry.withCodec(com.amazon.ask.model.canfulfill.CanFulfillIntentRequest.class, CanfulfillCodecs::readCanFulfillIntentRequest, CanfulfillCodecs::writeCanFulfillIntentRequest);
+        registry.withCodec(com.amazon.ask.model.canfulfill.CanFulfillIntentValues.class, CanfulfillCodecs::readCanFulfillIntentValues, CanfulfillCodecs::writeCanFulfillIntentValues);
+        registry.withCodec(com.amazon.ask.model.canfulfill.CanFulfillSlot.class, CanfulfillCodecs::readCanFulfillSlot, CanfulfillCodecs::writeCanFulfillSlot);
+        registry.withCodec(com.amazon.ask.model.canfulfill.CanFulfillSlotValues.class, CanfulfillCodecs::readCanFulfillSlotValues, CanfulfillCodecs::writeCanFulfillSlotValues);
+        registry.withCodec(com.amazon.ask.model.canfulfill.CanUnderstandSlotValues.class, CanfulfillCodecs::readCanUnderstandSlotValues, CanfulfillCodecs::writeCanUnderstandSlotValues);
+    }
+
+    static com.amazon.ask.model.canfulfill.CanFulfillIntent readCanFulfillIntent(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.canfulfill.CanFulfillIntent.Builder builder = com.amazon.ask.model.canfulfill.CanFulfillIntent.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "canFulfill":
+                    builder.withCanFulfill(readCanFulfillIntentValues(parser));
+                    break;
+                case "slots":
+                    builder.withSlots(JsonCodecSupport.readMap(parser, CanfulfillCodecs::readCanFulfillSlot));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeCanFulfillIntent(JsonGenerator generator, com.amazon.ask.model.canfulfill.CanFulfillIntent value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "canFulfill", value.getCanFulfill(), CanfulfillCodecs::writeCanFulfillIntentValues);
+        JsonCodecSupport.writeField(generator, "slots", value.getSlots(), (g0, v0) -> JsonCodecSupport.writeMap(g0, v0, CanfulfillCodecs::writeCanFulfillSlot));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.canfulfill.CanFulfillIntentRequest readCanFulfillIntentRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readCanFulfillIntentRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.canfulfill.CanFulfillIntentRequest readCanFulfillIntentRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.canfulfill.CanFulfillIntentRequest.Builder builder = com.amazon.ask.model.canfulfill.CanFulfillIntentRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                case "dialogState":
+                    builder.withDialogState(ModelCodecs.readDialogState(parser));
+                    break;
+                case "intent":
+                    builder.withIntent(ModelCodecs.readIntent(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeCanFulfillIntentRequest(JsonGenerator generator, com.amazon.ask.model.canfulfill.CanFulfillIntentRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "CanFulfillIntentRequest");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        JsonCodecSupport.writeField(generator, "dialogState", value.getDialogState(), ModelCodecs::writeDialogState);
+        JsonCodecSupport.writeField(generator, "intent", value.getIntent(), ModelCodecs::writeIntent);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.canfulfill.CanFulfillIntentValues readCanFulfillIntentValues(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.canfulfill.CanFulfillIntentValues.fromValue(value) : null;
+    }
+
+    static void writeCanFulfillIntentValues(JsonGenerator generator, com.amazon.ask.model.canfulfill.CanFulfillIntentValues value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.canfulfill.CanFulfillSlot readCanFulfillSlot(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.canfulfill.CanFulfillSlot.Builder builder = com.amazon.ask.model.canfulfill.CanFulfillSlot.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "canUnderstand":
+                    builder.withCanUnderstand(readCanUnderstandSlotValues(parser));
+                    break;
+                case "canFulfill":
+                    builder.withCanFulfill(readCanFulfillSlotValues(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeCanFulfillSlot(JsonGenerator generator, com.amazon.ask.model.canfulfill.CanFulfillSlot value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "canUnderstand", value.getCanUnderstand(), CanfulfillCodecs::writeCanUnderstandSlotValues);
+        JsonCodecSupport.writeField(generator, "canFulfill", value.getCanFulfill(), CanfulfillCodecs::writeCanFulfillSlotValues);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.canfulfill.CanFulfillSlotValues readCanFulfillSlotValues(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.canfulfill.CanFulfillSlotValues.fromValue(value) : null;
+    }
+
+    static void writeCanFulfillSlotValues(JsonGenerator generator, com.amazon.ask.model.canfulfill.CanFulfillSlotValues value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.canfulfill.CanUnderstandSlotValues readCanUnderstandSlotValues(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.canfulfill.CanUnderstandSlotValues.fromValue(value) : null;
+    }
+
+    static void writeCanUnderstandSlotValues(JsonGenerator generator, com.amazon.ask.model.canfulfill.CanUnderstandSlotValues value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+}
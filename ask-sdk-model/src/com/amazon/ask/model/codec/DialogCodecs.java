@@ -0,0 +1,187 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.dialog.
+ */
+final class DialogCodecs {
+
+    private DialogCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.dialog.ConfirmIntentDirective.class, DialogCodecs::readConfirmIntentDirective, DialogCodecs::writeConfirmIntentDirective);
+        registry.withCodec(com.amazon.ask.model.dialog.ConfirmSlotDirective.class, DialogCodecs::readConfirmSlotDirective, DialogCodecs::writeConfirmSlotDirective);
+        registry.withCodec(com.amazon.ask.model.dialog.DelegateDirective.class, DialogCodecs::readDelegateDirective, DialogCodecs::writeDelegateDirective);
+        registry.withCodec(com.amazon.ask.model.dialog.DynamicEntitiesDirective.class, DialogCodecs::readDynamicEntitiesDirective, DialogCodecs::writeDynamicEntitiesDirective);
+        registry.withCodec(com.amazon.ask.model.dialog.ElicitSlotDirective.class, DialogCodecs::readElicitSlotDirective, DialogCodecs::writeElicitSlotDirective);
+    }
+
+    static com.amazon.ask.model.dialog.ConfirmIntentDirective readConfirmIntentDirective(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readConfirmIntentDirectiveFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.dialog.ConfirmIntentDirective readConfirmIntentDirectiveFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.dialog.ConfirmIntentDirective.Builder builder = com.amazon.ask.model.dialog.ConfirmIntentDirective.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "updatedIntent":
+                    builder.withUpdatedIntent(ModelCodecs.readIntent(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeConfirmIntentDirective(JsonGenerator generator, com.amazon.ask.model.dialog.ConfirmIntentDirective value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Dialog.ConfirmIntent");
+        JsonCodecSupport.writeField(generator, "updatedIntent", value.getUpdatedIntent(), ModelCodecs::writeIntent);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.dialog.ConfirmSlotDirective readConfirmSlotDirective(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readConfirmSlotDirectiveFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.dialog.ConfirmSlotDirective readConfirmSlotDirectiveFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.dialog.ConfirmSlotDirective.Builder builder = com.amazon.ask.model.dialog.ConfirmSlotDirective.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "updatedIntent":
+                    builder.withUpdatedIntent(ModelCodecs.readIntent(parser));
+                    break;
+                case "slotToConfirm":
+                    builder.withSlotToConfirm(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeConfirmSlotDirective(JsonGenerator generator, com.amazon.ask.model.dialog.ConfirmSlotDirective value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Dialog.ConfirmSlot");
+        JsonCodecSupport.writeField(generator, "updatedIntent", value.getUpdatedIntent(), ModelCodecs::writeIntent);
+        JsonCodecSupport.writeStringField(generator, "slotToConfirm", value.getSlotToConfirm());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.dialog.DelegateDirective readDelegateDirective(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readDelegateDirectiveFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.dialog.DelegateDirective readDelegateDirectiveFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.dialog.DelegateDirective.Builder builder = com.amazon.ask.model.dialog.DelegateDirective.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "updatedIntent":
+                    builder.withUpdatedIntent(ModelCodecs.readIntent(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeDelegateDirective(JsonGenerator generator, com.amazon.ask.model.dialog.DelegateDirective value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Dialog.Delegate");
+        JsonCodecSupport.writeField(generator, "updatedIntent", value.getUpdatedIntent(), ModelCodecs::writeIntent);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.dialog.DynamicEntitiesDirective readDynamicEntitiesDirective(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readDynamicEntitiesDirectiveFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.dialog.DynamicEntitiesDirective readDynamicEntitiesDirectiveFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.dialog.DynamicEntitiesDirective.Builder builder = com.amazon.ask.model.dialog.DynamicEntitiesDirective.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "updateBehavior":
+                    builder.withUpdateBehavior(ErDynamicCodecs.readUpdateBehavior(parser));
+                    break;
+                case "types":
+                    builder.withTypes(JsonCodecSupport.readList(parser, ErDynamicCodecs::readEntityListItem));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeDynamicEntitiesDirective(JsonGenerator generator, com.amazon.ask.model.dialog.DynamicEntitiesDirective value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Dialog.UpdateDynamicEntities");
+        JsonCodecSupport.writeField(generator, "updateBehavior", value.getUpdateBehavior(), ErDynamicCodecs::writeUpdateBehavior);
+        JsonCodecSupport.writeField(generator, "types", value.getTypes(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, ErDynamicCodecs::writeEntityListItem));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.dialog.ElicitSlotDirective readElicitSlotDirective(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readElicitSlotDirectiveFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.dialog.ElicitSlotDirective readElicitSlotDirectiveFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.dialog.ElicitSlotDirective.Builder builder = com.amazon.ask.model.dialog.ElicitSlotDirective.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "updatedIntent":
+                    builder.withUpdatedIntent(ModelCodecs.readIntent(parser));
+                    break;
+                case "slotToElicit":
+                    builder.withSlotToElicit(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeElicitSlotDirective(JsonGenerator generator, com.amazon.ask.model.dialog.ElicitSlotDirective value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Dialog.ElicitSlot");
+        JsonCodecSupport.writeField(generator, "updatedIntent", value.getUpdatedIntent(), ModelCodecs::writeIntent);
+        JsonCodecSupport.writeStringField(generator, "slotToElicit", value.getSlotToElicit());
+        generator.writeEndObject();
+    }
+}
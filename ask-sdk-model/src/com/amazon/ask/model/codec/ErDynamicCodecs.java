@@ -0,0 +1,135 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.er.dynamic.
+ */
+final class ErDynamicCodecs {
+
+    private ErDynamicCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.er.dynamic.Entity.class, ErDynamicCodecs::readEntity, ErDynamicCodecs::writeEntity);
+        registry.withCodec(com.amazon.ask.model.er.dynamic.EntityListItem.class, ErDynamicCodecs::readEntityListItem, ErDynamicCodecs::writeEntityListItem);
+        registry.withCodec(com.amazon.ask.model.er.dynamic.EntityValueAndSynonyms.class, ErDynamicCodecs::readEntityValueAndSynonyms, ErDynamicCodecs::writeEntityValueAndSynonyms);
+        registry.withCodec(com.amazon.ask.model.er.dynamic.UpdateBehavior.class, ErDynamicCodecs::readUpdateBehavior, ErDynamicCodecs::writeUpdateBehavior);
+    }
+
+    static com.amazon.ask.model.er.dynamic.Entity readEntity(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.er.dynamic.Entity.Builder builder = com.amazon.ask.model.er.dynamic.Entity.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "id":
+                    builder.withId(JsonCodecSupport.readString(parser));
+                    break;
+                case "name":
+                    builder.withName(readEntityValueAndSynonyms(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeEntity(JsonGenerator generator, com.amazon.ask.model.er.dynamic.Entity value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "id", value.getId());
+        JsonCodecSupport.writeField(generator, "name", value.getName(), ErDynamicCodecs::writeEntityValueAndSynonyms);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.er.dynamic.EntityListItem readEntityListItem(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.er.dynamic.EntityListItem.Builder builder = com.amazon.ask.model.er.dynamic.EntityListItem.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "name":
+                    builder.withName(JsonCodecSupport.readString(parser));
+                    break;
+                case "values":
+                    builder.withValues(JsonCodecSupport.readList(parser, ErDynamicCodecs::readEntity));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeEntityListItem(JsonGenerator generator, com.amazon.ask.model.er.dynamic.EntityListItem value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "name", value.getName());
+        JsonCodecSupport.writeField(generator, "values", value.getValues(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, ErDynamicCodecs::writeEntity));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.er.dynamic.EntityValueAndSynonyms readEntityValueAndSynonyms(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.er.dynamic.EntityValueAndSynonyms.Builder builder = com.amazon.ask.model.er.dynamic.EntityValueAndSynonyms.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "value":
+                    builder.withValue(JsonCodecSupport.readString(parser));
+                    break;
+                case "synonyms":
+                    builder.withSynonyms(JsonCodecSupport.readList(parser, JsonCodecSupport::readString));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeEntityValueAndSynonyms(JsonGenerator generator, com.amazon.ask.model.er.dynamic.EntityValueAndSynonyms value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "value", value.getValue());
+        JsonCodecSupport.writeField(generator, "synonyms", value.getSynonyms(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, JsonCodecSupport::writeString));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.er.dynamic.UpdateBehavior readUpdateBehavior(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.er.dynamic.UpdateBehavior.fromValue(value) : null;
+    }
+
+    static void writeUpdateBehavior(JsonGenerator generator, com.amazon.ask.model.er.dynamic.UpdateBehavior value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+}
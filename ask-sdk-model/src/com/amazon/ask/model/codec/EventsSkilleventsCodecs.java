@@ -0,0 +1,437 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.events.skillevents.
+ */
+final class EventsSkilleventsCodecs {
+
+    private EventsSkilleventsCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.events.skillevents.AccountLinkedBody.class, EventsSkilleventsCodecs::readAccountLinkedBody, EventsSkilleventsCodecs::writeAccountLinkedBody);
+        registry.withCodec(com.amazon.ask.model.events.skillevents.AccountLinkedRequest.class, EventsSkilleventsCodecs::readAccountLinkedRequest, EventsSkilleventsCodecs::writeAccountLinkedRequest);
+        registry.withCodec(com.amazon.ask.model.events.skillevents.Permission.class, EventsSkilleventsCodecs::readPermission, EventsSkilleventsCodecs::writePermission);
+        registry.withCodec(com.amazon.ask.model.events.skillevents.PermissionAcceptedRequest.class, EventsSkilleventsCodecs::readPermissionAcceptedRequest, EventsSkilleventsCodecs::writePermissionAcceptedRequest);
+        registry.withCodec(com.amazon.ask.model.events.skillevents.PermissionBody.class, EventsSkilleventsCodecs::readPermissionBody, EventsSkilleventsCodecs::writePermissionBody);
+        registry.withCodec(com.amazon.ask.model.events.skillevents.PermissionChangedRequest.class, EventsSkilleventsCodecs::readPermissionChangedRequest, EventsSkilleventsCodecs::writePermissionChangedRequest);
+        registry.withCodec(com.amazon.ask.model.events.skillevents.ProactiveSubscriptionChangedBody.class, EventsSkilleventsCodecs::readProactiveSubscriptionChangedBody, EventsSkilleventsCodecs::writeProactiveSubscriptionChangedBody);
+        registry.withCodec(com.amazon.ask.model.events.skillevents.ProactiveSubscriptionChangedRequest.class, EventsSkilleventsCodecs::readProactiveSubscriptionChangedRequest, EventsSkilleventsCodecs::writeProactiveSubscriptionChangedRequest);
+        registry.withCodec(com.amazon.ask.model.events.skillevents.ProactiveSubscriptionEvent.class, EventsSkilleventsCodecs::readProactiveSubscriptionEvent, EventsSkilleventsCodecs::writeProactiveSubscriptionEvent);
+        registry.withCodec(com.amazon.ask.model.events.skillevents.SkillDisabledRequest.class, EventsSkilleventsCodecs::readSkillDisabledRequest, EventsSkilleventsCodecs::writeSkillDisabledRequest);
+        registry.withCodec(com.amazon.ask.model.events.skillevents.SkillEnabledRequest.class, EventsSkilleventsCodecs::readSkillEnabledRequest, EventsSkilleventsCodecs::writeSkillEnabledRequest);
+    }
+
+    static com.amazon.ask.model.events.skillevents.AccountLinkedBody readAccountLinkedBody(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.events.skillevents.AccountLinkedBody.Builder builder = com.amazon.ask.model.events.skillevents.AccountLinkedBody.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "accessToken":
+                    builder.withAccessToken(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeAccountLinkedBody(JsonGenerator generator, com.amazon.ask.model.events.skillevents.AccountLinkedBody value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "accessToken", value.getAccessToken());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.events.skillevents.AccountLinkedRequest readAccountLinkedRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readAccountLinkedRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.events.skillevents.AccountLinkedRequest readAccountLinkedRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.events.skillevents.AccountLinkedRequest.Builder builder = com.amazon.ask.model.events.skillevents.AccountLinkedRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                case "body":
+                    builder.withBody(readAccountLinkedBody(parser));
+                    break;
+                case "eventCreationTime":
+                    builder.withEventCreationTime(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "eventPublishingTime":
+                    builder.withEventPublishingTime(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeAccountLinkedRequest(JsonGenerator generator, com.amazon.ask.model.events.skillevents.AccountLinkedRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "AlexaSkillEvent.SkillAccountLinked");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        JsonCodecSupport.writeField(generator, "body", value.getBody(), EventsSkilleventsCodecs::writeAccountLinkedBody);
+        JsonCodecSupport.writeField(generator, "eventCreationTime", value.getEventCreationTime(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeField(generator, "eventPublishingTime", value.getEventPublishingTime(), JsonCodecSupport::writeOffsetDateTime);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.events.skillevents.Permission readPermission(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.events.skillevents.Permission.Builder builder = com.amazon.ask.model.events.skillevents.Permission.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "scope":
+                    builder.withScope(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writePermission(JsonGenerator generator, com.amazon.ask.model.events.skillevents.Permission value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "scope", value.getScope());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.events.skillevents.PermissionAcceptedRequest readPermissionAcceptedRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readPermissionAcceptedRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.events.skillevents.PermissionAcceptedRequest readPermissionAcceptedRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.events.skillevents.PermissionAcceptedRequest.Builder builder = com.amazon.ask.model.events.skillevents.PermissionAcceptedRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                case "body":
+                    builder.withBody(readPermissionBody(parser));
+                    break;
+                case "eventCreationTime":
+                    builder.withEventCreationTime(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "eventPublishingTime":
+                    builder.withEventPublishingTime(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writePermissionAcceptedRequest(JsonGenerator generator, com.amazon.ask.model.events.skillevents.PermissionAcceptedRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "AlexaSkillEvent.SkillPermissionAccepted");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        JsonCodecSupport.writeField(generator, "body", value.getBody(), EventsSkilleventsCodecs::writePermissionBody);
+        JsonCodecSupport.writeField(generator, "eventCreationTime", value.getEventCreationTime(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeField(generator, "eventPublishingTime", value.getEventPublishingTime(), JsonCodecSupport::writeOffsetDateTime);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.events.skillevents.PermissionBody readPermissionBody(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.events.skillevents.PermissionBody.Builder builder = com.amazon.ask.model.events.skillevents.PermissionBody.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "acceptedPermissions":
+                    builder.withAcceptedPermissions(JsonCodecSupport.readList(parser, EventsSkilleventsCodecs::readPermission));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writePermissionBody(JsonGenerator generator, com.amazon.ask.model.events.skillevents.PermissionBody value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "acceptedPermissions", value.getAcceptedPermissions(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, EventsSkilleventsCodecs::writePermission));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.events.skillevents.PermissionChangedRequest readPermissionChangedRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readPermissionChangedRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.events.skillevents.PermissionChangedRequest readPermissionChangedRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.events.skillevents.PermissionChangedRequest.Builder builder = com.amazon.ask.model.events.skillevents.PermissionChangedRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                case "body":
+                    builder.withBody(readPermissionBody(parser));
+                    break;
+                case "eventCreationTime":
+                    builder.withEventCreationTime(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "eventPublishingTime":
+                    builder.withEventPublishingTime(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writePermissionChangedRequest(JsonGenerator generator, com.amazon.ask.model.events.skillevents.PermissionChangedRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "AlexaSkillEvent.SkillPermissionChanged");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        JsonCodecSupport.writeField(generator, "body", value.getBody(), EventsSkilleventsCodecs::writePermissionBody);
+        JsonCodecSupport.writeField(generator, "eventCreationTime", value.getEventCreationTime(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeField(generator, "eventPublishingTime", value.getEventPublishingTime(), JsonCodecSupport::writeOffsetDateTime);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.events.skillevents.ProactiveSubscriptionChangedBody readProactiveSubscriptionChangedBody(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.events.skillevents.ProactiveSubscriptionChangedBody.Builder builder = com.amazon.ask.model.events.skillevents.ProactiveSubscriptionChangedBody.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "subscriptions":
+                    builder.withSubscriptions(JsonCodecSupport.readList(parser, EventsSkilleventsCodecs::readProactiveSubscriptionEvent));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeProactiveSubscriptionChangedBody(JsonGenerator generator, com.amazon.ask.model.events.skillevents.ProactiveSubscriptionChangedBody value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "subscriptions", value.getSubscriptions(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, EventsSkilleventsCodecs::writeProactiveSubscriptionEvent));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.events.skillevents.ProactiveSubscriptionChangedRequest readProactiveSubscriptionChangedRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readProactiveSubscriptionChangedRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.events.skillevents.ProactiveSubscriptionChangedRequest readProactiveSubscriptionChangedRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.events.skillevents.ProactiveSubscriptionChangedRequest.Builder builder = com.amazon.ask.model.events.skillevents.ProactiveSubscriptionChangedRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                case "body":
+                    builder.withBody(readProactiveSubscriptionChangedBody(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeProactiveSubscriptionChangedRequest(JsonGenerator generator, com.amazon.ask.model.events.skillevents.ProactiveSubscriptionChangedRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "AlexaSkillEvent.ProactiveSubscriptionChanged");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        JsonCodecSupport.writeField(generator, "body", value.getBody(), EventsSkilleventsCodecs::writeProactiveSubscriptionChangedBody);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.events.skillevents.ProactiveSubscriptionEvent readProactiveSubscriptionEvent(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.events.skillevents.ProactiveSubscriptionEvent.Builder builder = com.amazon.ask.model.events.skillevents.ProactiveSubscriptionEvent.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "eventName":
+                    builder.withEventName(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeProactiveSubscriptionEvent(JsonGenerator generator, com.amazon.ask.model.events.skillevents.ProactiveSubscriptionEvent value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "eventName", value.getEventName());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.events.skillevents.SkillDisabledRequest readSkillDisabledRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readSkillDisabledRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.events.skillevents.SkillDisabledRequest readSkillDisabledRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.events.skillevents.SkillDisabledRequest.Builder builder = com.amazon.ask.model.events.skillevents.SkillDisabledRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                case "eventCreationTime":
+                    builder.withEventCreationTime(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "eventPublishingTime":
+                    builder.withEventPublishingTime(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSkillDisabledRequest(JsonGenerator generator, com.amazon.ask.model.events.skillevents.SkillDisabledRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "AlexaSkillEvent.SkillDisabled");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        JsonCodecSupport.writeField(generator, "eventCreationTime", value.getEventCreationTime(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeField(generator, "eventPublishingTime", value.getEventPublishingTime(), JsonCodecSupport::writeOffsetDateTime);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.events.skillevents.SkillEnabledRequest readSkillEnabledRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readSkillEnabledRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.events.skillevents.SkillEnabledRequest readSkillEnabledRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.events.skillevents.SkillEnabledRequest.Builder builder = com.amazon.ask.model.events.skillevents.SkillEnabledRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                case "eventCreationTime":
+                    builder.withEventCreationTime(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "eventPublishingTime":
+                    builder.withEventPublishingTime(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSkillEnabledRequest(JsonGenerator generator, com.amazon.ask.model.events.skillevents.SkillEnabledRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "AlexaSkillEvent.SkillEnabled");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        JsonCodecSupport.writeField(generator, "eventCreationTime", value.getEventCreationTime(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeField(generator, "eventPublishingTime", value.getEventPublishingTime(), JsonCodecSupport::writeOffsetDateTime);
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,1930 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodec;
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.interfaces.alexa.presentation.apl.
+ */
+final class InterfacesAlexaPresentationAplCodecs {
+
+    private InterfacesAlexaPresentationAplCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.AlexaPresentationAplInterface.class, InterfacesAlexaPresentationAplCodecs::readAlexaPresentationAplInterface, InterfacesAlexaPresentationAplCodecs::writeAlexaPresentationAplInterface);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.Align.class, InterfacesAlexaPresentationAplCodecs::readAlign, InterfacesAlexaPresentationAplCodecs::writeAlign);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.AnimateItemCommand.class, InterfacesAlexaPresentationAplCodecs::readAnimateItemCommand, InterfacesAlexaPresentationAplCodecs::writeAnimateItemCommand);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.AnimateItemRepeatMode.class, InterfacesAlexaPresentationAplCodecs::readAnimateItemRepeatMode, InterfacesAlexaPresentationAplCodecs::writeAnimateItemRepeatMode);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.AnimatedOpacityProperty.class, InterfacesAlexaPresentationAplCodecs::readAnimatedOpacityProperty, InterfacesAlexaPresentationAplCodecs::writeAnimatedOpacityProperty);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.AnimatedProperty.class, InterfacesAlexaPresentationAplCodecs::readAnimatedProperty, InterfacesAlexaPresentationAplCodecs::writeAnimatedProperty);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.AnimatedTransformProperty.class, InterfacesAlexaPresentationAplCodecs::readAnimatedTransformProperty, InterfacesAlexaPresentationAplCodecs::writeAnimatedTransformProperty);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.AudioTrack.class, InterfacesAlexaPresentationAplCodecs::readAudioTrack, InterfacesAlexaPresentationAplCodecs::writeAudioTrack);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.AutoPageCommand.class, InterfacesAlexaPresentationAplCodecs::readAutoPageCommand, InterfacesAlexaPresentationAplCodecs::writeAutoPageCommand);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.ClearFocusCommand.class, InterfacesAlexaPresentationAplCodecs::readClearFocusCommand, InterfacesAlexaPresentationAplCodecs::writeClearFocusCommand);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.Command.class, InterfacesAlexaPresentationAplCodecs::readCommand, InterfacesAlexaPresentationAplCodecs::writeCommand);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentEntity.class, InterfacesAlexaPresentationAplCodecs::readComponentEntity, InterfacesAlexaPresentationAplCodecs::writeComponentEntity);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentState.class, InterfacesAlexaPresentationAplCodecs::readComponentState, InterfacesAlexaPresentationAplCodecs::writeComponentState);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreen.class, InterfacesAlexaPresentationAplCodecs::readComponentVisibleOnScreen, InterfacesAlexaPresentationAplCodecs::writeComponentVisibleOnScreen);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenListItemTag.class, InterfacesAlexaPresentationAplCodecs::readComponentVisibleOnScreenListItemTag, InterfacesAlexaPresentationAplCodecs::writeComponentVisibleOnScreenListItemTag);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenListTag.class, InterfacesAlexaPresentationAplCodecs::readComponentVisibleOnScreenListTag, InterfacesAlexaPresentationAplCodecs::writeComponentVisibleOnScreenListTag);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenMediaTag.class, InterfacesAlexaPresentationAplCodecs::readComponentVisibleOnScreenMediaTag, InterfacesAlexaPresentationAplCodecs::writeComponentVisibleOnScreenMediaTag);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenMediaTagStateEnum.class, InterfacesAlexaPresentationAplCodecs::readComponentVisibleOnScreenMediaTagStateEnum, InterfacesAlexaPresentationAplCodecs::writeComponentVisibleOnScreenMediaTagStateEnum);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenPagerTag.class, InterfacesAlexaPresentationAplCodecs::readComponentVisibleOnScreenPagerTag, InterfacesAlexaPresentationAplCodecs::writeComponentVisibleOnScreenPagerTag);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenScrollableTag.class, InterfacesAlexaPresentationAplCodecs::readComponentVisibleOnScreenScrollableTag, InterfacesAlexaPresentationAplCodecs::writeComponentVisibleOnScreenScrollableTag);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenScrollableTagDirectionEnum.class, InterfacesAlexaPresentationAplCodecs::readComponentVisibleOnScreenScrollableTagDirectionEnum, InterfacesAlexaPresentationAplCodecs::writeComponentVisibleOnScreenScrollableTagDirectionEnum);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenTags.class, InterfacesAlexaPresentationAplCodecs::readComponentVisibleOnScreenTags, InterfacesAlexaPresentationAplCodecs::writeComponentVisibleOnScreenTags);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenViewportTag.class, InterfacesAlexaPresentationAplCodecs::readComponentVisibleOnScreenViewportTag, InterfacesAlexaPresentationAplCodecs::writeComponentVisibleOnScreenViewportTag);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.ControlMediaCommand.class, InterfacesAlexaPresentationAplCodecs::readControlMediaCommand, InterfacesAlexaPresentationAplCodecs::writeControlMediaCommand);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.ExecuteCommandsDirective.class, InterfacesAlexaPresentationAplCodecs::readExecuteCommandsDirective, InterfacesAlexaPresentationAplCodecs::writeExecuteCommandsDirective);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.HighlightMode.class, InterfacesAlexaPresentationAplCodecs::readHighlightMode, InterfacesAlexaPresentationAplCodecs::writeHighlightMode);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.IdleCommand.class, InterfacesAlexaPresentationAplCodecs::readIdleCommand, InterfacesAlexaPresentationAplCodecs::writeIdleCommand);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.MediaCommandType.class, InterfacesAlexaPresentationAplCodecs::readMediaCommandType, InterfacesAlexaPresentationAplCodecs::writeMediaCommandType);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.MoveTransformProperty.class, InterfacesAlexaPresentationAplCodecs::readMoveTransformProperty, InterfacesAlexaPresentationAplCodecs::writeMoveTransformProperty);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.OpenUrlCommand.class, InterfacesAlexaPresentationAplCodecs::readOpenUrlCommand, InterfacesAlexaPresentationAplCodecs::writeOpenUrlCommand);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.ParallelCommand.class, InterfacesAlexaPresentationAplCodecs::readParallelCommand, InterfacesAlexaPresentationAplCodecs::writeParallelCommand);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.PlayMediaCommand.class, InterfacesAlexaPresentationAplCodecs::readPlayMediaCommand, InterfacesAlexaPresentationAplCodecs::writePlayMediaCommand);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.Position.class, InterfacesAlexaPresentationAplCodecs::readPosition, InterfacesAlexaPresentationAplCodecs::writePosition);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.RenderDocumentDirective.class, InterfacesAlexaPresentationAplCodecs::readRenderDocumentDirective, InterfacesAlexaPresentationAplCodecs::writeRenderDocumentDirective);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.RenderedDocumentState.class, InterfacesAlexaPresentationAplCodecs::readRenderedDocumentState, InterfacesAlexaPresentationAplCodecs::writeRenderedDocumentState);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.RotateTransformProperty.class, InterfacesAlexaPresentationAplCodecs::readRotateTransformProperty, InterfacesAlexaPresentationAplCodecs::writeRotateTransformProperty);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.Runtime.class, InterfacesAlexaPresentationAplCodecs::readRuntime, InterfacesAlexaPresentationAplCodecs::writeRuntime);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.ScaleTransformProperty.class, InterfacesAlexaPresentationAplCodecs::readScaleTransformProperty, InterfacesAlexaPresentationAplCodecs::writeScaleTransformProperty);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.ScrollCommand.class, InterfacesAlexaPresentationAplCodecs::readScrollCommand, InterfacesAlexaPresentationAplCodecs::writeScrollCommand);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.ScrollToIndexCommand.class, InterfacesAlexaPresentationAplCodecs::readScrollToIndexCommand, InterfacesAlexaPresentationAplCodecs::writeScrollToIndexCommand);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.SendEventCommand.class, InterfacesAlexaPresentationAplCodecs::readSendEventCommand, InterfacesAlexaPresentationAplCodecs::writeSendEventCommand);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.SequentialCommand.class, InterfacesAlexaPresentationAplCodecs::readSequentialCommand, InterfacesAlexaPresentationAplCodecs::writeSequentialCommand);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.SetFocusCommand.class, InterfacesAlexaPresentationAplCodecs::readSetFocusCommand, InterfacesAlexaPresentationAplCodecs::writeSetFocusCommand);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.SetPageCommand.class, InterfacesAlexaPresentationAplCodecs::readSetPageCommand, InterfacesAlexaPresentationAplCodecs::writeSetPageCommand);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.SetStateCommand.class, InterfacesAlexaPresentationAplCodecs::readSetStateCommand, InterfacesAlexaPresentationAplCodecs::writeSetStateCommand);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.SetValueCommand.class, InterfacesAlexaPresentationAplCodecs::readSetValueCommand, InterfacesAlexaPresentationAplCodecs::writeSetValueCommand);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.SkewTransformProperty.class, InterfacesAlexaPresentationAplCodecs::readSkewTransformProperty, InterfacesAlexaPresentationAplCodecs::writeSkewTransformProperty);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.SpeakItemCommand.class, InterfacesAlexaPresentationAplCodecs::readSpeakItemCommand, InterfacesAlexaPresentationAplCodecs::writeSpeakItemCommand);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.SpeakListCommand.class, InterfacesAlexaPresentationAplCodecs::readSpeakListCommand, InterfacesAlexaPresentationAplCodecs::writeSpeakListCommand);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.TransformProperty.class, InterfacesAlexaPresentationAplCodecs::readTransformProperty, InterfacesAlexaPresentationAplCodecs::writeTransformProperty);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.UserEvent.class, InterfacesAlexaPresentationAplCodecs::readUserEvent, InterfacesAlexaPresentationAplCodecs::writeUserEvent);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.apl.VideoSource.class, InterfacesAlexaPresentationAplCodecs::readVideoSource, InterfacesAlexaPresentationAplCodecs::writeVideoSource);
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.AlexaPresentationAplInterface readAlexaPresentationAplInterface(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.alexa.presentation.apl.AlexaPresentationAplInterface.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.apl.AlexaPresentationAplInterface.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "runtime":
+                    builder.withRuntime(readRuntime(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeAlexaPresentationAplInterface(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.AlexaPresentationAplInterface value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "runtime", value.getRuntime(), InterfacesAlexaPresentationAplCodecs::writeRuntime);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.Align readAlign(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.alexa.presentation.apl.Align.fromValue(value) : null;
+    }
+
+    static void writeAlign(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.Align value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.AnimateItemCommand readAnimateItemCommand(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readAnimateItemCommandFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.AnimateItemCommand readAnimateItemCommandFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.alexa.presentation.apl.AnimateItemCommand.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.apl.AnimateItemCommand.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "delay":
+                    builder.withDelay(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "description":
+                    builder.withDescription(JsonCodecSupport.readString(parser));
+                    break;
+                case "when":
+                    builder.withWhen(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "componentId":
+                    builder.withComponentId(JsonCodecSupport.readString(parser));
+                    break;
+                case "duration":
+                    builder.withDuration(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "easing":
+                    builder.withEasing(JsonCodecSupport.readString(parser));
+                    break;
+                case "repeatCount":
+                    builder.withRepeatCount(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "repeatMode":
+                    builder.withRepeatMode(readAnimateItemRepeatMode(parser));
+                    break;
+                case "value":
+                    builder.withValue(JsonCodecSupport.readList(parser, InterfacesAlexaPresentationAplCodecs::readAnimatedProperty));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeAnimateItemCommand(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.AnimateItemCommand value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "AnimateItem");
+        JsonCodecSupport.writeStringField(generator, "delay", value.getDelay());
+        JsonCodecSupport.writeStringField(generator, "description", value.getDescription());
+        JsonCodecSupport.writeField(generator, "when", value.getWhen(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeStringField(generator, "componentId", value.getComponentId());
+        JsonCodecSupport.writeStringField(generator, "duration", value.getDuration());
+        JsonCodecSupport.writeStringField(generator, "easing", value.getEasing());
+        JsonCodecSupport.writeStringField(generator, "repeatCount", value.getRepeatCount());
+        JsonCodecSupport.writeField(generator, "repeatMode", value.getRepeatMode(), InterfacesAlexaPresentationAplCodecs::writeAnimateItemRepeatMode);
+        JsonCodecSupport.writeField(generator, "value", value.getValue(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, InterfacesAlexaPresentationAplCodecs::writeAnimatedProperty));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.AnimateItemRepeatMode readAnimateItemRepeatMode(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.alexa.presentation.apl.AnimateItemRepeatMode.fromValue(value) : null;
+    }
+
+    static void writeAnimateItemRepeatMode(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.AnimateItemRepeatMode value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.AnimatedOpacityProperty readAnimatedOpacityProperty(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readAnimatedOpacityPropertyFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.AnimatedOpacityProperty readAnimatedOpacityPropertyFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.alexa.presentation.apl.AnimatedOpacityProperty.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.apl.AnimatedOpacityProperty.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "from":
+                    builder.withFrom(JsonCodecSupport.readDouble(parser));
+                    break;
+                case "to":
+                    builder.withTo(JsonCodecSupport.readDouble(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeAnimatedOpacityProperty(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.AnimatedOpacityProperty value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("property", "opacity");
+        JsonCodecSupport.writeStringField(generator, "from", value.getFrom());
+        JsonCodecSupport.writeStringField(generator, "to", value.getTo());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.AnimatedProperty readAnimatedProperty(JsonParser parser) throws IOException {
+        return JsonCodecSupport.readPolymorphic(parser, "property", InterfacesAlexaPresentationAplCodecs::animatedPropertySubtype);
+    }
+
+    private static JsonCodec.Reader<? extends com.amazon.ask.model.interfaces.alexa.presentation.apl.AnimatedProperty> animatedPropertySubtype(String type) {
+        switch (type) {
+            case "opacity":
+                return InterfacesAlexaPresentationAplCodecs::readAnimatedOpacityPropertyFields;
+            case "transform":
+                return InterfacesAlexaPresentationAplCodecs::readAnimatedTransformPropertyFields;
+            default:
+                return null;
+        }
+    }
+
+    static void writeAnimatedProperty(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.AnimatedProperty value) throws IOException {
+        switch (String.valueOf(value.getProperty())) {
+            case "opacity":
+                writeAnimatedOpacityProperty(generator, (com.amazon.ask.model.interfaces.alexa.presentation.apl.AnimatedOpacityProperty) value);
+                break;
+            case "transform":
+                writeAnimatedTransformProperty(generator, (com.amazon.ask.model.interfaces.alexa.presentation.apl.AnimatedTransformProperty) value);
+                break;
+            default:
+                generator.writeObject(value);
+        }
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.AnimatedTransformProperty readAnimatedTransformProperty(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readAnimatedTransformPropertyFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.AnimatedTransformProperty readAnimatedTransformPropertyFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.alexa.presentation.apl.AnimatedTransformProperty.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.apl.AnimatedTransformProperty.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "from":
+                    builder.withFrom(JsonCodecSupport.readList(parser, InterfacesAlexaPresentationAplCodecs::readTransformProperty));
+                    break;
+                case "to":
+                    builder.withTo(JsonCodecSupport.readList(parser, InterfacesAlexaPresentationAplCodecs::readTransformProperty));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeAnimatedTransformProperty(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.AnimatedTransformProperty value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("property", "transform");
+        JsonCodecSupport.writeField(generator, "from", value.getFrom(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, InterfacesAlexaPresentationAplCodecs::writeTransformProperty));
+        JsonCodecSupport.writeField(generator, "to", value.getTo(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, InterfacesAlexaPresentationAplCodecs::writeTransformProperty));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.AudioTrack readAudioTrack(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.alexa.presentation.apl.AudioTrack.fromValue(value) : null;
+    }
+
+    static void writeAudioTrack(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.AudioTrack value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.AutoPageCommand readAutoPageCommand(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readAutoPageCommandFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.AutoPageCommand readAutoPageCommandFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.alexa.presentation.apl.AutoPageCommand.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.apl.AutoPageCommand.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "delay":
+                    builder.withDelay(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "description":
+                    builder.withDescription(JsonCodecSupport.readString(parser));
+                    break;
+                case "when":
+                    builder.withWhen(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "componentId":
+                    builder.withComponentId(JsonCodecSupport.readString(parser));
+                    break;
+                case "count":
+                    builder.withCount(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "duration":
+                    builder.withDuration(JsonCodecSupport.readInteger(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeAutoPageCommand(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.AutoPageCommand value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "AutoPage");
+        JsonCodecSupport.writeStringField(generator, "delay", value.getDelay());
+        JsonCodecSupport.writeStringField(generator, "description", value.getDescription());
+        JsonCodecSupport.writeField(generator, "when", value.getWhen(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeStringField(generator, "componentId", value.getComponentId());
+        JsonCodecSupport.writeStringField(generator, "count", value.getCount());
+        JsonCodecSupport.writeStringField(generator, "duration", value.getDuration());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.ClearFocusCommand readClearFocusCommand(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readClearFocusCommandFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.ClearFocusCommand readClearFocusCommandFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.alexa.presentation.apl.ClearFocusCommand.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.apl.ClearFocusCommand.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "delay":
+                    builder.withDelay(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "description":
+                    builder.withDescription(JsonCodecSupport.readString(parser));
+                    break;
+                case "when":
+                    builder.withWhen(JsonCodecSupport.readBoolean(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeClearFocusCommand(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.ClearFocusCommand value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "ClearFocus");
+        JsonCodecSupport.writeStringField(generator, "delay", value.getDelay());
+        JsonCodecSupport.writeStringField(generator, "description", value.getDescription());
+        JsonCodecSupport.writeField(generator, "when", value.getWhen(), JsonCodecSupport::writeBoolean);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.Command readCommand(JsonParser parser) throws IOException {
+        return JsonCodecSupport.readPolymorphic(parser, "type", InterfacesAlexaPresentationAplCodecs::commandSubtype);
+    }
+
+    private static JsonCodec.Reader<? extends com.amazon.ask.model.interfaces.alexa.presentation.apl.Command> commandSubtype(String type) {
+        switch (type) {
+            case "SetPage":
+                return InterfacesAlexaPresentationAplCodecs::readSetPageCommandFields;
+            case "ControlMedia":
+                return InterfacesAlexaPresentationAplCodecs::readControlMediaCommandFields;
+            case "AutoPage":
+                return InterfacesAlexaPresentationAplCodecs::readAutoPageCommandFields;
+            case "PlayMedia":
+                return InterfacesAlexaPresentationAplCodecs::readPlayMediaCommandFields;
+            case "Scroll":
+                return InterfacesAlexaPresentationAplCodecs::readScrollCommandFields;
+            case "Idle":
+                return InterfacesAlexaPresentationAplCodecs::readIdleCommandFields;
+            case "AnimateItem":
+                return InterfacesAlexaPresentationAplCodecs::readAnimateItemCommandFields;
+            case "SendEvent":
+                return InterfacesAlexaPresentationAplCodecs::readSendEventCommandFields;
+            case "SpeakList":
+                return InterfacesAlexaPresentationAplCodecs::readSpeakListCommandFields;
+            case "Sequential":
+                return InterfacesAlexaPresentationAplCodecs::readSequentialCommandFields;
+            case "SetState":
+                return InterfacesAlexaPresentationAplCodecs::readSetStateCommandFields;
+            case "SpeakItem":
+                return InterfacesAlexaPresentationAplCodecs::readSpeakItemCommandFields;
+            case "Parallel":
+                return InterfacesAlexaPresentationAplCodecs::readParallelCommandFields;
+            case "OpenURL":
+                return InterfacesAlexaPresentationAplCodecs::readOpenUrlCommandFields;
+            case "ClearFocus":
+                return InterfacesAlexaPresentationAplCodecs::readClearFocusCommandFields;
+            case "ScrollToIndex":
+                return InterfacesAlexaPresentationAplCodecs::readScrollToIndexCommandFields;
+            case "SetValue":
+                return InterfacesAlexaPresentationAplCodecs::readSetValueCommandFields;
+            case "SetFocus":
+                return InterfacesAlexaPresentationAplCodecs::readSetFocusCommandFields;
+            default:
+                return null;
+        }
+    }
+
+    static void writeCommand(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.Command value) throws IOException {
+        switch (String.valueOf(value.getType())) {
+            case "SetPage":
+                writeSetPageCommand(generator, (com.amazon.ask.model.interfaces.alexa.presentation.apl.SetPageCommand) value);
+                break;
+            case "ControlMedia":
+                writeControlMediaCommand(generator, (com.amazon.ask.model.interfaces.alexa.presentation.apl.ControlMediaCommand) value);
+                break;
+            case "AutoPage":
+                writeAutoPageCommand(generator, (com.amazon.ask.model.interfaces.alexa.presentation.apl.AutoPageCommand) value);
+                break;
+            case "PlayMedia":
+                writePlayMediaCommand(generator, (com.amazon.ask.model.interfaces.alexa.presentation.apl.PlayMediaCommand) value);
+                break;
+            case "Scroll":
+                writeScrollCommand(generator, (com.amazon.ask.model.interfaces.alexa.presentation.apl.ScrollCommand) value);
+                break;
+            case "Idle":
+                writeIdleCommand(generator, (com.amazon.ask.model.interfaces.alexa.presentation.apl.IdleCommand) value);
+                break;
+            case "AnimateItem":
+                writeAnimateItemCommand(generator, (com.amazon.ask.model.interfaces.alexa.presentation.apl.AnimateItemCommand) value);
+                break;
+            case "SendEvent":
+                writeSendEventCommand(generator, (com.amazon.ask.model.interfaces.alexa.presentation.apl.SendEventCommand) value);
+                break;
+            case "SpeakList":
+                writeSpeakListCommand(generator, (com.amazon.ask.model.interfaces.alexa.presentation.apl.SpeakListCommand) value);
+                break;
+            case "Sequential":
+                writeSequentialCommand(generator, (com.amazon.ask.model.interfaces.alexa.presentation.apl.SequentialCommand) value);
+                break;
+            case "SetState":
+                writeSetStateCommand(generator, (com.amazon.ask.model.interfaces.alexa.presentation.apl.SetStateCommand) value);
+                break;
+            case "SpeakItem":
+                writeSpeakItemCommand(generator, (com.amazon.ask.model.interfaces.alexa.presentation.apl.SpeakItemCommand) value);
+                break;
+            case "Parallel":
+                writeParallelCommand(generator, (com.amazon.ask.model.interfaces.alexa.presentation.apl.ParallelCommand) value);
+                break;
+            case "OpenURL":
+                writeOpenUrlCommand(generator, (com.amazon.ask.model.interfaces.alexa.presentation.apl.OpenUrlCommand) value);
+                break;
+            case "ClearFocus":
+                writeClearFocusCommand(generator, (com.amazon.ask.model.interfaces.alexa.presentation.apl.ClearFocusCommand) value);
+                break;
+            case "ScrollToIndex":
+                writeScrollToIndexCommand(generator, (com.amazon.ask.model.interfaces.alexa.presentation.apl.ScrollToIndexCommand) value);
+                break;
+            case "SetValue":
+                writeSetValueCommand(generator, (com.amazon.ask.model.interfaces.alexa.presentation.apl.SetValueCommand) value);
+                break;
+            case "SetFocus":
+                writeSetFocusCommand(generator, (com.amazon.ask.model.interfaces.alexa.presentation.apl.SetFocusCommand) value);
+                break;
+            default:
+                generator.writeObject(value);
+        }
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentEntity readComponentEntity(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentEntity.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentEntity.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "type":
+                    builder.withType(JsonCodecSupport.readString(parser));
+                    break;
+                case "value":
+                    builder.withValue(JsonCodecSupport.readString(parser));
+                    break;
+                case "id":
+                    builder.withId(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeComponentEntity(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentEntity value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "type", value.getType());
+        JsonCodecSupport.writeStringField(generator, "value", value.getValue());
+        JsonCodecSupport.writeStringField(generator, "id", value.getId());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentState readComponentState(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentState.fromValue(value) : null;
+    }
+
+    static void writeComponentState(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentState value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreen readComponentVisibleOnScreen(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreen.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreen.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "children":
+                    builder.withChildren(JsonCodecSupport.readList(parser, InterfacesAlexaPresentationAplCodecs::readComponentVisibleOnScreen));
+                    break;
+                case "entities":
+                    builder.withEntities(JsonCodecSupport.readList(parser, InterfacesAlexaPresentationAplCodecs::readComponentEntity));
+                    break;
+                case "id":
+                    builder.withId(JsonCodecSupport.readString(parser));
+                    break;
+                case "position":
+                    builder.withPosition(JsonCodecSupport.readString(parser));
+                    break;
+                case "tags":
+                    builder.withTags(readComponentVisibleOnScreenTags(parser));
+                    break;
+                case "transform":
+                    builder.withTransform(JsonCodecSupport.readList(parser, JsonCodecSupport::readBigDecimal));
+                    break;
+                case "type":
+                    builder.withType(JsonCodecSupport.readString(parser));
+                    break;
+                case "uid":
+                    builder.withUid(JsonCodecSupport.readString(parser));
+                    break;
+                case "visibility":
+                    builder.withVisibility(JsonCodecSupport.readFloat(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeComponentVisibleOnScreen(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreen value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "children", value.getChildren(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, InterfacesAlexaPresentationAplCodecs::writeComponentVisibleOnScreen));
+        JsonCodecSupport.writeField(generator, "entities", value.getEntities(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, InterfacesAlexaPresentationAplCodecs::writeComponentEntity));
+        JsonCodecSupport.writeStringField(generator, "id", value.getId());
+        JsonCodecSupport.writeStringField(generator, "position", value.getPosition());
+        JsonCodecSupport.writeField(generator, "tags", value.getTags(), InterfacesAlexaPresentationAplCodecs::writeComponentVisibleOnScreenTags);
+        JsonCodecSupport.writeField(generator, "transform", value.getTransform(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, JsonCodecSupport::writeBigDecimal));
+        JsonCodecSupport.writeStringField(generator, "type", value.getType());
+        JsonCodecSupport.writeStringField(generator, "uid", value.getUid());
+        JsonCodecSupport.writeField(generator, "visibility", value.getVisibility(), JsonCodecSupport::writeFloat);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenListItemTag readComponentVisibleOnScreenListItemTag(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenListItemTag.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenListItemTag.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "index":
+                    builder.withIndex(JsonCodecSupport.readInteger(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeComponentVisibleOnScreenListItemTag(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenListItemTag value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "index", value.getIndex(), JsonCodecSupport::writeInteger);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenListTag readComponentVisibleOnScreenListTag(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenListTag.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenListTag.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "itemCount":
+                    builder.withItemCount(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "lowestIndexSeen":
+                    builder.withLowestIndexSeen(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "highestIndexSeen":
+                    builder.withHighestIndexSeen(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "lowestOrdinalSeen":
+                    builder.withLowestOrdinalSeen(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "highestOrdinalSeen":
+                    builder.withHighestOrdinalSeen(JsonCodecSupport.readInteger(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeComponentVisibleOnScreenListTag(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenListTag value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "itemCount", value.getItemCount(), JsonCodecSupport::writeInteger);
+        JsonCodecSupport.writeField(generator, "lowestIndexSeen", value.getLowestIndexSeen(), JsonCodecSupport::writeInteger);
+        JsonCodecSupport.writeField(generator, "highestIndexSeen", value.getHighestIndexSeen(), JsonCodecSupport::writeInteger);
+        JsonCodecSupport.writeField(generator, "lowestOrdinalSeen", value.getLowestOrdinalSeen(), JsonCodecSupport::writeInteger);
+        JsonCodecSupport.writeField(generator, "highestOrdinalSeen", value.getHighestOrdinalSeen(), JsonCodecSupport::writeInteger);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenMediaTag readComponentVisibleOnScreenMediaTag(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenMediaTag.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenMediaTag.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "positionInMilliseconds":
+                    builder.withPositionInMilliseconds(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "state":
+                    builder.withState(readComponentVisibleOnScreenMediaTagStateEnum(parser));
+                    break;
+                case "allowAdjustSeekPositionForward":
+                    builder.withAllowAdjustSeekPositionForward(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "allowAdjustSeekPositionBackwards":
+                    builder.withAllowAdjustSeekPositionBackwards(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "allowNext":
+                    builder.withAllowNext(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "allowPrevious":
+                    builder.withAllowPrevious(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "entities":
+                    builder.withEntities(JsonCodecSupport.readList(parser, InterfacesAlexaPresentationAplCodecs::readComponentEntity));
+                    break;
+                case "url":
+                    builder.withUrl(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeComponentVisibleOnScreenMediaTag(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenMediaTag value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "positionInMilliseconds", value.getPositionInMilliseconds(), JsonCodecSupport::writeInteger);
+        JsonCodecSupport.writeField(generator, "state", value.getState(), InterfacesAlexaPresentationAplCodecs::writeComponentVisibleOnScreenMediaTagStateEnum);
+        JsonCodecSupport.writeField(generator, "allowAdjustSeekPositionForward", value.getAllowAdjustSeekPositionForward(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeField(generator, "allowAdjustSeekPositionBackwards", value.getAllowAdjustSeekPositionBackwards(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeField(generator, "allowNext", value.getAllowNext(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeField(generator, "allowPrevious", value.getAllowPrevious(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeField(generator, "entities", value.getEntities(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, InterfacesAlexaPresentationAplCodecs::writeComponentEntity));
+        JsonCodecSupport.writeStringField(generator, "url", value.getUrl());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenMediaTagStateEnum readComponentVisibleOnScreenMediaTagStateEnum(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenMediaTagStateEnum.fromValue(value) : null;
+    }
+
+    static void writeComponentVisibleOnScreenMediaTagStateEnum(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenMediaTagStateEnum value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenPagerTag readComponentVisibleOnScreenPagerTag(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenPagerTag.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenPagerTag.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "index":
+                    builder.withIndex(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "pageCount":
+                    builder.withPageCount(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "allowForward":
+                    builder.withAllowForward(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "allowBackwards":
+                    builder.withAllowBackwards(JsonCodecSupport.readBoolean(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeComponentVisibleOnScreenPagerTag(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenPagerTag value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "index", value.getIndex(), JsonCodecSupport::writeInteger);
+        JsonCodecSupport.writeField(generator, "pageCount", value.getPageCount(), JsonCodecSupport::writeInteger);
+        JsonCodecSupport.writeField(generator, "allowForward", value.getAllowForward(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeField(generator, "allowBackwards", value.getAllowBackwards(), JsonCodecSupport::writeBoolean);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenScrollableTag readComponentVisibleOnScreenScrollableTag(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenScrollableTag.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenScrollableTag.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "direction":
+                    builder.withDirection(readComponentVisibleOnScreenScrollableTagDirectionEnum(parser));
+                    break;
+                case "allowForward":
+                    builder.withAllowForward(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "allowBackward":
+                    builder.withAllowBackward(JsonCodecSupport.readBoolean(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeComponentVisibleOnScreenScrollableTag(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenScrollableTag value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "direction", value.getDirection(), InterfacesAlexaPresentationAplCodecs::writeComponentVisibleOnScreenScrollableTagDirectionEnum);
+        JsonCodecSupport.writeField(generator, "allowForward", value.getAllowForward(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeField(generator, "allowBackward", value.getAllowBackward(), JsonCodecSupport::writeBoolean);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenScrollableTagDirectionEnum readComponentVisibleOnScreenScrollableTagDirectionEnum(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenScrollableTagDirectionEnum.fromValue(value) : null;
+    }
+
+    static void writeComponentVisibleOnScreenScrollableTagDirectionEnum(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenScrollableTagDirectionEnum value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenTags readComponentVisibleOnScreenTags(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenTags.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenTags.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "checked":
+                    builder.withChecked(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "clickable":
+                    builder.withClickable(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "disabled":
+                    builder.withDisabled(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "focused":
+                    builder.withFocused(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "list":
+                    builder.withList(readComponentVisibleOnScreenListTag(parser));
+                    break;
+                case "listItem":
+                    builder.withListItem(readComponentVisibleOnScreenListItemTag(parser));
+                    break;
+                case "media":
+                    builder.withMedia(readComponentVisibleOnScreenMediaTag(parser));
+                    break;
+                case "ordinal":
+                    builder.withOrdinal(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "pager":
+                    builder.withPager(readComponentVisibleOnScreenPagerTag(parser));
+                    break;
+                case "scrollable":
+                    builder.withScrollable(readComponentVisibleOnScreenScrollableTag(parser));
+                    break;
+                case "spoken":
+                    builder.withSpoken(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "viewport":
+                    builder.withViewport(readComponentVisibleOnScreenViewportTag(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeComponentVisibleOnScreenTags(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenTags value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "checked", value.getChecked(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeField(generator, "clickable", value.getClickable(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeField(generator, "disabled", value.getDisabled(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeField(generator, "focused", value.getFocused(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeField(generator, "list", value.getList(), InterfacesAlexaPresentationAplCodecs::writeComponentVisibleOnScreenListTag);
+        JsonCodecSupport.writeField(generator, "listItem", value.getListItem(), InterfacesAlexaPresentationAplCodecs::writeComponentVisibleOnScreenListItemTag);
+        JsonCodecSupport.writeField(generator, "media", value.getMedia(), InterfacesAlexaPresentationAplCodecs::writeComponentVisibleOnScreenMediaTag);
+        JsonCodecSupport.writeField(generator, "ordinal", value.getOrdinal(), JsonCodecSupport::writeInteger);
+        JsonCodecSupport.writeField(generator, "pager", value.getPager(), InterfacesAlexaPresentationAplCodecs::writeComponentVisibleOnScreenPagerTag);
+        JsonCodecSupport.writeField(generator, "scrollable", value.getScrollable(), InterfacesAlexaPresentationAplCodecs::writeComponentVisibleOnScreenScrollableTag);
+        JsonCodecSupport.writeField(generator, "spoken", value.getSpoken(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeField(generator, "viewport", value.getViewport(), InterfacesAlexaPresentationAplCodecs::writeComponentVisibleOnScreenViewportTag);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenViewportTag readComponentVisibleOnScreenViewportTag(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenViewportTag.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenViewportTag.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeComponentVisibleOnScreenViewportTag(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.ComponentVisibleOnScreenViewportTag value) throws IOException {
+        generator.writeStartObject();
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.ControlMediaCommand readControlMediaCommand(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readControlMediaCommandFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.ControlMediaCommand readControlMediaCommandFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.alexa.presentation.apl.ControlMediaCommand.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.apl.ControlMediaCommand.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "delay":
+                    builder.withDelay(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "description":
+                    builder.withDescription(JsonCodecSupport.readString(parser));
+                    break;
+                case "when":
+                    builder.withWhen(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "command":
+                    builder.withCommand(readMediaCommandType(parser));
+                    break;
+                case "componentId":
+                    builder.withComponentId(JsonCodecSupport.readString(parser));
+                    break;
+                case "value":
+                    builder.withValue(JsonCodecSupport.readInteger(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeControlMediaCommand(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.ControlMediaCommand value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "ControlMedia");
+        JsonCodecSupport.writeStringField(generator, "delay", value.getDelay());
+        JsonCodecSupport.writeStringField(generator, "description", value.getDescription());
+        JsonCodecSupport.writeField(generator, "when", value.getWhen(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeField(generator, "command", value.getCommand(), InterfacesAlexaPresentationAplCodecs::writeMediaCommandType);
+        JsonCodecSupport.writeStringField(generator, "componentId", value.getComponentId());
+        JsonCodecSupport.writeStringField(generator, "value", value.getValue());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.ExecuteCommandsDirective readExecuteCommandsDirective(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readExecuteCommandsDirectiveFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.ExecuteCommandsDirective readExecuteCommandsDirectiveFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.alexa.presentation.apl.ExecuteCommandsDirective.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.apl.ExecuteCommandsDirective.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "commands":
+                    builder.withCommands(JsonCodecSupport.readList(parser, InterfacesAlexaPresentationAplCodecs::readCommand));
+                    break;
+                case "token":
+                    builder.withToken(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeExecuteCommandsDirective(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.ExecuteCommandsDirective value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Alexa.Presentation.APL.ExecuteCommands");
+        JsonCodecSupport.writeField(generator, "commands", value.getCommands(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, InterfacesAlexaPresentationAplCodecs::writeCommand));
+        JsonCodecSupport.writeStringField(generator, "token", value.getToken());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.HighlightMode readHighlightMode(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.alexa.presentation.apl.HighlightMode.fromValue(value) : null;
+    }
+
+    static void writeHighlightMode(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.HighlightMode value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.IdleCommand readIdleCommand(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readIdleCommandFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.IdleCommand readIdleCommandFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.alexa.presentation.apl.IdleCommand.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.apl.IdleCommand.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "delay":
+                    builder.withDelay(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "description":
+                    builder.withDescription(JsonCodecSupport.readString(parser));
+                    break;
+                case "when":
+                    builder.withWhen(JsonCodecSupport.readBoolean(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeIdleCommand(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.IdleCommand value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Idle");
+        JsonCodecSupport.writeStringField(generator, "delay", value.getDelay());
+        JsonCodecSupport.writeStringField(generator, "description", value.getDescription());
+        JsonCodecSupport.writeField(generator, "when", value.getWhen(), JsonCodecSupport::writeBoolean);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.MediaCommandType readMediaCommandType(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.alexa.presentation.apl.MediaCommandType.fromValue(value) : null;
+    }
+
+    static void writeMediaCommandType(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.MediaCommandType value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.MoveTransformProperty readMoveTransformProperty(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.alexa.presentation.apl.MoveTransformProperty.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.apl.MoveTransformProperty.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "translateX":
+                    builder.withTranslateX(JsonCodecSupport.readString(parser));
+                    break;
+                case "translateY":
+                    builder.withTranslateY(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeMoveTransformProperty(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.MoveTransformProperty value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "translateX", value.getTranslateX());
+        JsonCodecSupport.writeStringField(generator, "translateY", value.getTranslateY());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.OpenUrlCommand readOpenUrlCommand(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readOpenUrlCommandFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.OpenUrlCommand readOpenUrlCommandFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.alexa.presentation.apl.OpenUrlCommand.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.apl.OpenUrlCommand.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "delay":
+                    builder.withDelay(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "description":
+                    builder.withDescription(JsonCodecSupport.readString(parser));
+                    break;
+                case "when":
+                    builder.withWhen(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "source":
+                    builder.withSource(JsonCodecSupport.readString(parser));
+                    break;
+                case "onFail":
+                    builder.withOnFail(JsonCodecSupport.readList(parser, InterfacesAlexaPresentationAplCodecs::readCommand));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeOpenUrlCommand(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.OpenUrlCommand value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "OpenURL");
+        JsonCodecSupport.writeStringField(generator, "delay", value.getDelay());
+        JsonCodecSupport.writeStringField(generator, "description", value.getDescription());
+        JsonCodecSupport.writeField(generator, "when", value.getWhen(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeStringField(generator, "source", value.getSource());
+        JsonCodecSupport.writeField(generator, "onFail", value.getOnFail(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, InterfacesAlexaPresentationAplCodecs::writeCommand));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.ParallelCommand readParallelCommand(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readParallelCommandFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.ParallelCommand readParallelCommandFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.alexa.presentation.apl.ParallelCommand.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.apl.ParallelCommand.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "delay":
+                    builder.withDelay(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "description":
+                    builder.withDescription(JsonCodecSupport.readString(parser));
+                    break;
+                case "when":
+                    builder.withWhen(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "commands":
+                    builder.withCommands(JsonCodecSupport.readList(parser, InterfacesAlexaPresentationAplCodecs::readCommand));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeParallelCommand(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.ParallelCommand value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Parallel");
+        JsonCodecSupport.writeStringField(generator, "delay", value.getDelay());
+        JsonCodecSupport.writeStringField(generator, "description", value.getDescription());
+        JsonCodecSupport.writeField(generator, "when", value.getWhen(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeField(generator, "commands", value.getCommands(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, InterfacesAlexaPresentationAplCodecs::writeCommand));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.PlayMediaCommand readPlayMediaCommand(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readPlayMediaCommandFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.PlayMediaCommand readPlayMediaCommandFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.alexa.presentation.apl.PlayMediaCommand.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.apl.PlayMediaCommand.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "delay":
+                    builder.withDelay(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "description":
+                    builder.withDescription(JsonCodecSupport.readString(parser));
+                    break;
+                case "when":
+                    builder.withWhen(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "audioTrack":
+                    builder.withAudioTrack(readAudioTrack(parser));
+                    break;
+                case "componentId":
+                    builder.withComponentId(JsonCodecSupport.readString(parser));
+                    break;
+                case "source":
+                    builder.withSource(JsonCodecSupport.readList(parser, InterfacesAlexaPresentationAplCodecs::readVideoSource));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writePlayMediaCommand(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.PlayMediaCommand value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "PlayMedia");
+        JsonCodecSupport.writeStringField(generator, "delay", value.getDelay());
+        JsonCodecSupport.writeStringField(generator, "description", value.getDescription());
+        JsonCodecSupport.writeField(generator, "when", value.getWhen(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeField(generator, "audioTrack", value.getAudioTrack(), InterfacesAlexaPresentationAplCodecs::writeAudioTrack);
+        JsonCodecSupport.writeStringField(generator, "componentId", value.getComponentId());
+        JsonCodecSupport.writeField(generator, "source", value.getSource(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, InterfacesAlexaPresentationAplCodecs::writeVideoSource));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.Position readPosition(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.alexa.presentation.apl.Position.fromValue(value) : null;
+    }
+
+    static void writePosition(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.Position value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.RenderDocumentDirective readRenderDocumentDirective(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readRenderDocumentDirectiveFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.RenderDocumentDirective readRenderDocumentDirectiveFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.alexa.presentation.apl.RenderDocumentDirective.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.apl.RenderDocumentDirective.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "token":
+                    builder.withToken(JsonCodecSupport.readString(parser));
+                    break;
+                case "document":
+                    builder.withDocument(JsonCodecSupport.readMap(parser, JsonCodecSupport::readUntyped));
+                    break;
+                case "datasources":
+                    builder.withDatasources(JsonCodecSupport.readMap(parser, JsonCodecSupport::readUntyped));
+                    break;
+                case "packages":
+                    builder.withPackages(JsonCodecSupport.readList(parser, JsonCodecSupport::readUntyped));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeRenderDocumentDirective(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.RenderDocumentDirective value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Alexa.Presentation.APL.RenderDocument");
+        JsonCodecSupport.writeStringField(generator, "token", value.getToken());
+        JsonCodecSupport.writeField(generator, "document", value.getDocument(), (g0, v0) -> JsonCodecSupport.writeMap(g0, v0, JsonCodecSupport::writeUntyped));
+        JsonCodecSupport.writeField(generator, "datasources", value.getDatasources(), (g0, v0) -> JsonCodecSupport.writeMap(g0, v0, JsonCodecSupport::writeUntyped));
+        JsonCodecSupport.writeField(generator, "packages", value.getPackages(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, JsonCodecSupport::writeUntyped));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.RenderedDocumentState readRenderedDocumentState(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.alexa.presentation.apl.RenderedDocumentState.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.apl.RenderedDocumentState.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "token":
+                    builder.withToken(JsonCodecSupport.readString(parser));
+                    break;
+                case "version":
+                    builder.withVersion(JsonCodecSupport.readString(parser));
+                    break;
+                case "componentsVisibleOnScreen":
+                    builder.withComponentsVisibleOnScreen(JsonCodecSupport.readList(parser, InterfacesAlexaPresentationAplCodecs::readComponentVisibleOnScreen));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeRenderedDocumentState(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.RenderedDocumentState value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "token", value.getToken());
+        JsonCodecSupport.writeStringField(generator, "version", value.getVersion());
+        JsonCodecSupport.writeField(generator, "componentsVisibleOnScreen", value.getComponentsVisibleOnScreen(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, InterfacesAlexaPresentationAplCodecs::writeComponentVisibleOnScreen));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.RotateTransformProperty readRotateTransformProperty(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.alexa.presentation.apl.RotateTransformProperty.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.apl.RotateTransformProperty.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "rotate":
+                    builder.withRotate(JsonCodecSupport.readDouble(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeRotateTransformProperty(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.RotateTransformProperty value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "rotate", value.getRotate());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.Runtime readRuntime(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.alexa.presentation.apl.Runtime.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.apl.Runtime.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "maxVersion":
+                    builder.withMaxVersion(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeRuntime(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.Runtime value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "maxVersion", value.getMaxVersion());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.ScaleTransformProperty readScaleTransformProperty(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.alexa.presentation.apl.ScaleTransformProperty.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.apl.ScaleTransformProperty.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "scale":
+                    builder.withScale(JsonCodecSupport.readDouble(parser));
+                    break;
+                case "scaleX":
+                    builder.withScaleX(JsonCodecSupport.readDouble(parser));
+                    break;
+                case "scaleY":
+                    builder.withScaleY(JsonCodecSupport.readDouble(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeScaleTransformProperty(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.ScaleTransformProperty value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "scale", value.getScale());
+        JsonCodecSupport.writeStringField(generator, "scaleX", value.getScaleX());
+        JsonCodecSupport.writeStringField(generator, "scaleY", value.getScaleY());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.ScrollCommand readScrollCommand(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readScrollCommandFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.ScrollCommand readScrollCommandFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.alexa.presentation.apl.ScrollCommand.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.apl.ScrollCommand.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "delay":
+                    builder.withDelay(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "description":
+                    builder.withDescription(JsonCodecSupport.readString(parser));
+                    break;
+                case "when":
+                    builder.withWhen(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "distance":
+                    builder.withDistance(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "componentId":
+                    builder.withComponentId(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeScrollCommand(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.ScrollCommand value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Scroll");
+        JsonCodecSupport.writeStringField(generator, "delay", value.getDelay());
+        JsonCodecSupport.writeStringField(generator, "description", value.getDescription());
+        JsonCodecSupport.writeField(generator, "when", value.getWhen(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeStringField(generator, "distance", value.getDistance());
+        JsonCodecSupport.writeStringField(generator, "componentId", value.getComponentId());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.ScrollToIndexCommand readScrollToIndexCommand(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readScrollToIndexCommandFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.ScrollToIndexCommand readScrollToIndexCommandFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.alexa.presentation.apl.ScrollToIndexCommand.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.apl.ScrollToIndexCommand.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "delay":
+                    builder.withDelay(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "description":
+                    builder.withDescription(JsonCodecSupport.readString(parser));
+                    break;
+                case "when":
+                    builder.withWhen(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "align":
+                    builder.withAlign(readAlign(parser));
+                    break;
+                case "componentId":
+                    builder.withComponentId(JsonCodecSupport.readString(parser));
+                    break;
+                case "index":
+                    builder.withIndex(JsonCodecSupport.readInteger(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeScrollToIndexCommand(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.ScrollToIndexCommand value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "ScrollToIndex");
+        JsonCodecSupport.writeStringField(generator, "delay", value.getDelay());
+        JsonCodecSupport.writeStringField(generator, "description", value.getDescription());
+        JsonCodecSupport.writeField(generator, "when", value.getWhen(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeField(generator, "align", value.getAlign(), InterfacesAlexaPresentationAplCodecs::writeAlign);
+        JsonCodecSupport.writeStringField(generator, "componentId", value.getComponentId());
+        JsonCodecSupport.writeStringField(generator, "index", value.getIndex());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.SendEventCommand readSendEventCommand(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readSendEventCommandFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.SendEventCommand readSendEventCommandFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.alexa.presentation.apl.SendEventCommand.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.apl.SendEventCommand.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "delay":
+                    builder.withDelay(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "description":
+                    builder.withDescription(JsonCodecSupport.readString(parser));
+                    break;
+                case "when":
+                    builder.withWhen(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "arguments":
+                    builder.withArguments(JsonCodecSupport.readList(parser, JsonCodecSupport::readString));
+                    break;
+                case "components":
+                    builder.withComponents(JsonCodecSupport.readList(parser, JsonCodecSupport::readString));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSendEventCommand(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.SendEventCommand value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "SendEvent");
+        JsonCodecSupport.writeStringField(generator, "delay", value.getDelay());
+        JsonCodecSupport.writeStringField(generator, "description", value.getDescription());
+        JsonCodecSupport.writeField(generator, "when", value.getWhen(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeField(generator, "arguments", value.getArguments(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, JsonCodecSupport::writeString));
+        JsonCodecSupport.writeField(generator, "components", value.getComponents(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, JsonCodecSupport::writeString));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.SequentialCommand readSequentialCommand(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readSequentialCommandFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.SequentialCommand readSequentialCommandFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.alexa.presentation.apl.SequentialCommand.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.apl.SequentialCommand.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "delay":
+                    builder.withDelay(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "description":
+                    builder.withDescription(JsonCodecSupport.readString(parser));
+                    break;
+                case "when":
+                    builder.withWhen(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "catch":
+                    builder.withCatch(JsonCodecSupport.readList(parser, InterfacesAlexaPresentationAplCodecs::readCommand));
+                    break;
+                case "commands":
+                    builder.withCommands(JsonCodecSupport.readList(parser, InterfacesAlexaPresentationAplCodecs::readCommand));
+                    break;
+                case "finally":
+                    builder.withFinally(JsonCodecSupport.readList(parser, InterfacesAlexaPresentationAplCodecs::readCommand));
+                    break;
+                case "repeatCount":
+                    builder.withRepeatCount(JsonCodecSupport.readInteger(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSequentialCommand(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.SequentialCommand value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Sequential");
+        JsonCodecSupport.writeStringField(generator, "delay", value.getDelay());
+        JsonCodecSupport.writeStringField(generator, "description", value.getDescription());
+        JsonCodecSupport.writeField(generator, "when", value.getWhen(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeField(generator, "catch", value.getCatch(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, InterfacesAlexaPresentationAplCodecs::writeCommand));
+        JsonCodecSupport.writeField(generator, "commands", value.getCommands(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, InterfacesAlexaPresentationAplCodecs::writeCommand));
+        JsonCodecSupport.writeField(generator, "finally", value.getFinally(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, InterfacesAlexaPresentationAplCodecs::writeCommand));
+        JsonCodecSupport.writeStringField(generator, "repeatCount", value.getRepeatCount());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.SetFocusCommand readSetFocusCommand(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readSetFocusCommandFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.SetFocusCommand readSetFocusCommandFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.alexa.presentation.apl.SetFocusCommand.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.apl.SetFocusCommand.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "delay":
+                    builder.withDelay(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "description":
+                    builder.withDescription(JsonCodecSupport.readString(parser));
+                    break;
+                case "when":
+                    builder.withWhen(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "componentId":
+                    builder.withComponentId(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSetFocusCommand(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.SetFocusCommand value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "SetFocus");
+        JsonCodecSupport.writeStringField(generator, "delay", value.getDelay());
+        JsonCodecSupport.writeStringField(generator, "description", value.getDescription());
+        JsonCodecSupport.writeField(generator, "when", value.getWhen(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeStringField(generator, "componentId", value.getComponentId());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.SetPageCommand readSetPageCommand(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readSetPageCommandFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.SetPageCommand readSetPageCommandFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.alexa.presentation.apl.SetPageCommand.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.apl.SetPageCommand.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "delay":
+                    builder.withDelay(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "description":
+                    builder.withDescription(JsonCodecSupport.readString(parser));
+                    break;
+                case "when":
+                    builder.withWhen(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "componentId":
+                    builder.withComponentId(JsonCodecSupport.readString(parser));
+                    break;
+                case "position":
+                    builder.withPosition(readPosition(parser));
+                    break;
+                case "value":
+                    builder.withValue(JsonCodecSupport.readInteger(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSetPageCommand(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.SetPageCommand value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "SetPage");
+        JsonCodecSupport.writeStringField(generator, "delay", value.getDelay());
+        JsonCodecSupport.writeStringField(generator, "description", value.getDescription());
+        JsonCodecSupport.writeField(generator, "when", value.getWhen(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeStringField(generator, "componentId", value.getComponentId());
+        JsonCodecSupport.writeField(generator, "position", value.getPosition(), InterfacesAlexaPresentationAplCodecs::writePosition);
+        JsonCodecSupport.writeStringField(generator, "value", value.getValue());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.SetStateCommand readSetStateCommand(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readSetStateCommandFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.SetStateCommand readSetStateCommandFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.alexa.presentation.apl.SetStateCommand.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.apl.SetStateCommand.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "delay":
+                    builder.withDelay(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "description":
+                    builder.withDescription(JsonCodecSupport.readString(parser));
+                    break;
+                case "when":
+                    builder.withWhen(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "componentId":
+                    builder.withComponentId(JsonCodecSupport.readString(parser));
+                    break;
+                case "state":
+                    builder.withState(readComponentState(parser));
+                    break;
+                case "value":
+                    builder.withValue(JsonCodecSupport.readBoolean(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSetStateCommand(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.SetStateCommand value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "SetState");
+        JsonCodecSupport.writeStringField(generator, "delay", value.getDelay());
+        JsonCodecSupport.writeStringField(generator, "description", value.getDescription());
+        JsonCodecSupport.writeField(generator, "when", value.getWhen(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeStringField(generator, "componentId", value.getComponentId());
+        JsonCodecSupport.writeField(generator, "state", value.getState(), InterfacesAlexaPresentationAplCodecs::writeComponentState);
+        JsonCodecSupport.writeStringField(generator, "value", value.getValue());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.SetValueCommand readSetValueCommand(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readSetValueCommandFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.SetValueCommand readSetValueCommandFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.alexa.presentation.apl.SetValueCommand.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.apl.SetValueCommand.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "delay":
+                    builder.withDelay(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "description":
+                    builder.withDescription(JsonCodecSupport.readString(parser));
+                    break;
+                case "when":
+                    builder.withWhen(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "componentId":
+                    builder.withComponentId(JsonCodecSupport.readString(parser));
+                    break;
+                case "property":
+                    builder.withProperty(JsonCodecSupport.readString(parser));
+                    break;
+                case "value":
+                    builder.withValue(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSetValueCommand(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.SetValueCommand value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "SetValue");
+        JsonCodecSupport.writeStringField(generator, "delay", value.getDelay());
+        JsonCodecSupport.writeStringField(generator, "description", value.getDescription());
+        JsonCodecSupport.writeField(generator, "when", value.getWhen(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeStringField(generator, "componentId", value.getComponentId());
+        JsonCodecSupport.writeStringField(generator, "property", value.getProperty());
+        JsonCodecSupport.writeStringField(generator, "value", value.getValue());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.SkewTransformProperty readSkewTransformProperty(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.alexa.presentation.apl.SkewTransformProperty.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.apl.SkewTransformProperty.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "skewX":
+                    builder.withSkewX(JsonCodecSupport.readDouble(parser));
+                    break;
+                case "skewY":
+                    builder.withSkewY(JsonCodecSupport.readDouble(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSkewTransformProperty(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.SkewTransformProperty value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "skewX", value.getSkewX());
+        JsonCodecSupport.writeStringField(generator, "skewY", value.getSkewY());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.SpeakItemCommand readSpeakItemCommand(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readSpeakItemCommandFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.SpeakItemCommand readSpeakItemCommandFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.alexa.presentation.apl.SpeakItemCommand.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.apl.SpeakItemCommand.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "delay":
+                    builder.withDelay(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "description":
+                    builder.withDescription(JsonCodecSupport.readString(parser));
+                    break;
+                case "when":
+                    builder.withWhen(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "align":
+                    builder.withAlign(readAlign(parser));
+                    break;
+                case "componentId":
+                    builder.withComponentId(JsonCodecSupport.readString(parser));
+                    break;
+                case "highlightMode":
+                    builder.withHighlightMode(readHighlightMode(parser));
+                    break;
+                case "minimumDwellTime":
+                    builder.withMinimumDwellTime(JsonCodecSupport.readInteger(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSpeakItemCommand(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.SpeakItemCommand value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "SpeakItem");
+        JsonCodecSupport.writeStringField(generator, "delay", value.getDelay());
+        JsonCodecSupport.writeStringField(generator, "description", value.getDescription());
+        JsonCodecSupport.writeField(generator, "when", value.getWhen(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeField(generator, "align", value.getAlign(), InterfacesAlexaPresentationAplCodecs::writeAlign);
+        JsonCodecSupport.writeStringField(generator, "componentId", value.getComponentId());
+        JsonCodecSupport.writeField(generator, "highlightMode", value.getHighlightMode(), InterfacesAlexaPresentationAplCodecs::writeHighlightMode);
+        JsonCodecSupport.writeStringField(generator, "minimumDwellTime", value.getMinimumDwellTime());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.SpeakListCommand readSpeakListCommand(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readSpeakListCommandFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.SpeakListCommand readSpeakListCommandFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.alexa.presentation.apl.SpeakListCommand.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.apl.SpeakListCommand.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "delay":
+                    builder.withDelay(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "description":
+                    builder.withDescription(JsonCodecSupport.readString(parser));
+                    break;
+                case "when":
+                    builder.withWhen(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "align":
+                    builder.withAlign(readAlign(parser));
+                    break;
+                case "componentId":
+                    builder.withComponentId(JsonCodecSupport.readString(parser));
+                    break;
+                case "count":
+                    builder.withCount(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "minimumDwellTime":
+                    builder.withMinimumDwellTime(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "start":
+                    builder.withStart(JsonCodecSupport.readInteger(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSpeakListCommand(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.SpeakListCommand value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "SpeakList");
+        JsonCodecSupport.writeStringField(generator, "delay", value.getDelay());
+        JsonCodecSupport.writeStringField(generator, "description", value.getDescription());
+        JsonCodecSupport.writeField(generator, "when", value.getWhen(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeField(generator, "align", value.getAlign(), InterfacesAlexaPresentationAplCodecs::writeAlign);
+        JsonCodecSupport.writeStringField(generator, "componentId", value.getComponentId());
+        JsonCodecSupport.writeStringField(generator, "count", value.getCount());
+        JsonCodecSupport.writeStringField(generator, "minimumDwellTime", value.getMinimumDwellTime());
+        JsonCodecSupport.writeStringField(generator, "start", value.getStart());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.TransformProperty readTransformProperty(JsonParser parser) throws IOException {
+        if (JsonCodecSupport.beginObject(parser)) {
+            throw new com.fasterxml.jackson.core.JsonParseException(parser, "Cannot read abstract type TransformProperty");
+        }
+        return null;
+    }
+
+    static void writeTransformProperty(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.TransformProperty value) throws IOException {
+        generator.writeObject(value);
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.UserEvent readUserEvent(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readUserEventFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.UserEvent readUserEventFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.alexa.presentation.apl.UserEvent.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.apl.UserEvent.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                case "token":
+                    builder.withToken(JsonCodecSupport.readString(parser));
+                    break;
+                case "arguments":
+                    builder.withArguments(JsonCodecSupport.readList(parser, JsonCodecSupport::readUntyped));
+                    break;
+                case "source":
+                    builder.withSource(JsonCodecSupport.readUntyped(parser));
+                    break;
+                case "components":
+                    builder.withComponents(JsonCodecSupport.readUntyped(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeUserEvent(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.UserEvent value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Alexa.Presentation.APL.UserEvent");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        JsonCodecSupport.writeStringField(generator, "token", value.getToken());
+        JsonCodecSupport.writeField(generator, "arguments", value.getArguments(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, JsonCodecSupport::writeUntyped));
+        JsonCodecSupport.writeField(generator, "source", value.getSource(), JsonCodecSupport::writeUntyped);
+        JsonCodecSupport.writeField(generator, "components", value.getComponents(), JsonCodecSupport::writeUntyped);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.apl.VideoSource readVideoSource(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.alexa.presentation.apl.VideoSource.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.apl.VideoSource.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "description":
+                    builder.withDescription(JsonCodecSupport.readString(parser));
+                    break;
+                case "duration":
+                    builder.withDuration(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "url":
+                    builder.withUrl(JsonCodecSupport.readString(parser));
+                    break;
+                case "repeatCount":
+                    builder.withRepeatCount(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "offset":
+                    builder.withOffset(JsonCodecSupport.readInteger(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeVideoSource(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.apl.VideoSource value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "description", value.getDescription());
+        JsonCodecSupport.writeStringField(generator, "duration", value.getDuration());
+        JsonCodecSupport.writeStringField(generator, "url", value.getUrl());
+        JsonCodecSupport.writeStringField(generator, "repeatCount", value.getRepeatCount());
+        JsonCodecSupport.writeStringField(generator, "offset", value.getOffset());
+        generator.writeEndObject();
+    }
+}
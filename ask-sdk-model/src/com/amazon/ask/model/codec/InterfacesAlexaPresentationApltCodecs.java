@@ -0,0 +1,679 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodec;
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.interfaces.alexa.presentation.aplt.
+ */
+final class InterfacesAlexaPresentationApltCodecs {
+
+    private InterfacesAlexaPresentationApltCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.aplt.AlexaPresentationApltInterface.class, InterfacesAlexaPresentationApltCodecs::readAlexaPresentationApltInterface, InterfacesAlexaPresentationApltCodecs::writeAlexaPresentationApltInterface);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.aplt.AutoPageCommand.class, InterfacesAlexaPresentationApltCodecs::readAutoPageCommand, InterfacesAlexaPresentationApltCodecs::writeAutoPageCommand);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.aplt.Command.class, InterfacesAlexaPresentationApltCodecs::readCommand, InterfacesAlexaPresentationApltCodecs::writeCommand);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.aplt.ExecuteCommandsDirective.class, InterfacesAlexaPresentationApltCodecs::readExecuteCommandsDirective, InterfacesAlexaPresentationApltCodecs::writeExecuteCommandsDirective);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.aplt.IdleCommand.class, InterfacesAlexaPresentationApltCodecs::readIdleCommand, InterfacesAlexaPresentationApltCodecs::writeIdleCommand);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.aplt.ParallelCommand.class, InterfacesAlexaPresentationApltCodecs::readParallelCommand, InterfacesAlexaPresentationApltCodecs::writeParallelCommand);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.aplt.Position.class, InterfacesAlexaPresentationApltCodecs::readPosition, InterfacesAlexaPresentationApltCodecs::writePosition);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.aplt.RenderDocumentDirective.class, InterfacesAlexaPresentationApltCodecs::readRenderDocumentDirective, InterfacesAlexaPresentationApltCodecs::writeRenderDocumentDirective);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.aplt.Runtime.class, InterfacesAlexaPresentationApltCodecs::readRuntime, InterfacesAlexaPresentationApltCodecs::writeRuntime);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.aplt.ScrollCommand.class, InterfacesAlexaPresentationApltCodecs::readScrollCommand, InterfacesAlexaPresentationApltCodecs::writeScrollCommand);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.aplt.SendEventCommand.class, InterfacesAlexaPresentationApltCodecs::readSendEventCommand, InterfacesAlexaPresentationApltCodecs::writeSendEventCommand);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.aplt.SequentialCommand.class, InterfacesAlexaPresentationApltCodecs::readSequentialCommand, InterfacesAlexaPresentationApltCodecs::writeSequentialCommand);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.aplt.SetPageCommand.class, InterfacesAlexaPresentationApltCodecs::readSetPageCommand, InterfacesAlexaPresentationApltCodecs::writeSetPageCommand);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.aplt.SetValueCommand.class, InterfacesAlexaPresentationApltCodecs::readSetValueCommand, InterfacesAlexaPresentationApltCodecs::writeSetValueCommand);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.aplt.TargetProfile.class, InterfacesAlexaPresentationApltCodecs::readTargetProfile, InterfacesAlexaPresentationApltCodecs::writeTargetProfile);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.aplt.UserEvent.class, InterfacesAlexaPresentationApltCodecs::readUserEvent, InterfacesAlexaPresentationApltCodecs::writeUserEvent);
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.aplt.AlexaPresentationApltInterface readAlexaPresentationApltInterface(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.alexa.presentation.aplt.AlexaPresentationApltInterface.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.aplt.AlexaPresentationApltInterface.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "runtime":
+                    builder.withRuntime(readRuntime(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeAlexaPresentationApltInterface(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.aplt.AlexaPresentationApltInterface value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "runtime", value.getRuntime(), InterfacesAlexaPresentationApltCodecs::writeRuntime);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.aplt.AutoPageCommand readAutoPageCommand(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readAutoPageCommandFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.aplt.AutoPageCommand readAutoPageCommandFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.alexa.presentation.aplt.AutoPageCommand.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.aplt.AutoPageCommand.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "delay":
+                    builder.withDelay(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "description":
+                    builder.withDescription(JsonCodecSupport.readString(parser));
+                    break;
+                case "screenLock":
+                    builder.withScreenLock(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "when":
+                    builder.withWhen(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "componentId":
+                    builder.withComponentId(JsonCodecSupport.readString(parser));
+                    break;
+                case "count":
+                    builder.withCount(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "duration":
+                    builder.withDuration(JsonCodecSupport.readInteger(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeAutoPageCommand(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.aplt.AutoPageCommand value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "AutoPage");
+        JsonCodecSupport.writeField(generator, "delay", value.getDelay(), JsonCodecSupport::writeInteger);
+        JsonCodecSupport.writeStringField(generator, "description", value.getDescription());
+        JsonCodecSupport.writeField(generator, "screenLock", value.getScreenLock(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeStringField(generator, "when", value.getWhen());
+        JsonCodecSupport.writeStringField(generator, "componentId", value.getComponentId());
+        JsonCodecSupport.writeStringField(generator, "count", value.getCount());
+        JsonCodecSupport.writeStringField(generator, "duration", value.getDuration());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.aplt.Command readCommand(JsonParser parser) throws IOException {
+        return JsonCodecSupport.readPolymorphic(parser, "type", InterfacesAlexaPresentationApltCodecs::commandSubtype);
+    }
+
+    private static JsonCodec.Reader<? extends com.amazon.ask.model.interfaces.alexa.presentation.aplt.Command> commandSubtype(String type) {
+        switch (type) {
+            case "SetValue":
+                return InterfacesAlexaPresentationApltCodecs::readSetValueCommandFields;
+            case "Idle":
+                return InterfacesAlexaPresentationApltCodecs::readIdleCommandFields;
+            case "AutoPage":
+                return InterfacesAlexaPresentationApltCodecs::readAutoPageCommandFields;
+            case "Scroll":
+                return InterfacesAlexaPresentationApltCodecs::readScrollCommandFields;
+            case "SendEvent":
+                return InterfacesAlexaPresentationApltCodecs::readSendEventCommandFields;
+            case "Parallel":
+                return InterfacesAlexaPresentationApltCodecs::readParallelCommandFields;
+            case "SetPage":
+                return InterfacesAlexaPresentationApltCodecs::readSetPageCommandFields;
+            case "Sequential":
+                return InterfacesAlexaPresentationApltCodecs::readSequentialCommandFields;
+            default:
+                return null;
+        }
+    }
+
+    static void writeCommand(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.aplt.Command value) throws IOException {
+        switch (String.valueOf(value.getType())) {
+            case "SetValue":
+                writeSetValueCommand(generator, (com.amazon.ask.model.interfaces.alexa.presentation.aplt.SetValueCommand) value);
+                break;
+            case "Idle":
+                writeIdleCommand(generator, (com.amazon.ask.model.interfaces.alexa.presentation.aplt.IdleCommand) value);
+                break;
+            case "AutoPage":
+                writeAutoPageCommand(generator, (com.amazon.ask.model.interfaces.alexa.presentation.aplt.AutoPageCommand) value);
+                break;
+            case "Scroll":
+                writeScrollCommand(generator, (com.amazon.ask.model.interfaces.alexa.presentation.aplt.ScrollCommand) value);
+                break;
+            case "SendEvent":
+                writeSendEventCommand(generator, (com.amazon.ask.model.interfaces.alexa.presentation.aplt.SendEventCommand) value);
+                break;
+            case "Parallel":
+                writeParallelCommand(generator, (com.amazon.ask.model.interfaces.alexa.presentation.aplt.ParallelCommand) value);
+                break;
+            case "SetPage":
+                writeSetPageCommand(generator, (com.amazon.ask.model.interfaces.alexa.presentation.aplt.SetPageCommand) value);
+                break;
+            case "Sequential":
+                writeSequentialCommand(generator, (com.amazon.ask.model.interfaces.alexa.presentation.aplt.SequentialCommand) value);
+                break;
+            default:
+                generator.writeObject(value);
+        }
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.aplt.ExecuteCommandsDirective readExecuteCommandsDirective(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readExecuteCommandsDirectiveFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.aplt.ExecuteCommandsDirective readExecuteCommandsDirectiveFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.alexa.presentation.aplt.ExecuteCommandsDirective.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.aplt.ExecuteCommandsDirective.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "commands":
+                    builder.withCommands(JsonCodecSupport.readList(parser, InterfacesAlexaPresentationApltCodecs::readCommand));
+                    break;
+                case "token":
+                    builder.withToken(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeExecuteCommandsDirective(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.aplt.ExecuteCommandsDirective value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Alexa.Presentation.APLT.ExecuteCommands");
+        JsonCodecSupport.writeField(generator, "commands", value.getCommands(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, InterfacesAlexaPresentationApltCodecs::writeCommand));
+        JsonCodecSupport.writeStringField(generator, "token", value.getToken());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.aplt.IdleCommand readIdleCommand(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readIdleCommandFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.aplt.IdleCommand readIdleCommandFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.alexa.presentation.aplt.IdleCommand.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.aplt.IdleCommand.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "delay":
+                    builder.withDelay(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "description":
+                    builder.withDescription(JsonCodecSupport.readString(parser));
+                    break;
+                case "screenLock":
+                    builder.withScreenLock(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "when":
+                    builder.withWhen(JsonCodecSupport.readBoolean(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeIdleCommand(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.aplt.IdleCommand value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Idle");
+        JsonCodecSupport.writeField(generator, "delay", value.getDelay(), JsonCodecSupport::writeInteger);
+        JsonCodecSupport.writeStringField(generator, "description", value.getDescription());
+        JsonCodecSupport.writeField(generator, "screenLock", value.getScreenLock(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeStringField(generator, "when", value.getWhen());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.aplt.ParallelCommand readParallelCommand(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readParallelCommandFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.aplt.ParallelCommand readParallelCommandFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.alexa.presentation.aplt.ParallelCommand.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.aplt.ParallelCommand.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "delay":
+                    builder.withDelay(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "description":
+                    builder.withDescription(JsonCodecSupport.readString(parser));
+                    break;
+                case "screenLock":
+                    builder.withScreenLock(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "when":
+                    builder.withWhen(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "commands":
+                    builder.withCommands(JsonCodecSupport.readList(parser, InterfacesAlexaPresentationApltCodecs::readCommand));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeParallelCommand(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.aplt.ParallelCommand value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Parallel");
+        JsonCodecSupport.writeField(generator, "delay", value.getDelay(), JsonCodecSupport::writeInteger);
+        JsonCodecSupport.writeStringField(generator, "description", value.getDescription());
+        JsonCodecSupport.writeField(generator, "screenLock", value.getScreenLock(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeStringField(generator, "when", value.getWhen());
+        JsonCodecSupport.writeField(generator, "commands", value.getCommands(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, InterfacesAlexaPresentationApltCodecs::writeCommand));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.aplt.Position readPosition(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.alexa.presentation.aplt.Position.fromValue(value) : null;
+    }
+
+    static void writePosition(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.aplt.Position value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.aplt.RenderDocumentDirective readRenderDocumentDirective(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readRenderDocumentDirectiveFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.aplt.RenderDocumentDirective readRenderDocumentDirectiveFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.alexa.presentation.aplt.RenderDocumentDirective.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.aplt.RenderDocumentDirective.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "token":
+                    builder.withToken(JsonCodecSupport.readString(parser));
+                    break;
+                case "targetProfile":
+                    builder.withTargetProfile(readTargetProfile(parser));
+                    break;
+                case "document":
+                    builder.withDocument(JsonCodecSupport.readMap(parser, JsonCodecSupport::readUntyped));
+                    break;
+                case "datasources":
+                    builder.withDatasources(JsonCodecSupport.readMap(parser, JsonCodecSupport::readUntyped));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeRenderDocumentDirective(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.aplt.RenderDocumentDirective value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Alexa.Presentation.APLT.RenderDocument");
+        JsonCodecSupport.writeStringField(generator, "token", value.getToken());
+        JsonCodecSupport.writeField(generator, "targetProfile", value.getTargetProfile(), InterfacesAlexaPresentationApltCodecs::writeTargetProfile);
+        JsonCodecSupport.writeField(generator, "document", value.getDocument(), (g0, v0) -> JsonCodecSupport.writeMap(g0, v0, JsonCodecSupport::writeUntyped));
+        JsonCodecSupport.writeField(generator, "datasources", value.getDatasources(), (g0, v0) -> JsonCodecSupport.writeMap(g0, v0, JsonCodecSupport::writeUntyped));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.aplt.Runtime readRuntime(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.alexa.presentation.aplt.Runtime.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.aplt.Runtime.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "maxVersion":
+                    builder.withMaxVersion(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeRuntime(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.aplt.Runtime value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "maxVersion", value.getMaxVersion());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.aplt.ScrollCommand readScrollCommand(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readScrollCommandFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.aplt.ScrollCommand readScrollCommandFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.alexa.presentation.aplt.ScrollCommand.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.aplt.ScrollCommand.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "delay":
+                    builder.withDelay(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "description":
+                    builder.withDescription(JsonCodecSupport.readString(parser));
+                    break;
+                case "screenLock":
+                    builder.withScreenLock(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "when":
+                    builder.withWhen(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "distance":
+                    builder.withDistance(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "componentId":
+                    builder.withComponentId(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeScrollCommand(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.aplt.ScrollCommand value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Scroll");
+        JsonCodecSupport.writeField(generator, "delay", value.getDelay(), JsonCodecSupport::writeInteger);
+        JsonCodecSupport.writeStringField(generator, "description", value.getDescription());
+        JsonCodecSupport.writeField(generator, "screenLock", value.getScreenLock(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeStringField(generator, "when", value.getWhen());
+        JsonCodecSupport.writeStringField(generator, "distance", value.getDistance());
+        JsonCodecSupport.writeStringField(generator, "componentId", value.getComponentId());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.aplt.SendEventCommand readSendEventCommand(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readSendEventCommandFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.aplt.SendEventCommand readSendEventCommandFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.alexa.presentation.aplt.SendEventCommand.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.aplt.SendEventCommand.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "delay":
+                    builder.withDelay(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "description":
+                    builder.withDescription(JsonCodecSupport.readString(parser));
+                    break;
+                case "screenLock":
+                    builder.withScreenLock(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "when":
+                    builder.withWhen(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "arguments":
+                    builder.withArguments(JsonCodecSupport.readList(parser, JsonCodecSupport::readString));
+                    break;
+                case "components":
+                    builder.withComponents(JsonCodecSupport.readList(parser, JsonCodecSupport::readString));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSendEventCommand(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.aplt.SendEventCommand value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "SendEvent");
+        JsonCodecSupport.writeField(generator, "delay", value.getDelay(), JsonCodecSupport::writeInteger);
+        JsonCodecSupport.writeStringField(generator, "description", value.getDescription());
+        JsonCodecSupport.writeField(generator, "screenLock", value.getScreenLock(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeStringField(generator, "when", value.getWhen());
+        JsonCodecSupport.writeField(generator, "arguments", value.getArguments(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, JsonCodecSupport::writeString));
+        JsonCodecSupport.writeField(generator, "components", value.getComponents(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, JsonCodecSupport::writeString));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.aplt.SequentialCommand readSequentialCommand(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readSequentialCommandFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.aplt.SequentialCommand readSequentialCommandFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.alexa.presentation.aplt.SequentialCommand.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.aplt.SequentialCommand.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "delay":
+                    builder.withDelay(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "description":
+                    builder.withDescription(JsonCodecSupport.readString(parser));
+                    break;
+                case "screenLock":
+                    builder.withScreenLock(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "when":
+                    builder.withWhen(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "catch":
+                    builder.withCatch(JsonCodecSupport.readList(parser, InterfacesAlexaPresentationApltCodecs::readCommand));
+                    break;
+                case "commands":
+                    builder.withCommands(JsonCodecSupport.readList(parser, InterfacesAlexaPresentationApltCodecs::readCommand));
+                    break;
+                case "finally":
+                    builder.withFinally(JsonCodecSupport.readList(parser, InterfacesAlexaPresentationApltCodecs::readCommand));
+                    break;
+                case "repeatCount":
+                    builder.withRepeatCount(JsonCodecSupport.readInteger(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSequentialCommand(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.aplt.SequentialCommand value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Sequential");
+        JsonCodecSupport.writeField(generator, "delay", value.getDelay(), JsonCodecSupport::writeInteger);
+        JsonCodecSupport.writeStringField(generator, "description", value.getDescription());
+        JsonCodecSupport.writeField(generator, "screenLock", value.getScreenLock(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeStringField(generator, "when", value.getWhen());
+        JsonCodecSupport.writeField(generator, "catch", value.getCatch(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, InterfacesAlexaPresentationApltCodecs::writeCommand));
+        JsonCodecSupport.writeField(generator, "commands", value.getCommands(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, InterfacesAlexaPresentationApltCodecs::writeCommand));
+        JsonCodecSupport.writeField(generator, "finally", value.getFinally(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, InterfacesAlexaPresentationApltCodecs::writeCommand));
+        JsonCodecSupport.writeStringField(generator, "repeatCount", value.getRepeatCount());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.aplt.SetPageCommand readSetPageCommand(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readSetPageCommandFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.aplt.SetPageCommand readSetPageCommandFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.alexa.presentation.aplt.SetPageCommand.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.aplt.SetPageCommand.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "delay":
+                    builder.withDelay(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "description":
+                    builder.withDescription(JsonCodecSupport.readString(parser));
+                    break;
+                case "screenLock":
+                    builder.withScreenLock(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "when":
+                    builder.withWhen(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "componentId":
+                    builder.withComponentId(JsonCodecSupport.readString(parser));
+                    break;
+                case "position":
+                    builder.withPosition(readPosition(parser));
+                    break;
+                case "value":
+                    builder.withValue(JsonCodecSupport.readInteger(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSetPageCommand(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.aplt.SetPageCommand value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "SetPage");
+        JsonCodecSupport.writeField(generator, "delay", value.getDelay(), JsonCodecSupport::writeInteger);
+        JsonCodecSupport.writeStringField(generator, "description", value.getDescription());
+        JsonCodecSupport.writeField(generator, "screenLock", value.getScreenLock(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeStringField(generator, "when", value.getWhen());
+        JsonCodecSupport.writeStringField(generator, "componentId", value.getComponentId());
+        JsonCodecSupport.writeField(generator, "position", value.getPosition(), InterfacesAlexaPresentationApltCodecs::writePosition);
+        JsonCodecSupport.writeStringField(generator, "value", value.getValue());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.aplt.SetValueCommand readSetValueCommand(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readSetValueCommandFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.aplt.SetValueCommand readSetValueCommandFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.alexa.presentation.aplt.SetValueCommand.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.aplt.SetValueCommand.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "delay":
+                    builder.withDelay(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "description":
+                    builder.withDescription(JsonCodecSupport.readString(parser));
+                    break;
+                case "screenLock":
+                    builder.withScreenLock(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "when":
+                    builder.withWhen(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "componentId":
+                    builder.withComponentId(JsonCodecSupport.readString(parser));
+                    break;
+                case "property":
+                    builder.withProperty(JsonCodecSupport.readString(parser));
+                    break;
+                case "value":
+                    builder.withValue(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSetValueCommand(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.aplt.SetValueCommand value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "SetValue");
+        JsonCodecSupport.writeField(generator, "delay", value.getDelay(), JsonCodecSupport::writeInteger);
+        JsonCodecSupport.writeStringField(generator, "description", value.getDescription());
+        JsonCodecSupport.writeField(generator, "screenLock", value.getScreenLock(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeStringField(generator, "when", value.getWhen());
+        JsonCodecSupport.writeStringField(generator, "componentId", value.getComponentId());
+        JsonCodecSupport.writeStringField(generator, "property", value.getProperty());
+        JsonCodecSupport.writeStringField(generator, "value", value.getValue());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.aplt.TargetProfile readTargetProfile(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.alexa.presentation.aplt.TargetProfile.fromValue(value) : null;
+    }
+
+    static void writeTargetProfile(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.aplt.TargetProfile value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.aplt.UserEvent readUserEvent(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readUserEventFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.aplt.UserEvent readUserEventFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.alexa.presentation.aplt.UserEvent.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.aplt.UserEvent.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                case "token":
+                    builder.withToken(JsonCodecSupport.readString(parser));
+                    break;
+                case "arguments":
+                    builder.withArguments(JsonCodecSupport.readList(parser, JsonCodecSupport::readUntyped));
+                    break;
+                case "source":
+                    builder.withSource(JsonCodecSupport.readUntyped(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeUserEvent(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.aplt.UserEvent value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Alexa.Presentation.APLT.UserEvent");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        JsonCodecSupport.writeStringField(generator, "token", value.getToken());
+        JsonCodecSupport.writeField(generator, "arguments", value.getArguments(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, JsonCodecSupport::writeUntyped));
+        JsonCodecSupport.writeField(generator, "source", value.getSource(), JsonCodecSupport::writeUntyped);
+        generator.writeEndObject();
+    }
+}
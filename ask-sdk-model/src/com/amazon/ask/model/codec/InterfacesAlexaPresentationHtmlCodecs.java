@@ -0,0 +1,313 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.interfaces.alexa.presentation.html.
+ */
+final class InterfacesAlexaPresentationHtmlCodecs {
+
+    private InterfacesAlexaPresentationHtmlCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.html.AlexaPresentationHtmlInterface.class, InterfacesAlexaPresentationHtmlCodecs::readAlexaPresentationHtmlInterface, InterfacesAlexaPresentationHtmlCodecs::writeAlexaPresentationHtmlInterface);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.html.HandleMessageDirective.class, InterfacesAlexaPresentationHtmlCodecs::readHandleMessageDirective, InterfacesAlexaPresentationHtmlCodecs::writeHandleMessageDirective);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.html.MessageRequest.class, InterfacesAlexaPresentationHtmlCodecs::readMessageRequest, InterfacesAlexaPresentationHtmlCodecs::writeMessageRequest);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.html.ModelConfiguration.class, InterfacesAlexaPresentationHtmlCodecs::readModelConfiguration, InterfacesAlexaPresentationHtmlCodecs::writeModelConfiguration);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.html.Runtime.class, InterfacesAlexaPresentationHtmlCodecs::readRuntime, InterfacesAlexaPresentationHtmlCodecs::writeRuntime);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.html.StartDirective.class, InterfacesAlexaPresentationHtmlCodecs::readStartDirective, InterfacesAlexaPresentationHtmlCodecs::writeStartDirective);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.html.StartRequest.class, InterfacesAlexaPresentationHtmlCodecs::readStartRequest, InterfacesAlexaPresentationHtmlCodecs::writeStartRequest);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.html.StartRequestMethod.class, InterfacesAlexaPresentationHtmlCodecs::readStartRequestMethod, InterfacesAlexaPresentationHtmlCodecs::writeStartRequestMethod);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.html.Transformer.class, InterfacesAlexaPresentationHtmlCodecs::readTransformer, InterfacesAlexaPresentationHtmlCodecs::writeTransformer);
+        registry.withCodec(com.amazon.ask.model.interfaces.alexa.presentation.html.TransformerType.class, InterfacesAlexaPresentationHtmlCodecs::readTransformerType, InterfacesAlexaPresentationHtmlCodecs::writeTransformerType);
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.html.AlexaPresentationHtmlInterface readAlexaPresentationHtmlInterface(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.alexa.presentation.html.AlexaPresentationHtmlInterface.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.html.AlexaPresentationHtmlInterface.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "runtime":
+                    builder.withRuntime(readRuntime(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeAlexaPresentationHtmlInterface(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.html.AlexaPresentationHtmlInterface value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "runtime", value.getRuntime(), InterfacesAlexaPresentationHtmlCodecs::writeRuntime);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.html.HandleMessageDirective readHandleMessageDirective(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readHandleMessageDirectiveFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.html.HandleMessageDirective readHandleMessageDirectiveFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.alexa.presentation.html.HandleMessageDirective.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.html.HandleMessageDirective.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "message":
+                    builder.withMessage(JsonCodecSupport.readUntyped(parser));
+                    break;
+                case "transformers":
+                    builder.withTransformers(JsonCodecSupport.readList(parser, InterfacesAlexaPresentationHtmlCodecs::readTransformer));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeHandleMessageDirective(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.html.HandleMessageDirective value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Alexa.Presentation.HTML.HandleMessage");
+        JsonCodecSupport.writeField(generator, "message", value.getMessage(), JsonCodecSupport::writeUntyped);
+        JsonCodecSupport.writeField(generator, "transformers", value.getTransformers(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, InterfacesAlexaPresentationHtmlCodecs::writeTransformer));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.html.MessageRequest readMessageRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readMessageRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.html.MessageRequest readMessageRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.alexa.presentation.html.MessageRequest.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.html.MessageRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                case "message":
+                    builder.withMessage(JsonCodecSupport.readUntyped(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeMessageRequest(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.html.MessageRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Alexa.Presentation.html.Message");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        JsonCodecSupport.writeField(generator, "message", value.getMessage(), JsonCodecSupport::writeUntyped);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.html.ModelConfiguration readModelConfiguration(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.alexa.presentation.html.ModelConfiguration.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.html.ModelConfiguration.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "timeoutInSeconds":
+                    builder.withTimeoutInSeconds(JsonCodecSupport.readInteger(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeModelConfiguration(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.html.ModelConfiguration value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "timeoutInSeconds", value.getTimeoutInSeconds(), JsonCodecSupport::writeInteger);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.html.Runtime readRuntime(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.alexa.presentation.html.Runtime.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.html.Runtime.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "maxVersion":
+                    builder.withMaxVersion(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeRuntime(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.html.Runtime value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "maxVersion", value.getMaxVersion());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.html.StartDirective readStartDirective(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readStartDirectiveFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.html.StartDirective readStartDirectiveFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.alexa.presentation.html.StartDirective.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.html.StartDirective.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "data":
+                    builder.withData(JsonCodecSupport.readUntyped(parser));
+                    break;
+                case "transformers":
+                    builder.withTransformers(JsonCodecSupport.readList(parser, InterfacesAlexaPresentationHtmlCodecs::readTransformer));
+                    break;
+                case "request":
+                    builder.withRequest(readStartRequest(parser));
+                    break;
+                case "configuration":
+                    builder.withConfiguration(readModelConfiguration(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeStartDirective(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.html.StartDirective value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Alexa.Presentation.HTML.Start");
+        JsonCodecSupport.writeField(generator, "data", value.getData(), JsonCodecSupport::writeUntyped);
+        JsonCodecSupport.writeField(generator, "transformers", value.getTransformers(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, InterfacesAlexaPresentationHtmlCodecs::writeTransformer));
+        JsonCodecSupport.writeField(generator, "request", value.getRequest(), InterfacesAlexaPresentationHtmlCodecs::writeStartRequest);
+        JsonCodecSupport.writeField(generator, "configuration", value.getConfiguration(), InterfacesAlexaPresentationHtmlCodecs::writeModelConfiguration);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.html.StartRequest readStartRequest(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.alexa.presentation.html.StartRequest.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.html.StartRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "method":
+                    builder.withMethod(readStartRequestMethod(parser));
+                    break;
+                case "uri":
+                    builder.withUri(JsonCodecSupport.readString(parser));
+                    break;
+                case "headers":
+                    builder.withHeaders(JsonCodecSupport.readUntyped(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeStartRequest(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.html.StartRequest value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "method", value.getMethod(), InterfacesAlexaPresentationHtmlCodecs::writeStartRequestMethod);
+        JsonCodecSupport.writeStringField(generator, "uri", value.getUri());
+        JsonCodecSupport.writeField(generator, "headers", value.getHeaders(), JsonCodecSupport::writeUntyped);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.html.StartRequestMethod readStartRequestMethod(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.alexa.presentation.html.StartRequestMethod.fromValue(value) : null;
+    }
+
+    static void writeStartRequestMethod(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.html.StartRequestMethod value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.html.Transformer readTransformer(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.alexa.presentation.html.Transformer.Builder builder = com.amazon.ask.model.interfaces.alexa.presentation.html.Transformer.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "transformer":
+                    builder.withTransformer(readTransformerType(parser));
+                    break;
+                case "inputPath":
+                    builder.withInputPath(JsonCodecSupport.readString(parser));
+                    break;
+                case "outputName":
+                    builder.withOutputName(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeTransformer(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.html.Transformer value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "transformer", value.getTransformer(), InterfacesAlexaPresentationHtmlCodecs::writeTransformerType);
+        JsonCodecSupport.writeStringField(generator, "inputPath", value.getInputPath());
+        JsonCodecSupport.writeStringField(generator, "outputName", value.getOutputName());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.alexa.presentation.html.TransformerType readTransformerType(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.alexa.presentation.html.TransformerType.fromValue(value) : null;
+    }
+
+    static void writeTransformerType(JsonGenerator generator, com.amazon.ask.model.interfaces.alexa.presentation.html.TransformerType value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+}
@@ -0,0 +1,408 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodec;
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.interfaces.amazonpay.model.request.
+ */
+final class InterfacesAmazonpayModelRequestCodecs {
+
+    private InterfacesAmazonpayModelRequestCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.model.request.AuthorizeAttributes.class, InterfacesAmazonpayModelRequestCodecs::readAuthorizeAttributes, InterfacesAmazonpayModelRequestCodecs::writeAuthorizeAttributes);
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.model.request.BaseAmazonPayEntity.class, InterfacesAmazonpayModelRequestCodecs::readBaseAmazonPayEntity, InterfacesAmazonpayModelRequestCodecs::writeBaseAmazonPayEntity);
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.model.request.BillingAgreementAttributes.class, InterfacesAmazonpayModelRequestCodecs::readBillingAgreementAttributes, InterfacesAmazonpayModelRequestCodecs::writeBillingAgreementAttributes);
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.model.request.BillingAgreementType.class, InterfacesAmazonpayModelRequestCodecs::readBillingAgreementType, InterfacesAmazonpayModelRequestCodecs::writeBillingAgreementType);
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.model.request.PaymentAction.class, InterfacesAmazonpayModelRequestCodecs::readPaymentAction, InterfacesAmazonpayModelRequestCodecs::writePaymentAction);
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.model.request.Price.class, InterfacesAmazonpayModelRequestCodecs::readPrice, InterfacesAmazonpayModelRequestCodecs::writePrice);
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.model.request.ProviderAttributes.class, InterfacesAmazonpayModelRequestCodecs::readProviderAttributes, InterfacesAmazonpayModelRequestCodecs::writeProviderAttributes);
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.model.request.ProviderCredit.class, InterfacesAmazonpayModelRequestCodecs::readProviderCredit, InterfacesAmazonpayModelRequestCodecs::writeProviderCredit);
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.model.request.SellerBillingAgreementAttributes.class, InterfacesAmazonpayModelRequestCodecs::readSellerBillingAgreementAttributes, InterfacesAmazonpayModelRequestCodecs::writeSellerBillingAgreementAttributes);
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.model.request.SellerOrderAttributes.class, InterfacesAmazonpayModelRequestCodecs::readSellerOrderAttributes, InterfacesAmazonpayModelRequestCodecs::writeSellerOrderAttributes);
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.model.request.AuthorizeAttributes readAuthorizeAttributes(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readAuthorizeAttributesFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.model.request.AuthorizeAttributes readAuthorizeAttributesFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.amazonpay.model.request.AuthorizeAttributes.Builder builder = com.amazon.ask.model.interfaces.amazonpay.model.request.AuthorizeAttributes.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "@version":
+                    builder.withVersion(JsonCodecSupport.readString(parser));
+                    break;
+                case "authorizationReferenceId":
+                    builder.withAuthorizationReferenceId(JsonCodecSupport.readString(parser));
+                    break;
+                case "authorizationAmount":
+                    builder.withAuthorizationAmount(readPrice(parser));
+                    break;
+                case "transactionTimeout":
+                    builder.withTransactionTimeout(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "sellerAuthorizationNote":
+                    builder.withSellerAuthorizationNote(JsonCodecSupport.readString(parser));
+                    break;
+                case "softDescriptor":
+                    builder.withSoftDescriptor(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeAuthorizeAttributes(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.model.request.AuthorizeAttributes value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("@type", "AuthorizeAttributes");
+        JsonCodecSupport.writeStringField(generator, "@version", value.getVersion());
+        JsonCodecSupport.writeStringField(generator, "authorizationReferenceId", value.getAuthorizationReferenceId());
+        JsonCodecSupport.writeField(generator, "authorizationAmount", value.getAuthorizationAmount(), InterfacesAmazonpayModelRequestCodecs::writePrice);
+        JsonCodecSupport.writeField(generator, "transactionTimeout", value.getTransactionTimeout(), JsonCodecSupport::writeInteger);
+        JsonCodecSupport.writeStringField(generator, "sellerAuthorizationNote", value.getSellerAuthorizationNote());
+        JsonCodecSupport.writeStringField(generator, "softDescriptor", value.getSoftDescriptor());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.model.request.BaseAmazonPayEntity readBaseAmazonPayEntity(JsonParser parser) throws IOException {
+        return JsonCodecSupport.readPolymorphic(parser, "@type", InterfacesAmazonpayModelRequestCodecs::baseAmazonPayEntitySubtype);
+    }
+
+    private static JsonCodec.Reader<? extends com.amazon.ask.model.interfaces.amazonpay.model.request.BaseAmazonPayEntity> baseAmazonPayEntitySubtype(String type) {
+        switch (type) {
+            case "SellerBillingAgreementAttributes":
+                return InterfacesAmazonpayModelRequestCodecs::readSellerBillingAgreementAttributesFields;
+            case "Price":
+                return InterfacesAmazonpayModelRequestCodecs::readPriceFields;
+            case "ChargeAmazonPayRequest":
+                return InterfacesAmazonpayRequestCodecs::readChargeAmazonPayRequestFields;
+            case "BillingAgreementAttributes":
+                return InterfacesAmazonpayModelRequestCodecs::readBillingAgreementAttributesFields;
+            case "SellerOrderAttributes":
+                return InterfacesAmazonpayModelRequestCodecs::readSellerOrderAttributesFields;
+            case "ProviderAttributes":
+                return InterfacesAmazonpayModelRequestCodecs::readProviderAttributesFields;
+            case "AuthorizeAttributes":
+                return InterfacesAmazonpayModelRequestCodecs::readAuthorizeAttributesFields;
+            case "SetupAmazonPayRequest":
+                return InterfacesAmazonpayRequestCodecs::readSetupAmazonPayRequestFields;
+            case "ProviderCredit":
+                return InterfacesAmazonpayModelRequestCodecs::readProviderCreditFields;
+            default:
+                return null;
+        }
+    }
+
+    static void writeBaseAmazonPayEntity(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.model.request.BaseAmazonPayEntity value) throws IOException {
+        switch (String.valueOf(value.getType())) {
+            case "SellerBillingAgreementAttributes":
+                writeSellerBillingAgreementAttributes(generator, (com.amazon.ask.model.interfaces.amazonpay.model.request.SellerBillingAgreementAttributes) value);
+                break;
+            case "Price":
+                writePrice(generator, (com.amazon.ask.model.interfaces.amazonpay.model.request.Price) value);
+                break;
+            case "ChargeAmazonPayRequest":
+                InterfacesAmazonpayRequestCodecs.writeChargeAmazonPayRequest(generator, (com.amazon.ask.model.interfaces.amazonpay.request.ChargeAmazonPayRequest) value);
+                break;
+            case "BillingAgreementAttributes":
+                writeBillingAgreementAttributes(generator, (com.amazon.ask.model.interfaces.amazonpay.model.request.BillingAgreementAttributes) value);
+                break;
+            case "SellerOrderAttributes":
+                writeSellerOrderAttributes(generator, (com.amazon.ask.model.interfaces.amazonpay.model.request.SellerOrderAttributes) value);
+                break;
+            case "ProviderAttributes":
+                writeProviderAttributes(generator, (com.amazon.ask.model.interfaces.amazonpay.model.request.ProviderAttributes) value);
+                break;
+            case "AuthorizeAttributes":
+                writeAuthorizeAttributes(generator, (com.amazon.ask.model.interfaces.amazonpay.model.request.AuthorizeAttributes) value);
+                break;
+            case "SetupAmazonPayRequest":
+                InterfacesAmazonpayRequestCodecs.writeSetupAmazonPayRequest(generator, (com.amazon.ask.model.interfaces.amazonpay.request.SetupAmazonPayRequest) value);
+                break;
+            case "ProviderCredit":
+                writeProviderCredit(generator, (com.amazon.ask.model.interfaces.amazonpay.model.request.ProviderCredit) value);
+                break;
+            default:
+                generator.writeObject(value);
+        }
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.model.request.BillingAgreementAttributes readBillingAgreementAttributes(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readBillingAgreementAttributesFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.model.request.BillingAgreementAttributes readBillingAgreementAttributesFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.amazonpay.model.request.BillingAgreementAttributes.Builder builder = com.amazon.ask.model.interfaces.amazonpay.model.request.BillingAgreementAttributes.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "@version":
+                    builder.withVersion(JsonCodecSupport.readString(parser));
+                    break;
+                case "platformId":
+                    builder.withPlatformId(JsonCodecSupport.readString(parser));
+                    break;
+                case "sellerNote":
+                    builder.withSellerNote(JsonCodecSupport.readString(parser));
+                    break;
+                case "sellerBillingAgreementAttributes":
+                    builder.withSellerBillingAgreementAttributes(readSellerBillingAgreementAttributes(parser));
+                    break;
+                case "billingAgreementType":
+                    builder.withBillingAgreementType(readBillingAgreementType(parser));
+                    break;
+                case "subscriptionAmount":
+                    builder.withSubscriptionAmount(readPrice(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeBillingAgreementAttributes(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.model.request.BillingAgreementAttributes value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("@type", "BillingAgreementAttributes");
+        JsonCodecSupport.writeStringField(generator, "@version", value.getVersion());
+        JsonCodecSupport.writeStringField(generator, "platformId", value.getPlatformId());
+        JsonCodecSupport.writeStringField(generator, "sellerNote", value.getSellerNote());
+        JsonCodecSupport.writeField(generator, "sellerBillingAgreementAttributes", value.getSellerBillingAgreementAttributes(), InterfacesAmazonpayModelRequestCodecs::writeSellerBillingAgreementAttributes);
+        JsonCodecSupport.writeField(generator, "billingAgreementType", value.getBillingAgreementType(), InterfacesAmazonpayModelRequestCodecs::writeBillingAgreementType);
+        JsonCodecSupport.writeField(generator, "subscriptionAmount", value.getSubscriptionAmount(), InterfacesAmazonpayModelRequestCodecs::writePrice);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.model.request.BillingAgreementType readBillingAgreementType(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.amazonpay.model.request.BillingAgreementType.fromValue(value) : null;
+    }
+
+    static void writeBillingAgreementType(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.model.request.BillingAgreementType value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.model.request.PaymentAction readPaymentAction(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.amazonpay.model.request.PaymentAction.fromValue(value) : null;
+    }
+
+    static void writePaymentAction(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.model.request.PaymentAction value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.model.request.Price readPrice(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readPriceFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.model.request.Price readPriceFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.amazonpay.model.request.Price.Builder builder = com.amazon.ask.model.interfaces.amazonpay.model.request.Price.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "@version":
+                    builder.withVersion(JsonCodecSupport.readString(parser));
+                    break;
+                case "amount":
+                    builder.withAmount(JsonCodecSupport.readString(parser));
+                    break;
+                case "currencyCode":
+                    builder.withCurrencyCode(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writePrice(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.model.request.Price value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("@type", "Price");
+        JsonCodecSupport.writeStringField(generator, "@version", value.getVersion());
+        JsonCodecSupport.writeStringField(generator, "amount", value.getAmount());
+        JsonCodecSupport.writeStringField(generator, "currencyCode", value.getCurrencyCode());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.model.request.ProviderAttributes readProviderAttributes(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readProviderAttributesFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.model.request.ProviderAttributes readProviderAttributesFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.amazonpay.model.request.ProviderAttributes.Builder builder = com.amazon.ask.model.interfaces.amazonpay.model.request.ProviderAttributes.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "@version":
+                    builder.withVersion(JsonCodecSupport.readString(parser));
+                    break;
+                case "providerId":
+                    builder.withProviderId(JsonCodecSupport.readString(parser));
+                    break;
+                case "providerCreditList":
+                    builder.withProviderCreditList(JsonCodecSupport.readList(parser, InterfacesAmazonpayModelRequestCodecs::readProviderCredit));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeProviderAttributes(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.model.request.ProviderAttributes value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("@type", "ProviderAttributes");
+        JsonCodecSupport.writeStringField(generator, "@version", value.getVersion());
+        JsonCodecSupport.writeStringField(generator, "providerId", value.getProviderId());
+        JsonCodecSupport.writeField(generator, "providerCreditList", value.getProviderCreditList(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, InterfacesAmazonpayModelRequestCodecs::writeProviderCredit));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.model.request.ProviderCredit readProviderCredit(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readProviderCreditFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.model.request.ProviderCredit readProviderCreditFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.amazonpay.model.request.ProviderCredit.Builder builder = com.amazon.ask.model.interfaces.amazonpay.model.request.ProviderCredit.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "@version":
+                    builder.withVersion(JsonCodecSupport.readString(parser));
+                    break;
+                case "providerId":
+                    builder.withProviderId(JsonCodecSupport.readString(parser));
+                    break;
+                case "credit":
+                    builder.withCredit(readPrice(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeProviderCredit(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.model.request.ProviderCredit value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("@type", "ProviderCredit");
+        JsonCodecSupport.writeStringField(generator, "@version", value.getVersion());
+        JsonCodecSupport.writeStringField(generator, "providerId", value.getProviderId());
+        JsonCodecSupport.writeField(generator, "credit", value.getCredit(), InterfacesAmazonpayModelRequestCodecs::writePrice);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.model.request.SellerBillingAgreementAttributes readSellerBillingAgreementAttributes(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readSellerBillingAgreementAttributesFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.model.request.SellerBillingAgreementAttributes readSellerBillingAgreementAttributesFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.amazonpay.model.request.SellerBillingAgreementAttributes.Builder builder = com.amazon.ask.model.interfaces.amazonpay.model.request.SellerBillingAgreementAttributes.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "@version":
+                    builder.withVersion(JsonCodecSupport.readString(parser));
+                    break;
+                case "sellerBillingAgreementId":
+                    builder.withSellerBillingAgreementId(JsonCodecSupport.readString(parser));
+                    break;
+                case "storeName":
+                    builder.withStoreName(JsonCodecSupport.readString(parser));
+                    break;
+                case "customInformation":
+                    builder.withCustomInformation(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSellerBillingAgreementAttributes(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.model.request.SellerBillingAgreementAttributes value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("@type", "SellerBillingAgreementAttributes");
+        JsonCodecSupport.writeStringField(generator, "@version", value.getVersion());
+        JsonCodecSupport.writeStringField(generator, "sellerBillingAgreementId", value.getSellerBillingAgreementId());
+        JsonCodecSupport.writeStringField(generator, "storeName", value.getStoreName());
+        JsonCodecSupport.writeStringField(generator, "customInformation", value.getCustomInformation());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.model.request.SellerOrderAttributes readSellerOrderAttributes(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readSellerOrderAttributesFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.model.request.SellerOrderAttributes readSellerOrderAttributesFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.amazonpay.model.request.SellerOrderAttributes.Builder builder = com.amazon.ask.model.interfaces.amazonpay.model.request.SellerOrderAttributes.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "@version":
+                    builder.withVersion(JsonCodecSupport.readString(parser));
+                    break;
+                case "sellerOrderId":
+                    builder.withSellerOrderId(JsonCodecSupport.readString(parser));
+                    break;
+                case "storeName":
+                    builder.withStoreName(JsonCodecSupport.readString(parser));
+                    break;
+                case "customInformation":
+                    builder.withCustomInformation(JsonCodecSupport.readString(parser));
+                    break;
+                case "sellerNote":
+                    builder.withSellerNote(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSellerOrderAttributes(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.model.request.SellerOrderAttributes value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("@type", "SellerOrderAttributes");
+        JsonCodecSupport.writeStringField(generator, "@version", value.getVersion());
+        JsonCodecSupport.writeStringField(generator, "sellerOrderId", value.getSellerOrderId());
+        JsonCodecSupport.writeStringField(generator, "storeName", value.getStoreName());
+        JsonCodecSupport.writeStringField(generator, "customInformation", value.getCustomInformation());
+        JsonCodecSupport.writeStringField(generator, "sellerNote", value.getSellerNote());
+        generator.writeEndObject();
+    }
+}
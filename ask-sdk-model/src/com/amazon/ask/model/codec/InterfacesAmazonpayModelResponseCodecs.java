@@ -0,0 +1,317 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.interfaces.amazonpay.model.response.
+ */
+final class InterfacesAmazonpayModelResponseCodecs {
+
+    private InterfacesAmazonpayModelResponseCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.model.response.AuthorizationDetails.class, InterfacesAmazonpayModelResponseCodecs::readAuthorizationDetails, InterfacesAmazonpayModelResponseCodecs::writeAuthorizationDetails);
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.model.response.AuthorizationStatus.class, InterfacesAmazonpayModelResponseCodecs::readAuthorizationStatus, InterfacesAmazonpayModelResponseCodecs::writeAuthorizationStatus);
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.model.response.BillingAgreementDetails.class, InterfacesAmazonpayModelResponseCodecs::readBillingAgreementDetails, InterfacesAmazonpayModelResponseCodecs::writeBillingAgreementDetails);
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.model.response.Destination.class, InterfacesAmazonpayModelResponseCodecs::readDestination, InterfacesAmazonpayModelResponseCodecs::writeDestination);
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.model.response.Price.class, InterfacesAmazonpayModelResponseCodecs::readPrice, InterfacesAmazonpayModelResponseCodecs::writePrice);
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.model.response.ReleaseEnvironment.class, InterfacesAmazonpayModelResponseCodecs::readReleaseEnvironment, InterfacesAmazonpayModelResponseCodecs::writeReleaseEnvironment);
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.model.response.State.class, InterfacesAmazonpayModelResponseCodecs::readState, InterfacesAmazonpayModelResponseCodecs::writeState);
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.model.response.AuthorizationDetails readAuthorizationDetails(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.amazonpay.model.response.AuthorizationDetails.Builder builder = com.amazon.ask.model.interfaces.amazonpay.model.response.AuthorizationDetails.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "amazonAuthorizationId":
+                    builder.withAmazonAuthorizationId(JsonCodecSupport.readString(parser));
+                    break;
+                case "authorizationReferenceId":
+                    builder.withAuthorizationReferenceId(JsonCodecSupport.readString(parser));
+                    break;
+                case "sellerAuthorizationNote":
+                    builder.withSellerAuthorizationNote(JsonCodecSupport.readString(parser));
+                    break;
+                case "authorizationAmount":
+                    builder.withAuthorizationAmount(readPrice(parser));
+                    break;
+                case "capturedAmount":
+                    builder.withCapturedAmount(readPrice(parser));
+                    break;
+                case "authorizationFee":
+                    builder.withAuthorizationFee(readPrice(parser));
+                    break;
+                case "idList":
+                    builder.withIdList(JsonCodecSupport.readList(parser, JsonCodecSupport::readString));
+                    break;
+                case "creationTimestamp":
+                    builder.withCreationTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "expirationTimestamp":
+                    builder.withExpirationTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "authorizationStatus":
+                    builder.withAuthorizationStatus(readAuthorizationStatus(parser));
+                    break;
+                case "softDecline":
+                    builder.withSoftDecline(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "captureNow":
+                    builder.withCaptureNow(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "softDescriptor":
+                    builder.withSoftDescriptor(JsonCodecSupport.readString(parser));
+                    break;
+                case "authorizationBillingAddress":
+                    builder.withAuthorizationBillingAddress(readDestination(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeAuthorizationDetails(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.model.response.AuthorizationDetails value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "amazonAuthorizationId", value.getAmazonAuthorizationId());
+        JsonCodecSupport.writeStringField(generator, "authorizationReferenceId", value.getAuthorizationReferenceId());
+        JsonCodecSupport.writeStringField(generator, "sellerAuthorizationNote", value.getSellerAuthorizationNote());
+        JsonCodecSupport.writeField(generator, "authorizationAmount", value.getAuthorizationAmount(), InterfacesAmazonpayModelResponseCodecs::writePrice);
+        JsonCodecSupport.writeField(generator, "capturedAmount", value.getCapturedAmount(), InterfacesAmazonpayModelResponseCodecs::writePrice);
+        JsonCodecSupport.writeField(generator, "authorizationFee", value.getAuthorizationFee(), InterfacesAmazonpayModelResponseCodecs::writePrice);
+        JsonCodecSupport.writeField(generator, "idList", value.getIdList(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, JsonCodecSupport::writeString));
+        JsonCodecSupport.writeField(generator, "creationTimestamp", value.getCreationTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeField(generator, "expirationTimestamp", value.getExpirationTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeField(generator, "authorizationStatus", value.getAuthorizationStatus(), InterfacesAmazonpayModelResponseCodecs::writeAuthorizationStatus);
+        JsonCodecSupport.writeField(generator, "softDecline", value.getSoftDecline(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeField(generator, "captureNow", value.getCaptureNow(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeStringField(generator, "softDescriptor", value.getSoftDescriptor());
+        JsonCodecSupport.writeField(generator, "authorizationBillingAddress", value.getAuthorizationBillingAddress(), InterfacesAmazonpayModelResponseCodecs::writeDestination);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.model.response.AuthorizationStatus readAuthorizationStatus(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.amazonpay.model.response.AuthorizationStatus.Builder builder = com.amazon.ask.model.interfaces.amazonpay.model.response.AuthorizationStatus.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "state":
+                    builder.withState(readState(parser));
+                    break;
+                case "reasonCode":
+                    builder.withReasonCode(JsonCodecSupport.readString(parser));
+                    break;
+                case "reasonDescription":
+                    builder.withReasonDescription(JsonCodecSupport.readString(parser));
+                    break;
+                case "lastUpdateTimestamp":
+                    builder.withLastUpdateTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeAuthorizationStatus(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.model.response.AuthorizationStatus value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "state", value.getState(), InterfacesAmazonpayModelResponseCodecs::writeState);
+        JsonCodecSupport.writeStringField(generator, "reasonCode", value.getReasonCode());
+        JsonCodecSupport.writeStringField(generator, "reasonDescription", value.getReasonDescription());
+        JsonCodecSupport.writeField(generator, "lastUpdateTimestamp", value.getLastUpdateTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.model.response.BillingAgreementDetails readBillingAgreementDetails(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.amazonpay.model.response.BillingAgreementDetails.Builder builder = com.amazon.ask.model.interfaces.amazonpay.model.response.BillingAgreementDetails.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "billingAgreementId":
+                    builder.withBillingAgreementId(JsonCodecSupport.readString(parser));
+                    break;
+                case "creationTimestamp":
+                    builder.withCreationTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "destination":
+                    builder.withDestination(InterfacesAmazonpayModelV1Codecs.readDestination(parser));
+                    break;
+                case "checkoutLanguage":
+                    builder.withCheckoutLanguage(JsonCodecSupport.readString(parser));
+                    break;
+                case "releaseEnvironment":
+                    builder.withReleaseEnvironment(readReleaseEnvironment(parser));
+                    break;
+                case "billingAgreementStatus":
+                    builder.withBillingAgreementStatus(InterfacesAmazonpayModelV1Codecs.readBillingAgreementStatus(parser));
+                    break;
+                case "billingAddress":
+                    builder.withBillingAddress(readDestination(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeBillingAgreementDetails(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.model.response.BillingAgreementDetails value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "billingAgreementId", value.getBillingAgreementId());
+        JsonCodecSupport.writeField(generator, "creationTimestamp", value.getCreationTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeField(generator, "destination", value.getDestination(), InterfacesAmazonpayModelV1Codecs::writeDestination);
+        JsonCodecSupport.writeStringField(generator, "checkoutLanguage", value.getCheckoutLanguage());
+        JsonCodecSupport.writeField(generator, "releaseEnvironment", value.getReleaseEnvironment(), InterfacesAmazonpayModelResponseCodecs::writeReleaseEnvironment);
+        JsonCodecSupport.writeField(generator, "billingAgreementStatus", value.getBillingAgreementStatus(), InterfacesAmazonpayModelV1Codecs::writeBillingAgreementStatus);
+        JsonCodecSupport.writeField(generator, "billingAddress", value.getBillingAddress(), InterfacesAmazonpayModelResponseCodecs::writeDestination);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.model.response.Destination readDestination(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.amazonpay.model.response.Destination.Builder builder = com.amazon.ask.model.interfaces.amazonpay.model.response.Destination.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "name":
+                    builder.withName(JsonCodecSupport.readString(parser));
+                    break;
+                case "companyName":
+                    builder.withCompanyName(JsonCodecSupport.readString(parser));
+                    break;
+                case "addressLine1":
+                    builder.withAddressLine1(JsonCodecSupport.readString(parser));
+                    break;
+                case "addressLine2":
+                    builder.withAddressLine2(JsonCodecSupport.readString(parser));
+                    break;
+                case "addressLine3":
+                    builder.withAddressLine3(JsonCodecSupport.readString(parser));
+                    break;
+                case "city":
+                    builder.withCity(JsonCodecSupport.readString(parser));
+                    break;
+                case "districtOrCounty":
+                    builder.withDistrictOrCounty(JsonCodecSupport.readString(parser));
+                    break;
+                case "stateOrRegion":
+                    builder.withStateOrRegion(JsonCodecSupport.readString(parser));
+                    break;
+                case "postalCode":
+                    builder.withPostalCode(JsonCodecSupport.readString(parser));
+                    break;
+                case "countryCode":
+                    builder.withCountryCode(JsonCodecSupport.readString(parser));
+                    break;
+                case "phone":
+                    builder.withPhone(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeDestination(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.model.response.Destination value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "name", value.getName());
+        JsonCodecSupport.writeStringField(generator, "companyName", value.getCompanyName());
+        JsonCodecSupport.writeStringField(generator, "addressLine1", value.getAddressLine1());
+        JsonCodecSupport.writeStringField(generator, "addressLine2", value.getAddressLine2());
+        JsonCodecSupport.writeStringField(generator, "addressLine3", value.getAddressLine3());
+        JsonCodecSupport.writeStringField(generator, "city", value.getCity());
+        JsonCodecSupport.writeStringField(generator, "districtOrCounty", value.getDistrictOrCounty());
+        JsonCodecSupport.writeStringField(generator, "stateOrRegion", value.getStateOrRegion());
+        JsonCodecSupport.writeStringField(generator, "postalCode", value.getPostalCode());
+        JsonCodecSupport.writeStringField(generator, "countryCode", value.getCountryCode());
+        JsonCodecSupport.writeStringField(generator, "phone", value.getPhone());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.model.response.Price readPrice(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.amazonpay.model.response.Price.Builder builder = com.amazon.ask.model.interfaces.amazonpay.model.response.Price.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "amount":
+                    builder.withAmount(JsonCodecSupport.readString(parser));
+                    break;
+                case "currencyCode":
+                    builder.withCurrencyCode(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writePrice(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.model.response.Price value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "amount", value.getAmount());
+        JsonCodecSupport.writeStringField(generator, "currencyCode", value.getCurrencyCode());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.model.response.ReleaseEnvironment readReleaseEnvironment(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.amazonpay.model.response.ReleaseEnvironment.fromValue(value) : null;
+    }
+
+    static void writeReleaseEnvironment(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.model.response.ReleaseEnvironment value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.model.response.State readState(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.amazonpay.model.response.State.fromValue(value) : null;
+    }
+
+    static void writeState(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.model.response.State value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+}
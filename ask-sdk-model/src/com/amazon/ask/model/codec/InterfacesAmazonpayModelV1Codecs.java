@@ -0,0 +1,555 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.interfaces.amazonpay.model.v1.
+ */
+final class InterfacesAmazonpayModelV1Codecs {
+
+    private InterfacesAmazonpayModelV1Codecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.model.v1.AuthorizationDetails.class, InterfacesAmazonpayModelV1Codecs::readAuthorizationDetails, InterfacesAmazonpayModelV1Codecs::writeAuthorizationDetails);
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.model.v1.AuthorizationStatus.class, InterfacesAmazonpayModelV1Codecs::readAuthorizationStatus, InterfacesAmazonpayModelV1Codecs::writeAuthorizationStatus);
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.model.v1.AuthorizeAttributes.class, InterfacesAmazonpayModelV1Codecs::readAuthorizeAttributes, InterfacesAmazonpayModelV1Codecs::writeAuthorizeAttributes);
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.model.v1.BillingAgreementAttributes.class, InterfacesAmazonpayModelV1Codecs::readBillingAgreementAttributes, InterfacesAmazonpayModelV1Codecs::writeBillingAgreementAttributes);
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.model.v1.BillingAgreementDetails.class, InterfacesAmazonpayModelV1Codecs::readBillingAgreementDetails, InterfacesAmazonpayModelV1Codecs::writeBillingAgreementDetails);
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.model.v1.BillingAgreementStatus.class, InterfacesAmazonpayModelV1Codecs::readBillingAgreementStatus, InterfacesAmazonpayModelV1Codecs::writeBillingAgreementStatus);
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.model.v1.BillingAgreementType.class, InterfacesAmazonpayModelV1Codecs::readBillingAgreementType, InterfacesAmazonpayModelV1Codecs::writeBillingAgreementType);
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.model.v1.Destination.class, InterfacesAmazonpayModelV1Codecs::readDestination, InterfacesAmazonpayModelV1Codecs::writeDestination);
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.model.v1.PaymentAction.class, InterfacesAmazonpayModelV1Codecs::readPaymentAction, InterfacesAmazonpayModelV1Codecs::writePaymentAction);
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.model.v1.Price.class, InterfacesAmazonpayModelV1Codecs::readPrice, InterfacesAmazonpayModelV1Codecs::writePrice);
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.model.v1.ProviderAttributes.class, InterfacesAmazonpayModelV1Codecs::readProviderAttributes, InterfacesAmazonpayModelV1Codecs::writeProviderAttributes);
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.model.v1.ProviderCredit.class, InterfacesAmazonpayModelV1Codecs::readProviderCredit, InterfacesAmazonpayModelV1Codecs::writeProviderCredit);
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.model.v1.ReleaseEnvironment.class, InterfacesAmazonpayModelV1Codecs::readReleaseEnvironment, InterfacesAmazonpayModelV1Codecs::writeReleaseEnvironment);
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.model.v1.SellerBillingAgreementAttributes.class, InterfacesAmazonpayModelV1Codecs::readSellerBillingAgreementAttributes, InterfacesAmazonpayModelV1Codecs::writeSellerBillingAgreementAttributes);
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.model.v1.SellerOrderAttributes.class, InterfacesAmazonpayModelV1Codecs::readSellerOrderAttributes, InterfacesAmazonpayModelV1Codecs::writeSellerOrderAttributes);
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.model.v1.State.class, InterfacesAmazonpayModelV1Codecs::readState, InterfacesAmazonpayModelV1Codecs::writeState);
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.model.v1.AuthorizationDetails readAuthorizationDetails(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.amazonpay.model.v1.AuthorizationDetails.Builder builder = com.amazon.ask.model.interfaces.amazonpay.model.v1.AuthorizationDetails.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "amazonAuthorizationId":
+                    builder.withAmazonAuthorizationId(JsonCodecSupport.readString(parser));
+                    break;
+                case "authorizationReferenceId":
+                    builder.withAuthorizationReferenceId(JsonCodecSupport.readString(parser));
+                    break;
+                case "sellerAuthorizationNote":
+                    builder.withSellerAuthorizationNote(JsonCodecSupport.readString(parser));
+                    break;
+                case "authorizationAmount":
+                    builder.withAuthorizationAmount(readPrice(parser));
+                    break;
+                case "capturedAmount":
+                    builder.withCapturedAmount(readPrice(parser));
+                    break;
+                case "authorizationFee":
+                    builder.withAuthorizationFee(readPrice(parser));
+                    break;
+                case "idList":
+                    builder.withIdList(JsonCodecSupport.readList(parser, JsonCodecSupport::readString));
+                    break;
+                case "creationTimestamp":
+                    builder.withCreationTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "expirationTimestamp":
+                    builder.withExpirationTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "authorizationStatus":
+                    builder.withAuthorizationStatus(readAuthorizationStatus(parser));
+                    break;
+                case "softDecline":
+                    builder.withSoftDecline(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "captureNow":
+                    builder.withCaptureNow(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "softDescriptor":
+                    builder.withSoftDescriptor(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeAuthorizationDetails(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.model.v1.AuthorizationDetails value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "amazonAuthorizationId", value.getAmazonAuthorizationId());
+        JsonCodecSupport.writeStringField(generator, "authorizationReferenceId", value.getAuthorizationReferenceId());
+        JsonCodecSupport.writeStringField(generator, "sellerAuthorizationNote", value.getSellerAuthorizationNote());
+        JsonCodecSupport.writeField(generator, "authorizationAmount", value.getAuthorizationAmount(), InterfacesAmazonpayModelV1Codecs::writePrice);
+        JsonCodecSupport.writeField(generator, "capturedAmount", value.getCapturedAmount(), InterfacesAmazonpayModelV1Codecs::writePrice);
+        JsonCodecSupport.writeField(generator, "authorizationFee", value.getAuthorizationFee(), InterfacesAmazonpayModelV1Codecs::writePrice);
+        JsonCodecSupport.writeField(generator, "idList", value.getIdList(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, JsonCodecSupport::writeString));
+        JsonCodecSupport.writeField(generator, "creationTimestamp", value.getCreationTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeField(generator, "expirationTimestamp", value.getExpirationTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeField(generator, "authorizationStatus", value.getAuthorizationStatus(), InterfacesAmazonpayModelV1Codecs::writeAuthorizationStatus);
+        JsonCodecSupport.writeField(generator, "softDecline", value.getSoftDecline(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeField(generator, "captureNow", value.getCaptureNow(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeStringField(generator, "softDescriptor", value.getSoftDescriptor());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.model.v1.AuthorizationStatus readAuthorizationStatus(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.amazonpay.model.v1.AuthorizationStatus.Builder builder = com.amazon.ask.model.interfaces.amazonpay.model.v1.AuthorizationStatus.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "state":
+                    builder.withState(readState(parser));
+                    break;
+                case "reasonCode":
+                    builder.withReasonCode(JsonCodecSupport.readString(parser));
+                    break;
+                case "reasonDescription":
+                    builder.withReasonDescription(JsonCodecSupport.readString(parser));
+                    break;
+                case "lastUpdateTimestamp":
+                    builder.withLastUpdateTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeAuthorizationStatus(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.model.v1.AuthorizationStatus value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "state", value.getState(), InterfacesAmazonpayModelV1Codecs::writeState);
+        JsonCodecSupport.writeStringField(generator, "reasonCode", value.getReasonCode());
+        JsonCodecSupport.writeStringField(generator, "reasonDescription", value.getReasonDescription());
+        JsonCodecSupport.writeField(generator, "lastUpdateTimestamp", value.getLastUpdateTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.model.v1.AuthorizeAttributes readAuthorizeAttributes(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.amazonpay.model.v1.AuthorizeAttributes.Builder builder = com.amazon.ask.model.interfaces.amazonpay.model.v1.AuthorizeAttributes.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "authorizationReferenceId":
+                    builder.withAuthorizationReferenceId(JsonCodecSupport.readString(parser));
+                    break;
+                case "authorizationAmount":
+                    builder.withAuthorizationAmount(readPrice(parser));
+                    break;
+                case "transactionTimeout":
+                    builder.withTransactionTimeout(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "sellerAuthorizationNote":
+                    builder.withSellerAuthorizationNote(JsonCodecSupport.readString(parser));
+                    break;
+                case "softDescriptor":
+                    builder.withSoftDescriptor(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeAuthorizeAttributes(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.model.v1.AuthorizeAttributes value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "authorizationReferenceId", value.getAuthorizationReferenceId());
+        JsonCodecSupport.writeField(generator, "authorizationAmount", value.getAuthorizationAmount(), InterfacesAmazonpayModelV1Codecs::writePrice);
+        JsonCodecSupport.writeField(generator, "transactionTimeout", value.getTransactionTimeout(), JsonCodecSupport::writeInteger);
+        JsonCodecSupport.writeStringField(generator, "sellerAuthorizationNote", value.getSellerAuthorizationNote());
+        JsonCodecSupport.writeStringField(generator, "softDescriptor", value.getSoftDescriptor());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.model.v1.BillingAgreementAttributes readBillingAgreementAttributes(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.amazonpay.model.v1.BillingAgreementAttributes.Builder builder = com.amazon.ask.model.interfaces.amazonpay.model.v1.BillingAgreementAttributes.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "platformId":
+                    builder.withPlatformId(JsonCodecSupport.readString(parser));
+                    break;
+                case "sellerNote":
+                    builder.withSellerNote(JsonCodecSupport.readString(parser));
+                    break;
+                case "sellerBillingAgreementAttributes":
+                    builder.withSellerBillingAgreementAttributes(readSellerBillingAgreementAttributes(parser));
+                    break;
+                case "billingAgreementType":
+                    builder.withBillingAgreementType(readBillingAgreementType(parser));
+                    break;
+                case "subscriptionAmount":
+                    builder.withSubscriptionAmount(readPrice(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeBillingAgreementAttributes(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.model.v1.BillingAgreementAttributes value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "platformId", value.getPlatformId());
+        JsonCodecSupport.writeStringField(generator, "sellerNote", value.getSellerNote());
+        JsonCodecSupport.writeField(generator, "sellerBillingAgreementAttributes", value.getSellerBillingAgreementAttributes(), InterfacesAmazonpayModelV1Codecs::writeSellerBillingAgreementAttributes);
+        JsonCodecSupport.writeField(generator, "billingAgreementType", value.getBillingAgreementType(), InterfacesAmazonpayModelV1Codecs::writeBillingAgreementType);
+        JsonCodecSupport.writeField(generator, "subscriptionAmount", value.getSubscriptionAmount(), InterfacesAmazonpayModelV1Codecs::writePrice);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.model.v1.BillingAgreementDetails readBillingAgreementDetails(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.amazonpay.model.v1.BillingAgreementDetails.Builder builder = com.amazon.ask.model.interfaces.amazonpay.model.v1.BillingAgreementDetails.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "billingAgreementId":
+                    builder.withBillingAgreementId(JsonCodecSupport.readString(parser));
+                    break;
+                case "creationTimestamp":
+                    builder.withCreationTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "destination":
+                    builder.withDestination(readDestination(parser));
+                    break;
+                case "checkoutLanguage":
+                    builder.withCheckoutLanguage(JsonCodecSupport.readString(parser));
+                    break;
+                case "releaseEnvironment":
+                    builder.withReleaseEnvironment(readReleaseEnvironment(parser));
+                    break;
+                case "billingAgreementStatus":
+                    builder.withBillingAgreementStatus(readBillingAgreementStatus(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeBillingAgreementDetails(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.model.v1.BillingAgreementDetails value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "billingAgreementId", value.getBillingAgreementId());
+        JsonCodecSupport.writeField(generator, "creationTimestamp", value.getCreationTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeField(generator, "destination", value.getDestination(), InterfacesAmazonpayModelV1Codecs::writeDestination);
+        JsonCodecSupport.writeStringField(generator, "checkoutLanguage", value.getCheckoutLanguage());
+        JsonCodecSupport.writeField(generator, "releaseEnvironment", value.getReleaseEnvironment(), InterfacesAmazonpayModelV1Codecs::writeReleaseEnvironment);
+        JsonCodecSupport.writeField(generator, "billingAgreementStatus", value.getBillingAgreementStatus(), InterfacesAmazonpayModelV1Codecs::writeBillingAgreementStatus);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.model.v1.BillingAgreementStatus readBillingAgreementStatus(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.amazonpay.model.v1.BillingAgreementStatus.fromValue(value) : null;
+    }
+
+    static void writeBillingAgreementStatus(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.model.v1.BillingAgreementStatus value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.model.v1.BillingAgreementType readBillingAgreementType(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.amazonpay.model.v1.BillingAgreementType.fromValue(value) : null;
+    }
+
+    static void writeBillingAgreementType(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.model.v1.BillingAgreementType value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.model.v1.Destination readDestination(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.amazonpay.model.v1.Destination.Builder builder = com.amazon.ask.model.interfaces.amazonpay.model.v1.Destination.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "name":
+                    builder.withName(JsonCodecSupport.readString(parser));
+                    break;
+                case "companyName":
+                    builder.withCompanyName(JsonCodecSupport.readString(parser));
+                    break;
+                case "addressLine1":
+                    builder.withAddressLine1(JsonCodecSupport.readString(parser));
+                    break;
+                case "addressLine2":
+                    builder.withAddressLine2(JsonCodecSupport.readString(parser));
+                    break;
+                case "addressLine3":
+                    builder.withAddressLine3(JsonCodecSupport.readString(parser));
+                    break;
+                case "city":
+                    builder.withCity(JsonCodecSupport.readString(parser));
+                    break;
+                case "districtOrCounty":
+                    builder.withDistrictOrCounty(JsonCodecSupport.readString(parser));
+                    break;
+                case "stateOrRegion":
+                    builder.withStateOrRegion(JsonCodecSupport.readString(parser));
+                    break;
+                case "postalCode":
+                    builder.withPostalCode(JsonCodecSupport.readString(parser));
+                    break;
+                case "countryCode":
+                    builder.withCountryCode(JsonCodecSupport.readString(parser));
+                    break;
+                case "phone":
+                    builder.withPhone(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeDestination(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.model.v1.Destination value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "name", value.getName());
+        JsonCodecSupport.writeStringField(generator, "companyName", value.getCompanyName());
+        JsonCodecSupport.writeStringField(generator, "addressLine1", value.getAddressLine1());
+        JsonCodecSupport.writeStringField(generator, "addressLine2", value.getAddressLine2());
+        JsonCodecSupport.writeStringField(generator, "addressLine3", value.getAddressLine3());
+        JsonCodecSupport.writeStringField(generator, "city", value.getCity());
+        JsonCodecSupport.writeStringField(generator, "districtOrCounty", value.getDistrictOrCounty());
+        JsonCodecSupport.writeStringField(generator, "stateOrRegion", value.getStateOrRegion());
+        JsonCodecSupport.writeStringField(generator, "postalCode", value.getPostalCode());
+        JsonCodecSupport.writeStringField(generator, "countryCode", value.getCountryCode());
+        JsonCodecSupport.writeStringField(generator, "phone", value.getPhone());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.model.v1.PaymentAction readPaymentAction(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.amazonpay.model.v1.PaymentAction.fromValue(value) : null;
+    }
+
+    static void writePaymentAction(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.model.v1.PaymentAction value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.model.v1.Price readPrice(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.amazonpay.model.v1.Price.Builder builder = com.amazon.ask.model.interfaces.amazonpay.model.v1.Price.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "amount":
+                    builder.withAmount(JsonCodecSupport.readString(parser));
+                    break;
+                case "currencyCode":
+                    builder.withCurrencyCode(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writePrice(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.model.v1.Price value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "amount", value.getAmount());
+        JsonCodecSupport.writeStringField(generator, "currencyCode", value.getCurrencyCode());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.model.v1.ProviderAttributes readProviderAttributes(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.amazonpay.model.v1.ProviderAttributes.Builder builder = com.amazon.ask.model.interfaces.amazonpay.model.v1.ProviderAttributes.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "providerId":
+                    builder.withProviderId(JsonCodecSupport.readString(parser));
+                    break;
+                case "providerCreditList":
+                    builder.withProviderCreditList(JsonCodecSupport.readList(parser, InterfacesAmazonpayModelV1Codecs::readProviderCredit));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeProviderAttributes(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.model.v1.ProviderAttributes value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "providerId", value.getProviderId());
+        JsonCodecSupport.writeField(generator, "providerCreditList", value.getProviderCreditList(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, InterfacesAmazonpayModelV1Codecs::writeProviderCredit));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.model.v1.ProviderCredit readProviderCredit(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.amazonpay.model.v1.ProviderCredit.Builder builder = com.amazon.ask.model.interfaces.amazonpay.model.v1.ProviderCredit.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "providerId":
+                    builder.withProviderId(JsonCodecSupport.readString(parser));
+                    break;
+                case "credit":
+                    builder.withCredit(readPrice(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeProviderCredit(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.model.v1.ProviderCredit value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "providerId", value.getProviderId());
+        JsonCodecSupport.writeField(generator, "credit", value.getCredit(), InterfacesAmazonpayModelV1Codecs::writePrice);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.model.v1.ReleaseEnvironment readReleaseEnvironment(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.amazonpay.model.v1.ReleaseEnvironment.fromValue(value) : null;
+    }
+
+    static void writeReleaseEnvironment(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.model.v1.ReleaseEnvironment value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.model.v1.SellerBillingAgreementAttributes readSellerBillingAgreementAttributes(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.amazonpay.model.v1.SellerBillingAgreementAttributes.Builder builder = com.amazon.ask.model.interfaces.amazonpay.model.v1.SellerBillingAgreementAttributes.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "sellerBillingAgreementId":
+                    builder.withSellerBillingAgreementId(JsonCodecSupport.readString(parser));
+                    break;
+                case "storeName":
+                    builder.withStoreName(JsonCodecSupport.readString(parser));
+                    break;
+                case "customInformation":
+                    builder.withCustomInformation(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSellerBillingAgreementAttributes(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.model.v1.SellerBillingAgreementAttributes value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "sellerBillingAgreementId", value.getSellerBillingAgreementId());
+        JsonCodecSupport.writeStringField(generator, "storeName", value.getStoreName());
+        JsonCodecSupport.writeStringField(generator, "customInformation", value.getCustomInformation());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.model.v1.SellerOrderAttributes readSellerOrderAttributes(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.amazonpay.model.v1.SellerOrderAttributes.Builder builder = com.amazon.ask.model.interfaces.amazonpay.model.v1.SellerOrderAttributes.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "sellerOrderId":
+                    builder.withSellerOrderId(JsonCodecSupport.readString(parser));
+                    break;
+                case "storeName":
+                    builder.withStoreName(JsonCodecSupport.readString(parser));
+                    break;
+                case "customInformation":
+                    builder.withCustomInformation(JsonCodecSupport.readString(parser));
+                    break;
+                case "sellerNote":
+                    builder.withSellerNote(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSellerOrderAttributes(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.model.v1.SellerOrderAttributes value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "sellerOrderId", value.getSellerOrderId());
+        JsonCodecSupport.writeStringField(generator, "storeName", value.getStoreName());
+        JsonCodecSupport.writeStringField(generator, "customInformation", value.getCustomInformation());
+        JsonCodecSupport.writeStringField(generator, "sellerNote", value.getSellerNote());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.model.v1.State readState(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.amazonpay.model.v1.State.fromValue(value) : null;
+    }
+
+    static void writeState(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.model.v1.State value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+}
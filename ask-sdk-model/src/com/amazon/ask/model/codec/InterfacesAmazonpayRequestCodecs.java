@@ -0,0 +1,147 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.interfaces.amazonpay.request.
+ */
+final class InterfacesAmazonpayRequestCodecs {
+
+    private InterfacesAmazonpayRequestCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.request.ChargeAmazonPayRequest.class, InterfacesAmazonpayRequestCodecs::readChargeAmazonPayRequest, InterfacesAmazonpayRequestCodecs::writeChargeAmazonPayRequest);
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.request.SetupAmazonPayRequest.class, InterfacesAmazonpayRequestCodecs::readSetupAmazonPayRequest, InterfacesAmazonpayRequestCodecs::writeSetupAmazonPayRequest);
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.request.ChargeAmazonPayRequest readChargeAmazonPayRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readChargeAmazonPayRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.request.ChargeAmazonPayRequest readChargeAmazonPayRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.amazonpay.request.ChargeAmazonPayRequest.Builder builder = com.amazon.ask.model.interfaces.amazonpay.request.ChargeAmazonPayRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "@version":
+                    builder.withVersion(JsonCodecSupport.readString(parser));
+                    break;
+                case "sellerId":
+                    builder.withSellerId(JsonCodecSupport.readString(parser));
+                    break;
+                case "billingAgreementId":
+                    builder.withBillingAgreementId(JsonCodecSupport.readString(parser));
+                    break;
+                case "paymentAction":
+                    builder.withPaymentAction(InterfacesAmazonpayModelRequestCodecs.readPaymentAction(parser));
+                    break;
+                case "authorizeAttributes":
+                    builder.withAuthorizeAttributes(InterfacesAmazonpayModelRequestCodecs.readAuthorizeAttributes(parser));
+                    break;
+                case "sellerOrderAttributes":
+                    builder.withSellerOrderAttributes(InterfacesAmazonpayModelRequestCodecs.readSellerOrderAttributes(parser));
+                    break;
+                case "providerAttributes":
+                    builder.withProviderAttributes(InterfacesAmazonpayModelRequestCodecs.readProviderAttributes(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeChargeAmazonPayRequest(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.request.ChargeAmazonPayRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("@type", "ChargeAmazonPayRequest");
+        JsonCodecSupport.writeStringField(generator, "@version", value.getVersion());
+        JsonCodecSupport.writeStringField(generator, "sellerId", value.getSellerId());
+        JsonCodecSupport.writeStringField(generator, "billingAgreementId", value.getBillingAgreementId());
+        JsonCodecSupport.writeField(generator, "paymentAction", value.getPaymentAction(), InterfacesAmazonpayModelRequestCodecs::writePaymentAction);
+        JsonCodecSupport.writeField(generator, "authorizeAttributes", value.getAuthorizeAttributes(), InterfacesAmazonpayModelRequestCodecs::writeAuthorizeAttributes);
+        JsonCodecSupport.writeField(generator, "sellerOrderAttributes", value.getSellerOrderAttributes(), InterfacesAmazonpayModelRequestCodecs::writeSellerOrderAttributes);
+        JsonCodecSupport.writeField(generator, "providerAttributes", value.getProviderAttributes(), InterfacesAmazonpayModelRequestCodecs::writeProviderAttributes);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.request.SetupAmazonPayRequest readSetupAmazonPayRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readSetupAmazonPayRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.request.SetupAmazonPayRequest readSetupAmazonPayRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.amazonpay.request.SetupAmazonPayRequest.Builder builder = com.amazon.ask.model.interfaces.amazonpay.request.SetupAmazonPayRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "@version":
+                    builder.withVersion(JsonCodecSupport.readString(parser));
+                    break;
+                case "sellerId":
+                    builder.withSellerId(JsonCodecSupport.readString(parser));
+                    break;
+                case "countryOfEstablishment":
+                    builder.withCountryOfEstablishment(JsonCodecSupport.readString(parser));
+                    break;
+                case "ledgerCurrency":
+                    builder.withLedgerCurrency(JsonCodecSupport.readString(parser));
+                    break;
+                case "checkoutLanguage":
+                    builder.withCheckoutLanguage(JsonCodecSupport.readString(parser));
+                    break;
+                case "billingAgreementAttributes":
+                    builder.withBillingAgreementAttributes(InterfacesAmazonpayModelRequestCodecs.readBillingAgreementAttributes(parser));
+                    break;
+                case "needAmazonShippingAddress":
+                    builder.withNeedAmazonShippingAddress(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "sandboxMode":
+                    builder.withSandboxMode(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "sandboxCustomerEmailId":
+                    builder.withSandboxCustomerEmailId(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSetupAmazonPayRequest(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.request.SetupAmazonPayRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("@type", "SetupAmazonPayRequest");
+        JsonCodecSupport.writeStringField(generator, "@version", value.getVersion());
+        JsonCodecSupport.writeStringField(generator, "sellerId", value.getSellerId());
+        JsonCodecSupport.writeStringField(generator, "countryOfEstablishment", value.getCountryOfEstablishment());
+        JsonCodecSupport.writeStringField(generator, "ledgerCurrency", value.getLedgerCurrency());
+        JsonCodecSupport.writeStringField(generator, "checkoutLanguage", value.getCheckoutLanguage());
+        JsonCodecSupport.writeField(generator, "billingAgreementAttributes", value.getBillingAgreementAttributes(), InterfacesAmazonpayModelRequestCodecs::writeBillingAgreementAttributes);
+        JsonCodecSupport.writeField(generator, "needAmazonShippingAddress", value.getNeedAmazonShippingAddress(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeField(generator, "sandboxMode", value.getSandboxMode(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeStringField(generator, "sandboxCustomerEmailId", value.getSandboxCustomerEmailId());
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,121 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.interfaces.amazonpay.response.
+ */
+final class InterfacesAmazonpayResponseCodecs {
+
+    private InterfacesAmazonpayResponseCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.response.AmazonPayErrorResponse.class, InterfacesAmazonpayResponseCodecs::readAmazonPayErrorResponse, InterfacesAmazonpayResponseCodecs::writeAmazonPayErrorResponse);
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.response.ChargeAmazonPayResult.class, InterfacesAmazonpayResponseCodecs::readChargeAmazonPayResult, InterfacesAmazonpayResponseCodecs::writeChargeAmazonPayResult);
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.response.SetupAmazonPayResult.class, InterfacesAmazonpayResponseCodecs::readSetupAmazonPayResult, InterfacesAmazonpayResponseCodecs::writeSetupAmazonPayResult);
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.response.AmazonPayErrorResponse readAmazonPayErrorResponse(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.amazonpay.response.AmazonPayErrorResponse.Builder builder = com.amazon.ask.model.interfaces.amazonpay.response.AmazonPayErrorResponse.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "errorCode":
+                    builder.withErrorCode(JsonCodecSupport.readString(parser));
+                    break;
+                case "errorMessage":
+                    builder.withErrorMessage(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeAmazonPayErrorResponse(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.response.AmazonPayErrorResponse value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "errorCode", value.getErrorCode());
+        JsonCodecSupport.writeStringField(generator, "errorMessage", value.getErrorMessage());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.response.ChargeAmazonPayResult readChargeAmazonPayResult(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.amazonpay.response.ChargeAmazonPayResult.Builder builder = com.amazon.ask.model.interfaces.amazonpay.response.ChargeAmazonPayResult.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "amazonOrderReferenceId":
+                    builder.withAmazonOrderReferenceId(JsonCodecSupport.readString(parser));
+                    break;
+                case "authorizationDetails":
+                    builder.withAuthorizationDetails(InterfacesAmazonpayModelResponseCodecs.readAuthorizationDetails(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeChargeAmazonPayResult(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.response.ChargeAmazonPayResult value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "amazonOrderReferenceId", value.getAmazonOrderReferenceId());
+        JsonCodecSupport.writeField(generator, "authorizationDetails", value.getAuthorizationDetails(), InterfacesAmazonpayModelResponseCodecs::writeAuthorizationDetails);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.response.SetupAmazonPayResult readSetupAmazonPayResult(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.amazonpay.response.SetupAmazonPayResult.Builder builder = com.amazon.ask.model.interfaces.amazonpay.response.SetupAmazonPayResult.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "billingAgreementDetails":
+                    builder.withBillingAgreementDetails(InterfacesAmazonpayModelResponseCodecs.readBillingAgreementDetails(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSetupAmazonPayResult(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.response.SetupAmazonPayResult value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "billingAgreementDetails", value.getBillingAgreementDetails(), InterfacesAmazonpayModelResponseCodecs::writeBillingAgreementDetails);
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,229 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.interfaces.amazonpay.v1.
+ */
+final class InterfacesAmazonpayV1Codecs {
+
+    private InterfacesAmazonpayV1Codecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.v1.AmazonPayErrorResponse.class, InterfacesAmazonpayV1Codecs::readAmazonPayErrorResponse, InterfacesAmazonpayV1Codecs::writeAmazonPayErrorResponse);
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.v1.ChargeAmazonPay.class, InterfacesAmazonpayV1Codecs::readChargeAmazonPay, InterfacesAmazonpayV1Codecs::writeChargeAmazonPay);
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.v1.ChargeAmazonPayResult.class, InterfacesAmazonpayV1Codecs::readChargeAmazonPayResult, InterfacesAmazonpayV1Codecs::writeChargeAmazonPayResult);
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.v1.SetupAmazonPay.class, InterfacesAmazonpayV1Codecs::readSetupAmazonPay, InterfacesAmazonpayV1Codecs::writeSetupAmazonPay);
+        registry.withCodec(com.amazon.ask.model.interfaces.amazonpay.v1.SetupAmazonPayResult.class, InterfacesAmazonpayV1Codecs::readSetupAmazonPayResult, InterfacesAmazonpayV1Codecs::writeSetupAmazonPayResult);
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.v1.AmazonPayErrorResponse readAmazonPayErrorResponse(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.amazonpay.v1.AmazonPayErrorResponse.Builder builder = com.amazon.ask.model.interfaces.amazonpay.v1.AmazonPayErrorResponse.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "errorCode":
+                    builder.withErrorCode(JsonCodecSupport.readString(parser));
+                    break;
+                case "errorMessage":
+                    builder.withErrorMessage(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeAmazonPayErrorResponse(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.v1.AmazonPayErrorResponse value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "errorCode", value.getErrorCode());
+        JsonCodecSupport.writeStringField(generator, "errorMessage", value.getErrorMessage());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.v1.ChargeAmazonPay readChargeAmazonPay(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.amazonpay.v1.ChargeAmazonPay.Builder builder = com.amazon.ask.model.interfaces.amazonpay.v1.ChargeAmazonPay.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "consentToken":
+                    builder.withConsentToken(JsonCodecSupport.readString(parser));
+                    break;
+                case "sellerId":
+                    builder.withSellerId(JsonCodecSupport.readString(parser));
+                    break;
+                case "billingAgreementId":
+                    builder.withBillingAgreementId(JsonCodecSupport.readString(parser));
+                    break;
+                case "paymentAction":
+                    builder.withPaymentAction(InterfacesAmazonpayModelV1Codecs.readPaymentAction(parser));
+                    break;
+                case "authorizeAttributes":
+                    builder.withAuthorizeAttributes(InterfacesAmazonpayModelV1Codecs.readAuthorizeAttributes(parser));
+                    break;
+                case "sellerOrderAttributes":
+                    builder.withSellerOrderAttributes(InterfacesAmazonpayModelV1Codecs.readSellerOrderAttributes(parser));
+                    break;
+                case "providerAttributes":
+                    builder.withProviderAttributes(InterfacesAmazonpayModelV1Codecs.readProviderAttributes(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeChargeAmazonPay(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.v1.ChargeAmazonPay value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "consentToken", value.getConsentToken());
+        JsonCodecSupport.writeStringField(generator, "sellerId", value.getSellerId());
+        JsonCodecSupport.writeStringField(generator, "billingAgreementId", value.getBillingAgreementId());
+        JsonCodecSupport.writeField(generator, "paymentAction", value.getPaymentAction(), InterfacesAmazonpayModelV1Codecs::writePaymentAction);
+        JsonCodecSupport.writeField(generator, "authorizeAttributes", value.getAuthorizeAttributes(), InterfacesAmazonpayModelV1Codecs::writeAuthorizeAttributes);
+        JsonCodecSupport.writeField(generator, "sellerOrderAttributes", value.getSellerOrderAttributes(), InterfacesAmazonpayModelV1Codecs::writeSellerOrderAttributes);
+        JsonCodecSupport.writeField(generator, "providerAttributes", value.getProviderAttributes(), InterfacesAmazonpayModelV1Codecs::writeProviderAttributes);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.v1.ChargeAmazonPayResult readChargeAmazonPayResult(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.amazonpay.v1.ChargeAmazonPayResult.Builder builder = com.amazon.ask.model.interfaces.amazonpay.v1.ChargeAmazonPayResult.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "amazonOrderReferenceId":
+                    builder.withAmazonOrderReferenceId(JsonCodecSupport.readString(parser));
+                    break;
+                case "authorizationDetails":
+                    builder.withAuthorizationDetails(InterfacesAmazonpayModelV1Codecs.readAuthorizationDetails(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeChargeAmazonPayResult(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.v1.ChargeAmazonPayResult value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "amazonOrderReferenceId", value.getAmazonOrderReferenceId());
+        JsonCodecSupport.writeField(generator, "authorizationDetails", value.getAuthorizationDetails(), InterfacesAmazonpayModelV1Codecs::writeAuthorizationDetails);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.v1.SetupAmazonPay readSetupAmazonPay(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.amazonpay.v1.SetupAmazonPay.Builder builder = com.amazon.ask.model.interfaces.amazonpay.v1.SetupAmazonPay.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "consentToken":
+                    builder.withConsentToken(JsonCodecSupport.readString(parser));
+                    break;
+                case "sellerId":
+                    builder.withSellerId(JsonCodecSupport.readString(parser));
+                    break;
+                case "countryOfEstablishment":
+                    builder.withCountryOfEstablishment(JsonCodecSupport.readString(parser));
+                    break;
+                case "ledgerCurrency":
+                    builder.withLedgerCurrency(JsonCodecSupport.readString(parser));
+                    break;
+                case "checkoutLanguage":
+                    builder.withCheckoutLanguage(JsonCodecSupport.readString(parser));
+                    break;
+                case "billingAgreementAttributes":
+                    builder.withBillingAgreementAttributes(InterfacesAmazonpayModelV1Codecs.readBillingAgreementAttributes(parser));
+                    break;
+                case "needAmazonShippingAddress":
+                    builder.withNeedAmazonShippingAddress(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "sandboxMode":
+                    builder.withSandboxMode(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "sandboxCustomerEmailId":
+                    builder.withSandboxCustomerEmailId(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSetupAmazonPay(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.v1.SetupAmazonPay value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "consentToken", value.getConsentToken());
+        JsonCodecSupport.writeStringField(generator, "sellerId", value.getSellerId());
+        JsonCodecSupport.writeStringField(generator, "countryOfEstablishment", value.getCountryOfEstablishment());
+        JsonCodecSupport.writeStringField(generator, "ledgerCurrency", value.getLedgerCurrency());
+        JsonCodecSupport.writeStringField(generator, "checkoutLanguage", value.getCheckoutLanguage());
+        JsonCodecSupport.writeField(generator, "billingAgreementAttributes", value.getBillingAgreementAttributes(), InterfacesAmazonpayModelV1Codecs::writeBillingAgreementAttributes);
+        JsonCodecSupport.writeField(generator, "needAmazonShippingAddress", value.getNeedAmazonShippingAddress(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeField(generator, "sandboxMode", value.getSandboxMode(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeStringField(generator, "sandboxCustomerEmailId", value.getSandboxCustomerEmailId());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.amazonpay.v1.SetupAmazonPayResult readSetupAmazonPayResult(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.amazonpay.v1.SetupAmazonPayResult.Builder builder = com.amazon.ask.model.interfaces.amazonpay.v1.SetupAmazonPayResult.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "billingAgreementDetails":
+                    builder.withBillingAgreementDetails(InterfacesAmazonpayModelV1Codecs.readBillingAgreementDetails(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSetupAmazonPayResult(JsonGenerator generator, com.amazon.ask.model.interfaces.amazonpay.v1.SetupAmazonPayResult value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "billingAgreementDetails", value.getBillingAgreementDetails(), InterfacesAmazonpayModelV1Codecs::writeBillingAgreementDetails);
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,653 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.interfaces.audioplayer.
+ */
+final class InterfacesAudioplayerCodecs {
+
+    private InterfacesAudioplayerCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.interfaces.audioplayer.AudioItem.class, InterfacesAudioplayerCodecs::readAudioItem, InterfacesAudioplayerCodecs::writeAudioItem);
+        registry.withCodec(com.amazon.ask.model.interfaces.audioplayer.AudioItemMetadata.class, InterfacesAudioplayerCodecs::readAudioItemMetadata, InterfacesAudioplayerCodecs::writeAudioItemMetadata);
+        registry.withCodec(com.amazon.ask.model.interfaces.audioplayer.AudioPlayerInterface.class, InterfacesAudioplayerCodecs::readAudioPlayerInterface, InterfacesAudioplayerCodecs::writeAudioPlayerInterface);
+        registry.withCodec(com.amazon.ask.model.interfaces.audioplayer.AudioPlayerState.class, InterfacesAudioplayerCodecs::readAudioPlayerState, InterfacesAudioplayerCodecs::writeAudioPlayerState);
+        registry.withCodec(com.amazon.ask.model.interfaces.audioplayer.CaptionData.class, InterfacesAudioplayerCodecs::readCaptionData, InterfacesAudioplayerCodecs::writeCaptionData);
+        registry.withCodec(com.amazon.ask.model.interfaces.audioplayer.CaptionType.class, InterfacesAudioplayerCodecs::readCaptionType, InterfacesAudioplayerCodecs::writeCaptionType);
+        registry.withCodec(com.amazon.ask.model.interfaces.audioplayer.ClearBehavior.class, InterfacesAudioplayerCodecs::readClearBehavior, InterfacesAudioplayerCodecs::writeClearBehavior);
+        registry.withCodec(com.amazon.ask.model.interfaces.audioplayer.ClearQueueDirective.class, InterfacesAudioplayerCodecs::readClearQueueDirective, InterfacesAudioplayerCodecs::writeClearQueueDirective);
+        registry.withCodec(com.amazon.ask.model.interfaces.audioplayer.CurrentPlaybackState.class, InterfacesAudioplayerCodecs::readCurrentPlaybackState, InterfacesAudioplayerCodecs::writeCurrentPlaybackState);
+        registry.withCodec(com.amazon.ask.model.interfaces.audioplayer.Error.class, InterfacesAudioplayerCodecs::readError, InterfacesAudioplayerCodecs::writeError);
+        registry.withCodec(com.amazon.ask.model.interfaces.audioplayer.ErrorType.class, InterfacesAudioplayerCodecs::readErrorType, InterfacesAudioplayerCodecs::writeErrorType);
+        registry.withCodec(com.amazon.ask.model.interfaces.audioplayer.PlayBehavior.class, InterfacesAudioplayerCodecs::readPlayBehavior, InterfacesAudioplayerCodecs::writePlayBehavior);
+        registry.withCodec(com.amazon.ask.model.interfaces.audioplayer.PlayDirective.class, InterfacesAudioplayerCodecs::readPlayDirective, InterfacesAudioplayerCodecs::writePlayDirective);
+        registry.withCodec(com.amazon.ask.model.interfaces.audioplayer.PlaybackFailedRequest.class, InterfacesAudioplayerCodecs::readPlaybackFailedRequest, InterfacesAudioplayerCodecs::writePlaybackFailedRequest);
+        registry.withCodec(com.amazon.ask.model.interfaces.audioplayer.PlaybackFinishedRequest.class, InterfacesAudioplayerCodecs::readPlaybackFinishedRequest, InterfacesAudioplayerCodecs::writePlaybackFinishedRequest);
+        registry.withCodec(com.amazon.ask.model.interfaces.audioplayer.PlaybackNearlyFinishedRequest.class, InterfacesAudioplayerCodecs::readPlaybackNearlyFinishedRequest, InterfacesAudioplayerCodecs::writePlaybackNearlyFinishedRequest);
+        registry.withCodec(com.amazon.ask.model.interfaces.audioplayer.PlaybackStartedRequest.class, InterfacesAudioplayerCodecs::readPlaybackStartedRequest, InterfacesAudioplayerCodecs::writePlaybackStartedRequest);
+        registry.withCodec(com.amazon.ask.model.interfaces.audioplayer.PlaybackStoppedRequest.class, InterfacesAudioplayerCodecs::readPlaybackStoppedRequest, InterfacesAudioplayerCodecs::writePlaybackStoppedRequest);
+        registry.withCodec(com.amazon.ask.model.interfaces.audioplayer.PlayerActivity.class, InterfacesAudioplayerCodecs::readPlayerActivity, InterfacesAudioplayerCodecs::writePlayerActivity);
+        registry.withCodec(com.amazon.ask.model.interfaces.audioplayer.StopDirective.class, InterfacesAudioplayerCodecs::readStopDirective, InterfacesAudioplayerCodecs::writeStopDirective);
+        registry.withCodec(com.amazon.ask.model.interfaces.audioplayer.Stream.class, InterfacesAudioplayerCodecs::readStream, InterfacesAudioplayerCodecs::writeStream);
+    }
+
+    static com.amazon.ask.model.interfaces.audioplayer.AudioItem readAudioItem(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.audioplayer.AudioItem.Builder builder = com.amazon.ask.model.interfaces.audioplayer.AudioItem.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "stream":
+                    builder.withStream(readStream(parser));
+                    break;
+                case "metadata":
+                    builder.withMetadata(readAudioItemMetadata(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeAudioItem(JsonGenerator generator, com.amazon.ask.model.interfaces.audioplayer.AudioItem value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "stream", value.getStream(), InterfacesAudioplayerCodecs::writeStream);
+        JsonCodecSupport.writeField(generator, "metadata", value.getMetadata(), InterfacesAudioplayerCodecs::writeAudioItemMetadata);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.audioplayer.AudioItemMetadata readAudioItemMetadata(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.audioplayer.AudioItemMetadata.Builder builder = com.amazon.ask.model.interfaces.audioplayer.AudioItemMetadata.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "title":
+                    builder.withTitle(JsonCodecSupport.readString(parser));
+                    break;
+                case "subtitle":
+                    builder.withSubtitle(JsonCodecSupport.readString(parser));
+                    break;
+                case "art":
+                    builder.withArt(InterfacesDisplayCodecs.readImage(parser));
+                    break;
+                case "backgroundImage":
+                    builder.withBackgroundImage(InterfacesDisplayCodecs.readImage(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeAudioItemMetadata(JsonGenerator generator, com.amazon.ask.model.interfaces.audioplayer.AudioItemMetadata value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "title", value.getTitle());
+        JsonCodecSupport.writeStringField(generator, "subtitle", value.getSubtitle());
+        JsonCodecSupport.writeField(generator, "art", value.getArt(), InterfacesDisplayCodecs::writeImage);
+        JsonCodecSupport.writeField(generator, "backgroundImage", value.getBackgroundImage(), InterfacesDisplayCodecs::writeImage);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.audioplayer.AudioPlayerInterface readAudioPlayerInterface(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.audioplayer.AudioPlayerInterface.Builder builder = com.amazon.ask.model.interfaces.audioplayer.AudioPlayerInterface.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeAudioPlayerInterface(JsonGenerator generator, com.amazon.ask.model.interfaces.audioplayer.AudioPlayerInterface value) throws IOException {
+        generator.writeStartObject();
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.audioplayer.AudioPlayerState readAudioPlayerState(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.audioplayer.AudioPlayerState.Builder builder = com.amazon.ask.model.interfaces.audioplayer.AudioPlayerState.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "offsetInMilliseconds":
+                    builder.withOffsetInMilliseconds(JsonCodecSupport.readLong(parser));
+                    break;
+                case "token":
+                    builder.withToken(JsonCodecSupport.readString(parser));
+                    break;
+                case "playerActivity":
+                    builder.withPlayerActivity(readPlayerActivity(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeAudioPlayerState(JsonGenerator generator, com.amazon.ask.model.interfaces.audioplayer.AudioPlayerState value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "offsetInMilliseconds", value.getOffsetInMilliseconds(), JsonCodecSupport::writeLong);
+        JsonCodecSupport.writeStringField(generator, "token", value.getToken());
+        JsonCodecSupport.writeField(generator, "playerActivity", value.getPlayerActivity(), InterfacesAudioplayerCodecs::writePlayerActivity);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.audioplayer.CaptionData readCaptionData(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.audioplayer.CaptionData.Builder builder = com.amazon.ask.model.interfaces.audioplayer.CaptionData.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "content":
+                    builder.withContent(JsonCodecSupport.readString(parser));
+                    break;
+                case "type":
+                    builder.withType(readCaptionType(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeCaptionData(JsonGenerator generator, com.amazon.ask.model.interfaces.audioplayer.CaptionData value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "content", value.getContent());
+        JsonCodecSupport.writeField(generator, "type", value.getType(), InterfacesAudioplayerCodecs::writeCaptionType);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.audioplayer.CaptionType readCaptionType(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.audioplayer.CaptionType.fromValue(value) : null;
+    }
+
+    static void writeCaptionType(JsonGenerator generator, com.amazon.ask.model.interfaces.audioplayer.CaptionType value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.interfaces.audioplayer.ClearBehavior readClearBehavior(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.audioplayer.ClearBehavior.fromValue(value) : null;
+    }
+
+    static void writeClearBehavior(JsonGenerator generator, com.amazon.ask.model.interfaces.audioplayer.ClearBehavior value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.interfaces.audioplayer.ClearQueueDirective readClearQueueDirective(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readClearQueueDirectiveFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.audioplayer.ClearQueueDirective readClearQueueDirectiveFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.audioplayer.ClearQueueDirective.Builder builder = com.amazon.ask.model.interfaces.audioplayer.ClearQueueDirective.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "clearBehavior":
+                    builder.withClearBehavior(readClearBehavior(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeClearQueueDirective(JsonGenerator generator, com.amazon.ask.model.interfaces.audioplayer.ClearQueueDirective value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "AudioPlayer.ClearQueue");
+        JsonCodecSupport.writeField(generator, "clearBehavior", value.getClearBehavior(), InterfacesAudioplayerCodecs::writeClearBehavior);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.audioplayer.CurrentPlaybackState readCurrentPlaybackState(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.audioplayer.CurrentPlaybackState.Builder builder = com.amazon.ask.model.interfaces.audioplayer.CurrentPlaybackState.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "offsetInMilliseconds":
+                    builder.withOffsetInMilliseconds(JsonCodecSupport.readLong(parser));
+                    break;
+                case "playerActivity":
+                    builder.withPlayerActivity(readPlayerActivity(parser));
+                    break;
+                case "token":
+                    builder.withToken(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeCurrentPlaybackState(JsonGenerator generator, com.amazon.ask.model.interfaces.audioplayer.CurrentPlaybackState value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "offsetInMilliseconds", value.getOffsetInMilliseconds(), JsonCodecSupport::writeLong);
+        JsonCodecSupport.writeField(generator, "playerActivity", value.getPlayerActivity(), InterfacesAudioplayerCodecs::writePlayerActivity);
+        JsonCodecSupport.writeStringField(generator, "token", value.getToken());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.audioplayer.Error readError(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.audioplayer.Error.Builder builder = com.amazon.ask.model.interfaces.audioplayer.Error.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "message":
+                    builder.withMessage(JsonCodecSupport.readString(parser));
+                    break;
+                case "type":
+                    builder.withType(readErrorType(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeError(JsonGenerator generator, com.amazon.ask.model.interfaces.audioplayer.Error value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "message", value.getMessage());
+        JsonCodecSupport.writeField(generator, "type", value.getType(), InterfacesAudioplayerCodecs::writeErrorType);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.audioplayer.ErrorType readErrorType(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.audioplayer.ErrorType.fromValue(value) : null;
+    }
+
+    static void writeErrorType(JsonGenerator generator, com.amazon.ask.model.interfaces.audioplayer.ErrorType value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.interfaces.audioplayer.PlayBehavior readPlayBehavior(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.audioplayer.PlayBehavior.fromValue(value) : null;
+    }
+
+    static void writePlayBehavior(JsonGenerator generator, com.amazon.ask.model.interfaces.audioplayer.PlayBehavior value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.interfaces.audioplayer.PlayDirective readPlayDirective(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readPlayDirectiveFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.audioplayer.PlayDirective readPlayDirectiveFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.audioplayer.PlayDirective.Builder builder = com.amazon.ask.model.interfaces.audioplayer.PlayDirective.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "playBehavior":
+                    builder.withPlayBehavior(readPlayBehavior(parser));
+                    break;
+                case "audioItem":
+                    builder.withAudioItem(readAudioItem(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writePlayDirective(JsonGenerator generator, com.amazon.ask.model.interfaces.audioplayer.PlayDirective value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "AudioPlayer.Play");
+        JsonCodecSupport.writeField(generator, "playBehavior", value.getPlayBehavior(), InterfacesAudioplayerCodecs::writePlayBehavior);
+        JsonCodecSupport.writeField(generator, "audioItem", value.getAudioItem(), InterfacesAudioplayerCodecs::writeAudioItem);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.audioplayer.PlaybackFailedRequest readPlaybackFailedRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readPlaybackFailedRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.audioplayer.PlaybackFailedRequest readPlaybackFailedRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.audioplayer.PlaybackFailedRequest.Builder builder = com.amazon.ask.model.interfaces.audioplayer.PlaybackFailedRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                case "currentPlaybackState":
+                    builder.withCurrentPlaybackState(readCurrentPlaybackState(parser));
+                    break;
+                case "error":
+                    builder.withError(readError(parser));
+                    break;
+                case "token":
+                    builder.withToken(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writePlaybackFailedRequest(JsonGenerator generator, com.amazon.ask.model.interfaces.audioplayer.PlaybackFailedRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "AudioPlayer.PlaybackFailed");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        JsonCodecSupport.writeField(generator, "currentPlaybackState", value.getCurrentPlaybackState(), InterfacesAudioplayerCodecs::writeCurrentPlaybackState);
+        JsonCodecSupport.writeField(generator, "error", value.getError(), InterfacesAudioplayerCodecs::writeError);
+        JsonCodecSupport.writeStringField(generator, "token", value.getToken());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.audioplayer.PlaybackFinishedRequest readPlaybackFinishedRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readPlaybackFinishedRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.audioplayer.PlaybackFinishedRequest readPlaybackFinishedRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.audioplayer.PlaybackFinishedRequest.Builder builder = com.amazon.ask.model.interfaces.audioplayer.PlaybackFinishedRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                case "offsetInMilliseconds":
+                    builder.withOffsetInMilliseconds(JsonCodecSupport.readLong(parser));
+                    break;
+                case "token":
+                    builder.withToken(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writePlaybackFinishedRequest(JsonGenerator generator, com.amazon.ask.model.interfaces.audioplayer.PlaybackFinishedRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "AudioPlayer.PlaybackFinished");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        JsonCodecSupport.writeField(generator, "offsetInMilliseconds", value.getOffsetInMilliseconds(), JsonCodecSupport::writeLong);
+        JsonCodecSupport.writeStringField(generator, "token", value.getToken());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.audioplayer.PlaybackNearlyFinishedRequest readPlaybackNearlyFinishedRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readPlaybackNearlyFinishedRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.audioplayer.PlaybackNearlyFinishedRequest readPlaybackNearlyFinishedRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.audioplayer.PlaybackNearlyFinishedRequest.Builder builder = com.amazon.ask.model.interfaces.audioplayer.PlaybackNearlyFinishedRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                case "offsetInMilliseconds":
+                    builder.withOffsetInMilliseconds(JsonCodecSupport.readLong(parser));
+                    break;
+                case "token":
+                    builder.withToken(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writePlaybackNearlyFinishedRequest(JsonGenerator generator, com.amazon.ask.model.interfaces.audioplayer.PlaybackNearlyFinishedRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "AudioPlayer.PlaybackNearlyFinished");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        JsonCodecSupport.writeField(generator, "offsetInMilliseconds", value.getOffsetInMilliseconds(), JsonCodecSupport::writeLong);
+        JsonCodecSupport.writeStringField(generator, "token", value.getToken());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.audioplayer.PlaybackStartedRequest readPlaybackStartedRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readPlaybackStartedRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.audioplayer.PlaybackStartedRequest readPlaybackStartedRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.audioplayer.PlaybackStartedRequest.Builder builder = com.amazon.ask.model.interfaces.audioplayer.PlaybackStartedRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                case "offsetInMilliseconds":
+                    builder.withOffsetInMilliseconds(JsonCodecSupport.readLong(parser));
+                    break;
+                case "token":
+                    builder.withToken(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writePlaybackStartedRequest(JsonGenerator generator, com.amazon.ask.model.interfaces.audioplayer.PlaybackStartedRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "AudioPlayer.PlaybackStarted");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        JsonCodecSupport.writeField(generator, "offsetInMilliseconds", value.getOffsetInMilliseconds(), JsonCodecSupport::writeLong);
+        JsonCodecSupport.writeStringField(generator, "token", value.getToken());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.audioplayer.PlaybackStoppedRequest readPlaybackStoppedRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readPlaybackStoppedRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.audioplayer.PlaybackStoppedRequest readPlaybackStoppedRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.audioplayer.PlaybackStoppedRequest.Builder builder = com.amazon.ask.model.interfaces.audioplayer.PlaybackStoppedRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                case "offsetInMilliseconds":
+                    builder.withOffsetInMilliseconds(JsonCodecSupport.readLong(parser));
+                    break;
+                case "token":
+                    builder.withToken(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writePlaybackStoppedRequest(JsonGenerator generator, com.amazon.ask.model.interfaces.audioplayer.PlaybackStoppedRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "AudioPlayer.PlaybackStopped");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        JsonCodecSupport.writeField(generator, "offsetInMilliseconds", value.getOffsetInMilliseconds(), JsonCodecSupport::writeLong);
+        JsonCodecSupport.writeStringField(generator, "token", value.getToken());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.audioplayer.PlayerActivity readPlayerActivity(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.audioplayer.PlayerActivity.fromValue(value) : null;
+    }
+
+    static void writePlayerActivity(JsonGenerator generator, com.amazon.ask.model.interfaces.audioplayer.PlayerActivity value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.interfaces.audioplayer.StopDirective readStopDirective(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readStopDirectiveFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.audioplayer.StopDirective readStopDirectiveFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.audioplayer.StopDirective.Builder builder = com.amazon.ask.model.interfaces.audioplayer.StopDirective.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeStopDirective(JsonGenerator generator, com.amazon.ask.model.interfaces.audioplayer.StopDirective value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "AudioPlayer.Stop");
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.audioplayer.Stream readStream(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.audioplayer.Stream.Builder builder = com.amazon.ask.model.interfaces.audioplayer.Stream.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "expectedPreviousToken":
+                    builder.withExpectedPreviousToken(JsonCodecSupport.readString(parser));
+                    break;
+                case "token":
+                    builder.withToken(JsonCodecSupport.readString(parser));
+                    break;
+                case "url":
+                    builder.withUrl(JsonCodecSupport.readString(parser));
+                    break;
+                case "offsetInMilliseconds":
+                    builder.withOffsetInMilliseconds(JsonCodecSupport.readLong(parser));
+                    break;
+                case "captionData":
+                    builder.withCaptionData(readCaptionData(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeStream(JsonGenerator generator, com.amazon.ask.model.interfaces.audioplayer.Stream value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "expectedPreviousToken", value.getExpectedPreviousToken());
+        JsonCodecSupport.writeStringField(generator, "token", value.getToken());
+        JsonCodecSupport.writeStringField(generator, "url", value.getUrl());
+        JsonCodecSupport.writeField(generator, "offsetInMilliseconds", value.getOffsetInMilliseconds(), JsonCodecSupport::writeLong);
+        JsonCodecSupport.writeField(generator, "captionData", value.getCaptionData(), InterfacesAudioplayerCodecs::writeCaptionData);
+        generator.writeEndObject();
+    }
+}
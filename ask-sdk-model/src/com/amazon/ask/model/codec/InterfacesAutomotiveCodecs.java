@@ -0,0 +1,57 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.interfaces.automotive.
+ */
+final class InterfacesAutomotiveCodecs {
+
+    private InterfacesAutomotiveCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.interfaces.automotive.AutomotiveState.class, InterfacesAutomotiveCodecs::readAutomotiveState, InterfacesAutomotiveCodecs::writeAutomotiveState);
+    }
+
+    static com.amazon.ask.model.interfaces.automotive.AutomotiveState readAutomotiveState(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.automotive.AutomotiveState.Builder builder = com.amazon.ask.model.interfaces.automotive.AutomotiveState.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeAutomotiveState(JsonGenerator generator, com.amazon.ask.model.interfaces.automotive.AutomotiveState value) throws IOException {
+        generator.writeStartObject();
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,229 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.interfaces.connections.
+ */
+final class InterfacesConnectionsCodecs {
+
+    private InterfacesConnectionsCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.interfaces.connections.ConnectionsRequest.class, InterfacesConnectionsCodecs::readConnectionsRequest, InterfacesConnectionsCodecs::writeConnectionsRequest);
+        registry.withCodec(com.amazon.ask.model.interfaces.connections.ConnectionsResponse.class, InterfacesConnectionsCodecs::readConnectionsResponse, InterfacesConnectionsCodecs::writeConnectionsResponse);
+        registry.withCodec(com.amazon.ask.model.interfaces.connections.ConnectionsStatus.class, InterfacesConnectionsCodecs::readConnectionsStatus, InterfacesConnectionsCodecs::writeConnectionsStatus);
+        registry.withCodec(com.amazon.ask.model.interfaces.connections.SendRequestDirective.class, InterfacesConnectionsCodecs::readSendRequestDirective, InterfacesConnectionsCodecs::writeSendRequestDirective);
+        registry.withCodec(com.amazon.ask.model.interfaces.connections.SendResponseDirective.class, InterfacesConnectionsCodecs::readSendResponseDirective, InterfacesConnectionsCodecs::writeSendResponseDirective);
+    }
+
+    static com.amazon.ask.model.interfaces.connections.ConnectionsRequest readConnectionsRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readConnectionsRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.connections.ConnectionsRequest readConnectionsRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.connections.ConnectionsRequest.Builder builder = com.amazon.ask.model.interfaces.connections.ConnectionsRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                case "name":
+                    builder.withName(JsonCodecSupport.readString(parser));
+                    break;
+                case "payload":
+                    builder.withPayload(JsonCodecSupport.readMap(parser, JsonCodecSupport::readUntyped));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeConnectionsRequest(JsonGenerator generator, com.amazon.ask.model.interfaces.connections.ConnectionsRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Connections.Request");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        JsonCodecSupport.writeStringField(generator, "name", value.getName());
+        JsonCodecSupport.writeField(generator, "payload", value.getPayload(), (g0, v0) -> JsonCodecSupport.writeMap(g0, v0, JsonCodecSupport::writeUntyped));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.connections.ConnectionsResponse readConnectionsResponse(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readConnectionsResponseFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.connections.ConnectionsResponse readConnectionsResponseFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.connections.ConnectionsResponse.Builder builder = com.amazon.ask.model.interfaces.connections.ConnectionsResponse.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                case "status":
+                    builder.withStatus(readConnectionsStatus(parser));
+                    break;
+                case "name":
+                    builder.withName(JsonCodecSupport.readString(parser));
+                    break;
+                case "payload":
+                    builder.withPayload(JsonCodecSupport.readMap(parser, JsonCodecSupport::readUntyped));
+                    break;
+                case "token":
+                    builder.withToken(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeConnectionsResponse(JsonGenerator generator, com.amazon.ask.model.interfaces.connections.ConnectionsResponse value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Connections.Response");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        JsonCodecSupport.writeField(generator, "status", value.getStatus(), InterfacesConnectionsCodecs::writeConnectionsStatus);
+        JsonCodecSupport.writeStringField(generator, "name", value.getName());
+        JsonCodecSupport.writeField(generator, "payload", value.getPayload(), (g0, v0) -> JsonCodecSupport.writeMap(g0, v0, JsonCodecSupport::writeUntyped));
+        JsonCodecSupport.writeStringField(generator, "token", value.getToken());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.connections.ConnectionsStatus readConnectionsStatus(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.connections.ConnectionsStatus.Builder builder = com.amazon.ask.model.interfaces.connections.ConnectionsStatus.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "code":
+                    builder.withCode(JsonCodecSupport.readString(parser));
+                    break;
+                case "message":
+                    builder.withMessage(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeConnectionsStatus(JsonGenerator generator, com.amazon.ask.model.interfaces.connections.ConnectionsStatus value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "code", value.getCode());
+        JsonCodecSupport.writeStringField(generator, "message", value.getMessage());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.connections.SendRequestDirective readSendRequestDirective(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readSendRequestDirectiveFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.connections.SendRequestDirective readSendRequestDirectiveFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.connections.SendRequestDirective.Builder builder = com.amazon.ask.model.interfaces.connections.SendRequestDirective.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "name":
+                    builder.withName(JsonCodecSupport.readString(parser));
+                    break;
+                case "payload":
+                    builder.withPayload(JsonCodecSupport.readMap(parser, JsonCodecSupport::readUntyped));
+                    break;
+                case "token":
+                    builder.withToken(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSendRequestDirective(JsonGenerator generator, com.amazon.ask.model.interfaces.connections.SendRequestDirective value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Connections.SendRequest");
+        JsonCodecSupport.writeStringField(generator, "name", value.getName());
+        JsonCodecSupport.writeField(generator, "payload", value.getPayload(), (g0, v0) -> JsonCodecSupport.writeMap(g0, v0, JsonCodecSupport::writeUntyped));
+        JsonCodecSupport.writeStringField(generator, "token", value.getToken());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.connections.SendResponseDirective readSendResponseDirective(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readSendResponseDirectiveFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.connections.SendResponseDirective readSendResponseDirectiveFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.connections.SendResponseDirective.Builder builder = com.amazon.ask.model.interfaces.connections.SendResponseDirective.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "status":
+                    builder.withStatus(readConnectionsStatus(parser));
+                    break;
+                case "payload":
+                    builder.withPayload(JsonCodecSupport.readMap(parser, JsonCodecSupport::readUntyped));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSendResponseDirective(JsonGenerator generator, com.amazon.ask.model.interfaces.connections.SendResponseDirective value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Connections.SendResponse");
+        JsonCodecSupport.writeField(generator, "status", value.getStatus(), InterfacesConnectionsCodecs::writeConnectionsStatus);
+        JsonCodecSupport.writeField(generator, "payload", value.getPayload(), (g0, v0) -> JsonCodecSupport.writeMap(g0, v0, JsonCodecSupport::writeUntyped));
+        generator.writeEndObject();
+    }
+}
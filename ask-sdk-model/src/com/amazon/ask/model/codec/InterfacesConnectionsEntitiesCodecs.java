@@ -0,0 +1,149 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodec;
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.interfaces.connections.entities.
+ */
+final class InterfacesConnectionsEntitiesCodecs {
+
+    private InterfacesConnectionsEntitiesCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.interfaces.connections.entities.BaseEntity.class, InterfacesConnectionsEntitiesCodecs::readBaseEntity, InterfacesConnectionsEntitiesCodecs::writeBaseEntity);
+        registry.withCodec(com.amazon.ask.model.interfaces.connections.entities.PostalAddress.class, InterfacesConnectionsEntitiesCodecs::readPostalAddress, InterfacesConnectionsEntitiesCodecs::writePostalAddress);
+        registry.withCodec(com.amazon.ask.model.interfaces.connections.entities.Restaurant.class, InterfacesConnectionsEntitiesCodecs::readRestaurant, InterfacesConnectionsEntitiesCodecs::writeRestaurant);
+    }
+
+    static com.amazon.ask.model.interfaces.connections.entities.BaseEntity readBaseEntity(JsonParser parser) throws IOException {
+        return JsonCodecSupport.readPolymorphic(parser, "@type", InterfacesConnectionsEntitiesCodecs::baseEntitySubtype);
+    }
+
+    private static JsonCodec.Reader<? extends com.amazon.ask.model.interfaces.connections.entities.BaseEntity> baseEntitySubtype(String type) {
+        switch (type) {
+            case "PostalAddress":
+                return InterfacesConnectionsEntitiesCodecs::readPostalAddressFields;
+            case "Restaurant":
+                return InterfacesConnectionsEntitiesCodecs::readRestaurantFields;
+            default:
+                return null;
+        }
+    }
+
+    static void writeBaseEntity(JsonGenerator generator, com.amazon.ask.model.interfaces.connections.entities.BaseEntity value) throws IOException {
+        switch (String.valueOf(value.getType())) {
+            case "PostalAddress":
+                writePostalAddress(generator, (com.amazon.ask.model.interfaces.connections.entities.PostalAddress) value);
+                break;
+            case "Restaurant":
+                writeRestaurant(generator, (com.amazon.ask.model.interfaces.connections.entities.Restaurant) value);
+                break;
+            default:
+                generator.writeObject(value);
+        }
+    }
+
+    static com.amazon.ask.model.interfaces.connections.entities.PostalAddress readPostalAddress(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readPostalAddressFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.connections.entities.PostalAddress readPostalAddressFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.connections.entities.PostalAddress.Builder builder = com.amazon.ask.model.interfaces.connections.entities.PostalAddress.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "@version":
+                    builder.withVersion(JsonCodecSupport.readString(parser));
+                    break;
+                case "streetAddress":
+                    builder.withStreetAddress(JsonCodecSupport.readString(parser));
+                    break;
+                case "locality":
+                    builder.withLocality(JsonCodecSupport.readString(parser));
+                    break;
+                case "region":
+                    builder.withRegion(JsonCodecSupport.readString(parser));
+                    break;
+                case "postalCode":
+                    builder.withPostalCode(JsonCodecSupport.readString(parser));
+                    break;
+                case "country":
+                    builder.withCountry(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writePostalAddress(JsonGenerator generator, com.amazon.ask.model.interfaces.connections.entities.PostalAddress value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("@type", "PostalAddress");
+        JsonCodecSupport.writeStringField(generator, "@version", value.getVersion());
+        JsonCodecSupport.writeStringField(generator, "streetAddress", value.getStreetAddress());
+        JsonCodecSupport.writeStringField(generator, "locality", value.getLocality());
+        JsonCodecSupport.writeStringField(generator, "region", value.getRegion());
+        JsonCodecSupport.writeStringField(generator, "postalCode", value.getPostalCode());
+        JsonCodecSupport.writeStringField(generator, "country", value.getCountry());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.connections.entities.Restaurant readRestaurant(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readRestaurantFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.connections.entities.Restaurant readRestaurantFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.connections.entities.Restaurant.Builder builder = com.amazon.ask.model.interfaces.connections.entities.Restaurant.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "@version":
+                    builder.withVersion(JsonCodecSupport.readString(parser));
+                    break;
+                case "name":
+                    builder.withName(JsonCodecSupport.readString(parser));
+                    break;
+                case "location":
+                    builder.withLocation(readPostalAddress(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeRestaurant(JsonGenerator generator, com.amazon.ask.model.interfaces.connections.entities.Restaurant value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("@type", "Restaurant");
+        JsonCodecSupport.writeStringField(generator, "@version", value.getVersion());
+        JsonCodecSupport.writeStringField(generator, "name", value.getName());
+        JsonCodecSupport.writeField(generator, "location", value.getLocation(), InterfacesConnectionsEntitiesCodecs::writePostalAddress);
+        generator.writeEndObject();
+    }
+}
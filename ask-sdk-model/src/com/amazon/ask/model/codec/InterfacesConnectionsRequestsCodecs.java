@@ -0,0 +1,288 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodec;
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.interfaces.connections.requests.
+ */
+final class InterfacesConnectionsRequestsCodecs {
+
+    private InterfacesConnectionsRequestsCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.interfaces.connections.requests.BaseRequest.class, InterfacesConnectionsRequestsCodecs::readBaseRequest, InterfacesConnectionsRequestsCodecs::writeBaseRequest);
+        registry.withCodec(com.amazon.ask.model.interfaces.connections.requests.PrintImageRequest.class, InterfacesConnectionsRequestsCodecs::readPrintImageRequest, InterfacesConnectionsRequestsCodecs::writePrintImageRequest);
+        registry.withCodec(com.amazon.ask.model.interfaces.connections.requests.PrintPDFRequest.class, InterfacesConnectionsRequestsCodecs::readPrintPDFRequest, InterfacesConnectionsRequestsCodecs::writePrintPDFRequest);
+        registry.withCodec(com.amazon.ask.model.interfaces.connections.requests.PrintWebPageRequest.class, InterfacesConnectionsRequestsCodecs::readPrintWebPageRequest, InterfacesConnectionsRequestsCodecs::writePrintWebPageRequest);
+        registry.withCodec(com.amazon.ask.model.interfaces.connections.requests.ScheduleFoodEstablishmentReservationRequest.class, InterfacesConnectionsRequestsCodecs::readScheduleFoodEstablishmentReservationRequest, InterfacesConnectionsRequestsCodecs::writeScheduleFoodEstablishmentReservationRequest);
+        registry.withCodec(com.amazon.ask.model.interfaces.connections.requests.ScheduleTaxiReservationRequest.class, InterfacesConnectionsRequestsCodecs::readScheduleTaxiReservationRequest, InterfacesConnectionsRequestsCodecs::writeScheduleTaxiReservationRequest);
+    }
+
+    static com.amazon.ask.model.interfaces.connections.requests.BaseRequest readBaseRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.readPolymorphic(parser, "@type", InterfacesConnectionsRequestsCodecs::baseRequestSubtype);
+    }
+
+    private static JsonCodec.Reader<? extends com.amazon.ask.model.interfaces.connections.requests.BaseRequest> baseRequestSubtype(String type) {
+        switch (type) {
+            case "ScheduleFoodEstablishmentReservationRequest":
+                return InterfacesConnectionsRequestsCodecs::readScheduleFoodEstablishmentReservationRequestFields;
+            case "PrintImageRequest":
+                return InterfacesConnectionsRequestsCodecs::readPrintImageRequestFields;
+            case "PrintWebPageRequest":
+                return InterfacesConnectionsRequestsCodecs::readPrintWebPageRequestFields;
+            case "PrintPDFRequest":
+                return InterfacesConnectionsRequestsCodecs::readPrintPDFRequestFields;
+            case "ScheduleTaxiReservationRequest":
+                return InterfacesConnectionsRequestsCodecs::readScheduleTaxiReservationRequestFields;
+            default:
+                return null;
+        }
+    }
+
+    static void writeBaseRequest(JsonGenerator generator, com.amazon.ask.model.interfaces.connections.requests.BaseRequest value) throws IOException {
+        switch (String.valueOf(value.getType())) {
+            case "ScheduleFoodEstablishmentReservationRequest":
+                writeScheduleFoodEstablishmentReservationRequest(generator, (com.amazon.ask.model.interfaces.connections.requests.ScheduleFoodEstablishmentReservationRequest) value);
+                break;
+            case "PrintImageRequest":
+                writePrintImageRequest(generator, (com.amazon.ask.model.interfaces.connections.requests.PrintImageRequest) value);
+                break;
+            case "PrintWebPageRequest":
+                writePrintWebPageRequest(generator, (com.amazon.ask.model.interfaces.connections.requests.PrintWebPageRequest) value);
+                break;
+            case "PrintPDFRequest":
+                writePrintPDFRequest(generator, (com.amazon.ask.model.interfaces.connections.requests.PrintPDFRequest) value);
+                break;
+            case "ScheduleTaxiReservationRequest":
+                writeScheduleTaxiReservationRequest(generator, (com.amazon.ask.model.interfaces.connections.requests.ScheduleTaxiReservationRequest) value);
+                break;
+            default:
+                generator.writeObject(value);
+        }
+    }
+
+    static com.amazon.ask.model.interfaces.connections.requests.PrintImageRequest readPrintImageRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readPrintImageRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.connections.requests.PrintImageRequest readPrintImageRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.connections.requests.PrintImageRequest.Builder builder = com.amazon.ask.model.interfaces.connections.requests.PrintImageRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "@version":
+                    builder.withVersion(JsonCodecSupport.readString(parser));
+                    break;
+                case "title":
+                    builder.withTitle(JsonCodecSupport.readString(parser));
+                    break;
+                case "url":
+                    builder.withUrl(JsonCodecSupport.readString(parser));
+                    break;
+                case "description":
+                    builder.withDescription(JsonCodecSupport.readString(parser));
+                    break;
+                case "imageType":
+                    builder.withImageType(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writePrintImageRequest(JsonGenerator generator, com.amazon.ask.model.interfaces.connections.requests.PrintImageRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("@type", "PrintImageRequest");
+        JsonCodecSupport.writeStringField(generator, "@version", value.getVersion());
+        JsonCodecSupport.writeStringField(generator, "title", value.getTitle());
+        JsonCodecSupport.writeStringField(generator, "url", value.getUrl());
+        JsonCodecSupport.writeStringField(generator, "description", value.getDescription());
+        JsonCodecSupport.writeStringField(generator, "imageType", value.getImageType());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.connections.requests.PrintPDFRequest readPrintPDFRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readPrintPDFRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.connections.requests.PrintPDFRequest readPrintPDFRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.connections.requests.PrintPDFRequest.Builder builder = com.amazon.ask.model.interfaces.connections.requests.PrintPDFRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "@version":
+                    builder.withVersion(JsonCodecSupport.readString(parser));
+                    break;
+                case "title":
+                    builder.withTitle(JsonCodecSupport.readString(parser));
+                    break;
+                case "url":
+                    builder.withUrl(JsonCodecSupport.readString(parser));
+                    break;
+                case "description":
+                    builder.withDescription(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writePrintPDFRequest(JsonGenerator generator, com.amazon.ask.model.interfaces.connections.requests.PrintPDFRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("@type", "PrintPDFRequest");
+        JsonCodecSupport.writeStringField(generator, "@version", value.getVersion());
+        JsonCodecSupport.writeStringField(generator, "title", value.getTitle());
+        JsonCodecSupport.writeStringField(generator, "url", value.getUrl());
+        JsonCodecSupport.writeStringField(generator, "description", value.getDescription());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.connections.requests.PrintWebPageRequest readPrintWebPageRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readPrintWebPageRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.connections.requests.PrintWebPageRequest readPrintWebPageRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.connections.requests.PrintWebPageRequest.Builder builder = com.amazon.ask.model.interfaces.connections.requests.PrintWebPageRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "@version":
+                    builder.withVersion(JsonCodecSupport.readString(parser));
+                    break;
+                case "title":
+                    builder.withTitle(JsonCodecSupport.readString(parser));
+                    break;
+                case "url":
+                    builder.withUrl(JsonCodecSupport.readString(parser));
+                    break;
+                case "description":
+                    builder.withDescription(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writePrintWebPageRequest(JsonGenerator generator, com.amazon.ask.model.interfaces.connections.requests.PrintWebPageRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("@type", "PrintWebPageRequest");
+        JsonCodecSupport.writeStringField(generator, "@version", value.getVersion());
+        JsonCodecSupport.writeStringField(generator, "title", value.getTitle());
+        JsonCodecSupport.writeStringField(generator, "url", value.getUrl());
+        JsonCodecSupport.writeStringField(generator, "description", value.getDescription());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.connections.requests.ScheduleFoodEstablishmentReservationRequest readScheduleFoodEstablishmentReservationRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readScheduleFoodEstablishmentReservationRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.connections.requests.ScheduleFoodEstablishmentReservationRequest readScheduleFoodEstablishmentReservationRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.connections.requests.ScheduleFoodEstablishmentReservationRequest.Builder builder = com.amazon.ask.model.interfaces.connections.requests.ScheduleFoodEstablishmentReservationRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "@version":
+                    builder.withVersion(JsonCodecSupport.readString(parser));
+                    break;
+                case "startTime":
+                    builder.withStartTime(JsonCodecSupport.readString(parser));
+                    break;
+                case "partySize":
+                    builder.withPartySize(JsonCodecSupport.readString(parser));
+                    break;
+                case "restaurant":
+                    builder.withRestaurant(InterfacesConnectionsEntitiesCodecs.readRestaurant(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeScheduleFoodEstablishmentReservationRequest(JsonGenerator generator, com.amazon.ask.model.interfaces.connections.requests.ScheduleFoodEstablishmentReservationRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("@type", "ScheduleFoodEstablishmentReservationRequest");
+        JsonCodecSupport.writeStringField(generator, "@version", value.getVersion());
+        JsonCodecSupport.writeStringField(generator, "startTime", value.getStartTime());
+        JsonCodecSupport.writeStringField(generator, "partySize", value.getPartySize());
+        JsonCodecSupport.writeField(generator, "restaurant", value.getRestaurant(), InterfacesConnectionsEntitiesCodecs::writeRestaurant);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.connections.requests.ScheduleTaxiReservationRequest readScheduleTaxiReservationRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readScheduleTaxiReservationRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.connections.requests.ScheduleTaxiReservationRequest readScheduleTaxiReservationRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.connections.requests.ScheduleTaxiReservationRequest.Builder builder = com.amazon.ask.model.interfaces.connections.requests.ScheduleTaxiReservationRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "@version":
+                    builder.withVersion(JsonCodecSupport.readString(parser));
+                    break;
+                case "pickupTime":
+                    builder.withPickupTime(JsonCodecSupport.readString(parser));
+                    break;
+                case "partySize":
+                    builder.withPartySize(JsonCodecSupport.readString(parser));
+                    break;
+                case "pickupLocation":
+                    builder.withPickupLocation(InterfacesConnectionsEntitiesCodecs.readPostalAddress(parser));
+                    break;
+                case "dropOffLocation":
+                    builder.withDropOffLocation(InterfacesConnectionsEntitiesCodecs.readPostalAddress(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeScheduleTaxiReservationRequest(JsonGenerator generator, com.amazon.ask.model.interfaces.connections.requests.ScheduleTaxiReservationRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("@type", "ScheduleTaxiReservationRequest");
+        JsonCodecSupport.writeStringField(generator, "@version", value.getVersion());
+        JsonCodecSupport.writeStringField(generator, "pickupTime", value.getPickupTime());
+        JsonCodecSupport.writeStringField(generator, "partySize", value.getPartySize());
+        JsonCodecSupport.writeField(generator, "pickupLocation", value.getPickupLocation(), InterfacesConnectionsEntitiesCodecs::writePostalAddress);
+        JsonCodecSupport.writeField(generator, "dropOffLocation", value.getDropOffLocation(), InterfacesConnectionsEntitiesCodecs::writePostalAddress);
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.interfaces.connections.V1.
+ */
+final class InterfacesConnectionsV1Codecs {
+
+    private InterfacesConnectionsV1Codecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.interfaces.connections.V1.StartConnectionDirective.class, InterfacesConnectionsV1Codecs::readStartConnectionDirective, InterfacesConnectionsV1Codecs::writeStartConnectionDirective);
+    }
+
+    static com.amazon.ask.model.interfaces.connections.V1.StartConnectionDirective readStartConnectionDirective(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readStartConnectionDirectiveFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.connections.V1.StartConnectionDirective readStartConnectionDirectiveFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.connections.V1.StartConnectionDirective.Builder builder = com.amazon.ask.model.interfaces.connections.V1.StartConnectionDirective.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "uri":
+                    builder.withUri(JsonCodecSupport.readString(parser));
+                    break;
+                case "input":
+                    builder.withInput(JsonCodecSupport.readMap(parser, JsonCodecSupport::readUntyped));
+                    break;
+                case "token":
+                    builder.withToken(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeStartConnectionDirective(JsonGenerator generator, com.amazon.ask.model.interfaces.connections.V1.StartConnectionDirective value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Connections.StartConnection");
+        JsonCodecSupport.writeStringField(generator, "uri", value.getUri());
+        JsonCodecSupport.writeField(generator, "input", value.getInput(), (g0, v0) -> JsonCodecSupport.writeMap(g0, v0, JsonCodecSupport::writeUntyped));
+        JsonCodecSupport.writeStringField(generator, "token", value.getToken());
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,383 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.interfaces.customInterfaceController.
+ */
+final class InterfacesCustomInterfaceControllerCodecs {
+
+    private InterfacesCustomInterfaceControllerCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.interfaces.customInterfaceController.Endpoint.class, InterfacesCustomInterfaceControllerCodecs::readEndpoint, InterfacesCustomInterfaceControllerCodecs::writeEndpoint);
+        registry.withCodec(com.amazon.ask.model.interfaces.customInterfaceController.Event.class, InterfacesCustomInterfaceControllerCodecs::readEvent, InterfacesCustomInterfaceControllerCodecs::writeEvent);
+        registry.withCodec(com.amazon.ask.model.interfaces.customInterfaceController.EventFilter.class, InterfacesCustomInterfaceControllerCodecs::readEventFilter, InterfacesCustomInterfaceControllerCodecs::writeEventFilter);
+        registry.withCodec(com.amazon.ask.model.interfaces.customInterfaceController.EventsReceivedRequest.class, InterfacesCustomInterfaceControllerCodecs::readEventsReceivedRequest, InterfacesCustomInterfaceControllerCodecs::writeEventsReceivedRequest);
+        registry.withCodec(com.amazon.ask.model.interfaces.customInterfaceController.Expiration.class, InterfacesCustomInterfaceControllerCodecs::readExpiration, InterfacesCustomInterfaceControllerCodecs::writeExpiration);
+        registry.withCodec(com.amazon.ask.model.interfaces.customInterfaceController.ExpiredRequest.class, InterfacesCustomInterfaceControllerCodecs::readExpiredRequest, InterfacesCustomInterfaceControllerCodecs::writeExpiredRequest);
+        registry.withCodec(com.amazon.ask.model.interfaces.customInterfaceController.FilterMatchAction.class, InterfacesCustomInterfaceControllerCodecs::readFilterMatchAction, InterfacesCustomInterfaceControllerCodecs::writeFilterMatchAction);
+        registry.withCodec(com.amazon.ask.model.interfaces.customInterfaceController.Header.class, InterfacesCustomInterfaceControllerCodecs::readHeader, InterfacesCustomInterfaceControllerCodecs::writeHeader);
+        registry.withCodec(com.amazon.ask.model.interfaces.customInterfaceController.SendDirectiveDirective.class, InterfacesCustomInterfaceControllerCodecs::readSendDirectiveDirective, InterfacesCustomInterfaceControllerCodecs::writeSendDirectiveDirective);
+        registry.withCodec(com.amazon.ask.model.interfaces.customInterfaceController.StartEventHandlerDirective.class, InterfacesCustomInterfaceControllerCodecs::readStartEventHandlerDirective, InterfacesCustomInterfaceControllerCodecs::writeStartEventHandlerDirective);
+        registry.withCodec(com.amazon.ask.model.interfaces.customInterfaceController.StopEventHandlerDirective.class, InterfacesCustomInterfaceControllerCodecs::readStopEventHandlerDirective, InterfacesCustomInterfaceControllerCodecs::writeStopEventHandlerDirective);
+    }
+
+    static com.amazon.ask.model.interfaces.customInterfaceController.Endpoint readEndpoint(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.customInterfaceController.Endpoint.Builder builder = com.amazon.ask.model.interfaces.customInterfaceController.Endpoint.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "endpointId":
+                    builder.withEndpointId(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeEndpoint(JsonGenerator generator, com.amazon.ask.model.interfaces.customInterfaceController.Endpoint value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "endpointId", value.getEndpointId());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.customInterfaceController.Event readEvent(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.customInterfaceController.Event.Builder builder = com.amazon.ask.model.interfaces.customInterfaceController.Event.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "header":
+                    builder.withHeader(readHeader(parser));
+                    break;
+                case "payload":
+                    builder.withPayload(JsonCodecSupport.readUntyped(parser));
+                    break;
+                case "endpoint":
+                    builder.withEndpoint(readEndpoint(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeEvent(JsonGenerator generator, com.amazon.ask.model.interfaces.customInterfaceController.Event value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "header", value.getHeader(), InterfacesCustomInterfaceControllerCodecs::writeHeader);
+        JsonCodecSupport.writeField(generator, "payload", value.getPayload(), JsonCodecSupport::writeUntyped);
+        JsonCodecSupport.writeField(generator, "endpoint", value.getEndpoint(), InterfacesCustomInterfaceControllerCodecs::writeEndpoint);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.customInterfaceController.EventFilter readEventFilter(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.customInterfaceController.EventFilter.Builder builder = com.amazon.ask.model.interfaces.customInterfaceController.EventFilter.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "filterExpression":
+                    builder.withFilterExpression(JsonCodecSupport.readUntyped(parser));
+                    break;
+                case "filterMatchAction":
+                    builder.withFilterMatchAction(readFilterMatchAction(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeEventFilter(JsonGenerator generator, com.amazon.ask.model.interfaces.customInterfaceController.EventFilter value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "filterExpression", value.getFilterExpression(), JsonCodecSupport::writeUntyped);
+        JsonCodecSupport.writeField(generator, "filterMatchAction", value.getFilterMatchAction(), InterfacesCustomInterfaceControllerCodecs::writeFilterMatchAction);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.customInterfaceController.EventsReceivedRequest readEventsReceivedRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readEventsReceivedRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.customInterfaceController.EventsReceivedRequest readEventsReceivedRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.customInterfaceController.EventsReceivedRequest.Builder builder = com.amazon.ask.model.interfaces.customInterfaceController.EventsReceivedRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                case "token":
+                    builder.withToken(JsonCodecSupport.readString(parser));
+                    break;
+                case "events":
+                    builder.withEvents(JsonCodecSupport.readList(parser, InterfacesCustomInterfaceControllerCodecs::readEvent));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeEventsReceivedRequest(JsonGenerator generator, com.amazon.ask.model.interfaces.customInterfaceController.EventsReceivedRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "CustomInterfaceController.EventsReceived");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        JsonCodecSupport.writeStringField(generator, "token", value.getToken());
+        JsonCodecSupport.writeField(generator, "events", value.getEvents(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, InterfacesCustomInterfaceControllerCodecs::writeEvent));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.customInterfaceController.Expiration readExpiration(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.customInterfaceController.Expiration.Builder builder = com.amazon.ask.model.interfaces.customInterfaceController.Expiration.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "durationInMilliseconds":
+                    builder.withDurationInMilliseconds(JsonCodecSupport.readLong(parser));
+                    break;
+                case "expirationPayload":
+                    builder.withExpirationPayload(JsonCodecSupport.readUntyped(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeExpiration(JsonGenerator generator, com.amazon.ask.model.interfaces.customInterfaceController.Expiration value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "durationInMilliseconds", value.getDurationInMilliseconds(), JsonCodecSupport::writeLong);
+        JsonCodecSupport.writeField(generator, "expirationPayload", value.getExpirationPayload(), JsonCodecSupport::writeUntyped);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.customInterfaceController.ExpiredRequest readExpiredRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readExpiredRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.customInterfaceController.ExpiredRequest readExpiredRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.customInterfaceController.ExpiredRequest.Builder builder = com.amazon.ask.model.interfaces.customInterfaceController.ExpiredRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                case "token":
+                    builder.withToken(JsonCodecSupport.readString(parser));
+                    break;
+                case "expirationPayload":
+                    builder.withExpirationPayload(JsonCodecSupport.readUntyped(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeExpiredRequest(JsonGenerator generator, com.amazon.ask.model.interfaces.customInterfaceController.ExpiredRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "CustomInterfaceController.Expired");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        JsonCodecSupport.writeStringField(generator, "token", value.getToken());
+        JsonCodecSupport.writeField(generator, "expirationPayload", value.getExpirationPayload(), JsonCodecSupport::writeUntyped);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.customInterfaceController.FilterMatchAction readFilterMatchAction(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.customInterfaceController.FilterMatchAction.fromValue(value) : null;
+    }
+
+    static void writeFilterMatchAction(JsonGenerator generator, com.amazon.ask.model.interfaces.customInterfaceController.FilterMatchAction value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.interfaces.customInterfaceController.Header readHeader(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.customInterfaceController.Header.Builder builder = com.amazon.ask.model.interfaces.customInterfaceController.Header.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "namespace":
+                    builder.withNamespace(JsonCodecSupport.readString(parser));
+                    break;
+                case "name":
+                    builder.withName(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeHeader(JsonGenerator generator, com.amazon.ask.model.interfaces.customInterfaceController.Header value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "namespace", value.getNamespace());
+        JsonCodecSupport.writeStringField(generator, "name", value.getName());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.customInterfaceController.SendDirectiveDirective readSendDirectiveDirective(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readSendDirectiveDirectiveFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.customInterfaceController.SendDirectiveDirective readSendDirectiveDirectiveFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.customInterfaceController.SendDirectiveDirective.Builder builder = com.amazon.ask.model.interfaces.customInterfaceController.SendDirectiveDirective.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "header":
+                    builder.withHeader(readHeader(parser));
+                    break;
+                case "payload":
+                    builder.withPayload(JsonCodecSupport.readUntyped(parser));
+                    break;
+                case "endpoint":
+                    builder.withEndpoint(readEndpoint(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSendDirectiveDirective(JsonGenerator generator, com.amazon.ask.model.interfaces.customInterfaceController.SendDirectiveDirective value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "CustomInterfaceController.SendDirective");
+        JsonCodecSupport.writeField(generator, "header", value.getHeader(), InterfacesCustomInterfaceControllerCodecs::writeHeader);
+        JsonCodecSupport.writeField(generator, "payload", value.getPayload(), JsonCodecSupport::writeUntyped);
+        JsonCodecSupport.writeField(generator, "endpoint", value.getEndpoint(), InterfacesCustomInterfaceControllerCodecs::writeEndpoint);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.customInterfaceController.StartEventHandlerDirective readStartEventHandlerDirective(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readStartEventHandlerDirectiveFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.customInterfaceController.StartEventHandlerDirective readStartEventHandlerDirectiveFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.customInterfaceController.StartEventHandlerDirective.Builder builder = com.amazon.ask.model.interfaces.customInterfaceController.StartEventHandlerDirective.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "token":
+                    builder.withToken(JsonCodecSupport.readString(parser));
+                    break;
+                case "eventFilter":
+                    builder.withEventFilter(readEventFilter(parser));
+                    break;
+                case "expiration":
+                    builder.withExpiration(readExpiration(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeStartEventHandlerDirective(JsonGenerator generator, com.amazon.ask.model.interfaces.customInterfaceController.StartEventHandlerDirective value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "CustomInterfaceController.StartEventHandler");
+        JsonCodecSupport.writeStringField(generator, "token", value.getToken());
+        JsonCodecSupport.writeField(generator, "eventFilter", value.getEventFilter(), InterfacesCustomInterfaceControllerCodecs::writeEventFilter);
+        JsonCodecSupport.writeField(generator, "expiration", value.getExpiration(), InterfacesCustomInterfaceControllerCodecs::writeExpiration);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.customInterfaceController.StopEventHandlerDirective readStopEventHandlerDirective(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readStopEventHandlerDirectiveFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.customInterfaceController.StopEventHandlerDirective readStopEventHandlerDirectiveFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.customInterfaceController.StopEventHandlerDirective.Builder builder = com.amazon.ask.model.interfaces.customInterfaceController.StopEventHandlerDirective.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "token":
+                    builder.withToken(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeStopEventHandlerDirective(JsonGenerator generator, com.amazon.ask.model.interfaces.customInterfaceController.StopEventHandlerDirective value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "CustomInterfaceController.StopEventHandler");
+        JsonCodecSupport.writeStringField(generator, "token", value.getToken());
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,851 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodec;
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.interfaces.display.
+ */
+final class InterfacesDisplayCodecs {
+
+    private InterfacesDisplayCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.interfaces.display.BackButtonBehavior.class, InterfacesDisplayCodecs::readBackButtonBehavior, InterfacesDisplayCodecs::writeBackButtonBehavior);
+        registry.withCodec(com.amazon.ask.model.interfaces.display.BodyTemplate1.class, InterfacesDisplayCodecs::readBodyTemplate1, InterfacesDisplayCodecs::writeBodyTemplate1);
+        registry.withCodec(com.amazon.ask.model.interfaces.display.BodyTemplate2.class, InterfacesDisplayCodecs::readBodyTemplate2, InterfacesDisplayCodecs::writeBodyTemplate2);
+        registry.withCodec(com.amazon.ask.model.interfaces.display.BodyTemplate3.class, InterfacesDisplayCodecs::readBodyTemplate3, InterfacesDisplayCodecs::writeBodyTemplate3);
+        registry.withCodec(com.amazon.ask.model.interfaces.display.BodyTemplate6.class, InterfacesDisplayCodecs::readBodyTemplate6, InterfacesDisplayCodecs::writeBodyTemplate6);
+        registry.withCodec(com.amazon.ask.model.interfaces.display.BodyTemplate7.class, InterfacesDisplayCodecs::readBodyTemplate7, InterfacesDisplayCodecs::writeBodyTemplate7);
+        registry.withCodec(com.amazon.ask.model.interfaces.display.DisplayInterface.class, InterfacesDisplayCodecs::readDisplayInterface, InterfacesDisplayCodecs::writeDisplayInterface);
+        registry.withCodec(com.amazon.ask.model.interfaces.display.DisplayState.class, InterfacesDisplayCodecs::readDisplayState, InterfacesDisplayCodecs::writeDisplayState);
+        registry.withCodec(com.amazon.ask.model.interfaces.display.ElementSelectedRequest.class, InterfacesDisplayCodecs::readElementSelectedRequest, InterfacesDisplayCodecs::writeElementSelectedRequest);
+        registry.withCodec(com.amazon.ask.model.interfaces.display.Hint.class, InterfacesDisplayCodecs::readHint, InterfacesDisplayCodecs::writeHint);
+        registry.withCodec(com.amazon.ask.model.interfaces.display.HintDirective.class, InterfacesDisplayCodecs::readHintDirective, InterfacesDisplayCodecs::writeHintDirective);
+        registry.withCodec(com.amazon.ask.model.interfaces.display.Image.class, InterfacesDisplayCodecs::readImage, InterfacesDisplayCodecs::writeImage);
+        registry.withCodec(com.amazon.ask.model.interfaces.display.ImageInstance.class, InterfacesDisplayCodecs::readImageInstance, InterfacesDisplayCodecs::writeImageInstance);
+        registry.withCodec(com.amazon.ask.model.interfaces.display.ImageSize.class, InterfacesDisplayCodecs::readImageSize, InterfacesDisplayCodecs::writeImageSize);
+        registry.withCodec(com.amazon.ask.model.interfaces.display.ListItem.class, InterfacesDisplayCodecs::readListItem, InterfacesDisplayCodecs::writeListItem);
+        registry.withCodec(com.amazon.ask.model.interfaces.display.ListTemplate1.class, InterfacesDisplayCodecs::readListTemplate1, InterfacesDisplayCodecs::writeListTemplate1);
+        registry.withCodec(com.amazon.ask.model.interfaces.display.ListTemplate2.class, InterfacesDisplayCodecs::readListTemplate2, InterfacesDisplayCodecs::writeListTemplate2);
+        registry.withCodec(com.amazon.ask.model.interfaces.display.PlainText.class, InterfacesDisplayCodecs::readPlainText, InterfacesDisplayCodecs::writePlainText);
+        registry.withCodec(com.amazon.ask.model.interfaces.display.PlainTextHint.class, InterfacesDisplayCodecs::readPlainTextHint, InterfacesDisplayCodecs::writePlainTextHint);
+        registry.withCodec(com.amazon.ask.model.interfaces.display.RenderTemplateDirective.class, InterfacesDisplayCodecs::readRenderTemplateDirective, InterfacesDisplayCodecs::writeRenderTemplateDirective);
+        registry.withCodec(com.amazon.ask.model.interfaces.display.RichText.class, InterfacesDisplayCodecs::readRichText, InterfacesDisplayCodecs::writeRichText);
+        registry.withCodec(com.amazon.ask.model.interfaces.display.Template.class, InterfacesDisplayCodecs::readTemplate, InterfacesDisplayCodecs::writeTemplate);
+        registry.withCodec(com.amazon.ask.model.interfaces.display.TextContent.class, InterfacesDisplayCodecs::readTextContent, InterfacesDisplayCodecs::writeTextContent);
+        registry.withCodec(com.amazon.ask.model.interfaces.display.TextField.class, InterfacesDisplayCodecs::readTextField, InterfacesDisplayCodecs::writeTextField);
+    }
+
+    static com.amazon.ask.model.interfaces.display.BackButtonBehavior readBackButtonBehavior(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.display.BackButtonBehavior.fromValue(value) : null;
+    }
+
+    static void writeBackButtonBehavior(JsonGenerator generator, com.amazon.ask.model.interfaces.display.BackButtonBehavior value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.interfaces.display.BodyTemplate1 readBodyTemplate1(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readBodyTemplate1Fields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.display.BodyTemplate1 readBodyTemplate1Fields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.display.BodyTemplate1.Builder builder = com.amazon.ask.model.interfaces.display.BodyTemplate1.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "token":
+                    builder.withToken(JsonCodecSupport.readString(parser));
+                    break;
+                case "backButton":
+                    builder.withBackButton(readBackButtonBehavior(parser));
+                    break;
+                case "backgroundImage":
+                    builder.withBackgroundImage(readImage(parser));
+                    break;
+                case "title":
+                    builder.withTitle(JsonCodecSupport.readString(parser));
+                    break;
+                case "textContent":
+                    builder.withTextContent(readTextContent(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeBodyTemplate1(JsonGenerator generator, com.amazon.ask.model.interfaces.display.BodyTemplate1 value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "BodyTemplate1");
+        JsonCodecSupport.writeStringField(generator, "token", value.getToken());
+        JsonCodecSupport.writeField(generator, "backButton", value.getBackButton(), InterfacesDisplayCodecs::writeBackButtonBehavior);
+        JsonCodecSupport.writeField(generator, "backgroundImage", value.getBackgroundImage(), InterfacesDisplayCodecs::writeImage);
+        JsonCodecSupport.writeStringField(generator, "title", value.getTitle());
+        JsonCodecSupport.writeField(generator, "textContent", value.getTextContent(), InterfacesDisplayCodecs::writeTextContent);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.display.BodyTemplate2 readBodyTemplate2(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readBodyTemplate2Fields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.display.BodyTemplate2 readBodyTemplate2Fields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.display.BodyTemplate2.Builder builder = com.amazon.ask.model.interfaces.display.BodyTemplate2.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "token":
+                    builder.withToken(JsonCodecSupport.readString(parser));
+                    break;
+                case "backButton":
+                    builder.withBackButton(readBackButtonBehavior(parser));
+                    break;
+                case "backgroundImage":
+                    builder.withBackgroundImage(readImage(parser));
+                    break;
+                case "image":
+                    builder.withImage(readImage(parser));
+                    break;
+                case "title":
+                    builder.withTitle(JsonCodecSupport.readString(parser));
+                    break;
+                case "textContent":
+                    builder.withTextContent(readTextContent(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeBodyTemplate2(JsonGenerator generator, com.amazon.ask.model.interfaces.display.BodyTemplate2 value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "BodyTemplate2");
+        JsonCodecSupport.writeStringField(generator, "token", value.getToken());
+        JsonCodecSupport.writeField(generator, "backButton", value.getBackButton(), InterfacesDisplayCodecs::writeBackButtonBehavior);
+        JsonCodecSupport.writeField(generator, "backgroundImage", value.getBackgroundImage(), InterfacesDisplayCodecs::writeImage);
+        JsonCodecSupport.writeField(generator, "image", value.getImage(), InterfacesDisplayCodecs::writeImage);
+        JsonCodecSupport.writeStringField(generator, "title", value.getTitle());
+        JsonCodecSupport.writeField(generator, "textContent", value.getTextContent(), InterfacesDisplayCodecs::writeTextContent);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.display.BodyTemplate3 readBodyTemplate3(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readBodyTemplate3Fields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.display.BodyTemplate3 readBodyTemplate3Fields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.display.BodyTemplate3.Builder builder = com.amazon.ask.model.interfaces.display.BodyTemplate3.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "token":
+                    builder.withToken(JsonCodecSupport.readString(parser));
+                    break;
+                case "backButton":
+                    builder.withBackButton(readBackButtonBehavior(parser));
+                    break;
+                case "backgroundImage":
+                    builder.withBackgroundImage(readImage(parser));
+                    break;
+                case "image":
+                    builder.withImage(readImage(parser));
+                    break;
+                case "title":
+                    builder.withTitle(JsonCodecSupport.readString(parser));
+                    break;
+                case "textContent":
+                    builder.withTextContent(readTextContent(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeBodyTemplate3(JsonGenerator generator, com.amazon.ask.model.interfaces.display.BodyTemplate3 value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "BodyTemplate3");
+        JsonCodecSupport.writeStringField(generator, "token", value.getToken());
+        JsonCodecSupport.writeField(generator, "backButton", value.getBackButton(), InterfacesDisplayCodecs::writeBackButtonBehavior);
+        JsonCodecSupport.writeField(generator, "backgroundImage", value.getBackgroundImage(), InterfacesDisplayCodecs::writeImage);
+        JsonCodecSupport.writeField(generator, "image", value.getImage(), InterfacesDisplayCodecs::writeImage);
+        JsonCodecSupport.writeStringField(generator, "title", value.getTitle());
+        JsonCodecSupport.writeField(generator, "textContent", value.getTextContent(), InterfacesDisplayCodecs::writeTextContent);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.display.BodyTemplate6 readBodyTemplate6(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readBodyTemplate6Fields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.display.BodyTemplate6 readBodyTemplate6Fields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.display.BodyTemplate6.Builder builder = com.amazon.ask.model.interfaces.display.BodyTemplate6.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "token":
+                    builder.withToken(JsonCodecSupport.readString(parser));
+                    break;
+                case "backButton":
+                    builder.withBackButton(readBackButtonBehavior(parser));
+                    break;
+                case "backgroundImage":
+                    builder.withBackgroundImage(readImage(parser));
+                    break;
+                case "textContent":
+                    builder.withTextContent(readTextContent(parser));
+                    break;
+                case "image":
+                    builder.withImage(readImage(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeBodyTemplate6(JsonGenerator generator, com.amazon.ask.model.interfaces.display.BodyTemplate6 value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "BodyTemplate6");
+        JsonCodecSupport.writeStringField(generator, "token", value.getToken());
+        JsonCodecSupport.writeField(generator, "backButton", value.getBackButton(), InterfacesDisplayCodecs::writeBackButtonBehavior);
+        JsonCodecSupport.writeField(generator, "backgroundImage", value.getBackgroundImage(), InterfacesDisplayCodecs::writeImage);
+        JsonCodecSupport.writeField(generator, "textContent", value.getTextContent(), InterfacesDisplayCodecs::writeTextContent);
+        JsonCodecSupport.writeField(generator, "image", value.getImage(), InterfacesDisplayCodecs::writeImage);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.display.BodyTemplate7 readBodyTemplate7(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readBodyTemplate7Fields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.display.BodyTemplate7 readBodyTemplate7Fields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.display.BodyTemplate7.Builder builder = com.amazon.ask.model.interfaces.display.BodyTemplate7.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "token":
+                    builder.withToken(JsonCodecSupport.readString(parser));
+                    break;
+                case "backButton":
+                    builder.withBackButton(readBackButtonBehavior(parser));
+                    break;
+                case "title":
+                    builder.withTitle(JsonCodecSupport.readString(parser));
+                    break;
+                case "image":
+                    builder.withImage(readImage(parser));
+                    break;
+                case "backgroundImage":
+                    builder.withBackgroundImage(readImage(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeBodyTemplate7(JsonGenerator generator, com.amazon.ask.model.interfaces.display.BodyTemplate7 value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "BodyTemplate7");
+        JsonCodecSupport.writeStringField(generator, "token", value.getToken());
+        JsonCodecSupport.writeField(generator, "backButton", value.getBackButton(), InterfacesDisplayCodecs::writeBackButtonBehavior);
+        JsonCodecSupport.writeStringField(generator, "title", value.getTitle());
+        JsonCodecSupport.writeField(generator, "image", value.getImage(), InterfacesDisplayCodecs::writeImage);
+        JsonCodecSupport.writeField(generator, "backgroundImage", value.getBackgroundImage(), InterfacesDisplayCodecs::writeImage);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.display.DisplayInterface readDisplayInterface(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.display.DisplayInterface.Builder builder = com.amazon.ask.model.interfaces.display.DisplayInterface.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "templateVersion":
+                    builder.withTemplateVersion(JsonCodecSupport.readString(parser));
+                    break;
+                case "markupVersion":
+                    builder.withMarkupVersion(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeDisplayInterface(JsonGenerator generator, com.amazon.ask.model.interfaces.display.DisplayInterface value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "templateVersion", value.getTemplateVersion());
+        JsonCodecSupport.writeStringField(generator, "markupVersion", value.getMarkupVersion());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.display.DisplayState readDisplayState(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.display.DisplayState.Builder builder = com.amazon.ask.model.interfaces.display.DisplayState.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "token":
+                    builder.withToken(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeDisplayState(JsonGenerator generator, com.amazon.ask.model.interfaces.display.DisplayState value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "token", value.getToken());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.display.ElementSelectedRequest readElementSelectedRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readElementSelectedRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.display.ElementSelectedRequest readElementSelectedRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.display.ElementSelectedRequest.Builder builder = com.amazon.ask.model.interfaces.display.ElementSelectedRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                case "token":
+                    builder.withToken(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeElementSelectedRequest(JsonGenerator generator, com.amazon.ask.model.interfaces.display.ElementSelectedRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Display.ElementSelected");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        JsonCodecSupport.writeStringField(generator, "token", value.getToken());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.display.Hint readHint(JsonParser parser) throws IOException {
+        return JsonCodecSupport.readPolymorphic(parser, "type", InterfacesDisplayCodecs::hintSubtype);
+    }
+
+    private static JsonCodec.Reader<? extends com.amazon.ask.model.interfaces.display.Hint> hintSubtype(String type) {
+        switch (type) {
+            case "PlainText":
+                return InterfacesDisplayCodecs::readPlainTextHintFields;
+            default:
+                return null;
+        }
+    }
+
+    static void writeHint(JsonGenerator generator, com.amazon.ask.model.interfaces.display.Hint value) throws IOException {
+        switch (String.valueOf(value.getType())) {
+            case "PlainText":
+                writePlainTextHint(generator, (com.amazon.ask.model.interfaces.display.PlainTextHint) value);
+                break;
+            default:
+                generator.writeObject(value);
+        }
+    }
+
+    static com.amazon.ask.model.interfaces.display.HintDirective readHintDirective(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readHintDirectiveFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.display.HintDirective readHintDirectiveFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.display.HintDirective.Builder builder = com.amazon.ask.model.interfaces.display.HintDirective.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "hint":
+                    builder.withHint(readHint(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeHintDirective(JsonGenerator generator, com.amazon.ask.model.interfaces.display.HintDirective value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Hint");
+        JsonCodecSupport.writeField(generator, "hint", value.getHint(), InterfacesDisplayCodecs::writeHint);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.display.Image readImage(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.display.Image.Builder builder = com.amazon.ask.model.interfaces.display.Image.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "contentDescription":
+                    builder.withContentDescription(JsonCodecSupport.readString(parser));
+                    break;
+                case "sources":
+                    builder.withSources(JsonCodecSupport.readList(parser, InterfacesDisplayCodecs::readImageInstance));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeImage(JsonGenerator generator, com.amazon.ask.model.interfaces.display.Image value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "contentDescription", value.getContentDescription());
+        JsonCodecSupport.writeField(generator, "sources", value.getSources(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, InterfacesDisplayCodecs::writeImageInstance));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.display.ImageInstance readImageInstance(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.display.ImageInstance.Builder builder = com.amazon.ask.model.interfaces.display.ImageInstance.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "url":
+                    builder.withUrl(JsonCodecSupport.readString(parser));
+                    break;
+                case "size":
+                    builder.withSize(readImageSize(parser));
+                    break;
+                case "widthPixels":
+                    builder.withWidthPixels(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "heightPixels":
+                    builder.withHeightPixels(JsonCodecSupport.readInteger(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeImageInstance(JsonGenerator generator, com.amazon.ask.model.interfaces.display.ImageInstance value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "url", value.getUrl());
+        JsonCodecSupport.writeField(generator, "size", value.getSize(), InterfacesDisplayCodecs::writeImageSize);
+        JsonCodecSupport.writeField(generator, "widthPixels", value.getWidthPixels(), JsonCodecSupport::writeInteger);
+        JsonCodecSupport.writeField(generator, "heightPixels", value.getHeightPixels(), JsonCodecSupport::writeInteger);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.display.ImageSize readImageSize(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.display.ImageSize.fromValue(value) : null;
+    }
+
+    static void writeImageSize(JsonGenerator generator, com.amazon.ask.model.interfaces.display.ImageSize value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.interfaces.display.ListItem readListItem(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.display.ListItem.Builder builder = com.amazon.ask.model.interfaces.display.ListItem.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "token":
+                    builder.withToken(JsonCodecSupport.readString(parser));
+                    break;
+                case "image":
+                    builder.withImage(readImage(parser));
+                    break;
+                case "textContent":
+                    builder.withTextContent(readTextContent(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeListItem(JsonGenerator generator, com.amazon.ask.model.interfaces.display.ListItem value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "token", value.getToken());
+        JsonCodecSupport.writeField(generator, "image", value.getImage(), InterfacesDisplayCodecs::writeImage);
+        JsonCodecSupport.writeField(generator, "textContent", value.getTextContent(), InterfacesDisplayCodecs::writeTextContent);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.display.ListTemplate1 readListTemplate1(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readListTemplate1Fields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.display.ListTemplate1 readListTemplate1Fields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.display.ListTemplate1.Builder builder = com.amazon.ask.model.interfaces.display.ListTemplate1.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "token":
+                    builder.withToken(JsonCodecSupport.readString(parser));
+                    break;
+                case "backButton":
+                    builder.withBackButton(readBackButtonBehavior(parser));
+                    break;
+                case "backgroundImage":
+                    builder.withBackgroundImage(readImage(parser));
+                    break;
+                case "title":
+                    builder.withTitle(JsonCodecSupport.readString(parser));
+                    break;
+                case "listItems":
+                    builder.withListItems(JsonCodecSupport.readList(parser, InterfacesDisplayCodecs::readListItem));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeListTemplate1(JsonGenerator generator, com.amazon.ask.model.interfaces.display.ListTemplate1 value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "ListTemplate1");
+        JsonCodecSupport.writeStringField(generator, "token", value.getToken());
+        JsonCodecSupport.writeField(generator, "backButton", value.getBackButton(), InterfacesDisplayCodecs::writeBackButtonBehavior);
+        JsonCodecSupport.writeField(generator, "backgroundImage", value.getBackgroundImage(), InterfacesDisplayCodecs::writeImage);
+        JsonCodecSupport.writeStringField(generator, "title", value.getTitle());
+        JsonCodecSupport.writeField(generator, "listItems", value.getListItems(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, InterfacesDisplayCodecs::writeListItem));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.display.ListTemplate2 readListTemplate2(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readListTemplate2Fields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.display.ListTemplate2 readListTemplate2Fields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.display.ListTemplate2.Builder builder = com.amazon.ask.model.interfaces.display.ListTemplate2.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "token":
+                    builder.withToken(JsonCodecSupport.readString(parser));
+                    break;
+                case "backButton":
+                    builder.withBackButton(readBackButtonBehavior(parser));
+                    break;
+                case "backgroundImage":
+                    builder.withBackgroundImage(readImage(parser));
+                    break;
+                case "title":
+                    builder.withTitle(JsonCodecSupport.readString(parser));
+                    break;
+                case "listItems":
+                    builder.withListItems(JsonCodecSupport.readList(parser, InterfacesDisplayCodecs::readListItem));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeListTemplate2(JsonGenerator generator, com.amazon.ask.model.interfaces.display.ListTemplate2 value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "ListTemplate2");
+        JsonCodecSupport.writeStringField(generator, "token", value.getToken());
+        JsonCodecSupport.writeField(generator, "backButton", value.getBackButton(), InterfacesDisplayCodecs::writeBackButtonBehavior);
+        JsonCodecSupport.writeField(generator, "backgroundImage", value.getBackgroundImage(), InterfacesDisplayCodecs::writeImage);
+        JsonCodecSupport.writeStringField(generator, "title", value.getTitle());
+        JsonCodecSupport.writeField(generator, "listItems", value.getListItems(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, InterfacesDisplayCodecs::writeListItem));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.display.PlainText readPlainText(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readPlainTextFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.display.PlainText readPlainTextFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.display.PlainText.Builder builder = com.amazon.ask.model.interfaces.display.PlainText.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "text":
+                    builder.withText(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writePlainText(JsonGenerator generator, com.amazon.ask.model.interfaces.display.PlainText value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "PlainText");
+        JsonCodecSupport.writeStringField(generator, "text", value.getText());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.display.PlainTextHint readPlainTextHint(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readPlainTextHintFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.display.PlainTextHint readPlainTextHintFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.display.PlainTextHint.Builder builder = com.amazon.ask.model.interfaces.display.PlainTextHint.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "text":
+                    builder.withText(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writePlainTextHint(JsonGenerator generator, com.amazon.ask.model.interfaces.display.PlainTextHint value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "PlainText");
+        JsonCodecSupport.writeStringField(generator, "text", value.getText());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.display.RenderTemplateDirective readRenderTemplateDirective(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readRenderTemplateDirectiveFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.display.RenderTemplateDirective readRenderTemplateDirectiveFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.display.RenderTemplateDirective.Builder builder = com.amazon.ask.model.interfaces.display.RenderTemplateDirective.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "template":
+                    builder.withTemplate(readTemplate(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeRenderTemplateDirective(JsonGenerator generator, com.amazon.ask.model.interfaces.display.RenderTemplateDirective value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Display.RenderTemplate");
+        JsonCodecSupport.writeField(generator, "template", value.getTemplate(), InterfacesDisplayCodecs::writeTemplate);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.display.RichText readRichText(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readRichTextFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.display.RichText readRichTextFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.display.RichText.Builder builder = com.amazon.ask.model.interfaces.display.RichText.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "text":
+                    builder.withText(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeRichText(JsonGenerator generator, com.amazon.ask.model.interfaces.display.RichText value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "RichText");
+        JsonCodecSupport.writeStringField(generator, "text", value.getText());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.display.Template readTemplate(JsonParser parser) throws IOException {
+        return JsonCodecSupport.readPolymorphic(parser, "type", InterfacesDisplayCodecs::templateSubtype);
+    }
+
+    private static JsonCodec.Reader<? extends com.amazon.ask.model.interfaces.display.Template> templateSubtype(String type) {
+        switch (type) {
+            case "ListTemplate2":
+                return InterfacesDisplayCodecs::readListTemplate2Fields;
+            case "ListTemplate1":
+                return InterfacesDisplayCodecs::readListTemplate1Fields;
+            case "BodyTemplate7":
+                return InterfacesDisplayCodecs::readBodyTemplate7Fields;
+            case "BodyTemplate6":
+                return InterfacesDisplayCodecs::readBodyTemplate6Fields;
+            case "BodyTemplate3":
+                return InterfacesDisplayCodecs::readBodyTemplate3Fields;
+            case "BodyTemplate2":
+                return InterfacesDisplayCodecs::readBodyTemplate2Fields;
+            case "BodyTemplate1":
+                return InterfacesDisplayCodecs::readBodyTemplate1Fields;
+            default:
+                return null;
+        }
+    }
+
+    static void writeTemplate(JsonGenerator generator, com.amazon.ask.model.interfaces.display.Template value) throws IOException {
+        switch (String.valueOf(value.getType())) {
+            case "ListTemplate2":
+                writeListTemplate2(generator, (com.amazon.ask.model.interfaces.display.ListTemplate2) value);
+                break;
+            case "ListTemplate1":
+                writeListTemplate1(generator, (com.amazon.ask.model.interfaces.display.ListTemplate1) value);
+                break;
+            case "BodyTemplate7":
+                writeBodyTemplate7(generator, (com.amazon.ask.model.interfaces.display.BodyTemplate7) value);
+                break;
+            case "BodyTemplate6":
+                writeBodyTemplate6(generator, (com.amazon.ask.model.interfaces.display.BodyTemplate6) value);
+                break;
+            case "BodyTemplate3":
+                writeBodyTemplate3(generator, (com.amazon.ask.model.interfaces.display.BodyTemplate3) value);
+                break;
+            case "BodyTemplate2":
+                writeBodyTemplate2(generator, (com.amazon.ask.model.interfaces.display.BodyTemplate2) value);
+                break;
+            case "BodyTemplate1":
+                writeBodyTemplate1(generator, (com.amazon.ask.model.interfaces.display.BodyTemplate1) value);
+                break;
+            default:
+                generator.writeObject(value);
+        }
+    }
+
+    static com.amazon.ask.model.interfaces.display.TextContent readTextContent(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.display.TextContent.Builder builder = com.amazon.ask.model.interfaces.display.TextContent.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "primaryText":
+                    builder.withPrimaryText(readTextField(parser));
+                    break;
+                case "secondaryText":
+                    builder.withSecondaryText(readTextField(parser));
+                    break;
+                case "tertiaryText":
+                    builder.withTertiaryText(readTextField(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeTextContent(JsonGenerator generator, com.amazon.ask.model.interfaces.display.TextContent value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "primaryText", value.getPrimaryText(), InterfacesDisplayCodecs::writeTextField);
+        JsonCodecSupport.writeField(generator, "secondaryText", value.getSecondaryText(), InterfacesDisplayCodecs::writeTextField);
+        JsonCodecSupport.writeField(generator, "tertiaryText", value.getTertiaryText(), InterfacesDisplayCodecs::writeTextField);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.display.TextField readTextField(JsonParser parser) throws IOException {
+        return JsonCodecSupport.readPolymorphic(parser, "type", InterfacesDisplayCodecs::textFieldSubtype);
+    }
+
+    private static JsonCodec.Reader<? extends com.amazon.ask.model.interfaces.display.TextField> textFieldSubtype(String type) {
+        switch (type) {
+            case "RichText":
+                return InterfacesDisplayCodecs::readRichTextFields;
+            case "PlainText":
+                return InterfacesDisplayCodecs::readPlainTextFields;
+            default:
+                return null;
+        }
+    }
+
+    static void writeTextField(JsonGenerator generator, com.amazon.ask.model.interfaces.display.TextField value) throws IOException {
+        switch (String.valueOf(value.getType())) {
+            case "RichText":
+                writeRichText(generator, (com.amazon.ask.model.interfaces.display.RichText) value);
+                break;
+            case "PlainText":
+                writePlainText(generator, (com.amazon.ask.model.interfaces.display.PlainText) value);
+                break;
+            default:
+                generator.writeObject(value);
+        }
+    }
+}
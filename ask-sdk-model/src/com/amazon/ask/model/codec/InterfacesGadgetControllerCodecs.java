@@ -0,0 +1,71 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.interfaces.gadgetController.
+ */
+final class InterfacesGadgetControllerCodecs {
+
+    private InterfacesGadgetControllerCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.interfaces.gadgetController.SetLightDirective.class, InterfacesGadgetControllerCodecs::readSetLightDirective, InterfacesGadgetControllerCodecs::writeSetLightDirective);
+    }
+
+    static com.amazon.ask.model.interfaces.gadgetController.SetLightDirective readSetLightDirective(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readSetLightDirectiveFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.gadgetController.SetLightDirective readSetLightDirectiveFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.gadgetController.SetLightDirective.Builder builder = com.amazon.ask.model.interfaces.gadgetController.SetLightDirective.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "version":
+                    builder.withVersion(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "targetGadgets":
+                    builder.withTargetGadgets(JsonCodecSupport.readList(parser, JsonCodecSupport::readString));
+                    break;
+                case "parameters":
+                    builder.withParameters(ServicesGadgetControllerCodecs.readSetLightParameters(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSetLightDirective(JsonGenerator generator, com.amazon.ask.model.interfaces.gadgetController.SetLightDirective value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "GadgetController.SetLight");
+        JsonCodecSupport.writeField(generator, "version", value.getVersion(), JsonCodecSupport::writeInteger);
+        JsonCodecSupport.writeField(generator, "targetGadgets", value.getTargetGadgets(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, JsonCodecSupport::writeString));
+        JsonCodecSupport.writeField(generator, "parameters", value.getParameters(), ServicesGadgetControllerCodecs::writeSetLightParameters);
+        generator.writeEndObject();
+    }
+}
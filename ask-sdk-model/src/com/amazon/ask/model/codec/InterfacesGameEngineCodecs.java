@@ -0,0 +1,147 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.interfaces.gameEngine.
+ */
+final class InterfacesGameEngineCodecs {
+
+    private InterfacesGameEngineCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.interfaces.gameEngine.InputHandlerEventRequest.class, InterfacesGameEngineCodecs::readInputHandlerEventRequest, InterfacesGameEngineCodecs::writeInputHandlerEventRequest);
+        registry.withCodec(com.amazon.ask.model.interfaces.gameEngine.StartInputHandlerDirective.class, InterfacesGameEngineCodecs::readStartInputHandlerDirective, InterfacesGameEngineCodecs::writeStartInputHandlerDirective);
+        registry.withCodec(com.amazon.ask.model.interfaces.gameEngine.StopInputHandlerDirective.class, InterfacesGameEngineCodecs::readStopInputHandlerDirective, InterfacesGameEngineCodecs::writeStopInputHandlerDirective);
+    }
+
+    static com.amazon.ask.model.interfaces.gameEngine.InputHandlerEventRequest readInputHandlerEventRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readInputHandlerEventRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.gameEngine.InputHandlerEventRequest readInputHandlerEventRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.gameEngine.InputHandlerEventRequest.Builder builder = com.amazon.ask.model.interfaces.gameEngine.InputHandlerEventRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                case "originatingRequestId":
+                    builder.withOriginatingRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "events":
+                    builder.withEvents(JsonCodecSupport.readList(parser, ServicesGameEngineCodecs::readInputHandlerEvent));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeInputHandlerEventRequest(JsonGenerator generator, com.amazon.ask.model.interfaces.gameEngine.InputHandlerEventRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "GameEngine.InputHandlerEvent");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        JsonCodecSupport.writeStringField(generator, "originatingRequestId", value.getOriginatingRequestId());
+        JsonCodecSupport.writeField(generator, "events", value.getEvents(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, ServicesGameEngineCodecs::writeInputHandlerEvent));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.gameEngine.StartInputHandlerDirective readStartInputHandlerDirective(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readStartInputHandlerDirectiveFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.gameEngine.StartInputHandlerDirective readStartInputHandlerDirectiveFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.gameEngine.StartInputHandlerDirective.Builder builder = com.amazon.ask.model.interfaces.gameEngine.StartInputHandlerDirective.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "timeout":
+                    builder.withTimeout(JsonCodecSupport.readLong(parser));
+                    break;
+                case "proxies":
+                    builder.withProxies(JsonCodecSupport.readList(parser, JsonCodecSupport::readString));
+                    break;
+                case "recognizers":
+                    builder.withRecognizers(JsonCodecSupport.readMap(parser, ServicesGameEngineCodecs::readRecognizer));
+                    break;
+                case "events":
+                    builder.withEvents(JsonCodecSupport.readMap(parser, ServicesGameEngineCodecs::readEvent));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeStartInputHandlerDirective(JsonGenerator generator, com.amazon.ask.model.interfaces.gameEngine.StartInputHandlerDirective value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "GameEngine.StartInputHandler");
+        JsonCodecSupport.writeField(generator, "timeout", value.getTimeout(), JsonCodecSupport::writeLong);
+        JsonCodecSupport.writeField(generator, "proxies", value.getProxies(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, JsonCodecSupport::writeString));
+        JsonCodecSupport.writeField(generator, "recognizers", value.getRecognizers(), (g0, v0) -> JsonCodecSupport.writeMap(g0, v0, ServicesGameEngineCodecs::writeRecognizer));
+        JsonCodecSupport.writeField(generator, "events", value.getEvents(), (g0, v0) -> JsonCodecSupport.writeMap(g0, v0, ServicesGameEngineCodecs::writeEvent));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.gameEngine.StopInputHandlerDirective readStopInputHandlerDirective(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readStopInputHandlerDirectiveFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.gameEngine.StopInputHandlerDirective readStopInputHandlerDirectiveFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.gameEngine.StopInputHandlerDirective.Builder builder = com.amazon.ask.model.interfaces.gameEngine.StopInputHandlerDirective.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "originatingRequestId":
+                    builder.withOriginatingRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeStopInputHandlerDirective(JsonGenerator generator, com.amazon.ask.model.interfaces.gameEngine.StopInputHandlerDirective value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "GameEngine.StopInputHandler");
+        JsonCodecSupport.writeStringField(generator, "originatingRequestId", value.getOriginatingRequestId());
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,277 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.interfaces.geolocation.
+ */
+final class InterfacesGeolocationCodecs {
+
+    private InterfacesGeolocationCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.interfaces.geolocation.Access.class, InterfacesGeolocationCodecs::readAccess, InterfacesGeolocationCodecs::writeAccess);
+        registry.withCodec(com.amazon.ask.model.interfaces.geolocation.Altitude.class, InterfacesGeolocationCodecs::readAltitude, InterfacesGeolocationCodecs::writeAltitude);
+        registry.withCodec(com.amazon.ask.model.interfaces.geolocation.Coordinate.class, InterfacesGeolocationCodecs::readCoordinate, InterfacesGeolocationCodecs::writeCoordinate);
+        registry.withCodec(com.amazon.ask.model.interfaces.geolocation.GeolocationInterface.class, InterfacesGeolocationCodecs::readGeolocationInterface, InterfacesGeolocationCodecs::writeGeolocationInterface);
+        registry.withCodec(com.amazon.ask.model.interfaces.geolocation.GeolocationState.class, InterfacesGeolocationCodecs::readGeolocationState, InterfacesGeolocationCodecs::writeGeolocationState);
+        registry.withCodec(com.amazon.ask.model.interfaces.geolocation.Heading.class, InterfacesGeolocationCodecs::readHeading, InterfacesGeolocationCodecs::writeHeading);
+        registry.withCodec(com.amazon.ask.model.interfaces.geolocation.LocationServices.class, InterfacesGeolocationCodecs::readLocationServices, InterfacesGeolocationCodecs::writeLocationServices);
+        registry.withCodec(com.amazon.ask.model.interfaces.geolocation.Speed.class, InterfacesGeolocationCodecs::readSpeed, InterfacesGeolocationCodecs::writeSpeed);
+        registry.withCodec(com.amazon.ask.model.interfaces.geolocation.Status.class, InterfacesGeolocationCodecs::readStatus, InterfacesGeolocationCodecs::writeStatus);
+    }
+
+    static com.amazon.ask.model.interfaces.geolocation.Access readAccess(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.geolocation.Access.fromValue(value) : null;
+    }
+
+    static void writeAccess(JsonGenerator generator, com.amazon.ask.model.interfaces.geolocation.Access value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.interfaces.geolocation.Altitude readAltitude(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.geolocation.Altitude.Builder builder = com.amazon.ask.model.interfaces.geolocation.Altitude.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "altitudeInMeters":
+                    builder.withAltitudeInMeters(JsonCodecSupport.readDouble(parser));
+                    break;
+                case "accuracyInMeters":
+                    builder.withAccuracyInMeters(JsonCodecSupport.readDouble(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeAltitude(JsonGenerator generator, com.amazon.ask.model.interfaces.geolocation.Altitude value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "altitudeInMeters", value.getAltitudeInMeters(), JsonCodecSupport::writeDouble);
+        JsonCodecSupport.writeField(generator, "accuracyInMeters", value.getAccuracyInMeters(), JsonCodecSupport::writeDouble);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.geolocation.Coordinate readCoordinate(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.geolocation.Coordinate.Builder builder = com.amazon.ask.model.interfaces.geolocation.Coordinate.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "latitudeInDegrees":
+                    builder.withLatitudeInDegrees(JsonCodecSupport.readDouble(parser));
+                    break;
+                case "longitudeInDegrees":
+                    builder.withLongitudeInDegrees(JsonCodecSupport.readDouble(parser));
+                    break;
+                case "accuracyInMeters":
+                    builder.withAccuracyInMeters(JsonCodecSupport.readDouble(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeCoordinate(JsonGenerator generator, com.amazon.ask.model.interfaces.geolocation.Coordinate value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "latitudeInDegrees", value.getLatitudeInDegrees(), JsonCodecSupport::writeDouble);
+        JsonCodecSupport.writeField(generator, "longitudeInDegrees", value.getLongitudeInDegrees(), JsonCodecSupport::writeDouble);
+        JsonCodecSupport.writeField(generator, "accuracyInMeters", value.getAccuracyInMeters(), JsonCodecSupport::writeDouble);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.geolocation.GeolocationInterface readGeolocationInterface(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.geolocation.GeolocationInterface.Builder builder = com.amazon.ask.model.interfaces.geolocation.GeolocationInterface.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeGeolocationInterface(JsonGenerator generator, com.amazon.ask.model.interfaces.geolocation.GeolocationInterface value) throws IOException {
+        generator.writeStartObject();
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.geolocation.GeolocationState readGeolocationState(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.geolocation.GeolocationState.Builder builder = com.amazon.ask.model.interfaces.geolocation.GeolocationState.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readString(parser));
+                    break;
+                case "coordinate":
+                    builder.withCoordinate(readCoordinate(parser));
+                    break;
+                case "altitude":
+                    builder.withAltitude(readAltitude(parser));
+                    break;
+                case "heading":
+                    builder.withHeading(readHeading(parser));
+                    break;
+                case "speed":
+                    builder.withSpeed(readSpeed(parser));
+                    break;
+                case "locationServices":
+                    builder.withLocationServices(readLocationServices(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeGeolocationState(JsonGenerator generator, com.amazon.ask.model.interfaces.geolocation.GeolocationState value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "timestamp", value.getTimestamp());
+        JsonCodecSupport.writeField(generator, "coordinate", value.getCoordinate(), InterfacesGeolocationCodecs::writeCoordinate);
+        JsonCodecSupport.writeField(generator, "altitude", value.getAltitude(), InterfacesGeolocationCodecs::writeAltitude);
+        JsonCodecSupport.writeField(generator, "heading", value.getHeading(), InterfacesGeolocationCodecs::writeHeading);
+        JsonCodecSupport.writeField(generator, "speed", value.getSpeed(), InterfacesGeolocationCodecs::writeSpeed);
+        JsonCodecSupport.writeField(generator, "locationServices", value.getLocationServices(), InterfacesGeolocationCodecs::writeLocationServices);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.geolocation.Heading readHeading(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.geolocation.Heading.Builder builder = com.amazon.ask.model.interfaces.geolocation.Heading.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "directionInDegrees":
+                    builder.withDirectionInDegrees(JsonCodecSupport.readDouble(parser));
+                    break;
+                case "accuracyInDegrees":
+                    builder.withAccuracyInDegrees(JsonCodecSupport.readDouble(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeHeading(JsonGenerator generator, com.amazon.ask.model.interfaces.geolocation.Heading value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "directionInDegrees", value.getDirectionInDegrees(), JsonCodecSupport::writeDouble);
+        JsonCodecSupport.writeField(generator, "accuracyInDegrees", value.getAccuracyInDegrees(), JsonCodecSupport::writeDouble);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.geolocation.LocationServices readLocationServices(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.geolocation.LocationServices.Builder builder = com.amazon.ask.model.interfaces.geolocation.LocationServices.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "status":
+                    builder.withStatus(readStatus(parser));
+                    break;
+                case "access":
+                    builder.withAccess(readAccess(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeLocationServices(JsonGenerator generator, com.amazon.ask.model.interfaces.geolocation.LocationServices value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "status", value.getStatus(), InterfacesGeolocationCodecs::writeStatus);
+        JsonCodecSupport.writeField(generator, "access", value.getAccess(), InterfacesGeolocationCodecs::writeAccess);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.geolocation.Speed readSpeed(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.geolocation.Speed.Builder builder = com.amazon.ask.model.interfaces.geolocation.Speed.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "speedInMetersPerSecond":
+                    builder.withSpeedInMetersPerSecond(JsonCodecSupport.readDouble(parser));
+                    break;
+                case "accuracyInMetersPerSecond":
+                    builder.withAccuracyInMetersPerSecond(JsonCodecSupport.readDouble(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSpeed(JsonGenerator generator, com.amazon.ask.model.interfaces.geolocation.Speed value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "speedInMetersPerSecond", value.getSpeedInMetersPerSecond(), JsonCodecSupport::writeDouble);
+        JsonCodecSupport.writeField(generator, "accuracyInMetersPerSecond", value.getAccuracyInMetersPerSecond(), JsonCodecSupport::writeDouble);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.geolocation.Status readStatus(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.geolocation.Status.fromValue(value) : null;
+    }
+
+    static void writeStatus(JsonGenerator generator, com.amazon.ask.model.interfaces.geolocation.Status value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+}
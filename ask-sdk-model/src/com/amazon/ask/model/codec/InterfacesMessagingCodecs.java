@@ -0,0 +1,75 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.interfaces.messaging.
+ */
+final class InterfacesMessagingCodecs {
+
+    private InterfacesMessagingCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.interfaces.messaging.MessageReceivedRequest.class, InterfacesMessagingCodecs::readMessageReceivedRequest, InterfacesMessagingCodecs::writeMessageReceivedRequest);
+    }
+
+    static com.amazon.ask.model.interfaces.messaging.MessageReceivedRequest readMessageReceivedRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readMessageReceivedRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.messaging.MessageReceivedRequest readMessageReceivedRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.messaging.MessageReceivedRequest.Builder builder = com.amazon.ask.model.interfaces.messaging.MessageReceivedRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                case "message":
+                    builder.withMessage(JsonCodecSupport.readMap(parser, JsonCodecSupport::readUntyped));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeMessageReceivedRequest(JsonGenerator generator, com.amazon.ask.model.interfaces.messaging.MessageReceivedRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Messaging.MessageReceived");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        JsonCodecSupport.writeField(generator, "message", value.getMessage(), (g0, v0) -> JsonCodecSupport.writeMap(g0, v0, JsonCodecSupport::writeUntyped));
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.interfaces.monetization.v1.
+ */
+final class InterfacesMonetizationV1Codecs {
+
+    private InterfacesMonetizationV1Codecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.interfaces.monetization.v1.InSkillProduct.class, InterfacesMonetizationV1Codecs::readInSkillProduct, InterfacesMonetizationV1Codecs::writeInSkillProduct);
+        registry.withCodec(com.amazon.ask.model.interfaces.monetization.v1.PurchaseResult.class, InterfacesMonetizationV1Codecs::readPurchaseResult, InterfacesMonetizationV1Codecs::writePurchaseResult);
+    }
+
+    static com.amazon.ask.model.interfaces.monetization.v1.InSkillProduct readInSkillProduct(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.monetization.v1.InSkillProduct.Builder builder = com.amazon.ask.model.interfaces.monetization.v1.InSkillProduct.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "productId":
+                    builder.withProductId(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeInSkillProduct(JsonGenerator generator, com.amazon.ask.model.interfaces.monetization.v1.InSkillProduct value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "productId", value.getProductId());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.monetization.v1.PurchaseResult readPurchaseResult(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.monetization.v1.PurchaseResult.fromValue(value) : null;
+    }
+
+    static void writePurchaseResult(JsonGenerator generator, com.amazon.ask.model.interfaces.monetization.v1.PurchaseResult value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+}
@@ -0,0 +1,179 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.interfaces.playbackcontroller.
+ */
+final class InterfacesPlaybackcontrollerCodecs {
+
+    private InterfacesPlaybackcontrollerCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.interfaces.playbackcontroller.NextCommandIssuedRequest.class, InterfacesPlaybackcontrollerCodecs::readNextCommandIssuedRequest, InterfacesPlaybackcontrollerCodecs::writeNextCommandIssuedRequest);
+        registry.withCodec(com.amazon.ask.model.interfaces.playbackcontroller.PauseCommandIssuedRequest.class, InterfacesPlaybackcontrollerCodecs::readPauseCommandIssuedRequest, InterfacesPlaybackcontrollerCodecs::writePauseCommandIssuedRequest);
+        registry.withCodec(com.amazon.ask.model.interfaces.playbackcontroller.PlayCommandIssuedRequest.class, InterfacesPlaybackcontrollerCodecs::readPlayCommandIssuedRequest, InterfacesPlaybackcontrollerCodecs::writePlayCommandIssuedRequest);
+        registry.withCodec(com.amazon.ask.model.interfaces.playbackcontroller.PreviousCommandIssuedRequest.class, InterfacesPlaybackcontrollerCodecs::readPreviousCommandIssuedRequest, InterfacesPlaybackcontrollerCodecs::writePreviousCommandIssuedRequest);
+    }
+
+    static com.amazon.ask.model.interfaces.playbackcontroller.NextCommandIssuedRequest readNextCommandIssuedRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readNextCommandIssuedRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.playbackcontroller.NextCommandIssuedRequest readNextCommandIssuedRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.playbackcontroller.NextCommandIssuedRequest.Builder builder = com.amazon.ask.model.interfaces.playbackcontroller.NextCommandIssuedRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeNextCommandIssuedRequest(JsonGenerator generator, com.amazon.ask.model.interfaces.playbackcontroller.NextCommandIssuedRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "PlaybackController.NextCommandIssued");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.playbackcontroller.PauseCommandIssuedRequest readPauseCommandIssuedRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readPauseCommandIssuedRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.playbackcontroller.PauseCommandIssuedRequest readPauseCommandIssuedRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.playbackcontroller.PauseCommandIssuedRequest.Builder builder = com.amazon.ask.model.interfaces.playbackcontroller.PauseCommandIssuedRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writePauseCommandIssuedRequest(JsonGenerator generator, com.amazon.ask.model.interfaces.playbackcontroller.PauseCommandIssuedRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "PlaybackController.PauseCommandIssued");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.playbackcontroller.PlayCommandIssuedRequest readPlayCommandIssuedRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readPlayCommandIssuedRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.playbackcontroller.PlayCommandIssuedRequest readPlayCommandIssuedRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.playbackcontroller.PlayCommandIssuedRequest.Builder builder = com.amazon.ask.model.interfaces.playbackcontroller.PlayCommandIssuedRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writePlayCommandIssuedRequest(JsonGenerator generator, com.amazon.ask.model.interfaces.playbackcontroller.PlayCommandIssuedRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "PlaybackController.PlayCommandIssued");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.playbackcontroller.PreviousCommandIssuedRequest readPreviousCommandIssuedRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readPreviousCommandIssuedRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.playbackcontroller.PreviousCommandIssuedRequest readPreviousCommandIssuedRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.playbackcontroller.PreviousCommandIssuedRequest.Builder builder = com.amazon.ask.model.interfaces.playbackcontroller.PreviousCommandIssuedRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writePreviousCommandIssuedRequest(JsonGenerator generator, com.amazon.ask.model.interfaces.playbackcontroller.PreviousCommandIssuedRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "PlaybackController.PreviousCommandIssued");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,191 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.interfaces.system.
+ */
+final class InterfacesSystemCodecs {
+
+    private InterfacesSystemCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.interfaces.system.Error.class, InterfacesSystemCodecs::readError, InterfacesSystemCodecs::writeError);
+        registry.withCodec(com.amazon.ask.model.interfaces.system.ErrorCause.class, InterfacesSystemCodecs::readErrorCause, InterfacesSystemCodecs::writeErrorCause);
+        registry.withCodec(com.amazon.ask.model.interfaces.system.ErrorType.class, InterfacesSystemCodecs::readErrorType, InterfacesSystemCodecs::writeErrorType);
+        registry.withCodec(com.amazon.ask.model.interfaces.system.ExceptionEncounteredRequest.class, InterfacesSystemCodecs::readExceptionEncounteredRequest, InterfacesSystemCodecs::writeExceptionEncounteredRequest);
+        registry.withCodec(com.amazon.ask.model.interfaces.system.SystemState.class, InterfacesSystemCodecs::readSystemState, InterfacesSystemCodecs::writeSystemState);
+    }
+
+    static com.amazon.ask.model.interfaces.system.Error readError(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.system.Error.Builder builder = com.amazon.ask.model.interfaces.system.Error.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "type":
+                    builder.withType(readErrorType(parser));
+                    break;
+                case "message":
+                    builder.withMessage(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeError(JsonGenerator generator, com.amazon.ask.model.interfaces.system.Error value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "type", value.getType(), InterfacesSystemCodecs::writeErrorType);
+        JsonCodecSupport.writeStringField(generator, "message", value.getMessage());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.system.ErrorCause readErrorCause(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.system.ErrorCause.Builder builder = com.amazon.ask.model.interfaces.system.ErrorCause.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeErrorCause(JsonGenerator generator, com.amazon.ask.model.interfaces.system.ErrorCause value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.system.ErrorType readErrorType(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.system.ErrorType.fromValue(value) : null;
+    }
+
+    static void writeErrorType(JsonGenerator generator, com.amazon.ask.model.interfaces.system.ErrorType value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.interfaces.system.ExceptionEncounteredRequest readExceptionEncounteredRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readExceptionEncounteredRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.system.ExceptionEncounteredRequest readExceptionEncounteredRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.system.ExceptionEncounteredRequest.Builder builder = com.amazon.ask.model.interfaces.system.ExceptionEncounteredRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                case "error":
+                    builder.withError(readError(parser));
+                    break;
+                case "cause":
+                    builder.withCause(readErrorCause(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeExceptionEncounteredRequest(JsonGenerator generator, com.amazon.ask.model.interfaces.system.ExceptionEncounteredRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "System.ExceptionEncountered");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        JsonCodecSupport.writeField(generator, "error", value.getError(), InterfacesSystemCodecs::writeError);
+        JsonCodecSupport.writeField(generator, "cause", value.getCause(), InterfacesSystemCodecs::writeErrorCause);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.system.SystemState readSystemState(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.system.SystemState.Builder builder = com.amazon.ask.model.interfaces.system.SystemState.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "application":
+                    builder.withApplication(ModelCodecs.readApplication(parser));
+                    break;
+                case "user":
+                    builder.withUser(ModelCodecs.readUser(parser));
+                    break;
+                case "device":
+                    builder.withDevice(ModelCodecs.readDevice(parser));
+                    break;
+                case "person":
+                    builder.withPerson(ModelCodecs.readPerson(parser));
+                    break;
+                case "apiEndpoint":
+                    builder.withApiEndpoint(JsonCodecSupport.readString(parser));
+                    break;
+                case "apiAccessToken":
+                    builder.withApiAccessToken(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSystemState(JsonGenerator generator, com.amazon.ask.model.interfaces.system.SystemState value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "application", value.getApplication(), ModelCodecs::writeApplication);
+        JsonCodecSupport.writeField(generator, "user", value.getUser(), ModelCodecs::writeUser);
+        JsonCodecSupport.writeField(generator, "device", value.getDevice(), ModelCodecs::writeDevice);
+        JsonCodecSupport.writeField(generator, "person", value.getPerson(), ModelCodecs::writePerson);
+        JsonCodecSupport.writeStringField(generator, "apiEndpoint", value.getApiEndpoint());
+        JsonCodecSupport.writeStringField(generator, "apiAccessToken", value.getApiAccessToken());
+        generator.writeEndObject();
+    }
+}
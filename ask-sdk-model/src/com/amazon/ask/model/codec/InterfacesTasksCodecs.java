@@ -0,0 +1,67 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.interfaces.tasks.
+ */
+final class InterfacesTasksCodecs {
+
+    private InterfacesTasksCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.interfaces.tasks.CompleteTaskDirective.class, InterfacesTasksCodecs::readCompleteTaskDirective, InterfacesTasksCodecs::writeCompleteTaskDirective);
+    }
+
+    static com.amazon.ask.model.interfaces.tasks.CompleteTaskDirective readCompleteTaskDirective(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readCompleteTaskDirectiveFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.tasks.CompleteTaskDirective readCompleteTaskDirectiveFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.tasks.CompleteTaskDirective.Builder builder = com.amazon.ask.model.interfaces.tasks.CompleteTaskDirective.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "status":
+                    builder.withStatus(ModelCodecs.readStatus(parser));
+                    break;
+                case "result":
+                    builder.withResult(JsonCodecSupport.readMap(parser, JsonCodecSupport::readUntyped));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeCompleteTaskDirective(JsonGenerator generator, com.amazon.ask.model.interfaces.tasks.CompleteTaskDirective value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Tasks.CompleteTask");
+        JsonCodecSupport.writeField(generator, "status", value.getStatus(), ModelCodecs::writeStatus);
+        JsonCodecSupport.writeField(generator, "result", value.getResult(), (g0, v0) -> JsonCodecSupport.writeMap(g0, v0, JsonCodecSupport::writeUntyped));
+        generator.writeEndObject();
+    }
+}
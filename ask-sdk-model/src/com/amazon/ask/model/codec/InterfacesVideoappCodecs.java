@@ -0,0 +1,145 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.interfaces.videoapp.
+ */
+final class InterfacesVideoappCodecs {
+
+    private InterfacesVideoappCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.interfaces.videoapp.LaunchDirective.class, InterfacesVideoappCodecs::readLaunchDirective, InterfacesVideoappCodecs::writeLaunchDirective);
+        registry.withCodec(com.amazon.ask.model.interfaces.videoapp.Metadata.class, InterfacesVideoappCodecs::readMetadata, InterfacesVideoappCodecs::writeMetadata);
+        registry.withCodec(com.amazon.ask.model.interfaces.videoapp.VideoAppInterface.class, InterfacesVideoappCodecs::readVideoAppInterface, InterfacesVideoappCodecs::writeVideoAppInterface);
+        registry.withCodec(com.amazon.ask.model.interfaces.videoapp.VideoItem.class, InterfacesVideoappCodecs::readVideoItem, InterfacesVideoappCodecs::writeVideoItem);
+    }
+
+    static com.amazon.ask.model.interfaces.videoapp.LaunchDirective readLaunchDirective(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readLaunchDirectiveFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.videoapp.LaunchDirective readLaunchDirectiveFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.videoapp.LaunchDirective.Builder builder = com.amazon.ask.model.interfaces.videoapp.LaunchDirective.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "videoItem":
+                    builder.withVideoItem(readVideoItem(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeLaunchDirective(JsonGenerator generator, com.amazon.ask.model.interfaces.videoapp.LaunchDirective value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "VideoApp.Launch");
+        JsonCodecSupport.writeField(generator, "videoItem", value.getVideoItem(), InterfacesVideoappCodecs::writeVideoItem);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.videoapp.Metadata readMetadata(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.videoapp.Metadata.Builder builder = com.amazon.ask.model.interfaces.videoapp.Metadata.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "title":
+                    builder.withTitle(JsonCodecSupport.readString(parser));
+                    break;
+                case "subtitle":
+                    builder.withSubtitle(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeMetadata(JsonGenerator generator, com.amazon.ask.model.interfaces.videoapp.Metadata value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "title", value.getTitle());
+        JsonCodecSupport.writeStringField(generator, "subtitle", value.getSubtitle());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.videoapp.VideoAppInterface readVideoAppInterface(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.videoapp.VideoAppInterface.Builder builder = com.amazon.ask.model.interfaces.videoapp.VideoAppInterface.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeVideoAppInterface(JsonGenerator generator, com.amazon.ask.model.interfaces.videoapp.VideoAppInterface value) throws IOException {
+        generator.writeStartObject();
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.videoapp.VideoItem readVideoItem(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.videoapp.VideoItem.Builder builder = com.amazon.ask.model.interfaces.videoapp.VideoItem.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "source":
+                    builder.withSource(JsonCodecSupport.readString(parser));
+                    break;
+                case "metadata":
+                    builder.withMetadata(readMetadata(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeVideoItem(JsonGenerator generator, com.amazon.ask.model.interfaces.videoapp.VideoItem value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "source", value.getSource());
+        JsonCodecSupport.writeField(generator, "metadata", value.getMetadata(), InterfacesVideoappCodecs::writeMetadata);
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.interfaces.viewport.apl.
+ */
+final class InterfacesViewportAplCodecs {
+
+    private InterfacesViewportAplCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.interfaces.viewport.apl.CurrentConfiguration.class, InterfacesViewportAplCodecs::readCurrentConfiguration, InterfacesViewportAplCodecs::writeCurrentConfiguration);
+        registry.withCodec(com.amazon.ask.model.interfaces.viewport.apl.ViewportConfiguration.class, InterfacesViewportAplCodecs::readViewportConfiguration, InterfacesViewportAplCodecs::writeViewportConfiguration);
+    }
+
+    static com.amazon.ask.model.interfaces.viewport.apl.CurrentConfiguration readCurrentConfiguration(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.viewport.apl.CurrentConfiguration.Builder builder = com.amazon.ask.model.interfaces.viewport.apl.CurrentConfiguration.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "mode":
+                    builder.withMode(InterfacesViewportCodecs.readMode(parser));
+                    break;
+                case "video":
+                    builder.withVideo(InterfacesViewportCodecs.readViewportVideo(parser));
+                    break;
+                case "size":
+                    builder.withSize(InterfacesViewportSizeCodecs.readViewportSize(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeCurrentConfiguration(JsonGenerator generator, com.amazon.ask.model.interfaces.viewport.apl.CurrentConfiguration value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "mode", value.getMode(), InterfacesViewportCodecs::writeMode);
+        JsonCodecSupport.writeField(generator, "video", value.getVideo(), InterfacesViewportCodecs::writeViewportVideo);
+        JsonCodecSupport.writeField(generator, "size", value.getSize(), InterfacesViewportSizeCodecs::writeViewportSize);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.viewport.apl.ViewportConfiguration readViewportConfiguration(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.viewport.apl.ViewportConfiguration.Builder builder = com.amazon.ask.model.interfaces.viewport.apl.ViewportConfiguration.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "current":
+                    builder.withCurrent(readCurrentConfiguration(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeViewportConfiguration(JsonGenerator generator, com.amazon.ask.model.interfaces.viewport.apl.ViewportConfiguration value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "current", value.getCurrent(), InterfacesViewportAplCodecs::writeCurrentConfiguration);
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.interfaces.viewport.aplt.
+ */
+final class InterfacesViewportApltCodecs {
+
+    private InterfacesViewportApltCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.interfaces.viewport.aplt.CharacterFormat.class, InterfacesViewportApltCodecs::readCharacterFormat, InterfacesViewportApltCodecs::writeCharacterFormat);
+        registry.withCodec(com.amazon.ask.model.interfaces.viewport.aplt.InterSegment.class, InterfacesViewportApltCodecs::readInterSegment, InterfacesViewportApltCodecs::writeInterSegment);
+        registry.withCodec(com.amazon.ask.model.interfaces.viewport.aplt.ViewportProfile.class, InterfacesViewportApltCodecs::readViewportProfile, InterfacesViewportApltCodecs::writeViewportProfile);
+    }
+
+    static com.amazon.ask.model.interfaces.viewport.aplt.CharacterFormat readCharacterFormat(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.viewport.aplt.CharacterFormat.fromValue(value) : null;
+    }
+
+    static void writeCharacterFormat(JsonGenerator generator, com.amazon.ask.model.interfaces.viewport.aplt.CharacterFormat value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.interfaces.viewport.aplt.InterSegment readInterSegment(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.viewport.aplt.InterSegment.Builder builder = com.amazon.ask.model.interfaces.viewport.aplt.InterSegment.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "x":
+                    builder.withX(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "y":
+                    builder.withY(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "characters":
+                    builder.withCharacters(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeInterSegment(JsonGenerator generator, com.amazon.ask.model.interfaces.viewport.aplt.InterSegment value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "x", value.getX(), JsonCodecSupport::writeInteger);
+        JsonCodecSupport.writeField(generator, "y", value.getY(), JsonCodecSupport::writeInteger);
+        JsonCodecSupport.writeStringField(generator, "characters", value.getCharacters());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.viewport.aplt.ViewportProfile readViewportProfile(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.viewport.aplt.ViewportProfile.fromValue(value) : null;
+    }
+
+    static void writeViewportProfile(JsonGenerator generator, com.amazon.ask.model.interfaces.viewport.aplt.ViewportProfile value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+}
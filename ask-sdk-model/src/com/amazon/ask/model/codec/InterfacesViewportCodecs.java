@@ -0,0 +1,367 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodec;
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.interfaces.viewport.
+ */
+final class InterfacesViewportCodecs {
+
+    private InterfacesViewportCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.interfaces.viewport.APLTViewportState.class, InterfacesViewportCodecs::readAPLTViewportState, InterfacesViewportCodecs::writeAPLTViewportState);
+        registry.withCodec(com.amazon.ask.model.interfaces.viewport.APLViewportState.class, InterfacesViewportCodecs::readAPLViewportState, InterfacesViewportCodecs::writeAPLViewportState);
+        registry.withCodec(com.amazon.ask.model.interfaces.viewport.Experience.class, InterfacesViewportCodecs::readExperience, InterfacesViewportCodecs::writeExperience);
+        registry.withCodec(com.amazon.ask.model.interfaces.viewport.Keyboard.class, InterfacesViewportCodecs::readKeyboard, InterfacesViewportCodecs::writeKeyboard);
+        registry.withCodec(com.amazon.ask.model.interfaces.viewport.Mode.class, InterfacesViewportCodecs::readMode, InterfacesViewportCodecs::writeMode);
+        registry.withCodec(com.amazon.ask.model.interfaces.viewport.PresentationType.class, InterfacesViewportCodecs::readPresentationType, InterfacesViewportCodecs::writePresentationType);
+        registry.withCodec(com.amazon.ask.model.interfaces.viewport.Shape.class, InterfacesViewportCodecs::readShape, InterfacesViewportCodecs::writeShape);
+        registry.withCodec(com.amazon.ask.model.interfaces.viewport.Touch.class, InterfacesViewportCodecs::readTouch, InterfacesViewportCodecs::writeTouch);
+        registry.withCodec(com.amazon.ask.model.interfaces.viewport.TypedViewportState.class, InterfacesViewportCodecs::readTypedViewportState, InterfacesViewportCodecs::writeTypedViewportState);
+        registry.withCodec(com.amazon.ask.model.interfaces.viewport.ViewportState.class, InterfacesViewportCodecs::readViewportState, InterfacesViewportCodecs::writeViewportState);
+        registry.withCodec(com.amazon.ask.model.interfaces.viewport.ViewportStateVideo.class, InterfacesViewportCodecs::readViewportStateVideo, InterfacesViewportCodecs::writeViewportStateVideo);
+        registry.withCodec(com.amazon.ask.model.interfaces.viewport.ViewportVideo.class, InterfacesViewportCodecs::readViewportVideo, InterfacesViewportCodecs::writeViewportVideo);
+    }
+
+    static com.amazon.ask.model.interfaces.viewport.APLTViewportState readAPLTViewportState(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readAPLTViewportStateFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.viewport.APLTViewportState readAPLTViewportStateFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.viewport.APLTViewportState.Builder builder = com.amazon.ask.model.interfaces.viewport.APLTViewportState.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "id":
+                    builder.withId(JsonCodecSupport.readString(parser));
+                    break;
+                case "supportedProfiles":
+                    builder.withSupportedProfiles(JsonCodecSupport.readList(parser, InterfacesViewportApltCodecs::readViewportProfile));
+                    break;
+                case "lineLength":
+                    builder.withLineLength(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "lineCount":
+                    builder.withLineCount(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "characterFormat":
+                    builder.withCharacterFormat(InterfacesViewportApltCodecs.readCharacterFormat(parser));
+                    break;
+                case "interSegments":
+                    builder.withInterSegments(JsonCodecSupport.readList(parser, InterfacesViewportApltCodecs::readInterSegment));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeAPLTViewportState(JsonGenerator generator, com.amazon.ask.model.interfaces.viewport.APLTViewportState value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "APLT");
+        JsonCodecSupport.writeStringField(generator, "id", value.getId());
+        JsonCodecSupport.writeField(generator, "supportedProfiles", value.getSupportedProfiles(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, InterfacesViewportApltCodecs::writeViewportProfile));
+        JsonCodecSupport.writeField(generator, "lineLength", value.getLineLength(), JsonCodecSupport::writeInteger);
+        JsonCodecSupport.writeField(generator, "lineCount", value.getLineCount(), JsonCodecSupport::writeInteger);
+        JsonCodecSupport.writeField(generator, "characterFormat", value.getCharacterFormat(), InterfacesViewportApltCodecs::writeCharacterFormat);
+        JsonCodecSupport.writeField(generator, "interSegments", value.getInterSegments(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, InterfacesViewportApltCodecs::writeInterSegment));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.viewport.APLViewportState readAPLViewportState(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readAPLViewportStateFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.viewport.APLViewportState readAPLViewportStateFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.viewport.APLViewportState.Builder builder = com.amazon.ask.model.interfaces.viewport.APLViewportState.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "id":
+                    builder.withId(JsonCodecSupport.readString(parser));
+                    break;
+                case "shape":
+                    builder.withShape(readShape(parser));
+                    break;
+                case "dpi":
+                    builder.withDpi(JsonCodecSupport.readBigDecimal(parser));
+                    break;
+                case "presentationType":
+                    builder.withPresentationType(readPresentationType(parser));
+                    break;
+                case "canRotate":
+                    builder.withCanRotate(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "configuration":
+                    builder.withConfiguration(InterfacesViewportAplCodecs.readViewportConfiguration(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeAPLViewportState(JsonGenerator generator, com.amazon.ask.model.interfaces.viewport.APLViewportState value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "APL");
+        JsonCodecSupport.writeStringField(generator, "id", value.getId());
+        JsonCodecSupport.writeField(generator, "shape", value.getShape(), InterfacesViewportCodecs::writeShape);
+        JsonCodecSupport.writeField(generator, "dpi", value.getDpi(), JsonCodecSupport::writeBigDecimal);
+        JsonCodecSupport.writeField(generator, "presentationType", value.getPresentationType(), InterfacesViewportCodecs::writePresentationType);
+        JsonCodecSupport.writeField(generator, "canRotate", value.getCanRotate(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeField(generator, "configuration", value.getConfiguration(), InterfacesViewportAplCodecs::writeViewportConfiguration);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.viewport.Experience readExperience(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.viewport.Experience.Builder builder = com.amazon.ask.model.interfaces.viewport.Experience.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "arcMinuteWidth":
+                    builder.withArcMinuteWidth(JsonCodecSupport.readBigDecimal(parser));
+                    break;
+                case "arcMinuteHeight":
+                    builder.withArcMinuteHeight(JsonCodecSupport.readBigDecimal(parser));
+                    break;
+                case "canRotate":
+                    builder.withCanRotate(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "canResize":
+                    builder.withCanResize(JsonCodecSupport.readBoolean(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeExperience(JsonGenerator generator, com.amazon.ask.model.interfaces.viewport.Experience value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "arcMinuteWidth", value.getArcMinuteWidth(), JsonCodecSupport::writeBigDecimal);
+        JsonCodecSupport.writeField(generator, "arcMinuteHeight", value.getArcMinuteHeight(), JsonCodecSupport::writeBigDecimal);
+        JsonCodecSupport.writeField(generator, "canRotate", value.getCanRotate(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeField(generator, "canResize", value.getCanResize(), JsonCodecSupport::writeBoolean);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.viewport.Keyboard readKeyboard(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.viewport.Keyboard.fromValue(value) : null;
+    }
+
+    static void writeKeyboard(JsonGenerator generator, com.amazon.ask.model.interfaces.viewport.Keyboard value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.interfaces.viewport.Mode readMode(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.viewport.Mode.fromValue(value) : null;
+    }
+
+    static void writeMode(JsonGenerator generator, com.amazon.ask.model.interfaces.viewport.Mode value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.interfaces.viewport.PresentationType readPresentationType(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.viewport.PresentationType.fromValue(value) : null;
+    }
+
+    static void writePresentationType(JsonGenerator generator, com.amazon.ask.model.interfaces.viewport.PresentationType value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.interfaces.viewport.Shape readShape(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.viewport.Shape.fromValue(value) : null;
+    }
+
+    static void writeShape(JsonGenerator generator, com.amazon.ask.model.interfaces.viewport.Shape value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.interfaces.viewport.Touch readTouch(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.viewport.Touch.fromValue(value) : null;
+    }
+
+    static void writeTouch(JsonGenerator generator, com.amazon.ask.model.interfaces.viewport.Touch value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.interfaces.viewport.TypedViewportState readTypedViewportState(JsonParser parser) throws IOException {
+        return JsonCodecSupport.readPolymorphic(parser, "type", InterfacesViewportCodecs::typedViewportStateSubtype);
+    }
+
+    private static JsonCodec.Reader<? extends com.amazon.ask.model.interfaces.viewport.TypedViewportState> typedViewportStateSubtype(String type) {
+        switch (type) {
+            case "APL":
+                return InterfacesViewportCodecs::readAPLViewportStateFields;
+            case "APLT":
+                return InterfacesViewportCodecs::readAPLTViewportStateFields;
+            default:
+                return null;
+        }
+    }
+
+    static void writeTypedViewportState(JsonGenerator generator, com.amazon.ask.model.interfaces.viewport.TypedViewportState value) throws IOException {
+        switch (String.valueOf(value.getType())) {
+            case "APL":
+                writeAPLViewportState(generator, (com.amazon.ask.model.interfaces.viewport.APLViewportState) value);
+                break;
+            case "APLT":
+                writeAPLTViewportState(generator, (com.amazon.ask.model.interfaces.viewport.APLTViewportState) value);
+                break;
+            default:
+                generator.writeObject(value);
+        }
+    }
+
+    static com.amazon.ask.model.interfaces.viewport.ViewportState readViewportState(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.viewport.ViewportState.Builder builder = com.amazon.ask.model.interfaces.viewport.ViewportState.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "experiences":
+                    builder.withExperiences(JsonCodecSupport.readList(parser, InterfacesViewportCodecs::readExperience));
+                    break;
+                case "mode":
+                    builder.withMode(readMode(parser));
+                    break;
+                case "shape":
+                    builder.withShape(readShape(parser));
+                    break;
+                case "pixelWidth":
+                    builder.withPixelWidth(JsonCodecSupport.readBigDecimal(parser));
+                    break;
+                case "pixelHeight":
+                    builder.withPixelHeight(JsonCodecSupport.readBigDecimal(parser));
+                    break;
+                case "dpi":
+                    builder.withDpi(JsonCodecSupport.readBigDecimal(parser));
+                    break;
+                case "currentPixelWidth":
+                    builder.withCurrentPixelWidth(JsonCodecSupport.readBigDecimal(parser));
+                    break;
+                case "currentPixelHeight":
+                    builder.withCurrentPixelHeight(JsonCodecSupport.readBigDecimal(parser));
+                    break;
+                case "touch":
+                    builder.withTouch(JsonCodecSupport.readList(parser, InterfacesViewportCodecs::readTouch));
+                    break;
+                case "keyboard":
+                    builder.withKeyboard(JsonCodecSupport.readList(parser, InterfacesViewportCodecs::readKeyboard));
+                    break;
+                case "video":
+                    builder.withVideo(readViewportStateVideo(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeViewportState(JsonGenerator generator, com.amazon.ask.model.interfaces.viewport.ViewportState value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "experiences", value.getExperiences(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, InterfacesViewportCodecs::writeExperience));
+        JsonCodecSupport.writeField(generator, "mode", value.getMode(), InterfacesViewportCodecs::writeMode);
+        JsonCodecSupport.writeField(generator, "shape", value.getShape(), InterfacesViewportCodecs::writeShape);
+        JsonCodecSupport.writeField(generator, "pixelWidth", value.getPixelWidth(), JsonCodecSupport::writeBigDecimal);
+        JsonCodecSupport.writeField(generator, "pixelHeight", value.getPixelHeight(), JsonCodecSupport::writeBigDecimal);
+        JsonCodecSupport.writeField(generator, "dpi", value.getDpi(), JsonCodecSupport::writeBigDecimal);
+        JsonCodecSupport.writeField(generator, "currentPixelWidth", value.getCurrentPixelWidth(), JsonCodecSupport::writeBigDecimal);
+        JsonCodecSupport.writeField(generator, "currentPixelHeight", value.getCurrentPixelHeight(), JsonCodecSupport::writeBigDecimal);
+        JsonCodecSupport.writeField(generator, "touch", value.getTouch(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, InterfacesViewportCodecs::writeTouch));
+        JsonCodecSupport.writeField(generator, "keyboard", value.getKeyboard(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, InterfacesViewportCodecs::writeKeyboard));
+        JsonCodecSupport.writeField(generator, "video", value.getVideo(), InterfacesViewportCodecs::writeViewportStateVideo);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.viewport.ViewportStateVideo readViewportStateVideo(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.viewport.ViewportStateVideo.Builder builder = com.amazon.ask.model.interfaces.viewport.ViewportStateVideo.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "codecs":
+                    builder.withCodecs(JsonCodecSupport.readList(parser, InterfacesViewportVideoCodecs::readCodecs));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeViewportStateVideo(JsonGenerator generator, com.amazon.ask.model.interfaces.viewport.ViewportStateVideo value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "codecs", value.getCodecs(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, InterfacesViewportVideoCodecs::writeCodecs));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.viewport.ViewportVideo readViewportVideo(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.interfaces.viewport.ViewportVideo.Builder builder = com.amazon.ask.model.interfaces.viewport.ViewportVideo.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "codecs":
+                    builder.withCodecs(JsonCodecSupport.readList(parser, InterfacesViewportVideoCodecs::readCodecs));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeViewportVideo(JsonGenerator generator, com.amazon.ask.model.interfaces.viewport.ViewportVideo value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "codecs", value.getCodecs(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, InterfacesViewportVideoCodecs::writeCodecs));
+        generator.writeEndObject();
+    }
+}
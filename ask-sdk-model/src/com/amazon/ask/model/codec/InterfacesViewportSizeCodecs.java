@@ -0,0 +1,137 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodec;
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.interfaces.viewport.size.
+ */
+final class InterfacesViewportSizeCodecs {
+
+    private InterfacesViewportSizeCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.interfaces.viewport.size.ContinuousViewportSize.class, InterfacesViewportSizeCodecs::readContinuousViewportSize, InterfacesViewportSizeCodecs::writeContinuousViewportSize);
+        registry.withCodec(com.amazon.ask.model.interfaces.viewport.size.DiscreteViewportSize.class, InterfacesViewportSizeCodecs::readDiscreteViewportSize, InterfacesViewportSizeCodecs::writeDiscreteViewportSize);
+        registry.withCodec(com.amazon.ask.model.interfaces.viewport.size.ViewportSize.class, InterfacesViewportSizeCodecs::readViewportSize, InterfacesViewportSizeCodecs::writeViewportSize);
+    }
+
+    static com.amazon.ask.model.interfaces.viewport.size.ContinuousViewportSize readContinuousViewportSize(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readContinuousViewportSizeFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.viewport.size.ContinuousViewportSize readContinuousViewportSizeFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.viewport.size.ContinuousViewportSize.Builder builder = com.amazon.ask.model.interfaces.viewport.size.ContinuousViewportSize.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "minPixelWidth":
+                    builder.withMinPixelWidth(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "minPixelHeight":
+                    builder.withMinPixelHeight(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "maxPixelWidth":
+                    builder.withMaxPixelWidth(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "maxPixelHeight":
+                    builder.withMaxPixelHeight(JsonCodecSupport.readInteger(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeContinuousViewportSize(JsonGenerator generator, com.amazon.ask.model.interfaces.viewport.size.ContinuousViewportSize value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "CONTINUOUS");
+        JsonCodecSupport.writeField(generator, "minPixelWidth", value.getMinPixelWidth(), JsonCodecSupport::writeInteger);
+        JsonCodecSupport.writeField(generator, "minPixelHeight", value.getMinPixelHeight(), JsonCodecSupport::writeInteger);
+        JsonCodecSupport.writeField(generator, "maxPixelWidth", value.getMaxPixelWidth(), JsonCodecSupport::writeInteger);
+        JsonCodecSupport.writeField(generator, "maxPixelHeight", value.getMaxPixelHeight(), JsonCodecSupport::writeInteger);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.viewport.size.DiscreteViewportSize readDiscreteViewportSize(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readDiscreteViewportSizeFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.interfaces.viewport.size.DiscreteViewportSize readDiscreteViewportSizeFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.interfaces.viewport.size.DiscreteViewportSize.Builder builder = com.amazon.ask.model.interfaces.viewport.size.DiscreteViewportSize.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "pixelWidth":
+                    builder.withPixelWidth(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "pixelHeight":
+                    builder.withPixelHeight(JsonCodecSupport.readInteger(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeDiscreteViewportSize(JsonGenerator generator, com.amazon.ask.model.interfaces.viewport.size.DiscreteViewportSize value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "DISCRETE");
+        JsonCodecSupport.writeField(generator, "pixelWidth", value.getPixelWidth(), JsonCodecSupport::writeInteger);
+        JsonCodecSupport.writeField(generator, "pixelHeight", value.getPixelHeight(), JsonCodecSupport::writeInteger);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.interfaces.viewport.size.ViewportSize readViewportSize(JsonParser parser) throws IOException {
+        return JsonCodecSupport.readPolymorphic(parser, "type", InterfacesViewportSizeCodecs::viewportSizeSubtype);
+    }
+
+    private static JsonCodec.Reader<? extends com.amazon.ask.model.interfaces.viewport.size.ViewportSize> viewportSizeSubtype(String type) {
+        switch (type) {
+            case "CONTINUOUS":
+                return InterfacesViewportSizeCodecs::readContinuousViewportSizeFields;
+            case "DISCRETE":
+                return InterfacesViewportSizeCodecs::readDiscreteViewportSizeFields;
+            default:
+                return null;
+        }
+    }
+
+    static void writeViewportSize(JsonGenerator generator, com.amazon.ask.model.interfaces.viewport.size.ViewportSize value) throws IOException {
+        switch (String.valueOf(value.getType())) {
+            case "CONTINUOUS":
+                writeContinuousViewportSize(generator, (com.amazon.ask.model.interfaces.viewport.size.ContinuousViewportSize) value);
+                break;
+            case "DISCRETE":
+                writeDiscreteViewportSize(generator, (com.amazon.ask.model.interfaces.viewport.size.DiscreteViewportSize) value);
+                break;
+            default:
+                generator.writeObject(value);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.interfaces.viewport.video.
+ */
+final class InterfacesViewportVideoCodecs {
+
+    private InterfacesViewportVideoCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.interfaces.viewport.video.Codecs.class, InterfacesViewportVideoCodecs::readCodecs, InterfacesViewportVideoCodecs::writeCodecs);
+    }
+
+    static com.amazon.ask.model.interfaces.viewport.video.Codecs readCodecs(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.interfaces.viewport.video.Codecs.fromValue(value) : null;
+    }
+
+    static void writeCodecs(JsonGenerator generator, com.amazon.ask.model.interfaces.viewport.video.Codecs value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+}
@@ -0,0 +1,79 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodecProvider;
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+
+/**
+ * Provides the generated codecs of all the models, see GeneratedCodecSerializer.
+ */
+public final class ModelCodecProvider implements JsonCodecProvider {
+
+    @Override
+    public void registerCodecs(JsonCodecRegistry.Builder registry) {
+        ModelCodecs.register(registry);
+        CanfulfillCodecs.register(registry);
+        DialogCodecs.register(registry);
+        ErDynamicCodecs.register(registry);
+        EventsSkilleventsCodecs.register(registry);
+        InterfacesAlexaPresentationAplCodecs.register(registry);
+        InterfacesAlexaPresentationApltCodecs.register(registry);
+        InterfacesAlexaPresentationHtmlCodecs.register(registry);
+        InterfacesAmazonpayModelRequestCodecs.register(registry);
+        InterfacesAmazonpayModelResponseCodecs.register(registry);
+        InterfacesAmazonpayModelV1Codecs.register(registry);
+        InterfacesAmazonpayRequestCodecs.register(registry);
+        InterfacesAmazonpayResponseCodecs.register(registry);
+        InterfacesAmazonpayV1Codecs.register(registry);
+        InterfacesAudioplayerCodecs.register(registry);
+        InterfacesAutomotiveCodecs.register(registry);
+        InterfacesConnectionsCodecs.register(registry);
+        InterfacesConnectionsV1Codecs.register(registry);
+        InterfacesConnectionsEntitiesCodecs.register(registry);
+        InterfacesConnectionsRequestsCodecs.register(registry);
+        InterfacesCustomInterfaceControllerCodecs.register(registry);
+        InterfacesDisplayCodecs.register(registry);
+        InterfacesGadgetControllerCodecs.register(registry);
+        InterfacesGameEngineCodecs.register(registry);
+        InterfacesGeolocationCodecs.register(registry);
+        InterfacesMessagingCodecs.register(registry);
+        InterfacesMonetizationV1Codecs.register(registry);
+        InterfacesNavigationCodecs.register(registry);
+        InterfacesNavigationAssistanceCodecs.register(registry);
+        InterfacesPlaybackcontrollerCodecs.register(registry);
+        InterfacesSystemCodecs.register(registry);
+        InterfacesTasksCodecs.register(registry);
+        InterfacesVideoappCodecs.register(registry);
+        InterfacesViewportCodecs.register(registry);
+        InterfacesViewportAplCodecs.register(registry);
+        InterfacesViewportApltCodecs.register(registry);
+        InterfacesViewportSizeCodecs.register(registry);
+        InterfacesViewportVideoCodecs.register(registry);
+        ServicesDeviceAddressCodecs.register(registry);
+        ServicesDirectiveCodecs.register(registry);
+        ServicesEndpointEnumerationCodecs.register(registry);
+        ServicesGadgetControllerCodecs.register(registry);
+        ServicesGameEngineCodecs.register(registry);
+        ServicesListManagementCodecs.register(registry);
+        ServicesMonetizationCodecs.register(registry);
+        ServicesProactiveEventsCodecs.register(registry);
+        ServicesReminderManagementCodecs.register(registry);
+        ServicesSkillMessagingCodecs.register(registry);
+        ServicesUpsCodecs.register(registry);
+        SluEntityresolutionCodecs.register(registry);
+        UiCodecs.register(registry);
+    }
+}
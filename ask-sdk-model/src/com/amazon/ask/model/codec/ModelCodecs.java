@@ -0,0 +1,1326 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodec;
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.
+ */
+final class ModelCodecs {
+
+    private ModelCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.Application.class, ModelCodecs::readApplication, ModelCodecs::writeApplication);
+        registry.withCodec(com.amazon.ask.model.Cause.class, ModelCodecs::readCause, ModelCodecs::writeCause);
+        registry.withCodec(com.amazon.ask.model.ConnectionCompleted.class, ModelCodecs::readConnectionCompleted, ModelCodecs::writeConnectionCompleted);
+        registry.withCodec(com.amazon.ask.model.Context.class, ModelCodecs::readContext, ModelCodecs::writeContext);
+        registry.withCodec(com.amazon.ask.model.Device.class, ModelCodecs::readDevice, ModelCodecs::writeDevice);
+        registry.withCodec(com.amazon.ask.model.DialogState.class, ModelCodecs::readDialogState, ModelCodecs::writeDialogState);
+        registry.withCodec(com.amazon.ask.model.Directive.class, ModelCodecs::readDirective, ModelCodecs::writeDirective);
+        registry.withCodec(com.amazon.ask.model.Intent.class, ModelCodecs::readIntent, ModelCodecs::writeIntent);
+        registry.withCodec(com.amazon.ask.model.IntentConfirmationStatus.class, ModelCodecs::readIntentConfirmationStatus, ModelCodecs::writeIntentConfirmationStatus);
+        registry.withCodec(com.amazon.ask.model.IntentRequest.class, ModelCodecs::readIntentRequest, ModelCodecs::writeIntentRequest);
+        registry.withCodec(com.amazon.ask.model.LaunchRequest.class, ModelCodecs::readLaunchRequest, ModelCodecs::writeLaunchRequest);
+        registry.withCodec(com.amazon.ask.model.PermissionStatus.class, ModelCodecs::readPermissionStatus, ModelCodecs::writePermissionStatus);
+        registry.withCodec(com.amazon.ask.model.Permissions.class, ModelCodecs::readPermissions, ModelCodecs::writePermissions);
+        registry.withCodec(com.amazon.ask.model.Person.class, ModelCodecs::readPerson, ModelCodecs::writePerson);
+        registry.withCodec(com.amazon.ask.model.Request.class, ModelCodecs::readRequest, ModelCodecs::writeRequest);
+        registry.withCodec(com.amazon.ask.model.RequestEnvelope.class, ModelCodecs::readRequestEnvelope, ModelCodecs::writeRequestEnvelope);
+        registry.withCodec(com.amazon.ask.model.Response.class, ModelCodecs::readResponse, ModelCodecs::writeResponse);
+        registry.withCodec(com.amazon.ask.model.ResponseEnvelope.class, ModelCodecs::readResponseEnvelope, ModelCodecs::writeResponseEnvelope);
+        registry.withCodec(com.amazon.ask.model.Scope.class, ModelCodecs::readScope, ModelCodecs::writeScope);
+        registry.withCodec(com.amazon.ask.model.Session.class, ModelCodecs::readSession, ModelCodecs::writeSession);
+        registry.withCodec(com.amazon.ask.model.SessionEndedError.class, ModelCodecs::readSessionEndedError, ModelCodecs::writeSessionEndedError);
+        registry.withCodec(com.amazon.ask.model.SessionEndedErrorType.class, ModelCodecs::readSessionEndedErrorType, ModelCodecs::writeSessionEndedErrorType);
+        registry.withCodec(com.amazon.ask.model.SessionEndedReason.class, ModelCodecs::readSessionEndedReason, ModelCodecs::writeSessionEndedReason);
+        registry.withCodec(com.amazon.ask.model.SessionEndedRequest.class, ModelCodecs::readSessionEndedRequest, ModelCodecs::writeSessionEndedRequest);
+        registry.withCodec(com.amazon.ask.model.SessionResumedRequest.class, ModelCodecs::readSessionResumedRequest, ModelCodecs::writeSessionResumedRequest);
+        registry.withCodec(com.amazon.ask.model.Slot.class, ModelCodecs::readSlot, ModelCodecs::writeSlot);
+        registry.withCodec(com.amazon.ask.model.SlotConfirmationStatus.class, ModelCodecs::readSlotConfirmationStatus, ModelCodecs::writeSlotConfirmationStatus);
+        registry.withCodec(com.amazon.ask.model.Status.class, ModelCodecs::readStatus, ModelCodecs::writeStatus);
+        registry.withCodec(com.amazon.ask.model.SupportedInterfaces.class, ModelCodecs::readSupportedInterfaces, ModelCodecs::writeSupportedInterfaces);
+        registry.withCodec(com.amazon.ask.model.Task.class, ModelCodecs::readTask, ModelCodecs::writeTask);
+        registry.withCodec(com.amazon.ask.model.User.class, ModelCodecs::readUser, ModelCodecs::writeUser);
+    }
+
+    static com.amazon.ask.model.Application readApplication(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.Application.Builder builder = com.amazon.ask.model.Application.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "applicationId":
+                    builder.withApplicationId(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeApplication(JsonGenerator generator, com.amazon.ask.model.Application value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "applicationId", value.getApplicationId());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.Cause readCause(JsonParser parser) throws IOException {
+        return JsonCodecSupport.readPolymorphic(parser, "type", ModelCodecs::causeSubtype);
+    }
+
+    private static JsonCodec.Reader<? extends com.amazon.ask.model.Cause> causeSubtype(String type) {
+        switch (type) {
+            case "ConnectionCompleted":
+                return ModelCodecs::readConnectionCompletedFields;
+            default:
+                return null;
+        }
+    }
+
+    static void writeCause(JsonGenerator generator, com.amazon.ask.model.Cause value) throws IOException {
+        switch (String.valueOf(value.getType())) {
+            case "ConnectionCompleted":
+                writeConnectionCompleted(generator, (com.amazon.ask.model.ConnectionCompleted) value);
+                break;
+            default:
+                generator.writeObject(value);
+        }
+    }
+
+    static com.amazon.ask.model.ConnectionCompleted readConnectionCompleted(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readConnectionCompletedFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.ConnectionCompleted readConnectionCompletedFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.ConnectionCompleted.Builder builder = com.amazon.ask.model.ConnectionCompleted.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "token":
+                    builder.withToken(JsonCodecSupport.readString(parser));
+                    break;
+                case "status":
+                    builder.withStatus(readStatus(parser));
+                    break;
+                case "result":
+                    builder.withResult(JsonCodecSupport.readUntyped(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeConnectionCompleted(JsonGenerator generator, com.amazon.ask.model.ConnectionCompleted value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "ConnectionCompleted");
+        JsonCodecSupport.writeStringField(generator, "token", value.getToken());
+        JsonCodecSupport.writeField(generator, "status", value.getStatus(), ModelCodecs::writeStatus);
+        JsonCodecSupport.writeField(generator, "result", value.getResult(), JsonCodecSupport::writeUntyped);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.Context readContext(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.Context.Builder builder = com.amazon.ask.model.Context.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "System":
+                    builder.withSystem(InterfacesSystemCodecs.readSystemState(parser));
+                    break;
+                case "Alexa.Presentation.APL":
+                    builder.withAlexaPresentationAPL(InterfacesAlexaPresentationAplCodecs.readRenderedDocumentState(parser));
+                    break;
+                case "AudioPlayer":
+                    builder.withAudioPlayer(InterfacesAudioplayerCodecs.readAudioPlayerState(parser));
+                    break;
+                case "Automotive":
+                    builder.withAutomotive(InterfacesAutomotiveCodecs.readAutomotiveState(parser));
+                    break;
+                case "Display":
+                    builder.withDisplay(InterfacesDisplayCodecs.readDisplayState(parser));
+                    break;
+                case "Geolocation":
+                    builder.withGeolocation(InterfacesGeolocationCodecs.readGeolocationState(parser));
+                    break;
+                case "Viewport":
+                    builder.withViewport(InterfacesViewportCodecs.readViewportState(parser));
+                    break;
+                case "Viewports":
+                    builder.withViewports(JsonCodecSupport.readList(parser, InterfacesViewportCodecs::readTypedViewportState));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeContext(JsonGenerator generator, com.amazon.ask.model.Context value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "System", value.getSystem(), InterfacesSystemCodecs::writeSystemState);
+        JsonCodecSupport.writeField(generator, "Alexa.Presentation.APL", value.getAlexaPresentationAPL(), InterfacesAlexaPresentationAplCodecs::writeRenderedDocumentState);
+        JsonCodecSupport.writeField(generator, "AudioPlayer", value.getAudioPlayer(), InterfacesAudioplayerCodecs::writeAudioPlayerState);
+        JsonCodecSupport.writeField(generator, "Automotive", value.getAutomotive(), InterfacesAutomotiveCodecs::writeAutomotiveState);
+        JsonCodecSupport.writeField(generator, "Display", value.getDisplay(), InterfacesDisplayCodecs::writeDisplayState);
+        JsonCodecSupport.writeField(generator, "Geolocation", value.getGeolocation(), InterfacesGeolocationCodecs::writeGeolocationState);
+        JsonCodecSupport.writeField(generator, "Viewport", value.getViewport(), InterfacesViewportCodecs::writeViewportState);
+        JsonCodecSupport.writeField(generator, "Viewports", value.getViewports(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, InterfacesViewportCodecs::writeTypedViewportState));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.Device readDevice(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.Device.Builder builder = com.amazon.ask.model.Device.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "deviceId":
+                    builder.withDeviceId(JsonCodecSupport.readString(parser));
+                    break;
+                case "supportedInterfaces":
+                    builder.withSupportedInterfaces(readSupportedInterfaces(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeDevice(JsonGenerator generator, com.amazon.ask.model.Device value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "deviceId", value.getDeviceId());
+        JsonCodecSupport.writeField(generator, "supportedInterfaces", value.getSupportedInterfaces(), ModelCodecs::writeSupportedInterfaces);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.DialogState readDialogState(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.DialogState.fromValue(value) : null;
+    }
+
+    static void writeDialogState(JsonGenerator generator, com.amazon.ask.model.DialogState value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.Directive readDirective(JsonParser parser) throws IOException {
+        return JsonCodecSupport.readPolymorphic(parser, "type", ModelCodecs::directiveSubtype);
+    }
+
+    private static JsonCodec.Reader<? extends com.amazon.ask.model.Directive> directiveSubtype(String type) {
+        switch (type) {
+            case "CustomInterfaceController.StopEventHandler":
+                return InterfacesCustomInterfaceControllerCodecs::readStopEventHandlerDirectiveFields;
+            case "Navigation.Assistance.AnnounceRoadRegulation":
+                return InterfacesNavigationAssistanceCodecs::readAnnounceRoadRegulationFields;
+            case "Connections.SendRequest":
+                return InterfacesConnectionsCodecs::readSendRequestDirectiveFields;
+            case "Dialog.UpdateDynamicEntities":
+                return DialogCodecs::readDynamicEntitiesDirectiveFields;
+            case "CustomInterfaceController.StartEventHandler":
+                return InterfacesCustomInterfaceControllerCodecs::readStartEventHandlerDirectiveFields;
+            case "GadgetController.SetLight":
+                return InterfacesGadgetControllerCodecs::readSetLightDirectiveFields;
+            case "Dialog.Delegate":
+                return DialogCodecs::readDelegateDirectiveFields;
+            case "Dialog.ConfirmIntent":
+                return DialogCodecs::readConfirmIntentDirectiveFields;
+            case "CustomInterfaceController.SendDirective":
+                return InterfacesCustomInterfaceControllerCodecs::readSendDirectiveDirectiveFields;
+            case "Alexa.Presentation.HTML.HandleMessage":
+                return InterfacesAlexaPresentationHtmlCodecs::readHandleMessageDirectiveFields;
+            case "Dialog.ElicitSlot":
+                return DialogCodecs::readElicitSlotDirectiveFields;
+            case "Alexa.Presentation.HTML.Start":
+                return InterfacesAlexaPresentationHtmlCodecs::readStartDirectiveFields;
+            case "AudioPlayer.Stop":
+                return InterfacesAudioplayerCodecs::readStopDirectiveFields;
+            case "Dialog.ConfirmSlot":
+                return DialogCodecs::readConfirmSlotDirectiveFields;
+            case "AudioPlayer.Play":
+                return InterfacesAudioplayerCodecs::readPlayDirectiveFields;
+            case "Alexa.Presentation.APL.ExecuteCommands":
+                return InterfacesAlexaPresentationAplCodecs::readExecuteCommandsDirectiveFields;
+            case "Display.RenderTemplate":
+                return InterfacesDisplayCodecs::readRenderTemplateDirectiveFields;
+            case "Hint":
+                return InterfacesDisplayCodecs::readHintDirectiveFields;
+            case "Connections.StartConnection":
+                return InterfacesConnectionsV1Codecs::readStartConnectionDirectiveFields;
+            case "Alexa.Presentation.APLT.RenderDocument":
+                return InterfacesAlexaPresentationApltCodecs::readRenderDocumentDirectiveFields;
+            case "GameEngine.StartInputHandler":
+                return InterfacesGameEngineCodecs::readStartInputHandlerDirectiveFields;
+            case "VideoApp.Launch":
+                return InterfacesVideoappCodecs::readLaunchDirectiveFields;
+            case "Alexa.Presentation.APLT.ExecuteCommands":
+                return InterfacesAlexaPresentationApltCodecs::readExecuteCommandsDirectiveFields;
+            case "GameEngine.StopInputHandler":
+                return InterfacesGameEngineCodecs::readStopInputHandlerDirectiveFields;
+            case "Tasks.CompleteTask":
+                return InterfacesTasksCodecs::readCompleteTaskDirectiveFields;
+            case "Alexa.Presentation.APL.RenderDocument":
+                return InterfacesAlexaPresentationAplCodecs::readRenderDocumentDirectiveFields;
+            case "Connections.SendResponse":
+                return InterfacesConnectionsCodecs::readSendResponseDirectiveFields;
+            case "AudioPlayer.ClearQueue":
+                return InterfacesAudioplayerCodecs::readClearQueueDirectiveFields;
+            default:
+                return null;
+        }
+    }
+
+    static void writeDirective(JsonGenerator generator, com.amazon.ask.model.Directive value) throws IOException {
+        switch (String.valueOf(value.getType())) {
+            case "CustomInterfaceController.StopEventHandler":
+                InterfacesCustomInterfaceControllerCodecs.writeStopEventHandlerDirective(generator, (com.amazon.ask.model.interfaces.customInterfaceController.StopEventHandlerDirective) value);
+                break;
+            case "Navigation.Assistance.AnnounceRoadRegulation":
+                InterfacesNavigationAssistanceCodecs.writeAnnounceRoadRegulation(generator, (com.amazon.ask.model.interfaces.navigation.assistance.AnnounceRoadRegulation) value);
+                break;
+            case "Connections.SendRequest":
+                InterfacesConnectionsCodecs.writeSendRequestDirective(generator, (com.amazon.ask.model.interfaces.connections.SendRequestDirective) value);
+                break;
+            case "Dialog.UpdateDynamicEntities":
+                DialogCodecs.writeDynamicEntitiesDirective(generator, (com.amazon.ask.model.dialog.DynamicEntitiesDirective) value);
+                break;
+            case "CustomInterfaceController.StartEventHandler":
+                InterfacesCustomInterfaceControllerCodecs.writeStartEventHandlerDirective(generator, (com.amazon.ask.model.interfaces.customInterfaceController.StartEventHandlerDirective) value);
+                break;
+            case "GadgetController.SetLight":
+                InterfacesGadgetControllerCodecs.writeSetLightDirective(generator, (com.amazon.ask.model.interfaces.gadgetController.SetLightDirective) value);
+                break;
+            case "Dialog.Delegate":
+                DialogCodecs.writeDelegateDirective(generator, (com.amazon.ask.model.dialog.DelegateDirective) value);
+                break;
+            case "Dialog.ConfirmIntent":
+                DialogCodecs.writeConfirmIntentDirective(generator, (com.amazon.ask.model.dialog.ConfirmIntentDirective) value);
+                break;
+            case "CustomInterfaceController.SendDirective":
+                InterfacesCustomInterfaceControllerCodecs.writeSendDirectiveDirective(generator, (com.amazon.ask.model.interfaces.customInterfaceController.SendDirectiveDirective) value);
+                break;
+            case "Alexa.Presentation.HTML.HandleMessage":
+                InterfacesAlexaPresentationHtmlCodecs.writeHandleMessageDirective(generator, (com.amazon.ask.model.interfaces.alexa.presentation.html.HandleMessageDirective) value);
+                break;
+            case "Dialog.ElicitSlot":
+                DialogCodecs.writeElicitSlotDirective(generator, (com.amazon.ask.model.dialog.ElicitSlotDirective) value);
+                break;
+            case "Alexa.Presentation.HTML.Start":
+                InterfacesAlexaPresentationHtmlCodecs.writeStartDirective(generator, (com.amazon.ask.model.interfaces.alexa.presentation.html.StartDirective) value);
+                break;
+            case "AudioPlayer.Stop":
+                InterfacesAudioplayerCodecs.writeStopDirective(generator, (com.amazon.ask.model.interfaces.audioplayer.StopDirective) value);
+                break;
+            case "Dialog.ConfirmSlot":
+                DialogCodecs.writeConfirmSlotDirective(generator, (com.amazon.ask.model.dialog.ConfirmSlotDirective) value);
+                break;
+            case "AudioPlayer.Play":
+                InterfacesAudioplayerCodecs.writePlayDirective(generator, (com.amazon.ask.model.interfaces.audioplayer.PlayDirective) value);
+                break;
+            case "Alexa.Presentation.APL.ExecuteCommands":
+                InterfacesAlexaPresentationAplCodecs.writeExecuteCommandsDirective(generator, (com.amazon.ask.model.interfaces.alexa.presentation.apl.ExecuteCommandsDirective) value);
+                break;
+            case "Display.RenderTemplate":
+                InterfacesDisplayCodecs.writeRenderTemplateDirective(generator, (com.amazon.ask.model.interfaces.display.RenderTemplateDirective) value);
+                break;
+            case "Hint":
+                InterfacesDisplayCodecs.writeHintDirective(generator, (com.amazon.ask.model.interfaces.display.HintDirective) value);
+                break;
+            case "Connections.StartConnection":
+                InterfacesConnectionsV1Codecs.writeStartConnectionDirective(generator, (com.amazon.ask.model.interfaces.connections.V1.StartConnectionDirective) value);
+                break;
+            case "Alexa.Presentation.APLT.RenderDocument":
+                InterfacesAlexaPresentationApltCodecs.writeRenderDocumentDirective(generator, (com.amazon.ask.model.interfaces.alexa.presentation.aplt.RenderDocumentDirective) value);
+                break;
+            case "GameEngine.StartInputHandler":
+                InterfacesGameEngineCodecs.writeStartInputHandlerDirective(generator, (com.amazon.ask.model.interfaces.gameEngine.StartInputHandlerDirective) value);
+                break;
+            case "VideoApp.Launch":
+                InterfacesVideoappCodecs.writeLaunchDirective(generator, (com.amazon.ask.model.interfaces.videoapp.LaunchDirective) value);
+                break;
+            case "Alexa.Presentation.APLT.ExecuteCommands":
+                InterfacesAlexaPresentationApltCodecs.writeExecuteCommandsDirective(generator, (com.amazon.ask.model.interfaces.alexa.presentation.aplt.ExecuteCommandsDirective) value);
+                break;
+            case "GameEngine.StopInputHandler":
+                InterfacesGameEngineCodecs.writeStopInputHandlerDirective(generator, (com.amazon.ask.model.interfaces.gameEngine.StopInputHandlerDirective) value);
+                break;
+            case "Tasks.CompleteTask":
+                InterfacesTasksCodecs.writeCompleteTaskDirective(generator, (com.amazon.ask.model.interfaces.tasks.CompleteTaskDirective) value);
+                break;
+            case "Alexa.Presentation.APL.RenderDocument":
+                InterfacesAlexaPresentationAplCodecs.writeRenderDocumentDirective(generator, (com.amazon.ask.model.interfaces.alexa.presentation.apl.RenderDocumentDirective) value);
+                break;
+            case "Connections.SendResponse":
+                InterfacesConnectionsCodecs.writeSendResponseDirective(generator, (com.amazon.ask.model.interfaces.connections.SendResponseDirective) value);
+                break;
+            case "AudioPlayer.ClearQueue":
+                InterfacesAudioplayerCodecs.writeClearQueueDirective(generator, (com.amazon.ask.model.interfaces.audioplayer.ClearQueueDirective) value);
+                break;
+            default:
+                generator.writeObject(value);
+        }
+    }
+
+    static com.amazon.ask.model.Intent readIntent(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.Intent.Builder builder = com.amazon.ask.model.Intent.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "name":
+                    builder.withName(JsonCodecSupport.readString(parser));
+                    break;
+                case "slots":
+                    builder.withSlots(JsonCodecSupport.readMap(parser, ModelCodecs::readSlot));
+                    break;
+                case "confirmationStatus":
+                    builder.withConfirmationStatus(readIntentConfirmationStatus(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeIntent(JsonGenerator generator, com.amazon.ask.model.Intent value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "name", value.getName());
+        JsonCodecSupport.writeField(generator, "slots", value.getSlots(), (g0, v0) -> JsonCodecSupport.writeMap(g0, v0, ModelCodecs::writeSlot));
+        JsonCodecSupport.writeField(generator, "confirmationStatus", value.getConfirmationStatus(), ModelCodecs::writeIntentConfirmationStatus);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.IntentConfirmationStatus readIntentConfirmationStatus(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.IntentConfirmationStatus.fromValue(value) : null;
+    }
+
+    static void writeIntentConfirmationStatus(JsonGenerator generator, com.amazon.ask.model.IntentConfirmationStatus value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.IntentRequest readIntentRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readIntentRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.IntentRequest readIntentRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.IntentRequest.Builder builder = com.amazon.ask.model.IntentRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                case "dialogState":
+                    builder.withDialogState(readDialogState(parser));
+                    break;
+                case "intent":
+                    builder.withIntent(readIntent(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeIntentRequest(JsonGenerator generator, com.amazon.ask.model.IntentRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "IntentRequest");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        JsonCodecSupport.writeField(generator, "dialogState", value.getDialogState(), ModelCodecs::writeDialogState);
+        JsonCodecSupport.writeField(generator, "intent", value.getIntent(), ModelCodecs::writeIntent);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.LaunchRequest readLaunchRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readLaunchRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.LaunchRequest readLaunchRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.LaunchRequest.Builder builder = com.amazon.ask.model.LaunchRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                case "task":
+                    builder.withTask(readTask(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeLaunchRequest(JsonGenerator generator, com.amazon.ask.model.LaunchRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "LaunchRequest");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        JsonCodecSupport.writeField(generator, "task", value.getTask(), ModelCodecs::writeTask);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.PermissionStatus readPermissionStatus(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.PermissionStatus.fromValue(value) : null;
+    }
+
+    static void writePermissionStatus(JsonGenerator generator, com.amazon.ask.model.PermissionStatus value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.Permissions readPermissions(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.Permissions.Builder builder = com.amazon.ask.model.Permissions.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "consentToken":
+                    builder.withConsentToken(JsonCodecSupport.readString(parser));
+                    break;
+                case "scopes":
+                    builder.withScopes(JsonCodecSupport.readMap(parser, ModelCodecs::readScope));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writePermissions(JsonGenerator generator, com.amazon.ask.model.Permissions value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "consentToken", value.getConsentToken());
+        JsonCodecSupport.writeField(generator, "scopes", value.getScopes(), (g0, v0) -> JsonCodecSupport.writeMap(g0, v0, ModelCodecs::writeScope));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.Person readPerson(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.Person.Builder builder = com.amazon.ask.model.Person.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "personId":
+                    builder.withPersonId(JsonCodecSupport.readString(parser));
+                    break;
+                case "accessToken":
+                    builder.withAccessToken(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writePerson(JsonGenerator generator, com.amazon.ask.model.Person value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "personId", value.getPersonId());
+        JsonCodecSupport.writeStringField(generator, "accessToken", value.getAccessToken());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.Request readRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.readPolymorphic(parser, "type", ModelCodecs::requestSubtype);
+    }
+
+    private static JsonCodec.Reader<? extends com.amazon.ask.model.Request> requestSubtype(String type) {
+        switch (type) {
+            case "AlexaSkillEvent.SkillEnabled":
+                return EventsSkilleventsCodecs::readSkillEnabledRequestFields;
+            case "AlexaHouseholdListEvent.ListUpdated":
+                return ServicesListManagementCodecs::readListUpdatedEventRequestFields;
+            case "Alexa.Presentation.APL.UserEvent":
+                return InterfacesAlexaPresentationAplCodecs::readUserEventFields;
+            case "AlexaSkillEvent.SkillDisabled":
+                return EventsSkilleventsCodecs::readSkillDisabledRequestFields;
+            case "AlexaHouseholdListEvent.ItemsCreated":
+                return ServicesListManagementCodecs::readListItemsCreatedEventRequestFields;
+            case "SessionResumedRequest":
+                return ModelCodecs::readSessionResumedRequestFields;
+            case "SessionEndedRequest":
+                return ModelCodecs::readSessionEndedRequestFields;
+            case "AudioPlayer.PlaybackFailed":
+                return InterfacesAudioplayerCodecs::readPlaybackFailedRequestFields;
+            case "CanFulfillIntentRequest":
+                return CanfulfillCodecs::readCanFulfillIntentRequestFields;
+            case "CustomInterfaceController.Expired":
+                return InterfacesCustomInterfaceControllerCodecs::readExpiredRequestFields;
+            case "Alexa.Presentation.html.Message":
+                return InterfacesAlexaPresentationHtmlCodecs::readMessageRequestFields;
+            case "LaunchRequest":
+                return ModelCodecs::readLaunchRequestFields;
+            case "Reminders.ReminderCreated":
+                return ServicesReminderManagementCodecs::readReminderCreatedEventRequestFields;
+            case "Alexa.Presentation.APLT.UserEvent":
+                return InterfacesAlexaPresentationApltCodecs::readUserEventFields;
+            case "AlexaHouseholdListEvent.ItemsUpdated":
+                return ServicesListManagementCodecs::readListItemsUpdatedEventRequestFields;
+            case "AlexaHouseholdListEvent.ListCreated":
+                return ServicesListManagementCodecs::readListCreatedEventRequestFields;
+            case "AudioPlayer.PlaybackStarted":
+                return InterfacesAudioplayerCodecs::readPlaybackStartedRequestFields;
+            case "AudioPlayer.PlaybackNearlyFinished":
+                return InterfacesAudioplayerCodecs::readPlaybackNearlyFinishedRequestFields;
+            case "CustomInterfaceController.EventsReceived":
+                return InterfacesCustomInterfaceControllerCodecs::readEventsReceivedRequestFields;
+            case "Reminders.ReminderStatusChanged":
+                return ServicesReminderManagementCodecs::readReminderStatusChangedEventRequestFields;
+            case "AlexaHouseholdListEvent.ItemsDeleted":
+                return ServicesListManagementCodecs::readListItemsDeletedEventRequestFields;
+            case "Reminders.ReminderDeleted":
+                return ServicesReminderManagementCodecs::readReminderDeletedEventRequestFields;
+            case "Connections.Response":
+                return InterfacesConnectionsCodecs::readConnectionsResponseFields;
+            case "AlexaHouseholdListEvent.ListDeleted":
+                return ServicesListManagementCodecs::readListDeletedEventRequestFields;
+            case "GameEngine.InputHandlerEvent":
+                return InterfacesGameEngineCodecs::readInputHandlerEventRequestFields;
+            case "PlaybackController.PauseCommandIssued":
+                return InterfacesPlaybackcontrollerCodecs::readPauseCommandIssuedRequestFields;
+            case "PlaybackController.PlayCommandIssued":
+                return InterfacesPlaybackcontrollerCodecs::readPlayCommandIssuedRequestFields;
+            case "AudioPlayer.PlaybackFinished":
+                return InterfacesAudioplayerCodecs::readPlaybackFinishedRequestFields;
+            case "AlexaSkillEvent.ProactiveSubscriptionChanged":
+                return EventsSkilleventsCodecs::readProactiveSubscriptionChangedRequestFields;
+            case "Display.ElementSelected":
+                return InterfacesDisplayCodecs::readElementSelectedRequestFields;
+            case "AlexaSkillEvent.SkillPermissionChanged":
+                return EventsSkilleventsCodecs::readPermissionChangedRequestFields;
+            case "Reminders.ReminderUpdated":
+                return ServicesReminderManagementCodecs::readReminderUpdatedEventRequestFields;
+            case "IntentRequest":
+                return ModelCodecs::readIntentRequestFields;
+            case "Reminders.ReminderStarted":
+                return ServicesReminderManagementCodecs::readReminderStartedEventRequestFields;
+            case "AudioPlayer.PlaybackStopped":
+                return InterfacesAudioplayerCodecs::readPlaybackStoppedRequestFields;
+            case "PlaybackController.PreviousCommandIssued":
+                return InterfacesPlaybackcontrollerCodecs::readPreviousCommandIssuedRequestFields;
+            case "AlexaSkillEvent.SkillAccountLinked":
+                return EventsSkilleventsCodecs::readAccountLinkedRequestFields;
+            case "Messaging.MessageReceived":
+                return InterfacesMessagingCodecs::readMessageReceivedRequestFields;
+            case "Connections.Request":
+                return InterfacesConnectionsCodecs::readConnectionsRequestFields;
+            case "System.ExceptionEncountered":
+                return InterfacesSystemCodecs::readExceptionEncounteredRequestFields;
+            case "AlexaSkillEvent.SkillPermissionAccepted":
+                return EventsSkilleventsCodecs::readPermissionAcceptedRequestFields;
+            case "PlaybackController.NextCommandIssued":
+                return InterfacesPlaybackcontrollerCodecs::readNextCommandIssuedRequestFields;
+            default:
+                return null;
+        }
+    }
+
+    static void writeRequest(JsonGenerator generator, com.amazon.ask.model.Request value) throws IOException {
+        switch (String.valueOf(value.getType())) {
+            case "AlexaSkillEvent.SkillEnabled":
+                EventsSkilleventsCodecs.writeSkillEnabledRequest(generator, (com.amazon.ask.model.events.skillevents.SkillEnabledRequest) value);
+                break;
+            case "AlexaHouseholdListEvent.ListUpdated":
+                ServicesListManagementCodecs.writeListUpdatedEventRequest(generator, (com.amazon.ask.model.services.listManagement.ListUpdatedEventRequest) value);
+                break;
+            case "Alexa.Presentation.APL.UserEvent":
+                InterfacesAlexaPresentationAplCodecs.writeUserEvent(generator, (com.amazon.ask.model.interfaces.alexa.presentation.apl.UserEvent) value);
+                break;
+            case "AlexaSkillEvent.SkillDisabled":
+                EventsSkilleventsCodecs.writeSkillDisabledRequest(generator, (com.amazon.ask.model.events.skillevents.SkillDisabledRequest) value);
+                break;
+            case "AlexaHouseholdListEvent.ItemsCreated":
+                ServicesListManagementCodecs.writeListItemsCreatedEventRequest(generator, (com.amazon.ask.model.services.listManagement.ListItemsCreatedEventRequest) value);
+                break;
+            case "SessionResumedRequest":
+                writeSessionResumedRequest(generator, (com.amazon.ask.model.SessionResumedRequest) value);
+                break;
+            case "SessionEndedRequest":
+                writeSessionEndedRequest(generator, (com.amazon.ask.model.SessionEndedRequest) value);
+                break;
+            case "AudioPlayer.PlaybackFailed":
+                InterfacesAudioplayerCodecs.writePlaybackFailedRequest(generator, (com.amazon.ask.model.interfaces.audioplayer.PlaybackFailedRequest) value);
+                break;
+            case "CanFulfillIntentRequest":
+                CanfulfillCodecs.writeCanFulfillIntentRequest(generator, (com.amazon.ask.model.canfulfill.CanFulfillIntentRequest) value);
+                break;
+            case "CustomInterfaceController.Expired":
+                InterfacesCustomInterfaceControllerCodecs.writeExpiredRequest(generator, (com.amazon.ask.model.interfaces.customInterfaceController.ExpiredRequest) value);
+                break;
+            case "Alexa.Presentation.html.Message":
+                InterfacesAlexaPresentationHtmlCodecs.writeMessageRequest(generator, (com.amazon.ask.model.interfaces.alexa.presentation.html.MessageRequest) value);
+                break;
+            case "LaunchRequest":
+                writeLaunchRequest(generator, (com.amazon.ask.model.LaunchRequest) value);
+                break;
+            case "Reminders.ReminderCreated":
+                ServicesReminderManagementCodecs.writeReminderCreatedEventRequest(generator, (com.amazon.ask.model.services.reminderManagement.ReminderCreatedEventRequest) value);
+                break;
+            case "Alexa.Presentation.APLT.UserEvent":
+                InterfacesAlexaPresentationApltCodecs.writeUserEvent(generator, (com.amazon.ask.model.interfaces.alexa.presentation.aplt.UserEvent) value);
+                break;
+            case "AlexaHouseholdListEvent.ItemsUpdated":
+                ServicesListManagementCodecs.writeListItemsUpdatedEventRequest(generator, (com.amazon.ask.model.services.listManagement.ListItemsUpdatedEventRequest) value);
+                break;
+            case "AlexaHouseholdListEvent.ListCreated":
+                ServicesListManagementCodecs.writeListCreatedEventRequest(generator, (com.amazon.ask.model.services.listManagement.ListCreatedEventRequest) value);
+                break;
+            case "AudioPlayer.PlaybackStarted":
+                InterfacesAudioplayerCodecs.writePlaybackStartedRequest(generator, (com.amazon.ask.model.interfaces.audioplayer.PlaybackStartedRequest) value);
+                break;
+            case "AudioPlayer.PlaybackNearlyFinished":
+                InterfacesAudioplayerCodecs.writePlaybackNearlyFinishedRequest(generator, (com.amazon.ask.model.interfaces.audioplayer.PlaybackNearlyFinishedRequest) value);
+                break;
+            case "CustomInterfaceController.EventsReceived":
+                InterfacesCustomInterfaceControllerCodecs.writeEventsReceivedRequest(generator, (com.amazon.ask.model.interfaces.customInterfaceController.EventsReceivedRequest) value);
+                break;
+            case "Reminders.ReminderStatusChanged":
+                ServicesReminderManagementCodecs.writeReminderStatusChangedEventRequest(generator, (com.amazon.ask.model.services.reminderManagement.ReminderStatusChangedEventRequest) value);
+                break;
+            case "AlexaHouseholdListEvent.ItemsDeleted":
+                ServicesListManagementCodecs.writeListItemsDeletedEventRequest(generator, (com.amazon.ask.model.services.listManagement.ListItemsDeletedEventRequest) value);
+                break;
+            case "Reminders.ReminderDeleted":
+                ServicesReminderManagementCodecs.writeReminderDeletedEventRequest(generator, (com.amazon.ask.model.services.reminderManagement.ReminderDeletedEventRequest) value);
+                break;
+            case "Connections.Response":
+                InterfacesConnectionsCodecs.writeConnectionsResponse(generator, (com.amazon.ask.model.interfaces.connections.ConnectionsResponse) value);
+                break;
+            case "AlexaHouseholdListEvent.ListDeleted":
+                ServicesListManagementCodecs.writeListDeletedEventRequest(generator, (com.amazon.ask.model.services.listManagement.ListDeletedEventRequest) value);
+                break;
+            case "GameEngine.InputHandlerEvent":
+                InterfacesGameEngineCodecs.writeInputHandlerEventRequest(generator, (com.amazon.ask.model.interfaces.gameEngine.InputHandlerEventRequest) value);
+                break;
+            case "PlaybackController.PauseCommandIssued":
+                InterfacesPlaybackcontrollerCodecs.writePauseCommandIssuedRequest(generator, (com.amazon.ask.model.interfaces.playbackcontroller.PauseCommandIssuedRequest) value);
+                break;
+            case "PlaybackController.PlayCommandIssued":
+                InterfacesPlaybackcontrollerCodecs.writePlayCommandIssuedRequest(generator, (com.amazon.ask.model.interfaces.playbackcontroller.PlayCommandIssuedRequest) value);
+                break;
+            case "AudioPlayer.PlaybackFinished":
+                InterfacesAudioplayerCodecs.writePlaybackFinishedRequest(generator, (com.amazon.ask.model.interfaces.audioplayer.PlaybackFinishedRequest) value);
+                break;
+            case "AlexaSkillEvent.ProactiveSubscriptionChanged":
+                EventsSkilleventsCodecs.writeProactiveSubscriptionChangedRequest(generator, (com.amazon.ask.model.events.skillevents.ProactiveSubscriptionChangedRequest) value);
+                break;
+            case "Display.ElementSelected":
+                InterfacesDisplayCodecs.writeElementSelectedRequest(generator, (com.amazon.ask.model.interfaces.display.ElementSelectedRequest) value);
+                break;
+            case "AlexaSkillEvent.SkillPermissionChanged":
+                EventsSkilleventsCodecs.writePermissionChangedRequest(generator, (com.amazon.ask.model.events.skillevents.PermissionChangedRequest) value);
+                break;
+            case "Reminders.ReminderUpdated":
+                ServicesReminderManagementCodecs.writeReminderUpdatedEventRequest(generator, (com.amazon.ask.model.services.reminderManagement.ReminderUpdatedEventRequest) value);
+                break;
+            case "IntentRequest":
+                writeIntentRequest(generator, (com.amazon.ask.model.IntentRequest) value);
+                break;
+            case "Reminders.ReminderStarted":
+                ServicesReminderManagementCodecs.writeReminderStartedEventRequest(generator, (com.amazon.ask.model.services.reminderManagement.ReminderStartedEventRequest) value);
+                break;
+            case "AudioPlayer.PlaybackStopped":
+                InterfacesAudioplayerCodecs.writePlaybackStoppedRequest(generator, (com.amazon.ask.model.interfaces.audioplayer.PlaybackStoppedRequest) value);
+                break;
+            case "PlaybackController.PreviousCommandIssued":
+                InterfacesPlaybackcontrollerCodecs.writePreviousCommandIssuedRequest(generator, (com.amazon.ask.model.interfaces.playbackcontroller.PreviousCommandIssuedRequest) value);
+                break;
+            case "AlexaSkillEvent.SkillAccountLinked":
+                EventsSkilleventsCodecs.writeAccountLinkedRequest(generator, (com.amazon.ask.model.events.skillevents.AccountLinkedRequest) value);
+                break;
+            case "Messaging.MessageReceived":
+                InterfacesMessagingCodecs.writeMessageReceivedRequest(generator, (com.amazon.ask.model.interfaces.messaging.MessageReceivedRequest) value);
+                break;
+            case "Connections.Request":
+                InterfacesConnectionsCodecs.writeConnectionsRequest(generator, (com.amazon.ask.model.interfaces.connections.ConnectionsRequest) value);
+                break;
+            case "System.ExceptionEncountered":
+                InterfacesSystemCodecs.writeExceptionEncounteredRequest(generator, (com.amazon.ask.model.interfaces.system.ExceptionEncounteredRequest) value);
+                break;
+            case "AlexaSkillEvent.SkillPermissionAccepted":
+                EventsSkilleventsCodecs.writePermissionAcceptedRequest(generator, (com.amazon.ask.model.events.skillevents.PermissionAcceptedRequest) value);
+                break;
+            case "PlaybackController.NextCommandIssued":
+                InterfacesPlaybackcontrollerCodecs.writeNextCommandIssuedRequest(generator, (com.amazon.ask.model.interfaces.playbackcontroller.NextCommandIssuedRequest) value);
+                break;
+            default:
+                generator.writeObject(value);
+        }
+    }
+
+    static com.amazon.ask.model.RequestEnvelope readRequestEnvelope(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.RequestEnvelope.Builder builder = com.amazon.ask.model.RequestEnvelope.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "version":
+                    builder.withVersion(JsonCodecSupport.readString(parser));
+                    break;
+                case "session":
+                    builder.withSession(readSession(parser));
+                    break;
+                case "context":
+                    builder.withContext(readContext(parser));
+                    break;
+                case "request":
+                    builder.withRequest(readRequest(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeRequestEnvelope(JsonGenerator generator, com.amazon.ask.model.RequestEnvelope value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "version", value.getVersion());
+        JsonCodecSupport.writeField(generator, "session", value.getSession(), ModelCodecs::writeSession);
+        JsonCodecSupport.writeField(generator, "context", value.getContext(), ModelCodecs::writeContext);
+        JsonCodecSupport.writeField(generator, "request", value.getRequest(), ModelCodecs::writeRequest);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.Response readResponse(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.Response.Builder builder = com.amazon.ask.model.Response.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "outputSpeech":
+                    builder.withOutputSpeech(UiCodecs.readOutputSpeech(parser));
+                    break;
+                case "card":
+                    builder.withCard(UiCodecs.readCard(parser));
+                    break;
+                case "reprompt":
+                    builder.withReprompt(UiCodecs.readReprompt(parser));
+                    break;
+                case "directives":
+                    builder.withDirectives(JsonCodecSupport.readList(parser, ModelCodecs::readDirective));
+                    break;
+                case "shouldEndSession":
+                    builder.withShouldEndSession(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "canFulfillIntent":
+                    builder.withCanFulfillIntent(CanfulfillCodecs.readCanFulfillIntent(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeResponse(JsonGenerator generator, com.amazon.ask.model.Response value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "outputSpeech", value.getOutputSpeech(), UiCodecs::writeOutputSpeech);
+        JsonCodecSupport.writeField(generator, "card", value.getCard(), UiCodecs::writeCard);
+        JsonCodecSupport.writeField(generator, "reprompt", value.getReprompt(), UiCodecs::writeReprompt);
+        JsonCodecSupport.writeField(generator, "directives", value.getDirectives(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, ModelCodecs::writeDirective));
+        JsonCodecSupport.writeField(generator, "shouldEndSession", value.getShouldEndSession(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeField(generator, "canFulfillIntent", value.getCanFulfillIntent(), CanfulfillCodecs::writeCanFulfillIntent);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.ResponseEnvelope readResponseEnvelope(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.ResponseEnvelope.Builder builder = com.amazon.ask.model.ResponseEnvelope.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "version":
+                    builder.withVersion(JsonCodecSupport.readString(parser));
+                    break;
+                case "sessionAttributes":
+                    builder.withSessionAttributes(JsonCodecSupport.readMap(parser, JsonCodecSupport::readUntyped));
+                    break;
+                case "userAgent":
+                    builder.withUserAgent(JsonCodecSupport.readString(parser));
+                    break;
+                case "response":
+                    builder.withResponse(readResponse(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeResponseEnvelope(JsonGenerator generator, com.amazon.ask.model.ResponseEnvelope value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "version", value.getVersion());
+        JsonCodecSupport.writeField(generator, "sessionAttributes", value.getSessionAttributes(), (g0, v0) -> JsonCodecSupport.writeMap(g0, v0, JsonCodecSupport::writeUntyped));
+        JsonCodecSupport.writeStringField(generator, "userAgent", value.getUserAgent());
+        JsonCodecSupport.writeField(generator, "response", value.getResponse(), ModelCodecs::writeResponse);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.Scope readScope(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.Scope.Builder builder = com.amazon.ask.model.Scope.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "status":
+                    builder.withStatus(readPermissionStatus(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeScope(JsonGenerator generator, com.amazon.ask.model.Scope value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "status", value.getStatus(), ModelCodecs::writePermissionStatus);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.Session readSession(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.Session.Builder builder = com.amazon.ask.model.Session.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "new":
+                    builder.withNew(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "sessionId":
+                    builder.withSessionId(JsonCodecSupport.readString(parser));
+                    break;
+                case "user":
+                    builder.withUser(readUser(parser));
+                    break;
+                case "attributes":
+                    builder.withAttributes(JsonCodecSupport.readMap(parser, JsonCodecSupport::readUntyped));
+                    break;
+                case "application":
+                    builder.withApplication(readApplication(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSession(JsonGenerator generator, com.amazon.ask.model.Session value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "new", value.getNew(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeStringField(generator, "sessionId", value.getSessionId());
+        JsonCodecSupport.writeField(generator, "user", value.getUser(), ModelCodecs::writeUser);
+        JsonCodecSupport.writeField(generator, "attributes", value.getAttributes(), (g0, v0) -> JsonCodecSupport.writeMap(g0, v0, JsonCodecSupport::writeUntyped));
+        JsonCodecSupport.writeField(generator, "application", value.getApplication(), ModelCodecs::writeApplication);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.SessionEndedError readSessionEndedError(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.SessionEndedError.Builder builder = com.amazon.ask.model.SessionEndedError.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "type":
+                    builder.withType(readSessionEndedErrorType(parser));
+                    break;
+                case "message":
+                    builder.withMessage(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSessionEndedError(JsonGenerator generator, com.amazon.ask.model.SessionEndedError value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "type", value.getType(), ModelCodecs::writeSessionEndedErrorType);
+        JsonCodecSupport.writeStringField(generator, "message", value.getMessage());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.SessionEndedErrorType readSessionEndedErrorType(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.SessionEndedErrorType.fromValue(value) : null;
+    }
+
+    static void writeSessionEndedErrorType(JsonGenerator generator, com.amazon.ask.model.SessionEndedErrorType value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.SessionEndedReason readSessionEndedReason(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.SessionEndedReason.fromValue(value) : null;
+    }
+
+    static void writeSessionEndedReason(JsonGenerator generator, com.amazon.ask.model.SessionEndedReason value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.SessionEndedRequest readSessionEndedRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readSessionEndedRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.SessionEndedRequest readSessionEndedRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.SessionEndedRequest.Builder builder = com.amazon.ask.model.SessionEndedRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                case "reason":
+                    builder.withReason(readSessionEndedReason(parser));
+                    break;
+                case "error":
+                    builder.withError(readSessionEndedError(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSessionEndedRequest(JsonGenerator generator, com.amazon.ask.model.SessionEndedRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "SessionEndedRequest");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        JsonCodecSupport.writeField(generator, "reason", value.getReason(), ModelCodecs::writeSessionEndedReason);
+        JsonCodecSupport.writeField(generator, "error", value.getError(), ModelCodecs::writeSessionEndedError);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.SessionResumedRequest readSessionResumedRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readSessionResumedRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.SessionResumedRequest readSessionResumedRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.SessionResumedRequest.Builder builder = com.amazon.ask.model.SessionResumedRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                case "cause":
+                    builder.withCause(readCause(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSessionResumedRequest(JsonGenerator generator, com.amazon.ask.model.SessionResumedRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "SessionResumedRequest");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        JsonCodecSupport.writeField(generator, "cause", value.getCause(), ModelCodecs::writeCause);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.Slot readSlot(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.Slot.Builder builder = com.amazon.ask.model.Slot.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "name":
+                    builder.withName(JsonCodecSupport.readString(parser));
+                    break;
+                case "value":
+                    builder.withValue(JsonCodecSupport.readString(parser));
+                    break;
+                case "confirmationStatus":
+                    builder.withConfirmationStatus(readSlotConfirmationStatus(parser));
+                    break;
+                case "resolutions":
+                    builder.withResolutions(SluEntityresolutionCodecs.readResolutions(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSlot(JsonGenerator generator, com.amazon.ask.model.Slot value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "name", value.getName());
+        JsonCodecSupport.writeStringField(generator, "value", value.getValue());
+        JsonCodecSupport.writeField(generator, "confirmationStatus", value.getConfirmationStatus(), ModelCodecs::writeSlotConfirmationStatus);
+        JsonCodecSupport.writeField(generator, "resolutions", value.getResolutions(), SluEntityresolutionCodecs::writeResolutions);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.SlotConfirmationStatus readSlotConfirmationStatus(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.SlotConfirmationStatus.fromValue(value) : null;
+    }
+
+    static void writeSlotConfirmationStatus(JsonGenerator generator, com.amazon.ask.model.SlotConfirmationStatus value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.Status readStatus(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.Status.Builder builder = com.amazon.ask.model.Status.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "code":
+                    builder.withCode(JsonCodecSupport.readString(parser));
+                    break;
+                case "message":
+                    builder.withMessage(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeStatus(JsonGenerator generator, com.amazon.ask.model.Status value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "code", value.getCode());
+        JsonCodecSupport.writeStringField(generator, "message", value.getMessage());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.SupportedInterfaces readSupportedInterfaces(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.SupportedInterfaces.Builder builder = com.amazon.ask.model.SupportedInterfaces.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "Alexa.Presentation.APL":
+                    builder.withAlexaPresentationAPL(InterfacesAlexaPresentationAplCodecs.readAlexaPresentationAplInterface(parser));
+                    break;
+                case "Alexa.Presentation.APLT":
+                    builder.withAlexaPresentationAPLT(InterfacesAlexaPresentationApltCodecs.readAlexaPresentationApltInterface(parser));
+                    break;
+                case "Alexa.Presentation.HTML":
+                    builder.withAlexaPresentationHTML(InterfacesAlexaPresentationHtmlCodecs.readAlexaPresentationHtmlInterface(parser));
+                    break;
+                case "AudioPlayer":
+                    builder.withAudioPlayer(InterfacesAudioplayerCodecs.readAudioPlayerInterface(parser));
+                    break;
+                case "Display":
+                    builder.withDisplay(InterfacesDisplayCodecs.readDisplayInterface(parser));
+                    break;
+                case "VideoApp":
+                    builder.withVideoApp(InterfacesVideoappCodecs.readVideoAppInterface(parser));
+                    break;
+                case "Geolocation":
+                    builder.withGeolocation(InterfacesGeolocationCodecs.readGeolocationInterface(parser));
+                    break;
+                case "Navigation":
+                    builder.withNavigation(InterfacesNavigationCodecs.readNavigationInterface(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSupportedInterfaces(JsonGenerator generator, com.amazon.ask.model.SupportedInterfaces value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "Alexa.Presentation.APL", value.getAlexaPresentationAPL(), InterfacesAlexaPresentationAplCodecs::writeAlexaPresentationAplInterface);
+        JsonCodecSupport.writeField(generator, "Alexa.Presentation.APLT", value.getAlexaPresentationAPLT(), InterfacesAlexaPresentationApltCodecs::writeAlexaPresentationApltInterface);
+        JsonCodecSupport.writeField(generator, "Alexa.Presentation.HTML", value.getAlexaPresentationHTML(), InterfacesAlexaPresentationHtmlCodecs::writeAlexaPresentationHtmlInterface);
+        JsonCodecSupport.writeField(generator, "AudioPlayer", value.getAudioPlayer(), InterfacesAudioplayerCodecs::writeAudioPlayerInterface);
+        JsonCodecSupport.writeField(generator, "Display", value.getDisplay(), InterfacesDisplayCodecs::writeDisplayInterface);
+        JsonCodecSupport.writeField(generator, "VideoApp", value.getVideoApp(), InterfacesVideoappCodecs::writeVideoAppInterface);
+        JsonCodecSupport.writeField(generator, "Geolocation", value.getGeolocation(), InterfacesGeolocationCodecs::writeGeolocationInterface);
+        JsonCodecSupport.writeField(generator, "Navigation", value.getNavigation(), InterfacesNavigationCodecs::writeNavigationInterface);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.Task readTask(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.Task.Builder builder = com.amazon.ask.model.Task.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "name":
+                    builder.withName(JsonCodecSupport.readString(parser));
+                    break;
+                case "version":
+                    builder.withVersion(JsonCodecSupport.readString(parser));
+                    break;
+                case "input":
+                    builder.withInput(JsonCodecSupport.readUntyped(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeTask(JsonGenerator generator, com.amazon.ask.model.Task value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "name", value.getName());
+        JsonCodecSupport.writeStringField(generator, "version", value.getVersion());
+        JsonCodecSupport.writeField(generator, "input", value.getInput(), JsonCodecSupport::writeUntyped);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.User readUser(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.User.Builder builder = com.amazon.ask.model.User.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "userId":
+                    builder.withUserId(JsonCodecSupport.readString(parser));
+                    break;
+                case "accessToken":
+                    builder.withAccessToken(JsonCodecSupport.readString(parser));
+                    break;
+                case "permissions":
+                    builder.withPermissions(readPermissions(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeUser(JsonGenerator generator, com.amazon.ask.model.User value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "userId", value.getUserId());
+        JsonCodecSupport.writeStringField(generator, "accessToken", value.getAccessToken());
+        JsonCodecSupport.writeField(generator, "permissions", value.getPermissions(), ModelCodecs::writePermissions);
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,149 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.services.deviceAddress.
+ */
+final class ServicesDeviceAddressCodecs {
+
+    private ServicesDeviceAddressCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.services.deviceAddress.Address.class, ServicesDeviceAddressCodecs::readAddress, ServicesDeviceAddressCodecs::writeAddress);
+        registry.withCodec(com.amazon.ask.model.services.deviceAddress.Error.class, ServicesDeviceAddressCodecs::readError, ServicesDeviceAddressCodecs::writeError);
+        registry.withCodec(com.amazon.ask.model.services.deviceAddress.ShortAddress.class, ServicesDeviceAddressCodecs::readShortAddress, ServicesDeviceAddressCodecs::writeShortAddress);
+    }
+
+    static com.amazon.ask.model.services.deviceAddress.Address readAddress(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.deviceAddress.Address.Builder builder = com.amazon.ask.model.services.deviceAddress.Address.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "addressLine1":
+                    builder.withAddressLine1(JsonCodecSupport.readString(parser));
+                    break;
+                case "addressLine2":
+                    builder.withAddressLine2(JsonCodecSupport.readString(parser));
+                    break;
+                case "addressLine3":
+                    builder.withAddressLine3(JsonCodecSupport.readString(parser));
+                    break;
+                case "countryCode":
+                    builder.withCountryCode(JsonCodecSupport.readString(parser));
+                    break;
+                case "stateOrRegion":
+                    builder.withStateOrRegion(JsonCodecSupport.readString(parser));
+                    break;
+                case "city":
+                    builder.withCity(JsonCodecSupport.readString(parser));
+                    break;
+                case "districtOrCounty":
+                    builder.withDistrictOrCounty(JsonCodecSupport.readString(parser));
+                    break;
+                case "postalCode":
+                    builder.withPostalCode(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeAddress(JsonGenerator generator, com.amazon.ask.model.services.deviceAddress.Address value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "addressLine1", value.getAddressLine1());
+        JsonCodecSupport.writeStringField(generator, "addressLine2", value.getAddressLine2());
+        JsonCodecSupport.writeStringField(generator, "addressLine3", value.getAddressLine3());
+        JsonCodecSupport.writeStringField(generator, "countryCode", value.getCountryCode());
+        JsonCodecSupport.writeStringField(generator, "stateOrRegion", value.getStateOrRegion());
+        JsonCodecSupport.writeStringField(generator, "city", value.getCity());
+        JsonCodecSupport.writeStringField(generator, "districtOrCounty", value.getDistrictOrCounty());
+        JsonCodecSupport.writeStringField(generator, "postalCode", value.getPostalCode());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.deviceAddress.Error readError(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.deviceAddress.Error.Builder builder = com.amazon.ask.model.services.deviceAddress.Error.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "type":
+                    builder.withType(JsonCodecSupport.readString(parser));
+                    break;
+                case "message":
+                    builder.withMessage(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeError(JsonGenerator generator, com.amazon.ask.model.services.deviceAddress.Error value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "type", value.getType());
+        JsonCodecSupport.writeStringField(generator, "message", value.getMessage());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.deviceAddress.ShortAddress readShortAddress(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.deviceAddress.ShortAddress.Builder builder = com.amazon.ask.model.services.deviceAddress.ShortAddress.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "countryCode":
+                    builder.withCountryCode(JsonCodecSupport.readString(parser));
+                    break;
+                case "postalCode":
+                    builder.withPostalCode(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeShortAddress(JsonGenerator generator, com.amazon.ask.model.services.deviceAddress.ShortAddress value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "countryCode", value.getCountryCode());
+        JsonCodecSupport.writeStringField(generator, "postalCode", value.getPostalCode());
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,174 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodec;
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.services.directive.
+ */
+final class ServicesDirectiveCodecs {
+
+    private ServicesDirectiveCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.services.directive.Directive.class, ServicesDirectiveCodecs::readDirective, ServicesDirectiveCodecs::writeDirective);
+        registry.withCodec(com.amazon.ask.model.services.directive.Error.class, ServicesDirectiveCodecs::readError, ServicesDirectiveCodecs::writeError);
+        registry.withCodec(com.amazon.ask.model.services.directive.Header.class, ServicesDirectiveCodecs::readHeader, ServicesDirectiveCodecs::writeHeader);
+        registry.withCodec(com.amazon.ask.model.services.directive.SendDirectiveRequest.class, ServicesDirectiveCodecs::readSendDirectiveRequest, ServicesDirectiveCodecs::writeSendDirectiveRequest);
+        registry.withCodec(com.amazon.ask.model.services.directive.SpeakDirective.class, ServicesDirectiveCodecs::readSpeakDirective, ServicesDirectiveCodecs::writeSpeakDirective);
+    }
+
+    static com.amazon.ask.model.services.directive.Directive readDirective(JsonParser parser) throws IOException {
+        return JsonCodecSupport.readPolymorphic(parser, "type", ServicesDirectiveCodecs::directiveSubtype);
+    }
+
+    private static JsonCodec.Reader<? extends com.amazon.ask.model.services.directive.Directive> directiveSubtype(String type) {
+        switch (type) {
+            case "VoicePlayer.Speak":
+                return ServicesDirectiveCodecs::readSpeakDirectiveFields;
+            default:
+                return null;
+        }
+    }
+
+    static void writeDirective(JsonGenerator generator, com.amazon.ask.model.services.directive.Directive value) throws IOException {
+        switch (String.valueOf(value.getType())) {
+            case "VoicePlayer.Speak":
+                writeSpeakDirective(generator, (com.amazon.ask.model.services.directive.SpeakDirective) value);
+                break;
+            default:
+                generator.writeObject(value);
+        }
+    }
+
+    static com.amazon.ask.model.services.directive.Error readError(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.directive.Error.Builder builder = com.amazon.ask.model.services.directive.Error.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "code":
+                    builder.withCode(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "message":
+                    builder.withMessage(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeError(JsonGenerator generator, com.amazon.ask.model.services.directive.Error value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "code", value.getCode(), JsonCodecSupport::writeInteger);
+        JsonCodecSupport.writeStringField(generator, "message", value.getMessage());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.directive.Header readHeader(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.directive.Header.Builder builder = com.amazon.ask.model.services.directive.Header.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeHeader(JsonGenerator generator, com.amazon.ask.model.services.directive.Header value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.directive.SendDirectiveRequest readSendDirectiveRequest(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.directive.SendDirectiveRequest.Builder builder = com.amazon.ask.model.services.directive.SendDirectiveRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "header":
+                    builder.withHeader(readHeader(parser));
+                    break;
+                case "directive":
+                    builder.withDirective(readDirective(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSendDirectiveRequest(JsonGenerator generator, com.amazon.ask.model.services.directive.SendDirectiveRequest value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "header", value.getHeader(), ServicesDirectiveCodecs::writeHeader);
+        JsonCodecSupport.writeField(generator, "directive", value.getDirective(), ServicesDirectiveCodecs::writeDirective);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.directive.SpeakDirective readSpeakDirective(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readSpeakDirectiveFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.services.directive.SpeakDirective readSpeakDirectiveFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.services.directive.SpeakDirective.Builder builder = com.amazon.ask.model.services.directive.SpeakDirective.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "speech":
+                    builder.withSpeech(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSpeakDirective(JsonGenerator generator, com.amazon.ask.model.services.directive.SpeakDirective value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "VoicePlayer.Speak");
+        JsonCodecSupport.writeStringField(generator, "speech", value.getSpeech());
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,159 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.services.endpointEnumeration.
+ */
+final class ServicesEndpointEnumerationCodecs {
+
+    private ServicesEndpointEnumerationCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.services.endpointEnumeration.EndpointCapability.class, ServicesEndpointEnumerationCodecs::readEndpointCapability, ServicesEndpointEnumerationCodecs::writeEndpointCapability);
+        registry.withCodec(com.amazon.ask.model.services.endpointEnumeration.EndpointEnumerationResponse.class, ServicesEndpointEnumerationCodecs::readEndpointEnumerationResponse, ServicesEndpointEnumerationCodecs::writeEndpointEnumerationResponse);
+        registry.withCodec(com.amazon.ask.model.services.endpointEnumeration.EndpointInfo.class, ServicesEndpointEnumerationCodecs::readEndpointInfo, ServicesEndpointEnumerationCodecs::writeEndpointInfo);
+        registry.withCodec(com.amazon.ask.model.services.endpointEnumeration.Error.class, ServicesEndpointEnumerationCodecs::readError, ServicesEndpointEnumerationCodecs::writeError);
+    }
+
+    static com.amazon.ask.model.services.endpointEnumeration.EndpointCapability readEndpointCapability(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.endpointEnumeration.EndpointCapability.Builder builder = com.amazon.ask.model.services.endpointEnumeration.EndpointCapability.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "interface":
+                    builder.withInterface(JsonCodecSupport.readString(parser));
+                    break;
+                case "type":
+                    builder.withType(JsonCodecSupport.readString(parser));
+                    break;
+                case "version":
+                    builder.withVersion(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeEndpointCapability(JsonGenerator generator, com.amazon.ask.model.services.endpointEnumeration.EndpointCapability value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "interface", value.getInterface());
+        JsonCodecSupport.writeStringField(generator, "type", value.getType());
+        JsonCodecSupport.writeStringField(generator, "version", value.getVersion());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.endpointEnumeration.EndpointEnumerationResponse readEndpointEnumerationResponse(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.endpointEnumeration.EndpointEnumerationResponse.Builder builder = com.amazon.ask.model.services.endpointEnumeration.EndpointEnumerationResponse.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "endpoints":
+                    builder.withEndpoints(JsonCodecSupport.readList(parser, ServicesEndpointEnumerationCodecs::readEndpointInfo));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeEndpointEnumerationResponse(JsonGenerator generator, com.amazon.ask.model.services.endpointEnumeration.EndpointEnumerationResponse value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "endpoints", value.getEndpoints(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, ServicesEndpointEnumerationCodecs::writeEndpointInfo));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.endpointEnumeration.EndpointInfo readEndpointInfo(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.endpointEnumeration.EndpointInfo.Builder builder = com.amazon.ask.model.services.endpointEnumeration.EndpointInfo.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "endpointId":
+                    builder.withEndpointId(JsonCodecSupport.readString(parser));
+                    break;
+                case "friendlyName":
+                    builder.withFriendlyName(JsonCodecSupport.readString(parser));
+                    break;
+                case "capabilities":
+                    builder.withCapabilities(JsonCodecSupport.readList(parser, ServicesEndpointEnumerationCodecs::readEndpointCapability));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeEndpointInfo(JsonGenerator generator, com.amazon.ask.model.services.endpointEnumeration.EndpointInfo value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "endpointId", value.getEndpointId());
+        JsonCodecSupport.writeStringField(generator, "friendlyName", value.getFriendlyName());
+        JsonCodecSupport.writeField(generator, "capabilities", value.getCapabilities(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, ServicesEndpointEnumerationCodecs::writeEndpointCapability));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.endpointEnumeration.Error readError(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.endpointEnumeration.Error.Builder builder = com.amazon.ask.model.services.endpointEnumeration.Error.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "code":
+                    builder.withCode(JsonCodecSupport.readString(parser));
+                    break;
+                case "message":
+                    builder.withMessage(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeError(JsonGenerator generator, com.amazon.ask.model.services.endpointEnumeration.Error value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "code", value.getCode());
+        JsonCodecSupport.writeStringField(generator, "message", value.getMessage());
+        generator.writeEndObject();
+    }
+}
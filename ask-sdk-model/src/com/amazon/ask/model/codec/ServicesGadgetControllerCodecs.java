@@ -0,0 +1,147 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.services.gadgetController.
+ */
+final class ServicesGadgetControllerCodecs {
+
+    private ServicesGadgetControllerCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.services.gadgetController.AnimationStep.class, ServicesGadgetControllerCodecs::readAnimationStep, ServicesGadgetControllerCodecs::writeAnimationStep);
+        registry.withCodec(com.amazon.ask.model.services.gadgetController.LightAnimation.class, ServicesGadgetControllerCodecs::readLightAnimation, ServicesGadgetControllerCodecs::writeLightAnimation);
+        registry.withCodec(com.amazon.ask.model.services.gadgetController.SetLightParameters.class, ServicesGadgetControllerCodecs::readSetLightParameters, ServicesGadgetControllerCodecs::writeSetLightParameters);
+        registry.withCodec(com.amazon.ask.model.services.gadgetController.TriggerEventType.class, ServicesGadgetControllerCodecs::readTriggerEventType, ServicesGadgetControllerCodecs::writeTriggerEventType);
+    }
+
+    static com.amazon.ask.model.services.gadgetController.AnimationStep readAnimationStep(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.gadgetController.AnimationStep.Builder builder = com.amazon.ask.model.services.gadgetController.AnimationStep.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "durationMs":
+                    builder.withDurationMs(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "color":
+                    builder.withColor(JsonCodecSupport.readString(parser));
+                    break;
+                case "blend":
+                    builder.withBlend(JsonCodecSupport.readBoolean(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeAnimationStep(JsonGenerator generator, com.amazon.ask.model.services.gadgetController.AnimationStep value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "durationMs", value.getDurationMs(), JsonCodecSupport::writeInteger);
+        JsonCodecSupport.writeStringField(generator, "color", value.getColor());
+        JsonCodecSupport.writeField(generator, "blend", value.getBlend(), JsonCodecSupport::writeBoolean);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.gadgetController.LightAnimation readLightAnimation(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.gadgetController.LightAnimation.Builder builder = com.amazon.ask.model.services.gadgetController.LightAnimation.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "repeat":
+                    builder.withRepeat(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "targetLights":
+                    builder.withTargetLights(JsonCodecSupport.readList(parser, JsonCodecSupport::readString));
+                    break;
+                case "sequence":
+                    builder.withSequence(JsonCodecSupport.readList(parser, ServicesGadgetControllerCodecs::readAnimationStep));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeLightAnimation(JsonGenerator generator, com.amazon.ask.model.services.gadgetController.LightAnimation value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "repeat", value.getRepeat(), JsonCodecSupport::writeInteger);
+        JsonCodecSupport.writeField(generator, "targetLights", value.getTargetLights(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, JsonCodecSupport::writeString));
+        JsonCodecSupport.writeField(generator, "sequence", value.getSequence(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, ServicesGadgetControllerCodecs::writeAnimationStep));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.gadgetController.SetLightParameters readSetLightParameters(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.gadgetController.SetLightParameters.Builder builder = com.amazon.ask.model.services.gadgetController.SetLightParameters.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "triggerEvent":
+                    builder.withTriggerEvent(readTriggerEventType(parser));
+                    break;
+                case "triggerEventTimeMs":
+                    builder.withTriggerEventTimeMs(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "animations":
+                    builder.withAnimations(JsonCodecSupport.readList(parser, ServicesGadgetControllerCodecs::readLightAnimation));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSetLightParameters(JsonGenerator generator, com.amazon.ask.model.services.gadgetController.SetLightParameters value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "triggerEvent", value.getTriggerEvent(), ServicesGadgetControllerCodecs::writeTriggerEventType);
+        JsonCodecSupport.writeField(generator, "triggerEventTimeMs", value.getTriggerEventTimeMs(), JsonCodecSupport::writeInteger);
+        JsonCodecSupport.writeField(generator, "animations", value.getAnimations(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, ServicesGadgetControllerCodecs::writeLightAnimation));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.gadgetController.TriggerEventType readTriggerEventType(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.services.gadgetController.TriggerEventType.fromValue(value) : null;
+    }
+
+    static void writeTriggerEventType(JsonGenerator generator, com.amazon.ask.model.services.gadgetController.TriggerEventType value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+}
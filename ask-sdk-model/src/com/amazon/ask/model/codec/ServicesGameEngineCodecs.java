@@ -0,0 +1,360 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodec;
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.services.gameEngine.
+ */
+final class ServicesGameEngineCodecs {
+
+    private ServicesGameEngineCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.services.gameEngine.DeviationRecognizer.class, ServicesGameEngineCodecs::readDeviationRecognizer, ServicesGameEngineCodecs::writeDeviationRecognizer);
+        registry.withCodec(com.amazon.ask.model.services.gameEngine.Event.class, ServicesGameEngineCodecs::readEvent, ServicesGameEngineCodecs::writeEvent);
+        registry.withCodec(com.amazon.ask.model.services.gameEngine.EventReportingType.class, ServicesGameEngineCodecs::readEventReportingType, ServicesGameEngineCodecs::writeEventReportingType);
+        registry.withCodec(com.amazon.ask.model.services.gameEngine.InputEvent.class, ServicesGameEngineCodecs::readInputEvent, ServicesGameEngineCodecs::writeInputEvent);
+        registry.withCodec(com.amazon.ask.model.services.gameEngine.InputEventActionType.class, ServicesGameEngineCodecs::readInputEventActionType, ServicesGameEngineCodecs::writeInputEventActionType);
+        registry.withCodec(com.amazon.ask.model.services.gameEngine.InputHandlerEvent.class, ServicesGameEngineCodecs::readInputHandlerEvent, ServicesGameEngineCodecs::writeInputHandlerEvent);
+        registry.withCodec(com.amazon.ask.model.services.gameEngine.Pattern.class, ServicesGameEngineCodecs::readPattern, ServicesGameEngineCodecs::writePattern);
+        registry.withCodec(com.amazon.ask.model.services.gameEngine.PatternRecognizer.class, ServicesGameEngineCodecs::readPatternRecognizer, ServicesGameEngineCodecs::writePatternRecognizer);
+        registry.withCodec(com.amazon.ask.model.services.gameEngine.PatternRecognizerAnchorType.class, ServicesGameEngineCodecs::readPatternRecognizerAnchorType, ServicesGameEngineCodecs::writePatternRecognizerAnchorType);
+        registry.withCodec(com.amazon.ask.model.services.gameEngine.ProgressRecognizer.class, ServicesGameEngineCodecs::readProgressRecognizer, ServicesGameEngineCodecs::writeProgressRecognizer);
+        registry.withCodec(com.amazon.ask.model.services.gameEngine.Recognizer.class, ServicesGameEngineCodecs::readRecognizer, ServicesGameEngineCodecs::writeRecognizer);
+    }
+
+    static com.amazon.ask.model.services.gameEngine.DeviationRecognizer readDeviationRecognizer(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readDeviationRecognizerFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.services.gameEngine.DeviationRecognizer readDeviationRecognizerFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.services.gameEngine.DeviationRecognizer.Builder builder = com.amazon.ask.model.services.gameEngine.DeviationRecognizer.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "recognizer":
+                    builder.withRecognizer(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeDeviationRecognizer(JsonGenerator generator, com.amazon.ask.model.services.gameEngine.DeviationRecognizer value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "deviation");
+        JsonCodecSupport.writeStringField(generator, "recognizer", value.getRecognizer());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.gameEngine.Event readEvent(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.gameEngine.Event.Builder builder = com.amazon.ask.model.services.gameEngine.Event.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "shouldEndInputHandler":
+                    builder.withShouldEndInputHandler(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "meets":
+                    builder.withMeets(JsonCodecSupport.readList(parser, JsonCodecSupport::readString));
+                    break;
+                case "fails":
+                    builder.withFails(JsonCodecSupport.readList(parser, JsonCodecSupport::readString));
+                    break;
+                case "reports":
+                    builder.withReports(readEventReportingType(parser));
+                    break;
+                case "maximumInvocations":
+                    builder.withMaximumInvocations(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "triggerTimeMilliseconds":
+                    builder.withTriggerTimeMilliseconds(JsonCodecSupport.readLong(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeEvent(JsonGenerator generator, com.amazon.ask.model.services.gameEngine.Event value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "shouldEndInputHandler", value.getShouldEndInputHandler(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeField(generator, "meets", value.getMeets(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, JsonCodecSupport::writeString));
+        JsonCodecSupport.writeField(generator, "fails", value.getFails(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, JsonCodecSupport::writeString));
+        JsonCodecSupport.writeField(generator, "reports", value.getReports(), ServicesGameEngineCodecs::writeEventReportingType);
+        JsonCodecSupport.writeField(generator, "maximumInvocations", value.getMaximumInvocations(), JsonCodecSupport::writeInteger);
+        JsonCodecSupport.writeField(generator, "triggerTimeMilliseconds", value.getTriggerTimeMilliseconds(), JsonCodecSupport::writeLong);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.gameEngine.EventReportingType readEventReportingType(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.services.gameEngine.EventReportingType.fromValue(value) : null;
+    }
+
+    static void writeEventReportingType(JsonGenerator generator, com.amazon.ask.model.services.gameEngine.EventReportingType value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.services.gameEngine.InputEvent readInputEvent(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.gameEngine.InputEvent.Builder builder = com.amazon.ask.model.services.gameEngine.InputEvent.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "gadgetId":
+                    builder.withGadgetId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readString(parser));
+                    break;
+                case "action":
+                    builder.withAction(readInputEventActionType(parser));
+                    break;
+                case "color":
+                    builder.withColor(JsonCodecSupport.readString(parser));
+                    break;
+                case "feature":
+                    builder.withFeature(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeInputEvent(JsonGenerator generator, com.amazon.ask.model.services.gameEngine.InputEvent value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "gadgetId", value.getGadgetId());
+        JsonCodecSupport.writeStringField(generator, "timestamp", value.getTimestamp());
+        JsonCodecSupport.writeField(generator, "action", value.getAction(), ServicesGameEngineCodecs::writeInputEventActionType);
+        JsonCodecSupport.writeStringField(generator, "color", value.getColor());
+        JsonCodecSupport.writeStringField(generator, "feature", value.getFeature());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.gameEngine.InputEventActionType readInputEventActionType(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.services.gameEngine.InputEventActionType.fromValue(value) : null;
+    }
+
+    static void writeInputEventActionType(JsonGenerator generator, com.amazon.ask.model.services.gameEngine.InputEventActionType value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.services.gameEngine.InputHandlerEvent readInputHandlerEvent(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.gameEngine.InputHandlerEvent.Builder builder = com.amazon.ask.model.services.gameEngine.InputHandlerEvent.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "name":
+                    builder.withName(JsonCodecSupport.readString(parser));
+                    break;
+                case "inputEvents":
+                    builder.withInputEvents(JsonCodecSupport.readList(parser, ServicesGameEngineCodecs::readInputEvent));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeInputHandlerEvent(JsonGenerator generator, com.amazon.ask.model.services.gameEngine.InputHandlerEvent value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "name", value.getName());
+        JsonCodecSupport.writeField(generator, "inputEvents", value.getInputEvents(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, ServicesGameEngineCodecs::writeInputEvent));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.gameEngine.Pattern readPattern(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.gameEngine.Pattern.Builder builder = com.amazon.ask.model.services.gameEngine.Pattern.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "gadgetIds":
+                    builder.withGadgetIds(JsonCodecSupport.readList(parser, JsonCodecSupport::readString));
+                    break;
+                case "colors":
+                    builder.withColors(JsonCodecSupport.readList(parser, JsonCodecSupport::readString));
+                    break;
+                case "action":
+                    builder.withAction(readInputEventActionType(parser));
+                    break;
+                case "repeat":
+                    builder.withRepeat(JsonCodecSupport.readInteger(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writePattern(JsonGenerator generator, com.amazon.ask.model.services.gameEngine.Pattern value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "gadgetIds", value.getGadgetIds(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, JsonCodecSupport::writeString));
+        JsonCodecSupport.writeField(generator, "colors", value.getColors(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, JsonCodecSupport::writeString));
+        JsonCodecSupport.writeField(generator, "action", value.getAction(), ServicesGameEngineCodecs::writeInputEventActionType);
+        JsonCodecSupport.writeField(generator, "repeat", value.getRepeat(), JsonCodecSupport::writeInteger);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.gameEngine.PatternRecognizer readPatternRecognizer(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readPatternRecognizerFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.services.gameEngine.PatternRecognizer readPatternRecognizerFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.services.gameEngine.PatternRecognizer.Builder builder = com.amazon.ask.model.services.gameEngine.PatternRecognizer.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "anchor":
+                    builder.withAnchor(readPatternRecognizerAnchorType(parser));
+                    break;
+                case "fuzzy":
+                    builder.withFuzzy(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "gadgetIds":
+                    builder.withGadgetIds(JsonCodecSupport.readList(parser, JsonCodecSupport::readString));
+                    break;
+                case "actions":
+                    builder.withActions(JsonCodecSupport.readList(parser, JsonCodecSupport::readString));
+                    break;
+                case "pattern":
+                    builder.withPattern(JsonCodecSupport.readList(parser, ServicesGameEngineCodecs::readPattern));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writePatternRecognizer(JsonGenerator generator, com.amazon.ask.model.services.gameEngine.PatternRecognizer value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "match");
+        JsonCodecSupport.writeField(generator, "anchor", value.getAnchor(), ServicesGameEngineCodecs::writePatternRecognizerAnchorType);
+        JsonCodecSupport.writeField(generator, "fuzzy", value.getFuzzy(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeField(generator, "gadgetIds", value.getGadgetIds(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, JsonCodecSupport::writeString));
+        JsonCodecSupport.writeField(generator, "actions", value.getActions(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, JsonCodecSupport::writeString));
+        JsonCodecSupport.writeField(generator, "pattern", value.getPattern(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, ServicesGameEngineCodecs::writePattern));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.gameEngine.PatternRecognizerAnchorType readPatternRecognizerAnchorType(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.services.gameEngine.PatternRecognizerAnchorType.fromValue(value) : null;
+    }
+
+    static void writePatternRecognizerAnchorType(JsonGenerator generator, com.amazon.ask.model.services.gameEngine.PatternRecognizerAnchorType value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.services.gameEngine.ProgressRecognizer readProgressRecognizer(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readProgressRecognizerFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.services.gameEngine.ProgressRecognizer readProgressRecognizerFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.services.gameEngine.ProgressRecognizer.Builder builder = com.amazon.ask.model.services.gameEngine.ProgressRecognizer.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "recognizer":
+                    builder.withRecognizer(JsonCodecSupport.readString(parser));
+                    break;
+                case "completion":
+                    builder.withCompletion(JsonCodecSupport.readDouble(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeProgressRecognizer(JsonGenerator generator, com.amazon.ask.model.services.gameEngine.ProgressRecognizer value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "progress");
+        JsonCodecSupport.writeStringField(generator, "recognizer", value.getRecognizer());
+        JsonCodecSupport.writeField(generator, "completion", value.getCompletion(), JsonCodecSupport::writeDouble);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.gameEngine.Recognizer readRecognizer(JsonParser parser) throws IOException {
+        return JsonCodecSupport.readPolymorphic(parser, "type", ServicesGameEngineCodecs::recognizerSubtype);
+    }
+
+    private static JsonCodec.Reader<? extends com.amazon.ask.model.services.gameEngine.Recognizer> recognizerSubtype(String type) {
+        switch (type) {
+            case "match":
+                return ServicesGameEngineCodecs::readPatternRecognizerFields;
+            case "deviation":
+                return ServicesGameEngineCodecs::readDeviationRecognizerFields;
+            case "progress":
+                return ServicesGameEngineCodecs::readProgressRecognizerFields;
+            default:
+                return null;
+        }
+    }
+
+    static void writeRecognizer(JsonGenerator generator, com.amazon.ask.model.services.gameEngine.Recognizer value) throws IOException {
+        switch (String.valueOf(value.getType())) {
+            case "match":
+                writePatternRecognizer(generator, (com.amazon.ask.model.services.gameEngine.PatternRecognizer) value);
+                break;
+            case "deviation":
+                writeDeviationRecognizer(generator, (com.amazon.ask.model.services.gameEngine.DeviationRecognizer) value);
+                break;
+            case "progress":
+                writeProgressRecognizer(generator, (com.amazon.ask.model.services.gameEngine.ProgressRecognizer) value);
+                break;
+            default:
+                generator.writeObject(value);
+        }
+    }
+}
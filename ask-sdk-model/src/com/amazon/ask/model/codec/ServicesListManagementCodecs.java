@@ -0,0 +1,803 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.services.listManagement.
+ */
+final class ServicesListManagementCodecs {
+
+    private ServicesListManagementCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.services.listManagement.AlexaList.class, ServicesListManagementCodecs::readAlexaList, ServicesListManagementCodecs::writeAlexaList);
+        registry.withCodec(com.amazon.ask.model.services.listManagement.AlexaListItem.class, ServicesListManagementCodecs::readAlexaListItem, ServicesListManagementCodecs::writeAlexaListItem);
+        registry.withCodec(com.amazon.ask.model.services.listManagement.AlexaListMetadata.class, ServicesListManagementCodecs::readAlexaListMetadata, ServicesListManagementCodecs::writeAlexaListMetadata);
+        registry.withCodec(com.amazon.ask.model.services.listManagement.AlexaListsMetadata.class, ServicesListManagementCodecs::readAlexaListsMetadata, ServicesListManagementCodecs::writeAlexaListsMetadata);
+        registry.withCodec(com.amazon.ask.model.services.listManagement.CreateListItemRequest.class, ServicesListManagementCodecs::readCreateListItemRequest, ServicesListManagementCodecs::writeCreateListItemRequest);
+        registry.withCodec(com.amazon.ask.model.services.listManagement.CreateListRequest.class, ServicesListManagementCodecs::readCreateListRequest, ServicesListManagementCodecs::writeCreateListRequest);
+        registry.withCodec(com.amazon.ask.model.services.listManagement.Error.class, ServicesListManagementCodecs::readError, ServicesListManagementCodecs::writeError);
+        registry.withCodec(com.amazon.ask.model.services.listManagement.ForbiddenError.class, ServicesListManagementCodecs::readForbiddenError, ServicesListManagementCodecs::writeForbiddenError);
+        registry.withCodec(com.amazon.ask.model.services.listManagement.Links.class, ServicesListManagementCodecs::readLinks, ServicesListManagementCodecs::writeLinks);
+        registry.withCodec(com.amazon.ask.model.services.listManagement.ListBody.class, ServicesListManagementCodecs::readListBody, ServicesListManagementCodecs::writeListBody);
+        registry.withCodec(com.amazon.ask.model.services.listManagement.ListCreatedEventRequest.class, ServicesListManagementCodecs::readListCreatedEventRequest, ServicesListManagementCodecs::writeListCreatedEventRequest);
+        registry.withCodec(com.amazon.ask.model.services.listManagement.ListDeletedEventRequest.class, ServicesListManagementCodecs::readListDeletedEventRequest, ServicesListManagementCodecs::writeListDeletedEventRequest);
+        registry.withCodec(com.amazon.ask.model.services.listManagement.ListItemBody.class, ServicesListManagementCodecs::readListItemBody, ServicesListManagementCodecs::writeListItemBody);
+        registry.withCodec(com.amazon.ask.model.services.listManagement.ListItemState.class, ServicesListManagementCodecs::readListItemState, ServicesListManagementCodecs::writeListItemState);
+        registry.withCodec(com.amazon.ask.model.services.listManagement.ListItemsCreatedEventRequest.class, ServicesListManagementCodecs::readListItemsCreatedEventRequest, ServicesListManagementCodecs::writeListItemsCreatedEventRequest);
+        registry.withCodec(com.amazon.ask.model.services.listManagement.ListItemsDeletedEventRequest.class, ServicesListManagementCodecs::readListItemsDeletedEventRequest, ServicesListManagementCodecs::writeListItemsDeletedEventRequest);
+        registry.withCodec(com.amazon.ask.model.services.listManagement.ListItemsUpdatedEventRequest.class, ServicesListManagementCodecs::readListItemsUpdatedEventRequest, ServicesListManagementCodecs::writeListItemsUpdatedEventRequest);
+        registry.withCodec(com.amazon.ask.model.services.listManagement.ListState.class, ServicesListManagementCodecs::readListState, ServicesListManagementCodecs::writeListState);
+        registry.withCodec(com.amazon.ask.model.services.listManagement.ListUpdatedEventRequest.class, ServicesListManagementCodecs::readListUpdatedEventRequest, ServicesListManagementCodecs::writeListUpdatedEventRequest);
+        registry.withCodec(com.amazon.ask.model.services.listManagement.Status.class, ServicesListManagementCodecs::readStatus, ServicesListManagementCodecs::writeStatus);
+        registry.withCodec(com.amazon.ask.model.services.listManagement.UpdateListItemRequest.class, ServicesListManagementCodecs::readUpdateListItemRequest, ServicesListManagementCodecs::writeUpdateListItemRequest);
+        registry.withCodec(com.amazon.ask.model.services.listManagement.UpdateListRequest.class, ServicesListManagementCodecs::readUpdateListRequest, ServicesListManagementCodecs::writeUpdateListRequest);
+    }
+
+    static com.amazon.ask.model.services.listManagement.AlexaList readAlexaList(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.listManagement.AlexaList.Builder builder = com.amazon.ask.model.services.listManagement.AlexaList.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "listId":
+                    builder.withListId(JsonCodecSupport.readString(parser));
+                    break;
+                case "name":
+                    builder.withName(JsonCodecSupport.readString(parser));
+                    break;
+                case "state":
+                    builder.withState(readListState(parser));
+                    break;
+                case "version":
+                    builder.withVersion(JsonCodecSupport.readLong(parser));
+                    break;
+                case "items":
+                    builder.withItems(JsonCodecSupport.readList(parser, ServicesListManagementCodecs::readAlexaListItem));
+                    break;
+                case "links":
+                    builder.withLinks(readLinks(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeAlexaList(JsonGenerator generator, com.amazon.ask.model.services.listManagement.AlexaList value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "listId", value.getListId());
+        JsonCodecSupport.writeStringField(generator, "name", value.getName());
+        JsonCodecSupport.writeField(generator, "state", value.getState(), ServicesListManagementCodecs::writeListState);
+        JsonCodecSupport.writeField(generator, "version", value.getVersion(), JsonCodecSupport::writeLong);
+        JsonCodecSupport.writeField(generator, "items", value.getItems(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, ServicesListManagementCodecs::writeAlexaListItem));
+        JsonCodecSupport.writeField(generator, "links", value.getLinks(), ServicesListManagementCodecs::writeLinks);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.listManagement.AlexaListItem readAlexaListItem(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.listManagement.AlexaListItem.Builder builder = com.amazon.ask.model.services.listManagement.AlexaListItem.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "id":
+                    builder.withId(JsonCodecSupport.readString(parser));
+                    break;
+                case "version":
+                    builder.withVersion(JsonCodecSupport.readLong(parser));
+                    break;
+                case "value":
+                    builder.withValue(JsonCodecSupport.readString(parser));
+                    break;
+                case "status":
+                    builder.withStatus(readListItemState(parser));
+                    break;
+                case "createdTime":
+                    builder.withCreatedTime(JsonCodecSupport.readString(parser));
+                    break;
+                case "updatedTime":
+                    builder.withUpdatedTime(JsonCodecSupport.readString(parser));
+                    break;
+                case "href":
+                    builder.withHref(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeAlexaListItem(JsonGenerator generator, com.amazon.ask.model.services.listManagement.AlexaListItem value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "id", value.getId());
+        JsonCodecSupport.writeField(generator, "version", value.getVersion(), JsonCodecSupport::writeLong);
+        JsonCodecSupport.writeStringField(generator, "value", value.getValue());
+        JsonCodecSupport.writeField(generator, "status", value.getStatus(), ServicesListManagementCodecs::writeListItemState);
+        JsonCodecSupport.writeStringField(generator, "createdTime", value.getCreatedTime());
+        JsonCodecSupport.writeStringField(generator, "updatedTime", value.getUpdatedTime());
+        JsonCodecSupport.writeStringField(generator, "href", value.getHref());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.listManagement.AlexaListMetadata readAlexaListMetadata(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.listManagement.AlexaListMetadata.Builder builder = com.amazon.ask.model.services.listManagement.AlexaListMetadata.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "listId":
+                    builder.withListId(JsonCodecSupport.readString(parser));
+                    break;
+                case "name":
+                    builder.withName(JsonCodecSupport.readString(parser));
+                    break;
+                case "state":
+                    builder.withState(readListState(parser));
+                    break;
+                case "version":
+                    builder.withVersion(JsonCodecSupport.readLong(parser));
+                    break;
+                case "statusMap":
+                    builder.withStatusMap(JsonCodecSupport.readList(parser, ServicesListManagementCodecs::readStatus));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeAlexaListMetadata(JsonGenerator generator, com.amazon.ask.model.services.listManagement.AlexaListMetadata value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "listId", value.getListId());
+        JsonCodecSupport.writeStringField(generator, "name", value.getName());
+        JsonCodecSupport.writeField(generator, "state", value.getState(), ServicesListManagementCodecs::writeListState);
+        JsonCodecSupport.writeField(generator, "version", value.getVersion(), JsonCodecSupport::writeLong);
+        JsonCodecSupport.writeField(generator, "statusMap", value.getStatusMap(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, ServicesListManagementCodecs::writeStatus));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.listManagement.AlexaListsMetadata readAlexaListsMetadata(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.listManagement.AlexaListsMetadata.Builder builder = com.amazon.ask.model.services.listManagement.AlexaListsMetadata.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "lists":
+                    builder.withLists(JsonCodecSupport.readList(parser, ServicesListManagementCodecs::readAlexaListMetadata));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeAlexaListsMetadata(JsonGenerator generator, com.amazon.ask.model.services.listManagement.AlexaListsMetadata value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "lists", value.getLists(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, ServicesListManagementCodecs::writeAlexaListMetadata));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.listManagement.CreateListItemRequest readCreateListItemRequest(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.listManagement.CreateListItemRequest.Builder builder = com.amazon.ask.model.services.listManagement.CreateListItemRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "value":
+                    builder.withValue(JsonCodecSupport.readString(parser));
+                    break;
+                case "status":
+                    builder.withStatus(readListItemState(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeCreateListItemRequest(JsonGenerator generator, com.amazon.ask.model.services.listManagement.CreateListItemRequest value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "value", value.getValue());
+        JsonCodecSupport.writeField(generator, "status", value.getStatus(), ServicesListManagementCodecs::writeListItemState);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.listManagement.CreateListRequest readCreateListRequest(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.listManagement.CreateListRequest.Builder builder = com.amazon.ask.model.services.listManagement.CreateListRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "name":
+                    builder.withName(JsonCodecSupport.readString(parser));
+                    break;
+                case "state":
+                    builder.withState(readListState(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeCreateListRequest(JsonGenerator generator, com.amazon.ask.model.services.listManagement.CreateListRequest value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "name", value.getName());
+        JsonCodecSupport.writeField(generator, "state", value.getState(), ServicesListManagementCodecs::writeListState);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.listManagement.Error readError(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.listManagement.Error.Builder builder = com.amazon.ask.model.services.listManagement.Error.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "type":
+                    builder.withType(JsonCodecSupport.readString(parser));
+                    break;
+                case "message":
+                    builder.withMessage(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeError(JsonGenerator generator, com.amazon.ask.model.services.listManagement.Error value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "type", value.getType());
+        JsonCodecSupport.writeStringField(generator, "message", value.getMessage());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.listManagement.ForbiddenError readForbiddenError(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.listManagement.ForbiddenError.Builder builder = com.amazon.ask.model.services.listManagement.ForbiddenError.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "Message":
+                    builder.withMessage(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeForbiddenError(JsonGenerator generator, com.amazon.ask.model.services.listManagement.ForbiddenError value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "Message", value.getMessage());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.listManagement.Links readLinks(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.listManagement.Links.Builder builder = com.amazon.ask.model.services.listManagement.Links.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "next":
+                    builder.withNext(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeLinks(JsonGenerator generator, com.amazon.ask.model.services.listManagement.Links value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "next", value.getNext());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.listManagement.ListBody readListBody(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.listManagement.ListBody.Builder builder = com.amazon.ask.model.services.listManagement.ListBody.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "listId":
+                    builder.withListId(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeListBody(JsonGenerator generator, com.amazon.ask.model.services.listManagement.ListBody value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "listId", value.getListId());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.listManagement.ListCreatedEventRequest readListCreatedEventRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readListCreatedEventRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.services.listManagement.ListCreatedEventRequest readListCreatedEventRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.services.listManagement.ListCreatedEventRequest.Builder builder = com.amazon.ask.model.services.listManagement.ListCreatedEventRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                case "body":
+                    builder.withBody(readListBody(parser));
+                    break;
+                case "eventCreationTime":
+                    builder.withEventCreationTime(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "eventPublishingTime":
+                    builder.withEventPublishingTime(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeListCreatedEventRequest(JsonGenerator generator, com.amazon.ask.model.services.listManagement.ListCreatedEventRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "AlexaHouseholdListEvent.ListCreated");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        JsonCodecSupport.writeField(generator, "body", value.getBody(), ServicesListManagementCodecs::writeListBody);
+        JsonCodecSupport.writeField(generator, "eventCreationTime", value.getEventCreationTime(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeField(generator, "eventPublishingTime", value.getEventPublishingTime(), JsonCodecSupport::writeOffsetDateTime);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.listManagement.ListDeletedEventRequest readListDeletedEventRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readListDeletedEventRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.services.listManagement.ListDeletedEventRequest readListDeletedEventRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.services.listManagement.ListDeletedEventRequest.Builder builder = com.amazon.ask.model.services.listManagement.ListDeletedEventRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                case "body":
+                    builder.withBody(readListBody(parser));
+                    break;
+                case "eventCreationTime":
+                    builder.withEventCreationTime(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "eventPublishingTime":
+                    builder.withEventPublishingTime(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeListDeletedEventRequest(JsonGenerator generator, com.amazon.ask.model.services.listManagement.ListDeletedEventRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "AlexaHouseholdListEvent.ListDeleted");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        JsonCodecSupport.writeField(generator, "body", value.getBody(), ServicesListManagementCodecs::writeListBody);
+        JsonCodecSupport.writeField(generator, "eventCreationTime", value.getEventCreationTime(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeField(generator, "eventPublishingTime", value.getEventPublishingTime(), JsonCodecSupport::writeOffsetDateTime);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.listManagement.ListItemBody readListItemBody(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.listManagement.ListItemBody.Builder builder = com.amazon.ask.model.services.listManagement.ListItemBody.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "listId":
+                    builder.withListId(JsonCodecSupport.readString(parser));
+                    break;
+                case "listItemIds":
+                    builder.withListItemIds(JsonCodecSupport.readList(parser, JsonCodecSupport::readString));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeListItemBody(JsonGenerator generator, com.amazon.ask.model.services.listManagement.ListItemBody value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "listId", value.getListId());
+        JsonCodecSupport.writeField(generator, "listItemIds", value.getListItemIds(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, JsonCodecSupport::writeString));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.listManagement.ListItemState readListItemState(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.services.listManagement.ListItemState.fromValue(value) : null;
+    }
+
+    static void writeListItemState(JsonGenerator generator, com.amazon.ask.model.services.listManagement.ListItemState value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.services.listManagement.ListItemsCreatedEventRequest readListItemsCreatedEventRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readListItemsCreatedEventRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.services.listManagement.ListItemsCreatedEventRequest readListItemsCreatedEventRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.services.listManagement.ListItemsCreatedEventRequest.Builder builder = com.amazon.ask.model.services.listManagement.ListItemsCreatedEventRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                case "body":
+                    builder.withBody(readListItemBody(parser));
+                    break;
+                case "eventCreationTime":
+                    builder.withEventCreationTime(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "eventPublishingTime":
+                    builder.withEventPublishingTime(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeListItemsCreatedEventRequest(JsonGenerator generator, com.amazon.ask.model.services.listManagement.ListItemsCreatedEventRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "AlexaHouseholdListEvent.ItemsCreated");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        JsonCodecSupport.writeField(generator, "body", value.getBody(), ServicesListManagementCodecs::writeListItemBody);
+        JsonCodecSupport.writeField(generator, "eventCreationTime", value.getEventCreationTime(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeField(generator, "eventPublishingTime", value.getEventPublishingTime(), JsonCodecSupport::writeOffsetDateTime);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.listManagement.ListItemsDeletedEventRequest readListItemsDeletedEventRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readListItemsDeletedEventRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.services.listManagement.ListItemsDeletedEventRequest readListItemsDeletedEventRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.services.listManagement.ListItemsDeletedEventRequest.Builder builder = com.amazon.ask.model.services.listManagement.ListItemsDeletedEventRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                case "body":
+                    builder.withBody(readListItemBody(parser));
+                    break;
+                case "eventCreationTime":
+                    builder.withEventCreationTime(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "eventPublishingTime":
+                    builder.withEventPublishingTime(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeListItemsDeletedEventRequest(JsonGenerator generator, com.amazon.ask.model.services.listManagement.ListItemsDeletedEventRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "AlexaHouseholdListEvent.ItemsDeleted");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        JsonCodecSupport.writeField(generator, "body", value.getBody(), ServicesListManagementCodecs::writeListItemBody);
+        JsonCodecSupport.writeField(generator, "eventCreationTime", value.getEventCreationTime(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeField(generator, "eventPublishingTime", value.getEventPublishingTime(), JsonCodecSupport::writeOffsetDateTime);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.listManagement.ListItemsUpdatedEventRequest readListItemsUpdatedEventRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readListItemsUpdatedEventRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.services.listManagement.ListItemsUpdatedEventRequest readListItemsUpdatedEventRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.services.listManagement.ListItemsUpdatedEventRequest.Builder builder = com.amazon.ask.model.services.listManagement.ListItemsUpdatedEventRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                case "body":
+                    builder.withBody(readListItemBody(parser));
+                    break;
+                case "eventCreationTime":
+                    builder.withEventCreationTime(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "eventPublishingTime":
+                    builder.withEventPublishingTime(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeListItemsUpdatedEventRequest(JsonGenerator generator, com.amazon.ask.model.services.listManagement.ListItemsUpdatedEventRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "AlexaHouseholdListEvent.ItemsUpdated");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        JsonCodecSupport.writeField(generator, "body", value.getBody(), ServicesListManagementCodecs::writeListItemBody);
+        JsonCodecSupport.writeField(generator, "eventCreationTime", value.getEventCreationTime(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeField(generator, "eventPublishingTime", value.getEventPublishingTime(), JsonCodecSupport::writeOffsetDateTime);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.listManagement.ListState readListState(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.services.listManagement.ListState.fromValue(value) : null;
+    }
+
+    static void writeListState(JsonGenerator generator, com.amazon.ask.model.services.listManagement.ListState value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.services.listManagement.ListUpdatedEventRequest readListUpdatedEventRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readListUpdatedEventRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.services.listManagement.ListUpdatedEventRequest readListUpdatedEventRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.services.listManagement.ListUpdatedEventRequest.Builder builder = com.amazon.ask.model.services.listManagement.ListUpdatedEventRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                case "body":
+                    builder.withBody(readListBody(parser));
+                    break;
+                case "eventCreationTime":
+                    builder.withEventCreationTime(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "eventPublishingTime":
+                    builder.withEventPublishingTime(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeListUpdatedEventRequest(JsonGenerator generator, com.amazon.ask.model.services.listManagement.ListUpdatedEventRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "AlexaHouseholdListEvent.ListUpdated");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        JsonCodecSupport.writeField(generator, "body", value.getBody(), ServicesListManagementCodecs::writeListBody);
+        JsonCodecSupport.writeField(generator, "eventCreationTime", value.getEventCreationTime(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeField(generator, "eventPublishingTime", value.getEventPublishingTime(), JsonCodecSupport::writeOffsetDateTime);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.listManagement.Status readStatus(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.listManagement.Status.Builder builder = com.amazon.ask.model.services.listManagement.Status.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "url":
+                    builder.withUrl(JsonCodecSupport.readString(parser));
+                    break;
+                case "status":
+                    builder.withStatus(readListItemState(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeStatus(JsonGenerator generator, com.amazon.ask.model.services.listManagement.Status value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "url", value.getUrl());
+        JsonCodecSupport.writeField(generator, "status", value.getStatus(), ServicesListManagementCodecs::writeListItemState);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.listManagement.UpdateListItemRequest readUpdateListItemRequest(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.listManagement.UpdateListItemRequest.Builder builder = com.amazon.ask.model.services.listManagement.UpdateListItemRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "value":
+                    builder.withValue(JsonCodecSupport.readString(parser));
+                    break;
+                case "status":
+                    builder.withStatus(readListItemState(parser));
+                    break;
+                case "version":
+                    builder.withVersion(JsonCodecSupport.readLong(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeUpdateListItemRequest(JsonGenerator generator, com.amazon.ask.model.services.listManagement.UpdateListItemRequest value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "value", value.getValue());
+        JsonCodecSupport.writeField(generator, "status", value.getStatus(), ServicesListManagementCodecs::writeListItemState);
+        JsonCodecSupport.writeField(generator, "version", value.getVersion(), JsonCodecSupport::writeLong);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.listManagement.UpdateListRequest readUpdateListRequest(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.listManagement.UpdateListRequest.Builder builder = com.amazon.ask.model.services.listManagement.UpdateListRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "name":
+                    builder.withName(JsonCodecSupport.readString(parser));
+                    break;
+                case "state":
+                    builder.withState(readListState(parser));
+                    break;
+                case "version":
+                    builder.withVersion(JsonCodecSupport.readLong(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeUpdateListRequest(JsonGenerator generator, com.amazon.ask.model.services.listManagement.UpdateListRequest value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "name", value.getName());
+        JsonCodecSupport.writeField(generator, "state", value.getState(), ServicesListManagementCodecs::writeListState);
+        JsonCodecSupport.writeField(generator, "version", value.getVersion(), JsonCodecSupport::writeLong);
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,337 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.services.monetization.
+ */
+final class ServicesMonetizationCodecs {
+
+    private ServicesMonetizationCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.services.monetization.EntitledState.class, ServicesMonetizationCodecs::readEntitledState, ServicesMonetizationCodecs::writeEntitledState);
+        registry.withCodec(com.amazon.ask.model.services.monetization.EntitlementReason.class, ServicesMonetizationCodecs::readEntitlementReason, ServicesMonetizationCodecs::writeEntitlementReason);
+        registry.withCodec(com.amazon.ask.model.services.monetization.Error.class, ServicesMonetizationCodecs::readError, ServicesMonetizationCodecs::writeError);
+        registry.withCodec(com.amazon.ask.model.services.monetization.InSkillProduct.class, ServicesMonetizationCodecs::readInSkillProduct, ServicesMonetizationCodecs::writeInSkillProduct);
+        registry.withCodec(com.amazon.ask.model.services.monetization.InSkillProductTransactionsResponse.class, ServicesMonetizationCodecs::readInSkillProductTransactionsResponse, ServicesMonetizationCodecs::writeInSkillProductTransactionsResponse);
+        registry.withCodec(com.amazon.ask.model.services.monetization.InSkillProductsResponse.class, ServicesMonetizationCodecs::readInSkillProductsResponse, ServicesMonetizationCodecs::writeInSkillProductsResponse);
+        registry.withCodec(com.amazon.ask.model.services.monetization.Metadata.class, ServicesMonetizationCodecs::readMetadata, ServicesMonetizationCodecs::writeMetadata);
+        registry.withCodec(com.amazon.ask.model.services.monetization.ProductType.class, ServicesMonetizationCodecs::readProductType, ServicesMonetizationCodecs::writeProductType);
+        registry.withCodec(com.amazon.ask.model.services.monetization.PurchasableState.class, ServicesMonetizationCodecs::readPurchasableState, ServicesMonetizationCodecs::writePurchasableState);
+        registry.withCodec(com.amazon.ask.model.services.monetization.PurchaseMode.class, ServicesMonetizationCodecs::readPurchaseMode, ServicesMonetizationCodecs::writePurchaseMode);
+        registry.withCodec(com.amazon.ask.model.services.monetization.ResultSet.class, ServicesMonetizationCodecs::readResultSet, ServicesMonetizationCodecs::writeResultSet);
+        registry.withCodec(com.amazon.ask.model.services.monetization.Status.class, ServicesMonetizationCodecs::readStatus, ServicesMonetizationCodecs::writeStatus);
+        registry.withCodec(com.amazon.ask.model.services.monetization.Transactions.class, ServicesMonetizationCodecs::readTransactions, ServicesMonetizationCodecs::writeTransactions);
+    }
+
+    static com.amazon.ask.model.services.monetization.EntitledState readEntitledState(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.services.monetization.EntitledState.fromValue(value) : null;
+    }
+
+    static void writeEntitledState(JsonGenerator generator, com.amazon.ask.model.services.monetization.EntitledState value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.services.monetization.EntitlementReason readEntitlementReason(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.services.monetization.EntitlementReason.fromValue(value) : null;
+    }
+
+    static void writeEntitlementReason(JsonGenerator generator, com.amazon.ask.model.services.monetization.EntitlementReason value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.services.monetization.Error readError(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.monetization.Error.Builder builder = com.amazon.ask.model.services.monetization.Error.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "message":
+                    builder.withMessage(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeError(JsonGenerator generator, com.amazon.ask.model.services.monetization.Error value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "message", value.getMessage());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.monetization.InSkillProduct readInSkillProduct(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.monetization.InSkillProduct.Builder builder = com.amazon.ask.model.services.monetization.InSkillProduct.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "productId":
+                    builder.withProductId(JsonCodecSupport.readString(parser));
+                    break;
+                case "referenceName":
+                    builder.withReferenceName(JsonCodecSupport.readString(parser));
+                    break;
+                case "name":
+                    builder.withName(JsonCodecSupport.readString(parser));
+                    break;
+                case "type":
+                    builder.withType(readProductType(parser));
+                    break;
+                case "summary":
+                    builder.withSummary(JsonCodecSupport.readString(parser));
+                    break;
+                case "purchasable":
+                    builder.withPurchasable(readPurchasableState(parser));
+                    break;
+                case "entitled":
+                    builder.withEntitled(readEntitledState(parser));
+                    break;
+                case "entitlementReason":
+                    builder.withEntitlementReason(readEntitlementReason(parser));
+                    break;
+                case "activeEntitlementCount":
+                    builder.withActiveEntitlementCount(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "purchaseMode":
+                    builder.withPurchaseMode(readPurchaseMode(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeInSkillProduct(JsonGenerator generator, com.amazon.ask.model.services.monetization.InSkillProduct value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "productId", value.getProductId());
+        JsonCodecSupport.writeStringField(generator, "referenceName", value.getReferenceName());
+        JsonCodecSupport.writeStringField(generator, "name", value.getName());
+        JsonCodecSupport.writeField(generator, "type", value.getType(), ServicesMonetizationCodecs::writeProductType);
+        JsonCodecSupport.writeStringField(generator, "summary", value.getSummary());
+        JsonCodecSupport.writeField(generator, "purchasable", value.getPurchasable(), ServicesMonetizationCodecs::writePurchasableState);
+        JsonCodecSupport.writeField(generator, "entitled", value.getEntitled(), ServicesMonetizationCodecs::writeEntitledState);
+        JsonCodecSupport.writeField(generator, "entitlementReason", value.getEntitlementReason(), ServicesMonetizationCodecs::writeEntitlementReason);
+        JsonCodecSupport.writeField(generator, "activeEntitlementCount", value.getActiveEntitlementCount(), JsonCodecSupport::writeInteger);
+        JsonCodecSupport.writeField(generator, "purchaseMode", value.getPurchaseMode(), ServicesMonetizationCodecs::writePurchaseMode);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.monetization.InSkillProductTransactionsResponse readInSkillProductTransactionsResponse(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.monetization.InSkillProductTransactionsResponse.Builder builder = com.amazon.ask.model.services.monetization.InSkillProductTransactionsResponse.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "results":
+                    builder.withResults(JsonCodecSupport.readList(parser, ServicesMonetizationCodecs::readTransactions));
+                    break;
+                case "metadata":
+                    builder.withMetadata(readMetadata(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeInSkillProductTransactionsResponse(JsonGenerator generator, com.amazon.ask.model.services.monetization.InSkillProductTransactionsResponse value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "results", value.getResults(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, ServicesMonetizationCodecs::writeTransactions));
+        JsonCodecSupport.writeField(generator, "metadata", value.getMetadata(), ServicesMonetizationCodecs::writeMetadata);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.monetization.InSkillProductsResponse readInSkillProductsResponse(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.monetization.InSkillProductsResponse.Builder builder = com.amazon.ask.model.services.monetization.InSkillProductsResponse.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "inSkillProducts":
+                    builder.withInSkillProducts(JsonCodecSupport.readList(parser, ServicesMonetizationCodecs::readInSkillProduct));
+                    break;
+                case "isTruncated":
+                    builder.withIsTruncated(JsonCodecSupport.readBoolean(parser));
+                    break;
+                case "nextToken":
+                    builder.withNextToken(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeInSkillProductsResponse(JsonGenerator generator, com.amazon.ask.model.services.monetization.InSkillProductsResponse value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "inSkillProducts", value.getInSkillProducts(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, ServicesMonetizationCodecs::writeInSkillProduct));
+        JsonCodecSupport.writeField(generator, "isTruncated", value.getIsTruncated(), JsonCodecSupport::writeBoolean);
+        JsonCodecSupport.writeStringField(generator, "nextToken", value.getNextToken());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.monetization.Metadata readMetadata(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.monetization.Metadata.Builder builder = com.amazon.ask.model.services.monetization.Metadata.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "resultSet":
+                    builder.withResultSet(readResultSet(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeMetadata(JsonGenerator generator, com.amazon.ask.model.services.monetization.Metadata value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "resultSet", value.getResultSet(), ServicesMonetizationCodecs::writeResultSet);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.monetization.ProductType readProductType(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.services.monetization.ProductType.fromValue(value) : null;
+    }
+
+    static void writeProductType(JsonGenerator generator, com.amazon.ask.model.services.monetization.ProductType value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.services.monetization.PurchasableState readPurchasableState(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.services.monetization.PurchasableState.fromValue(value) : null;
+    }
+
+    static void writePurchasableState(JsonGenerator generator, com.amazon.ask.model.services.monetization.PurchasableState value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.services.monetization.PurchaseMode readPurchaseMode(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.services.monetization.PurchaseMode.fromValue(value) : null;
+    }
+
+    static void writePurchaseMode(JsonGenerator generator, com.amazon.ask.model.services.monetization.PurchaseMode value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.services.monetization.ResultSet readResultSet(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.monetization.ResultSet.Builder builder = com.amazon.ask.model.services.monetization.ResultSet.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "nextToken":
+                    builder.withNextToken(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeResultSet(JsonGenerator generator, com.amazon.ask.model.services.monetization.ResultSet value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "nextToken", value.getNextToken());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.monetization.Status readStatus(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.services.monetization.Status.fromValue(value) : null;
+    }
+
+    static void writeStatus(JsonGenerator generator, com.amazon.ask.model.services.monetization.Status value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.services.monetization.Transactions readTransactions(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.monetization.Transactions.Builder builder = com.amazon.ask.model.services.monetization.Transactions.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "status":
+                    builder.withStatus(readStatus(parser));
+                    break;
+                case "productId":
+                    builder.withProductId(JsonCodecSupport.readString(parser));
+                    break;
+                case "createdTime":
+                    builder.withCreatedTime(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "lastModifiedTime":
+                    builder.withLastModifiedTime(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeTransactions(JsonGenerator generator, com.amazon.ask.model.services.monetization.Transactions value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "status", value.getStatus(), ServicesMonetizationCodecs::writeStatus);
+        JsonCodecSupport.writeStringField(generator, "productId", value.getProductId());
+        JsonCodecSupport.writeField(generator, "createdTime", value.getCreatedTime(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeField(generator, "lastModifiedTime", value.getLastModifiedTime(), JsonCodecSupport::writeOffsetDateTime);
+        generator.writeEndObject();
+    }
+}
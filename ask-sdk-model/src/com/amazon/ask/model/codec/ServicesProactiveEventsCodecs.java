@@ -0,0 +1,191 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.services.proactiveEvents.
+ */
+final class ServicesProactiveEventsCodecs {
+
+    private ServicesProactiveEventsCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.services.proactiveEvents.CreateProactiveEventRequest.class, ServicesProactiveEventsCodecs::readCreateProactiveEventRequest, ServicesProactiveEventsCodecs::writeCreateProactiveEventRequest);
+        registry.withCodec(com.amazon.ask.model.services.proactiveEvents.Error.class, ServicesProactiveEventsCodecs::readError, ServicesProactiveEventsCodecs::writeError);
+        registry.withCodec(com.amazon.ask.model.services.proactiveEvents.Event.class, ServicesProactiveEventsCodecs::readEvent, ServicesProactiveEventsCodecs::writeEvent);
+        registry.withCodec(com.amazon.ask.model.services.proactiveEvents.RelevantAudience.class, ServicesProactiveEventsCodecs::readRelevantAudience, ServicesProactiveEventsCodecs::writeRelevantAudience);
+        registry.withCodec(com.amazon.ask.model.services.proactiveEvents.RelevantAudienceType.class, ServicesProactiveEventsCodecs::readRelevantAudienceType, ServicesProactiveEventsCodecs::writeRelevantAudienceType);
+        registry.withCodec(com.amazon.ask.model.services.proactiveEvents.SkillStage.class, ServicesProactiveEventsCodecs::readSkillStage, ServicesProactiveEventsCodecs::writeSkillStage);
+    }
+
+    static com.amazon.ask.model.services.proactiveEvents.CreateProactiveEventRequest readCreateProactiveEventRequest(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.proactiveEvents.CreateProactiveEventRequest.Builder builder = com.amazon.ask.model.services.proactiveEvents.CreateProactiveEventRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "referenceId":
+                    builder.withReferenceId(JsonCodecSupport.readString(parser));
+                    break;
+                case "expiryTime":
+                    builder.withExpiryTime(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "event":
+                    builder.withEvent(readEvent(parser));
+                    break;
+                case "localizedAttributes":
+                    builder.withLocalizedAttributes(JsonCodecSupport.readList(parser, JsonCodecSupport::readUntyped));
+                    break;
+                case "relevantAudience":
+                    builder.withRelevantAudience(readRelevantAudience(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeCreateProactiveEventRequest(JsonGenerator generator, com.amazon.ask.model.services.proactiveEvents.CreateProactiveEventRequest value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "referenceId", value.getReferenceId());
+        JsonCodecSupport.writeField(generator, "expiryTime", value.getExpiryTime(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeField(generator, "event", value.getEvent(), ServicesProactiveEventsCodecs::writeEvent);
+        JsonCodecSupport.writeField(generator, "localizedAttributes", value.getLocalizedAttributes(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, JsonCodecSupport::writeUntyped));
+        JsonCodecSupport.writeField(generator, "relevantAudience", value.getRelevantAudience(), ServicesProactiveEventsCodecs::writeRelevantAudience);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.proactiveEvents.Error readError(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.proactiveEvents.Error.Builder builder = com.amazon.ask.model.services.proactiveEvents.Error.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "code":
+                    builder.withCode(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "message":
+                    builder.withMessage(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeError(JsonGenerator generator, com.amazon.ask.model.services.proactiveEvents.Error value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "code", value.getCode(), JsonCodecSupport::writeInteger);
+        JsonCodecSupport.writeStringField(generator, "message", value.getMessage());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.proactiveEvents.Event readEvent(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.proactiveEvents.Event.Builder builder = com.amazon.ask.model.services.proactiveEvents.Event.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "name":
+                    builder.withName(JsonCodecSupport.readString(parser));
+                    break;
+                case "payload":
+                    builder.withPayload(JsonCodecSupport.readUntyped(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeEvent(JsonGenerator generator, com.amazon.ask.model.services.proactiveEvents.Event value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "name", value.getName());
+        JsonCodecSupport.writeField(generator, "payload", value.getPayload(), JsonCodecSupport::writeUntyped);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.proactiveEvents.RelevantAudience readRelevantAudience(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.proactiveEvents.RelevantAudience.Builder builder = com.amazon.ask.model.services.proactiveEvents.RelevantAudience.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "type":
+                    builder.withType(readRelevantAudienceType(parser));
+                    break;
+                case "payload":
+                    builder.withPayload(JsonCodecSupport.readUntyped(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeRelevantAudience(JsonGenerator generator, com.amazon.ask.model.services.proactiveEvents.RelevantAudience value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "type", value.getType(), ServicesProactiveEventsCodecs::writeRelevantAudienceType);
+        JsonCodecSupport.writeFieldAlways(generator, "payload", value.getPayload(), JsonCodecSupport::writeUntypedAlways);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.proactiveEvents.RelevantAudienceType readRelevantAudienceType(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.services.proactiveEvents.RelevantAudienceType.fromValue(value) : null;
+    }
+
+    static void writeRelevantAudienceType(JsonGenerator generator, com.amazon.ask.model.services.proactiveEvents.RelevantAudienceType value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.services.proactiveEvents.SkillStage readSkillStage(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.services.proactiveEvents.SkillStage.fromValue(value) : null;
+    }
+
+    static void writeSkillStage(JsonGenerator generator, com.amazon.ask.model.services.proactiveEvents.SkillStage value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+}
@@ -0,0 +1,785 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.services.reminderManagement.
+ */
+final class ServicesReminderManagementCodecs {
+
+    private ServicesReminderManagementCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.services.reminderManagement.AlertInfo.class, ServicesReminderManagementCodecs::readAlertInfo, ServicesReminderManagementCodecs::writeAlertInfo);
+        registry.withCodec(com.amazon.ask.model.services.reminderManagement.AlertInfoSpokenInfo.class, ServicesReminderManagementCodecs::readAlertInfoSpokenInfo, ServicesReminderManagementCodecs::writeAlertInfoSpokenInfo);
+        registry.withCodec(com.amazon.ask.model.services.reminderManagement.Error.class, ServicesReminderManagementCodecs::readError, ServicesReminderManagementCodecs::writeError);
+        registry.withCodec(com.amazon.ask.model.services.reminderManagement.Event.class, ServicesReminderManagementCodecs::readEvent, ServicesReminderManagementCodecs::writeEvent);
+        registry.withCodec(com.amazon.ask.model.services.reminderManagement.GetReminderResponse.class, ServicesReminderManagementCodecs::readGetReminderResponse, ServicesReminderManagementCodecs::writeGetReminderResponse);
+        registry.withCodec(com.amazon.ask.model.services.reminderManagement.GetRemindersResponse.class, ServicesReminderManagementCodecs::readGetRemindersResponse, ServicesReminderManagementCodecs::writeGetRemindersResponse);
+        registry.withCodec(com.amazon.ask.model.services.reminderManagement.PushNotification.class, ServicesReminderManagementCodecs::readPushNotification, ServicesReminderManagementCodecs::writePushNotification);
+        registry.withCodec(com.amazon.ask.model.services.reminderManagement.PushNotificationStatus.class, ServicesReminderManagementCodecs::readPushNotificationStatus, ServicesReminderManagementCodecs::writePushNotificationStatus);
+        registry.withCodec(com.amazon.ask.model.services.reminderManagement.Recurrence.class, ServicesReminderManagementCodecs::readRecurrence, ServicesReminderManagementCodecs::writeRecurrence);
+        registry.withCodec(com.amazon.ask.model.services.reminderManagement.RecurrenceDay.class, ServicesReminderManagementCodecs::readRecurrenceDay, ServicesReminderManagementCodecs::writeRecurrenceDay);
+        registry.withCodec(com.amazon.ask.model.services.reminderManagement.RecurrenceFreq.class, ServicesReminderManagementCodecs::readRecurrenceFreq, ServicesReminderManagementCodecs::writeRecurrenceFreq);
+        registry.withCodec(com.amazon.ask.model.services.reminderManagement.Reminder.class, ServicesReminderManagementCodecs::readReminder, ServicesReminderManagementCodecs::writeReminder);
+        registry.withCodec(com.amazon.ask.model.services.reminderManagement.ReminderCreatedEventRequest.class, ServicesReminderManagementCodecs::readReminderCreatedEventRequest, ServicesReminderManagementCodecs::writeReminderCreatedEventRequest);
+        registry.withCodec(com.amazon.ask.model.services.reminderManagement.ReminderDeletedEvent.class, ServicesReminderManagementCodecs::readReminderDeletedEvent, ServicesReminderManagementCodecs::writeReminderDeletedEvent);
+        registry.withCodec(com.amazon.ask.model.services.reminderManagement.ReminderDeletedEventRequest.class, ServicesReminderManagementCodecs::readReminderDeletedEventRequest, ServicesReminderManagementCodecs::writeReminderDeletedEventRequest);
+        registry.withCodec(com.amazon.ask.model.services.reminderManagement.ReminderRequest.class, ServicesReminderManagementCodecs::readReminderRequest, ServicesReminderManagementCodecs::writeReminderRequest);
+        registry.withCodec(com.amazon.ask.model.services.reminderManagement.ReminderResponse.class, ServicesReminderManagementCodecs::readReminderResponse, ServicesReminderManagementCodecs::writeReminderResponse);
+        registry.withCodec(com.amazon.ask.model.services.reminderManagement.ReminderStartedEventRequest.class, ServicesReminderManagementCodecs::readReminderStartedEventRequest, ServicesReminderManagementCodecs::writeReminderStartedEventRequest);
+        registry.withCodec(com.amazon.ask.model.services.reminderManagement.ReminderStatusChangedEventRequest.class, ServicesReminderManagementCodecs::readReminderStatusChangedEventRequest, ServicesReminderManagementCodecs::writeReminderStatusChangedEventRequest);
+        registry.withCodec(com.amazon.ask.model.services.reminderManagement.ReminderUpdatedEventRequest.class, ServicesReminderManagementCodecs::readReminderUpdatedEventRequest, ServicesReminderManagementCodecs::writeReminderUpdatedEventRequest);
+        registry.withCodec(com.amazon.ask.model.services.reminderManagement.SpokenText.class, ServicesReminderManagementCodecs::readSpokenText, ServicesReminderManagementCodecs::writeSpokenText);
+        registry.withCodec(com.amazon.ask.model.services.reminderManagement.Status.class, ServicesReminderManagementCodecs::readStatus, ServicesReminderManagementCodecs::writeStatus);
+        registry.withCodec(com.amazon.ask.model.services.reminderManagement.Trigger.class, ServicesReminderManagementCodecs::readTrigger, ServicesReminderManagementCodecs::writeTrigger);
+        registry.withCodec(com.amazon.ask.model.services.reminderManagement.TriggerType.class, ServicesReminderManagementCodecs::readTriggerType, ServicesReminderManagementCodecs::writeTriggerType);
+    }
+
+    static com.amazon.ask.model.services.reminderManagement.AlertInfo readAlertInfo(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.reminderManagement.AlertInfo.Builder builder = com.amazon.ask.model.services.reminderManagement.AlertInfo.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "spokenInfo":
+                    builder.withSpokenInfo(readAlertInfoSpokenInfo(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeAlertInfo(JsonGenerator generator, com.amazon.ask.model.services.reminderManagement.AlertInfo value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "spokenInfo", value.getSpokenInfo(), ServicesReminderManagementCodecs::writeAlertInfoSpokenInfo);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.reminderManagement.AlertInfoSpokenInfo readAlertInfoSpokenInfo(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.reminderManagement.AlertInfoSpokenInfo.Builder builder = com.amazon.ask.model.services.reminderManagement.AlertInfoSpokenInfo.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "content":
+                    builder.withContent(JsonCodecSupport.readList(parser, ServicesReminderManagementCodecs::readSpokenText));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeAlertInfoSpokenInfo(JsonGenerator generator, com.amazon.ask.model.services.reminderManagement.AlertInfoSpokenInfo value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "content", value.getContent(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, ServicesReminderManagementCodecs::writeSpokenText));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.reminderManagement.Error readError(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.reminderManagement.Error.Builder builder = com.amazon.ask.model.services.reminderManagement.Error.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "code":
+                    builder.withCode(JsonCodecSupport.readString(parser));
+                    break;
+                case "message":
+                    builder.withMessage(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeError(JsonGenerator generator, com.amazon.ask.model.services.reminderManagement.Error value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "code", value.getCode());
+        JsonCodecSupport.writeStringField(generator, "message", value.getMessage());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.reminderManagement.Event readEvent(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.reminderManagement.Event.Builder builder = com.amazon.ask.model.services.reminderManagement.Event.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "status":
+                    builder.withStatus(readStatus(parser));
+                    break;
+                case "alertToken":
+                    builder.withAlertToken(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeEvent(JsonGenerator generator, com.amazon.ask.model.services.reminderManagement.Event value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "status", value.getStatus(), ServicesReminderManagementCodecs::writeStatus);
+        JsonCodecSupport.writeStringField(generator, "alertToken", value.getAlertToken());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.reminderManagement.GetReminderResponse readGetReminderResponse(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.reminderManagement.GetReminderResponse.Builder builder = com.amazon.ask.model.services.reminderManagement.GetReminderResponse.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "alertToken":
+                    builder.withAlertToken(JsonCodecSupport.readString(parser));
+                    break;
+                case "createdTime":
+                    builder.withCreatedTime(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "updatedTime":
+                    builder.withUpdatedTime(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "status":
+                    builder.withStatus(readStatus(parser));
+                    break;
+                case "trigger":
+                    builder.withTrigger(readTrigger(parser));
+                    break;
+                case "alertInfo":
+                    builder.withAlertInfo(readAlertInfo(parser));
+                    break;
+                case "pushNotification":
+                    builder.withPushNotification(readPushNotification(parser));
+                    break;
+                case "version":
+                    builder.withVersion(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeGetReminderResponse(JsonGenerator generator, com.amazon.ask.model.services.reminderManagement.GetReminderResponse value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "alertToken", value.getAlertToken());
+        JsonCodecSupport.writeField(generator, "createdTime", value.getCreatedTime(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeField(generator, "updatedTime", value.getUpdatedTime(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeField(generator, "status", value.getStatus(), ServicesReminderManagementCodecs::writeStatus);
+        JsonCodecSupport.writeField(generator, "trigger", value.getTrigger(), ServicesReminderManagementCodecs::writeTrigger);
+        JsonCodecSupport.writeField(generator, "alertInfo", value.getAlertInfo(), ServicesReminderManagementCodecs::writeAlertInfo);
+        JsonCodecSupport.writeField(generator, "pushNotification", value.getPushNotification(), ServicesReminderManagementCodecs::writePushNotification);
+        JsonCodecSupport.writeStringField(generator, "version", value.getVersion());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.reminderManagement.GetRemindersResponse readGetRemindersResponse(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.reminderManagement.GetRemindersResponse.Builder builder = com.amazon.ask.model.services.reminderManagement.GetRemindersResponse.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "totalCount":
+                    builder.withTotalCount(JsonCodecSupport.readString(parser));
+                    break;
+                case "alerts":
+                    builder.withAlerts(JsonCodecSupport.readList(parser, ServicesReminderManagementCodecs::readReminder));
+                    break;
+                case "links":
+                    builder.withLinks(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeGetRemindersResponse(JsonGenerator generator, com.amazon.ask.model.services.reminderManagement.GetRemindersResponse value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "totalCount", value.getTotalCount());
+        JsonCodecSupport.writeField(generator, "alerts", value.getAlerts(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, ServicesReminderManagementCodecs::writeReminder));
+        JsonCodecSupport.writeStringField(generator, "links", value.getLinks());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.reminderManagement.PushNotification readPushNotification(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.reminderManagement.PushNotification.Builder builder = com.amazon.ask.model.services.reminderManagement.PushNotification.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "status":
+                    builder.withStatus(readPushNotificationStatus(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writePushNotification(JsonGenerator generator, com.amazon.ask.model.services.reminderManagement.PushNotification value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "status", value.getStatus(), ServicesReminderManagementCodecs::writePushNotificationStatus);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.reminderManagement.PushNotificationStatus readPushNotificationStatus(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.services.reminderManagement.PushNotificationStatus.fromValue(value) : null;
+    }
+
+    static void writePushNotificationStatus(JsonGenerator generator, com.amazon.ask.model.services.reminderManagement.PushNotificationStatus value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.services.reminderManagement.Recurrence readRecurrence(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.reminderManagement.Recurrence.Builder builder = com.amazon.ask.model.services.reminderManagement.Recurrence.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "freq":
+                    builder.withFreq(readRecurrenceFreq(parser));
+                    break;
+                case "byDay":
+                    builder.withByDay(JsonCodecSupport.readList(parser, ServicesReminderManagementCodecs::readRecurrenceDay));
+                    break;
+                case "interval":
+                    builder.withInterval(JsonCodecSupport.readInteger(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeRecurrence(JsonGenerator generator, com.amazon.ask.model.services.reminderManagement.Recurrence value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "freq", value.getFreq(), ServicesReminderManagementCodecs::writeRecurrenceFreq);
+        JsonCodecSupport.writeField(generator, "byDay", value.getByDay(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, ServicesReminderManagementCodecs::writeRecurrenceDay));
+        JsonCodecSupport.writeField(generator, "interval", value.getInterval(), JsonCodecSupport::writeInteger);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.reminderManagement.RecurrenceDay readRecurrenceDay(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.services.reminderManagement.RecurrenceDay.fromValue(value) : null;
+    }
+
+    static void writeRecurrenceDay(JsonGenerator generator, com.amazon.ask.model.services.reminderManagement.RecurrenceDay value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.services.reminderManagement.RecurrenceFreq readRecurrenceFreq(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.services.reminderManagement.RecurrenceFreq.fromValue(value) : null;
+    }
+
+    static void writeRecurrenceFreq(JsonGenerator generator, com.amazon.ask.model.services.reminderManagement.RecurrenceFreq value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.services.reminderManagement.Reminder readReminder(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.reminderManagement.Reminder.Builder builder = com.amazon.ask.model.services.reminderManagement.Reminder.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "alertToken":
+                    builder.withAlertToken(JsonCodecSupport.readString(parser));
+                    break;
+                case "createdTime":
+                    builder.withCreatedTime(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "updatedTime":
+                    builder.withUpdatedTime(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "status":
+                    builder.withStatus(readStatus(parser));
+                    break;
+                case "trigger":
+                    builder.withTrigger(readTrigger(parser));
+                    break;
+                case "alertInfo":
+                    builder.withAlertInfo(readAlertInfo(parser));
+                    break;
+                case "pushNotification":
+                    builder.withPushNotification(readPushNotification(parser));
+                    break;
+                case "version":
+                    builder.withVersion(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeReminder(JsonGenerator generator, com.amazon.ask.model.services.reminderManagement.Reminder value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "alertToken", value.getAlertToken());
+        JsonCodecSupport.writeField(generator, "createdTime", value.getCreatedTime(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeField(generator, "updatedTime", value.getUpdatedTime(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeField(generator, "status", value.getStatus(), ServicesReminderManagementCodecs::writeStatus);
+        JsonCodecSupport.writeField(generator, "trigger", value.getTrigger(), ServicesReminderManagementCodecs::writeTrigger);
+        JsonCodecSupport.writeField(generator, "alertInfo", value.getAlertInfo(), ServicesReminderManagementCodecs::writeAlertInfo);
+        JsonCodecSupport.writeField(generator, "pushNotification", value.getPushNotification(), ServicesReminderManagementCodecs::writePushNotification);
+        JsonCodecSupport.writeStringField(generator, "version", value.getVersion());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.reminderManagement.ReminderCreatedEventRequest readReminderCreatedEventRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readReminderCreatedEventRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.services.reminderManagement.ReminderCreatedEventRequest readReminderCreatedEventRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.services.reminderManagement.ReminderCreatedEventRequest.Builder builder = com.amazon.ask.model.services.reminderManagement.ReminderCreatedEventRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                case "body":
+                    builder.withBody(readEvent(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeReminderCreatedEventRequest(JsonGenerator generator, com.amazon.ask.model.services.reminderManagement.ReminderCreatedEventRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Reminders.ReminderCreated");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        JsonCodecSupport.writeField(generator, "body", value.getBody(), ServicesReminderManagementCodecs::writeEvent);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.reminderManagement.ReminderDeletedEvent readReminderDeletedEvent(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.reminderManagement.ReminderDeletedEvent.Builder builder = com.amazon.ask.model.services.reminderManagement.ReminderDeletedEvent.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "alertTokens":
+                    builder.withAlertTokens(JsonCodecSupport.readList(parser, JsonCodecSupport::readString));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeReminderDeletedEvent(JsonGenerator generator, com.amazon.ask.model.services.reminderManagement.ReminderDeletedEvent value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "alertTokens", value.getAlertTokens(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, JsonCodecSupport::writeString));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.reminderManagement.ReminderDeletedEventRequest readReminderDeletedEventRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readReminderDeletedEventRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.services.reminderManagement.ReminderDeletedEventRequest readReminderDeletedEventRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.services.reminderManagement.ReminderDeletedEventRequest.Builder builder = com.amazon.ask.model.services.reminderManagement.ReminderDeletedEventRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                case "body":
+                    builder.withBody(readReminderDeletedEvent(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeReminderDeletedEventRequest(JsonGenerator generator, com.amazon.ask.model.services.reminderManagement.ReminderDeletedEventRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Reminders.ReminderDeleted");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        JsonCodecSupport.writeField(generator, "body", value.getBody(), ServicesReminderManagementCodecs::writeReminderDeletedEvent);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.reminderManagement.ReminderRequest readReminderRequest(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.reminderManagement.ReminderRequest.Builder builder = com.amazon.ask.model.services.reminderManagement.ReminderRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestTime":
+                    builder.withRequestTime(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "trigger":
+                    builder.withTrigger(readTrigger(parser));
+                    break;
+                case "alertInfo":
+                    builder.withAlertInfo(readAlertInfo(parser));
+                    break;
+                case "pushNotification":
+                    builder.withPushNotification(readPushNotification(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeReminderRequest(JsonGenerator generator, com.amazon.ask.model.services.reminderManagement.ReminderRequest value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "requestTime", value.getRequestTime(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeField(generator, "trigger", value.getTrigger(), ServicesReminderManagementCodecs::writeTrigger);
+        JsonCodecSupport.writeField(generator, "alertInfo", value.getAlertInfo(), ServicesReminderManagementCodecs::writeAlertInfo);
+        JsonCodecSupport.writeField(generator, "pushNotification", value.getPushNotification(), ServicesReminderManagementCodecs::writePushNotification);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.reminderManagement.ReminderResponse readReminderResponse(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.reminderManagement.ReminderResponse.Builder builder = com.amazon.ask.model.services.reminderManagement.ReminderResponse.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "alertToken":
+                    builder.withAlertToken(JsonCodecSupport.readString(parser));
+                    break;
+                case "createdTime":
+                    builder.withCreatedTime(JsonCodecSupport.readString(parser));
+                    break;
+                case "updatedTime":
+                    builder.withUpdatedTime(JsonCodecSupport.readString(parser));
+                    break;
+                case "status":
+                    builder.withStatus(readStatus(parser));
+                    break;
+                case "version":
+                    builder.withVersion(JsonCodecSupport.readString(parser));
+                    break;
+                case "href":
+                    builder.withHref(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeReminderResponse(JsonGenerator generator, com.amazon.ask.model.services.reminderManagement.ReminderResponse value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "alertToken", value.getAlertToken());
+        JsonCodecSupport.writeStringField(generator, "createdTime", value.getCreatedTime());
+        JsonCodecSupport.writeStringField(generator, "updatedTime", value.getUpdatedTime());
+        JsonCodecSupport.writeField(generator, "status", value.getStatus(), ServicesReminderManagementCodecs::writeStatus);
+        JsonCodecSupport.writeStringField(generator, "version", value.getVersion());
+        JsonCodecSupport.writeStringField(generator, "href", value.getHref());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.reminderManagement.ReminderStartedEventRequest readReminderStartedEventRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readReminderStartedEventRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.services.reminderManagement.ReminderStartedEventRequest readReminderStartedEventRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.services.reminderManagement.ReminderStartedEventRequest.Builder builder = com.amazon.ask.model.services.reminderManagement.ReminderStartedEventRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                case "body":
+                    builder.withBody(readEvent(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeReminderStartedEventRequest(JsonGenerator generator, com.amazon.ask.model.services.reminderManagement.ReminderStartedEventRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Reminders.ReminderStarted");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        JsonCodecSupport.writeField(generator, "body", value.getBody(), ServicesReminderManagementCodecs::writeEvent);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.reminderManagement.ReminderStatusChangedEventRequest readReminderStatusChangedEventRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readReminderStatusChangedEventRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.services.reminderManagement.ReminderStatusChangedEventRequest readReminderStatusChangedEventRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.services.reminderManagement.ReminderStatusChangedEventRequest.Builder builder = com.amazon.ask.model.services.reminderManagement.ReminderStatusChangedEventRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                case "body":
+                    builder.withBody(readEvent(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeReminderStatusChangedEventRequest(JsonGenerator generator, com.amazon.ask.model.services.reminderManagement.ReminderStatusChangedEventRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Reminders.ReminderStatusChanged");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        JsonCodecSupport.writeField(generator, "body", value.getBody(), ServicesReminderManagementCodecs::writeEvent);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.reminderManagement.ReminderUpdatedEventRequest readReminderUpdatedEventRequest(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readReminderUpdatedEventRequestFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.services.reminderManagement.ReminderUpdatedEventRequest readReminderUpdatedEventRequestFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.services.reminderManagement.ReminderUpdatedEventRequest.Builder builder = com.amazon.ask.model.services.reminderManagement.ReminderUpdatedEventRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "requestId":
+                    builder.withRequestId(JsonCodecSupport.readString(parser));
+                    break;
+                case "timestamp":
+                    builder.withTimestamp(JsonCodecSupport.readOffsetDateTime(parser));
+                    break;
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                case "body":
+                    builder.withBody(readEvent(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeReminderUpdatedEventRequest(JsonGenerator generator, com.amazon.ask.model.services.reminderManagement.ReminderUpdatedEventRequest value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Reminders.ReminderUpdated");
+        JsonCodecSupport.writeStringField(generator, "requestId", value.getRequestId());
+        JsonCodecSupport.writeField(generator, "timestamp", value.getTimestamp(), JsonCodecSupport::writeOffsetDateTime);
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        JsonCodecSupport.writeField(generator, "body", value.getBody(), ServicesReminderManagementCodecs::writeEvent);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.reminderManagement.SpokenText readSpokenText(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.reminderManagement.SpokenText.Builder builder = com.amazon.ask.model.services.reminderManagement.SpokenText.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "locale":
+                    builder.withLocale(JsonCodecSupport.readString(parser));
+                    break;
+                case "ssml":
+                    builder.withSsml(JsonCodecSupport.readString(parser));
+                    break;
+                case "text":
+                    builder.withText(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSpokenText(JsonGenerator generator, com.amazon.ask.model.services.reminderManagement.SpokenText value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "locale", value.getLocale());
+        JsonCodecSupport.writeStringField(generator, "ssml", value.getSsml());
+        JsonCodecSupport.writeStringField(generator, "text", value.getText());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.reminderManagement.Status readStatus(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.services.reminderManagement.Status.fromValue(value) : null;
+    }
+
+    static void writeStatus(JsonGenerator generator, com.amazon.ask.model.services.reminderManagement.Status value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.services.reminderManagement.Trigger readTrigger(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.reminderManagement.Trigger.Builder builder = com.amazon.ask.model.services.reminderManagement.Trigger.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "type":
+                    builder.withType(readTriggerType(parser));
+                    break;
+                case "scheduledTime":
+                    builder.withScheduledTime(JsonCodecSupport.readLocalDateTime(parser));
+                    break;
+                case "offsetInSeconds":
+                    builder.withOffsetInSeconds(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "timeZoneId":
+                    builder.withTimeZoneId(JsonCodecSupport.readString(parser));
+                    break;
+                case "recurrence":
+                    builder.withRecurrence(readRecurrence(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeTrigger(JsonGenerator generator, com.amazon.ask.model.services.reminderManagement.Trigger value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "type", value.getType(), ServicesReminderManagementCodecs::writeTriggerType);
+        JsonCodecSupport.writeField(generator, "scheduledTime", value.getScheduledTime(), JsonCodecSupport::writeLocalDateTime);
+        JsonCodecSupport.writeField(generator, "offsetInSeconds", value.getOffsetInSeconds(), JsonCodecSupport::writeInteger);
+        JsonCodecSupport.writeStringField(generator, "timeZoneId", value.getTimeZoneId());
+        JsonCodecSupport.writeField(generator, "recurrence", value.getRecurrence(), ServicesReminderManagementCodecs::writeRecurrence);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.reminderManagement.TriggerType readTriggerType(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.services.reminderManagement.TriggerType.fromValue(value) : null;
+    }
+
+    static void writeTriggerType(JsonGenerator generator, com.amazon.ask.model.services.reminderManagement.TriggerType value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+}
@@ -0,0 +1,95 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.services.skillMessaging.
+ */
+final class ServicesSkillMessagingCodecs {
+
+    private ServicesSkillMessagingCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.services.skillMessaging.Error.class, ServicesSkillMessagingCodecs::readError, ServicesSkillMessagingCodecs::writeError);
+        registry.withCodec(com.amazon.ask.model.services.skillMessaging.SendSkillMessagingRequest.class, ServicesSkillMessagingCodecs::readSendSkillMessagingRequest, ServicesSkillMessagingCodecs::writeSendSkillMessagingRequest);
+    }
+
+    static com.amazon.ask.model.services.skillMessaging.Error readError(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.skillMessaging.Error.Builder builder = com.amazon.ask.model.services.skillMessaging.Error.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "code":
+                    builder.withCode(JsonCodecSupport.readInteger(parser));
+                    break;
+                case "message":
+                    builder.withMessage(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeError(JsonGenerator generator, com.amazon.ask.model.services.skillMessaging.Error value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "code", value.getCode(), JsonCodecSupport::writeInteger);
+        JsonCodecSupport.writeStringField(generator, "message", value.getMessage());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.skillMessaging.SendSkillMessagingRequest readSendSkillMessagingRequest(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.skillMessaging.SendSkillMessagingRequest.Builder builder = com.amazon.ask.model.services.skillMessaging.SendSkillMessagingRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "data":
+                    builder.withData(JsonCodecSupport.readUntyped(parser));
+                    break;
+                case "expiresAfterSeconds":
+                    builder.withExpiresAfterSeconds(JsonCodecSupport.readLong(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSendSkillMessagingRequest(JsonGenerator generator, com.amazon.ask.model.services.skillMessaging.SendSkillMessagingRequest value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "data", value.getData(), JsonCodecSupport::writeUntyped);
+        JsonCodecSupport.writeField(generator, "expiresAfterSeconds", value.getExpiresAfterSeconds(), JsonCodecSupport::writeLong);
+        generator.writeEndObject();
+    }
+}
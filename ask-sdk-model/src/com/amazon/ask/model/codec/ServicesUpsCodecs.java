@@ -0,0 +1,125 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.services.ups.
+ */
+final class ServicesUpsCodecs {
+
+    private ServicesUpsCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.services.ups.DistanceUnits.class, ServicesUpsCodecs::readDistanceUnits, ServicesUpsCodecs::writeDistanceUnits);
+        registry.withCodec(com.amazon.ask.model.services.ups.Error.class, ServicesUpsCodecs::readError, ServicesUpsCodecs::writeError);
+        registry.withCodec(com.amazon.ask.model.services.ups.ErrorCode.class, ServicesUpsCodecs::readErrorCode, ServicesUpsCodecs::writeErrorCode);
+        registry.withCodec(com.amazon.ask.model.services.ups.PhoneNumber.class, ServicesUpsCodecs::readPhoneNumber, ServicesUpsCodecs::writePhoneNumber);
+        registry.withCodec(com.amazon.ask.model.services.ups.TemperatureUnit.class, ServicesUpsCodecs::readTemperatureUnit, ServicesUpsCodecs::writeTemperatureUnit);
+    }
+
+    static com.amazon.ask.model.services.ups.DistanceUnits readDistanceUnits(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.services.ups.DistanceUnits.fromValue(value) : null;
+    }
+
+    static void writeDistanceUnits(JsonGenerator generator, com.amazon.ask.model.services.ups.DistanceUnits value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.services.ups.Error readError(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.ups.Error.Builder builder = com.amazon.ask.model.services.ups.Error.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "code":
+                    builder.withCode(readErrorCode(parser));
+                    break;
+                case "message":
+                    builder.withMessage(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeError(JsonGenerator generator, com.amazon.ask.model.services.ups.Error value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "code", value.getCode(), ServicesUpsCodecs::writeErrorCode);
+        JsonCodecSupport.writeStringField(generator, "message", value.getMessage());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.ups.ErrorCode readErrorCode(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.services.ups.ErrorCode.fromValue(value) : null;
+    }
+
+    static void writeErrorCode(JsonGenerator generator, com.amazon.ask.model.services.ups.ErrorCode value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.services.ups.PhoneNumber readPhoneNumber(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.services.ups.PhoneNumber.Builder builder = com.amazon.ask.model.services.ups.PhoneNumber.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "countryCode":
+                    builder.withCountryCode(JsonCodecSupport.readString(parser));
+                    break;
+                case "phoneNumber":
+                    builder.withPhoneNumber(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writePhoneNumber(JsonGenerator generator, com.amazon.ask.model.services.ups.PhoneNumber value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "countryCode", value.getCountryCode());
+        JsonCodecSupport.writeStringField(generator, "phoneNumber", value.getPhoneNumber());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.services.ups.TemperatureUnit readTemperatureUnit(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.services.ups.TemperatureUnit.fromValue(value) : null;
+    }
+
+    static void writeTemperatureUnit(JsonGenerator generator, com.amazon.ask.model.services.ups.TemperatureUnit value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+}
@@ -0,0 +1,187 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.slu.entityresolution.
+ */
+final class SluEntityresolutionCodecs {
+
+    private SluEntityresolutionCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.slu.entityresolution.Resolution.class, SluEntityresolutionCodecs::readResolution, SluEntityresolutionCodecs::writeResolution);
+        registry.withCodec(com.amazon.ask.model.slu.entityresolution.Resolutions.class, SluEntityresolutionCodecs::readResolutions, SluEntityresolutionCodecs::writeResolutions);
+        registry.withCodec(com.amazon.ask.model.slu.entityresolution.Status.class, SluEntityresolutionCodecs::readStatus, SluEntityresolutionCodecs::writeStatus);
+        registry.withCodec(com.amazon.ask.model.slu.entityresolution.StatusCode.class, SluEntityresolutionCodecs::readStatusCode, SluEntityresolutionCodecs::writeStatusCode);
+        registry.withCodec(com.amazon.ask.model.slu.entityresolution.Value.class, SluEntityresolutionCodecs::readValue, SluEntityresolutionCodecs::writeValue);
+        registry.withCodec(com.amazon.ask.model.slu.entityresolution.ValueWrapper.class, SluEntityresolutionCodecs::readValueWrapper, SluEntityresolutionCodecs::writeValueWrapper);
+    }
+
+    static com.amazon.ask.model.slu.entityresolution.Resolution readResolution(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.slu.entityresolution.Resolution.Builder builder = com.amazon.ask.model.slu.entityresolution.Resolution.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "authority":
+                    builder.withAuthority(JsonCodecSupport.readString(parser));
+                    break;
+                case "status":
+                    builder.withStatus(readStatus(parser));
+                    break;
+                case "values":
+                    builder.withValues(JsonCodecSupport.readList(parser, SluEntityresolutionCodecs::readValueWrapper));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeResolution(JsonGenerator generator, com.amazon.ask.model.slu.entityresolution.Resolution value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "authority", value.getAuthority());
+        JsonCodecSupport.writeField(generator, "status", value.getStatus(), SluEntityresolutionCodecs::writeStatus);
+        JsonCodecSupport.writeField(generator, "values", value.getValues(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, SluEntityresolutionCodecs::writeValueWrapper));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.slu.entityresolution.Resolutions readResolutions(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.slu.entityresolution.Resolutions.Builder builder = com.amazon.ask.model.slu.entityresolution.Resolutions.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "resolutionsPerAuthority":
+                    builder.withResolutionsPerAuthority(JsonCodecSupport.readList(parser, SluEntityresolutionCodecs::readResolution));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeResolutions(JsonGenerator generator, com.amazon.ask.model.slu.entityresolution.Resolutions value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "resolutionsPerAuthority", value.getResolutionsPerAuthority(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, SluEntityresolutionCodecs::writeResolution));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.slu.entityresolution.Status readStatus(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.slu.entityresolution.Status.Builder builder = com.amazon.ask.model.slu.entityresolution.Status.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "code":
+                    builder.withCode(readStatusCode(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeStatus(JsonGenerator generator, com.amazon.ask.model.slu.entityresolution.Status value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "code", value.getCode(), SluEntityresolutionCodecs::writeStatusCode);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.slu.entityresolution.StatusCode readStatusCode(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.slu.entityresolution.StatusCode.fromValue(value) : null;
+    }
+
+    static void writeStatusCode(JsonGenerator generator, com.amazon.ask.model.slu.entityresolution.StatusCode value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.slu.entityresolution.Value readValue(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.slu.entityresolution.Value.Builder builder = com.amazon.ask.model.slu.entityresolution.Value.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "name":
+                    builder.withName(JsonCodecSupport.readString(parser));
+                    break;
+                case "id":
+                    builder.withId(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeValue(JsonGenerator generator, com.amazon.ask.model.slu.entityresolution.Value value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "name", value.getName());
+        JsonCodecSupport.writeStringField(generator, "id", value.getId());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.slu.entityresolution.ValueWrapper readValueWrapper(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.slu.entityresolution.ValueWrapper.Builder builder = com.amazon.ask.model.slu.entityresolution.ValueWrapper.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "value":
+                    builder.withValue(readValue(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeValueWrapper(JsonGenerator generator, com.amazon.ask.model.slu.entityresolution.ValueWrapper value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "value", value.getValue(), SluEntityresolutionCodecs::writeValue);
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,354 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.services.util.JsonCodec;
+import com.amazon.ask.model.services.util.JsonCodecRegistry;
+import com.amazon.ask.model.services.util.JsonCodecSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming codecs of the models in com.amazon.ask.model.ui.
+ */
+final class UiCodecs {
+
+    private UiCodecs() {
+    }
+
+    static void register(JsonCodecRegistry.Builder registry) {
+        registry.withCodec(com.amazon.ask.model.ui.AskForPermissionsConsentCard.class, UiCodecs::readAskForPermissionsConsentCard, UiCodecs::writeAskForPermissionsConsentCard);
+        registry.withCodec(com.amazon.ask.model.ui.Card.class, UiCodecs::readCard, UiCodecs::writeCard);
+        registry.withCodec(com.amazon.ask.model.ui.Image.class, UiCodecs::readImage, UiCodecs::writeImage);
+        registry.withCodec(com.amazon.ask.model.ui.LinkAccountCard.class, UiCodecs::readLinkAccountCard, UiCodecs::writeLinkAccountCard);
+        registry.withCodec(com.amazon.ask.model.ui.OutputSpeech.class, UiCodecs::readOutputSpeech, UiCodecs::writeOutputSpeech);
+        registry.withCodec(com.amazon.ask.model.ui.PlainTextOutputSpeech.class, UiCodecs::readPlainTextOutputSpeech, UiCodecs::writePlainTextOutputSpeech);
+        registry.withCodec(com.amazon.ask.model.ui.PlayBehavior.class, UiCodecs::readPlayBehavior, UiCodecs::writePlayBehavior);
+        registry.withCodec(com.amazon.ask.model.ui.Reprompt.class, UiCodecs::readReprompt, UiCodecs::writeReprompt);
+        registry.withCodec(com.amazon.ask.model.ui.SimpleCard.class, UiCodecs::readSimpleCard, UiCodecs::writeSimpleCard);
+        registry.withCodec(com.amazon.ask.model.ui.SsmlOutputSpeech.class, UiCodecs::readSsmlOutputSpeech, UiCodecs::writeSsmlOutputSpeech);
+        registry.withCodec(com.amazon.ask.model.ui.StandardCard.class, UiCodecs::readStandardCard, UiCodecs::writeStandardCard);
+    }
+
+    static com.amazon.ask.model.ui.AskForPermissionsConsentCard readAskForPermissionsConsentCard(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readAskForPermissionsConsentCardFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.ui.AskForPermissionsConsentCard readAskForPermissionsConsentCardFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.ui.AskForPermissionsConsentCard.Builder builder = com.amazon.ask.model.ui.AskForPermissionsConsentCard.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "permissions":
+                    builder.withPermissions(JsonCodecSupport.readList(parser, JsonCodecSupport::readString));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeAskForPermissionsConsentCard(JsonGenerator generator, com.amazon.ask.model.ui.AskForPermissionsConsentCard value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "AskForPermissionsConsent");
+        JsonCodecSupport.writeField(generator, "permissions", value.getPermissions(), (g0, v0) -> JsonCodecSupport.writeList(g0, v0, JsonCodecSupport::writeString));
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.ui.Card readCard(JsonParser parser) throws IOException {
+        return JsonCodecSupport.readPolymorphic(parser, "type", UiCodecs::cardSubtype);
+    }
+
+    private static JsonCodec.Reader<? extends com.amazon.ask.model.ui.Card> cardSubtype(String type) {
+        switch (type) {
+            case "AskForPermissionsConsent":
+                return UiCodecs::readAskForPermissionsConsentCardFields;
+            case "LinkAccount":
+                return UiCodecs::readLinkAccountCardFields;
+            case "Standard":
+                return UiCodecs::readStandardCardFields;
+            case "Simple":
+                return UiCodecs::readSimpleCardFields;
+            default:
+                return null;
+        }
+    }
+
+    static void writeCard(JsonGenerator generator, com.amazon.ask.model.ui.Card value) throws IOException {
+        switch (String.valueOf(value.getType())) {
+            case "AskForPermissionsConsent":
+                writeAskForPermissionsConsentCard(generator, (com.amazon.ask.model.ui.AskForPermissionsConsentCard) value);
+                break;
+            case "LinkAccount":
+                writeLinkAccountCard(generator, (com.amazon.ask.model.ui.LinkAccountCard) value);
+                break;
+            case "Standard":
+                writeStandardCard(generator, (com.amazon.ask.model.ui.StandardCard) value);
+                break;
+            case "Simple":
+                writeSimpleCard(generator, (com.amazon.ask.model.ui.SimpleCard) value);
+                break;
+            default:
+                generator.writeObject(value);
+        }
+    }
+
+    static com.amazon.ask.model.ui.Image readImage(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.ui.Image.Builder builder = com.amazon.ask.model.ui.Image.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "smallImageUrl":
+                    builder.withSmallImageUrl(JsonCodecSupport.readString(parser));
+                    break;
+                case "largeImageUrl":
+                    builder.withLargeImageUrl(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeImage(JsonGenerator generator, com.amazon.ask.model.ui.Image value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeStringField(generator, "smallImageUrl", value.getSmallImageUrl());
+        JsonCodecSupport.writeStringField(generator, "largeImageUrl", value.getLargeImageUrl());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.ui.LinkAccountCard readLinkAccountCard(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readLinkAccountCardFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.ui.LinkAccountCard readLinkAccountCardFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.ui.LinkAccountCard.Builder builder = com.amazon.ask.model.ui.LinkAccountCard.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeLinkAccountCard(JsonGenerator generator, com.amazon.ask.model.ui.LinkAccountCard value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "LinkAccount");
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.ui.OutputSpeech readOutputSpeech(JsonParser parser) throws IOException {
+        return JsonCodecSupport.readPolymorphic(parser, "type", UiCodecs::outputSpeechSubtype);
+    }
+
+    private static JsonCodec.Reader<? extends com.amazon.ask.model.ui.OutputSpeech> outputSpeechSubtype(String type) {
+        switch (type) {
+            case "SSML":
+                return UiCodecs::readSsmlOutputSpeechFields;
+            case "PlainText":
+                return UiCodecs::readPlainTextOutputSpeechFields;
+            default:
+                return null;
+        }
+    }
+
+    static void writeOutputSpeech(JsonGenerator generator, com.amazon.ask.model.ui.OutputSpeech value) throws IOException {
+        switch (String.valueOf(value.getType())) {
+            case "SSML":
+                writeSsmlOutputSpeech(generator, (com.amazon.ask.model.ui.SsmlOutputSpeech) value);
+                break;
+            case "PlainText":
+                writePlainTextOutputSpeech(generator, (com.amazon.ask.model.ui.PlainTextOutputSpeech) value);
+                break;
+            default:
+                generator.writeObject(value);
+        }
+    }
+
+    static com.amazon.ask.model.ui.PlainTextOutputSpeech readPlainTextOutputSpeech(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readPlainTextOutputSpeechFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.ui.PlainTextOutputSpeech readPlainTextOutputSpeechFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.ui.PlainTextOutputSpeech.Builder builder = com.amazon.ask.model.ui.PlainTextOutputSpeech.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "playBehavior":
+                    builder.withPlayBehavior(readPlayBehavior(parser));
+                    break;
+                case "text":
+                    builder.withText(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writePlainTextOutputSpeech(JsonGenerator generator, com.amazon.ask.model.ui.PlainTextOutputSpeech value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "PlainText");
+        JsonCodecSupport.writeField(generator, "playBehavior", value.getPlayBehavior(), UiCodecs::writePlayBehavior);
+        JsonCodecSupport.writeStringField(generator, "text", value.getText());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.ui.PlayBehavior readPlayBehavior(JsonParser parser) throws IOException {
+        String value = JsonCodecSupport.readString(parser);
+        return value != null ? com.amazon.ask.model.ui.PlayBehavior.fromValue(value) : null;
+    }
+
+    static void writePlayBehavior(JsonGenerator generator, com.amazon.ask.model.ui.PlayBehavior value) throws IOException {
+        JsonCodecSupport.writeUntyped(generator, value.getValue());
+    }
+
+    static com.amazon.ask.model.ui.Reprompt readReprompt(JsonParser parser) throws IOException {
+        if (!JsonCodecSupport.beginObject(parser)) {
+            return null;
+        }
+        com.amazon.ask.model.ui.Reprompt.Builder builder = com.amazon.ask.model.ui.Reprompt.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "outputSpeech":
+                    builder.withOutputSpeech(readOutputSpeech(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeReprompt(JsonGenerator generator, com.amazon.ask.model.ui.Reprompt value) throws IOException {
+        generator.writeStartObject();
+        JsonCodecSupport.writeField(generator, "outputSpeech", value.getOutputSpeech(), UiCodecs::writeOutputSpeech);
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.ui.SimpleCard readSimpleCard(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readSimpleCardFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.ui.SimpleCard readSimpleCardFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.ui.SimpleCard.Builder builder = com.amazon.ask.model.ui.SimpleCard.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "title":
+                    builder.withTitle(JsonCodecSupport.readString(parser));
+                    break;
+                case "content":
+                    builder.withContent(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSimpleCard(JsonGenerator generator, com.amazon.ask.model.ui.SimpleCard value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Simple");
+        JsonCodecSupport.writeStringField(generator, "title", value.getTitle());
+        JsonCodecSupport.writeStringField(generator, "content", value.getContent());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.ui.SsmlOutputSpeech readSsmlOutputSpeech(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readSsmlOutputSpeechFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.ui.SsmlOutputSpeech readSsmlOutputSpeechFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.ui.SsmlOutputSpeech.Builder builder = com.amazon.ask.model.ui.SsmlOutputSpeech.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "playBehavior":
+                    builder.withPlayBehavior(readPlayBehavior(parser));
+                    break;
+                case "ssml":
+                    builder.withSsml(JsonCodecSupport.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeSsmlOutputSpeech(JsonGenerator generator, com.amazon.ask.model.ui.SsmlOutputSpeech value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "SSML");
+        JsonCodecSupport.writeField(generator, "playBehavior", value.getPlayBehavior(), UiCodecs::writePlayBehavior);
+        JsonCodecSupport.writeStringField(generator, "ssml", value.getSsml());
+        generator.writeEndObject();
+    }
+
+    static com.amazon.ask.model.ui.StandardCard readStandardCard(JsonParser parser) throws IOException {
+        return JsonCodecSupport.beginObject(parser) ? readStandardCardFields(parser) : null;
+    }
+
+    static com.amazon.ask.model.ui.StandardCard readStandardCardFields(JsonParser parser) throws IOException {
+        com.amazon.ask.model.ui.StandardCard.Builder builder = com.amazon.ask.model.ui.StandardCard.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "title":
+                    builder.withTitle(JsonCodecSupport.readString(parser));
+                    break;
+                case "text":
+                    builder.withText(JsonCodecSupport.readString(parser));
+                    break;
+                case "image":
+                    builder.withImage(readImage(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    static void writeStandardCard(JsonGenerator generator, com.amazon.ask.model.ui.StandardCard value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Standard");
+        JsonCodecSupport.writeStringField(generator, "title", value.getTitle());
+        JsonCodecSupport.writeStringField(generator, "text", value.getText());
+        JsonCodecSupport.writeField(generator, "image", value.getImage(), UiCodecs::writeImage);
+        generator.writeEndObject();
+    }
+}
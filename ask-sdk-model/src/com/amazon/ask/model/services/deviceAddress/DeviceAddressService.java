@@ -18,6 +18,7 @@ import com.amazon.ask.model.services.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 
 
@@ -27,9 +28,17 @@ public interface DeviceAddressService {
 
     ApiResponse<com.amazon.ask.model.services.deviceAddress.ShortAddress> callGetCountryAndPostalCode(String deviceId) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.model.services.deviceAddress.ShortAddress>> callGetCountryAndPostalCodeAsync(String deviceId) {
+        return ServiceFutures.fromCall(() -> callGetCountryAndPostalCode(deviceId));
+    }
+
 
     com.amazon.ask.model.services.deviceAddress.Address getFullAddress(String deviceId) throws ServiceException;
 
     ApiResponse<com.amazon.ask.model.services.deviceAddress.Address> callGetFullAddress(String deviceId) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.model.services.deviceAddress.Address>> callGetFullAddressAsync(String deviceId) {
+        return ServiceFutures.fromCall(() -> callGetFullAddress(deviceId));
+    }
+
 }
@@ -19,7 +19,9 @@ import com.amazon.ask.model.services.lwa.*;
 import com.amazon.ask.model.services.lwa.model.GrantType;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.Map;
 import java.util.HashMap;
 
@@ -27,6 +29,28 @@ import java.util.HashMap;
 
 public class DeviceAddressServiceClient extends BaseServiceClient implements DeviceAddressService {
 
+  private static final OperationDescriptor<com.amazon.ask.model.services.deviceAddress.ShortAddress> GET_COUNTRY_AND_POSTAL_CODE = OperationDescriptor
+      .builder("GET", "/v1/devices/{deviceId}/settings/address/countryAndPostalCode", com.amazon.ask.model.services.deviceAddress.ShortAddress.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.model.services.deviceAddress.ShortAddress.class, 200, "Successfully get the country and postal code of the deviceId")
+      .withResponse(null, 204, "No content could be queried out")
+      .withResponse(com.amazon.ask.model.services.deviceAddress.Error.class, 403, "The authentication token is invalid or doesn't have access to the resource")
+      .withResponse(com.amazon.ask.model.services.deviceAddress.Error.class, 405, "The method is not supported")
+      .withResponse(com.amazon.ask.model.services.deviceAddress.Error.class, 429, "The request is throttled")
+      .withResponse(com.amazon.ask.model.services.deviceAddress.Error.class, 0, "Unexpected error")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.model.services.deviceAddress.Address> GET_FULL_ADDRESS = OperationDescriptor
+      .builder("GET", "/v1/devices/{deviceId}/settings/address", com.amazon.ask.model.services.deviceAddress.Address.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.model.services.deviceAddress.Address.class, 200, "Successfully get the address of the device")
+      .withResponse(null, 204, "No content could be queried out")
+      .withResponse(com.amazon.ask.model.services.deviceAddress.Error.class, 403, "The authentication token is invalid or doesn't have access to the resource")
+      .withResponse(com.amazon.ask.model.services.deviceAddress.Error.class, 405, "The method is not supported")
+      .withResponse(com.amazon.ask.model.services.deviceAddress.Error.class, 429, "The request is throttled")
+      .withResponse(com.amazon.ask.model.services.deviceAddress.Error.class, 0, "Unexpected error")
+      .build();
+
   public DeviceAddressServiceClient(ApiConfiguration apiConfiguration) {
       super(apiConfiguration);
   }
@@ -39,27 +63,16 @@ public class DeviceAddressServiceClient extends BaseServiceClient implements Dev
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.model.services.deviceAddress.ShortAddress> callGetCountryAndPostalCode(String deviceId) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("deviceId", deviceId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
     headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
 
-    String path = "/v1/devices/{deviceId}/settings/address/countryAndPostalCode";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.deviceAddress.ShortAddress.class, 200, "Successfully get the country and postal code of the deviceId"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 204, "No content could be queried out"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.deviceAddress.Error.class, 403, "The authentication token is invalid or doesn't have access to the resource"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.deviceAddress.Error.class, 405, "The method is not supported"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.deviceAddress.Error.class, 429, "The request is throttled"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.deviceAddress.Error.class, 0, "Unexpected error"));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.model.services.deviceAddress.ShortAddress.class, false);
+    return this.executeRequest(GET_COUNTRY_AND_POSTAL_CODE, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -73,6 +86,25 @@ public class DeviceAddressServiceClient extends BaseServiceClient implements Dev
     return this.callGetCountryAndPostalCode(deviceId).getResponse();
   }
 
+  /**
+   * 
+   * Gets the country and postal code of a device 
+   * @param deviceId The device Id for which to get the country and postal code (required)
+   * @return com.amazon.ask.model.services.deviceAddress.ShortAddress
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.model.services.deviceAddress.ShortAddress>> callGetCountryAndPostalCodeAsync(String deviceId) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("deviceId", deviceId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
+    headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
+
+    return this.executeRequestAsync(GET_COUNTRY_AND_POSTAL_CODE, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
+  }
+
   /**
    * 
    * Gets the address of a device 
@@ -81,27 +113,16 @@ public class DeviceAddressServiceClient extends BaseServiceClient implements Dev
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.model.services.deviceAddress.Address> callGetFullAddress(String deviceId) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("deviceId", deviceId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
     headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
 
-    String path = "/v1/devices/{deviceId}/settings/address";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.deviceAddress.Address.class, 200, "Successfully get the address of the device"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 204, "No content could be queried out"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.deviceAddress.Error.class, 403, "The authentication token is invalid or doesn't have access to the resource"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.deviceAddress.Error.class, 405, "The method is not supported"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.deviceAddress.Error.class, 429, "The request is throttled"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.deviceAddress.Error.class, 0, "Unexpected error"));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.model.services.deviceAddress.Address.class, false);
+    return this.executeRequest(GET_FULL_ADDRESS, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -115,4 +136,23 @@ public class DeviceAddressServiceClient extends BaseServiceClient implements Dev
     return this.callGetFullAddress(deviceId).getResponse();
   }
 
+  /**
+   * 
+   * Gets the address of a device 
+   * @param deviceId The device Id for which to get the address (required)
+   * @return com.amazon.ask.model.services.deviceAddress.Address
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.model.services.deviceAddress.Address>> callGetFullAddressAsync(String deviceId) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("deviceId", deviceId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
+    headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
+
+    return this.executeRequestAsync(GET_FULL_ADDRESS, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
+  }
+
 }
@@ -18,6 +18,7 @@ import com.amazon.ask.model.services.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 
 
@@ -27,4 +28,8 @@ public interface DirectiveService {
 
     ApiResponse<Void> callEnqueue(com.amazon.ask.model.services.directive.SendDirectiveRequest sendDirectiveRequest) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callEnqueueAsync(com.amazon.ask.model.services.directive.SendDirectiveRequest sendDirectiveRequest) {
+        return ServiceFutures.fromCall(() -> callEnqueue(sendDirectiveRequest));
+    }
+
 }
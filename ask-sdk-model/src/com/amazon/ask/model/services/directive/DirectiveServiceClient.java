@@ -19,7 +19,9 @@ import com.amazon.ask.model.services.lwa.*;
 import com.amazon.ask.model.services.lwa.model.GrantType;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.Map;
 import java.util.HashMap;
 
@@ -27,6 +29,16 @@ import java.util.HashMap;
 
 public class DirectiveServiceClient extends BaseServiceClient implements DirectiveService {
 
+  private static final OperationDescriptor<Void> ENQUEUE = OperationDescriptor
+      .builder("POST", "/v1/directives", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 204, "Directive sent successfully.")
+      .withResponse(com.amazon.ask.model.services.directive.Error.class, 400, "Directive not valid.")
+      .withResponse(com.amazon.ask.model.services.directive.Error.class, 401, "Not Authorized.")
+      .withResponse(com.amazon.ask.model.services.directive.Error.class, 403, "The skill is not allowed to send directives at the moment.")
+      .withResponse(com.amazon.ask.model.services.directive.Error.class, 0, "Unexpected error.")
+      .build();
+
   public DirectiveServiceClient(ApiConfiguration apiConfiguration) {
       super(apiConfiguration);
   }
@@ -38,25 +50,15 @@ public class DirectiveServiceClient extends BaseServiceClient implements Directi
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callEnqueue(com.amazon.ask.model.services.directive.SendDirectiveRequest sendDirectiveRequest) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
-    Map<String, String> pathParams = new HashMap<String, String>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = Collections.emptyMap();
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
     headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
 
-    String path = "/v1/directives";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 204, "Directive sent successfully."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.directive.Error.class, 400, "Directive not valid."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.directive.Error.class, 401, "Not Authorized."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.directive.Error.class, 403, "The skill is not allowed to send directives at the moment."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.directive.Error.class, 0, "Unexpected error."));
-
-    return this.executeRequest("POST", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, sendDirectiveRequest, null, false);
+    return this.executeRequest(ENQUEUE, this.apiEndpoint, queryParams, headerParams,
+      pathParams, sendDirectiveRequest);
   }
 
   /**
@@ -69,4 +71,21 @@ public class DirectiveServiceClient extends BaseServiceClient implements Directi
     this.callEnqueue(sendDirectiveRequest).getResponse();
   }
 
+  /**
+   * 
+   * Send directives to Alexa.
+   * @param sendDirectiveRequest Represents the request object to send in the payload. (required)
+   */
+  public CompletableFuture<ApiResponse<Void>> callEnqueueAsync(com.amazon.ask.model.services.directive.SendDirectiveRequest sendDirectiveRequest) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = Collections.emptyMap();
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
+    headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
+
+    return this.executeRequestAsync(ENQUEUE, this.apiEndpoint, queryParams, headerParams,
+      pathParams, sendDirectiveRequest);
+  }
+
 }
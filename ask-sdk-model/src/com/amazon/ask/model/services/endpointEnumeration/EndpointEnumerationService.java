@@ -18,6 +18,7 @@ import com.amazon.ask.model.services.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 
 
@@ -27,4 +28,8 @@ public interface EndpointEnumerationService {
 
     ApiResponse<com.amazon.ask.model.services.endpointEnumeration.EndpointEnumerationResponse> callGetEndpoints() throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.model.services.endpointEnumeration.EndpointEnumerationResponse>> callGetEndpointsAsync() {
+        return ServiceFutures.fromCall(() -> callGetEndpoints());
+    }
+
 }
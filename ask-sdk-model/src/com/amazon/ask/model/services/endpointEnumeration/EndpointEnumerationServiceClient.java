@@ -19,7 +19,9 @@ import com.amazon.ask.model.services.lwa.*;
 import com.amazon.ask.model.services.lwa.model.GrantType;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.Map;
 import java.util.HashMap;
 
@@ -27,6 +29,18 @@ import java.util.HashMap;
 
 public class EndpointEnumerationServiceClient extends BaseServiceClient implements EndpointEnumerationService {
 
+  private static final OperationDescriptor<com.amazon.ask.model.services.endpointEnumeration.EndpointEnumerationResponse> GET_ENDPOINTS = OperationDescriptor
+      .builder("GET", "/v1/endpoints/", com.amazon.ask.model.services.endpointEnumeration.EndpointEnumerationResponse.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.model.services.endpointEnumeration.EndpointEnumerationResponse.class, 200, "Successfully retrieved the list of connected endpoints.")
+      .withResponse(com.amazon.ask.model.services.endpointEnumeration.Error.class, 400, "Bad request. Returned when a required parameter is not present or badly formatted.")
+      .withResponse(com.amazon.ask.model.services.endpointEnumeration.Error.class, 401, "Unauthenticated. Returned when the request is not authenticated.")
+      .withResponse(com.amazon.ask.model.services.endpointEnumeration.Error.class, 403, "Forbidden. Returned when the request is authenticated but does not have sufficient permission.")
+      .withResponse(com.amazon.ask.model.services.endpointEnumeration.Error.class, 500, "Server Error. Returned when the server encountered an error processing the request.")
+      .withResponse(com.amazon.ask.model.services.endpointEnumeration.Error.class, 503, "Service Unavailable. Returned when the server is not ready to handle the request.")
+      .withResponse(com.amazon.ask.model.services.endpointEnumeration.Error.class, 0, "Unexpected error")
+      .build();
+
   public EndpointEnumerationServiceClient(ApiConfiguration apiConfiguration) {
       super(apiConfiguration);
   }
@@ -38,27 +52,15 @@ public class EndpointEnumerationServiceClient extends BaseServiceClient implemen
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.model.services.endpointEnumeration.EndpointEnumerationResponse> callGetEndpoints() throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
-    Map<String, String> pathParams = new HashMap<String, String>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = Collections.emptyMap();
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
     headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
 
-    String path = "/v1/endpoints/";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.endpointEnumeration.EndpointEnumerationResponse.class, 200, "Successfully retrieved the list of connected endpoints."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.endpointEnumeration.Error.class, 400, "Bad request. Returned when a required parameter is not present or badly formatted."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.endpointEnumeration.Error.class, 401, "Unauthenticated. Returned when the request is not authenticated."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.endpointEnumeration.Error.class, 403, "Forbidden. Returned when the request is authenticated but does not have sufficient permission."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.endpointEnumeration.Error.class, 500, "Server Error. Returned when the server encountered an error processing the request."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.endpointEnumeration.Error.class, 503, "Service Unavailable. Returned when the server is not ready to handle the request."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.endpointEnumeration.Error.class, 0, "Unexpected error"));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.model.services.endpointEnumeration.EndpointEnumerationResponse.class, false);
+    return this.executeRequest(GET_ENDPOINTS, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -71,4 +73,21 @@ public class EndpointEnumerationServiceClient extends BaseServiceClient implemen
     return this.callGetEndpoints().getResponse();
   }
 
+  /**
+   * 
+   * This API is invoked by the skill to retrieve endpoints connected to the Echo device. 
+   * @return com.amazon.ask.model.services.endpointEnumeration.EndpointEnumerationResponse
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.model.services.endpointEnumeration.EndpointEnumerationResponse>> callGetEndpointsAsync() {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = Collections.emptyMap();
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
+    headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
+
+    return this.executeRequestAsync(GET_ENDPOINTS, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
+  }
+
 }
@@ -18,6 +18,7 @@ import com.amazon.ask.model.services.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 
 
@@ -27,44 +28,80 @@ public interface ListManagementService {
 
     ApiResponse<com.amazon.ask.model.services.listManagement.AlexaListsMetadata> callGetListsMetadata() throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.model.services.listManagement.AlexaListsMetadata>> callGetListsMetadataAsync() {
+        return ServiceFutures.fromCall(() -> callGetListsMetadata());
+    }
+
 
     void deleteList(String listId) throws ServiceException;
 
     ApiResponse<Void> callDeleteList(String listId) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callDeleteListAsync(String listId) {
+        return ServiceFutures.fromCall(() -> callDeleteList(listId));
+    }
+
 
     void deleteListItem(String listId, String itemId) throws ServiceException;
 
     ApiResponse<Void> callDeleteListItem(String listId, String itemId) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callDeleteListItemAsync(String listId, String itemId) {
+        return ServiceFutures.fromCall(() -> callDeleteListItem(listId, itemId));
+    }
+
 
     com.amazon.ask.model.services.listManagement.AlexaListItem getListItem(String listId, String itemId) throws ServiceException;
 
     ApiResponse<com.amazon.ask.model.services.listManagement.AlexaListItem> callGetListItem(String listId, String itemId) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.model.services.listManagement.AlexaListItem>> callGetListItemAsync(String listId, String itemId) {
+        return ServiceFutures.fromCall(() -> callGetListItem(listId, itemId));
+    }
+
 
     com.amazon.ask.model.services.listManagement.AlexaListItem updateListItem(String listId, String itemId, com.amazon.ask.model.services.listManagement.UpdateListItemRequest updateListItemRequest) throws ServiceException;
 
     ApiResponse<com.amazon.ask.model.services.listManagement.AlexaListItem> callUpdateListItem(String listId, String itemId, com.amazon.ask.model.services.listManagement.UpdateListItemRequest updateListItemRequest) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.model.services.listManagement.AlexaListItem>> callUpdateListItemAsync(String listId, String itemId, com.amazon.ask.model.services.listManagement.UpdateListItemRequest updateListItemRequest) {
+        return ServiceFutures.fromCall(() -> callUpdateListItem(listId, itemId, updateListItemRequest));
+    }
+
 
     com.amazon.ask.model.services.listManagement.AlexaListItem createListItem(String listId, com.amazon.ask.model.services.listManagement.CreateListItemRequest createListItemRequest) throws ServiceException;
 
     ApiResponse<com.amazon.ask.model.services.listManagement.AlexaListItem> callCreateListItem(String listId, com.amazon.ask.model.services.listManagement.CreateListItemRequest createListItemRequest) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.model.services.listManagement.AlexaListItem>> callCreateListItemAsync(String listId, com.amazon.ask.model.services.listManagement.CreateListItemRequest createListItemRequest) {
+        return ServiceFutures.fromCall(() -> callCreateListItem(listId, createListItemRequest));
+    }
+
 
     com.amazon.ask.model.services.listManagement.AlexaListMetadata updateList(String listId, com.amazon.ask.model.services.listManagement.UpdateListRequest updateListRequest) throws ServiceException;
 
     ApiResponse<com.amazon.ask.model.services.listManagement.AlexaListMetadata> callUpdateList(String listId, com.amazon.ask.model.services.listManagement.UpdateListRequest updateListRequest) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.model.services.listManagement.AlexaListMetadata>> callUpdateListAsync(String listId, com.amazon.ask.model.services.listManagement.UpdateListRequest updateListRequest) {
+        return ServiceFutures.fromCall(() -> callUpdateList(listId, updateListRequest));
+    }
+
 
     com.amazon.ask.model.services.listManagement.AlexaList getList(String listId, String status) throws ServiceException;
 
     ApiResponse<com.amazon.ask.model.services.listManagement.AlexaList> callGetList(String listId, String status) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.model.services.listManagement.AlexaList>> callGetListAsync(String listId, String status) {
+        return ServiceFutures.fromCall(() -> callGetList(listId, status));
+    }
+
 
     com.amazon.ask.model.services.listManagement.AlexaListMetadata createList(com.amazon.ask.model.services.listManagement.CreateListRequest createListRequest) throws ServiceException;
 
     ApiResponse<com.amazon.ask.model.services.listManagement.AlexaListMetadata> callCreateList(com.amazon.ask.model.services.listManagement.CreateListRequest createListRequest) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.model.services.listManagement.AlexaListMetadata>> callCreateListAsync(com.amazon.ask.model.services.listManagement.CreateListRequest createListRequest) {
+        return ServiceFutures.fromCall(() -> callCreateList(createListRequest));
+    }
+
 }
@@ -19,7 +19,9 @@ import com.amazon.ask.model.services.lwa.*;
 import com.amazon.ask.model.services.lwa.model.GrantType;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.Map;
 import java.util.HashMap;
 
@@ -27,6 +29,100 @@ import java.util.HashMap;
 
 public class ListManagementServiceClient extends BaseServiceClient implements ListManagementService {
 
+  private static final OperationDescriptor<com.amazon.ask.model.services.listManagement.AlexaListsMetadata> GET_LISTS_METADATA = OperationDescriptor
+      .builder("GET", "/v2/householdlists/", com.amazon.ask.model.services.listManagement.AlexaListsMetadata.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.model.services.listManagement.AlexaListsMetadata.class, 200, "Success")
+      .withResponse(com.amazon.ask.model.services.listManagement.ForbiddenError.class, 403, "Forbidden")
+      .withResponse(com.amazon.ask.model.services.listManagement.Error.class, 500, "Internal Server Error")
+      .build();
+
+  private static final OperationDescriptor<Void> DELETE_LIST = OperationDescriptor
+      .builder("DELETE", "/v2/householdlists/{listId}/", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 200, "Success")
+      .withResponse(com.amazon.ask.model.services.listManagement.Error.class, 403, "Forbidden")
+      .withResponse(com.amazon.ask.model.services.listManagement.Error.class, 404, "Not Found")
+      .withResponse(com.amazon.ask.model.services.listManagement.Error.class, 500, "Internal Server Error")
+      .withResponse(com.amazon.ask.model.services.listManagement.Error.class, 0, "Internal Server Error")
+      .build();
+
+  private static final OperationDescriptor<Void> DELETE_LIST_ITEM = OperationDescriptor
+      .builder("DELETE", "/v2/householdlists/{listId}/items/{itemId}/", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 200, "Success")
+      .withResponse(com.amazon.ask.model.services.listManagement.Error.class, 403, "Forbidden")
+      .withResponse(com.amazon.ask.model.services.listManagement.Error.class, 404, "Not Found")
+      .withResponse(com.amazon.ask.model.services.listManagement.Error.class, 500, "Internal Server Error")
+      .withResponse(com.amazon.ask.model.services.listManagement.Error.class, 0, "Internal Server Error")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.model.services.listManagement.AlexaListItem> GET_LIST_ITEM = OperationDescriptor
+      .builder("GET", "/v2/householdlists/{listId}/items/{itemId}/", com.amazon.ask.model.services.listManagement.AlexaListItem.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.model.services.listManagement.AlexaListItem.class, 200, "Success")
+      .withResponse(com.amazon.ask.model.services.listManagement.Error.class, 403, "Forbidden")
+      .withResponse(com.amazon.ask.model.services.listManagement.Error.class, 404, "Not Found")
+      .withResponse(com.amazon.ask.model.services.listManagement.Error.class, 500, "Internal Server Error")
+      .withResponse(com.amazon.ask.model.services.listManagement.Error.class, 0, "Internal Server Error")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.model.services.listManagement.AlexaListItem> UPDATE_LIST_ITEM = OperationDescriptor
+      .builder("PUT", "/v2/householdlists/{listId}/items/{itemId}/", com.amazon.ask.model.services.listManagement.AlexaListItem.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.model.services.listManagement.AlexaListItem.class, 200, "Success")
+      .withResponse(com.amazon.ask.model.services.listManagement.Error.class, 403, "Forbidden")
+      .withResponse(com.amazon.ask.model.services.listManagement.Error.class, 404, "Not Found")
+      .withResponse(com.amazon.ask.model.services.listManagement.Error.class, 409, "Conflict")
+      .withResponse(com.amazon.ask.model.services.listManagement.Error.class, 500, "Internal Server Error")
+      .withResponse(com.amazon.ask.model.services.listManagement.Error.class, 0, "Internal Server Error")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.model.services.listManagement.AlexaListItem> CREATE_LIST_ITEM = OperationDescriptor
+      .builder("POST", "/v2/householdlists/{listId}/items/", com.amazon.ask.model.services.listManagement.AlexaListItem.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.model.services.listManagement.AlexaListItem.class, 201, "Success")
+      .withResponse(com.amazon.ask.model.services.listManagement.Error.class, 400, "Bad Request")
+      .withResponse(com.amazon.ask.model.services.listManagement.Error.class, 403, "Forbidden")
+      .withResponse(com.amazon.ask.model.services.listManagement.Error.class, 404, "Not found")
+      .withResponse(com.amazon.ask.model.services.listManagement.Error.class, 500, "Internal Server Error")
+      .withResponse(com.amazon.ask.model.services.listManagement.Error.class, 0, "Internal Server Error")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.model.services.listManagement.AlexaListMetadata> UPDATE_LIST = OperationDescriptor
+      .builder("PUT", "/v2/householdlists/{listId}/", com.amazon.ask.model.services.listManagement.AlexaListMetadata.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.model.services.listManagement.AlexaListMetadata.class, 200, "Success")
+      .withResponse(com.amazon.ask.model.services.listManagement.Error.class, 400, "Bad Request")
+      .withResponse(com.amazon.ask.model.services.listManagement.Error.class, 403, "Forbidden")
+      .withResponse(com.amazon.ask.model.services.listManagement.Error.class, 404, "List not found")
+      .withResponse(com.amazon.ask.model.services.listManagement.Error.class, 409, "Conflict")
+      .withResponse(com.amazon.ask.model.services.listManagement.Error.class, 500, "Internal Server Error")
+      .withResponse(com.amazon.ask.model.services.listManagement.Error.class, 0, "Internal Server Error")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.model.services.listManagement.AlexaList> GET_LIST = OperationDescriptor
+      .builder("GET", "/v2/householdlists/{listId}/{status}/", com.amazon.ask.model.services.listManagement.AlexaList.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.model.services.listManagement.AlexaList.class, 200, "Success")
+      .withResponse(com.amazon.ask.model.services.listManagement.Error.class, 400, "Bad Request")
+      .withResponse(com.amazon.ask.model.services.listManagement.Error.class, 403, "Forbidden")
+      .withResponse(com.amazon.ask.model.services.listManagement.Error.class, 404, "Not Found")
+      .withResponse(com.amazon.ask.model.services.listManagement.Error.class, 500, "Internal Server Error")
+      .withResponse(com.amazon.ask.model.services.listManagement.Error.class, 0, "Internal Server Error")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.model.services.listManagement.AlexaListMetadata> CREATE_LIST = OperationDescriptor
+      .builder("POST", "/v2/householdlists/", com.amazon.ask.model.services.listManagement.AlexaListMetadata.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.model.services.listManagement.AlexaListMetadata.class, 201, "Success")
+      .withResponse(com.amazon.ask.model.services.listManagement.Error.class, 400, "Bad Request")
+      .withResponse(com.amazon.ask.model.services.listManagement.Error.class, 403, "Forbidden")
+      .withResponse(com.amazon.ask.model.services.listManagement.Error.class, 409, "Conflict")
+      .withResponse(com.amazon.ask.model.services.listManagement.Error.class, 500, "Internal Server Error")
+      .withResponse(com.amazon.ask.model.services.listManagement.Error.class, 0, "Internal Server Error")
+      .build();
+
   public ListManagementServiceClient(ApiConfiguration apiConfiguration) {
       super(apiConfiguration);
   }
@@ -38,23 +134,15 @@ public class ListManagementServiceClient extends BaseServiceClient implements Li
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.model.services.listManagement.AlexaListsMetadata> callGetListsMetadata() throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
-    Map<String, String> pathParams = new HashMap<String, String>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = Collections.emptyMap();
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
     headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
 
-    String path = "/v2/householdlists/";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.AlexaListsMetadata.class, 200, "Success"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.ForbiddenError.class, 403, "Forbidden"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.Error.class, 500, "Internal Server Error"));
-
-    return this.executeRequest("GET", "https://api.amazonalexa.com/", path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.model.services.listManagement.AlexaListsMetadata.class, false);
+    return this.executeRequest(GET_LISTS_METADATA, "https://api.amazonalexa.com/", queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -67,6 +155,23 @@ public class ListManagementServiceClient extends BaseServiceClient implements Li
     return this.callGetListsMetadata().getResponse();
   }
 
+  /**
+   * 
+   * Retrieves the metadata for all customer lists, including the customer’s default lists. 
+   * @return com.amazon.ask.model.services.listManagement.AlexaListsMetadata
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.model.services.listManagement.AlexaListsMetadata>> callGetListsMetadataAsync() {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = Collections.emptyMap();
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
+    headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
+
+    return this.executeRequestAsync(GET_LISTS_METADATA, "https://api.amazonalexa.com/", queryParams, headerParams,
+      pathParams, null);
+  }
+
   /**
    * 
    * This API deletes a customer custom list.
@@ -74,26 +179,16 @@ public class ListManagementServiceClient extends BaseServiceClient implements Li
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callDeleteList(String listId) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("listId", listId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
     headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
 
-    String path = "/v2/householdlists/{listId}/";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 200, "Success"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.Error.class, 403, "Forbidden"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.Error.class, 404, "Not Found"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.Error.class, 500, "Internal Server Error"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.Error.class, 0, "Internal Server Error"));
-
-    return this.executeRequest("DELETE", "https://api.amazonalexa.com/", path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, null, false);
+    return this.executeRequest(DELETE_LIST, "https://api.amazonalexa.com/", queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -106,6 +201,24 @@ public class ListManagementServiceClient extends BaseServiceClient implements Li
     this.callDeleteList(listId).getResponse();
   }
 
+  /**
+   * 
+   * This API deletes a customer custom list.
+   * @param listId Value of the customer’s listId retrieved from a getListsMetadata call (required)
+   */
+  public CompletableFuture<ApiResponse<Void>> callDeleteListAsync(String listId) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("listId", listId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
+    headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
+
+    return this.executeRequestAsync(DELETE_LIST, "https://api.amazonalexa.com/", queryParams, headerParams,
+      pathParams, null);
+  }
+
   /**
    * 
    * This API deletes an item in the specified list.
@@ -114,27 +227,17 @@ public class ListManagementServiceClient extends BaseServiceClient implements Li
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callDeleteListItem(String listId, String itemId) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("listId", listId);
     pathParams.put("itemId", itemId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
     headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
 
-    String path = "/v2/householdlists/{listId}/items/{itemId}/";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 200, "Success"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.Error.class, 403, "Forbidden"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.Error.class, 404, "Not Found"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.Error.class, 500, "Internal Server Error"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.Error.class, 0, "Internal Server Error"));
-
-    return this.executeRequest("DELETE", "https://api.amazonalexa.com/", path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, null, false);
+    return this.executeRequest(DELETE_LIST_ITEM, "https://api.amazonalexa.com/", queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -148,6 +251,26 @@ public class ListManagementServiceClient extends BaseServiceClient implements Li
     this.callDeleteListItem(listId, itemId).getResponse();
   }
 
+  /**
+   * 
+   * This API deletes an item in the specified list.
+   * @param listId The customer’s listId is retrieved from a getListsMetadata call. (required)
+   * @param itemId The customer’s itemId is retrieved from a GetList call. (required)
+   */
+  public CompletableFuture<ApiResponse<Void>> callDeleteListItemAsync(String listId, String itemId) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("listId", listId);
+    pathParams.put("itemId", itemId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
+    headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
+
+    return this.executeRequestAsync(DELETE_LIST_ITEM, "https://api.amazonalexa.com/", queryParams, headerParams,
+      pathParams, null);
+  }
+
   /**
    * 
    * This API can be used to retrieve single item with in any list by listId and itemId. This API can read list items from an archived list. Attempting to read list items from a deleted list return an ObjectNotFound 404 error. 
@@ -157,27 +280,17 @@ public class ListManagementServiceClient extends BaseServiceClient implements Li
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.model.services.listManagement.AlexaListItem> callGetListItem(String listId, String itemId) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("listId", listId);
     pathParams.put("itemId", itemId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
     headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
 
-    String path = "/v2/householdlists/{listId}/items/{itemId}/";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.AlexaListItem.class, 200, "Success"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.Error.class, 403, "Forbidden"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.Error.class, 404, "Not Found"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.Error.class, 500, "Internal Server Error"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.Error.class, 0, "Internal Server Error"));
-
-    return this.executeRequest("GET", "https://api.amazonalexa.com/", path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.model.services.listManagement.AlexaListItem.class, false);
+    return this.executeRequest(GET_LIST_ITEM, "https://api.amazonalexa.com/", queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -192,6 +305,27 @@ public class ListManagementServiceClient extends BaseServiceClient implements Li
     return this.callGetListItem(listId, itemId).getResponse();
   }
 
+  /**
+   * 
+   * This API can be used to retrieve single item with in any list by listId and itemId. This API can read list items from an archived list. Attempting to read list items from a deleted list return an ObjectNotFound 404 error. 
+   * @param listId Retrieved from a call to getListsMetadata (required)
+   * @param itemId itemId within a list is retrieved from a getList call (required)
+   * @return com.amazon.ask.model.services.listManagement.AlexaListItem
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.model.services.listManagement.AlexaListItem>> callGetListItemAsync(String listId, String itemId) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("listId", listId);
+    pathParams.put("itemId", itemId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
+    headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
+
+    return this.executeRequestAsync(GET_LIST_ITEM, "https://api.amazonalexa.com/", queryParams, headerParams,
+      pathParams, null);
+  }
+
   /**
    * 
    * API used to update an item value or item status.
@@ -202,28 +336,17 @@ public class ListManagementServiceClient extends BaseServiceClient implements Li
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.model.services.listManagement.AlexaListItem> callUpdateListItem(String listId, String itemId, com.amazon.ask.model.services.listManagement.UpdateListItemRequest updateListItemRequest) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("listId", listId);
     pathParams.put("itemId", itemId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
     headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
 
-    String path = "/v2/householdlists/{listId}/items/{itemId}/";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.AlexaListItem.class, 200, "Success"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.Error.class, 403, "Forbidden"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.Error.class, 404, "Not Found"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.Error.class, 409, "Conflict"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.Error.class, 500, "Internal Server Error"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.Error.class, 0, "Internal Server Error"));
-
-    return this.executeRequest("PUT", "https://api.amazonalexa.com/", path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, updateListItemRequest, com.amazon.ask.model.services.listManagement.AlexaListItem.class, false);
+    return this.executeRequest(UPDATE_LIST_ITEM, "https://api.amazonalexa.com/", queryParams, headerParams,
+      pathParams, updateListItemRequest);
   }
 
   /**
@@ -239,6 +362,28 @@ public class ListManagementServiceClient extends BaseServiceClient implements Li
     return this.callUpdateListItem(listId, itemId, updateListItemRequest).getResponse();
   }
 
+  /**
+   * 
+   * API used to update an item value or item status.
+   * @param listId Customer’s listId (required)
+   * @param itemId itemId to be updated in the list (required)
+   * @param updateListItemRequest  (required)
+   * @return com.amazon.ask.model.services.listManagement.AlexaListItem
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.model.services.listManagement.AlexaListItem>> callUpdateListItemAsync(String listId, String itemId, com.amazon.ask.model.services.listManagement.UpdateListItemRequest updateListItemRequest) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("listId", listId);
+    pathParams.put("itemId", itemId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
+    headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
+
+    return this.executeRequestAsync(UPDATE_LIST_ITEM, "https://api.amazonalexa.com/", queryParams, headerParams,
+      pathParams, updateListItemRequest);
+  }
+
   /**
    * 
    * This API creates an item in an active list or in a default list.
@@ -248,27 +393,16 @@ public class ListManagementServiceClient extends BaseServiceClient implements Li
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.model.services.listManagement.AlexaListItem> callCreateListItem(String listId, com.amazon.ask.model.services.listManagement.CreateListItemRequest createListItemRequest) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("listId", listId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
     headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
 
-    String path = "/v2/householdlists/{listId}/items/";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.AlexaListItem.class, 201, "Success"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.Error.class, 400, "Bad Request"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.Error.class, 403, "Forbidden"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.Error.class, 404, "Not found"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.Error.class, 500, "Internal Server Error"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.Error.class, 0, "Internal Server Error"));
-
-    return this.executeRequest("POST", "https://api.amazonalexa.com/", path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, createListItemRequest, com.amazon.ask.model.services.listManagement.AlexaListItem.class, false);
+    return this.executeRequest(CREATE_LIST_ITEM, "https://api.amazonalexa.com/", queryParams, headerParams,
+      pathParams, createListItemRequest);
   }
 
   /**
@@ -283,6 +417,26 @@ public class ListManagementServiceClient extends BaseServiceClient implements Li
     return this.callCreateListItem(listId, createListItemRequest).getResponse();
   }
 
+  /**
+   * 
+   * This API creates an item in an active list or in a default list.
+   * @param listId The customer’s listId retrieved from a getListsMetadata call. (required)
+   * @param createListItemRequest  (required)
+   * @return com.amazon.ask.model.services.listManagement.AlexaListItem
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.model.services.listManagement.AlexaListItem>> callCreateListItemAsync(String listId, com.amazon.ask.model.services.listManagement.CreateListItemRequest createListItemRequest) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("listId", listId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
+    headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
+
+    return this.executeRequestAsync(CREATE_LIST_ITEM, "https://api.amazonalexa.com/", queryParams, headerParams,
+      pathParams, createListItemRequest);
+  }
+
   /**
    * 
    * This API updates a custom list. Only the list name or state can be updated. An Alexa customer can turn an archived list into an active one. 
@@ -292,28 +446,16 @@ public class ListManagementServiceClient extends BaseServiceClient implements Li
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.model.services.listManagement.AlexaListMetadata> callUpdateList(String listId, com.amazon.ask.model.services.listManagement.UpdateListRequest updateListRequest) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("listId", listId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
     headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
 
-    String path = "/v2/householdlists/{listId}/";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.AlexaListMetadata.class, 200, "Success"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.Error.class, 400, "Bad Request"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.Error.class, 403, "Forbidden"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.Error.class, 404, "List not found"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.Error.class, 409, "Conflict"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.Error.class, 500, "Internal Server Error"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.Error.class, 0, "Internal Server Error"));
-
-    return this.executeRequest("PUT", "https://api.amazonalexa.com/", path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, updateListRequest, com.amazon.ask.model.services.listManagement.AlexaListMetadata.class, false);
+    return this.executeRequest(UPDATE_LIST, "https://api.amazonalexa.com/", queryParams, headerParams,
+      pathParams, updateListRequest);
   }
 
   /**
@@ -328,6 +470,26 @@ public class ListManagementServiceClient extends BaseServiceClient implements Li
     return this.callUpdateList(listId, updateListRequest).getResponse();
   }
 
+  /**
+   * 
+   * This API updates a custom list. Only the list name or state can be updated. An Alexa customer can turn an archived list into an active one. 
+   * @param listId Value of the customer’s listId retrieved from a getListsMetadata call.  (required)
+   * @param updateListRequest  (required)
+   * @return com.amazon.ask.model.services.listManagement.AlexaListMetadata
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.model.services.listManagement.AlexaListMetadata>> callUpdateListAsync(String listId, com.amazon.ask.model.services.listManagement.UpdateListRequest updateListRequest) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("listId", listId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
+    headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
+
+    return this.executeRequestAsync(UPDATE_LIST, "https://api.amazonalexa.com/", queryParams, headerParams,
+      pathParams, updateListRequest);
+  }
+
   /**
    * 
    * Retrieves the list metadata including the items in the list with requested status. 
@@ -337,28 +499,17 @@ public class ListManagementServiceClient extends BaseServiceClient implements Li
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.model.services.listManagement.AlexaList> callGetList(String listId, String status) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("listId", listId);
     pathParams.put("status", status);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
     headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
 
-    String path = "/v2/householdlists/{listId}/{status}/";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.AlexaList.class, 200, "Success"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.Error.class, 400, "Bad Request"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.Error.class, 403, "Forbidden"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.Error.class, 404, "Not Found"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.Error.class, 500, "Internal Server Error"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.Error.class, 0, "Internal Server Error"));
-
-    return this.executeRequest("GET", "https://api.amazonalexa.com/", path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.model.services.listManagement.AlexaList.class, false);
+    return this.executeRequest(GET_LIST, "https://api.amazonalexa.com/", queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -373,6 +524,27 @@ public class ListManagementServiceClient extends BaseServiceClient implements Li
     return this.callGetList(listId, status).getResponse();
   }
 
+  /**
+   * 
+   * Retrieves the list metadata including the items in the list with requested status. 
+   * @param listId Retrieved from a call to GetListsMetadata to specify the listId in the request path.  (required)
+   * @param status Specify the status of the list.  (required)
+   * @return com.amazon.ask.model.services.listManagement.AlexaList
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.model.services.listManagement.AlexaList>> callGetListAsync(String listId, String status) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("listId", listId);
+    pathParams.put("status", status);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
+    headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
+
+    return this.executeRequestAsync(GET_LIST, "https://api.amazonalexa.com/", queryParams, headerParams,
+      pathParams, null);
+  }
+
   /**
    * 
    * This API creates a custom list. The new list name must be different than any existing list name. 
@@ -381,26 +553,15 @@ public class ListManagementServiceClient extends BaseServiceClient implements Li
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.model.services.listManagement.AlexaListMetadata> callCreateList(com.amazon.ask.model.services.listManagement.CreateListRequest createListRequest) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
-    Map<String, String> pathParams = new HashMap<String, String>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = Collections.emptyMap();
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
     headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
 
-    String path = "/v2/householdlists/";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.AlexaListMetadata.class, 201, "Success"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.Error.class, 400, "Bad Request"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.Error.class, 403, "Forbidden"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.Error.class, 409, "Conflict"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.Error.class, 500, "Internal Server Error"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.listManagement.Error.class, 0, "Internal Server Error"));
-
-    return this.executeRequest("POST", "https://api.amazonalexa.com/", path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, createListRequest, com.amazon.ask.model.services.listManagement.AlexaListMetadata.class, false);
+    return this.executeRequest(CREATE_LIST, "https://api.amazonalexa.com/", queryParams, headerParams,
+      pathParams, createListRequest);
   }
 
   /**
@@ -414,4 +575,22 @@ public class ListManagementServiceClient extends BaseServiceClient implements Li
     return this.callCreateList(createListRequest).getResponse();
   }
 
+  /**
+   * 
+   * This API creates a custom list. The new list name must be different than any existing list name. 
+   * @param createListRequest  (required)
+   * @return com.amazon.ask.model.services.listManagement.AlexaListMetadata
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.model.services.listManagement.AlexaListMetadata>> callCreateListAsync(com.amazon.ask.model.services.listManagement.CreateListRequest createListRequest) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = Collections.emptyMap();
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
+    headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
+
+    return this.executeRequestAsync(CREATE_LIST, "https://api.amazonalexa.com/", queryParams, headerParams,
+      pathParams, createListRequest);
+  }
+
 }
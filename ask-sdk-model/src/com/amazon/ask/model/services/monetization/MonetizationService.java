@@ -18,6 +18,7 @@ import com.amazon.ask.model.services.*;
 import java.math.BigDecimal;import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 
 
@@ -27,19 +28,35 @@ public interface MonetizationService {
 
     ApiResponse<com.amazon.ask.model.services.monetization.InSkillProductsResponse> callGetInSkillProducts(String acceptLanguage, String purchasable, String entitled, String productType, String nextToken, BigDecimal maxResults) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.model.services.monetization.InSkillProductsResponse>> callGetInSkillProductsAsync(String acceptLanguage, String purchasable, String entitled, String productType, String nextToken, BigDecimal maxResults) {
+        return ServiceFutures.fromCall(() -> callGetInSkillProducts(acceptLanguage, purchasable, entitled, productType, nextToken, maxResults));
+    }
+
 
     com.amazon.ask.model.services.monetization.InSkillProduct getInSkillProduct(String acceptLanguage, String productId) throws ServiceException;
 
     ApiResponse<com.amazon.ask.model.services.monetization.InSkillProduct> callGetInSkillProduct(String acceptLanguage, String productId) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.model.services.monetization.InSkillProduct>> callGetInSkillProductAsync(String acceptLanguage, String productId) {
+        return ServiceFutures.fromCall(() -> callGetInSkillProduct(acceptLanguage, productId));
+    }
+
 
     com.amazon.ask.model.services.monetization.InSkillProductTransactionsResponse getInSkillProductsTransactions(String acceptLanguage, String productId, String status, OffsetDateTime fromLastModifiedTime, OffsetDateTime toLastModifiedTime, String nextToken, BigDecimal maxResults) throws ServiceException;
 
     ApiResponse<com.amazon.ask.model.services.monetization.InSkillProductTransactionsResponse> callGetInSkillProductsTransactions(String acceptLanguage, String productId, String status, OffsetDateTime fromLastModifiedTime, OffsetDateTime toLastModifiedTime, String nextToken, BigDecimal maxResults) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.model.services.monetization.InSkillProductTransactionsResponse>> callGetInSkillProductsTransactionsAsync(String acceptLanguage, String productId, String status, OffsetDateTime fromLastModifiedTime, OffsetDateTime toLastModifiedTime, String nextToken, BigDecimal maxResults) {
+        return ServiceFutures.fromCall(() -> callGetInSkillProductsTransactions(acceptLanguage, productId, status, fromLastModifiedTime, toLastModifiedTime, nextToken, maxResults));
+    }
+
 
     Boolean getVoicePurchaseSetting() throws ServiceException;
 
     ApiResponse<Boolean> callGetVoicePurchaseSetting() throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Boolean>> callGetVoicePurchaseSettingAsync() {
+        return ServiceFutures.fromCall(() -> callGetVoicePurchaseSetting());
+    }
+
 }
@@ -21,7 +21,9 @@ import java.math.BigDecimal;
 import java.time.OffsetDateTime;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.Map;
 import java.util.HashMap;
 
@@ -29,6 +31,47 @@ import java.util.HashMap;
 
 public class MonetizationServiceClient extends BaseServiceClient implements MonetizationService {
 
+  private static final OperationDescriptor<com.amazon.ask.model.services.monetization.InSkillProductsResponse> GET_IN_SKILL_PRODUCTS = OperationDescriptor
+      .builder("GET", "/v1/users/~current/skills/~current/inSkillProducts", com.amazon.ask.model.services.monetization.InSkillProductsResponse.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.model.services.monetization.InSkillProductsResponse.class, 200, "Returns a list of In-Skill products on success.")
+      .withResponse(com.amazon.ask.model.services.monetization.Error.class, 400, "Invalid request")
+      .withResponse(com.amazon.ask.model.services.monetization.Error.class, 401, "The authentication token is invalid or doesn't have access to make this request")
+      .withResponse(com.amazon.ask.model.services.monetization.Error.class, 500, "Internal Server Error")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.model.services.monetization.InSkillProduct> GET_IN_SKILL_PRODUCT = OperationDescriptor
+      .builder("GET", "/v1/users/~current/skills/~current/inSkillProducts/{productId}", com.amazon.ask.model.services.monetization.InSkillProduct.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.model.services.monetization.InSkillProduct.class, 200, "Returns an In-Skill Product on success.")
+      .withResponse(com.amazon.ask.model.services.monetization.Error.class, 400, "Invalid request.")
+      .withResponse(com.amazon.ask.model.services.monetization.Error.class, 401, "The authentication token is invalid or doesn't have access to make this request")
+      .withResponse(com.amazon.ask.model.services.monetization.Error.class, 404, "Requested resource not found.")
+      .withResponse(com.amazon.ask.model.services.monetization.Error.class, 500, "Internal Server Error.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.model.services.monetization.InSkillProductTransactionsResponse> GET_IN_SKILL_PRODUCTS_TRANSACTIONS = OperationDescriptor
+      .builder("GET", "/v1/users/~current/skills/~current/inSkillProductsTransactions", com.amazon.ask.model.services.monetization.InSkillProductTransactionsResponse.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.model.services.monetization.InSkillProductTransactionsResponse.class, 200, "Returns a list of transactions of all in skill products purchases in last 30 days on success.")
+      .withResponse(com.amazon.ask.model.services.monetization.Error.class, 400, "Invalid request")
+      .withResponse(com.amazon.ask.model.services.monetization.Error.class, 401, "The authentication token is invalid or doesn't have access to make this request")
+      .withResponse(com.amazon.ask.model.services.monetization.Error.class, 403, "Forbidden request")
+      .withResponse(com.amazon.ask.model.services.monetization.Error.class, 404, "Product id doesn't exist / invalid / not found.")
+      .withResponse(com.amazon.ask.model.services.monetization.Error.class, 412, "Non-Child Directed Skill is not supported.")
+      .withResponse(com.amazon.ask.model.services.monetization.Error.class, 429, "The request is throttled.")
+      .withResponse(com.amazon.ask.model.services.monetization.Error.class, 500, "Internal Server Error")
+      .build();
+
+  private static final OperationDescriptor<Boolean> GET_VOICE_PURCHASE_SETTING = OperationDescriptor
+      .builder("GET", "/v1/users/~current/skills/~current/settings/voicePurchasing.enabled", Boolean.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(Boolean.class, 200, "Returns a boolean value for voice purchase setting on success.")
+      .withResponse(com.amazon.ask.model.services.monetization.Error.class, 400, "Invalid request.")
+      .withResponse(com.amazon.ask.model.services.monetization.Error.class, 401, "The authentication token is invalid or doesn't have access to make this request")
+      .withResponse(com.amazon.ask.model.services.monetization.Error.class, 500, "Internal Server Error.")
+      .build();
+
   public MonetizationServiceClient(ApiConfiguration apiConfiguration) {
       super(apiConfiguration);
   }
@@ -67,9 +110,8 @@ public class MonetizationServiceClient extends BaseServiceClient implements Mone
     if(maxResults != null) {
     queryParams.add(new Pair<String, String>("maxResults", maxResults.toString()));
   }
-    Map<String, String> pathParams = new HashMap<String, String>();
+    Map<String, String> pathParams = Collections.emptyMap();
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     if (acceptLanguage != null) {
       headerParams.add(new Pair<String, String>("Accept-Language", acceptLanguage));
@@ -78,16 +120,8 @@ public class MonetizationServiceClient extends BaseServiceClient implements Mone
     String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
     headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
 
-    String path = "/v1/users/~current/skills/~current/inSkillProducts";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.monetization.InSkillProductsResponse.class, 200, "Returns a list of In-Skill products on success."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.monetization.Error.class, 400, "Invalid request"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.monetization.Error.class, 401, "The authentication token is invalid or doesn't have access to make this request"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.monetization.Error.class, 500, "Internal Server Error"));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.model.services.monetization.InSkillProductsResponse.class, false);
+    return this.executeRequest(GET_IN_SKILL_PRODUCTS, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -106,6 +140,53 @@ public class MonetizationServiceClient extends BaseServiceClient implements Mone
     return this.callGetInSkillProducts(acceptLanguage, purchasable, entitled, productType, nextToken, maxResults).getResponse();
   }
 
+  /**
+   * 
+   * Gets In-Skill Products based on user&#39;s context for the Skill.
+   * @param acceptLanguage User&#39;s locale/language in context (required)
+   * @param purchasable Filter products based on whether they are purchasable by the user or not. * &#39;PURCHASABLE&#39; - Products that are purchasable by the user. * &#39;NOT_PURCHASABLE&#39; - Products that are not purchasable by the user. (optional)
+   * @param entitled Filter products based on whether they are entitled to the user or not. * &#39;ENTITLED&#39; - Products that the user is entitled to. * &#39;NOT_ENTITLED&#39; - Products that the user is not entitled to. (optional)
+   * @param productType Product type. * &#39;SUBSCRIPTION&#39; - Once purchased, customers will own the content for the subscription period. * &#39;ENTITLEMENT&#39; - Once purchased, customers will own the content forever. * &#39;CONSUMABLE&#39; - Once purchased, customers will be entitled to the content until it is consumed. It can also be re-purchased. (optional)
+   * @param nextToken When response to this API call is truncated (that is, isTruncated response element value is true), the response also includes the nextToken element, the value of which can be used in the next request as the continuation-token to list the next set of objects. The continuation token is an opaque value that In-Skill Products API understands. Token has expiry of 24 hours. (optional)
+   * @param maxResults sets the maximum number of results returned in the response body. If you want to retrieve fewer than upper limit of 100 results, you can add this parameter to your request. maxResults should not exceed the upper limit. The response might contain fewer results than maxResults, but it will never contain more. If there are additional results that satisfy the search criteria, but these results were not returned because maxResults was exceeded, the response contains isTruncated &#x3D; true. (optional)
+   * @return com.amazon.ask.model.services.monetization.InSkillProductsResponse
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.model.services.monetization.InSkillProductsResponse>> callGetInSkillProductsAsync(String acceptLanguage, String purchasable, String entitled, String productType, String nextToken, BigDecimal maxResults) {
+    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+
+    if(purchasable != null) {
+    queryParams.add(new Pair<String, String>("purchasable", purchasable));
+  }
+
+    if(entitled != null) {
+    queryParams.add(new Pair<String, String>("entitled", entitled));
+  }
+
+    if(productType != null) {
+    queryParams.add(new Pair<String, String>("productType", productType));
+  }
+
+    if(nextToken != null) {
+    queryParams.add(new Pair<String, String>("nextToken", nextToken));
+  }
+
+    if(maxResults != null) {
+    queryParams.add(new Pair<String, String>("maxResults", maxResults.toString()));
+  }
+    Map<String, String> pathParams = Collections.emptyMap();
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    if (acceptLanguage != null) {
+      headerParams.add(new Pair<String, String>("Accept-Language", acceptLanguage));
+    }
+
+    String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
+    headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
+
+    return this.executeRequestAsync(GET_IN_SKILL_PRODUCTS, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
+  }
+
   /**
    * 
    * Get In-Skill Product information based on user context for the Skill.
@@ -115,11 +196,10 @@ public class MonetizationServiceClient extends BaseServiceClient implements Mone
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.model.services.monetization.InSkillProduct> callGetInSkillProduct(String acceptLanguage, String productId) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("productId", productId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     if (acceptLanguage != null) {
       headerParams.add(new Pair<String, String>("Accept-Language", acceptLanguage));
@@ -128,17 +208,8 @@ public class MonetizationServiceClient extends BaseServiceClient implements Mone
     String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
     headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
 
-    String path = "/v1/users/~current/skills/~current/inSkillProducts/{productId}";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.monetization.InSkillProduct.class, 200, "Returns an In-Skill Product on success."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.monetization.Error.class, 400, "Invalid request."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.monetization.Error.class, 401, "The authentication token is invalid or doesn't have access to make this request"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.monetization.Error.class, 404, "Requested resource not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.monetization.Error.class, 500, "Internal Server Error."));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.model.services.monetization.InSkillProduct.class, false);
+    return this.executeRequest(GET_IN_SKILL_PRODUCT, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -153,6 +224,30 @@ public class MonetizationServiceClient extends BaseServiceClient implements Mone
     return this.callGetInSkillProduct(acceptLanguage, productId).getResponse();
   }
 
+  /**
+   * 
+   * Get In-Skill Product information based on user context for the Skill.
+   * @param acceptLanguage User&#39;s locale/language in context (required)
+   * @param productId Product Id. (required)
+   * @return com.amazon.ask.model.services.monetization.InSkillProduct
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.model.services.monetization.InSkillProduct>> callGetInSkillProductAsync(String acceptLanguage, String productId) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("productId", productId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    if (acceptLanguage != null) {
+      headerParams.add(new Pair<String, String>("Accept-Language", acceptLanguage));
+    }
+
+    String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
+    headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
+
+    return this.executeRequestAsync(GET_IN_SKILL_PRODUCT, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
+  }
+
   /**
    * 
    * Returns transactions of all in skill products purchases of the customer
@@ -192,9 +287,8 @@ public class MonetizationServiceClient extends BaseServiceClient implements Mone
     if(maxResults != null) {
     queryParams.add(new Pair<String, String>("maxResults", maxResults.toString()));
   }
-    Map<String, String> pathParams = new HashMap<String, String>();
+    Map<String, String> pathParams = Collections.emptyMap();
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     if (acceptLanguage != null) {
       headerParams.add(new Pair<String, String>("Accept-Language", acceptLanguage));
@@ -203,20 +297,8 @@ public class MonetizationServiceClient extends BaseServiceClient implements Mone
     String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
     headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
 
-    String path = "/v1/users/~current/skills/~current/inSkillProductsTransactions";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.monetization.InSkillProductTransactionsResponse.class, 200, "Returns a list of transactions of all in skill products purchases in last 30 days on success."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.monetization.Error.class, 400, "Invalid request"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.monetization.Error.class, 401, "The authentication token is invalid or doesn't have access to make this request"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.monetization.Error.class, 403, "Forbidden request"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.monetization.Error.class, 404, "Product id doesn't exist / invalid / not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.monetization.Error.class, 412, "Non-Child Directed Skill is not supported."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.monetization.Error.class, 429, "The request is throttled."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.monetization.Error.class, 500, "Internal Server Error"));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.model.services.monetization.InSkillProductTransactionsResponse.class, false);
+    return this.executeRequest(GET_IN_SKILL_PRODUCTS_TRANSACTIONS, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -236,6 +318,58 @@ public class MonetizationServiceClient extends BaseServiceClient implements Mone
     return this.callGetInSkillProductsTransactions(acceptLanguage, productId, status, fromLastModifiedTime, toLastModifiedTime, nextToken, maxResults).getResponse();
   }
 
+  /**
+   * 
+   * Returns transactions of all in skill products purchases of the customer
+   * @param acceptLanguage User&#39;s locale/language in context (required)
+   * @param productId Product Id. (optional)
+   * @param status Transaction status for in skill product purchases. * &#39;PENDING_APPROVAL_BY_PARENT&#39; - The transaction is pending approval from parent. * &#39;APPROVED_BY_PARENT&#39; - The transaction was approved by parent and fulfilled successfully.. * &#39;DENIED_BY_PARENT&#39; - The transaction was declined by parent and hence not fulfilled. * &#39;EXPIRED_NO_ACTION_BY_PARENT&#39; - The transaction was expired due to no response from parent and hence not fulfilled. * &#39;ERROR&#39; - The transaction was not fullfiled as there was an error while processing the transaction. (optional)
+   * @param fromLastModifiedTime Filter transactions based on last modified time stamp, FROM duration in format (UTC ISO 8601) i.e. yyyy-MM-dd&#39;T&#39;HH:mm:ss.SSS&#39;Z&#39; (optional)
+   * @param toLastModifiedTime Filter transactions based on last modified time stamp, TO duration in format (UTC ISO 8601) i.e. yyyy-MM-dd&#39;T&#39;HH:mm:ss.SSS&#39;Z&#39; (optional)
+   * @param nextToken When response to this API call is truncated, the response also includes the nextToken in metadata, the value of which can be used in the next request as the continuation-token to list the next set of objects. The continuation token is an opaque value that In-Skill Products API understands. Token has expiry of 24 hours. (optional)
+   * @param maxResults sets the maximum number of results returned in the response body. If you want to retrieve fewer than upper limit of 100 results, you can add this parameter to your request. maxResults should not exceed the upper limit. The response might contain fewer results than maxResults, but it will never contain more. If there are additional results that satisfy the search criteria, but these results were not returned because maxResults was exceeded, the response contains nextToken which can be used to fetch next set of result. (optional)
+   * @return com.amazon.ask.model.services.monetization.InSkillProductTransactionsResponse
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.model.services.monetization.InSkillProductTransactionsResponse>> callGetInSkillProductsTransactionsAsync(String acceptLanguage, String productId, String status, OffsetDateTime fromLastModifiedTime, OffsetDateTime toLastModifiedTime, String nextToken, BigDecimal maxResults) {
+    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+
+    if(productId != null) {
+    queryParams.add(new Pair<String, String>("productId", productId));
+  }
+
+    if(status != null) {
+    queryParams.add(new Pair<String, String>("status", status));
+  }
+
+    if(fromLastModifiedTime != null) {
+    queryParams.add(new Pair<String, String>("fromLastModifiedTime", fromLastModifiedTime.toString()));
+  }
+
+    if(toLastModifiedTime != null) {
+    queryParams.add(new Pair<String, String>("toLastModifiedTime", toLastModifiedTime.toString()));
+  }
+
+    if(nextToken != null) {
+    queryParams.add(new Pair<String, String>("nextToken", nextToken));
+  }
+
+    if(maxResults != null) {
+    queryParams.add(new Pair<String, String>("maxResults", maxResults.toString()));
+  }
+    Map<String, String> pathParams = Collections.emptyMap();
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    if (acceptLanguage != null) {
+      headerParams.add(new Pair<String, String>("Accept-Language", acceptLanguage));
+    }
+
+    String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
+    headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
+
+    return this.executeRequestAsync(GET_IN_SKILL_PRODUCTS_TRANSACTIONS, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
+  }
+
   /**
    * 
    * Returns whether or not voice purchasing is enabled for the skill
@@ -243,24 +377,15 @@ public class MonetizationServiceClient extends BaseServiceClient implements Mone
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Boolean> callGetVoicePurchaseSetting() throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
-    Map<String, String> pathParams = new HashMap<String, String>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = Collections.emptyMap();
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
     headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
 
-    String path = "/v1/users/~current/skills/~current/settings/voicePurchasing.enabled";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(Boolean.class, 200, "Returns a boolean value for voice purchase setting on success."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.monetization.Error.class, 400, "Invalid request."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.monetization.Error.class, 401, "The authentication token is invalid or doesn't have access to make this request"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.monetization.Error.class, 500, "Internal Server Error."));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, Boolean.class, false);
+    return this.executeRequest(GET_VOICE_PURCHASE_SETTING, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -273,4 +398,21 @@ public class MonetizationServiceClient extends BaseServiceClient implements Mone
     return this.callGetVoicePurchaseSetting().getResponse();
   }
 
+  /**
+   * 
+   * Returns whether or not voice purchasing is enabled for the skill
+   * @return Boolean
+   */
+  public CompletableFuture<ApiResponse<Boolean>> callGetVoicePurchaseSettingAsync() {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = Collections.emptyMap();
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
+    headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
+
+    return this.executeRequestAsync(GET_VOICE_PURCHASE_SETTING, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
+  }
+
 }
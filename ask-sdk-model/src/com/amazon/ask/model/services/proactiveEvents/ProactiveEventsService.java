@@ -18,6 +18,7 @@ import com.amazon.ask.model.services.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 
 
@@ -27,4 +28,8 @@ public interface ProactiveEventsService {
 
     ApiResponse<Void> callCreateProactiveEvent(com.amazon.ask.model.services.proactiveEvents.CreateProactiveEventRequest createProactiveEventRequest, com.amazon.ask.model.services.proactiveEvents.SkillStage stage) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callCreateProactiveEventAsync(com.amazon.ask.model.services.proactiveEvents.CreateProactiveEventRequest createProactiveEventRequest, com.amazon.ask.model.services.proactiveEvents.SkillStage stage) {
+        return ServiceFutures.fromCall(() -> callCreateProactiveEvent(createProactiveEventRequest, stage));
+    }
+
 }
@@ -19,7 +19,9 @@ import com.amazon.ask.model.services.lwa.*;
 import com.amazon.ask.model.services.lwa.model.GrantType;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.Map;
 import java.util.HashMap;
 
@@ -27,6 +29,30 @@ import java.util.HashMap;
 
 public class ProactiveEventsServiceClient extends BaseServiceClient implements ProactiveEventsService {
 
+  private static final OperationDescriptor<Void> CREATE_PROACTIVE_EVENT = OperationDescriptor
+      .builder("POST", "/v1/proactiveEvents", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 202, "Request accepted")
+      .withResponse(com.amazon.ask.model.services.proactiveEvents.Error.class, 400, "A required parameter is not present or is incorrectly formatted, or the requested creation of a resource has already been completed by a previous request. ")
+      .withResponse(com.amazon.ask.model.services.proactiveEvents.Error.class, 403, "The authentication token is invalid or doesn't have authentication to access the resource")
+      .withResponse(com.amazon.ask.model.services.proactiveEvents.Error.class, 409, "A skill attempts to create duplicate events using the same referenceId for the same customer.")
+      .withResponse(com.amazon.ask.model.services.proactiveEvents.Error.class, 429, "The client has made more calls than the allowed limit.")
+      .withResponse(com.amazon.ask.model.services.proactiveEvents.Error.class, 500, "The ProactiveEvents service encounters an internal error for a valid request.")
+      .withResponse(com.amazon.ask.model.services.proactiveEvents.Error.class, 0, "Unexpected error")
+      .build();
+
+  private static final OperationDescriptor<Void> CREATE_PROACTIVE_EVENT_DEVELOPMENT = OperationDescriptor
+      .builder("POST", "/v1/proactiveEvents/stages/development", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 202, "Request accepted")
+      .withResponse(com.amazon.ask.model.services.proactiveEvents.Error.class, 400, "A required parameter is not present or is incorrectly formatted, or the requested creation of a resource has already been completed by a previous request. ")
+      .withResponse(com.amazon.ask.model.services.proactiveEvents.Error.class, 403, "The authentication token is invalid or doesn't have authentication to access the resource")
+      .withResponse(com.amazon.ask.model.services.proactiveEvents.Error.class, 409, "A skill attempts to create duplicate events using the same referenceId for the same customer.")
+      .withResponse(com.amazon.ask.model.services.proactiveEvents.Error.class, 429, "The client has made more calls than the allowed limit.")
+      .withResponse(com.amazon.ask.model.services.proactiveEvents.Error.class, 500, "The ProactiveEvents service encounters an internal error for a valid request.")
+      .withResponse(com.amazon.ask.model.services.proactiveEvents.Error.class, 0, "Unexpected error")
+      .build();
+
   private final LwaClient lwaClient;
 
   public ProactiveEventsServiceClient(ApiConfiguration apiConfiguration, AuthenticationConfiguration authenticationConfiguration) {
@@ -53,30 +79,20 @@ public class ProactiveEventsServiceClient extends BaseServiceClient implements P
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callCreateProactiveEvent(com.amazon.ask.model.services.proactiveEvents.CreateProactiveEventRequest createProactiveEventRequest, com.amazon.ask.model.services.proactiveEvents.SkillStage stage) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
-    Map<String, String> pathParams = new HashMap<String, String>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = Collections.emptyMap();
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForScope("alexa::proactive_events");
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/proactiveEvents";
+    OperationDescriptor<Void> operation = CREATE_PROACTIVE_EVENT;
     if (stage == com.amazon.ask.model.services.proactiveEvents.SkillStage.DEVELOPMENT) {
-      path += "/stages/development";
+      operation = CREATE_PROACTIVE_EVENT_DEVELOPMENT;
     }
 
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 202, "Request accepted"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.proactiveEvents.Error.class, 400, "A required parameter is not present or is incorrectly formatted, or the requested creation of a resource has already been completed by a previous request. "));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.proactiveEvents.Error.class, 403, "The authentication token is invalid or doesn't have authentication to access the resource"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.proactiveEvents.Error.class, 409, "A skill attempts to create duplicate events using the same referenceId for the same customer."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.proactiveEvents.Error.class, 429, "The client has made more calls than the allowed limit."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.proactiveEvents.Error.class, 500, "The ProactiveEvents service encounters an internal error for a valid request."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.proactiveEvents.Error.class, 0, "Unexpected error"));
-
-    return this.executeRequest("POST", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, createProactiveEventRequest, null, false);
+    return this.executeRequest(operation, this.apiEndpoint, queryParams, headerParams,
+      pathParams, createProactiveEventRequest);
   }
 
   /**
@@ -89,4 +105,27 @@ public class ProactiveEventsServiceClient extends BaseServiceClient implements P
     this.callCreateProactiveEvent(createProactiveEventRequest, stage).getResponse();
   }
 
+  /**
+   * 
+   * Create a new proactive event in live stage.
+   * @param createProactiveEventRequest Request to create a new proactive event. (required)
+   */
+  public CompletableFuture<ApiResponse<Void>> callCreateProactiveEventAsync(com.amazon.ask.model.services.proactiveEvents.CreateProactiveEventRequest createProactiveEventRequest, com.amazon.ask.model.services.proactiveEvents.SkillStage stage) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = Collections.emptyMap();
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForScopeAsync("alexa::proactive_events").thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      OperationDescriptor<Void> operation = CREATE_PROACTIVE_EVENT;
+      if (stage == com.amazon.ask.model.services.proactiveEvents.SkillStage.DEVELOPMENT) {
+        operation = CREATE_PROACTIVE_EVENT_DEVELOPMENT;
+      }
+
+      return this.executeRequestAsync(operation, this.apiEndpoint, queryParams, headerParams,
+        pathParams, createProactiveEventRequest);
+    });
+  }
+
 }
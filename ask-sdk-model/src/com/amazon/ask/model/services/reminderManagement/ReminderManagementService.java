@@ -18,6 +18,7 @@ import com.amazon.ask.model.services.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 
 
@@ -27,24 +28,44 @@ public interface ReminderManagementService {
 
     ApiResponse<Void> callDeleteReminder(String alertToken) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callDeleteReminderAsync(String alertToken) {
+        return ServiceFutures.fromCall(() -> callDeleteReminder(alertToken));
+    }
+
 
     com.amazon.ask.model.services.reminderManagement.GetReminderResponse getReminder(String alertToken) throws ServiceException;
 
     ApiResponse<com.amazon.ask.model.services.reminderManagement.GetReminderResponse> callGetReminder(String alertToken) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.model.services.reminderManagement.GetReminderResponse>> callGetReminderAsync(String alertToken) {
+        return ServiceFutures.fromCall(() -> callGetReminder(alertToken));
+    }
+
 
     com.amazon.ask.model.services.reminderManagement.ReminderResponse updateReminder(String alertToken, com.amazon.ask.model.services.reminderManagement.ReminderRequest reminderRequest) throws ServiceException;
 
     ApiResponse<com.amazon.ask.model.services.reminderManagement.ReminderResponse> callUpdateReminder(String alertToken, com.amazon.ask.model.services.reminderManagement.ReminderRequest reminderRequest) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.model.services.reminderManagement.ReminderResponse>> callUpdateReminderAsync(String alertToken, com.amazon.ask.model.services.reminderManagement.ReminderRequest reminderRequest) {
+        return ServiceFutures.fromCall(() -> callUpdateReminder(alertToken, reminderRequest));
+    }
+
 
     com.amazon.ask.model.services.reminderManagement.GetRemindersResponse getReminders() throws ServiceException;
 
     ApiResponse<com.amazon.ask.model.services.reminderManagement.GetRemindersResponse> callGetReminders() throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.model.services.reminderManagement.GetRemindersResponse>> callGetRemindersAsync() {
+        return ServiceFutures.fromCall(() -> callGetReminders());
+    }
+
 
     com.amazon.ask.model.services.reminderManagement.ReminderResponse createReminder(com.amazon.ask.model.services.reminderManagement.ReminderRequest reminderRequest) throws ServiceException;
 
     ApiResponse<com.amazon.ask.model.services.reminderManagement.ReminderResponse> callCreateReminder(com.amazon.ask.model.services.reminderManagement.ReminderRequest reminderRequest) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.model.services.reminderManagement.ReminderResponse>> callCreateReminderAsync(com.amazon.ask.model.services.reminderManagement.ReminderRequest reminderRequest) {
+        return ServiceFutures.fromCall(() -> callCreateReminder(reminderRequest));
+    }
+
 }
@@ -19,7 +19,9 @@ import com.amazon.ask.model.services.lwa.*;
 import com.amazon.ask.model.services.lwa.model.GrantType;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.Map;
 import java.util.HashMap;
 
@@ -27,6 +29,56 @@ import java.util.HashMap;
 
 public class ReminderManagementServiceClient extends BaseServiceClient implements ReminderManagementService {
 
+  private static final OperationDescriptor<Void> DELETE_REMINDER = OperationDescriptor
+      .builder("DELETE", "/v1/alerts/reminders/{alertToken}", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 200, "Success")
+      .withResponse(com.amazon.ask.model.services.reminderManagement.Error.class, 401, "UserAuthenticationException. Request is not authorized/authenticated e.g. If customer does not have permission to create a reminder.")
+      .withResponse(com.amazon.ask.model.services.reminderManagement.Error.class, 429, "RateExceededException e.g. When the skill is throttled for exceeding the max rate")
+      .withResponse(com.amazon.ask.model.services.reminderManagement.Error.class, 500, "Internal Server Error")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.model.services.reminderManagement.GetReminderResponse> GET_REMINDER = OperationDescriptor
+      .builder("GET", "/v1/alerts/reminders/{alertToken}", com.amazon.ask.model.services.reminderManagement.GetReminderResponse.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.model.services.reminderManagement.GetReminderResponse.class, 200, "Success")
+      .withResponse(com.amazon.ask.model.services.reminderManagement.Error.class, 401, "UserAuthenticationException. Request is not authorized/authenticated e.g. If customer does not have permission to create a reminder.")
+      .withResponse(com.amazon.ask.model.services.reminderManagement.Error.class, 429, "RateExceededException e.g. When the skill is throttled for exceeding the max rate")
+      .withResponse(com.amazon.ask.model.services.reminderManagement.Error.class, 500, "Internal Server Error")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.model.services.reminderManagement.ReminderResponse> UPDATE_REMINDER = OperationDescriptor
+      .builder("PUT", "/v1/alerts/reminders/{alertToken}", com.amazon.ask.model.services.reminderManagement.ReminderResponse.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.model.services.reminderManagement.ReminderResponse.class, 200, "Success")
+      .withResponse(com.amazon.ask.model.services.reminderManagement.Error.class, 400, "Bad Request")
+      .withResponse(com.amazon.ask.model.services.reminderManagement.Error.class, 404, "NotFoundException e.g. Retured when reminder is not found")
+      .withResponse(com.amazon.ask.model.services.reminderManagement.Error.class, 409, "UserAuthenticationException. Request is not authorized/authenticated e.g. If customer does not have permission to create a reminder.")
+      .withResponse(com.amazon.ask.model.services.reminderManagement.Error.class, 429, "RateExceededException e.g. When the skill is throttled for exceeding the max rate")
+      .withResponse(com.amazon.ask.model.services.reminderManagement.Error.class, 500, "Internal Server Error")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.model.services.reminderManagement.GetRemindersResponse> GET_REMINDERS = OperationDescriptor
+      .builder("GET", "/v1/alerts/reminders/", com.amazon.ask.model.services.reminderManagement.GetRemindersResponse.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.model.services.reminderManagement.GetRemindersResponse.class, 200, "Success")
+      .withResponse(com.amazon.ask.model.services.reminderManagement.Error.class, 401, "UserAuthenticationException. Request is not authorized/authenticated e.g. If customer does not have permission to create a reminder.")
+      .withResponse(com.amazon.ask.model.services.reminderManagement.Error.class, 429, "RateExceededException e.g. When the skill is throttled for exceeding the max rate")
+      .withResponse(com.amazon.ask.model.services.reminderManagement.Error.class, 500, "Internal Server Error")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.model.services.reminderManagement.ReminderResponse> CREATE_REMINDER = OperationDescriptor
+      .builder("POST", "/v1/alerts/reminders/", com.amazon.ask.model.services.reminderManagement.ReminderResponse.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.model.services.reminderManagement.ReminderResponse.class, 200, "Success")
+      .withResponse(com.amazon.ask.model.services.reminderManagement.Error.class, 400, "Bad Request")
+      .withResponse(com.amazon.ask.model.services.reminderManagement.Error.class, 403, "Forbidden")
+      .withResponse(com.amazon.ask.model.services.reminderManagement.Error.class, 429, "RateExceededException e.g. When the skill is throttled for exceeding the max rate")
+      .withResponse(com.amazon.ask.model.services.reminderManagement.Error.class, 500, "Internal Server Error")
+      .withResponse(com.amazon.ask.model.services.reminderManagement.Error.class, 503, "Service Unavailable")
+      .withResponse(com.amazon.ask.model.services.reminderManagement.Error.class, 504, "Gateway Timeout")
+      .build();
+
   public ReminderManagementServiceClient(ApiConfiguration apiConfiguration) {
       super(apiConfiguration);
   }
@@ -38,25 +90,16 @@ public class ReminderManagementServiceClient extends BaseServiceClient implement
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callDeleteReminder(String alertToken) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("alertToken", alertToken);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
     headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
 
-    String path = "/v1/alerts/reminders/{alertToken}";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 200, "Success"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.reminderManagement.Error.class, 401, "UserAuthenticationException. Request is not authorized/authenticated e.g. If customer does not have permission to create a reminder."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.reminderManagement.Error.class, 429, "RateExceededException e.g. When the skill is throttled for exceeding the max rate"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.reminderManagement.Error.class, 500, "Internal Server Error"));
-
-    return this.executeRequest("DELETE", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, null, false);
+    return this.executeRequest(DELETE_REMINDER, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -69,6 +112,24 @@ public class ReminderManagementServiceClient extends BaseServiceClient implement
     this.callDeleteReminder(alertToken).getResponse();
   }
 
+  /**
+   * 
+   * This API is invoked by the skill to delete a single reminder. 
+   * @param alertToken  (required)
+   */
+  public CompletableFuture<ApiResponse<Void>> callDeleteReminderAsync(String alertToken) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("alertToken", alertToken);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
+    headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
+
+    return this.executeRequestAsync(DELETE_REMINDER, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
+  }
+
   /**
    * 
    * This API is invoked by the skill to get a single reminder. 
@@ -77,25 +138,16 @@ public class ReminderManagementServiceClient extends BaseServiceClient implement
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.model.services.reminderManagement.GetReminderResponse> callGetReminder(String alertToken) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("alertToken", alertToken);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
     headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
 
-    String path = "/v1/alerts/reminders/{alertToken}";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.reminderManagement.GetReminderResponse.class, 200, "Success"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.reminderManagement.Error.class, 401, "UserAuthenticationException. Request is not authorized/authenticated e.g. If customer does not have permission to create a reminder."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.reminderManagement.Error.class, 429, "RateExceededException e.g. When the skill is throttled for exceeding the max rate"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.reminderManagement.Error.class, 500, "Internal Server Error"));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.model.services.reminderManagement.GetReminderResponse.class, false);
+    return this.executeRequest(GET_REMINDER, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -109,6 +161,25 @@ public class ReminderManagementServiceClient extends BaseServiceClient implement
     return this.callGetReminder(alertToken).getResponse();
   }
 
+  /**
+   * 
+   * This API is invoked by the skill to get a single reminder. 
+   * @param alertToken  (required)
+   * @return com.amazon.ask.model.services.reminderManagement.GetReminderResponse
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.model.services.reminderManagement.GetReminderResponse>> callGetReminderAsync(String alertToken) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("alertToken", alertToken);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
+    headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
+
+    return this.executeRequestAsync(GET_REMINDER, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
+  }
+
   /**
    * 
    * This API is invoked by the skill to update a reminder. 
@@ -118,27 +189,16 @@ public class ReminderManagementServiceClient extends BaseServiceClient implement
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.model.services.reminderManagement.ReminderResponse> callUpdateReminder(String alertToken, com.amazon.ask.model.services.reminderManagement.ReminderRequest reminderRequest) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("alertToken", alertToken);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
     headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
 
-    String path = "/v1/alerts/reminders/{alertToken}";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.reminderManagement.ReminderResponse.class, 200, "Success"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.reminderManagement.Error.class, 400, "Bad Request"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.reminderManagement.Error.class, 404, "NotFoundException e.g. Retured when reminder is not found"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.reminderManagement.Error.class, 409, "UserAuthenticationException. Request is not authorized/authenticated e.g. If customer does not have permission to create a reminder."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.reminderManagement.Error.class, 429, "RateExceededException e.g. When the skill is throttled for exceeding the max rate"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.reminderManagement.Error.class, 500, "Internal Server Error"));
-
-    return this.executeRequest("PUT", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, reminderRequest, com.amazon.ask.model.services.reminderManagement.ReminderResponse.class, false);
+    return this.executeRequest(UPDATE_REMINDER, this.apiEndpoint, queryParams, headerParams,
+      pathParams, reminderRequest);
   }
 
   /**
@@ -153,6 +213,26 @@ public class ReminderManagementServiceClient extends BaseServiceClient implement
     return this.callUpdateReminder(alertToken, reminderRequest).getResponse();
   }
 
+  /**
+   * 
+   * This API is invoked by the skill to update a reminder. 
+   * @param alertToken  (required)
+   * @param reminderRequest  (required)
+   * @return com.amazon.ask.model.services.reminderManagement.ReminderResponse
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.model.services.reminderManagement.ReminderResponse>> callUpdateReminderAsync(String alertToken, com.amazon.ask.model.services.reminderManagement.ReminderRequest reminderRequest) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("alertToken", alertToken);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
+    headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
+
+    return this.executeRequestAsync(UPDATE_REMINDER, this.apiEndpoint, queryParams, headerParams,
+      pathParams, reminderRequest);
+  }
+
   /**
    * 
    * This API is invoked by the skill to get a all reminders created by the caller. 
@@ -160,24 +240,15 @@ public class ReminderManagementServiceClient extends BaseServiceClient implement
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.model.services.reminderManagement.GetRemindersResponse> callGetReminders() throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
-    Map<String, String> pathParams = new HashMap<String, String>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = Collections.emptyMap();
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
     headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
 
-    String path = "/v1/alerts/reminders/";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.reminderManagement.GetRemindersResponse.class, 200, "Success"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.reminderManagement.Error.class, 401, "UserAuthenticationException. Request is not authorized/authenticated e.g. If customer does not have permission to create a reminder."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.reminderManagement.Error.class, 429, "RateExceededException e.g. When the skill is throttled for exceeding the max rate"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.reminderManagement.Error.class, 500, "Internal Server Error"));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.model.services.reminderManagement.GetRemindersResponse.class, false);
+    return this.executeRequest(GET_REMINDERS, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -190,6 +261,23 @@ public class ReminderManagementServiceClient extends BaseServiceClient implement
     return this.callGetReminders().getResponse();
   }
 
+  /**
+   * 
+   * This API is invoked by the skill to get a all reminders created by the caller. 
+   * @return com.amazon.ask.model.services.reminderManagement.GetRemindersResponse
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.model.services.reminderManagement.GetRemindersResponse>> callGetRemindersAsync() {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = Collections.emptyMap();
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
+    headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
+
+    return this.executeRequestAsync(GET_REMINDERS, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
+  }
+
   /**
    * 
    * This API is invoked by the skill to create a new reminder. 
@@ -198,27 +286,15 @@ public class ReminderManagementServiceClient extends BaseServiceClient implement
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.model.services.reminderManagement.ReminderResponse> callCreateReminder(com.amazon.ask.model.services.reminderManagement.ReminderRequest reminderRequest) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
-    Map<String, String> pathParams = new HashMap<String, String>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = Collections.emptyMap();
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
     headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
 
-    String path = "/v1/alerts/reminders/";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.reminderManagement.ReminderResponse.class, 200, "Success"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.reminderManagement.Error.class, 400, "Bad Request"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.reminderManagement.Error.class, 403, "Forbidden"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.reminderManagement.Error.class, 429, "RateExceededException e.g. When the skill is throttled for exceeding the max rate"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.reminderManagement.Error.class, 500, "Internal Server Error"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.reminderManagement.Error.class, 503, "Service Unavailable"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.reminderManagement.Error.class, 504, "Gateway Timeout"));
-
-    return this.executeRequest("POST", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, reminderRequest, com.amazon.ask.model.services.reminderManagement.ReminderResponse.class, false);
+    return this.executeRequest(CREATE_REMINDER, this.apiEndpoint, queryParams, headerParams,
+      pathParams, reminderRequest);
   }
 
   /**
@@ -232,4 +308,22 @@ public class ReminderManagementServiceClient extends BaseServiceClient implement
     return this.callCreateReminder(reminderRequest).getResponse();
   }
 
+  /**
+   * 
+   * This API is invoked by the skill to create a new reminder. 
+   * @param reminderRequest  (required)
+   * @return com.amazon.ask.model.services.reminderManagement.ReminderResponse
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.model.services.reminderManagement.ReminderResponse>> callCreateReminderAsync(com.amazon.ask.model.services.reminderManagement.ReminderRequest reminderRequest) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = Collections.emptyMap();
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
+    headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
+
+    return this.executeRequestAsync(CREATE_REMINDER, this.apiEndpoint, queryParams, headerParams,
+      pathParams, reminderRequest);
+  }
+
 }
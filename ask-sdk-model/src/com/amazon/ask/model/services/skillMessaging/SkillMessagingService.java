@@ -18,6 +18,7 @@ import com.amazon.ask.model.services.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 
 
@@ -27,4 +28,8 @@ public interface SkillMessagingService {
 
     ApiResponse<Void> callSendSkillMessage(String userId, com.amazon.ask.model.services.skillMessaging.SendSkillMessagingRequest sendSkillMessagingRequest) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callSendSkillMessageAsync(String userId, com.amazon.ask.model.services.skillMessaging.SendSkillMessagingRequest sendSkillMessagingRequest) {
+        return ServiceFutures.fromCall(() -> callSendSkillMessage(userId, sendSkillMessagingRequest));
+    }
+
 }
@@ -19,7 +19,9 @@ import com.amazon.ask.model.services.lwa.*;
 import com.amazon.ask.model.services.lwa.model.GrantType;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.Map;
 import java.util.HashMap;
 
@@ -27,6 +29,18 @@ import java.util.HashMap;
 
 public class SkillMessagingServiceClient extends BaseServiceClient implements SkillMessagingService {
 
+  private static final OperationDescriptor<Void> SEND_SKILL_MESSAGE = OperationDescriptor
+      .builder("POST", "/v1/skillmessages/users/{userId}", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 202, "Message has been successfully accepted, and will be sent to the skill ")
+      .withResponse(com.amazon.ask.model.services.skillMessaging.Error.class, 400, "Data is missing or not valid ")
+      .withResponse(com.amazon.ask.model.services.skillMessaging.Error.class, 403, "The skill messaging authentication token is expired or not valid ")
+      .withResponse(com.amazon.ask.model.services.skillMessaging.Error.class, 404, "The passed userId does not exist ")
+      .withResponse(com.amazon.ask.model.services.skillMessaging.Error.class, 429, "The requester has exceeded their maximum allowable rate of messages ")
+      .withResponse(com.amazon.ask.model.services.skillMessaging.Error.class, 500, "The SkillMessaging service encountered an internal error for a valid request. ")
+      .withResponse(com.amazon.ask.model.services.skillMessaging.Error.class, 0, "Unexpected error")
+      .build();
+
   private final LwaClient lwaClient;
 
   public SkillMessagingServiceClient(ApiConfiguration apiConfiguration, AuthenticationConfiguration authenticationConfiguration) {
@@ -54,28 +68,16 @@ public class SkillMessagingServiceClient extends BaseServiceClient implements Sk
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callSendSkillMessage(String userId, com.amazon.ask.model.services.skillMessaging.SendSkillMessagingRequest sendSkillMessagingRequest) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("userId", userId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForScope("alexa:skill_messaging");
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skillmessages/users/{userId}";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 202, "Message has been successfully accepted, and will be sent to the skill "));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.skillMessaging.Error.class, 400, "Data is missing or not valid "));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.skillMessaging.Error.class, 403, "The skill messaging authentication token is expired or not valid "));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.skillMessaging.Error.class, 404, "The passed userId does not exist "));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.skillMessaging.Error.class, 429, "The requester has exceeded their maximum allowable rate of messages "));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.skillMessaging.Error.class, 500, "The SkillMessaging service encountered an internal error for a valid request. "));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.skillMessaging.Error.class, 0, "Unexpected error"));
-
-    return this.executeRequest("POST", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, sendSkillMessagingRequest, null, false);
+    return this.executeRequest(SEND_SKILL_MESSAGE, this.apiEndpoint, queryParams, headerParams,
+      pathParams, sendSkillMessagingRequest);
   }
 
   /**
@@ -89,4 +91,24 @@ public class SkillMessagingServiceClient extends BaseServiceClient implements Sk
     this.callSendSkillMessage(userId, sendSkillMessagingRequest).getResponse();
   }
 
+  /**
+   * 
+   * Send a message request to a skill for a specified user.
+   * @param userId The user Id for the specific user to send the message (required)
+   * @param sendSkillMessagingRequest Message Request to be sent to the skill. (required)
+   */
+  public CompletableFuture<ApiResponse<Void>> callSendSkillMessageAsync(String userId, com.amazon.ask.model.services.skillMessaging.SendSkillMessagingRequest sendSkillMessagingRequest) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("userId", userId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForScopeAsync("alexa:skill_messaging").thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(SEND_SKILL_MESSAGE, this.apiEndpoint, queryParams, headerParams,
+        pathParams, sendSkillMessagingRequest);
+    });
+  }
+
 }
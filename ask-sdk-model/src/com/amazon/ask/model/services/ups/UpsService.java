@@ -18,6 +18,7 @@ import com.amazon.ask.model.services.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 
 
@@ -27,34 +28,62 @@ public interface UpsService {
 
     ApiResponse<String> callGetProfileEmail() throws ServiceException;
 
+    default CompletableFuture<ApiResponse<String>> callGetProfileEmailAsync() {
+        return ServiceFutures.fromCall(() -> callGetProfileEmail());
+    }
+
 
     String getProfileGivenName() throws ServiceException;
 
     ApiResponse<String> callGetProfileGivenName() throws ServiceException;
 
+    default CompletableFuture<ApiResponse<String>> callGetProfileGivenNameAsync() {
+        return ServiceFutures.fromCall(() -> callGetProfileGivenName());
+    }
+
 
     com.amazon.ask.model.services.ups.PhoneNumber getProfileMobileNumber() throws ServiceException;
 
     ApiResponse<com.amazon.ask.model.services.ups.PhoneNumber> callGetProfileMobileNumber() throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.model.services.ups.PhoneNumber>> callGetProfileMobileNumberAsync() {
+        return ServiceFutures.fromCall(() -> callGetProfileMobileNumber());
+    }
+
 
     String getProfileName() throws ServiceException;
 
     ApiResponse<String> callGetProfileName() throws ServiceException;
 
+    default CompletableFuture<ApiResponse<String>> callGetProfileNameAsync() {
+        return ServiceFutures.fromCall(() -> callGetProfileName());
+    }
+
 
     com.amazon.ask.model.services.ups.DistanceUnits getSystemDistanceUnits(String deviceId) throws ServiceException;
 
     ApiResponse<com.amazon.ask.model.services.ups.DistanceUnits> callGetSystemDistanceUnits(String deviceId) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.model.services.ups.DistanceUnits>> callGetSystemDistanceUnitsAsync(String deviceId) {
+        return ServiceFutures.fromCall(() -> callGetSystemDistanceUnits(deviceId));
+    }
+
 
     com.amazon.ask.model.services.ups.TemperatureUnit getSystemTemperatureUnit(String deviceId) throws ServiceException;
 
     ApiResponse<com.amazon.ask.model.services.ups.TemperatureUnit> callGetSystemTemperatureUnit(String deviceId) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.model.services.ups.TemperatureUnit>> callGetSystemTemperatureUnitAsync(String deviceId) {
+        return ServiceFutures.fromCall(() -> callGetSystemTemperatureUnit(deviceId));
+    }
+
 
     String getSystemTimeZone(String deviceId) throws ServiceException;
 
     ApiResponse<String> callGetSystemTimeZone(String deviceId) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<String>> callGetSystemTimeZoneAsync(String deviceId) {
+        return ServiceFutures.fromCall(() -> callGetSystemTimeZone(deviceId));
+    }
+
 }
@@ -19,7 +19,9 @@ import com.amazon.ask.model.services.lwa.*;
 import com.amazon.ask.model.services.lwa.model.GrantType;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.Map;
 import java.util.HashMap;
 
@@ -27,6 +29,83 @@ import java.util.HashMap;
 
 public class UpsServiceClient extends BaseServiceClient implements UpsService {
 
+  private static final OperationDescriptor<String> GET_PROFILE_EMAIL = OperationDescriptor
+      .builder("GET", "/v2/accounts/~current/settings/Profile.email", String.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(String.class, 200, "Successfully retrieved the requested information.")
+      .withResponse(com.amazon.ask.model.services.ups.Error.class, 204, "The query did not return any results.")
+      .withResponse(com.amazon.ask.model.services.ups.Error.class, 401, "The authentication token is malformed or invalid.")
+      .withResponse(com.amazon.ask.model.services.ups.Error.class, 403, "The authentication token does not have access to resource.")
+      .withResponse(com.amazon.ask.model.services.ups.Error.class, 429, "The skill has been throttled due to an excessive number of requests.")
+      .withResponse(com.amazon.ask.model.services.ups.Error.class, 0, "An unexpected error occurred.")
+      .build();
+
+  private static final OperationDescriptor<String> GET_PROFILE_GIVEN_NAME = OperationDescriptor
+      .builder("GET", "/v2/accounts/~current/settings/Profile.givenName", String.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(String.class, 200, "Successfully retrieved the requested information.")
+      .withResponse(com.amazon.ask.model.services.ups.Error.class, 204, "The query did not return any results.")
+      .withResponse(com.amazon.ask.model.services.ups.Error.class, 401, "The authentication token is malformed or invalid.")
+      .withResponse(com.amazon.ask.model.services.ups.Error.class, 403, "The authentication token does not have access to resource.")
+      .withResponse(com.amazon.ask.model.services.ups.Error.class, 429, "The skill has been throttled due to an excessive number of requests.")
+      .withResponse(com.amazon.ask.model.services.ups.Error.class, 0, "An unexpected error occurred.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.model.services.ups.PhoneNumber> GET_PROFILE_MOBILE_NUMBER = OperationDescriptor
+      .builder("GET", "/v2/accounts/~current/settings/Profile.mobileNumber", com.amazon.ask.model.services.ups.PhoneNumber.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.model.services.ups.PhoneNumber.class, 200, "Successfully retrieved the requested information.")
+      .withResponse(com.amazon.ask.model.services.ups.Error.class, 204, "The query did not return any results.")
+      .withResponse(com.amazon.ask.model.services.ups.Error.class, 401, "The authentication token is malformed or invalid.")
+      .withResponse(com.amazon.ask.model.services.ups.Error.class, 403, "The authentication token does not have access to resource.")
+      .withResponse(com.amazon.ask.model.services.ups.Error.class, 429, "The skill has been throttled due to an excessive number of requests.")
+      .withResponse(com.amazon.ask.model.services.ups.Error.class, 0, "An unexpected error occurred.")
+      .build();
+
+  private static final OperationDescriptor<String> GET_PROFILE_NAME = OperationDescriptor
+      .builder("GET", "/v2/accounts/~current/settings/Profile.name", String.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(String.class, 200, "Successfully retrieved the requested information.")
+      .withResponse(com.amazon.ask.model.services.ups.Error.class, 204, "The query did not return any results.")
+      .withResponse(com.amazon.ask.model.services.ups.Error.class, 401, "The authentication token is malformed or invalid.")
+      .withResponse(com.amazon.ask.model.services.ups.Error.class, 403, "The authentication token does not have access to resource.")
+      .withResponse(com.amazon.ask.model.services.ups.Error.class, 429, "The skill has been throttled due to an excessive number of requests.")
+      .withResponse(com.amazon.ask.model.services.ups.Error.class, 0, "An unexpected error occurred.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.model.services.ups.DistanceUnits> GET_SYSTEM_DISTANCE_UNITS = OperationDescriptor
+      .builder("GET", "/v2/devices/{deviceId}/settings/System.distanceUnits", com.amazon.ask.model.services.ups.DistanceUnits.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.model.services.ups.DistanceUnits.class, 200, "Successfully get the setting")
+      .withResponse(com.amazon.ask.model.services.ups.Error.class, 204, "The query did not return any results.")
+      .withResponse(com.amazon.ask.model.services.ups.Error.class, 401, "The authentication token is malformed or invalid.")
+      .withResponse(com.amazon.ask.model.services.ups.Error.class, 403, "The authentication token does not have access to resource.")
+      .withResponse(com.amazon.ask.model.services.ups.Error.class, 429, "The skill has been throttled due to an excessive number of requests.")
+      .withResponse(com.amazon.ask.model.services.ups.Error.class, 0, "An unexpected error occurred.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.model.services.ups.TemperatureUnit> GET_SYSTEM_TEMPERATURE_UNIT = OperationDescriptor
+      .builder("GET", "/v2/devices/{deviceId}/settings/System.temperatureUnit", com.amazon.ask.model.services.ups.TemperatureUnit.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.model.services.ups.TemperatureUnit.class, 200, "Successfully get the setting")
+      .withResponse(com.amazon.ask.model.services.ups.Error.class, 204, "The query did not return any results.")
+      .withResponse(com.amazon.ask.model.services.ups.Error.class, 401, "The authentication token is malformed or invalid.")
+      .withResponse(com.amazon.ask.model.services.ups.Error.class, 403, "The authentication token does not have access to resource.")
+      .withResponse(com.amazon.ask.model.services.ups.Error.class, 429, "The skill has been throttled due to an excessive number of requests.")
+      .withResponse(com.amazon.ask.model.services.ups.Error.class, 0, "An unexpected error occurred.")
+      .build();
+
+  private static final OperationDescriptor<String> GET_SYSTEM_TIME_ZONE = OperationDescriptor
+      .builder("GET", "/v2/devices/{deviceId}/settings/System.timeZone", String.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(String.class, 200, "Successfully get the setting")
+      .withResponse(com.amazon.ask.model.services.ups.Error.class, 204, "The query did not return any results.")
+      .withResponse(com.amazon.ask.model.services.ups.Error.class, 401, "The authentication token is malformed or invalid.")
+      .withResponse(com.amazon.ask.model.services.ups.Error.class, 403, "The authentication token does not have access to resource.")
+      .withResponse(com.amazon.ask.model.services.ups.Error.class, 429, "The skill has been throttled due to an excessive number of requests.")
+      .withResponse(com.amazon.ask.model.services.ups.Error.class, 0, "An unexpected error occurred.")
+      .build();
+
   public UpsServiceClient(ApiConfiguration apiConfiguration) {
       super(apiConfiguration);
   }
@@ -38,26 +117,15 @@ public class UpsServiceClient extends BaseServiceClient implements UpsService {
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<String> callGetProfileEmail() throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
-    Map<String, String> pathParams = new HashMap<String, String>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = Collections.emptyMap();
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
     headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
 
-    String path = "/v2/accounts/~current/settings/Profile.email";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(String.class, 200, "Successfully retrieved the requested information."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.ups.Error.class, 204, "The query did not return any results."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.ups.Error.class, 401, "The authentication token is malformed or invalid."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.ups.Error.class, 403, "The authentication token does not have access to resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.ups.Error.class, 429, "The skill has been throttled due to an excessive number of requests."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.ups.Error.class, 0, "An unexpected error occurred."));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, String.class, false);
+    return this.executeRequest(GET_PROFILE_EMAIL, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -70,6 +138,23 @@ public class UpsServiceClient extends BaseServiceClient implements UpsService {
     return this.callGetProfileEmail().getResponse();
   }
 
+  /**
+   * 
+   * Gets the email address of the customer associated with the current enablement. Requires customer consent for scopes: [alexa::profile:email:read] 
+   * @return String
+   */
+  public CompletableFuture<ApiResponse<String>> callGetProfileEmailAsync() {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = Collections.emptyMap();
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
+    headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
+
+    return this.executeRequestAsync(GET_PROFILE_EMAIL, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
+  }
+
   /**
    * 
    * Gets the given name (first name) of the customer associated with the current enablement. Requires customer consent for scopes: [alexa::profile:given_name:read] 
@@ -77,26 +162,15 @@ public class UpsServiceClient extends BaseServiceClient implements UpsService {
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<String> callGetProfileGivenName() throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
-    Map<String, String> pathParams = new HashMap<String, String>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = Collections.emptyMap();
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
     headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
 
-    String path = "/v2/accounts/~current/settings/Profile.givenName";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(String.class, 200, "Successfully retrieved the requested information."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.ups.Error.class, 204, "The query did not return any results."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.ups.Error.class, 401, "The authentication token is malformed or invalid."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.ups.Error.class, 403, "The authentication token does not have access to resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.ups.Error.class, 429, "The skill has been throttled due to an excessive number of requests."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.ups.Error.class, 0, "An unexpected error occurred."));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, String.class, false);
+    return this.executeRequest(GET_PROFILE_GIVEN_NAME, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -109,6 +183,23 @@ public class UpsServiceClient extends BaseServiceClient implements UpsService {
     return this.callGetProfileGivenName().getResponse();
   }
 
+  /**
+   * 
+   * Gets the given name (first name) of the customer associated with the current enablement. Requires customer consent for scopes: [alexa::profile:given_name:read] 
+   * @return String
+   */
+  public CompletableFuture<ApiResponse<String>> callGetProfileGivenNameAsync() {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = Collections.emptyMap();
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
+    headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
+
+    return this.executeRequestAsync(GET_PROFILE_GIVEN_NAME, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
+  }
+
   /**
    * 
    * Gets the mobile phone number of the customer associated with the current enablement. Requires customer consent for scopes: [alexa::profile:mobile_number:read] 
@@ -116,26 +207,15 @@ public class UpsServiceClient extends BaseServiceClient implements UpsService {
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.model.services.ups.PhoneNumber> callGetProfileMobileNumber() throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
-    Map<String, String> pathParams = new HashMap<String, String>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = Collections.emptyMap();
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
     headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
 
-    String path = "/v2/accounts/~current/settings/Profile.mobileNumber";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.ups.PhoneNumber.class, 200, "Successfully retrieved the requested information."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.ups.Error.class, 204, "The query did not return any results."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.ups.Error.class, 401, "The authentication token is malformed or invalid."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.ups.Error.class, 403, "The authentication token does not have access to resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.ups.Error.class, 429, "The skill has been throttled due to an excessive number of requests."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.ups.Error.class, 0, "An unexpected error occurred."));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.model.services.ups.PhoneNumber.class, false);
+    return this.executeRequest(GET_PROFILE_MOBILE_NUMBER, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -148,6 +228,23 @@ public class UpsServiceClient extends BaseServiceClient implements UpsService {
     return this.callGetProfileMobileNumber().getResponse();
   }
 
+  /**
+   * 
+   * Gets the mobile phone number of the customer associated with the current enablement. Requires customer consent for scopes: [alexa::profile:mobile_number:read] 
+   * @return com.amazon.ask.model.services.ups.PhoneNumber
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.model.services.ups.PhoneNumber>> callGetProfileMobileNumberAsync() {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = Collections.emptyMap();
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
+    headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
+
+    return this.executeRequestAsync(GET_PROFILE_MOBILE_NUMBER, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
+  }
+
   /**
    * 
    * Gets the full name of the customer associated with the current enablement. Requires customer consent for scopes: [alexa::profile:name:read] 
@@ -155,26 +252,15 @@ public class UpsServiceClient extends BaseServiceClient implements UpsService {
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<String> callGetProfileName() throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
-    Map<String, String> pathParams = new HashMap<String, String>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = Collections.emptyMap();
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
     headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
 
-    String path = "/v2/accounts/~current/settings/Profile.name";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(String.class, 200, "Successfully retrieved the requested information."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.ups.Error.class, 204, "The query did not return any results."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.ups.Error.class, 401, "The authentication token is malformed or invalid."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.ups.Error.class, 403, "The authentication token does not have access to resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.ups.Error.class, 429, "The skill has been throttled due to an excessive number of requests."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.ups.Error.class, 0, "An unexpected error occurred."));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, String.class, false);
+    return this.executeRequest(GET_PROFILE_NAME, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -187,6 +273,23 @@ public class UpsServiceClient extends BaseServiceClient implements UpsService {
     return this.callGetProfileName().getResponse();
   }
 
+  /**
+   * 
+   * Gets the full name of the customer associated with the current enablement. Requires customer consent for scopes: [alexa::profile:name:read] 
+   * @return String
+   */
+  public CompletableFuture<ApiResponse<String>> callGetProfileNameAsync() {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = Collections.emptyMap();
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
+    headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
+
+    return this.executeRequestAsync(GET_PROFILE_NAME, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
+  }
+
   /**
    * 
    * Gets the distance measurement unit of the device. Does not require explict customer consent. 
@@ -195,27 +298,16 @@ public class UpsServiceClient extends BaseServiceClient implements UpsService {
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.model.services.ups.DistanceUnits> callGetSystemDistanceUnits(String deviceId) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("deviceId", deviceId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
     headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
 
-    String path = "/v2/devices/{deviceId}/settings/System.distanceUnits";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.ups.DistanceUnits.class, 200, "Successfully get the setting"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.ups.Error.class, 204, "The query did not return any results."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.ups.Error.class, 401, "The authentication token is malformed or invalid."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.ups.Error.class, 403, "The authentication token does not have access to resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.ups.Error.class, 429, "The skill has been throttled due to an excessive number of requests."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.ups.Error.class, 0, "An unexpected error occurred."));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.model.services.ups.DistanceUnits.class, false);
+    return this.executeRequest(GET_SYSTEM_DISTANCE_UNITS, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -229,6 +321,25 @@ public class UpsServiceClient extends BaseServiceClient implements UpsService {
     return this.callGetSystemDistanceUnits(deviceId).getResponse();
   }
 
+  /**
+   * 
+   * Gets the distance measurement unit of the device. Does not require explict customer consent. 
+   * @param deviceId The device Id (required)
+   * @return com.amazon.ask.model.services.ups.DistanceUnits
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.model.services.ups.DistanceUnits>> callGetSystemDistanceUnitsAsync(String deviceId) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("deviceId", deviceId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
+    headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
+
+    return this.executeRequestAsync(GET_SYSTEM_DISTANCE_UNITS, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
+  }
+
   /**
    * 
    * Gets the temperature measurement units of the device. Does not require explict customer consent. 
@@ -237,27 +348,16 @@ public class UpsServiceClient extends BaseServiceClient implements UpsService {
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.model.services.ups.TemperatureUnit> callGetSystemTemperatureUnit(String deviceId) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("deviceId", deviceId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
     headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
 
-    String path = "/v2/devices/{deviceId}/settings/System.temperatureUnit";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.ups.TemperatureUnit.class, 200, "Successfully get the setting"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.ups.Error.class, 204, "The query did not return any results."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.ups.Error.class, 401, "The authentication token is malformed or invalid."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.ups.Error.class, 403, "The authentication token does not have access to resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.ups.Error.class, 429, "The skill has been throttled due to an excessive number of requests."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.ups.Error.class, 0, "An unexpected error occurred."));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.model.services.ups.TemperatureUnit.class, false);
+    return this.executeRequest(GET_SYSTEM_TEMPERATURE_UNIT, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -271,6 +371,25 @@ public class UpsServiceClient extends BaseServiceClient implements UpsService {
     return this.callGetSystemTemperatureUnit(deviceId).getResponse();
   }
 
+  /**
+   * 
+   * Gets the temperature measurement units of the device. Does not require explict customer consent. 
+   * @param deviceId The device Id (required)
+   * @return com.amazon.ask.model.services.ups.TemperatureUnit
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.model.services.ups.TemperatureUnit>> callGetSystemTemperatureUnitAsync(String deviceId) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("deviceId", deviceId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
+    headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
+
+    return this.executeRequestAsync(GET_SYSTEM_TEMPERATURE_UNIT, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
+  }
+
   /**
    * 
    * Gets the time zone of the device. Does not require explict customer consent. 
@@ -279,27 +398,16 @@ public class UpsServiceClient extends BaseServiceClient implements UpsService {
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<String> callGetSystemTimeZone(String deviceId) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("deviceId", deviceId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
     headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
 
-    String path = "/v2/devices/{deviceId}/settings/System.timeZone";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(String.class, 200, "Successfully get the setting"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.ups.Error.class, 204, "The query did not return any results."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.ups.Error.class, 401, "The authentication token is malformed or invalid."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.ups.Error.class, 403, "The authentication token does not have access to resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.ups.Error.class, 429, "The skill has been throttled due to an excessive number of requests."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.model.services.ups.Error.class, 0, "An unexpected error occurred."));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, String.class, false);
+    return this.executeRequest(GET_SYSTEM_TIME_ZONE, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -313,4 +421,23 @@ public class UpsServiceClient extends BaseServiceClient implements UpsService {
     return this.callGetSystemTimeZone(deviceId).getResponse();
   }
 
+  /**
+   * 
+   * Gets the time zone of the device. Does not require explict customer consent. 
+   * @param deviceId The device Id (required)
+   * @return String
+   */
+  public CompletableFuture<ApiResponse<String>> callGetSystemTimeZoneAsync(String deviceId) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("deviceId", deviceId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    String apiAuthorizationValue = "Bearer " +  this.authorizationValue;
+    headerParams.add(new Pair<>("Authorization", apiAuthorizationValue));
+
+    return this.executeRequestAsync(GET_SYSTEM_TIME_ZONE, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
+  }
+
 }
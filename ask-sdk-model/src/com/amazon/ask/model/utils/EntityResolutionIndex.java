@@ -0,0 +1,264 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+package com.amazon.ask.model.utils;
+
+import com.amazon.ask.model.Intent;
+import com.amazon.ask.model.IntentRequest;
+import com.amazon.ask.model.Slot;
+import com.amazon.ask.model.slu.entityresolution.Resolution;
+import com.amazon.ask.model.slu.entityresolution.StatusCode;
+import com.amazon.ask.model.slu.entityresolution.Value;
+import com.amazon.ask.model.slu.entityresolution.ValueWrapper;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+* Entity resolutions of the slots of an intent, indexed once so that handlers do not walk
+* <code>Slot.getResolutions().getResolutionsPerAuthority()</code> again for every lookup. For each slot, the index
+* holds the value resolved by the first authority whose status is ER_SUCCESS_MATCH, in the order of the payload, and
+* the status of every authority. Authorities are either static, for the values of the slot type defined in the
+* interaction model, or dynamic, for the entities set at runtime through <code>Dialog.UpdateDynamicEntities</code>.
+*
+* Lookups return values held by the index and do not allocate. Build the index once per request, for instance through
+* {@link LazyRequestEnvelope#getEntityResolutionIndex()}, which caches it.
+*/
+public final class EntityResolutionIndex {
+
+  /**
+  * Prefix of the authorities of dynamic entities.
+  */
+  public static final String DYNAMIC_AUTHORITY_PREFIX = "amzn1.er-authority.echo-sdk.dynamic.";
+
+  private static final EntityResolutionIndex EMPTY = new EntityResolutionIndex(Collections.emptyMap());
+
+  private final Map<String, SlotResolutions> slots;
+
+  private EntityResolutionIndex(Map<String, SlotResolutions> slots) {
+    this.slots = slots;
+  }
+
+  /**
+  * @return index without entity resolutions
+  */
+  public static EntityResolutionIndex empty() {
+    return EMPTY;
+  }
+
+  /**
+  * Indexes the entity resolutions of the intent of a request.
+  * @param request Intent request
+  * @return index, empty if the request has no intent
+  */
+  public static EntityResolutionIndex of(IntentRequest request) {
+    return request != null ? of(request.getIntent()) : EMPTY;
+  }
+
+  /**
+  * Indexes the entity resolutions of the slots of an intent.
+  * @param intent Intent
+  * @return index, empty if the intent has no slots
+  */
+  public static EntityResolutionIndex of(Intent intent) {
+    if (intent == null || intent.getSlots() == null || intent.getSlots().isEmpty()) {
+      return EMPTY;
+    }
+    Map<String, SlotResolutions> slots = new HashMap<>();
+    for (Map.Entry<String, Slot> slot : intent.getSlots().entrySet()) {
+      if (slot.getValue() != null && slot.getValue().getResolutions() != null) {
+        SlotResolutions resolutions = SlotResolutions.of(slot.getValue().getResolutions().getResolutionsPerAuthority());
+        if (resolutions != null) {
+          slots.put(slot.getKey(), resolutions);
+        }
+      }
+    }
+    return slots.isEmpty() ? EMPTY : new EntityResolutionIndex(slots);
+  }
+
+  /**
+  * Checks if an authority holds dynamic entities.
+  * @param authority Authority of a resolution
+  * @return true for the authorities of dynamic entities, false for those of slot types
+  */
+  public static boolean isDynamicAuthority(String authority) {
+    return authority != null && authority.startsWith(DYNAMIC_AUTHORITY_PREFIX);
+  }
+
+  /**
+  * @return names of the slots with entity resolutions
+  */
+  public Set<String> getSlotNames() {
+    return Collections.unmodifiableSet(slots.keySet());
+  }
+
+  /**
+  * Checks if a value of a slot was matched by an authority.
+  * @param slot Name of the slot
+  * @return true if an authority has the ER_SUCCESS_MATCH status
+  */
+  public boolean isResolved(String slot) {
+    return getResolvedValue(slot) != null;
+  }
+
+  /**
+  * Retrieves the value resolved for a slot.
+  * @param slot Name of the slot
+  * @return first value of the first authority matching the slot, or null if none matched
+  */
+  public Value getResolvedValue(String slot) {
+    SlotResolutions resolutions = slots.get(slot);
+    return resolutions != null ? resolutions.resolvedValue : null;
+  }
+
+  /**
+  * Retrieves the canonical id of the value resolved for a slot.
+  * @param slot Name of the slot
+  * @return id of the resolved value, or null if none matched
+  */
+  public String getResolvedId(String slot) {
+    Value value = getResolvedValue(slot);
+    return value != null ? value.getId() : null;
+  }
+
+  /**
+  * Retrieves the canonical name of the value resolved for a slot.
+  * @param slot Name of the slot
+  * @return name of the resolved value, or null if none matched
+  */
+  public String getResolvedName(String slot) {
+    Value value = getResolvedValue(slot);
+    return value != null ? value.getName() : null;
+  }
+
+  /**
+  * Retrieves the resolution the value of a slot was resolved by.
+  * @param slot Name of the slot
+  * @return resolution of the matching authority, or null if none matched
+  */
+  public Resolution getResolvedResolution(String slot) {
+    SlotResolutions resolutions = slots.get(slot);
+    return resolutions != null ? resolutions.resolvedBy : null;
+  }
+
+  /**
+  * Checks if the value of a slot was resolved by a dynamic entity.
+  * @param slot Name of the slot
+  * @return true if the matching authority holds dynamic entities
+  */
+  public boolean isResolvedByDynamicEntity(String slot) {
+    Resolution resolution = getResolvedResolution(slot);
+    return resolution != null && isDynamicAuthority(resolution.getAuthority());
+  }
+
+  /**
+  * Retrieves the status of an authority for a slot.
+  * @param slot Name of the slot
+  * @param authority Authority of the resolution
+  * @return status, or null if the authority did not resolve the slot
+  */
+  public StatusCode getStatus(String slot, String authority) {
+    SlotResolutions resolutions = slots.get(slot);
+    return resolutions != null ? resolutions.statusPerAuthority.get(authority) : null;
+  }
+
+  /**
+  * Retrieves the status of the static authority of a slot, which resolves values of the slot type.
+  * @param slot Name of the slot
+  * @return status, or null if no static authority resolved the slot
+  */
+  public StatusCode getStaticStatus(String slot) {
+    SlotResolutions resolutions = slots.get(slot);
+    return resolutions != null ? resolutions.staticStatus : null;
+  }
+
+  /**
+  * Retrieves the status of the dynamic authority of a slot, which resolves dynamic entities.
+  * @param slot Name of the slot
+  * @return status, or null if no dynamic authority resolved the slot
+  */
+  public StatusCode getDynamicStatus(String slot) {
+    SlotResolutions resolutions = slots.get(slot);
+    return resolutions != null ? resolutions.dynamicStatus : null;
+  }
+
+  /**
+  * Retrieves the status of every authority of a slot.
+  * @param slot Name of the slot
+  * @return statuses per authority, in the order of the payload, empty if the slot has no resolutions
+  */
+  public Map<String, StatusCode> getStatusPerAuthority(String slot) {
+    SlotResolutions resolutions = slots.get(slot);
+    return resolutions != null ? resolutions.statusPerAuthority : Collections.emptyMap();
+  }
+
+  /**
+  * Resolutions of a slot, indexed.
+  */
+  private static final class SlotResolutions {
+    private final Map<String, StatusCode> statusPerAuthority;
+    private Value resolvedValue;
+    private Resolution resolvedBy;
+    private StatusCode staticStatus;
+    private StatusCode dynamicStatus;
+
+    private SlotResolutions(Map<String, StatusCode> statusPerAuthority) {
+      this.statusPerAuthority = statusPerAuthority;
+    }
+
+    static SlotResolutions of(List<Resolution> resolutionsPerAuthority) {
+      if (resolutionsPerAuthority == null || resolutionsPerAuthority.isEmpty()) {
+        return null;
+      }
+      Map<String, StatusCode> statuses = new LinkedHashMap<>();
+      SlotResolutions result = new SlotResolutions(Collections.unmodifiableMap(statuses));
+      for (Resolution resolution : resolutionsPerAuthority) {
+        if (resolution == null) {
+          continue;
+        }
+        StatusCode status = resolution.getStatus() != null ? resolution.getStatus().getCode() : null;
+        if (resolution.getAuthority() != null) {
+          statuses.putIfAbsent(resolution.getAuthority(), status);
+        }
+        if (isDynamicAuthority(resolution.getAuthority())) {
+          result.dynamicStatus = result.dynamicStatus != null ? result.dynamicStatus : status;
+        } else {
+          result.staticStatus = result.staticStatus != null ? result.staticStatus : status;
+        }
+        if (result.resolvedValue == null && status == StatusCode.ER_SUCCESS_MATCH) {
+          Value value = firstValue(resolution.getValues());
+          if (value != null) {
+            result.resolvedValue = value;
+            result.resolvedBy = resolution;
+          }
+        }
+      }
+      return result;
+    }
+
+    private static Value firstValue(List<ValueWrapper> values) {
+      if (values != null) {
+        for (ValueWrapper value : values) {
+          if (value != null && value.getValue() != null) {
+            return value.getValue();
+          }
+        }
+      }
+      return null;
+    }
+  }
+}
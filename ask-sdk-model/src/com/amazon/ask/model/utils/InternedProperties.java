@@ -0,0 +1,74 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+package com.amazon.ask.model.utils;
+
+import com.amazon.ask.model.Application;
+import com.amazon.ask.model.Intent;
+import com.amazon.ask.model.Request;
+import com.amazon.ask.model.Slot;
+import com.amazon.ask.model.interfaces.system.SystemState;
+import com.amazon.ask.model.services.util.JacksonSerializer;
+import com.amazon.ask.model.slu.entityresolution.Resolution;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+* String properties of the request envelope whose values repeat from one request to the next, to be interned by a
+* {@link JacksonSerializer}: the locale of requests, the names of intents and slots, application ids, entity
+* resolution authorities and the API endpoint. Identifiers unique to a user, a device or a request are left out, as
+* they would only churn the intern table.
+*/
+public final class InternedProperties {
+
+  private static final Map<Class<?>, List<String>> DEFAULTS = createDefaults();
+
+  private InternedProperties() {
+  }
+
+  private static Map<Class<?>, List<String>> createDefaults() {
+    Map<Class<?>, List<String>> defaults = new LinkedHashMap<>();
+    defaults.put(Request.class, Collections.singletonList("locale"));
+    defaults.put(Intent.class, Collections.singletonList("name"));
+    defaults.put(Slot.class, Collections.singletonList("name"));
+    defaults.put(Application.class, Collections.singletonList("applicationId"));
+    defaults.put(Resolution.class, Collections.singletonList("authority"));
+    defaults.put(SystemState.class, Collections.singletonList("apiEndpoint"));
+    return Collections.unmodifiableMap(defaults);
+  }
+
+  /**
+  * @return properties interned by default, per declaring type
+  */
+  public static Map<Class<?>, List<String>> getDefaults() {
+    return DEFAULTS;
+  }
+
+  /**
+  * Registers the default interned properties on a serializer builder. Further properties can be registered on the
+  * builder, as well as the size of the intern table.
+  * @param builder Builder of the serializer
+  * @return the builder
+  */
+  public static JacksonSerializer.Builder withDefaults(JacksonSerializer.Builder builder) {
+    for (Map.Entry<Class<?>, List<String>> entry : DEFAULTS.entrySet()) {
+      for (String property : entry.getValue()) {
+        builder.withInternedProperty(entry.getKey(), property);
+      }
+    }
+    return builder;
+  }
+}
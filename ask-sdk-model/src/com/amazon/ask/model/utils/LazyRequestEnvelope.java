@@ -0,0 +1,359 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+package com.amazon.ask.model.utils;
+
+import com.amazon.ask.model.Context;
+import com.amazon.ask.model.IntentRequest;
+import com.amazon.ask.model.Request;
+import com.amazon.ask.model.RequestEnvelope;
+import com.amazon.ask.model.Session;
+import com.amazon.ask.model.services.Serializer;
+import com.amazon.ask.model.services.SerializerException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+* Request envelope parsed partially: the version and the request, which handlers route on, are deserialized up front,
+* while the session and the context are only located in the payload and deserialized the first time they are
+* accessed. Handlers that never look at the context, whose device states often make up most of the payload on
+* devices with screens, do not pay for building it.
+*
+* The context can also be accessed one state at a time through {@link #getContextState(String, Class)}, which only
+* deserializes the requested state. Subtrees are deserialized through the Serializer given when parsing, from the
+* original payload, which the envelope keeps a reference to. The session attributes can likewise be read one at a
+* time, or bound to a class, through {@link #getSessionAttributes()}. The type of the request is read during the same
+* pass, so that the request is deserialized directly as its concrete type through {@link RequestTypeRouter}.
+*/
+public final class LazyRequestEnvelope {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private final Serializer serializer;
+  private final String text;
+  private final byte[] bytes;
+  private final String version;
+  private final Request request;
+  private final Range session;
+  private final Range sessionAttributes;
+  private final Range context;
+  private final Map<String, Range> contextStates;
+  private final ConcurrentMap<String, Object> materializedStates = new ConcurrentHashMap<>();
+  private volatile Session materializedSession;
+  private volatile SessionAttributes materializedSessionAttributes;
+  private volatile Context materializedContext;
+  private volatile EntityResolutionIndex entityResolutionIndex;
+
+  private LazyRequestEnvelope(Serializer serializer, String text, byte[] bytes, Scan scan) {
+    this.serializer = serializer;
+    this.text = text;
+    this.bytes = bytes;
+    this.version = scan.version;
+    this.session = scan.session;
+    this.sessionAttributes = scan.sessionAttributes;
+    this.context = scan.context;
+    this.contextStates = scan.contextStates;
+    this.request = scan.request != null ? deserializeRequest(scan.request, scan.requestType) : null;
+  }
+
+  /**
+  * Parses the routing fields of a request envelope.
+  * @param payload JSON request envelope
+  * @param serializer Serializer deserializing the request, and the session and context when they are accessed
+  * @return Partially parsed envelope
+  * @throws SerializerException if the payload is not a valid request envelope
+  */
+  public static LazyRequestEnvelope parse(String payload, Serializer serializer) {
+    try (JsonParser parser = JSON_FACTORY.createParser(payload)) {
+      return new LazyRequestEnvelope(serializer, payload, null, Scan.of(parser, false));
+    } catch (IOException e) {
+      throw new SerializerException("Deserialization error", e);
+    }
+  }
+
+  /**
+  * Parses the routing fields of a UTF-8 encoded request envelope. The bytes must not be modified while the envelope
+  * is in use.
+  * @param payload Bytes holding the JSON request envelope
+  * @param offset Offset of the first byte of the envelope
+  * @param length Number of bytes of the envelope
+  * @param serializer Serializer deserializing the request, and the session and context when they are accessed
+  * @return Partially parsed envelope
+  * @throws SerializerException if the payload is not a valid request envelope
+  */
+  public static LazyRequestEnvelope parse(byte[] payload, int offset, int length, Serializer serializer) {
+    try (JsonParser parser = JSON_FACTORY.createParser(payload, offset, length)) {
+      return new LazyRequestEnvelope(serializer, null, payload, Scan.of(parser, true).shift(offset));
+    } catch (IOException e) {
+      throw new SerializerException("Deserialization error", e);
+    }
+  }
+
+  /**
+  * @return version of the envelope
+  */
+  public String getVersion() {
+    return version;
+  }
+
+  /**
+  * @return request, deserialized when the envelope was parsed
+  */
+  public Request getRequest() {
+    return request;
+  }
+
+  /**
+  * Retrieves the entity resolutions of the slots of the request, indexed on first access.
+  * @return index of the entity resolutions, empty if the request is not an IntentRequest
+  */
+  public EntityResolutionIndex getEntityResolutionIndex() {
+    EntityResolutionIndex result = entityResolutionIndex;
+    if (result == null) {
+      result = request instanceof IntentRequest
+          ? EntityResolutionIndex.of((IntentRequest) request) : EntityResolutionIndex.empty();
+      entityResolutionIndex = result;
+    }
+    return result;
+  }
+
+  /**
+  * @return session, deserialized on first access, or null if the envelope has none
+  */
+  public Session getSession() {
+    Session result = materializedSession;
+    if (result == null && session != null) {
+      result = deserialize(session, Session.class);
+      materializedSession = result;
+    }
+    return result;
+  }
+
+  /**
+  * Retrieves the attributes of the session, located on first access without deserializing the rest of the session
+  * nor the attributes themselves.
+  * @return session attributes, empty if the session has none, or null if the envelope has no session
+  */
+  public SessionAttributes getSessionAttributes() {
+    SessionAttributes result = materializedSessionAttributes;
+    if (result == null && session != null) {
+      result = sessionAttributes != null
+          ? SessionAttributes.parse(serializer, text, bytes, sessionAttributes.start, sessionAttributes.end)
+          : SessionAttributes.of(null, serializer);
+      materializedSessionAttributes = result;
+    }
+    return result;
+  }
+
+  /**
+  * @return context, deserialized on first access, or null if the envelope has none
+  */
+  public Context getContext() {
+    Context result = materializedContext;
+    if (result == null && context != null) {
+      result = deserialize(context, Context.class);
+      materializedContext = result;
+    }
+    return result;
+  }
+
+  /**
+  * Retrieves a single state of the context, deserializing only that state on its first access.
+  * @param name Name of the state in the payload, such as <code>System</code> or <code>Viewport</code>
+  * @param type Type of the state, such as SystemState or ViewportState
+  * @param <T> Type of the state
+  * @return state, or null if the context has no such state
+  */
+  public <T> T getContextState(String name, Class<T> type) {
+    Object state = materializedStates.get(name);
+    if (state == null) {
+      Range range = contextStates.get(name);
+      if (range == null) {
+        return null;
+      }
+      state = deserialize(range, type);
+      materializedStates.putIfAbsent(name, state);
+    }
+    return type.cast(state);
+  }
+
+  /**
+  * Checks if the context has a state.
+  * @param name Name of the state in the payload
+  * @return true if the context has the state
+  */
+  public boolean hasContextState(String name) {
+    return contextStates.containsKey(name);
+  }
+
+  /**
+  * Deserializes the remaining parts of the envelope.
+  * @return complete request envelope
+  */
+  public RequestEnvelope toRequestEnvelope() {
+    return RequestEnvelope.builder()
+        .withVersion(version)
+        .withSession(getSession())
+        .withContext(getContext())
+        .withRequest(request)
+        .build();
+  }
+
+  private Request deserializeRequest(Range range, String type) {
+    Class<? extends Request> requestClass = RequestTypeRouter.routeOrBase(type);
+    if (bytes != null) {
+      return RequestTypeRouter.deserialize(serializer, bytes, range.start, range.end - range.start, requestClass);
+    }
+    return RequestTypeRouter.deserialize(serializer, text.substring(range.start, range.end), requestClass);
+  }
+
+  private <T> T deserialize(Range range, Class<T> type) {
+    if (bytes != null) {
+      return serializer.deserialize(bytes, range.start, range.end - range.start, type);
+    }
+    return serializer.deserialize(text.substring(range.start, range.end), type);
+  }
+
+  /**
+  * Bounds of a value in the payload.
+  */
+  private static final class Range {
+    private final int start;
+    private final int end;
+
+    private Range(int start, int end) {
+      this.start = start;
+      this.end = end;
+    }
+
+    private Range shift(int offset) {
+      return new Range(start + offset, end + offset);
+    }
+  }
+
+  /**
+  * Result of the single pass over the top level fields of the envelope and the states of its context.
+  */
+  private static final class Scan {
+    private String version;
+    private Range request;
+    private String requestType;
+    private Range session;
+    private Range sessionAttributes;
+    private Range context;
+    private Map<String, Range> contextStates = new HashMap<>();
+
+    static Scan of(JsonParser parser, boolean bytes) throws IOException {
+      Scan scan = new Scan();
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IOException("Request envelope must be a JSON object");
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.getCurrentName();
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.VALUE_NULL) {
+          continue;
+        }
+        switch (field) {
+          case "version":
+            scan.version = parser.getValueAsString();
+            break;
+          case "request":
+            scan.request = scanRequest(parser, bytes, scan);
+            break;
+          case "session":
+            scan.session = scanSession(parser, bytes, scan);
+            break;
+          case "context":
+            scan.context = scanContext(parser, bytes, scan.contextStates);
+            break;
+          default:
+            parser.skipChildren();
+        }
+      }
+      return scan;
+    }
+
+    private static Range scanRequest(JsonParser parser, boolean bytes, Scan scan) throws IOException {
+      if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+        return skip(parser, bytes);
+      }
+      int start = offset(parser, bytes, true);
+      scan.requestType = RequestTypeRouter.scanType(parser);
+      return new Range(start, offset(parser, bytes, false));
+    }
+
+    private static Range scanSession(JsonParser parser, boolean bytes, Scan scan) throws IOException {
+      if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+        return skip(parser, bytes);
+      }
+      int start = offset(parser, bytes, true);
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        boolean attributes = "attributes".equals(parser.getCurrentName());
+        if (parser.nextToken() == JsonToken.START_OBJECT && attributes) {
+          scan.sessionAttributes = skip(parser, bytes);
+        } else {
+          parser.skipChildren();
+        }
+      }
+      return new Range(start, offset(parser, bytes, false));
+    }
+
+    private static Range scanContext(JsonParser parser, boolean bytes, Map<String, Range> states) throws IOException {
+      if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+        return skip(parser, bytes);
+      }
+      int start = offset(parser, bytes, true);
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String name = parser.getCurrentName();
+        if (parser.nextToken() == JsonToken.VALUE_NULL) {
+          continue;
+        }
+        states.put(name, skip(parser, bytes));
+      }
+      return new Range(start, offset(parser, bytes, false));
+    }
+
+    private static Range skip(JsonParser parser, boolean bytes) throws IOException {
+      int start = offset(parser, bytes, true);
+      parser.skipChildren();
+      parser.finishToken();
+      return new Range(start, offset(parser, bytes, false));
+    }
+
+    private static int offset(JsonParser parser, boolean bytes, boolean tokenStart) {
+      if (tokenStart) {
+        return (int) (bytes ? parser.getTokenLocation().getByteOffset() : parser.getTokenLocation().getCharOffset());
+      }
+      return (int) (bytes ? parser.getCurrentLocation().getByteOffset() : parser.getCurrentLocation().getCharOffset());
+    }
+
+    private Scan shift(int offset) {
+      if (offset != 0) {
+        request = request != null ? request.shift(offset) : null;
+        session = session != null ? session.shift(offset) : null;
+        sessionAttributes = sessionAttributes != null ? sessionAttributes.shift(offset) : null;
+        context = context != null ? context.shift(offset) : null;
+        contextStates.replaceAll((name, range) -> range.shift(offset));
+      }
+      return this;
+    }
+  }
+}
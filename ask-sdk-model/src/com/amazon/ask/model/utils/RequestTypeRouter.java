@@ -0,0 +1,185 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+package com.amazon.ask.model.utils;
+
+import com.amazon.ask.model.Request;
+import com.amazon.ask.model.services.Serializer;
+import com.amazon.ask.model.services.SerializerException;
+import com.amazon.ask.model.services.util.JacksonSerializer;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+* Routes requests to their concrete type from their <code>type</code> discriminator, looked up in a table built once
+* from {@link SubTypesManifest}. The discriminator is found by a streaming scan that skips the other properties
+* without building them, and the request is then deserialized directly as its concrete type, instead of as a
+* {@link Request} whose subtype resolution has to buffer every property preceding the discriminator. With a
+* {@link JacksonSerializer}, the routed request is read through
+* {@link JacksonSerializer#deserializeResolvedSubtype(String, Class)}, which does not check the discriminator again.
+*/
+public final class RequestTypeRouter {
+
+  private static final String TYPE_PROPERTY = "type";
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+  private static final Map<String, Class<? extends Request>> REQUEST_TYPES = loadRequestTypes();
+
+  private RequestTypeRouter() {
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, Class<? extends Request>> loadRequestTypes() {
+    Map<String, Class<? extends Request>> requestTypes = new HashMap<>();
+    for (Map.Entry<String, Class> subType : SubTypesManifest.getSubType(Request.class).entrySet()) {
+      requestTypes.put(subType.getKey(), (Class<? extends Request>) subType.getValue());
+    }
+    return Collections.unmodifiableMap(requestTypes);
+  }
+
+  /**
+  * Retrieves the concrete type of a request.
+  * @param type Discriminator of the request
+  * @return Concrete type, or null if the discriminator is unknown
+  */
+  public static Class<? extends Request> getRequestClass(String type) {
+    return type != null ? REQUEST_TYPES.get(type) : null;
+  }
+
+  /**
+  * Reads the discriminator of a JSON request without deserializing it.
+  * @param payload JSON request
+  * @return Discriminator, or null if the request has none
+  * @throws SerializerException if the payload is not a JSON object
+  */
+  public static String peekType(String payload) {
+    try (JsonParser parser = JSON_FACTORY.createParser(payload)) {
+      return peekType(parser);
+    } catch (IOException e) {
+      throw new SerializerException("Deserialization error", e);
+    }
+  }
+
+  /**
+  * Reads the discriminator of a UTF-8 encoded JSON request without deserializing it.
+  * @param payload Bytes holding the JSON request
+  * @param offset Offset of the first byte of the request
+  * @param length Number of bytes of the request
+  * @return Discriminator, or null if the request has none
+  * @throws SerializerException if the payload is not a JSON object
+  */
+  public static String peekType(byte[] payload, int offset, int length) {
+    try (JsonParser parser = JSON_FACTORY.createParser(payload, offset, length)) {
+      return peekType(parser);
+    } catch (IOException e) {
+      throw new SerializerException("Deserialization error", e);
+    }
+  }
+
+  /**
+  * Deserializes a JSON request as its concrete type, or as a Request if its discriminator is unknown.
+  * @param payload JSON request
+  * @param serializer Serializer deserializing the request
+  * @return Deserialized request
+  */
+  public static Request deserialize(String payload, Serializer serializer) {
+    return deserialize(serializer, payload, routeOrBase(peekType(payload)));
+  }
+
+  /**
+  * Deserializes a UTF-8 encoded JSON request as its concrete type, or as a Request if its discriminator is unknown.
+  * @param payload Bytes holding the JSON request
+  * @param offset Offset of the first byte of the request
+  * @param length Number of bytes of the request
+  * @param serializer Serializer deserializing the request
+  * @return Deserialized request
+  */
+  public static Request deserialize(byte[] payload, int offset, int length, Serializer serializer) {
+    return deserialize(serializer, payload, offset, length, routeOrBase(peekType(payload, offset, length)));
+  }
+
+  /**
+  * Deserializes a JSON request as the type routed from its discriminator.
+  * @param serializer Serializer deserializing the request
+  * @param payload JSON request
+  * @param type Type routed from the discriminator of the request
+  * @param <T> Type of the request
+  * @return Deserialized request
+  */
+  static <T> T deserialize(Serializer serializer, String payload, Class<T> type) {
+    if (serializer instanceof JacksonSerializer) {
+      return ((JacksonSerializer) serializer).deserializeResolvedSubtype(payload, type);
+    }
+    return serializer.deserialize(payload, type);
+  }
+
+  /**
+  * Deserializes a UTF-8 encoded JSON request as the type routed from its discriminator.
+  * @param serializer Serializer deserializing the request
+  * @param payload Bytes holding the JSON request
+  * @param offset Offset of the first byte of the request
+  * @param length Number of bytes of the request
+  * @param type Type routed from the discriminator of the request
+  * @param <T> Type of the request
+  * @return Deserialized request
+  */
+  static <T> T deserialize(Serializer serializer, byte[] payload, int offset, int length, Class<T> type) {
+    if (serializer instanceof JacksonSerializer) {
+      return ((JacksonSerializer) serializer).deserializeResolvedSubtype(payload, offset, length, type);
+    }
+    return serializer.deserialize(payload, offset, length, type);
+  }
+
+  static Class<? extends Request> routeOrBase(String type) {
+    Class<? extends Request> requestClass = getRequestClass(type);
+    return requestClass != null ? requestClass : Request.class;
+  }
+
+  /**
+  * Reads the properties of the object the parser is positioned on up to its end, skipping their values.
+  * @param parser Parser positioned on the start of the object
+  * @return Discriminator of the object, or null if it has none
+  * @throws IOException if the object cannot be read
+  */
+  static String scanType(JsonParser parser) throws IOException {
+    String type = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      JsonToken token = parser.nextToken();
+      if (type == null && token == JsonToken.VALUE_STRING && TYPE_PROPERTY.equals(parser.getCurrentName())) {
+        type = parser.getText();
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return type;
+  }
+
+  private static String peekType(JsonParser parser) throws IOException {
+    if (parser.nextToken() != JsonToken.START_OBJECT) {
+      throw new IOException("Request must be a JSON object");
+    }
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      JsonToken token = parser.nextToken();
+      if (token == JsonToken.VALUE_STRING && TYPE_PROPERTY.equals(parser.getCurrentName())) {
+        return parser.getText();
+      }
+      parser.skipChildren();
+    }
+    return null;
+  }
+}
@@ -0,0 +1,57 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+package com.amazon.ask.model.utils;
+
+import com.amazon.ask.model.RequestEnvelope;
+import com.amazon.ask.model.ResponseEnvelope;
+import com.amazon.ask.model.services.Serializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+* Prepares a Serializer for the request and response envelopes and every polymorphic model type, so that the
+* first request served after a deployment or a cold start does not pay for introspecting them.
+*/
+public final class SerializerWarmUp {
+
+  private SerializerWarmUp() {
+  }
+
+  /**
+  * @return RequestEnvelope, ResponseEnvelope and every base type and subtype listed in {@link SubTypesManifest}
+  */
+  public static List<Class<?>> getModelTypes() {
+    List<Class<?>> types = new ArrayList<>();
+    types.add(RequestEnvelope.class);
+    types.add(ResponseEnvelope.class);
+    for (Class baseType : SubTypesManifest.getBaseTypes()) {
+      types.add(baseType);
+      Map<String, Class> subTypes = SubTypesManifest.getSubType(baseType);
+      for (Class subType : subTypes.values()) {
+        types.add(subType);
+      }
+    }
+    return types;
+  }
+
+  /**
+  * Prepares the serializer for all the model types returned by {@link #getModelTypes()}.
+  * @param serializer Serializer to prepare
+  */
+  public static void warmUp(Serializer serializer) {
+    serializer.warmUp(getModelTypes());
+  }
+}
@@ -0,0 +1,320 @@
+/*
+* Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+* except in compliance with the License. A copy of the License is located at
+*
+* http://aws.amazon.com/apache2.0/
+*
+* or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+* the specific language governing permissions and limitations under the License.
+*/
+
+package com.amazon.ask.model.utils;
+
+import com.amazon.ask.model.ResponseEnvelope;
+import com.amazon.ask.model.Session;
+import com.amazon.ask.model.services.Serializer;
+import com.amazon.ask.model.services.SerializerException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.util.RawValue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+* Typed access to the attributes of a {@link Session}, kept as unparsed JSON until they are accessed. Parsing only
+* locates each attribute in the payload; an attribute is deserialized the first time it is read with
+* {@link #get(String, Class)}, and all of them can be bound to a single class with {@link #bind(Class)} in one
+* streaming pass, without building the nested maps and lists of {@link Session#getAttributes()}.
+*
+* The attributes are carried over to the next turn with {@link #toResponseAttributes()}, to be set as the
+* {@link ResponseEnvelope} session attributes: attributes that were never read nor replaced are written back as the
+* JSON they were received as, so turns that do not touch them neither decode nor re-encode them. Such attributes are
+* copied as raw JSON, which only the JSON serializers support. Attributes that are null, or empty strings, arrays
+* or objects, are left out, as they are when the deserialized attributes of the session are written by a JSON
+* serializer, which only writes non empty values.
+*
+* Instances are meant to be used by the handler of a single request and are not thread safe.
+*/
+public final class SessionAttributes {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private final Serializer serializer;
+  private final String text;
+  private final byte[] bytes;
+  private final int start;
+  private final int end;
+  private final Map<String, Object> attributes;
+  private boolean modified;
+
+  private SessionAttributes(Serializer serializer, String text, byte[] bytes, int start, int end,
+      Map<String, Object> attributes) {
+    this.serializer = serializer;
+    this.text = text;
+    this.bytes = bytes;
+    this.start = start;
+    this.end = end;
+    this.attributes = attributes;
+  }
+
+  /**
+  * Locates the attributes of a JSON object without deserializing them.
+  * @param payload JSON object holding the attributes
+  * @param serializer Serializer deserializing the attributes when they are accessed
+  * @return Session attributes
+  * @throws SerializerException if the payload is not a JSON object
+  */
+  public static SessionAttributes parse(String payload, Serializer serializer) {
+    return parse(serializer, payload, null, 0, payload.length());
+  }
+
+  /**
+  * Locates the attributes of a UTF-8 encoded JSON object without deserializing them. The bytes must not be modified
+  * while the attributes are in use.
+  * @param payload Bytes holding the JSON object
+  * @param offset Offset of the first byte of the object
+  * @param length Number of bytes of the object
+  * @param serializer Serializer deserializing the attributes when they are accessed
+  * @return Session attributes
+  * @throws SerializerException if the payload is not a JSON object
+  */
+  public static SessionAttributes parse(byte[] payload, int offset, int length, Serializer serializer) {
+    return parse(serializer, null, payload, offset, offset + length);
+  }
+
+  /**
+  * Wraps attributes that were already deserialized, such as those of {@link Session#getAttributes()}. Reading them
+  * as another type than the one they were deserialized as goes through the serializer.
+  * @param attributes Deserialized attributes
+  * @param serializer Serializer converting the attributes
+  * @return Session attributes
+  */
+  public static SessionAttributes of(Map<String, Object> attributes, Serializer serializer) {
+    Map<String, Object> values = new LinkedHashMap<>();
+    if (attributes != null) {
+      values.putAll(attributes);
+    }
+    SessionAttributes sessionAttributes = new SessionAttributes(serializer, null, null, 0, 0, values);
+    sessionAttributes.modified = true;
+    return sessionAttributes;
+  }
+
+  static SessionAttributes parse(Serializer serializer, String text, byte[] bytes, int start, int end) {
+    try (JsonParser parser = text != null
+        ? JSON_FACTORY.createParser(text.substring(start, end))
+        : JSON_FACTORY.createParser(bytes, start, end - start)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IOException("Session attributes must be a JSON object");
+      }
+      Map<String, Object> attributes = new LinkedHashMap<>();
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String name = parser.getCurrentName();
+        JsonToken token = parser.nextToken();
+        int valueStart = start + offset(parser, text == null, true);
+        parser.skipChildren();
+        parser.finishToken();
+        int valueEnd = start + offset(parser, text == null, false);
+        attributes.put(name, new Unparsed(valueStart, valueEnd, isEmpty(token, text, bytes, valueStart, valueEnd)));
+      }
+      return new SessionAttributes(serializer, text, bytes, start, end, attributes);
+    } catch (IOException e) {
+      throw new SerializerException("Deserialization error", e);
+    }
+  }
+
+  /**
+  * @return names of the attributes
+  */
+  public Set<String> getNames() {
+    return Collections.unmodifiableSet(attributes.keySet());
+  }
+
+  /**
+  * Checks if an attribute is set, without deserializing it.
+  * @param name Name of the attribute
+  * @return true if the attribute is set
+  */
+  public boolean contains(String name) {
+    return attributes.containsKey(name);
+  }
+
+  /**
+  * Retrieves an attribute, deserializing it on its first access. The returned value is the one written back by
+  * {@link #toResponseAttributes()}, so changes made to it are carried over to the next turn.
+  * @param name Name of the attribute
+  * @param type Type of the attribute
+  * @param <T> Type of the attribute
+  * @return attribute, or null if it is not set
+  */
+  public <T> T get(String name, Class<T> type) {
+    Object value = attributes.get(name);
+    if (value == null || type.isInstance(value)) {
+      return type.cast(value);
+    }
+    T result = value instanceof Unparsed
+        ? deserialize((Unparsed) value, type) : serializer.deserialize(serializer.serialize(value), type);
+    attributes.put(name, result);
+    modified = true;
+    return result;
+  }
+
+  /**
+  * Retrieves the JSON of an attribute, without deserializing it if it was not accessed yet.
+  * @param name Name of the attribute
+  * @return JSON of the attribute, or null if it is not set
+  */
+  public String getJson(String name) {
+    Object value = attributes.get(name);
+    if (value instanceof Unparsed) {
+      return json((Unparsed) value);
+    }
+    return value != null ? serializer.serialize(value) : null;
+  }
+
+  /**
+  * Binds all the attributes to a class whose properties are the attributes. When no attribute was read nor replaced,
+  * the attributes are read in a single streaming pass over the received JSON. The bound value is a copy: changes made
+  * to it are carried over to the next turn only once set back with {@link #putAll(Object)}.
+  * @param type Type of the attributes
+  * @param <T> Type of the attributes
+  * @return bound attributes
+  */
+  public <T> T bind(Class<T> type) {
+    if (!modified) {
+      return text != null
+          ? serializer.deserialize(text.substring(start, end), type)
+          : serializer.deserialize(bytes, start, end - start, type);
+    }
+    return serializer.deserialize(serializer.serialize(toResponseAttributes()), type);
+  }
+
+  /**
+  * Sets an attribute.
+  * @param name Name of the attribute
+  * @param value Value of the attribute
+  * @return this instance
+  */
+  public SessionAttributes put(String name, Object value) {
+    attributes.put(name, value);
+    modified = true;
+    return this;
+  }
+
+  /**
+  * Replaces the attributes with the properties of a value, such as one returned by {@link #bind(Class)}.
+  * @param value Value whose properties are the attributes
+  * @return this instance
+  */
+  public SessionAttributes putAll(Object value) {
+    SessionAttributes bound = parse(serializer.serialize(value), serializer);
+    attributes.clear();
+    for (Map.Entry<String, Object> attribute : bound.attributes.entrySet()) {
+      Unparsed boundValue = (Unparsed) attribute.getValue();
+      attributes.put(attribute.getKey(), boundValue.empty ? null : new RawValue(bound.json(boundValue)));
+    }
+    modified = true;
+    return this;
+  }
+
+  /**
+  * Removes an attribute.
+  * @param name Name of the attribute
+  * @return this instance
+  */
+  public SessionAttributes remove(String name) {
+    if (attributes.remove(name) != null) {
+      modified = true;
+    }
+    return this;
+  }
+
+  /**
+  * Builds the session attributes of a {@link ResponseEnvelope}. Attributes that were not accessed are set as their
+  * received JSON, the others as their current values. Null attributes, and attributes received as empty JSON values,
+  * are left out.
+  * @return session attributes to carry over to the next turn
+  */
+  public Map<String, Object> toResponseAttributes() {
+    Map<String, Object> result = new LinkedHashMap<>();
+    for (Map.Entry<String, Object> attribute : attributes.entrySet()) {
+      Object value = attribute.getValue();
+      if (value instanceof Unparsed) {
+        Unparsed unparsed = (Unparsed) value;
+        if (!unparsed.empty) {
+          result.put(attribute.getKey(), new RawValue(json(unparsed)));
+        }
+      } else if (value != null) {
+        result.put(attribute.getKey(), value);
+      }
+    }
+    return result;
+  }
+
+  private <T> T deserialize(Unparsed value, Class<T> type) {
+    if (bytes != null) {
+      return serializer.deserialize(bytes, value.start, value.end - value.start, type);
+    }
+    return serializer.deserialize(text.substring(value.start, value.end), type);
+  }
+
+  private String json(Unparsed value) {
+    if (bytes != null) {
+      return new String(bytes, value.start, value.end - value.start, StandardCharsets.UTF_8);
+    }
+    return text.substring(value.start, value.end);
+  }
+
+  /**
+  * Checks if a value is null, or an empty string, array or object, which the serializers do not write.
+  */
+  private static boolean isEmpty(JsonToken token, String text, byte[] bytes, int start, int end) {
+    switch (token) {
+      case VALUE_NULL:
+        return true;
+      case VALUE_STRING:
+        return end - start == 2;
+      case START_ARRAY:
+      case START_OBJECT:
+        for (int i = start + 1; i < end - 1; i++) {
+          char c = text != null ? text.charAt(i) : (char) bytes[i];
+          if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+            return false;
+          }
+        }
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  private static int offset(JsonParser parser, boolean bytes, boolean tokenStart) {
+    if (tokenStart) {
+      return (int) (bytes ? parser.getTokenLocation().getByteOffset() : parser.getTokenLocation().getCharOffset());
+    }
+    return (int) (bytes ? parser.getCurrentLocation().getByteOffset() : parser.getCurrentLocation().getCharOffset());
+  }
+
+  /**
+  * Bounds of an attribute that was not deserialized yet.
+  */
+  private static final class Unparsed {
+    private final int start;
+    private final int end;
+    private final boolean empty;
+
+    private Unparsed(int start, int end, boolean empty) {
+      this.start = start;
+      this.end = end;
+      this.empty = empty;
+    }
+  }
+}
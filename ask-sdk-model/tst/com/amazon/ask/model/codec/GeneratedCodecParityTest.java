@@ -0,0 +1,180 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.model.codec;
+
+import com.amazon.ask.model.Intent;
+import com.amazon.ask.model.IntentConfirmationStatus;
+import com.amazon.ask.model.RequestEnvelope;
+import com.amazon.ask.model.Response;
+import com.amazon.ask.model.ResponseEnvelope;
+import com.amazon.ask.model.Slot;
+import com.amazon.ask.model.SlotConfirmationStatus;
+import com.amazon.ask.model.dialog.ElicitSlotDirective;
+import com.amazon.ask.model.interfaces.alexa.presentation.apl.RenderDocumentDirective;
+import com.amazon.ask.model.interfaces.audioplayer.AudioItem;
+import com.amazon.ask.model.interfaces.audioplayer.PlayBehavior;
+import com.amazon.ask.model.interfaces.audioplayer.PlayDirective;
+import com.amazon.ask.model.interfaces.audioplayer.Stream;
+import com.amazon.ask.model.ui.Reprompt;
+import com.amazon.ask.model.ui.SimpleCard;
+import com.amazon.ask.model.ui.SsmlOutputSpeech;
+import com.amazon.ask.model.services.util.GeneratedCodecSerializer;
+import com.amazon.ask.model.services.util.JacksonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class GeneratedCodecParityTest {
+
+    private static final String INTENT_REQUEST = "{\"version\":\"1.0\","
+            + "\"session\":{\"new\":false,\"sessionId\":\"amzn1.echo-api.session.1\","
+            + "\"application\":{\"applicationId\":\"amzn1.ask.skill.1\"},"
+            + "\"attributes\":{\"counter\":3,\"ratio\":0.5,\"cart\":{\"items\":[\"pizza\",\"soda\"]},\"done\":false},"
+            + "\"user\":{\"userId\":\"amzn1.ask.account.1\",\"accessToken\":\"Atza|token\"}},"
+            + "\"context\":{\"System\":{\"application\":{\"applicationId\":\"amzn1.ask.skill.1\"},"
+            + "\"user\":{\"userId\":\"amzn1.ask.account.1\"},"
+            + "\"device\":{\"deviceId\":\"amzn1.ask.device.1\",\"supportedInterfaces\":{\"AudioPlayer\":{},"
+            + "\"Display\":{\"templateVersion\":\"1.0\",\"markupVersion\":\"1.0\"}}},"
+            + "\"apiEndpoint\":\"https://api.amazonalexa.com\",\"apiAccessToken\":\"eyJ0eXAi\"},"
+            + "\"AudioPlayer\":{\"playerActivity\":\"IDLE\",\"offsetInMilliseconds\":1200},"
+            + "\"Viewport\":{\"experiences\":[{\"arcMinuteWidth\":246,\"arcMinuteHeight\":144,\"canRotate\":false,"
+            + "\"canResize\":false}],\"shape\":\"RECTANGLE\",\"pixelWidth\":1024,\"pixelHeight\":600,\"dpi\":160,"
+            + "\"currentPixelWidth\":1024,\"currentPixelHeight\":600,\"touch\":[\"SINGLE\"]}},"
+            + "\"request\":{\"type\":\"IntentRequest\",\"requestId\":\"amzn1.echo-api.request.1\","
+            + "\"timestamp\":\"2019-03-01T19:46:32Z\",\"locale\":\"en-US\",\"dialogState\":\"IN_PROGRESS\","
+            + "\"intent\":{\"name\":\"OrderIntent\",\"confirmationStatus\":\"NONE\",\"slots\":{"
+            + "\"size\":{\"name\":\"size\",\"value\":\"große\",\"confirmationStatus\":\"NONE\",\"resolutions\":{"
+            + "\"resolutionsPerAuthority\":[{\"authority\":\"amzn1.er-authority.echo-sdk.amzn1.ask.skill.1.Size\","
+            + "\"status\":{\"code\":\"ER_SUCCESS_MATCH\"},\"values\":[{\"value\":{\"name\":\"large\",\"id\":\"LARGE\"}}]}]}},"
+            + "\"topping\":{\"name\":\"topping\",\"value\":\"pepperoni\",\"confirmationStatus\":\"NONE\"}}}}}";
+
+    private static final String LAUNCH_REQUEST = "{\"version\":\"1.0\","
+            + "\"context\":{\"System\":{\"application\":{\"applicationId\":\"amzn1.ask.skill.1\"},"
+            + "\"user\":{\"userId\":\"amzn1.ask.account.1\"},\"device\":{\"deviceId\":\"amzn1.ask.device.1\","
+            + "\"supportedInterfaces\":{}},\"apiEndpoint\":\"https://api.amazonalexa.com\"}},"
+            + "\"request\":{\"requestId\":\"amzn1.echo-api.request.2\",\"timestamp\":\"2019-03-01T21:46:32+02:00\","
+            + "\"locale\":\"de-DE\",\"type\":\"LaunchRequest\"}}";
+
+    private static final String SESSION_ENDED_REQUEST = "{\"version\":\"1.0\","
+            + "\"session\":{\"new\":false,\"sessionId\":\"amzn1.echo-api.session.1\","
+            + "\"application\":{\"applicationId\":\"amzn1.ask.skill.1\"},\"user\":{\"userId\":\"amzn1.ask.account.1\"}},"
+            + "\"request\":{\"type\":\"SessionEndedRequest\",\"requestId\":\"amzn1.echo-api.request.3\","
+            + "\"timestamp\":\"2019-03-01T19:46:32Z\",\"locale\":\"en-US\",\"reason\":\"ERROR\","
+            + "\"error\":{\"type\":\"INVALID_RESPONSE\",\"message\":\"Invalid directive\"}}}";
+
+    private static final String APL_USER_EVENT = "{\"version\":\"1.0\","
+            + "\"request\":{\"type\":\"Alexa.Presentation.APL.UserEvent\",\"requestId\":\"amzn1.echo-api.request.4\","
+            + "\"timestamp\":\"2019-03-01T19:46:32Z\",\"locale\":\"en-US\",\"token\":\"launch\","
+            + "\"arguments\":[\"select\",2,{\"item\":\"soda\"}],"
+            + "\"source\":{\"type\":\"TouchWrapper\",\"handler\":\"Press\",\"id\":\"sodaButton\"}}}";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final JacksonSerializer jacksonSerializer = new JacksonSerializer();
+    private final GeneratedCodecSerializer codecSerializer = new GeneratedCodecSerializer();
+
+    @Test
+    public void request_envelopes_are_read_and_written_alike() throws IOException {
+        assertTrue(codecSerializer.hasCodec(RequestEnvelope.class));
+        for (String envelope : Arrays.asList(INTENT_REQUEST, LAUNCH_REQUEST, SESSION_ENDED_REQUEST, APL_USER_EVENT)) {
+            RequestEnvelope expected = jacksonSerializer.deserialize(envelope, RequestEnvelope.class);
+            RequestEnvelope actual = codecSerializer.deserialize(envelope, RequestEnvelope.class);
+            byte[] bytes = envelope.getBytes(StandardCharsets.UTF_8);
+
+            assertEquals(expected, actual);
+            assertEquals(expected, codecSerializer.deserialize(bytes, 0, bytes.length, RequestEnvelope.class));
+            assertSameJson(jacksonSerializer.serialize(expected), codecSerializer.serialize(actual));
+            assertEquals(expected, jacksonSerializer.deserialize(codecSerializer.serialize(actual), RequestEnvelope.class));
+        }
+    }
+
+    @Test
+    public void response_envelopes_with_directives_are_written_and_read_alike() throws IOException {
+        ResponseEnvelope envelope = getResponseEnvelope();
+        assertTrue(codecSerializer.hasCodec(ResponseEnvelope.class));
+
+        String expected = jacksonSerializer.serialize(envelope);
+        String actual = codecSerializer.serialize(envelope);
+
+        assertSameJson(expected, actual);
+        assertSameJson(expected, new String(codecSerializer.serializeToBytes(envelope), StandardCharsets.UTF_8));
+        assertEquals(jacksonSerializer.deserialize(expected, ResponseEnvelope.class),
+                codecSerializer.deserialize(actual, ResponseEnvelope.class));
+    }
+
+    private void assertSameJson(String expected, String actual) throws IOException {
+        assertEquals(mapper.readTree(expected), mapper.readTree(actual));
+    }
+
+    private static ResponseEnvelope getResponseEnvelope() {
+        Map<String, Slot> slots = new LinkedHashMap<>();
+        slots.put("size", Slot.builder().withName("size").withConfirmationStatus(SlotConfirmationStatus.NONE).build());
+        slots.put("topping", Slot.builder().withName("topping").withValue("pepperoni")
+                .withConfirmationStatus(SlotConfirmationStatus.CONFIRMED).build());
+
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("type", "APL");
+        document.put("version", "1.1");
+        document.put("mainTemplate", Collections.singletonMap("items",
+                Collections.singletonList(Collections.singletonMap("type", "Text"))));
+        Map<String, Object> sessionAttributes = new LinkedHashMap<>();
+        sessionAttributes.put("counter", 4);
+        sessionAttributes.put("cart", Collections.singletonMap("items", Arrays.asList("pizza", "soda")));
+
+        return ResponseEnvelope.builder()
+                .withVersion("1.0")
+                .withSessionAttributes(sessionAttributes)
+                .withResponse(Response.builder()
+                        .withOutputSpeech(SsmlOutputSpeech.builder().withSsml("<speak>Which size?</speak>").build())
+                        .withReprompt(Reprompt.builder()
+                                .withOutputSpeech(SsmlOutputSpeech.builder().withSsml("<speak>Größe?</speak>").build())
+                                .build())
+                        .withCard(SimpleCard.builder().withTitle("Order").withContent("Pepperoni").build())
+                        .withDirectives(Arrays.asList(
+                                ElicitSlotDirective.builder()
+                                        .withSlotToElicit("size")
+                                        .withUpdatedIntent(Intent.builder()
+                                                .withName("OrderIntent")
+                                                .withConfirmationStatus(IntentConfirmationStatus.NONE)
+                                                .withSlots(slots)
+                                                .build())
+                                        .build(),
+                                PlayDirective.builder()
+                                        .withPlayBehavior(PlayBehavior.REPLACE_ALL)
+                                        .withAudioItem(AudioItem.builder()
+                                                .withStream(Stream.builder()
+                                                        .withToken("track")
+                                                        .withUrl("https://example.com/track.mp3")
+                                                        .withOffsetInMilliseconds(0L)
+                                                        .build())
+                                                .build())
+                                        .build(),
+                                RenderDocumentDirective.builder()
+                                        .withToken("launch")
+                                        .withDocument(document)
+                                        .withDatasources(Collections.singletonMap("data", Collections.singletonMap("count", 2)))
+                                        .build()))
+                        .withShouldEndSession(false)
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.model.utils;
+
+import com.amazon.ask.model.Intent;
+import com.amazon.ask.model.IntentRequest;
+import com.amazon.ask.model.LaunchRequest;
+import com.amazon.ask.model.Slot;
+import com.amazon.ask.model.services.util.JacksonSerializer;
+import com.amazon.ask.model.slu.entityresolution.Resolution;
+import com.amazon.ask.model.slu.entityresolution.Resolutions;
+import com.amazon.ask.model.slu.entityresolution.Status;
+import com.amazon.ask.model.slu.entityresolution.StatusCode;
+import com.amazon.ask.model.slu.entityresolution.Value;
+import com.amazon.ask.model.slu.entityresolution.ValueWrapper;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class EntityResolutionIndexTest {
+
+    private static final String STATIC_AUTHORITY = "amzn1.er-authority.echo-sdk.amzn1.ask.skill.1.Size";
+    private static final String DYNAMIC_AUTHORITY = EntityResolutionIndex.DYNAMIC_AUTHORITY_PREFIX
+            + "amzn1.ask.skill.1.Size";
+
+    @Test
+    public void first_success_match_in_payload_order_is_resolved() {
+        EntityResolutionIndex index = EntityResolutionIndex.of(intent(slot("size",
+                resolution(DYNAMIC_AUTHORITY, StatusCode.ER_SUCCESS_NO_MATCH),
+                resolution(STATIC_AUTHORITY, StatusCode.ER_SUCCESS_MATCH, value("LARGE", "large"), value("XL", "extra large")),
+                resolution(DYNAMIC_AUTHORITY + ".Other", StatusCode.ER_SUCCESS_MATCH, value("HUGE", "huge")))));
+
+        assertTrue(index.isResolved("size"));
+        assertEquals("LARGE", index.getResolvedId("size"));
+        assertEquals("large", index.getResolvedName("size"));
+        assertEquals(STATIC_AUTHORITY, index.getResolvedResolution("size").getAuthority());
+        assertFalse(index.isResolvedByDynamicEntity("size"));
+        assertEquals(Arrays.asList(DYNAMIC_AUTHORITY, STATIC_AUTHORITY, DYNAMIC_AUTHORITY + ".Other"),
+                new ArrayList<>(index.getStatusPerAuthority("size").keySet()));
+    }
+
+    @Test
+    public void dynamic_match_is_resolved_by_dynamic_entity() {
+        EntityResolutionIndex index = EntityResolutionIndex.of(intent(slot("size",
+                resolution(DYNAMIC_AUTHORITY, StatusCode.ER_SUCCESS_MATCH, value("GRANDE", "grande")),
+                resolution(STATIC_AUTHORITY, StatusCode.ER_SUCCESS_MATCH, value("LARGE", "large")))));
+
+        assertEquals("GRANDE", index.getResolvedId("size"));
+        assertTrue(index.isResolvedByDynamicEntity("size"));
+    }
+
+    @Test
+    public void static_and_dynamic_statuses_are_kept_apart() {
+        EntityResolutionIndex index = EntityResolutionIndex.of(intent(slot("size",
+                resolution(STATIC_AUTHORITY, StatusCode.ER_SUCCESS_MATCH, value("LARGE", "large")),
+                resolution(DYNAMIC_AUTHORITY, StatusCode.ER_SUCCESS_NO_MATCH))));
+
+        assertEquals(StatusCode.ER_SUCCESS_MATCH, index.getStaticStatus("size"));
+        assertEquals(StatusCode.ER_SUCCESS_NO_MATCH, index.getDynamicStatus("size"));
+        assertEquals(StatusCode.ER_SUCCESS_MATCH, index.getStatus("size", STATIC_AUTHORITY));
+        assertEquals(StatusCode.ER_SUCCESS_NO_MATCH, index.getStatus("size", DYNAMIC_AUTHORITY));
+        assertNull(index.getStatus("size", "amzn1.er-authority.echo-sdk.amzn1.ask.skill.1.Color"));
+        assertTrue(EntityResolutionIndex.isDynamicAuthority(DYNAMIC_AUTHORITY));
+        assertFalse(EntityResolutionIndex.isDynamicAuthority(STATIC_AUTHORITY));
+        assertFalse(EntityResolutionIndex.isDynamicAuthority(null));
+    }
+
+    @Test
+    public void slot_without_match_is_indexed_unresolved() {
+        EntityResolutionIndex index = EntityResolutionIndex.of(intent(slot("size",
+                resolution(STATIC_AUTHORITY, StatusCode.ER_SUCCESS_NO_MATCH),
+                resolution(DYNAMIC_AUTHORITY, StatusCode.ER_ERROR_TIMEOUT))));
+
+        assertEquals(Collections.singleton("size"), index.getSlotNames());
+        assertFalse(index.isResolved("size"));
+        assertNull(index.getResolvedValue("size"));
+        assertNull(index.getResolvedId("size"));
+        assertNull(index.getResolvedName("size"));
+        assertNull(index.getResolvedResolution("size"));
+        assertFalse(index.isResolvedByDynamicEntity("size"));
+        assertEquals(StatusCode.ER_SUCCESS_NO_MATCH, index.getStaticStatus("size"));
+        assertEquals(StatusCode.ER_ERROR_TIMEOUT, index.getDynamicStatus("size"));
+    }
+
+    @Test
+    public void match_without_values_is_not_resolved() {
+        EntityResolutionIndex index = EntityResolutionIndex.of(intent(slot("size",
+                resolution(STATIC_AUTHORITY, StatusCode.ER_SUCCESS_MATCH))));
+
+        assertFalse(index.isResolved("size"));
+        assertEquals(StatusCode.ER_SUCCESS_MATCH, index.getStaticStatus("size"));
+    }
+
+    @Test
+    public void slots_without_resolutions_are_not_indexed() {
+        Slot topping = Slot.builder().withName("topping").withValue("pepperoni").build();
+        Slot empty = Slot.builder().withName("crust")
+                .withResolutions(Resolutions.builder().withResolutionsPerAuthority(Collections.emptyList()).build())
+                .build();
+        EntityResolutionIndex index = EntityResolutionIndex.of(intent(topping, empty, slot("size",
+                resolution(STATIC_AUTHORITY, StatusCode.ER_SUCCESS_MATCH, value("LARGE", "large")))));
+
+        assertEquals(new HashSet<>(Collections.singletonList("size")), index.getSlotNames());
+        assertFalse(index.isResolved("topping"));
+        assertNull(index.getStaticStatus("topping"));
+        assertTrue(index.getStatusPerAuthority("topping").isEmpty());
+        assertTrue(index.getStatusPerAuthority("missing").isEmpty());
+    }
+
+    @Test
+    public void intents_without_resolutions_share_the_empty_index() {
+        Slot topping = Slot.builder().withName("topping").withValue("pepperoni").build();
+
+        assertSame(EntityResolutionIndex.empty(), EntityResolutionIndex.of((IntentRequest) null));
+        assertSame(EntityResolutionIndex.empty(), EntityResolutionIndex.of((Intent) null));
+        assertSame(EntityResolutionIndex.empty(), EntityResolutionIndex.of(Intent.builder().withName("Order").build()));
+        assertSame(EntityResolutionIndex.empty(), EntityResolutionIndex.of(intent(topping)));
+        assertTrue(EntityResolutionIndex.empty().getSlotNames().isEmpty());
+    }
+
+    @Test
+    public void lazy_envelope_caches_the_index_of_its_request() {
+        String payload = "{\"version\":\"1.0\",\"request\":{\"type\":\"IntentRequest\",\"requestId\":\"amzn1.echo-api.request.1\","
+                + "\"timestamp\":\"2019-03-01T19:46:32Z\",\"locale\":\"en-US\",\"intent\":{\"name\":\"OrderIntent\","
+                + "\"slots\":{\"size\":{\"name\":\"size\",\"value\":\"large\",\"resolutions\":{\"resolutionsPerAuthority\":["
+                + "{\"authority\":\"" + STATIC_AUTHORITY + "\",\"status\":{\"code\":\"ER_SUCCESS_MATCH\"},"
+                + "\"values\":[{\"value\":{\"name\":\"large\",\"id\":\"LARGE\"}}]}]}}}}}}";
+        LazyRequestEnvelope envelope = LazyRequestEnvelope.parse(payload, new JacksonSerializer());
+        LazyRequestEnvelope launch = LazyRequestEnvelope.parse("{\"request\":{\"type\":\"LaunchRequest\"}}",
+                new JacksonSerializer());
+
+        assertSame(envelope.getEntityResolutionIndex(), envelope.getEntityResolutionIndex());
+        assertEquals("LARGE", envelope.getEntityResolutionIndex().getResolvedId("size"));
+        assertTrue(launch.getRequest() instanceof LaunchRequest);
+        assertSame(EntityResolutionIndex.empty(), launch.getEntityResolutionIndex());
+    }
+
+    private static Intent intent(Slot... slots) {
+        Map<String, Slot> slotsByName = new LinkedHashMap<>();
+        for (Slot slot : slots) {
+            slotsByName.put(slot.getName(), slot);
+        }
+        return Intent.builder().withName("OrderIntent").withSlots(slotsByName).build();
+    }
+
+    private static Slot slot(String name, Resolution... resolutions) {
+        return Slot.builder()
+                .withName(name)
+                .withValue("large")
+                .withResolutions(Resolutions.builder().withResolutionsPerAuthority(Arrays.asList(resolutions)).build())
+                .build();
+    }
+
+    private static Resolution resolution(String authority, StatusCode code, ValueWrapper... values) {
+        return Resolution.builder()
+                .withAuthority(authority)
+                .withStatus(Status.builder().withCode(code).build())
+                .withValues(values.length > 0 ? Arrays.asList(values) : null)
+                .build();
+    }
+
+    private static ValueWrapper value(String id, String name) {
+        return ValueWrapper.builder().withValue(Value.builder().withId(id).withName(name).build()).build();
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.model.utils;
+
+import com.amazon.ask.model.IntentRequest;
+import com.amazon.ask.model.LaunchRequest;
+import com.amazon.ask.model.RequestEnvelope;
+import com.amazon.ask.model.interfaces.audioplayer.AudioPlayerState;
+import com.amazon.ask.model.interfaces.system.SystemState;
+import com.amazon.ask.model.interfaces.viewport.ViewportState;
+import com.amazon.ask.model.services.SerializerException;
+import com.amazon.ask.model.services.util.JacksonSerializer;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class LazyRequestEnvelopeTest {
+
+    private static final String INTENT_REQUEST = "{\"version\":\"1.0\","
+            + "\"session\":{\"new\":false,\"sessionId\":\"amzn1.echo-api.session.1\","
+            + "\"application\":{\"applicationId\":\"amzn1.ask.skill.1\"},"
+            + "\"attributes\":{\"counter\":3,\"lastIntent\":\"Größe\",\"cart\":{\"items\":[\"pizza\",\"soda\"]}},"
+            + "\"user\":{\"userId\":\"amzn1.ask.account.1\",\"accessToken\":\"Atza|token\"}},"
+            + "\"context\":{\"System\":{\"application\":{\"applicationId\":\"amzn1.ask.skill.1\"},"
+            + "\"user\":{\"userId\":\"amzn1.ask.account.1\"},"
+            + "\"device\":{\"deviceId\":\"amzn1.ask.device.1\",\"supportedInterfaces\":{\"AudioPlayer\":{}}},"
+            + "\"apiEndpoint\":\"https://api.amazonalexa.com\",\"apiAccessToken\":\"eyJ0eXAi\"},"
+            + "\"AudioPlayer\":{\"playerActivity\":\"IDLE\",\"offsetInMilliseconds\":1200},"
+            + "\"Viewport\":{\"experiences\":[{\"arcMinuteWidth\":246,\"arcMinuteHeight\":144,\"canRotate\":false,"
+            + "\"canResize\":false}],\"shape\":\"RECTANGLE\",\"pixelWidth\":1024,\"pixelHeight\":600,\"dpi\":160,"
+            + "\"currentPixelWidth\":1024,\"currentPixelHeight\":600,\"touch\":[\"SINGLE\"]}},"
+            + "\"request\":{\"type\":\"IntentRequest\",\"requestId\":\"amzn1.echo-api.request.1\","
+            + "\"timestamp\":\"2019-03-01T19:46:32Z\",\"locale\":\"de-DE\",\"dialogState\":\"IN_PROGRESS\","
+            + "\"intent\":{\"name\":\"OrderIntent\",\"confirmationStatus\":\"NONE\",\"slots\":{"
+            + "\"size\":{\"name\":\"size\",\"value\":\"große\",\"confirmationStatus\":\"NONE\",\"resolutions\":{"
+            + "\"resolutionsPerAuthority\":[{\"authority\":\"amzn1.er-authority.echo-sdk.amzn1.ask.skill.1.Size\","
+            + "\"status\":{\"code\":\"ER_SUCCESS_MATCH\"},\"values\":[{\"value\":{\"name\":\"große été\",\"id\":\"LARGE\"}}]}]}}}}}}";
+
+    private static final String LAUNCH_REQUEST = "{\"request\":{\"requestId\":\"amzn1.echo-api.request.2\","
+            + "\"timestamp\":\"2019-03-01T19:46:32Z\",\"locale\":\"en-US\",\"type\":\"LaunchRequest\"},"
+            + "\"session\":null,\"version\":\"1.0\"}";
+
+    private final JacksonSerializer serializer = new JacksonSerializer();
+
+    @Test
+    public void string_payload_is_read_as_the_eager_envelope() {
+        RequestEnvelope expected = serializer.deserialize(INTENT_REQUEST, RequestEnvelope.class);
+        LazyRequestEnvelope envelope = LazyRequestEnvelope.parse(INTENT_REQUEST, serializer);
+
+        assertLikeEagerEnvelope(expected, envelope);
+    }
+
+    @Test
+    public void byte_range_is_read_as_the_eager_envelope() {
+        RequestEnvelope expected = serializer.deserialize(INTENT_REQUEST, RequestEnvelope.class);
+        byte[] bytes = INTENT_REQUEST.getBytes(StandardCharsets.UTF_8);
+        byte[] padded = new byte[bytes.length + 12];
+        Arrays.fill(padded, (byte) '#');
+        System.arraycopy(bytes, 0, padded, 5, bytes.length);
+
+        LazyRequestEnvelope envelope = LazyRequestEnvelope.parse(padded, 5, bytes.length, serializer);
+
+        assertTrue(bytes.length > INTENT_REQUEST.length());
+        assertLikeEagerEnvelope(expected, envelope);
+    }
+
+    @Test
+    public void multi_byte_characters_do_not_shift_byte_offsets() {
+        byte[] bytes = INTENT_REQUEST.getBytes(StandardCharsets.UTF_8);
+        byte[] padded = new byte[bytes.length + 3];
+        System.arraycopy(bytes, 0, padded, 3, bytes.length);
+
+        LazyRequestEnvelope envelope = LazyRequestEnvelope.parse(padded, 3, bytes.length, serializer);
+
+        assertEquals("Größe", envelope.getSessionAttributes().get("lastIntent", String.class));
+        assertEquals("große", ((IntentRequest) envelope.getRequest()).getIntent().getSlots().get("size").getValue());
+        assertEquals("große été", envelope.getEntityResolutionIndex().getResolvedName("size"));
+        assertEquals(Long.valueOf(1200),
+                envelope.getContextState("AudioPlayer", AudioPlayerState.class).getOffsetInMilliseconds());
+    }
+
+    @Test
+    public void session_attributes_are_read_one_at_a_time() {
+        LazyRequestEnvelope envelope = LazyRequestEnvelope.parse(INTENT_REQUEST, serializer);
+        SessionAttributes attributes = envelope.getSessionAttributes();
+
+        assertSame(attributes, envelope.getSessionAttributes());
+        assertEquals(Arrays.asList("counter", "lastIntent", "cart"), Arrays.asList(attributes.getNames().toArray()));
+        assertEquals(Integer.valueOf(3), attributes.get("counter", Integer.class));
+        assertEquals(Arrays.asList("pizza", "soda"), (List<?>) attributes.get("cart", Map.class).get("items"));
+    }
+
+    @Test
+    public void missing_session_and_context_are_null() {
+        RequestEnvelope expected = serializer.deserialize(LAUNCH_REQUEST, RequestEnvelope.class);
+        LazyRequestEnvelope envelope = LazyRequestEnvelope.parse(LAUNCH_REQUEST, serializer);
+
+        assertTrue(envelope.getRequest() instanceof LaunchRequest);
+        assertEquals("1.0", envelope.getVersion());
+        assertNull(envelope.getSession());
+        assertNull(envelope.getSessionAttributes());
+        assertNull(envelope.getContext());
+        assertNull(envelope.getContextState("System", SystemState.class));
+        assertFalse(envelope.hasContextState("System"));
+        assertTrue(envelope.getEntityResolutionIndex().getSlotNames().isEmpty());
+        assertEquals(expected, envelope.toRequestEnvelope());
+    }
+
+    @Test
+    public void session_without_attributes_has_empty_attributes() {
+        String payload = INTENT_REQUEST.replace(
+                "\"attributes\":{\"counter\":3,\"lastIntent\":\"Größe\",\"cart\":{\"items\":[\"pizza\",\"soda\"]}},", "");
+        assertFalse(payload.contains("attributes"));
+        LazyRequestEnvelope envelope = LazyRequestEnvelope.parse(payload, serializer);
+
+        assertEquals("amzn1.echo-api.session.1", envelope.getSession().getSessionId());
+        assertTrue(envelope.getSessionAttributes().getNames().isEmpty());
+    }
+
+    @Test(expected = SerializerException.class)
+    public void payload_not_an_object_is_rejected() {
+        LazyRequestEnvelope.parse("[\"version\"]", serializer);
+    }
+
+    private static void assertLikeEagerEnvelope(RequestEnvelope expected, LazyRequestEnvelope envelope) {
+        assertEquals(expected.getVersion(), envelope.getVersion());
+        assertTrue(envelope.getRequest() instanceof IntentRequest);
+        assertEquals(expected.getRequest(), envelope.getRequest());
+        assertTrue(envelope.hasContextState("Viewport"));
+        assertFalse(envelope.hasContextState("Display"));
+        assertEquals(expected.getContext().getSystem(), envelope.getContextState("System", SystemState.class));
+        assertEquals(expected.getContext().getViewport(), envelope.getContextState("Viewport", ViewportState.class));
+        assertNull(envelope.getContextState("Display", ViewportState.class));
+        assertEquals(expected.getSession(), envelope.getSession());
+        assertEquals(expected.getSession().getAttributes().get("cart"),
+                envelope.getSessionAttributes().get("cart", Map.class));
+        assertEquals(expected.getContext(), envelope.getContext());
+        assertEquals("LARGE", envelope.getEntityResolutionIndex().getResolvedId("size"));
+        assertEquals(expected, envelope.toRequestEnvelope());
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.model.utils;
+
+import com.amazon.ask.model.IntentRequest;
+import com.amazon.ask.model.LaunchRequest;
+import com.amazon.ask.model.Request;
+import com.amazon.ask.model.services.Serializer;
+import com.amazon.ask.model.services.SerializerException;
+import com.amazon.ask.model.services.util.GeneratedCodecSerializer;
+import com.amazon.ask.model.services.util.JacksonSerializer;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class RequestTypeRouterTest {
+
+    private static final String INTENT_REQUEST = "{\"requestId\":\"amzn1.echo-api.request.1\","
+            + "\"timestamp\":\"2019-03-01T19:46:32Z\",\"locale\":\"de-DE\",\"dialogState\":\"IN_PROGRESS\","
+            + "\"intent\":{\"name\":\"OrderIntent\",\"confirmationStatus\":\"NONE\",\"slots\":{"
+            + "\"size\":{\"name\":\"size\",\"value\":\"große\",\"confirmationStatus\":\"NONE\"}}},"
+            + "\"type\":\"IntentRequest\"}";
+
+    private static final String LAUNCH_REQUEST = "{\"requestId\":\"amzn1.echo-api.request.2\","
+            + "\"timestamp\":\"2019-03-01T19:46:32Z\",\"locale\":\"en-US\",\"type\":\"LaunchRequest\"}";
+
+    private final JacksonSerializer serializer = new JacksonSerializer();
+
+    @Test
+    public void late_type_is_peeked_from_string_and_byte_range() {
+        assertEquals("IntentRequest", RequestTypeRouter.peekType(INTENT_REQUEST));
+        assertEquals("IntentRequest", peekPaddedType(INTENT_REQUEST));
+        assertEquals("LaunchRequest", RequestTypeRouter.peekType(LAUNCH_REQUEST));
+        assertEquals("LaunchRequest", peekPaddedType(LAUNCH_REQUEST));
+    }
+
+    @Test
+    public void nested_type_is_skipped() {
+        String nestedFirst = "{\"intent\":{\"type\":\"LaunchRequest\",\"slots\":{\"size\":{\"type\":\"SessionEndedRequest\"}}},"
+                + "\"body\":[{\"type\":\"LaunchRequest\"}],\"type\":\"IntentRequest\"}";
+        String nestedOnly = "{\"intent\":{\"type\":\"LaunchRequest\"},\"body\":[{\"type\":\"LaunchRequest\"}]}";
+
+        assertEquals("IntentRequest", RequestTypeRouter.peekType(nestedFirst));
+        assertEquals("IntentRequest", peekPaddedType(nestedFirst));
+        assertNull(RequestTypeRouter.peekType(nestedOnly));
+        assertNull(peekPaddedType(nestedOnly));
+    }
+
+    @Test
+    public void type_not_a_string_is_not_a_discriminator() {
+        for (String payload : Arrays.asList("{\"type\":{\"name\":\"LaunchRequest\"},\"requestId\":\"1\"}",
+                "{\"type\":[\"LaunchRequest\"]}", "{\"type\":5}", "{\"type\":null}", "{}")) {
+            assertNull(RequestTypeRouter.peekType(payload));
+            assertNull(peekPaddedType(payload));
+        }
+    }
+
+    @Test
+    public void unknown_type_is_routed_to_request() {
+        String unknown = "{\"requestId\":\"amzn1.echo-api.request.3\",\"type\":\"Unknown.Request\"}";
+        byte[] bytes = unknown.getBytes(StandardCharsets.UTF_8);
+
+        assertSame(LaunchRequest.class, RequestTypeRouter.routeOrBase("LaunchRequest"));
+        assertSame(Request.class, RequestTypeRouter.routeOrBase("Unknown.Request"));
+        assertSame(Request.class, RequestTypeRouter.routeOrBase(null));
+        assertNull(RequestTypeRouter.getRequestClass("Unknown.Request"));
+        assertRejected(() -> serializer.deserialize(unknown, Request.class));
+        assertRejected(() -> RequestTypeRouter.deserialize(unknown, serializer));
+        assertRejected(() -> RequestTypeRouter.deserialize(bytes, 0, bytes.length, serializer));
+    }
+
+    @Test
+    public void payload_not_an_object_is_rejected() {
+        for (String payload : Arrays.asList("[{\"type\":\"LaunchRequest\"}]", "\"LaunchRequest\"", "")) {
+            byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+            assertRejected(() -> RequestTypeRouter.peekType(payload));
+            assertRejected(() -> RequestTypeRouter.peekType(bytes, 0, bytes.length));
+            assertRejected(() -> RequestTypeRouter.deserialize(payload, serializer));
+            assertRejected(() -> RequestTypeRouter.deserialize(bytes, 0, bytes.length, serializer));
+        }
+    }
+
+    @Test
+    public void routed_request_is_read_as_the_eager_request() {
+        Serializer codecSerializer = new GeneratedCodecSerializer();
+
+        for (Serializer requestSerializer : Arrays.asList(serializer, codecSerializer)) {
+            for (String payload : Arrays.asList(INTENT_REQUEST, LAUNCH_REQUEST)) {
+                Request expected = serializer.deserialize(payload, Request.class);
+                byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+                byte[] padded = new byte[bytes.length + 12];
+                Arrays.fill(padded, (byte) '#');
+                System.arraycopy(bytes, 0, padded, 5, bytes.length);
+
+                assertEquals(expected, RequestTypeRouter.deserialize(payload, requestSerializer));
+                assertEquals(expected, RequestTypeRouter.deserialize(padded, 5, bytes.length, requestSerializer));
+            }
+        }
+        assertTrue(RequestTypeRouter.deserialize(INTENT_REQUEST, codecSerializer) instanceof IntentRequest);
+    }
+
+    private static String peekPaddedType(String payload) {
+        byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+        byte[] padded = new byte[bytes.length + 12];
+        Arrays.fill(padded, (byte) '#');
+        System.arraycopy(bytes, 0, padded, 5, bytes.length);
+        return RequestTypeRouter.peekType(padded, 5, bytes.length);
+    }
+
+    private static void assertRejected(Runnable read) {
+        try {
+            read.run();
+            fail("Payload should have been rejected");
+        } catch (SerializerException expected) {
+            // Rejected as expected
+        }
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.model.utils;
+
+import com.amazon.ask.model.ResponseEnvelope;
+import com.amazon.ask.model.services.SerializerException;
+import com.amazon.ask.model.services.util.JacksonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class SessionAttributesTest {
+
+    private static final String ATTRIBUTES = "{\"counter\":3,\"lastIntent\":\"Größe\","
+            + "\"cart\":{\"items\":[\"pizza\",\"soda\"]},\"ratio\":0.5}";
+
+    private final JacksonSerializer serializer = new JacksonSerializer();
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void parse_locates_attributes_of_string_and_byte_range() {
+        byte[] bytes = ATTRIBUTES.getBytes(StandardCharsets.UTF_8);
+        byte[] padded = new byte[bytes.length + 6];
+        System.arraycopy(bytes, 0, padded, 4, bytes.length);
+
+        for (SessionAttributes attributes : Arrays.asList(SessionAttributes.parse(ATTRIBUTES, serializer),
+                SessionAttributes.parse(padded, 4, bytes.length, serializer))) {
+            assertEquals(Arrays.asList("counter", "lastIntent", "cart", "ratio"),
+                    new ArrayList<>(attributes.getNames()));
+            assertTrue(attributes.contains("cart"));
+            assertFalse(attributes.contains("missing"));
+            assertEquals("{\"items\":[\"pizza\",\"soda\"]}", attributes.getJson("cart"));
+            assertEquals("\"Größe\"", attributes.getJson("lastIntent"));
+            assertEquals("Größe", attributes.get("lastIntent", String.class));
+            assertEquals(Double.valueOf(0.5), attributes.get("ratio", Double.class));
+        }
+    }
+
+    @Test(expected = SerializerException.class)
+    public void parse_rejects_payload_not_an_object() {
+        SessionAttributes.parse("[1,2]", serializer);
+    }
+
+    @Test
+    public void get_deserializes_attribute_once() {
+        SessionAttributes attributes = SessionAttributes.parse(ATTRIBUTES, serializer);
+
+        Cart cart = attributes.get("cart", Cart.class);
+
+        assertEquals(Arrays.asList("pizza", "soda"), cart.getItems());
+        assertSame(cart, attributes.get("cart", Cart.class));
+        assertEquals(Integer.valueOf(3), attributes.get("counter", Integer.class));
+        assertNull(attributes.get("missing", Cart.class));
+    }
+
+    @Test
+    public void get_converts_attributes_already_deserialized() {
+        Map<String, Object> cart = new LinkedHashMap<>();
+        cart.put("items", Arrays.asList("pizza", "soda"));
+        SessionAttributes attributes = SessionAttributes.of(Collections.singletonMap("cart", cart), serializer);
+
+        assertEquals(Arrays.asList("pizza", "soda"), attributes.get("cart", Cart.class).getItems());
+        assertEquals("{\"items\":[\"pizza\",\"soda\"]}", attributes.getJson("cart"));
+        assertTrue(SessionAttributes.of(null, serializer).getNames().isEmpty());
+    }
+
+    @Test
+    public void bind_reads_all_attributes() {
+        SessionAttributes attributes = SessionAttributes.parse(ATTRIBUTES, serializer);
+
+        State state = attributes.bind(State.class);
+
+        assertEquals(3, state.getCounter());
+        assertEquals("Größe", state.getLastIntent());
+        assertEquals(Arrays.asList("pizza", "soda"), state.getCart().getItems());
+    }
+
+    @Test
+    public void bind_reads_modified_attributes() {
+        SessionAttributes attributes = SessionAttributes.parse(ATTRIBUTES, serializer);
+        attributes.get("cart", Cart.class).getItems().add("fries");
+        attributes.put("counter", 4).remove("lastIntent");
+
+        State state = attributes.bind(State.class);
+
+        assertEquals(4, state.getCounter());
+        assertNull(state.getLastIntent());
+        assertEquals(Arrays.asList("pizza", "soda", "fries"), state.getCart().getItems());
+    }
+
+    @Test
+    public void put_all_replaces_attributes_with_bound_value() throws IOException {
+        SessionAttributes attributes = SessionAttributes.parse(ATTRIBUTES, serializer);
+        State state = attributes.bind(State.class);
+        state.setCounter(5);
+        state.setLastIntent(null);
+
+        attributes.putAll(state);
+
+        assertEquals(new HashSet<>(Arrays.asList("counter", "cart")), attributes.getNames());
+        assertEquals(Integer.valueOf(5), attributes.get("counter", Integer.class));
+        assertEquals(mapper.readTree("{\"counter\":5,\"cart\":{\"items\":[\"pizza\",\"soda\"]}}"),
+                mapper.readTree(writeResponseAttributes(attributes)));
+    }
+
+    @Test
+    public void untouched_attributes_are_written_back_as_received() throws IOException {
+        SessionAttributes attributes = SessionAttributes.parse(ATTRIBUTES, serializer);
+        attributes.put("counter", 4);
+
+        Map<String, Object> expected = mapper.readValue(ATTRIBUTES, Map.class);
+        expected.put("counter", 4);
+
+        assertEquals(mapper.valueToTree(expected), mapper.readTree(writeResponseAttributes(attributes)));
+    }
+
+    @Test
+    public void null_and_empty_attributes_are_not_written_back() throws IOException {
+        String payload = "{\"kept\":\"\\u00e9\",\"none\":null,\"blank\":\"\",\"space\":\" \",\"list\":[ ],"
+                + "\"object\":{\n},\"zero\":0}";
+        byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+        String eager = serializer.serialize(ResponseEnvelope.builder()
+                .withSessionAttributes(mapper.readValue(payload, Map.class)).build());
+
+        for (SessionAttributes attributes : Arrays.asList(SessionAttributes.parse(payload, serializer),
+                SessionAttributes.parse(bytes, 0, bytes.length, serializer))) {
+            attributes.put("added", null);
+            assertTrue(attributes.contains("none"));
+            assertNull(attributes.get("none", String.class));
+            assertEquals(Arrays.asList("kept", "space", "zero"),
+                    new ArrayList<>(attributes.toResponseAttributes().keySet()));
+            assertEquals(fieldNames(mapper.readTree(eager).get("sessionAttributes").toString()),
+                    fieldNames(writeResponseAttributes(attributes)));
+        }
+    }
+
+    private String writeResponseAttributes(SessionAttributes attributes) throws IOException {
+        String envelope = serializer.serialize(ResponseEnvelope.builder()
+                .withSessionAttributes(attributes.toResponseAttributes()).build());
+        return mapper.readTree(envelope).get("sessionAttributes").toString();
+    }
+
+    private List<String> fieldNames(String json) throws IOException {
+        List<String> names = new ArrayList<>();
+        mapper.readTree(json).fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+
+    public static class Cart {
+        private List<String> items;
+
+        public List<String> getItems() {
+            return items;
+        }
+
+        public void setItems(List<String> items) {
+            this.items = items;
+        }
+    }
+
+    public static class State {
+        private int counter;
+        private String lastIntent;
+        private Cart cart;
+
+        public int getCounter() {
+            return counter;
+        }
+
+        public void setCounter(int counter) {
+            this.counter = counter;
+        }
+
+        public String getLastIntent() {
+            return lastIntent;
+        }
+
+        public void setLastIntent(String lastIntent) {
+            this.lastIntent = lastIntent;
+        }
+
+        public Cart getCart() {
+            return cart;
+        }
+
+        public void setCart(Cart cart) {
+            this.cart = cart;
+        }
+    }
+}
@@ -18,6 +18,7 @@ import com.amazon.ask.model.services.*;
 import java.math.BigDecimal;import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 
 
@@ -27,389 +28,701 @@ public interface SkillManagementService {
 
     ApiResponse<Void> callCreateCatalogUploadV1(String catalogId, com.amazon.ask.smapi.model.v1.catalog.upload.CatalogUploadBase catalogUploadRequestBody) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callCreateCatalogUploadV1Async(String catalogId, com.amazon.ask.smapi.model.v1.catalog.upload.CatalogUploadBase catalogUploadRequestBody) {
+        return ServiceFutures.fromCall(() -> callCreateCatalogUploadV1(catalogId, catalogUploadRequestBody));
+    }
+
 
     com.amazon.ask.smapi.model.v1.catalog.upload.GetContentUploadResponse getContentUploadByIdV1(String catalogId, String uploadId) throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.catalog.upload.GetContentUploadResponse> callGetContentUploadByIdV1(String catalogId, String uploadId) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.catalog.upload.GetContentUploadResponse>> callGetContentUploadByIdV1Async(String catalogId, String uploadId) {
+        return ServiceFutures.fromCall(() -> callGetContentUploadByIdV1(catalogId, uploadId));
+    }
+
 
     com.amazon.ask.smapi.model.v1.catalog.CreateContentUploadUrlResponse generateCatalogUploadUrlV1(String catalogId, com.amazon.ask.smapi.model.v1.catalog.CreateContentUploadUrlRequest generateCatalogUploadUrlRequestBody) throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.catalog.CreateContentUploadUrlResponse> callGenerateCatalogUploadUrlV1(String catalogId, com.amazon.ask.smapi.model.v1.catalog.CreateContentUploadUrlRequest generateCatalogUploadUrlRequestBody) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.catalog.CreateContentUploadUrlResponse>> callGenerateCatalogUploadUrlV1Async(String catalogId, com.amazon.ask.smapi.model.v1.catalog.CreateContentUploadUrlRequest generateCatalogUploadUrlRequestBody) {
+        return ServiceFutures.fromCall(() -> callGenerateCatalogUploadUrlV1(catalogId, generateCatalogUploadUrlRequestBody));
+    }
+
 
     com.amazon.ask.smapi.model.v1.isp.ListInSkillProductResponse getIspListForVendorV1(String vendorId, String nextToken, BigDecimal maxResults, List<String> productId, String stage, String type, String referenceName, String status, String isAssociatedWithSkill) throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.isp.ListInSkillProductResponse> callGetIspListForVendorV1(String vendorId, String nextToken, BigDecimal maxResults, List<String> productId, String stage, String type, String referenceName, String status, String isAssociatedWithSkill) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.isp.ListInSkillProductResponse>> callGetIspListForVendorV1Async(String vendorId, String nextToken, BigDecimal maxResults, List<String> productId, String stage, String type, String referenceName, String status, String isAssociatedWithSkill) {
+        return ServiceFutures.fromCall(() -> callGetIspListForVendorV1(vendorId, nextToken, maxResults, productId, stage, type, referenceName, status, isAssociatedWithSkill));
+    }
+
 
     com.amazon.ask.smapi.model.v1.isp.ProductResponse createIspForVendorV1(com.amazon.ask.smapi.model.v1.isp.CreateInSkillProductRequest createInSkillProductRequest) throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.isp.ProductResponse> callCreateIspForVendorV1(com.amazon.ask.smapi.model.v1.isp.CreateInSkillProductRequest createInSkillProductRequest) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.isp.ProductResponse>> callCreateIspForVendorV1Async(com.amazon.ask.smapi.model.v1.isp.CreateInSkillProductRequest createInSkillProductRequest) {
+        return ServiceFutures.fromCall(() -> callCreateIspForVendorV1(createInSkillProductRequest));
+    }
+
 
     void disassociateIspWithSkillV1(String productId, String skillId) throws ServiceException;
 
     ApiResponse<Void> callDisassociateIspWithSkillV1(String productId, String skillId) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callDisassociateIspWithSkillV1Async(String productId, String skillId) {
+        return ServiceFutures.fromCall(() -> callDisassociateIspWithSkillV1(productId, skillId));
+    }
+
 
     void associateIspWithSkillV1(String productId, String skillId) throws ServiceException;
 
     ApiResponse<Void> callAssociateIspWithSkillV1(String productId, String skillId) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callAssociateIspWithSkillV1Async(String productId, String skillId) {
+        return ServiceFutures.fromCall(() -> callAssociateIspWithSkillV1(productId, skillId));
+    }
+
 
     void deleteIspForProductV1(String productId, String stage, String ifMatch) throws ServiceException;
 
     ApiResponse<Void> callDeleteIspForProductV1(String productId, String stage, String ifMatch) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callDeleteIspForProductV1Async(String productId, String stage, String ifMatch) {
+        return ServiceFutures.fromCall(() -> callDeleteIspForProductV1(productId, stage, ifMatch));
+    }
+
 
     void resetEntitlementForProductV1(String productId, String stage) throws ServiceException;
 
     ApiResponse<Void> callResetEntitlementForProductV1(String productId, String stage) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callResetEntitlementForProductV1Async(String productId, String stage) {
+        return ServiceFutures.fromCall(() -> callResetEntitlementForProductV1(productId, stage));
+    }
+
 
     com.amazon.ask.smapi.model.v1.isp.InSkillProductDefinitionResponse getIspDefinitionV1(String productId, String stage) throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.isp.InSkillProductDefinitionResponse> callGetIspDefinitionV1(String productId, String stage) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.isp.InSkillProductDefinitionResponse>> callGetIspDefinitionV1Async(String productId, String stage) {
+        return ServiceFutures.fromCall(() -> callGetIspDefinitionV1(productId, stage));
+    }
+
 
     void updateIspForProductV1(String productId, String stage, com.amazon.ask.smapi.model.v1.isp.UpdateInSkillProductRequest updateInSkillProductRequest, String ifMatch) throws ServiceException;
 
     ApiResponse<Void> callUpdateIspForProductV1(String productId, String stage, com.amazon.ask.smapi.model.v1.isp.UpdateInSkillProductRequest updateInSkillProductRequest, String ifMatch) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callUpdateIspForProductV1Async(String productId, String stage, com.amazon.ask.smapi.model.v1.isp.UpdateInSkillProductRequest updateInSkillProductRequest, String ifMatch) {
+        return ServiceFutures.fromCall(() -> callUpdateIspForProductV1(productId, stage, updateInSkillProductRequest, ifMatch));
+    }
+
 
     com.amazon.ask.smapi.model.v1.isp.AssociatedSkillResponse getIspAssociatedSkillsV1(String productId, String stage, String nextToken, BigDecimal maxResults) throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.isp.AssociatedSkillResponse> callGetIspAssociatedSkillsV1(String productId, String stage, String nextToken, BigDecimal maxResults) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.isp.AssociatedSkillResponse>> callGetIspAssociatedSkillsV1Async(String productId, String stage, String nextToken, BigDecimal maxResults) {
+        return ServiceFutures.fromCall(() -> callGetIspAssociatedSkillsV1(productId, stage, nextToken, maxResults));
+    }
+
 
     com.amazon.ask.smapi.model.v1.isp.InSkillProductSummaryResponse getIspSummaryV1(String productId, String stage) throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.isp.InSkillProductSummaryResponse> callGetIspSummaryV1(String productId, String stage) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.isp.InSkillProductSummaryResponse>> callGetIspSummaryV1Async(String productId, String stage) {
+        return ServiceFutures.fromCall(() -> callGetIspSummaryV1(productId, stage));
+    }
+
 
     void deleteInteractionModelCatalogV1(String catalogId) throws ServiceException;
 
     ApiResponse<Void> callDeleteInteractionModelCatalogV1(String catalogId) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callDeleteInteractionModelCatalogV1Async(String catalogId) {
+        return ServiceFutures.fromCall(() -> callDeleteInteractionModelCatalogV1(catalogId));
+    }
+
 
     com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.CatalogDefinitionOutput getInteractionModelCatalogDefinitionV1(String catalogId) throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.CatalogDefinitionOutput> callGetInteractionModelCatalogDefinitionV1(String catalogId) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.CatalogDefinitionOutput>> callGetInteractionModelCatalogDefinitionV1Async(String catalogId) {
+        return ServiceFutures.fromCall(() -> callGetInteractionModelCatalogDefinitionV1(catalogId));
+    }
+
 
     void updateInteractionModelCatalogV1(String catalogId, com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.UpdateRequest updateRequest) throws ServiceException;
 
     ApiResponse<Void> callUpdateInteractionModelCatalogV1(String catalogId, com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.UpdateRequest updateRequest) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callUpdateInteractionModelCatalogV1Async(String catalogId, com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.UpdateRequest updateRequest) {
+        return ServiceFutures.fromCall(() -> callUpdateInteractionModelCatalogV1(catalogId, updateRequest));
+    }
+
 
     com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.CatalogStatus getInteractionModelCatalogUpdateStatusV1(String catalogId, String updateRequestId) throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.CatalogStatus> callGetInteractionModelCatalogUpdateStatusV1(String catalogId, String updateRequestId) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.CatalogStatus>> callGetInteractionModelCatalogUpdateStatusV1Async(String catalogId, String updateRequestId) {
+        return ServiceFutures.fromCall(() -> callGetInteractionModelCatalogUpdateStatusV1(catalogId, updateRequestId));
+    }
+
 
     void createInteractionModelCatalogVersionV1(String catalogId, com.amazon.ask.smapi.model.v1.skill.interactionModel.version.VersionData catalog) throws ServiceException;
 
     ApiResponse<Void> callCreateInteractionModelCatalogVersionV1(String catalogId, com.amazon.ask.smapi.model.v1.skill.interactionModel.version.VersionData catalog) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callCreateInteractionModelCatalogVersionV1Async(String catalogId, com.amazon.ask.smapi.model.v1.skill.interactionModel.version.VersionData catalog) {
+        return ServiceFutures.fromCall(() -> callCreateInteractionModelCatalogVersionV1(catalogId, catalog));
+    }
+
 
     void deleteInteractionModelCatalogVersionV1(String catalogId, String version) throws ServiceException;
 
     ApiResponse<Void> callDeleteInteractionModelCatalogVersionV1(String catalogId, String version) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callDeleteInteractionModelCatalogVersionV1Async(String catalogId, String version) {
+        return ServiceFutures.fromCall(() -> callDeleteInteractionModelCatalogVersionV1(catalogId, version));
+    }
+
 
     com.amazon.ask.smapi.model.v1.skill.interactionModel.version.CatalogVersionData getInteractionModelCatalogVersionV1(String catalogId, String version) throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.skill.interactionModel.version.CatalogVersionData> callGetInteractionModelCatalogVersionV1(String catalogId, String version) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.interactionModel.version.CatalogVersionData>> callGetInteractionModelCatalogVersionV1Async(String catalogId, String version) {
+        return ServiceFutures.fromCall(() -> callGetInteractionModelCatalogVersionV1(catalogId, version));
+    }
+
 
     void updateInteractionModelCatalogVersionV1(String catalogId, String version, com.amazon.ask.smapi.model.v1.skill.interactionModel.version.CatalogUpdate catalogUpdate) throws ServiceException;
 
     ApiResponse<Void> callUpdateInteractionModelCatalogVersionV1(String catalogId, String version, com.amazon.ask.smapi.model.v1.skill.interactionModel.version.CatalogUpdate catalogUpdate) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callUpdateInteractionModelCatalogVersionV1Async(String catalogId, String version, com.amazon.ask.smapi.model.v1.skill.interactionModel.version.CatalogUpdate catalogUpdate) {
+        return ServiceFutures.fromCall(() -> callUpdateInteractionModelCatalogVersionV1(catalogId, version, catalogUpdate));
+    }
+
 
     com.amazon.ask.smapi.model.v1.skill.interactionModel.version.CatalogValues getInteractionModelCatalogValuesV1(String catalogId, String version, BigDecimal maxResults, String nextToken) throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.skill.interactionModel.version.CatalogValues> callGetInteractionModelCatalogValuesV1(String catalogId, String version, BigDecimal maxResults, String nextToken) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.interactionModel.version.CatalogValues>> callGetInteractionModelCatalogValuesV1Async(String catalogId, String version, BigDecimal maxResults, String nextToken) {
+        return ServiceFutures.fromCall(() -> callGetInteractionModelCatalogValuesV1(catalogId, version, maxResults, nextToken));
+    }
+
 
     com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.ListCatalogResponse listInteractionModelCatalogsV1(String vendorId, BigDecimal maxResults, String nextToken, String sortDirection) throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.ListCatalogResponse> callListInteractionModelCatalogsV1(String vendorId, BigDecimal maxResults, String nextToken, String sortDirection) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.ListCatalogResponse>> callListInteractionModelCatalogsV1Async(String vendorId, BigDecimal maxResults, String nextToken, String sortDirection) {
+        return ServiceFutures.fromCall(() -> callListInteractionModelCatalogsV1(vendorId, maxResults, nextToken, sortDirection));
+    }
+
 
     com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.CatalogResponse createInteractionModelCatalogV1(com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.DefinitionData catalog) throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.CatalogResponse> callCreateInteractionModelCatalogV1(com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.DefinitionData catalog) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.CatalogResponse>> callCreateInteractionModelCatalogV1Async(com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.DefinitionData catalog) {
+        return ServiceFutures.fromCall(() -> callCreateInteractionModelCatalogV1(catalog));
+    }
+
 
     com.amazon.ask.smapi.model.v1.skill.ExportResponse getStatusOfExportRequestV1(String exportId) throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.skill.ExportResponse> callGetStatusOfExportRequestV1(String exportId) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.ExportResponse>> callGetStatusOfExportRequestV1Async(String exportId) {
+        return ServiceFutures.fromCall(() -> callGetStatusOfExportRequestV1(exportId));
+    }
+
 
     com.amazon.ask.smapi.model.v1.skill.ListSkillResponse listSkillsForVendorV1(String vendorId, String nextToken, BigDecimal maxResults, List<String> skillId) throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.skill.ListSkillResponse> callListSkillsForVendorV1(String vendorId, String nextToken, BigDecimal maxResults, List<String> skillId) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.ListSkillResponse>> callListSkillsForVendorV1Async(String vendorId, String nextToken, BigDecimal maxResults, List<String> skillId) {
+        return ServiceFutures.fromCall(() -> callListSkillsForVendorV1(vendorId, nextToken, maxResults, skillId));
+    }
+
 
     com.amazon.ask.smapi.model.v1.skill.ImportResponse getImportStatusV1(String importId) throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.skill.ImportResponse> callGetImportStatusV1(String importId) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.ImportResponse>> callGetImportStatusV1Async(String importId) {
+        return ServiceFutures.fromCall(() -> callGetImportStatusV1(importId));
+    }
+
 
     void createSkillPackageV1(com.amazon.ask.smapi.model.v1.skill.CreateSkillWithPackageRequest createSkillWithPackageRequest) throws ServiceException;
 
     ApiResponse<Void> callCreateSkillPackageV1(com.amazon.ask.smapi.model.v1.skill.CreateSkillWithPackageRequest createSkillWithPackageRequest) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callCreateSkillPackageV1Async(com.amazon.ask.smapi.model.v1.skill.CreateSkillWithPackageRequest createSkillWithPackageRequest) {
+        return ServiceFutures.fromCall(() -> callCreateSkillPackageV1(createSkillWithPackageRequest));
+    }
+
 
     com.amazon.ask.smapi.model.v1.skill.CreateSkillResponse createSkillForVendorV1(com.amazon.ask.smapi.model.v1.skill.CreateSkillRequest createSkillRequest) throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.skill.CreateSkillResponse> callCreateSkillForVendorV1(com.amazon.ask.smapi.model.v1.skill.CreateSkillRequest createSkillRequest) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.CreateSkillResponse>> callCreateSkillForVendorV1Async(com.amazon.ask.smapi.model.v1.skill.CreateSkillRequest createSkillRequest) {
+        return ServiceFutures.fromCall(() -> callCreateSkillForVendorV1(createSkillRequest));
+    }
+
 
     com.amazon.ask.smapi.model.v1.skill.AlexaHosted.HostedSkillMetadata getAlexaHostedSkillMetadataV1(String skillId) throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.skill.AlexaHosted.HostedSkillMetadata> callGetAlexaHostedSkillMetadataV1(String skillId) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.AlexaHosted.HostedSkillMetadata>> callGetAlexaHostedSkillMetadataV1Async(String skillId) {
+        return ServiceFutures.fromCall(() -> callGetAlexaHostedSkillMetadataV1(skillId));
+    }
+
 
     com.amazon.ask.smapi.model.v1.skill.AlexaHosted.HostedSkillRepositoryCredentialsList generateCredentialsForAlexaHostedSkillV1(String skillId, com.amazon.ask.smapi.model.v1.skill.AlexaHosted.HostedSkillRepositoryCredentialsRequest hostedSkillRepositoryCredentialsRequest) throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.skill.AlexaHosted.HostedSkillRepositoryCredentialsList> callGenerateCredentialsForAlexaHostedSkillV1(String skillId, com.amazon.ask.smapi.model.v1.skill.AlexaHosted.HostedSkillRepositoryCredentialsRequest hostedSkillRepositoryCredentialsRequest) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.AlexaHosted.HostedSkillRepositoryCredentialsList>> callGenerateCredentialsForAlexaHostedSkillV1Async(String skillId, com.amazon.ask.smapi.model.v1.skill.AlexaHosted.HostedSkillRepositoryCredentialsRequest hostedSkillRepositoryCredentialsRequest) {
+        return ServiceFutures.fromCall(() -> callGenerateCredentialsForAlexaHostedSkillV1(skillId, hostedSkillRepositoryCredentialsRequest));
+    }
+
 
     void endBetaTestV1(String skillId) throws ServiceException;
 
     ApiResponse<Void> callEndBetaTestV1(String skillId) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callEndBetaTestV1Async(String skillId) {
+        return ServiceFutures.fromCall(() -> callEndBetaTestV1(skillId));
+    }
+
 
     com.amazon.ask.smapi.model.v1.skill.betaTest.BetaTest getBetaTestV1(String skillId) throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.skill.betaTest.BetaTest> callGetBetaTestV1(String skillId) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.betaTest.BetaTest>> callGetBetaTestV1Async(String skillId) {
+        return ServiceFutures.fromCall(() -> callGetBetaTestV1(skillId));
+    }
+
 
     void createBetaTestV1(String skillId, com.amazon.ask.smapi.model.v1.skill.betaTest.TestBody createTestBody) throws ServiceException;
 
     ApiResponse<Void> callCreateBetaTestV1(String skillId, com.amazon.ask.smapi.model.v1.skill.betaTest.TestBody createTestBody) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callCreateBetaTestV1Async(String skillId, com.amazon.ask.smapi.model.v1.skill.betaTest.TestBody createTestBody) {
+        return ServiceFutures.fromCall(() -> callCreateBetaTestV1(skillId, createTestBody));
+    }
+
 
     void updateBetaTestV1(String skillId, com.amazon.ask.smapi.model.v1.skill.betaTest.TestBody createTestBody) throws ServiceException;
 
     ApiResponse<Void> callUpdateBetaTestV1(String skillId, com.amazon.ask.smapi.model.v1.skill.betaTest.TestBody createTestBody) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callUpdateBetaTestV1Async(String skillId, com.amazon.ask.smapi.model.v1.skill.betaTest.TestBody createTestBody) {
+        return ServiceFutures.fromCall(() -> callUpdateBetaTestV1(skillId, createTestBody));
+    }
+
 
     void startBetaTestV1(String skillId) throws ServiceException;
 
     ApiResponse<Void> callStartBetaTestV1(String skillId) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callStartBetaTestV1Async(String skillId) {
+        return ServiceFutures.fromCall(() -> callStartBetaTestV1(skillId));
+    }
+
 
     void addTestersToBetaTestV1(String skillId, com.amazon.ask.smapi.model.v1.skill.betaTest.testers.TestersList testersRequest) throws ServiceException;
 
     ApiResponse<Void> callAddTestersToBetaTestV1(String skillId, com.amazon.ask.smapi.model.v1.skill.betaTest.testers.TestersList testersRequest) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callAddTestersToBetaTestV1Async(String skillId, com.amazon.ask.smapi.model.v1.skill.betaTest.testers.TestersList testersRequest) {
+        return ServiceFutures.fromCall(() -> callAddTestersToBetaTestV1(skillId, testersRequest));
+    }
+
 
     com.amazon.ask.smapi.model.v1.skill.betaTest.testers.ListTestersResponse getListOfTestersV1(String skillId, String nextToken, BigDecimal maxResults) throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.skill.betaTest.testers.ListTestersResponse> callGetListOfTestersV1(String skillId, String nextToken, BigDecimal maxResults) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.betaTest.testers.ListTestersResponse>> callGetListOfTestersV1Async(String skillId, String nextToken, BigDecimal maxResults) {
+        return ServiceFutures.fromCall(() -> callGetListOfTestersV1(skillId, nextToken, maxResults));
+    }
+
 
     void removeTestersFromBetaTestV1(String skillId, com.amazon.ask.smapi.model.v1.skill.betaTest.testers.TestersList testersRequest) throws ServiceException;
 
     ApiResponse<Void> callRemoveTestersFromBetaTestV1(String skillId, com.amazon.ask.smapi.model.v1.skill.betaTest.testers.TestersList testersRequest) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callRemoveTestersFromBetaTestV1Async(String skillId, com.amazon.ask.smapi.model.v1.skill.betaTest.testers.TestersList testersRequest) {
+        return ServiceFutures.fromCall(() -> callRemoveTestersFromBetaTestV1(skillId, testersRequest));
+    }
+
 
     void requestFeedbackFromTestersV1(String skillId, com.amazon.ask.smapi.model.v1.skill.betaTest.testers.TestersList testersRequest) throws ServiceException;
 
     ApiResponse<Void> callRequestFeedbackFromTestersV1(String skillId, com.amazon.ask.smapi.model.v1.skill.betaTest.testers.TestersList testersRequest) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callRequestFeedbackFromTestersV1Async(String skillId, com.amazon.ask.smapi.model.v1.skill.betaTest.testers.TestersList testersRequest) {
+        return ServiceFutures.fromCall(() -> callRequestFeedbackFromTestersV1(skillId, testersRequest));
+    }
+
 
     void sendReminderToTestersV1(String skillId, com.amazon.ask.smapi.model.v1.skill.betaTest.testers.TestersList testersRequest) throws ServiceException;
 
     ApiResponse<Void> callSendReminderToTestersV1(String skillId, com.amazon.ask.smapi.model.v1.skill.betaTest.testers.TestersList testersRequest) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callSendReminderToTestersV1Async(String skillId, com.amazon.ask.smapi.model.v1.skill.betaTest.testers.TestersList testersRequest) {
+        return ServiceFutures.fromCall(() -> callSendReminderToTestersV1(skillId, testersRequest));
+    }
+
 
     com.amazon.ask.smapi.model.v1.skill.certification.CertificationResponse getCertificationReviewV1(String skillId, String certificationId, String acceptLanguage) throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.skill.certification.CertificationResponse> callGetCertificationReviewV1(String skillId, String certificationId, String acceptLanguage) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.certification.CertificationResponse>> callGetCertificationReviewV1Async(String skillId, String certificationId, String acceptLanguage) {
+        return ServiceFutures.fromCall(() -> callGetCertificationReviewV1(skillId, certificationId, acceptLanguage));
+    }
+
 
     com.amazon.ask.smapi.model.v1.skill.certification.ListCertificationsResponse getCertificationsListV1(String skillId, String nextToken, BigDecimal maxResults) throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.skill.certification.ListCertificationsResponse> callGetCertificationsListV1(String skillId, String nextToken, BigDecimal maxResults) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.certification.ListCertificationsResponse>> callGetCertificationsListV1Async(String skillId, String nextToken, BigDecimal maxResults) {
+        return ServiceFutures.fromCall(() -> callGetCertificationsListV1(skillId, nextToken, maxResults));
+    }
+
 
     void deleteSkillV1(String skillId) throws ServiceException;
 
     ApiResponse<Void> callDeleteSkillV1(String skillId) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callDeleteSkillV1Async(String skillId) {
+        return ServiceFutures.fromCall(() -> callDeleteSkillV1(skillId));
+    }
+
 
     com.amazon.ask.smapi.model.v1.skill.history.IntentRequests getUtteranceDataV1(String skillId, String nextToken, BigDecimal maxResults, String sortDirection, String sortField, List<com.amazon.ask.smapi.model.v1.StageType> stage, List<com.amazon.ask.smapi.model.v1.skill.history.LocaleInQuery> locale, List<com.amazon.ask.smapi.model.v1.skill.history.DialogActName> dialogActName, List<com.amazon.ask.smapi.model.v1.skill.history.IntentConfidenceBin> intentConfidenceBin, List<String> intentName, List<String> intentSlotsName, List<com.amazon.ask.smapi.model.v1.skill.history.InteractionType> interactionType, List<com.amazon.ask.smapi.model.v1.skill.history.PublicationStatus> publicationStatus, List<String> utteranceText) throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.skill.history.IntentRequests> callGetUtteranceDataV1(String skillId, String nextToken, BigDecimal maxResults, String sortDirection, String sortField, List<com.amazon.ask.smapi.model.v1.StageType> stage, List<com.amazon.ask.smapi.model.v1.skill.history.LocaleInQuery> locale, List<com.amazon.ask.smapi.model.v1.skill.history.DialogActName> dialogActName, List<com.amazon.ask.smapi.model.v1.skill.history.IntentConfidenceBin> intentConfidenceBin, List<String> intentName, List<String> intentSlotsName, List<com.amazon.ask.smapi.model.v1.skill.history.InteractionType> interactionType, List<com.amazon.ask.smapi.model.v1.skill.history.PublicationStatus> publicationStatus, List<String> utteranceText) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.history.IntentRequests>> callGetUtteranceDataV1Async(String skillId, String nextToken, BigDecimal maxResults, String sortDirection, String sortField, List<com.amazon.ask.smapi.model.v1.StageType> stage, List<com.amazon.ask.smapi.model.v1.skill.history.LocaleInQuery> locale, List<com.amazon.ask.smapi.model.v1.skill.history.DialogActName> dialogActName, List<com.amazon.ask.smapi.model.v1.skill.history.IntentConfidenceBin> intentConfidenceBin, List<String> intentName, List<String> intentSlotsName, List<com.amazon.ask.smapi.model.v1.skill.history.InteractionType> interactionType, List<com.amazon.ask.smapi.model.v1.skill.history.PublicationStatus> publicationStatus, List<String> utteranceText) {
+        return ServiceFutures.fromCall(() -> callGetUtteranceDataV1(skillId, nextToken, maxResults, sortDirection, sortField, stage, locale, dialogActName, intentConfidenceBin, intentName, intentSlotsName, interactionType, publicationStatus, utteranceText));
+    }
+
 
     void importSkillPackageV1(com.amazon.ask.smapi.model.v1.skill.UpdateSkillWithPackageRequest updateSkillWithPackageRequest, String skillId, String ifMatch) throws ServiceException;
 
     ApiResponse<Void> callImportSkillPackageV1(com.amazon.ask.smapi.model.v1.skill.UpdateSkillWithPackageRequest updateSkillWithPackageRequest, String skillId, String ifMatch) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callImportSkillPackageV1Async(com.amazon.ask.smapi.model.v1.skill.UpdateSkillWithPackageRequest updateSkillWithPackageRequest, String skillId, String ifMatch) {
+        return ServiceFutures.fromCall(() -> callImportSkillPackageV1(updateSkillWithPackageRequest, skillId, ifMatch));
+    }
+
 
     com.amazon.ask.smapi.model.v1.skill.metrics.GetMetricDataResponse getSkillMetricsV1(String skillId, OffsetDateTime startTime, OffsetDateTime endTime, String period, String metric, String stage, String skillType, String intent, String locale, BigDecimal maxResults, String nextToken) throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.skill.metrics.GetMetricDataResponse> callGetSkillMetricsV1(String skillId, OffsetDateTime startTime, OffsetDateTime endTime, String period, String metric, String stage, String skillType, String intent, String locale, BigDecimal maxResults, String nextToken) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.metrics.GetMetricDataResponse>> callGetSkillMetricsV1Async(String skillId, OffsetDateTime startTime, OffsetDateTime endTime, String period, String metric, String stage, String skillType, String intent, String locale, BigDecimal maxResults, String nextToken) {
+        return ServiceFutures.fromCall(() -> callGetSkillMetricsV1(skillId, startTime, endTime, period, metric, stage, skillType, intent, locale, maxResults, nextToken));
+    }
+
 
     com.amazon.ask.smapi.model.v1.skill.simulations.SimulationsApiResponse simulateSkillV1(String skillId, com.amazon.ask.smapi.model.v1.skill.simulations.SimulationsApiRequest simulationsApiRequest) throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.skill.simulations.SimulationsApiResponse> callSimulateSkillV1(String skillId, com.amazon.ask.smapi.model.v1.skill.simulations.SimulationsApiRequest simulationsApiRequest) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.simulations.SimulationsApiResponse>> callSimulateSkillV1Async(String skillId, com.amazon.ask.smapi.model.v1.skill.simulations.SimulationsApiRequest simulationsApiRequest) {
+        return ServiceFutures.fromCall(() -> callSimulateSkillV1(skillId, simulationsApiRequest));
+    }
+
 
     com.amazon.ask.smapi.model.v1.skill.simulations.SimulationsApiResponse getSkillSimulationV1(String skillId, String simulationId) throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.skill.simulations.SimulationsApiResponse> callGetSkillSimulationV1(String skillId, String simulationId) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.simulations.SimulationsApiResponse>> callGetSkillSimulationV1Async(String skillId, String simulationId) {
+        return ServiceFutures.fromCall(() -> callGetSkillSimulationV1(skillId, simulationId));
+    }
+
 
     com.amazon.ask.smapi.model.v1.skill.SSLCertificatePayload getSSLCertificatesV1(String skillId) throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.skill.SSLCertificatePayload> callGetSSLCertificatesV1(String skillId) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.SSLCertificatePayload>> callGetSSLCertificatesV1Async(String skillId) {
+        return ServiceFutures.fromCall(() -> callGetSSLCertificatesV1(skillId));
+    }
+
 
     void setSSLCertificatesV1(String skillId, com.amazon.ask.smapi.model.v1.skill.SSLCertificatePayload sslCertificatePayload) throws ServiceException;
 
     ApiResponse<Void> callSetSSLCertificatesV1(String skillId, com.amazon.ask.smapi.model.v1.skill.SSLCertificatePayload sslCertificatePayload) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callSetSSLCertificatesV1Async(String skillId, com.amazon.ask.smapi.model.v1.skill.SSLCertificatePayload sslCertificatePayload) {
+        return ServiceFutures.fromCall(() -> callSetSSLCertificatesV1(skillId, sslCertificatePayload));
+    }
+
 
     void deleteSkillEnablementV1(String skillId, String stage) throws ServiceException;
 
     ApiResponse<Void> callDeleteSkillEnablementV1(String skillId, String stage) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callDeleteSkillEnablementV1Async(String skillId, String stage) {
+        return ServiceFutures.fromCall(() -> callDeleteSkillEnablementV1(skillId, stage));
+    }
+
 
     void getSkillEnablementStatusV1(String skillId, String stage) throws ServiceException;
 
     ApiResponse<Void> callGetSkillEnablementStatusV1(String skillId, String stage) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callGetSkillEnablementStatusV1Async(String skillId, String stage) {
+        return ServiceFutures.fromCall(() -> callGetSkillEnablementStatusV1(skillId, stage));
+    }
+
 
     void setSkillEnablementV1(String skillId, String stage) throws ServiceException;
 
     ApiResponse<Void> callSetSkillEnablementV1(String skillId, String stage) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callSetSkillEnablementV1Async(String skillId, String stage) {
+        return ServiceFutures.fromCall(() -> callSetSkillEnablementV1(skillId, stage));
+    }
+
 
     void createExportRequestForSkillV1(String skillId, String stage) throws ServiceException;
 
     ApiResponse<Void> callCreateExportRequestForSkillV1(String skillId, String stage) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callCreateExportRequestForSkillV1Async(String skillId, String stage) {
+        return ServiceFutures.fromCall(() -> callCreateExportRequestForSkillV1(skillId, stage));
+    }
+
 
     com.amazon.ask.smapi.model.v1.isp.ListInSkillProductResponse getIspListForSkillIdV1(String skillId, String stage, String nextToken, BigDecimal maxResults) throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.isp.ListInSkillProductResponse> callGetIspListForSkillIdV1(String skillId, String stage, String nextToken, BigDecimal maxResults) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.isp.ListInSkillProductResponse>> callGetIspListForSkillIdV1Async(String skillId, String stage, String nextToken, BigDecimal maxResults) {
+        return ServiceFutures.fromCall(() -> callGetIspListForSkillIdV1(skillId, stage, nextToken, maxResults));
+    }
+
 
     com.amazon.ask.smapi.model.v1.skill.evaluations.ProfileNluResponse profileNluV1(com.amazon.ask.smapi.model.v1.skill.evaluations.ProfileNluRequest profileNluRequest, String skillId, String stage, String locale) throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.skill.evaluations.ProfileNluResponse> callProfileNluV1(com.amazon.ask.smapi.model.v1.skill.evaluations.ProfileNluRequest profileNluRequest, String skillId, String stage, String locale) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.evaluations.ProfileNluResponse>> callProfileNluV1Async(com.amazon.ask.smapi.model.v1.skill.evaluations.ProfileNluRequest profileNluRequest, String skillId, String stage, String locale) {
+        return ServiceFutures.fromCall(() -> callProfileNluV1(profileNluRequest, skillId, stage, locale));
+    }
+
 
     com.amazon.ask.smapi.model.v1.skill.Private.ListPrivateDistributionAccountsResponse listPrivateDistributionAccountsV1(String skillId, String stage, String nextToken, BigDecimal maxResults) throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.skill.Private.ListPrivateDistributionAccountsResponse> callListPrivateDistributionAccountsV1(String skillId, String stage, String nextToken, BigDecimal maxResults) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.Private.ListPrivateDistributionAccountsResponse>> callListPrivateDistributionAccountsV1Async(String skillId, String stage, String nextToken, BigDecimal maxResults) {
+        return ServiceFutures.fromCall(() -> callListPrivateDistributionAccountsV1(skillId, stage, nextToken, maxResults));
+    }
+
 
     void deletePrivateDistributionAccountIdV1(String skillId, String stage, String id) throws ServiceException;
 
     ApiResponse<Void> callDeletePrivateDistributionAccountIdV1(String skillId, String stage, String id) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callDeletePrivateDistributionAccountIdV1Async(String skillId, String stage, String id) {
+        return ServiceFutures.fromCall(() -> callDeletePrivateDistributionAccountIdV1(skillId, stage, id));
+    }
+
 
     void setPrivateDistributionAccountIdV1(String skillId, String stage, String id) throws ServiceException;
 
     ApiResponse<Void> callSetPrivateDistributionAccountIdV1(String skillId, String stage, String id) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callSetPrivateDistributionAccountIdV1Async(String skillId, String stage, String id) {
+        return ServiceFutures.fromCall(() -> callSetPrivateDistributionAccountIdV1(skillId, stage, id));
+    }
+
 
     void deleteAccountLinkingInfoV1(String skillId, String stageV2) throws ServiceException;
 
     ApiResponse<Void> callDeleteAccountLinkingInfoV1(String skillId, String stageV2) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callDeleteAccountLinkingInfoV1Async(String skillId, String stageV2) {
+        return ServiceFutures.fromCall(() -> callDeleteAccountLinkingInfoV1(skillId, stageV2));
+    }
+
 
     com.amazon.ask.smapi.model.v1.skill.accountLinking.AccountLinkingResponse getAccountLinkingInfoV1(String skillId, String stageV2) throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.skill.accountLinking.AccountLinkingResponse> callGetAccountLinkingInfoV1(String skillId, String stageV2) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.accountLinking.AccountLinkingResponse>> callGetAccountLinkingInfoV1Async(String skillId, String stageV2) {
+        return ServiceFutures.fromCall(() -> callGetAccountLinkingInfoV1(skillId, stageV2));
+    }
+
 
     void updateAccountLinkingInfoV1(String skillId, String stageV2, com.amazon.ask.smapi.model.v1.skill.accountLinking.AccountLinkingRequest accountLinkingRequest, String ifMatch) throws ServiceException;
 
     ApiResponse<Void> callUpdateAccountLinkingInfoV1(String skillId, String stageV2, com.amazon.ask.smapi.model.v1.skill.accountLinking.AccountLinkingRequest accountLinkingRequest, String ifMatch) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callUpdateAccountLinkingInfoV1Async(String skillId, String stageV2, com.amazon.ask.smapi.model.v1.skill.accountLinking.AccountLinkingRequest accountLinkingRequest, String ifMatch) {
+        return ServiceFutures.fromCall(() -> callUpdateAccountLinkingInfoV1(skillId, stageV2, accountLinkingRequest, ifMatch));
+    }
+
 
     com.amazon.ask.smapi.model.v1.skill.interactionModel.InteractionModelData getInteractionModelV1(String skillId, String stageV2, String locale) throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.skill.interactionModel.InteractionModelData> callGetInteractionModelV1(String skillId, String stageV2, String locale) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.interactionModel.InteractionModelData>> callGetInteractionModelV1Async(String skillId, String stageV2, String locale) {
+        return ServiceFutures.fromCall(() -> callGetInteractionModelV1(skillId, stageV2, locale));
+    }
+
 
     void getInteractionModelMetadataV1(String skillId, String stageV2, String locale) throws ServiceException;
 
     ApiResponse<Void> callGetInteractionModelMetadataV1(String skillId, String stageV2, String locale) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callGetInteractionModelMetadataV1Async(String skillId, String stageV2, String locale) {
+        return ServiceFutures.fromCall(() -> callGetInteractionModelMetadataV1(skillId, stageV2, locale));
+    }
+
 
     void setInteractionModelV1(String skillId, String stageV2, String locale, com.amazon.ask.smapi.model.v1.skill.interactionModel.InteractionModelData interactionModel, String ifMatch) throws ServiceException;
 
     ApiResponse<Void> callSetInteractionModelV1(String skillId, String stageV2, String locale, com.amazon.ask.smapi.model.v1.skill.interactionModel.InteractionModelData interactionModel, String ifMatch) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callSetInteractionModelV1Async(String skillId, String stageV2, String locale, com.amazon.ask.smapi.model.v1.skill.interactionModel.InteractionModelData interactionModel, String ifMatch) {
+        return ServiceFutures.fromCall(() -> callSetInteractionModelV1(skillId, stageV2, locale, interactionModel, ifMatch));
+    }
+
 
     com.amazon.ask.smapi.model.v1.skill.interactionModel.version.ListResponse listInteractionModelVersionsV1(String skillId, String stageV2, String locale, String nextToken, BigDecimal maxResults, String sortDirection, String sortField) throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.skill.interactionModel.version.ListResponse> callListInteractionModelVersionsV1(String skillId, String stageV2, String locale, String nextToken, BigDecimal maxResults, String sortDirection, String sortField) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.interactionModel.version.ListResponse>> callListInteractionModelVersionsV1Async(String skillId, String stageV2, String locale, String nextToken, BigDecimal maxResults, String sortDirection, String sortField) {
+        return ServiceFutures.fromCall(() -> callListInteractionModelVersionsV1(skillId, stageV2, locale, nextToken, maxResults, sortDirection, sortField));
+    }
+
 
     com.amazon.ask.smapi.model.v1.skill.interactionModel.InteractionModelData getInteractionModelVersionV1(String skillId, String stageV2, String locale, String version) throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.skill.interactionModel.InteractionModelData> callGetInteractionModelVersionV1(String skillId, String stageV2, String locale, String version) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.interactionModel.InteractionModelData>> callGetInteractionModelVersionV1Async(String skillId, String stageV2, String locale, String version) {
+        return ServiceFutures.fromCall(() -> callGetInteractionModelVersionV1(skillId, stageV2, locale, version));
+    }
+
 
     com.amazon.ask.smapi.model.v1.skill.Manifest.SkillManifestEnvelope getSkillManifestV1(String skillId, String stageV2) throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.skill.Manifest.SkillManifestEnvelope> callGetSkillManifestV1(String skillId, String stageV2) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.Manifest.SkillManifestEnvelope>> callGetSkillManifestV1Async(String skillId, String stageV2) {
+        return ServiceFutures.fromCall(() -> callGetSkillManifestV1(skillId, stageV2));
+    }
+
 
     void updateSkillManifestV1(String skillId, String stageV2, com.amazon.ask.smapi.model.v1.skill.Manifest.SkillManifestEnvelope updateSkillRequest, String ifMatch) throws ServiceException;
 
     ApiResponse<Void> callUpdateSkillManifestV1(String skillId, String stageV2, com.amazon.ask.smapi.model.v1.skill.Manifest.SkillManifestEnvelope updateSkillRequest, String ifMatch) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callUpdateSkillManifestV1Async(String skillId, String stageV2, com.amazon.ask.smapi.model.v1.skill.Manifest.SkillManifestEnvelope updateSkillRequest, String ifMatch) {
+        return ServiceFutures.fromCall(() -> callUpdateSkillManifestV1(skillId, stageV2, updateSkillRequest, ifMatch));
+    }
+
 
     com.amazon.ask.smapi.model.v1.skill.validations.ValidationsApiResponse submitSkillValidationV1(com.amazon.ask.smapi.model.v1.skill.validations.ValidationsApiRequest validationsApiRequest, String skillId, String stage) throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.skill.validations.ValidationsApiResponse> callSubmitSkillValidationV1(com.amazon.ask.smapi.model.v1.skill.validations.ValidationsApiRequest validationsApiRequest, String skillId, String stage) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.validations.ValidationsApiResponse>> callSubmitSkillValidationV1Async(com.amazon.ask.smapi.model.v1.skill.validations.ValidationsApiRequest validationsApiRequest, String skillId, String stage) {
+        return ServiceFutures.fromCall(() -> callSubmitSkillValidationV1(validationsApiRequest, skillId, stage));
+    }
+
 
     com.amazon.ask.smapi.model.v1.skill.validations.ValidationsApiResponse getSkillValidationsV1(String skillId, String validationId, String stage, String acceptLanguage) throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.skill.validations.ValidationsApiResponse> callGetSkillValidationsV1(String skillId, String validationId, String stage, String acceptLanguage) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.validations.ValidationsApiResponse>> callGetSkillValidationsV1Async(String skillId, String validationId, String stage, String acceptLanguage) {
+        return ServiceFutures.fromCall(() -> callGetSkillValidationsV1(skillId, validationId, stage, acceptLanguage));
+    }
+
 
     com.amazon.ask.smapi.model.v1.skill.SkillStatus getSkillStatusV1(String skillId, String resource) throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.skill.SkillStatus> callGetSkillStatusV1(String skillId, String resource) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.SkillStatus>> callGetSkillStatusV1Async(String skillId, String resource) {
+        return ServiceFutures.fromCall(() -> callGetSkillStatusV1(skillId, resource));
+    }
+
 
     void submitSkillForCertificationV1(String skillId, com.amazon.ask.smapi.model.v1.skill.SubmitSkillForCertificationRequest submitSkillForCertificationRequest) throws ServiceException;
 
     ApiResponse<Void> callSubmitSkillForCertificationV1(String skillId, com.amazon.ask.smapi.model.v1.skill.SubmitSkillForCertificationRequest submitSkillForCertificationRequest) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callSubmitSkillForCertificationV1Async(String skillId, com.amazon.ask.smapi.model.v1.skill.SubmitSkillForCertificationRequest submitSkillForCertificationRequest) {
+        return ServiceFutures.fromCall(() -> callSubmitSkillForCertificationV1(skillId, submitSkillForCertificationRequest));
+    }
+
 
     void withdrawSkillFromCertificationV1(String skillId, com.amazon.ask.smapi.model.v1.skill.WithdrawRequest withdrawRequest) throws ServiceException;
 
     ApiResponse<Void> callWithdrawSkillFromCertificationV1(String skillId, com.amazon.ask.smapi.model.v1.skill.WithdrawRequest withdrawRequest) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<Void>> callWithdrawSkillFromCertificationV1Async(String skillId, com.amazon.ask.smapi.model.v1.skill.WithdrawRequest withdrawRequest) {
+        return ServiceFutures.fromCall(() -> callWithdrawSkillFromCertificationV1(skillId, withdrawRequest));
+    }
+
 
     com.amazon.ask.smapi.model.v1.skill.UploadResponse createUploadUrlV1() throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.skill.UploadResponse> callCreateUploadUrlV1() throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.UploadResponse>> callCreateUploadUrlV1Async() {
+        return ServiceFutures.fromCall(() -> callCreateUploadUrlV1());
+    }
+
 
     com.amazon.ask.smapi.model.v1.vendorManagement.Vendors getVendorListV1() throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.vendorManagement.Vendors> callGetVendorListV1() throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.vendorManagement.Vendors>> callGetVendorListV1Async() {
+        return ServiceFutures.fromCall(() -> callGetVendorListV1());
+    }
+
 
     com.amazon.ask.smapi.model.v1.skill.AlexaHosted.HostedSkillPermission getAlexaHostedSkillUserPermissionsV1(String vendorId, String permission) throws ServiceException;
 
     ApiResponse<com.amazon.ask.smapi.model.v1.skill.AlexaHosted.HostedSkillPermission> callGetAlexaHostedSkillUserPermissionsV1(String vendorId, String permission) throws ServiceException;
 
+    default CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.AlexaHosted.HostedSkillPermission>> callGetAlexaHostedSkillUserPermissionsV1Async(String vendorId, String permission) {
+        return ServiceFutures.fromCall(() -> callGetAlexaHostedSkillUserPermissionsV1(vendorId, permission));
+    }
+
 }
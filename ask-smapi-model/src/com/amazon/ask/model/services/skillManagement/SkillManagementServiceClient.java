@@ -21,7 +21,9 @@ import java.math.BigDecimal;
 import java.time.OffsetDateTime;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.Map;
 import java.util.HashMap;
 
@@ -29,6 +31,959 @@ import java.util.HashMap;
 
 public class SkillManagementServiceClient extends BaseServiceClient implements SkillManagementService {
 
+  private static final OperationDescriptor<Void> CREATE_CATALOG_UPLOAD_V1 = OperationDescriptor
+      .builder("POST", "/v1/catalogs/{catalogId}/uploads", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 202, "Accepted")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "The resource being requested is not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId. ")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.catalog.upload.GetContentUploadResponse> GET_CONTENT_UPLOAD_BY_ID_V1 = OperationDescriptor
+      .builder("GET", "/v1/catalogs/{catalogId}/uploads/{uploadId}", com.amazon.ask.smapi.model.v1.catalog.upload.GetContentUploadResponse.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.catalog.upload.GetContentUploadResponse.class, 200, "successful operation")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "The resource being requested is not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId. ")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.catalog.CreateContentUploadUrlResponse> GENERATE_CATALOG_UPLOAD_URL_V1 = OperationDescriptor
+      .builder("POST", "/v1/catalogs/{catalogId}/urls", com.amazon.ask.smapi.model.v1.catalog.CreateContentUploadUrlResponse.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.catalog.CreateContentUploadUrlResponse.class, 201, "Successful operation.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "The resource being requested is not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.isp.ListInSkillProductResponse> GET_ISP_LIST_FOR_VENDOR_V1 = OperationDescriptor
+      .builder("GET", "/v1/inSkillProducts", com.amazon.ask.smapi.model.v1.isp.ListInSkillProductResponse.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.isp.ListInSkillProductResponse.class, 200, "Response contains list of in-skill products for the specified vendor and stage.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Bad request. Returned when a required parameter is not present, badly formatted. ")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Too many requests received.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.isp.ProductResponse> CREATE_ISP_FOR_VENDOR_V1 = OperationDescriptor
+      .builder("POST", "/v1/inSkillProducts", com.amazon.ask.smapi.model.v1.isp.ProductResponse.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.isp.ProductResponse.class, 201, "Success.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Bad request. Returned when a required parameter is not present, badly formatted. ")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Too many requests received.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error")
+      .build();
+
+  private static final OperationDescriptor<Void> DISASSOCIATE_ISP_WITH_SKILL_V1 = OperationDescriptor
+      .builder("DELETE", "/v1/inSkillProducts/{productId}/skills/{skillId}", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 204, "Success. No content.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Bad request. Returned when a required parameter is not present, badly formatted. ")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "Request is forbidden.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "Requested resource not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Too many requests received.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error")
+      .build();
+
+  private static final OperationDescriptor<Void> ASSOCIATE_ISP_WITH_SKILL_V1 = OperationDescriptor
+      .builder("PUT", "/v1/inSkillProducts/{productId}/skills/{skillId}", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 204, "Success. No content.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Bad request. Returned when a required parameter is not present, badly formatted. ")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "Request is forbidden.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "Requested resource not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Too many requests received.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error")
+      .build();
+
+  private static final OperationDescriptor<Void> DELETE_ISP_FOR_PRODUCT_V1 = OperationDescriptor
+      .builder("DELETE", "/v1/inSkillProducts/{productId}/stages/{stage}", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 204, "Success. No content.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Bad request. Returned when a required parameter is not present, badly formatted. ")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "Request is forbidden.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "Requested resource not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 412, "Precondition failed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Too many requests received.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error")
+      .build();
+
+  private static final OperationDescriptor<Void> RESET_ENTITLEMENT_FOR_PRODUCT_V1 = OperationDescriptor
+      .builder("DELETE", "/v1/inSkillProducts/{productId}/stages/{stage}/entitlement", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 204, "Success. No content.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Bad request. Returned when a required parameter is not present, badly formatted. ")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "Request is forbidden.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "Requested resource not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 412, "Precondition failed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Too many requests received.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.isp.InSkillProductDefinitionResponse> GET_ISP_DEFINITION_V1 = OperationDescriptor
+      .builder("GET", "/v1/inSkillProducts/{productId}/stages/{stage}", com.amazon.ask.smapi.model.v1.isp.InSkillProductDefinitionResponse.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.isp.InSkillProductDefinitionResponse.class, 200, "Response contains the latest version of an in-skill product for the specified stage.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Bad request. Returned when a required parameter is not present, badly formatted. ")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "Requested resource not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Too many requests received.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error")
+      .build();
+
+  private static final OperationDescriptor<Void> UPDATE_ISP_FOR_PRODUCT_V1 = OperationDescriptor
+      .builder("PUT", "/v1/inSkillProducts/{productId}/stages/{stage}", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 204, "Success.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Bad request. Returned when a required parameter is not present, badly formatted. ")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "Request is forbidden.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "Requested resource not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 412, "Precondition failed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Too many requests received.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.isp.AssociatedSkillResponse> GET_ISP_ASSOCIATED_SKILLS_V1 = OperationDescriptor
+      .builder("GET", "/v1/inSkillProducts/{productId}/stages/{stage}/skills", com.amazon.ask.smapi.model.v1.isp.AssociatedSkillResponse.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.isp.AssociatedSkillResponse.class, 200, "Returns skills associated with the in-skill product.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "Requested resource not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Too many requests received.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.isp.InSkillProductSummaryResponse> GET_ISP_SUMMARY_V1 = OperationDescriptor
+      .builder("GET", "/v1/inSkillProducts/{productId}/stages/{stage}/summary", com.amazon.ask.smapi.model.v1.isp.InSkillProductSummaryResponse.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.isp.InSkillProductSummaryResponse.class, 200, "Returns current in-skill product summary for productId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "Requested resource not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Too many requests received.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error")
+      .build();
+
+  private static final OperationDescriptor<Void> DELETE_INTERACTION_MODEL_CATALOG_V1 = OperationDescriptor
+      .builder("DELETE", "/v1/skills/api/custom/interactionModel/catalogs/{catalogId}", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 204, "No content; just confirm the catalog is deleted.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "The catalog cannot be deleted from reasons due to in-use by other entities.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "There is no catalog defined for the catalogId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.CatalogDefinitionOutput> GET_INTERACTION_MODEL_CATALOG_DEFINITION_V1 = OperationDescriptor
+      .builder("GET", "/v1/skills/api/custom/interactionModel/catalogs/{catalogId}", com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.CatalogDefinitionOutput.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.CatalogDefinitionOutput.class, 200, "the catalog definition")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "The catalog cannot be retrieved due to errors listed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "There is no catalog defined for the catalogId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<Void> UPDATE_INTERACTION_MODEL_CATALOG_V1 = OperationDescriptor
+      .builder("POST", "/v1/skills/api/custom/interactionModel/catalogs/{catalogId}/update", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 204, "No content, indicates the fields were successfully updated.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "There is no catalog defined for the catalogId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.CatalogStatus> GET_INTERACTION_MODEL_CATALOG_UPDATE_STATUS_V1 = OperationDescriptor
+      .builder("GET", "/v1/skills/api/custom/interactionModel/catalogs/{catalogId}/updateRequest/{updateRequestId}", com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.CatalogStatus.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.CatalogStatus.class, 200, "Returns the build status and error codes for the given catalogId")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "There is no catalog defined for the catalogId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<Void> CREATE_INTERACTION_MODEL_CATALOG_VERSION_V1 = OperationDescriptor
+      .builder("POST", "/v1/skills/api/custom/interactionModel/catalogs/{catalogId}/versions", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 202, "Returns update status location link on success.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error e.g. the catalog definition is invalid.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The specified catalog does not exist.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<Void> DELETE_INTERACTION_MODEL_CATALOG_VERSION_V1 = OperationDescriptor
+      .builder("DELETE", "/v1/skills/api/custom/interactionModel/catalogs/{catalogId}/versions/{version}", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 204, "No Content; Confirms that version is successfully deleted.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "There is no catalog version for this catalogId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.skill.interactionModel.version.CatalogVersionData> GET_INTERACTION_MODEL_CATALOG_VERSION_V1 = OperationDescriptor
+      .builder("GET", "/v1/skills/api/custom/interactionModel/catalogs/{catalogId}/versions/{version}", com.amazon.ask.smapi.model.v1.skill.interactionModel.version.CatalogVersionData.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.interactionModel.version.CatalogVersionData.class, 200, "Returns the catalog version metadata for the given catalogId and version.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "There is no catalog defined for the catalogId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<Void> UPDATE_INTERACTION_MODEL_CATALOG_VERSION_V1 = OperationDescriptor
+      .builder("POST", "/v1/skills/api/custom/interactionModel/catalogs/{catalogId}/versions/{version}/update", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 204, "No Content; Confirms that version is successfully updated.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "There is no catalog defined for the catalogId")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.skill.interactionModel.version.CatalogValues> GET_INTERACTION_MODEL_CATALOG_VALUES_V1 = OperationDescriptor
+      .builder("GET", "/v1/skills/api/custom/interactionModel/catalogs/{catalogId}/versions/{version}/values", com.amazon.ask.smapi.model.v1.skill.interactionModel.version.CatalogValues.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.interactionModel.version.CatalogValues.class, 200, "Returns list of catalog values for the given catalogId and version.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "There is no catalog defined for the catalogId")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.ListCatalogResponse> LIST_INTERACTION_MODEL_CATALOGS_V1 = OperationDescriptor
+      .builder("GET", "/v1/skills/api/custom/interactionModel/catalogs", com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.ListCatalogResponse.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.ListCatalogResponse.class, 200, "Returns list of catalogs for the vendor.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "There is no catalog defined for the catalogId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.CatalogResponse> CREATE_INTERACTION_MODEL_CATALOG_V1 = OperationDescriptor
+      .builder("POST", "/v1/skills/api/custom/interactionModel/catalogs", com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.CatalogResponse.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.CatalogResponse.class, 200, "Returns the generated catalogId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error e.g. the catalog definition is invalid.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 412, "Precondition failed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.skill.ExportResponse> GET_STATUS_OF_EXPORT_REQUEST_V1 = OperationDescriptor
+      .builder("GET", "/v1/skills/exports/{exportId}", com.amazon.ask.smapi.model.v1.skill.ExportResponse.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.ExportResponse.class, 200, "OK.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.skill.ListSkillResponse> LIST_SKILLS_FOR_VENDOR_V1 = OperationDescriptor
+      .builder("GET", "/v1/skills", com.amazon.ask.smapi.model.v1.skill.ListSkillResponse.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.ListSkillResponse.class, 200, "Returns list of skills for the vendor.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.skill.ImportResponse> GET_IMPORT_STATUS_V1 = OperationDescriptor
+      .builder("GET", "/v1/skills/imports/{importId}", com.amazon.ask.smapi.model.v1.skill.ImportResponse.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.ImportResponse.class, 200, "OK.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<Void> CREATE_SKILL_PACKAGE_V1 = OperationDescriptor
+      .builder("POST", "/v1/skills/imports", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 202, "Accepted.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 413, "Payload too large.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.skill.CreateSkillResponse> CREATE_SKILL_FOR_VENDOR_V1 = OperationDescriptor
+      .builder("POST", "/v1/skills", com.amazon.ask.smapi.model.v1.skill.CreateSkillResponse.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.CreateSkillResponse.class, 202, "Accepted; Returns a URL to track the status in 'Location' header.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.skill.AlexaHosted.HostedSkillMetadata> GET_ALEXA_HOSTED_SKILL_METADATA_V1 = OperationDescriptor
+      .builder("GET", "/v1/skills/{skillId}/alexaHosted", com.amazon.ask.smapi.model.v1.skill.AlexaHosted.HostedSkillMetadata.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.AlexaHosted.HostedSkillMetadata.class, 200, "response contains the Alexa hosted skill's metadata")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error e.g. Authorization Url is invalid")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.skill.AlexaHosted.HostedSkillRepositoryCredentialsList> GENERATE_CREDENTIALS_FOR_ALEXA_HOSTED_SKILL_V1 = OperationDescriptor
+      .builder("POST", "/v1/skills/{skillId}/alexaHosted/repository/credentials/generate", com.amazon.ask.smapi.model.v1.skill.AlexaHosted.HostedSkillRepositoryCredentialsList.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.AlexaHosted.HostedSkillRepositoryCredentialsList.class, 200, "Response contains the hosted skill repository credentials")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error e.g. Authorization Url is invalid")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<Void> END_BETA_TEST_V1 = OperationDescriptor
+      .builder("POST", "/v1/skills/{skillId}/betaTest/end", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 202, "Accept. Return a URL to track the resource in 'Location' header.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "The resource being requested is not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 409, "The request could not be completed due to a conflict with the current state of the target resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.skill.betaTest.BetaTest> GET_BETA_TEST_V1 = OperationDescriptor
+      .builder("GET", "/v1/skills/{skillId}/betaTest", com.amazon.ask.smapi.model.v1.skill.betaTest.BetaTest.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.betaTest.BetaTest.class, 200, "Success.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "The resource being requested is not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error.")
+      .build();
+
+  private static final OperationDescriptor<Void> CREATE_BETA_TEST_V1 = OperationDescriptor
+      .builder("POST", "/v1/skills/{skillId}/betaTest", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 204, "Success. Return a URL to track the resource in 'Location' header.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 400, "Server cannot process the request due to a client error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "The resource being requested is not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 409, "The request could not be completed due to a conflict with the current state of the target resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error.")
+      .build();
+
+  private static final OperationDescriptor<Void> UPDATE_BETA_TEST_V1 = OperationDescriptor
+      .builder("PUT", "/v1/skills/{skillId}/betaTest", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 204, "Success. No content.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "The resource being requested is not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error.")
+      .build();
+
+  private static final OperationDescriptor<Void> START_BETA_TEST_V1 = OperationDescriptor
+      .builder("POST", "/v1/skills/{skillId}/betaTest/start", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 202, "Accept. Return a URL to track the resource in 'Location' header.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "The resource being requested is not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 409, "The request could not be completed due to a conflict with the current state of the target resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error.")
+      .build();
+
+  private static final OperationDescriptor<Void> ADD_TESTERS_TO_BETA_TEST_V1 = OperationDescriptor
+      .builder("POST", "/v1/skills/{skillId}/betaTest/testers/add", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 204, "Success. No content.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "The resource being requested is not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.skill.betaTest.testers.ListTestersResponse> GET_LIST_OF_TESTERS_V1 = OperationDescriptor
+      .builder("GET", "/v1/skills/{skillId}/betaTest/testers", com.amazon.ask.smapi.model.v1.skill.betaTest.testers.ListTestersResponse.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.betaTest.testers.ListTestersResponse.class, 200, "Success.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Bad request.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "The resource being requested is not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error.")
+      .build();
+
+  private static final OperationDescriptor<Void> REMOVE_TESTERS_FROM_BETA_TEST_V1 = OperationDescriptor
+      .builder("POST", "/v1/skills/{skillId}/betaTest/testers/remove", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 204, "Success. No content.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "The resource being requested is not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error.")
+      .build();
+
+  private static final OperationDescriptor<Void> REQUEST_FEEDBACK_FROM_TESTERS_V1 = OperationDescriptor
+      .builder("POST", "/v1/skills/{skillId}/betaTest/testers/requestFeedback", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 204, "Success. No content.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "The resource being requested is not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 409, "The request could not be completed due to a conflict with the current state of the target resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error.")
+      .build();
+
+  private static final OperationDescriptor<Void> SEND_REMINDER_TO_TESTERS_V1 = OperationDescriptor
+      .builder("POST", "/v1/skills/{skillId}/betaTest/testers/sendReminder", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 204, "Success. No content.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "The resource being requested is not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 409, "The request could not be completed due to a conflict with the current state of the target resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.skill.certification.CertificationResponse> GET_CERTIFICATION_REVIEW_V1 = OperationDescriptor
+      .builder("GET", "/v1/skills/{skillId}/certifications/{certificationId}", com.amazon.ask.smapi.model.v1.skill.certification.CertificationResponse.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.certification.CertificationResponse.class, 200, "Successfully retrieved skill certification information.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "The resource being requested is not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Exceeded the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId. ")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.skill.certification.ListCertificationsResponse> GET_CERTIFICATIONS_LIST_V1 = OperationDescriptor
+      .builder("GET", "/v1/skills/{skillId}/certifications", com.amazon.ask.smapi.model.v1.skill.certification.ListCertificationsResponse.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.certification.ListCertificationsResponse.class, 200, "Returns list of certifications for the skillId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 400, "Server cannot process the request due to a client error e.g. if any request parameter is invalid like certification Id or pagination token etc. If the maxResults is not in the range of 1 to 50, it also qualifies for this error. ")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "The resource being requested is not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Exceeded the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId. ")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error.")
+      .build();
+
+  private static final OperationDescriptor<Void> DELETE_SKILL_V1 = OperationDescriptor
+      .builder("DELETE", "/v1/skills/{skillId}", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 204, "Success. No content.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.skill.history.IntentRequests> GET_UTTERANCE_DATA_V1 = OperationDescriptor
+      .builder("GET", "/v1/skills/{skillId}/history/intentRequests", com.amazon.ask.smapi.model.v1.skill.history.IntentRequests.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.history.IntentRequests.class, 200, "Returns a list of utterance items for the given skill.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Bad Request.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "Unauthorized.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "Skill Not Found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<Void> IMPORT_SKILL_PACKAGE_V1 = OperationDescriptor
+      .builder("POST", "/v1/skills/{skillId}/imports", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 202, "Accepted.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 409, "The request could not be completed due to a conflict with the current state of the target resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 413, "Payload too large.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.skill.metrics.GetMetricDataResponse> GET_SKILL_METRICS_V1 = OperationDescriptor
+      .builder("GET", "/v1/skills/{skillId}/metrics", com.amazon.ask.smapi.model.v1.skill.metrics.GetMetricDataResponse.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.metrics.GetMetricDataResponse.class, 200, "Get analytic metrics report successfully.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Bad request due to invalid or missing data.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 403, "The operation being requested is not allowed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.skill.simulations.SimulationsApiResponse> SIMULATE_SKILL_V1 = OperationDescriptor
+      .builder("POST", "/v1/skills/{skillId}/simulations", com.amazon.ask.smapi.model.v1.skill.simulations.SimulationsApiResponse.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.simulations.SimulationsApiResponse.class, 200, "Skill simulation has successfully began.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Bad request due to invalid or missing data.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "API user does not have permission to call this API or is currently in a state that does not allow simulation of this skill. ")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "The specified skill does not exist.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 409, "This requests conflicts with another one currently being processed. ")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "API user has exceeded the permitted request rate.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal service error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.skill.simulations.SimulationsApiResponse> GET_SKILL_SIMULATION_V1 = OperationDescriptor
+      .builder("GET", "/v1/skills/{skillId}/simulations/{simulationId}", com.amazon.ask.smapi.model.v1.skill.simulations.SimulationsApiResponse.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.simulations.SimulationsApiResponse.class, 200, "Successfully retrieved skill simulation information.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "API user does not have permission or is currently in a state that does not allow calls to this API. ")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "The specified skill or simulation does not exist. The error response will contain a description that indicates the specific resource type that was not found. ")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "API user has exceeded the permitted request rate.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal service error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.skill.SSLCertificatePayload> GET_SSLCERTIFICATES_V1 = OperationDescriptor
+      .builder("GET", "/v1/skills/{skillId}/sslCertificateSets/~latest", com.amazon.ask.smapi.model.v1.skill.SSLCertificatePayload.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.SSLCertificatePayload.class, 200, "Response contains the latest version of the ssl certificates.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<Void> SET_SSLCERTIFICATES_V1 = OperationDescriptor
+      .builder("PUT", "/v1/skills/{skillId}/sslCertificateSets/~latest", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 204, "Accepted; Request was successful and get will now result in the new values.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<Void> DELETE_SKILL_ENABLEMENT_V1 = OperationDescriptor
+      .builder("DELETE", "/v1/skills/{skillId}/stages/{stage}/enablement", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 204, "No Content; Confirms that enablement is successfully deleted.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 403, "The operation being requested is not allowed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<Void> GET_SKILL_ENABLEMENT_STATUS_V1 = OperationDescriptor
+      .builder("GET", "/v1/skills/{skillId}/stages/{stage}/enablement", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 204, "No Content; Confirms that enablement resource exists for given skillId &amp; stage.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 403, "The operation being requested is not allowed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<Void> SET_SKILL_ENABLEMENT_V1 = OperationDescriptor
+      .builder("PUT", "/v1/skills/{skillId}/stages/{stage}/enablement", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 204, "No Content; Confirms that enablement is successfully created/updated.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 403, "The operation being requested is not allowed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 409, "The request could not be completed due to a conflict with the current state of the target resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<Void> CREATE_EXPORT_REQUEST_FOR_SKILL_V1 = OperationDescriptor
+      .builder("POST", "/v1/skills/{skillId}/stages/{stage}/exports", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 202, "Accepted.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 409, "The request could not be completed due to a conflict with the current state of the target resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.isp.ListInSkillProductResponse> GET_ISP_LIST_FOR_SKILL_ID_V1 = OperationDescriptor
+      .builder("GET", "/v1/skills/{skillId}/stages/{stage}/inSkillProducts", com.amazon.ask.smapi.model.v1.isp.ListInSkillProductResponse.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.isp.ListInSkillProductResponse.class, 200, "Response contains list of in-skill products for the specified skillId and stage.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Bad request. Returned when a required parameter is not present, badly formatted. ")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "Requested resource not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Too many requests received.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.skill.evaluations.ProfileNluResponse> PROFILE_NLU_V1 = OperationDescriptor
+      .builder("POST", "/v1/skills/{skillId}/stages/{stage}/interactionModel/locales/{locale}/profileNlu", com.amazon.ask.smapi.model.v1.skill.evaluations.ProfileNluResponse.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.evaluations.ProfileNluResponse.class, 200, "Profiled utterance against interaction model and returned nlu response successfully.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Bad request due to invalid or missing data.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 409, "This requests conflicts with another one currently being processed. ")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "API user has exceeded the permitted request rate.")
+      .withResponse(null, 500, "Internal service error.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.skill.Private.ListPrivateDistributionAccountsResponse> LIST_PRIVATE_DISTRIBUTION_ACCOUNTS_V1 = OperationDescriptor
+      .builder("GET", "/v1/skills/{skillId}/stages/{stage}/privateDistributionAccounts", com.amazon.ask.smapi.model.v1.skill.Private.ListPrivateDistributionAccountsResponse.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.Private.ListPrivateDistributionAccountsResponse.class, 200, "Returns list of private distribution accounts on success.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<Void> DELETE_PRIVATE_DISTRIBUTION_ACCOUNT_ID_V1 = OperationDescriptor
+      .builder("DELETE", "/v1/skills/{skillId}/stages/{stage}/privateDistributionAccounts/{id}", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 204, "Success.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<Void> SET_PRIVATE_DISTRIBUTION_ACCOUNT_ID_V1 = OperationDescriptor
+      .builder("PUT", "/v1/skills/{skillId}/stages/{stage}/privateDistributionAccounts/{id}", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 204, "Success.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<Void> DELETE_ACCOUNT_LINKING_INFO_V1 = OperationDescriptor
+      .builder("DELETE", "/v1/skills/{skillId}/stages/{stageV2}/accountLinkingClient", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 204, "Success. No content.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The specified skill/stage/accountLinkingClient doesn't exist.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.skill.accountLinking.AccountLinkingResponse> GET_ACCOUNT_LINKING_INFO_V1 = OperationDescriptor
+      .builder("GET", "/v1/skills/{skillId}/stages/{stageV2}/accountLinkingClient", com.amazon.ask.smapi.model.v1.skill.accountLinking.AccountLinkingResponse.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.accountLinking.AccountLinkingResponse.class, 200, "Returns AccountLinking response of the skill.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<Void> UPDATE_ACCOUNT_LINKING_INFO_V1 = OperationDescriptor
+      .builder("PUT", "/v1/skills/{skillId}/stages/{stageV2}/accountLinkingClient", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 204, "Success")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error e.g. Authorization Url is invalid.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 412, "Precondition failed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.skill.interactionModel.InteractionModelData> GET_INTERACTION_MODEL_V1 = OperationDescriptor
+      .builder("GET", "/v1/skills/{skillId}/stages/{stageV2}/interactionModel/locales/{locale}", com.amazon.ask.smapi.model.v1.skill.interactionModel.InteractionModelData.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.interactionModel.InteractionModelData.class, 200, "Returns interaction model object on success")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The specified skill doesn't exist or there is no model defined for the locale.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<Void> GET_INTERACTION_MODEL_METADATA_V1 = OperationDescriptor
+      .builder("HEAD", "/v1/skills/{skillId}/stages/{stageV2}/interactionModel/locales/{locale}", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 204, "success. There is no content but returns etag")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The specified skill or stage or locale does not exist")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<Void> SET_INTERACTION_MODEL_V1 = OperationDescriptor
+      .builder("PUT", "/v1/skills/{skillId}/stages/{stageV2}/interactionModel/locales/{locale}", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 202, "Returns build status location link on success.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error e.g. the input interaction model is invalid")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The specified skill or stage or locale does not exist")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 412, "Precondition failed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.skill.interactionModel.version.ListResponse> LIST_INTERACTION_MODEL_VERSIONS_V1 = OperationDescriptor
+      .builder("GET", "/v1/skills/{skillId}/stages/{stageV2}/interactionModel/locales/{locale}/versions", com.amazon.ask.smapi.model.v1.skill.interactionModel.version.ListResponse.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.interactionModel.version.ListResponse.class, 200, "Returns list of interactionModel versions of a skill for the vendor.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error e.g. the input interaction model is invalid.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The specified skill doesn't exist or there is no model defined for the locale.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.skill.interactionModel.InteractionModelData> GET_INTERACTION_MODEL_VERSION_V1 = OperationDescriptor
+      .builder("GET", "/v1/skills/{skillId}/stages/{stageV2}/interactionModel/locales/{locale}/versions/{version}", com.amazon.ask.smapi.model.v1.skill.interactionModel.InteractionModelData.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.interactionModel.InteractionModelData.class, 200, "Returns interaction model object on success.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error e.g. the input interaction model is invalid.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The specified skill doesn't exist or there is no model defined for the locale or version.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.skill.Manifest.SkillManifestEnvelope> GET_SKILL_MANIFEST_V1 = OperationDescriptor
+      .builder("GET", "/v1/skills/{skillId}/stages/{stageV2}/manifest", com.amazon.ask.smapi.model.v1.skill.Manifest.SkillManifestEnvelope.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.Manifest.SkillManifestEnvelope.class, 200, "Response contains the latest version of skill manifest.")
+      .withResponse(null, 303, "See Other")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<Void> UPDATE_SKILL_MANIFEST_V1 = OperationDescriptor
+      .builder("PUT", "/v1/skills/{skillId}/stages/{stageV2}/manifest", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 202, "Accepted; Returns a URL to track the status in 'Location' header.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 409, "The request could not be completed due to a conflict with the current state of the target resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 412, "Precondition failed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.skill.validations.ValidationsApiResponse> SUBMIT_SKILL_VALIDATION_V1 = OperationDescriptor
+      .builder("POST", "/v1/skills/{skillId}/stages/{stage}/validations", com.amazon.ask.smapi.model.v1.skill.validations.ValidationsApiResponse.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.validations.ValidationsApiResponse.class, 202, "Skill validation has successfully begun.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "API user does not have permission or is currently in a state that does not allow calls to this API. ")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "The specified skill, stage or validation does not exist. The error response will contain a description that indicates the specific resource type that was not found. ")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 409, "This requests conflicts with another one currently being processed. ")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "API user has exceeded the permitted request rate.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal service error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.skill.validations.ValidationsApiResponse> GET_SKILL_VALIDATIONS_V1 = OperationDescriptor
+      .builder("GET", "/v1/skills/{skillId}/stages/{stage}/validations/{validationId}", com.amazon.ask.smapi.model.v1.skill.validations.ValidationsApiResponse.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.validations.ValidationsApiResponse.class, 200, "Successfully retrieved skill validation information.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "API user does not have permission or is currently in a state that does not allow calls to this API. ")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "The specified skill, stage, or validation does not exist. The error response will contain a description that indicates the specific resource type that was not found. ")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 409, "This requests conflicts with another one currently being processed. ")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "API user has exceeded the permitted request rate.")
+      .withResponse(null, 500, "Internal service error.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.skill.SkillStatus> GET_SKILL_STATUS_V1 = OperationDescriptor
+      .builder("GET", "/v1/skills/{skillId}/status", com.amazon.ask.smapi.model.v1.skill.SkillStatus.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.SkillStatus.class, 200, "Returns status for skill resource and sub-resources.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<Void> SUBMIT_SKILL_FOR_CERTIFICATION_V1 = OperationDescriptor
+      .builder("POST", "/v1/skills/{skillId}/submit", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 202, "Success. There is no content but returns Location in the header.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<Void> WITHDRAW_SKILL_FROM_CERTIFICATION_V1 = OperationDescriptor
+      .builder("POST", "/v1/skills/{skillId}/withdraw", Void.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(null, 204, "Success.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.skill.UploadResponse> CREATE_UPLOAD_URL_V1 = OperationDescriptor
+      .builder("POST", "/v1/skills/uploads", com.amazon.ask.smapi.model.v1.skill.UploadResponse.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.UploadResponse.class, 201, "Created.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.vendorManagement.Vendors> GET_VENDOR_LIST_V1 = OperationDescriptor
+      .builder("GET", "/v1/vendors", com.amazon.ask.smapi.model.v1.vendorManagement.Vendors.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.vendorManagement.Vendors.class, 200, "Return vendor information on success.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.Error.class, 503, "Service Unavailable.")
+      .build();
+
+  private static final OperationDescriptor<com.amazon.ask.smapi.model.v1.skill.AlexaHosted.HostedSkillPermission> GET_ALEXA_HOSTED_SKILL_USER_PERMISSIONS_V1 = OperationDescriptor
+      .builder("GET", "/v1/vendors/{vendorId}/alexaHosted/permissions/{permission}", com.amazon.ask.smapi.model.v1.skill.AlexaHosted.HostedSkillPermission.class)
+      .withHeader("Content-type", "application/json")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.AlexaHosted.HostedSkillPermission.class, 200, "response contains the user's permission of hosted skill features")
+      .withResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error e.g. Authorization Url is invalid")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error.")
+      .withResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable.")
+      .build();
+
   private final LwaClient lwaClient;
 
   public SkillManagementServiceClient(ApiConfiguration apiConfiguration, AuthenticationConfiguration authenticationConfiguration) {
@@ -56,29 +1011,16 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callCreateCatalogUploadV1(String catalogId, com.amazon.ask.smapi.model.v1.catalog.upload.CatalogUploadBase catalogUploadRequestBody) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("catalogId", catalogId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/catalogs/{catalogId}/uploads";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 202, "Accepted"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "The resource being requested is not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId. "));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("POST", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, catalogUploadRequestBody, null, false);
+    return this.executeRequest(CREATE_CATALOG_UPLOAD_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, catalogUploadRequestBody);
   }
 
   /**
@@ -92,6 +1034,26 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     this.callCreateCatalogUploadV1(catalogId, catalogUploadRequestBody).getResponse();
   }
 
+  /**
+   * Create new upload
+   * Create a new upload for a catalog and returns location to track the upload process.
+   * @param catalogId Unique identifier of the catalog (required)
+   * @param catalogUploadRequestBody Request body for create content upload (required)
+   */
+  public CompletableFuture<ApiResponse<Void>> callCreateCatalogUploadV1Async(String catalogId, com.amazon.ask.smapi.model.v1.catalog.upload.CatalogUploadBase catalogUploadRequestBody) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("catalogId", catalogId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(CREATE_CATALOG_UPLOAD_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, catalogUploadRequestBody);
+    });
+  }
+
   /**
    * Get upload
    * Gets detailed information about an upload which was created for a specific catalog. Includes the upload&#39;s ingestion steps and a url for downloading the file.
@@ -101,29 +1063,17 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.smapi.model.v1.catalog.upload.GetContentUploadResponse> callGetContentUploadByIdV1(String catalogId, String uploadId) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("catalogId", catalogId);
     pathParams.put("uploadId", uploadId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/catalogs/{catalogId}/uploads/{uploadId}";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.catalog.upload.GetContentUploadResponse.class, 200, "successful operation"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "The resource being requested is not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId. "));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.smapi.model.v1.catalog.upload.GetContentUploadResponse.class, false);
+    return this.executeRequest(GET_CONTENT_UPLOAD_BY_ID_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -138,6 +1088,28 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     return this.callGetContentUploadByIdV1(catalogId, uploadId).getResponse();
   }
 
+  /**
+   * Get upload
+   * Gets detailed information about an upload which was created for a specific catalog. Includes the upload&#39;s ingestion steps and a url for downloading the file.
+   * @param catalogId Unique identifier of the catalog (required)
+   * @param uploadId Unique identifier of the upload (required)
+   * @return com.amazon.ask.smapi.model.v1.catalog.upload.GetContentUploadResponse
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.catalog.upload.GetContentUploadResponse>> callGetContentUploadByIdV1Async(String catalogId, String uploadId) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("catalogId", catalogId);
+    pathParams.put("uploadId", uploadId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(GET_CONTENT_UPLOAD_BY_ID_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * 
    * Generate preSigned urls to upload data
@@ -147,29 +1119,16 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.smapi.model.v1.catalog.CreateContentUploadUrlResponse> callGenerateCatalogUploadUrlV1(String catalogId, com.amazon.ask.smapi.model.v1.catalog.CreateContentUploadUrlRequest generateCatalogUploadUrlRequestBody) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("catalogId", catalogId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/catalogs/{catalogId}/urls";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.catalog.CreateContentUploadUrlResponse.class, 201, "Successful operation."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "The resource being requested is not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("POST", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, generateCatalogUploadUrlRequestBody, com.amazon.ask.smapi.model.v1.catalog.CreateContentUploadUrlResponse.class, false);
+    return this.executeRequest(GENERATE_CATALOG_UPLOAD_URL_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, generateCatalogUploadUrlRequestBody);
   }
 
   /**
@@ -184,6 +1143,27 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     return this.callGenerateCatalogUploadUrlV1(catalogId, generateCatalogUploadUrlRequestBody).getResponse();
   }
 
+  /**
+   * 
+   * Generate preSigned urls to upload data
+   * @param catalogId Unique identifier of the catalog (required)
+   * @param generateCatalogUploadUrlRequestBody Request body to generate catalog upload url (required)
+   * @return com.amazon.ask.smapi.model.v1.catalog.CreateContentUploadUrlResponse
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.catalog.CreateContentUploadUrlResponse>> callGenerateCatalogUploadUrlV1Async(String catalogId, com.amazon.ask.smapi.model.v1.catalog.CreateContentUploadUrlRequest generateCatalogUploadUrlRequestBody) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("catalogId", catalogId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(GENERATE_CATALOG_UPLOAD_URL_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, generateCatalogUploadUrlRequestBody);
+    });
+  }
+
   /**
    * 
    * Get the list of in-skill products for the vendor.
@@ -239,24 +1219,14 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     if(isAssociatedWithSkill != null) {
     queryParams.add(new Pair<String, String>("isAssociatedWithSkill", isAssociatedWithSkill));
   }
-    Map<String, String> pathParams = new HashMap<String, String>();
+    Map<String, String> pathParams = Collections.emptyMap();
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/inSkillProducts";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.isp.ListInSkillProductResponse.class, 200, "Response contains list of in-skill products for the specified vendor and stage."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Bad request. Returned when a required parameter is not present, badly formatted. "));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Too many requests received."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error"));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.smapi.model.v1.isp.ListInSkillProductResponse.class, false);
+    return this.executeRequest(GET_ISP_LIST_FOR_VENDOR_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -278,6 +1248,71 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     return this.callGetIspListForVendorV1(vendorId, nextToken, maxResults, productId, stage, type, referenceName, status, isAssociatedWithSkill).getResponse();
   }
 
+  /**
+   * 
+   * Get the list of in-skill products for the vendor.
+   * @param vendorId The vendor ID. (required)
+   * @param nextToken When response to this API call is truncated (that is, isTruncated response element value is true), the response also includes the nextToken element. The value of nextToken can be used in the next request as the continuation-token to list the next set of objects. The continuation token is an opaque value that Skill Management API understands. Token has expiry of 24 hours. (optional)
+   * @param maxResults Sets the maximum number of results returned in the response body. If you want to retrieve fewer than upper limit of 50 results, you can add this parameter to your request. maxResults should not exceed the upper limit. The response might contain fewer results than maxResults, but it will never contain more. If there are additional results that satisfy the search criteria, but these results were not returned, the response contains isTruncated &#x3D; true. (optional)
+   * @param productId The list of in-skill product IDs that you wish to get the summary for. A maximum of 50 in-skill product IDs can be specified in a single listInSkillProducts call. Please note that this parameter must not be used with &#39;nextToken&#39; and/or &#39;maxResults&#39; parameter. (optional)
+   * @param stage Filter in-skill products by specified stage. (optional)
+   * @param type Type of in-skill product to filter on. (optional)
+   * @param referenceName Filter in-skill products by reference name. (optional)
+   * @param status Status of in-skill product. (optional)
+   * @param isAssociatedWithSkill Filter in-skill products by whether or not they are associated to a skill. (optional)
+   * @return com.amazon.ask.smapi.model.v1.isp.ListInSkillProductResponse
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.isp.ListInSkillProductResponse>> callGetIspListForVendorV1Async(String vendorId, String nextToken, BigDecimal maxResults, List<String> productId, String stage, String type, String referenceName, String status, String isAssociatedWithSkill) {
+    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+
+    if(vendorId != null) {
+    queryParams.add(new Pair<String, String>("vendorId", vendorId));
+  }
+
+    if(nextToken != null) {
+    queryParams.add(new Pair<String, String>("nextToken", nextToken));
+  }
+
+    if(maxResults != null) {
+    queryParams.add(new Pair<String, String>("maxResults", maxResults.toString()));
+  }
+
+    if(productId != null) {
+    for (Object param : productId) {
+      queryParams.add(new Pair<String, String>("productId", param.toString()));
+    }
+  }
+
+    if(stage != null) {
+    queryParams.add(new Pair<String, String>("stage", stage));
+  }
+
+    if(type != null) {
+    queryParams.add(new Pair<String, String>("type", type));
+  }
+
+    if(referenceName != null) {
+    queryParams.add(new Pair<String, String>("referenceName", referenceName));
+  }
+
+    if(status != null) {
+    queryParams.add(new Pair<String, String>("status", status));
+  }
+
+    if(isAssociatedWithSkill != null) {
+    queryParams.add(new Pair<String, String>("isAssociatedWithSkill", isAssociatedWithSkill));
+  }
+    Map<String, String> pathParams = Collections.emptyMap();
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(GET_ISP_LIST_FOR_VENDOR_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * 
    * Creates a new in-skill product for given vendorId.
@@ -286,25 +1321,15 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.smapi.model.v1.isp.ProductResponse> callCreateIspForVendorV1(com.amazon.ask.smapi.model.v1.isp.CreateInSkillProductRequest createInSkillProductRequest) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
-    Map<String, String> pathParams = new HashMap<String, String>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = Collections.emptyMap();
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/inSkillProducts";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.isp.ProductResponse.class, 201, "Success."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Bad request. Returned when a required parameter is not present, badly formatted. "));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Too many requests received."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error"));
-
-    return this.executeRequest("POST", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, createInSkillProductRequest, com.amazon.ask.smapi.model.v1.isp.ProductResponse.class, false);
+    return this.executeRequest(CREATE_ISP_FOR_VENDOR_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, createInSkillProductRequest);
   }
 
   /**
@@ -318,6 +1343,25 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     return this.callCreateIspForVendorV1(createInSkillProductRequest).getResponse();
   }
 
+  /**
+   * 
+   * Creates a new in-skill product for given vendorId.
+   * @param createInSkillProductRequest defines the request body for createInSkillProduct API. (required)
+   * @return com.amazon.ask.smapi.model.v1.isp.ProductResponse
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.isp.ProductResponse>> callCreateIspForVendorV1Async(com.amazon.ask.smapi.model.v1.isp.CreateInSkillProductRequest createInSkillProductRequest) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = Collections.emptyMap();
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(CREATE_ISP_FOR_VENDOR_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, createInSkillProductRequest);
+    });
+  }
+
   /**
    * 
    * Disassociates an in-skill product from a skill.
@@ -326,29 +1370,17 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callDisassociateIspWithSkillV1(String productId, String skillId) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("productId", productId);
     pathParams.put("skillId", skillId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/inSkillProducts/{productId}/skills/{skillId}";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 204, "Success. No content."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Bad request. Returned when a required parameter is not present, badly formatted. "));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "Request is forbidden."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "Requested resource not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Too many requests received."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error"));
-
-    return this.executeRequest("DELETE", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, null, false);
+    return this.executeRequest(DISASSOCIATE_ISP_WITH_SKILL_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -362,6 +1394,27 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     this.callDisassociateIspWithSkillV1(productId, skillId).getResponse();
   }
 
+  /**
+   * 
+   * Disassociates an in-skill product from a skill.
+   * @param productId The in-skill product ID. (required)
+   * @param skillId The skill ID. (required)
+   */
+  public CompletableFuture<ApiResponse<Void>> callDisassociateIspWithSkillV1Async(String productId, String skillId) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("productId", productId);
+    pathParams.put("skillId", skillId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(DISASSOCIATE_ISP_WITH_SKILL_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * 
    * Associates an in-skill product with a skill.
@@ -370,29 +1423,17 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callAssociateIspWithSkillV1(String productId, String skillId) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("productId", productId);
     pathParams.put("skillId", skillId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/inSkillProducts/{productId}/skills/{skillId}";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 204, "Success. No content."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Bad request. Returned when a required parameter is not present, badly formatted. "));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "Request is forbidden."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "Requested resource not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Too many requests received."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error"));
-
-    return this.executeRequest("PUT", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, null, false);
+    return this.executeRequest(ASSOCIATE_ISP_WITH_SKILL_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -406,6 +1447,27 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     this.callAssociateIspWithSkillV1(productId, skillId).getResponse();
   }
 
+  /**
+   * 
+   * Associates an in-skill product with a skill.
+   * @param productId The in-skill product ID. (required)
+   * @param skillId The skill ID. (required)
+   */
+  public CompletableFuture<ApiResponse<Void>> callAssociateIspWithSkillV1Async(String productId, String skillId) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("productId", productId);
+    pathParams.put("skillId", skillId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(ASSOCIATE_ISP_WITH_SKILL_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * 
    * Deletes the in-skill product for given productId. Only development stage supported. Live in-skill products or in-skill products associated with a skill cannot be deleted by this API.
@@ -415,12 +1477,11 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callDeleteIspForProductV1(String productId, String stage, String ifMatch) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("productId", productId);
     pathParams.put("stage", stage);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     if (ifMatch != null) {
       headerParams.add(new Pair<String, String>("If-Match", ifMatch));
@@ -429,20 +1490,8 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/inSkillProducts/{productId}/stages/{stage}";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 204, "Success. No content."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Bad request. Returned when a required parameter is not present, badly formatted. "));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "Request is forbidden."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "Requested resource not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 412, "Precondition failed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Too many requests received."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error"));
-
-    return this.executeRequest("DELETE", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, null, false);
+    return this.executeRequest(DELETE_ISP_FOR_PRODUCT_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -457,6 +1506,32 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     this.callDeleteIspForProductV1(productId, stage, ifMatch).getResponse();
   }
 
+  /**
+   * 
+   * Deletes the in-skill product for given productId. Only development stage supported. Live in-skill products or in-skill products associated with a skill cannot be deleted by this API.
+   * @param productId The in-skill product ID. (required)
+   * @param stage Stage for skill. (required)
+   * @param ifMatch Request header that specified an entity tag. The server will update the resource only if the eTag matches with the resource&#39;s current eTag. (optional)
+   */
+  public CompletableFuture<ApiResponse<Void>> callDeleteIspForProductV1Async(String productId, String stage, String ifMatch) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("productId", productId);
+    pathParams.put("stage", stage);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    if (ifMatch != null) {
+      headerParams.add(new Pair<String, String>("If-Match", ifMatch));
+    }
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(DELETE_ISP_FOR_PRODUCT_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * 
    * Resets the entitlement(s) of the Product for the current user.
@@ -465,30 +1540,17 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callResetEntitlementForProductV1(String productId, String stage) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("productId", productId);
     pathParams.put("stage", stage);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/inSkillProducts/{productId}/stages/{stage}/entitlement";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 204, "Success. No content."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Bad request. Returned when a required parameter is not present, badly formatted. "));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "Request is forbidden."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "Requested resource not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 412, "Precondition failed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Too many requests received."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error"));
-
-    return this.executeRequest("DELETE", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, null, false);
+    return this.executeRequest(RESET_ENTITLEMENT_FOR_PRODUCT_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -502,6 +1564,27 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     this.callResetEntitlementForProductV1(productId, stage).getResponse();
   }
 
+  /**
+   * 
+   * Resets the entitlement(s) of the Product for the current user.
+   * @param productId The in-skill product ID. (required)
+   * @param stage Stage for skill. (required)
+   */
+  public CompletableFuture<ApiResponse<Void>> callResetEntitlementForProductV1Async(String productId, String stage) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("productId", productId);
+    pathParams.put("stage", stage);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(RESET_ENTITLEMENT_FOR_PRODUCT_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * 
    * Returns the in-skill product definition for given productId.
@@ -511,28 +1594,17 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.smapi.model.v1.isp.InSkillProductDefinitionResponse> callGetIspDefinitionV1(String productId, String stage) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("productId", productId);
     pathParams.put("stage", stage);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/inSkillProducts/{productId}/stages/{stage}";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.isp.InSkillProductDefinitionResponse.class, 200, "Response contains the latest version of an in-skill product for the specified stage."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Bad request. Returned when a required parameter is not present, badly formatted. "));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "Requested resource not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Too many requests received."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error"));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.smapi.model.v1.isp.InSkillProductDefinitionResponse.class, false);
+    return this.executeRequest(GET_ISP_DEFINITION_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -547,6 +1619,28 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     return this.callGetIspDefinitionV1(productId, stage).getResponse();
   }
 
+  /**
+   * 
+   * Returns the in-skill product definition for given productId.
+   * @param productId The in-skill product ID. (required)
+   * @param stage Stage for skill. (required)
+   * @return com.amazon.ask.smapi.model.v1.isp.InSkillProductDefinitionResponse
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.isp.InSkillProductDefinitionResponse>> callGetIspDefinitionV1Async(String productId, String stage) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("productId", productId);
+    pathParams.put("stage", stage);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(GET_ISP_DEFINITION_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * 
    * Updates in-skill product definition for given productId. Only development stage supported.
@@ -557,12 +1651,11 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callUpdateIspForProductV1(String productId, String stage, com.amazon.ask.smapi.model.v1.isp.UpdateInSkillProductRequest updateInSkillProductRequest, String ifMatch) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("productId", productId);
     pathParams.put("stage", stage);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     if (ifMatch != null) {
       headerParams.add(new Pair<String, String>("If-Match", ifMatch));
@@ -571,20 +1664,8 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/inSkillProducts/{productId}/stages/{stage}";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 204, "Success."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Bad request. Returned when a required parameter is not present, badly formatted. "));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "Request is forbidden."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "Requested resource not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 412, "Precondition failed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Too many requests received."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error"));
-
-    return this.executeRequest("PUT", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, updateInSkillProductRequest, null, false);
+    return this.executeRequest(UPDATE_ISP_FOR_PRODUCT_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, updateInSkillProductRequest);
   }
 
   /**
@@ -600,6 +1681,33 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     this.callUpdateIspForProductV1(productId, stage, updateInSkillProductRequest, ifMatch).getResponse();
   }
 
+  /**
+   * 
+   * Updates in-skill product definition for given productId. Only development stage supported.
+   * @param productId The in-skill product ID. (required)
+   * @param stage Stage for skill. (required)
+   * @param updateInSkillProductRequest defines the request body for updateInSkillProduct API. (required)
+   * @param ifMatch Request header that specified an entity tag. The server will update the resource only if the eTag matches with the resource&#39;s current eTag. (optional)
+   */
+  public CompletableFuture<ApiResponse<Void>> callUpdateIspForProductV1Async(String productId, String stage, com.amazon.ask.smapi.model.v1.isp.UpdateInSkillProductRequest updateInSkillProductRequest, String ifMatch) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("productId", productId);
+    pathParams.put("stage", stage);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    if (ifMatch != null) {
+      headerParams.add(new Pair<String, String>("If-Match", ifMatch));
+    }
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(UPDATE_ISP_FOR_PRODUCT_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, updateInSkillProductRequest);
+    });
+  }
+
   /**
    * 
    * Get the associated skills for the in-skill product.
@@ -624,22 +1732,12 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     pathParams.put("productId", productId);
     pathParams.put("stage", stage);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/inSkillProducts/{productId}/stages/{stage}/skills";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.isp.AssociatedSkillResponse.class, 200, "Returns skills associated with the in-skill product."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "Requested resource not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Too many requests received."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error"));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.smapi.model.v1.isp.AssociatedSkillResponse.class, false);
+    return this.executeRequest(GET_ISP_ASSOCIATED_SKILLS_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -658,34 +1756,56 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
 
   /**
    * 
-   * Get the summary information for an in-skill product.
+   * Get the associated skills for the in-skill product.
    * @param productId The in-skill product ID. (required)
    * @param stage Stage for skill. (required)
-   * @return com.amazon.ask.smapi.model.v1.isp.InSkillProductSummaryResponse
-   * @throws ServiceException if fails to make API call
+   * @param nextToken When response to this API call is truncated (that is, isTruncated response element value is true), the response also includes the nextToken element. The value of nextToken can be used in the next request as the continuation-token to list the next set of objects. The continuation token is an opaque value that Skill Management API understands. Token has expiry of 24 hours. (optional)
+   * @param maxResults Sets the maximum number of results returned in the response body. If you want to retrieve fewer than upper limit of 50 results, you can add this parameter to your request. maxResults should not exceed the upper limit. The response might contain fewer results than maxResults, but it will never contain more. If there are additional results that satisfy the search criteria, but these results were not returned, the response contains isTruncated &#x3D; true. (optional)
+   * @return com.amazon.ask.smapi.model.v1.isp.AssociatedSkillResponse
    */
-  public ApiResponse<com.amazon.ask.smapi.model.v1.isp.InSkillProductSummaryResponse> callGetIspSummaryV1(String productId, String stage) throws ServiceException {
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.isp.AssociatedSkillResponse>> callGetIspAssociatedSkillsV1Async(String productId, String stage, String nextToken, BigDecimal maxResults) {
     List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
-    Map<String, String> pathParams = new HashMap<String, String>();
-    pathParams.put("productId", productId);
-    pathParams.put("stage", stage);
-    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
-    String accessToken = lwaClient.getAccessTokenForRefreshToken();
-    headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+    if(nextToken != null) {
+    queryParams.add(new Pair<String, String>("nextToken", nextToken));
+  }
+
+    if(maxResults != null) {
+    queryParams.add(new Pair<String, String>("maxResults", maxResults.toString()));
+  }
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("productId", productId);
+    pathParams.put("stage", stage);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(GET_ISP_ASSOCIATED_SKILLS_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
 
-    String path = "/v1/inSkillProducts/{productId}/stages/{stage}/summary";
+  /**
+   * 
+   * Get the summary information for an in-skill product.
+   * @param productId The in-skill product ID. (required)
+   * @param stage Stage for skill. (required)
+   * @return com.amazon.ask.smapi.model.v1.isp.InSkillProductSummaryResponse
+   * @throws ServiceException if fails to make API call
+   */
+  public ApiResponse<com.amazon.ask.smapi.model.v1.isp.InSkillProductSummaryResponse> callGetIspSummaryV1(String productId, String stage) throws ServiceException {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("productId", productId);
+    pathParams.put("stage", stage);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
 
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.isp.InSkillProductSummaryResponse.class, 200, "Returns current in-skill product summary for productId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "Requested resource not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Too many requests received."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error"));
+    String accessToken = lwaClient.getAccessTokenForRefreshToken();
+    headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.smapi.model.v1.isp.InSkillProductSummaryResponse.class, false);
+    return this.executeRequest(GET_ISP_SUMMARY_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -700,6 +1820,28 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     return this.callGetIspSummaryV1(productId, stage).getResponse();
   }
 
+  /**
+   * 
+   * Get the summary information for an in-skill product.
+   * @param productId The in-skill product ID. (required)
+   * @param stage Stage for skill. (required)
+   * @return com.amazon.ask.smapi.model.v1.isp.InSkillProductSummaryResponse
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.isp.InSkillProductSummaryResponse>> callGetIspSummaryV1Async(String productId, String stage) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("productId", productId);
+    pathParams.put("stage", stage);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(GET_ISP_SUMMARY_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * 
    * Delete the catalog. 
@@ -707,29 +1849,16 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callDeleteInteractionModelCatalogV1(String catalogId) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("catalogId", catalogId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/api/custom/interactionModel/catalogs/{catalogId}";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 204, "No content; just confirm the catalog is deleted."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "The catalog cannot be deleted from reasons due to in-use by other entities."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "There is no catalog defined for the catalogId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("DELETE", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, null, false);
+    return this.executeRequest(DELETE_INTERACTION_MODEL_CATALOG_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -742,6 +1871,25 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     this.callDeleteInteractionModelCatalogV1(catalogId).getResponse();
   }
 
+  /**
+   * 
+   * Delete the catalog. 
+   * @param catalogId Unique identifier of the catalog (required)
+   */
+  public CompletableFuture<ApiResponse<Void>> callDeleteInteractionModelCatalogV1Async(String catalogId) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("catalogId", catalogId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(DELETE_INTERACTION_MODEL_CATALOG_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * 
    * get the catalog definition 
@@ -750,29 +1898,16 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.CatalogDefinitionOutput> callGetInteractionModelCatalogDefinitionV1(String catalogId) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("catalogId", catalogId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/api/custom/interactionModel/catalogs/{catalogId}";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.CatalogDefinitionOutput.class, 200, "the catalog definition"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "The catalog cannot be retrieved due to errors listed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "There is no catalog defined for the catalogId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.CatalogDefinitionOutput.class, false);
+    return this.executeRequest(GET_INTERACTION_MODEL_CATALOG_DEFINITION_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -786,6 +1921,26 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     return this.callGetInteractionModelCatalogDefinitionV1(catalogId).getResponse();
   }
 
+  /**
+   * 
+   * get the catalog definition 
+   * @param catalogId Unique identifier of the catalog (required)
+   * @return com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.CatalogDefinitionOutput
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.CatalogDefinitionOutput>> callGetInteractionModelCatalogDefinitionV1Async(String catalogId) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("catalogId", catalogId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(GET_INTERACTION_MODEL_CATALOG_DEFINITION_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * 
    * update description and vendorGuidance string for certain version of a catalog. 
@@ -794,29 +1949,16 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callUpdateInteractionModelCatalogV1(String catalogId, com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.UpdateRequest updateRequest) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("catalogId", catalogId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/api/custom/interactionModel/catalogs/{catalogId}/update";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 204, "No content, indicates the fields were successfully updated."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "There is no catalog defined for the catalogId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("POST", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, updateRequest, null, false);
+    return this.executeRequest(UPDATE_INTERACTION_MODEL_CATALOG_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, updateRequest);
   }
 
   /**
@@ -830,6 +1972,26 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     this.callUpdateInteractionModelCatalogV1(catalogId, updateRequest).getResponse();
   }
 
+  /**
+   * 
+   * update description and vendorGuidance string for certain version of a catalog. 
+   * @param catalogId Unique identifier of the catalog (required)
+   * @param updateRequest  (required)
+   */
+  public CompletableFuture<ApiResponse<Void>> callUpdateInteractionModelCatalogV1Async(String catalogId, com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.UpdateRequest updateRequest) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("catalogId", catalogId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(UPDATE_INTERACTION_MODEL_CATALOG_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, updateRequest);
+    });
+  }
+
   /**
    * 
    * Get the status of catalog resource and its sub-resources for a given catalogId. 
@@ -839,30 +2001,17 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.CatalogStatus> callGetInteractionModelCatalogUpdateStatusV1(String catalogId, String updateRequestId) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("catalogId", catalogId);
     pathParams.put("updateRequestId", updateRequestId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/api/custom/interactionModel/catalogs/{catalogId}/updateRequest/{updateRequestId}";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.CatalogStatus.class, 200, "Returns the build status and error codes for the given catalogId"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "There is no catalog defined for the catalogId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.CatalogStatus.class, false);
+    return this.executeRequest(GET_INTERACTION_MODEL_CATALOG_UPDATE_STATUS_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -877,6 +2026,28 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     return this.callGetInteractionModelCatalogUpdateStatusV1(catalogId, updateRequestId).getResponse();
   }
 
+  /**
+   * 
+   * Get the status of catalog resource and its sub-resources for a given catalogId. 
+   * @param catalogId Unique identifier of the catalog (required)
+   * @param updateRequestId The identifier for catalog version creation process (required)
+   * @return com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.CatalogStatus
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.CatalogStatus>> callGetInteractionModelCatalogUpdateStatusV1Async(String catalogId, String updateRequestId) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("catalogId", catalogId);
+    pathParams.put("updateRequestId", updateRequestId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(GET_INTERACTION_MODEL_CATALOG_UPDATE_STATUS_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * 
    * Create a new version of catalog entity for the given catalogId. 
@@ -885,29 +2056,16 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callCreateInteractionModelCatalogVersionV1(String catalogId, com.amazon.ask.smapi.model.v1.skill.interactionModel.version.VersionData catalog) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("catalogId", catalogId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/api/custom/interactionModel/catalogs/{catalogId}/versions";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 202, "Returns update status location link on success."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error e.g. the catalog definition is invalid."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The specified catalog does not exist."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("POST", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, catalog, null, false);
+    return this.executeRequest(CREATE_INTERACTION_MODEL_CATALOG_VERSION_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, catalog);
   }
 
   /**
@@ -921,6 +2079,26 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     this.callCreateInteractionModelCatalogVersionV1(catalogId, catalog).getResponse();
   }
 
+  /**
+   * 
+   * Create a new version of catalog entity for the given catalogId. 
+   * @param catalogId Unique identifier of the catalog (required)
+   * @param catalog  (required)
+   */
+  public CompletableFuture<ApiResponse<Void>> callCreateInteractionModelCatalogVersionV1Async(String catalogId, com.amazon.ask.smapi.model.v1.skill.interactionModel.version.VersionData catalog) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("catalogId", catalogId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(CREATE_INTERACTION_MODEL_CATALOG_VERSION_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, catalog);
+    });
+  }
+
   /**
    * 
    * Delete catalog version. 
@@ -929,30 +2107,17 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callDeleteInteractionModelCatalogVersionV1(String catalogId, String version) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("catalogId", catalogId);
     pathParams.put("version", version);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/api/custom/interactionModel/catalogs/{catalogId}/versions/{version}";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 204, "No Content; Confirms that version is successfully deleted."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "There is no catalog version for this catalogId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("DELETE", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, null, false);
+    return this.executeRequest(DELETE_INTERACTION_MODEL_CATALOG_VERSION_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -966,6 +2131,27 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     this.callDeleteInteractionModelCatalogVersionV1(catalogId, version).getResponse();
   }
 
+  /**
+   * 
+   * Delete catalog version. 
+   * @param catalogId Unique identifier of the catalog (required)
+   * @param version Version for interaction model. (required)
+   */
+  public CompletableFuture<ApiResponse<Void>> callDeleteInteractionModelCatalogVersionV1Async(String catalogId, String version) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("catalogId", catalogId);
+    pathParams.put("version", version);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(DELETE_INTERACTION_MODEL_CATALOG_VERSION_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * 
    * Get catalog version data of given catalog version. 
@@ -975,30 +2161,17 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.smapi.model.v1.skill.interactionModel.version.CatalogVersionData> callGetInteractionModelCatalogVersionV1(String catalogId, String version) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("catalogId", catalogId);
     pathParams.put("version", version);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/api/custom/interactionModel/catalogs/{catalogId}/versions/{version}";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.interactionModel.version.CatalogVersionData.class, 200, "Returns the catalog version metadata for the given catalogId and version."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "There is no catalog defined for the catalogId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.smapi.model.v1.skill.interactionModel.version.CatalogVersionData.class, false);
+    return this.executeRequest(GET_INTERACTION_MODEL_CATALOG_VERSION_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -1013,6 +2186,28 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     return this.callGetInteractionModelCatalogVersionV1(catalogId, version).getResponse();
   }
 
+  /**
+   * 
+   * Get catalog version data of given catalog version. 
+   * @param catalogId Unique identifier of the catalog (required)
+   * @param version Version for interaction model. (required)
+   * @return com.amazon.ask.smapi.model.v1.skill.interactionModel.version.CatalogVersionData
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.interactionModel.version.CatalogVersionData>> callGetInteractionModelCatalogVersionV1Async(String catalogId, String version) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("catalogId", catalogId);
+    pathParams.put("version", version);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(GET_INTERACTION_MODEL_CATALOG_VERSION_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * 
    * Update description and vendorGuidance string for certain version of a catalog. 
@@ -1022,30 +2217,17 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callUpdateInteractionModelCatalogVersionV1(String catalogId, String version, com.amazon.ask.smapi.model.v1.skill.interactionModel.version.CatalogUpdate catalogUpdate) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("catalogId", catalogId);
     pathParams.put("version", version);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/api/custom/interactionModel/catalogs/{catalogId}/versions/{version}/update";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 204, "No Content; Confirms that version is successfully updated."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "There is no catalog defined for the catalogId"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("POST", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, catalogUpdate, null, false);
+    return this.executeRequest(UPDATE_INTERACTION_MODEL_CATALOG_VERSION_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, catalogUpdate);
   }
 
   /**
@@ -1060,6 +2242,28 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     this.callUpdateInteractionModelCatalogVersionV1(catalogId, version, catalogUpdate).getResponse();
   }
 
+  /**
+   * 
+   * Update description and vendorGuidance string for certain version of a catalog. 
+   * @param catalogId Unique identifier of the catalog (required)
+   * @param version Version for interaction model. (required)
+   * @param catalogUpdate  (optional)
+   */
+  public CompletableFuture<ApiResponse<Void>> callUpdateInteractionModelCatalogVersionV1Async(String catalogId, String version, com.amazon.ask.smapi.model.v1.skill.interactionModel.version.CatalogUpdate catalogUpdate) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("catalogId", catalogId);
+    pathParams.put("version", version);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(UPDATE_INTERACTION_MODEL_CATALOG_VERSION_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, catalogUpdate);
+    });
+  }
+
   /**
    * 
    * Get catalog values from the given catalogId &amp;amp; version. 
@@ -1084,25 +2288,12 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     pathParams.put("catalogId", catalogId);
     pathParams.put("version", version);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/api/custom/interactionModel/catalogs/{catalogId}/versions/{version}/values";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.interactionModel.version.CatalogValues.class, 200, "Returns list of catalog values for the given catalogId and version."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "There is no catalog defined for the catalogId"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.smapi.model.v1.skill.interactionModel.version.CatalogValues.class, false);
+    return this.executeRequest(GET_INTERACTION_MODEL_CATALOG_VALUES_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -1119,6 +2310,38 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     return this.callGetInteractionModelCatalogValuesV1(catalogId, version, maxResults, nextToken).getResponse();
   }
 
+  /**
+   * 
+   * Get catalog values from the given catalogId &amp;amp; version. 
+   * @param catalogId Unique identifier of the catalog (required)
+   * @param version Version for interaction model. (required)
+   * @param maxResults Sets the maximum number of results returned in the response body. If you want to retrieve fewer than upper limit of 50 results, you can add this parameter to your request. maxResults should not exceed the upper limit. The response might contain fewer results than maxResults, but it will never contain more. If there are additional results that satisfy the search criteria, but these results were not returned, the response contains isTruncated &#x3D; true. (optional)
+   * @param nextToken When response to this API call is truncated (that is, isTruncated response element value is true), the response also includes the nextToken element. The value of nextToken can be used in the next request as the continuation-token to list the next set of objects. The continuation token is an opaque value that Skill Management API understands. Token has expiry of 24 hours. (optional)
+   * @return com.amazon.ask.smapi.model.v1.skill.interactionModel.version.CatalogValues
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.interactionModel.version.CatalogValues>> callGetInteractionModelCatalogValuesV1Async(String catalogId, String version, BigDecimal maxResults, String nextToken) {
+    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+
+    if(maxResults != null) {
+    queryParams.add(new Pair<String, String>("maxResults", maxResults.toString()));
+  }
+
+    if(nextToken != null) {
+    queryParams.add(new Pair<String, String>("nextToken", nextToken));
+  }
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("catalogId", catalogId);
+    pathParams.put("version", version);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(GET_INTERACTION_MODEL_CATALOG_VALUES_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * 
    * List all catalogs for the vendor. 
@@ -1147,27 +2370,14 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     if(sortDirection != null) {
     queryParams.add(new Pair<String, String>("sortDirection", sortDirection));
   }
-    Map<String, String> pathParams = new HashMap<String, String>();
+    Map<String, String> pathParams = Collections.emptyMap();
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/api/custom/interactionModel/catalogs";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.ListCatalogResponse.class, 200, "Returns list of catalogs for the vendor."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "There is no catalog defined for the catalogId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.ListCatalogResponse.class, false);
+    return this.executeRequest(LIST_INTERACTION_MODEL_CATALOGS_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -1184,6 +2394,44 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     return this.callListInteractionModelCatalogsV1(vendorId, maxResults, nextToken, sortDirection).getResponse();
   }
 
+  /**
+   * 
+   * List all catalogs for the vendor. 
+   * @param vendorId The vendor ID. (required)
+   * @param maxResults Sets the maximum number of results returned in the response body. If you want to retrieve fewer than upper limit of 50 results, you can add this parameter to your request. maxResults should not exceed the upper limit. The response might contain fewer results than maxResults, but it will never contain more. If there are additional results that satisfy the search criteria, but these results were not returned, the response contains isTruncated &#x3D; true. (optional)
+   * @param nextToken When response to this API call is truncated (that is, isTruncated response element value is true), the response also includes the nextToken element. The value of nextToken can be used in the next request as the continuation-token to list the next set of objects. The continuation token is an opaque value that Skill Management API understands. Token has expiry of 24 hours. (optional)
+   * @param sortDirection Sets the sorting direction of the result items. When set to &#39;asc&#39; these items are returned in ascending order of sortField value and when set to &#39;desc&#39; these items are returned in descending order of sortField value. (optional)
+   * @return com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.ListCatalogResponse
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.ListCatalogResponse>> callListInteractionModelCatalogsV1Async(String vendorId, BigDecimal maxResults, String nextToken, String sortDirection) {
+    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+
+    if(vendorId != null) {
+    queryParams.add(new Pair<String, String>("vendorId", vendorId));
+  }
+
+    if(maxResults != null) {
+    queryParams.add(new Pair<String, String>("maxResults", maxResults.toString()));
+  }
+
+    if(nextToken != null) {
+    queryParams.add(new Pair<String, String>("nextToken", nextToken));
+  }
+
+    if(sortDirection != null) {
+    queryParams.add(new Pair<String, String>("sortDirection", sortDirection));
+  }
+    Map<String, String> pathParams = Collections.emptyMap();
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(LIST_INTERACTION_MODEL_CATALOGS_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * 
    * Create a new version of catalog within the given catalogId. 
@@ -1192,28 +2440,15 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.CatalogResponse> callCreateInteractionModelCatalogV1(com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.DefinitionData catalog) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
-    Map<String, String> pathParams = new HashMap<String, String>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = Collections.emptyMap();
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/api/custom/interactionModel/catalogs";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.CatalogResponse.class, 200, "Returns the generated catalogId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error e.g. the catalog definition is invalid."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 412, "Precondition failed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("POST", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, catalog, com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.CatalogResponse.class, false);
+    return this.executeRequest(CREATE_INTERACTION_MODEL_CATALOG_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, catalog);
   }
 
   /**
@@ -1229,33 +2464,41 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
 
   /**
    * 
-   * Get status for given exportId 
-   * @param exportId The Export ID. (required)
-   * @return com.amazon.ask.smapi.model.v1.skill.ExportResponse
-   * @throws ServiceException if fails to make API call
+   * Create a new version of catalog within the given catalogId. 
+   * @param catalog  (required)
+   * @return com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.CatalogResponse
    */
-  public ApiResponse<com.amazon.ask.smapi.model.v1.skill.ExportResponse> callGetStatusOfExportRequestV1(String exportId) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
-    Map<String, String> pathParams = new HashMap<String, String>();
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.CatalogResponse>> callCreateInteractionModelCatalogV1Async(com.amazon.ask.smapi.model.v1.skill.interactionModel.catalog.DefinitionData catalog) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = Collections.emptyMap();
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(CREATE_INTERACTION_MODEL_CATALOG_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, catalog);
+    });
+  }
+
+  /**
+   * 
+   * Get status for given exportId 
+   * @param exportId The Export ID. (required)
+   * @return com.amazon.ask.smapi.model.v1.skill.ExportResponse
+   * @throws ServiceException if fails to make API call
+   */
+  public ApiResponse<com.amazon.ask.smapi.model.v1.skill.ExportResponse> callGetStatusOfExportRequestV1(String exportId) throws ServiceException {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("exportId", exportId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/exports/{exportId}";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.ExportResponse.class, 200, "OK."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.smapi.model.v1.skill.ExportResponse.class, false);
+    return this.executeRequest(GET_STATUS_OF_EXPORT_REQUEST_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -1269,6 +2512,26 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     return this.callGetStatusOfExportRequestV1(exportId).getResponse();
   }
 
+  /**
+   * 
+   * Get status for given exportId 
+   * @param exportId The Export ID. (required)
+   * @return com.amazon.ask.smapi.model.v1.skill.ExportResponse
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.ExportResponse>> callGetStatusOfExportRequestV1Async(String exportId) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("exportId", exportId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(GET_STATUS_OF_EXPORT_REQUEST_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * 
    * Get the list of skills for the vendor.
@@ -1299,25 +2562,14 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
       queryParams.add(new Pair<String, String>("skillId", param.toString()));
     }
   }
-    Map<String, String> pathParams = new HashMap<String, String>();
+    Map<String, String> pathParams = Collections.emptyMap();
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.ListSkillResponse.class, 200, "Returns list of skills for the vendor."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.smapi.model.v1.skill.ListSkillResponse.class, false);
+    return this.executeRequest(LIST_SKILLS_FOR_VENDOR_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -1334,6 +2586,46 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     return this.callListSkillsForVendorV1(vendorId, nextToken, maxResults, skillId).getResponse();
   }
 
+  /**
+   * 
+   * Get the list of skills for the vendor.
+   * @param vendorId The vendor ID. (required)
+   * @param nextToken When response to this API call is truncated (that is, isTruncated response element value is true), the response also includes the nextToken element. The value of nextToken can be used in the next request as the continuation-token to list the next set of objects. The continuation token is an opaque value that Skill Management API understands. Token has expiry of 24 hours. (optional)
+   * @param maxResults Sets the maximum number of results returned in the response body. If you want to retrieve fewer than upper limit of 50 results, you can add this parameter to your request. maxResults should not exceed the upper limit. The response might contain fewer results than maxResults, but it will never contain more. If there are additional results that satisfy the search criteria, but these results were not returned, the response contains isTruncated &#x3D; true. (optional)
+   * @param skillId the list of skillIds that you wish to get the summary for. A maximum of 10 skillIds can be specified to get the skill summary in single listSkills call. Please note that this parameter must not be used with &#39;nextToken&#39; or/and &#39;maxResults&#39; parameter. (optional)
+   * @return com.amazon.ask.smapi.model.v1.skill.ListSkillResponse
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.ListSkillResponse>> callListSkillsForVendorV1Async(String vendorId, String nextToken, BigDecimal maxResults, List<String> skillId) {
+    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+
+    if(vendorId != null) {
+    queryParams.add(new Pair<String, String>("vendorId", vendorId));
+  }
+
+    if(nextToken != null) {
+    queryParams.add(new Pair<String, String>("nextToken", nextToken));
+  }
+
+    if(maxResults != null) {
+    queryParams.add(new Pair<String, String>("maxResults", maxResults.toString()));
+  }
+
+    if(skillId != null) {
+    for (Object param : skillId) {
+      queryParams.add(new Pair<String, String>("skillId", param.toString()));
+    }
+  }
+    Map<String, String> pathParams = Collections.emptyMap();
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(LIST_SKILLS_FOR_VENDOR_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * 
    * Get status for given importId. 
@@ -1342,27 +2634,16 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.smapi.model.v1.skill.ImportResponse> callGetImportStatusV1(String importId) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("importId", importId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/imports/{importId}";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.ImportResponse.class, 200, "OK."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.smapi.model.v1.skill.ImportResponse.class, false);
+    return this.executeRequest(GET_IMPORT_STATUS_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -1376,6 +2657,26 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     return this.callGetImportStatusV1(importId).getResponse();
   }
 
+  /**
+   * 
+   * Get status for given importId. 
+   * @param importId The Import ID. (required)
+   * @return com.amazon.ask.smapi.model.v1.skill.ImportResponse
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.ImportResponse>> callGetImportStatusV1Async(String importId) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("importId", importId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(GET_IMPORT_STATUS_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * 
    * Creates a new import for a skill. 
@@ -1383,27 +2684,15 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callCreateSkillPackageV1(com.amazon.ask.smapi.model.v1.skill.CreateSkillWithPackageRequest createSkillWithPackageRequest) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
-    Map<String, String> pathParams = new HashMap<String, String>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = Collections.emptyMap();
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/imports";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 202, "Accepted."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 413, "Payload too large."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("POST", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, createSkillWithPackageRequest, null, false);
+    return this.executeRequest(CREATE_SKILL_PACKAGE_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, createSkillWithPackageRequest);
   }
 
   /**
@@ -1416,6 +2705,24 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     this.callCreateSkillPackageV1(createSkillWithPackageRequest).getResponse();
   }
 
+  /**
+   * 
+   * Creates a new import for a skill. 
+   * @param createSkillWithPackageRequest Defines the request body for createPackage API. (required)
+   */
+  public CompletableFuture<ApiResponse<Void>> callCreateSkillPackageV1Async(com.amazon.ask.smapi.model.v1.skill.CreateSkillWithPackageRequest createSkillWithPackageRequest) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = Collections.emptyMap();
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(CREATE_SKILL_PACKAGE_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, createSkillWithPackageRequest);
+    });
+  }
+
   /**
    * 
    * Creates a new skill for given vendorId.
@@ -1424,27 +2731,15 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.smapi.model.v1.skill.CreateSkillResponse> callCreateSkillForVendorV1(com.amazon.ask.smapi.model.v1.skill.CreateSkillRequest createSkillRequest) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
-    Map<String, String> pathParams = new HashMap<String, String>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = Collections.emptyMap();
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.CreateSkillResponse.class, 202, "Accepted; Returns a URL to track the status in 'Location' header."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("POST", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, createSkillRequest, com.amazon.ask.smapi.model.v1.skill.CreateSkillResponse.class, false);
+    return this.executeRequest(CREATE_SKILL_FOR_VENDOR_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, createSkillRequest);
   }
 
   /**
@@ -1458,6 +2753,25 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     return this.callCreateSkillForVendorV1(createSkillRequest).getResponse();
   }
 
+  /**
+   * 
+   * Creates a new skill for given vendorId.
+   * @param createSkillRequest Defines the request body for createSkill API. (required)
+   * @return com.amazon.ask.smapi.model.v1.skill.CreateSkillResponse
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.CreateSkillResponse>> callCreateSkillForVendorV1Async(com.amazon.ask.smapi.model.v1.skill.CreateSkillRequest createSkillRequest) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = Collections.emptyMap();
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(CREATE_SKILL_FOR_VENDOR_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, createSkillRequest);
+    });
+  }
+
   /**
    * 
    * Get Alexa hosted skill&#39;s metadata
@@ -1466,28 +2780,16 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.smapi.model.v1.skill.AlexaHosted.HostedSkillMetadata> callGetAlexaHostedSkillMetadataV1(String skillId) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/alexaHosted";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.AlexaHosted.HostedSkillMetadata.class, 200, "response contains the Alexa hosted skill's metadata"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error e.g. Authorization Url is invalid"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.smapi.model.v1.skill.AlexaHosted.HostedSkillMetadata.class, false);
+    return this.executeRequest(GET_ALEXA_HOSTED_SKILL_METADATA_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -1501,6 +2803,26 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     return this.callGetAlexaHostedSkillMetadataV1(skillId).getResponse();
   }
 
+  /**
+   * 
+   * Get Alexa hosted skill&#39;s metadata
+   * @param skillId The skill ID. (required)
+   * @return com.amazon.ask.smapi.model.v1.skill.AlexaHosted.HostedSkillMetadata
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.AlexaHosted.HostedSkillMetadata>> callGetAlexaHostedSkillMetadataV1Async(String skillId) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(GET_ALEXA_HOSTED_SKILL_METADATA_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * 
    * Generates hosted skill repository credentials to access the hosted skill repository.
@@ -1510,28 +2832,16 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.smapi.model.v1.skill.AlexaHosted.HostedSkillRepositoryCredentialsList> callGenerateCredentialsForAlexaHostedSkillV1(String skillId, com.amazon.ask.smapi.model.v1.skill.AlexaHosted.HostedSkillRepositoryCredentialsRequest hostedSkillRepositoryCredentialsRequest) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/alexaHosted/repository/credentials/generate";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.AlexaHosted.HostedSkillRepositoryCredentialsList.class, 200, "Response contains the hosted skill repository credentials"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error e.g. Authorization Url is invalid"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("POST", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, hostedSkillRepositoryCredentialsRequest, com.amazon.ask.smapi.model.v1.skill.AlexaHosted.HostedSkillRepositoryCredentialsList.class, false);
+    return this.executeRequest(GENERATE_CREDENTIALS_FOR_ALEXA_HOSTED_SKILL_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, hostedSkillRepositoryCredentialsRequest);
   }
 
   /**
@@ -1546,6 +2856,27 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     return this.callGenerateCredentialsForAlexaHostedSkillV1(skillId, hostedSkillRepositoryCredentialsRequest).getResponse();
   }
 
+  /**
+   * 
+   * Generates hosted skill repository credentials to access the hosted skill repository.
+   * @param skillId The skill ID. (required)
+   * @param hostedSkillRepositoryCredentialsRequest defines the request body for hosted skill repository credentials (required)
+   * @return com.amazon.ask.smapi.model.v1.skill.AlexaHosted.HostedSkillRepositoryCredentialsList
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.AlexaHosted.HostedSkillRepositoryCredentialsList>> callGenerateCredentialsForAlexaHostedSkillV1Async(String skillId, com.amazon.ask.smapi.model.v1.skill.AlexaHosted.HostedSkillRepositoryCredentialsRequest hostedSkillRepositoryCredentialsRequest) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(GENERATE_CREDENTIALS_FOR_ALEXA_HOSTED_SKILL_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, hostedSkillRepositoryCredentialsRequest);
+    });
+  }
+
   /**
    * End beta test.
    * End a beta test for a given Alexa skill. System will revoke the entitlement of each tester and send access-end notification email to them. 
@@ -1553,28 +2884,16 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callEndBetaTestV1(String skillId) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/betaTest/end";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 202, "Accept. Return a URL to track the resource in 'Location' header."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "The resource being requested is not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 409, "The request could not be completed due to a conflict with the current state of the target resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error."));
-
-    return this.executeRequest("POST", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, null, false);
+    return this.executeRequest(END_BETA_TEST_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -1587,6 +2906,25 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     this.callEndBetaTestV1(skillId).getResponse();
   }
 
+  /**
+   * End beta test.
+   * End a beta test for a given Alexa skill. System will revoke the entitlement of each tester and send access-end notification email to them. 
+   * @param skillId The skill ID. (required)
+   */
+  public CompletableFuture<ApiResponse<Void>> callEndBetaTestV1Async(String skillId) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(END_BETA_TEST_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * Get beta test.
    * Get beta test for a given Alexa skill.
@@ -1595,27 +2933,16 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.smapi.model.v1.skill.betaTest.BetaTest> callGetBetaTestV1(String skillId) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/betaTest";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.betaTest.BetaTest.class, 200, "Success."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "The resource being requested is not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error."));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.smapi.model.v1.skill.betaTest.BetaTest.class, false);
+    return this.executeRequest(GET_BETA_TEST_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -1629,6 +2956,26 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     return this.callGetBetaTestV1(skillId).getResponse();
   }
 
+  /**
+   * Get beta test.
+   * Get beta test for a given Alexa skill.
+   * @param skillId The skill ID. (required)
+   * @return com.amazon.ask.smapi.model.v1.skill.betaTest.BetaTest
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.betaTest.BetaTest>> callGetBetaTestV1Async(String skillId) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(GET_BETA_TEST_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * Create beta test.
    * Create a beta test for a given Alexa skill.
@@ -1637,28 +2984,16 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callCreateBetaTestV1(String skillId, com.amazon.ask.smapi.model.v1.skill.betaTest.TestBody createTestBody) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/betaTest";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 204, "Success. Return a URL to track the resource in 'Location' header."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 400, "Server cannot process the request due to a client error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "The resource being requested is not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 409, "The request could not be completed due to a conflict with the current state of the target resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error."));
-
-    return this.executeRequest("POST", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, createTestBody, null, false);
+    return this.executeRequest(CREATE_BETA_TEST_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, createTestBody);
   }
 
   /**
@@ -1672,6 +3007,26 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     this.callCreateBetaTestV1(skillId, createTestBody).getResponse();
   }
 
+  /**
+   * Create beta test.
+   * Create a beta test for a given Alexa skill.
+   * @param skillId The skill ID. (required)
+   * @param createTestBody JSON object containing the details of a beta test used to create the test. (optional)
+   */
+  public CompletableFuture<ApiResponse<Void>> callCreateBetaTestV1Async(String skillId, com.amazon.ask.smapi.model.v1.skill.betaTest.TestBody createTestBody) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(CREATE_BETA_TEST_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, createTestBody);
+    });
+  }
+
   /**
    * Update beta test.
    * Update a beta test for a given Alexa skill.
@@ -1680,27 +3035,16 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callUpdateBetaTestV1(String skillId, com.amazon.ask.smapi.model.v1.skill.betaTest.TestBody createTestBody) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/betaTest";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 204, "Success. No content."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "The resource being requested is not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error."));
-
-    return this.executeRequest("PUT", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, createTestBody, null, false);
+    return this.executeRequest(UPDATE_BETA_TEST_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, createTestBody);
   }
 
   /**
@@ -1714,6 +3058,26 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     this.callUpdateBetaTestV1(skillId, createTestBody).getResponse();
   }
 
+  /**
+   * Update beta test.
+   * Update a beta test for a given Alexa skill.
+   * @param skillId The skill ID. (required)
+   * @param createTestBody JSON object containing the details of a beta test used to create the test. (optional)
+   */
+  public CompletableFuture<ApiResponse<Void>> callUpdateBetaTestV1Async(String skillId, com.amazon.ask.smapi.model.v1.skill.betaTest.TestBody createTestBody) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(UPDATE_BETA_TEST_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, createTestBody);
+    });
+  }
+
   /**
    * Start beta test
    * Start a beta test for a given Alexa skill. System will send invitation emails to each tester in the test, and add entitlement on the acceptance. 
@@ -1721,28 +3085,16 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callStartBetaTestV1(String skillId) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/betaTest/start";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 202, "Accept. Return a URL to track the resource in 'Location' header."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "The resource being requested is not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 409, "The request could not be completed due to a conflict with the current state of the target resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error."));
-
-    return this.executeRequest("POST", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, null, false);
+    return this.executeRequest(START_BETA_TEST_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -1755,6 +3107,25 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     this.callStartBetaTestV1(skillId).getResponse();
   }
 
+  /**
+   * Start beta test
+   * Start a beta test for a given Alexa skill. System will send invitation emails to each tester in the test, and add entitlement on the acceptance. 
+   * @param skillId The skill ID. (required)
+   */
+  public CompletableFuture<ApiResponse<Void>> callStartBetaTestV1Async(String skillId) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(START_BETA_TEST_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * Add testers to an existing beta test.
    * Add testers to a beta test for the given Alexa skill.  System will send invitation email to each tester and add entitlement on the acceptance. 
@@ -1763,27 +3134,16 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callAddTestersToBetaTestV1(String skillId, com.amazon.ask.smapi.model.v1.skill.betaTest.testers.TestersList testersRequest) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/betaTest/testers/add";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 204, "Success. No content."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "The resource being requested is not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error."));
-
-    return this.executeRequest("POST", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, testersRequest, null, false);
+    return this.executeRequest(ADD_TESTERS_TO_BETA_TEST_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, testersRequest);
   }
 
   /**
@@ -1797,6 +3157,26 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     this.callAddTestersToBetaTestV1(skillId, testersRequest).getResponse();
   }
 
+  /**
+   * Add testers to an existing beta test.
+   * Add testers to a beta test for the given Alexa skill.  System will send invitation email to each tester and add entitlement on the acceptance. 
+   * @param skillId The skill ID. (required)
+   * @param testersRequest JSON object containing the email address of beta testers. (required)
+   */
+  public CompletableFuture<ApiResponse<Void>> callAddTestersToBetaTestV1Async(String skillId, com.amazon.ask.smapi.model.v1.skill.betaTest.testers.TestersList testersRequest) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(ADD_TESTERS_TO_BETA_TEST_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, testersRequest);
+    });
+  }
+
   /**
    * List testers.
    * List all testers in a beta test for the given Alexa skill.
@@ -1819,23 +3199,12 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/betaTest/testers";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.betaTest.testers.ListTestersResponse.class, 200, "Success."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Bad request."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "The resource being requested is not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error."));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.smapi.model.v1.skill.betaTest.testers.ListTestersResponse.class, false);
+    return this.executeRequest(GET_LIST_OF_TESTERS_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -1851,6 +3220,36 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     return this.callGetListOfTestersV1(skillId, nextToken, maxResults).getResponse();
   }
 
+  /**
+   * List testers.
+   * List all testers in a beta test for the given Alexa skill.
+   * @param skillId The skill ID. (required)
+   * @param nextToken When response to this API call is truncated (that is, isTruncated response element value is true), the response also includes the nextToken element. The value of nextToken can be used in the next request as the continuation-token to list the next set of objects. The continuation token is an opaque value that Skill Management API understands. Token has expiry of 24 hours. (optional)
+   * @param maxResults Sets the maximum number of results returned in the response body. If you want to retrieve fewer than upper limit of 50 results, you can add this parameter to your request. maxResults should not exceed the upper limit. The response might contain fewer results than maxResults, but it will never contain more. If there are additional results that satisfy the search criteria, but these results were not returned, the response contains isTruncated &#x3D; true. (optional)
+   * @return com.amazon.ask.smapi.model.v1.skill.betaTest.testers.ListTestersResponse
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.betaTest.testers.ListTestersResponse>> callGetListOfTestersV1Async(String skillId, String nextToken, BigDecimal maxResults) {
+    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+
+    if(nextToken != null) {
+    queryParams.add(new Pair<String, String>("nextToken", nextToken));
+  }
+
+    if(maxResults != null) {
+    queryParams.add(new Pair<String, String>("maxResults", maxResults.toString()));
+  }
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(GET_LIST_OF_TESTERS_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * Remove testers from an existing beta test.
    * Remove testers from a beta test for the given Alexa skill.  System will send access end email to each tester and remove entitlement for them. 
@@ -1859,27 +3258,16 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callRemoveTestersFromBetaTestV1(String skillId, com.amazon.ask.smapi.model.v1.skill.betaTest.testers.TestersList testersRequest) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/betaTest/testers/remove";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 204, "Success. No content."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "The resource being requested is not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error."));
-
-    return this.executeRequest("POST", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, testersRequest, null, false);
+    return this.executeRequest(REMOVE_TESTERS_FROM_BETA_TEST_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, testersRequest);
   }
 
   /**
@@ -1893,6 +3281,26 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     this.callRemoveTestersFromBetaTestV1(skillId, testersRequest).getResponse();
   }
 
+  /**
+   * Remove testers from an existing beta test.
+   * Remove testers from a beta test for the given Alexa skill.  System will send access end email to each tester and remove entitlement for them. 
+   * @param skillId The skill ID. (required)
+   * @param testersRequest JSON object containing the email address of beta testers. (required)
+   */
+  public CompletableFuture<ApiResponse<Void>> callRemoveTestersFromBetaTestV1Async(String skillId, com.amazon.ask.smapi.model.v1.skill.betaTest.testers.TestersList testersRequest) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(REMOVE_TESTERS_FROM_BETA_TEST_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, testersRequest);
+    });
+  }
+
   /**
    * Request feedback from testers.
    * Request feedback from the testers in a beta test for the given Alexa skill.  System will send notification emails to testers to request feedback. 
@@ -1901,28 +3309,16 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callRequestFeedbackFromTestersV1(String skillId, com.amazon.ask.smapi.model.v1.skill.betaTest.testers.TestersList testersRequest) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/betaTest/testers/requestFeedback";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 204, "Success. No content."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "The resource being requested is not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 409, "The request could not be completed due to a conflict with the current state of the target resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error."));
-
-    return this.executeRequest("POST", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, testersRequest, null, false);
+    return this.executeRequest(REQUEST_FEEDBACK_FROM_TESTERS_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, testersRequest);
   }
 
   /**
@@ -1936,6 +3332,26 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     this.callRequestFeedbackFromTestersV1(skillId, testersRequest).getResponse();
   }
 
+  /**
+   * Request feedback from testers.
+   * Request feedback from the testers in a beta test for the given Alexa skill.  System will send notification emails to testers to request feedback. 
+   * @param skillId The skill ID. (required)
+   * @param testersRequest JSON object containing the email address of beta testers. (required)
+   */
+  public CompletableFuture<ApiResponse<Void>> callRequestFeedbackFromTestersV1Async(String skillId, com.amazon.ask.smapi.model.v1.skill.betaTest.testers.TestersList testersRequest) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(REQUEST_FEEDBACK_FROM_TESTERS_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, testersRequest);
+    });
+  }
+
   /**
    * Send reminder to testers in a beta test.
    * Send reminder to the testers in a beta test for the given Alexa skill.  System will send invitation email to each tester and add entitlement on the acceptance. 
@@ -1944,28 +3360,16 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callSendReminderToTestersV1(String skillId, com.amazon.ask.smapi.model.v1.skill.betaTest.testers.TestersList testersRequest) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/betaTest/testers/sendReminder";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 204, "Success. No content."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "The resource being requested is not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 409, "The request could not be completed due to a conflict with the current state of the target resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error."));
-
-    return this.executeRequest("POST", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, testersRequest, null, false);
+    return this.executeRequest(SEND_REMINDER_TO_TESTERS_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, testersRequest);
   }
 
   /**
@@ -1979,6 +3383,26 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     this.callSendReminderToTestersV1(skillId, testersRequest).getResponse();
   }
 
+  /**
+   * Send reminder to testers in a beta test.
+   * Send reminder to the testers in a beta test for the given Alexa skill.  System will send invitation email to each tester and add entitlement on the acceptance. 
+   * @param skillId The skill ID. (required)
+   * @param testersRequest JSON object containing the email address of beta testers. (required)
+   */
+  public CompletableFuture<ApiResponse<Void>> callSendReminderToTestersV1Async(String skillId, com.amazon.ask.smapi.model.v1.skill.betaTest.testers.TestersList testersRequest) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(SEND_REMINDER_TO_TESTERS_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, testersRequest);
+    });
+  }
+
   /**
    * 
    * Gets a specific certification resource. The response contains the review tracking information for a skill to show how much time the skill is expected to remain under review by Amazon. Once the review is complete, the response also contains the outcome of the review. Old certifications may not be available, however any ongoing certification would always give a response. If the certification is unavailable the result will return a 404 HTTP status code. 
@@ -1989,12 +3413,11 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.smapi.model.v1.skill.certification.CertificationResponse> callGetCertificationReviewV1(String skillId, String certificationId, String acceptLanguage) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     pathParams.put("certificationId", certificationId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     if (acceptLanguage != null) {
       headerParams.add(new Pair<String, String>("Accept-Language", acceptLanguage));
@@ -2003,17 +3426,8 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/certifications/{certificationId}";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.certification.CertificationResponse.class, 200, "Successfully retrieved skill certification information."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "The resource being requested is not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Exceeded the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId. "));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error."));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.smapi.model.v1.skill.certification.CertificationResponse.class, false);
+    return this.executeRequest(GET_CERTIFICATION_REVIEW_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -2029,6 +3443,33 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     return this.callGetCertificationReviewV1(skillId, certificationId, acceptLanguage).getResponse();
   }
 
+  /**
+   * 
+   * Gets a specific certification resource. The response contains the review tracking information for a skill to show how much time the skill is expected to remain under review by Amazon. Once the review is complete, the response also contains the outcome of the review. Old certifications may not be available, however any ongoing certification would always give a response. If the certification is unavailable the result will return a 404 HTTP status code. 
+   * @param skillId The skill ID. (required)
+   * @param certificationId Id of the certification. Reserved word identifier of mostRecent can be used to get the most recent certification for the skill. Note that the behavior of the API in this case would be the same as when the actual certification id of the most recent certification is used in the request.  (required)
+   * @param acceptLanguage User&#39;s locale/language in context. (optional)
+   * @return com.amazon.ask.smapi.model.v1.skill.certification.CertificationResponse
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.certification.CertificationResponse>> callGetCertificationReviewV1Async(String skillId, String certificationId, String acceptLanguage) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    pathParams.put("certificationId", certificationId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    if (acceptLanguage != null) {
+      headerParams.add(new Pair<String, String>("Accept-Language", acceptLanguage));
+    }
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(GET_CERTIFICATION_REVIEW_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * 
    * Get list of all certifications available for a skill, including information about past certifications and any ongoing certification. The default sort order is descending on skillSubmissionTimestamp for Certifications. 
@@ -2051,23 +3492,12 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/certifications";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.certification.ListCertificationsResponse.class, 200, "Returns list of certifications for the skillId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 400, "Server cannot process the request due to a client error e.g. if any request parameter is invalid like certification Id or pagination token etc. If the maxResults is not in the range of 1 to 50, it also qualifies for this error. "));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "The resource being requested is not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Exceeded the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId. "));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error."));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.smapi.model.v1.skill.certification.ListCertificationsResponse.class, false);
+    return this.executeRequest(GET_CERTIFICATIONS_LIST_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -2083,6 +3513,36 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     return this.callGetCertificationsListV1(skillId, nextToken, maxResults).getResponse();
   }
 
+  /**
+   * 
+   * Get list of all certifications available for a skill, including information about past certifications and any ongoing certification. The default sort order is descending on skillSubmissionTimestamp for Certifications. 
+   * @param skillId The skill ID. (required)
+   * @param nextToken When response to this API call is truncated (that is, isTruncated response element value is true), the response also includes the nextToken element. The value of nextToken can be used in the next request as the continuation-token to list the next set of objects. The continuation token is an opaque value that Skill Management API understands. Token has expiry of 24 hours. (optional)
+   * @param maxResults Sets the maximum number of results returned in the response body. If you want to retrieve fewer than upper limit of 50 results, you can add this parameter to your request. maxResults should not exceed the upper limit. The response might contain fewer results than maxResults, but it will never contain more. If there are additional results that satisfy the search criteria, but these results were not returned, the response contains isTruncated &#x3D; true. (optional)
+   * @return com.amazon.ask.smapi.model.v1.skill.certification.ListCertificationsResponse
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.certification.ListCertificationsResponse>> callGetCertificationsListV1Async(String skillId, String nextToken, BigDecimal maxResults) {
+    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+
+    if(nextToken != null) {
+    queryParams.add(new Pair<String, String>("nextToken", nextToken));
+  }
+
+    if(maxResults != null) {
+    queryParams.add(new Pair<String, String>("maxResults", maxResults.toString()));
+  }
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(GET_CERTIFICATIONS_LIST_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * 
    * Delete the skill and model for given skillId.
@@ -2090,38 +3550,172 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callDeleteSkillV1(String skillId) throws ServiceException {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    String accessToken = lwaClient.getAccessTokenForRefreshToken();
+    headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+    return this.executeRequest(DELETE_SKILL_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
+  }
+
+  /**
+   * 
+   * Delete the skill and model for given skillId.
+   * @param skillId The skill ID. (required)
+   * @throws ServiceException if fails to make API call
+   */
+  public void deleteSkillV1(String skillId) throws ServiceException {
+    this.callDeleteSkillV1(skillId).getResponse();
+  }
+
+  /**
+   * 
+   * Delete the skill and model for given skillId.
+   * @param skillId The skill ID. (required)
+   */
+  public CompletableFuture<ApiResponse<Void>> callDeleteSkillV1Async(String skillId) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(DELETE_SKILL_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
+  /**
+   * The Intent Request History API provides customers with the aggregated and anonymized transcription of user speech data and intent request details for their skills.
+   * 
+   * @param skillId The skill ID. (required)
+   * @param nextToken When response to this API call is truncated (that is, isTruncated response element value is true), the response also includes the nextToken element. The value of nextToken can be used in the next request as the continuation-token to list the next set of objects. The continuation token is an opaque value that Skill Management API understands. Token has expiry of 24 hours. (optional)
+   * @param maxResults Sets the maximum number of results returned in the response body. If you want to retrieve fewer than upper limit of 50 results, you can add this parameter to your request. maxResults should not exceed the upper limit. The response might contain fewer results than maxResults, but it will never contain more. If there are additional results that satisfy the search criteria, but these results were not returned, the response contains isTruncated &#x3D; true. (optional)
+   * @param sortDirection Sets the sorting direction of the result items. When set to &#39;asc&#39; these items are returned in ascending order of sortField value and when set to &#39;desc&#39; these items are returned in descending order of sortField value. (optional)
+   * @param sortField Sets the field on which the sorting would be applied. (optional)
+   * @param stage A filter used to retrieve items where the stage is equal to the given value. (optional)
+   * @param locale  (optional)
+   * @param dialogActName A filter used to retrieve items where the dialogAct name is equal to the given value. * &#x60;Dialog.ElicitSlot&#x60;: Alexa asked the user for the value of a specific slot. (https://developer.amazon.com/docs/custom-skills/dialog-interface-reference.html#elicitslot) * &#x60;Dialog.ConfirmSlot&#x60;: Alexa confirmed the value of a specific slot before continuing with the dialog. (https://developer.amazon.com/docs/custom-skills/dialog-interface-reference.html#confirmslot) * &#x60;Dialog.ConfirmIntent&#x60;: Alexa confirmed the all the information the user has provided for the intent before the skill took action. (https://developer.amazon.com/docs/custom-skills/dialog-interface-reference.html#confirmintent)  (optional)
+   * @param intentConfidenceBin  (optional)
+   * @param intentName A filter used to retrieve items where the intent name is equal to the given value. (optional)
+   * @param intentSlotsName A filter used to retrieve items where the one of the slot names is equal to the given value. (optional)
+   * @param interactionType  (optional)
+   * @param publicationStatus  (optional)
+   * @param utteranceText A filter used to retrieve items where the utterance text contains the given phrase. Each filter value can be at-least 1 character and at-most 100 characters long. (optional)
+   * @return com.amazon.ask.smapi.model.v1.skill.history.IntentRequests
+   * @throws ServiceException if fails to make API call
+   */
+  public ApiResponse<com.amazon.ask.smapi.model.v1.skill.history.IntentRequests> callGetUtteranceDataV1(String skillId, String nextToken, BigDecimal maxResults, String sortDirection, String sortField, List<com.amazon.ask.smapi.model.v1.StageType> stage, List<com.amazon.ask.smapi.model.v1.skill.history.LocaleInQuery> locale, List<com.amazon.ask.smapi.model.v1.skill.history.DialogActName> dialogActName, List<com.amazon.ask.smapi.model.v1.skill.history.IntentConfidenceBin> intentConfidenceBin, List<String> intentName, List<String> intentSlotsName, List<com.amazon.ask.smapi.model.v1.skill.history.InteractionType> interactionType, List<com.amazon.ask.smapi.model.v1.skill.history.PublicationStatus> publicationStatus, List<String> utteranceText) throws ServiceException {
     List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+
+    if(nextToken != null) {
+    queryParams.add(new Pair<String, String>("nextToken", nextToken));
+  }
+
+    if(maxResults != null) {
+    queryParams.add(new Pair<String, String>("maxResults", maxResults.toString()));
+  }
+
+    if(sortDirection != null) {
+    queryParams.add(new Pair<String, String>("sortDirection", sortDirection));
+  }
+
+    if(sortField != null) {
+    queryParams.add(new Pair<String, String>("sortField", sortField));
+  }
+
+    if(stage != null) {
+    for (Object param : stage) {
+      queryParams.add(new Pair<String, String>("stage", param.toString()));
+    }
+  }
+
+    if(locale != null) {
+    for (Object param : locale) {
+      queryParams.add(new Pair<String, String>("locale", param.toString()));
+    }
+  }
+
+    if(dialogActName != null) {
+    for (Object param : dialogActName) {
+      queryParams.add(new Pair<String, String>("dialogAct.name", param.toString()));
+    }
+  }
+
+    if(intentConfidenceBin != null) {
+    for (Object param : intentConfidenceBin) {
+      queryParams.add(new Pair<String, String>("intent.confidence.bin", param.toString()));
+    }
+  }
+
+    if(intentName != null) {
+    for (Object param : intentName) {
+      queryParams.add(new Pair<String, String>("intent.name", param.toString()));
+    }
+  }
+
+    if(intentSlotsName != null) {
+    for (Object param : intentSlotsName) {
+      queryParams.add(new Pair<String, String>("intent.slots.name", param.toString()));
+    }
+  }
+
+    if(interactionType != null) {
+    for (Object param : interactionType) {
+      queryParams.add(new Pair<String, String>("interactionType", param.toString()));
+    }
+  }
+
+    if(publicationStatus != null) {
+    for (Object param : publicationStatus) {
+      queryParams.add(new Pair<String, String>("publicationStatus", param.toString()));
+    }
+  }
+
+    if(utteranceText != null) {
+    for (Object param : utteranceText) {
+      queryParams.add(new Pair<String, String>("utteranceText", param.toString()));
+    }
+  }
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 204, "Success. No content."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("DELETE", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, null, false);
+    return this.executeRequest(GET_UTTERANCE_DATA_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
+   * The Intent Request History API provides customers with the aggregated and anonymized transcription of user speech data and intent request details for their skills.
    * 
-   * Delete the skill and model for given skillId.
    * @param skillId The skill ID. (required)
+   * @param nextToken When response to this API call is truncated (that is, isTruncated response element value is true), the response also includes the nextToken element. The value of nextToken can be used in the next request as the continuation-token to list the next set of objects. The continuation token is an opaque value that Skill Management API understands. Token has expiry of 24 hours. (optional)
+   * @param maxResults Sets the maximum number of results returned in the response body. If you want to retrieve fewer than upper limit of 50 results, you can add this parameter to your request. maxResults should not exceed the upper limit. The response might contain fewer results than maxResults, but it will never contain more. If there are additional results that satisfy the search criteria, but these results were not returned, the response contains isTruncated &#x3D; true. (optional)
+   * @param sortDirection Sets the sorting direction of the result items. When set to &#39;asc&#39; these items are returned in ascending order of sortField value and when set to &#39;desc&#39; these items are returned in descending order of sortField value. (optional)
+   * @param sortField Sets the field on which the sorting would be applied. (optional)
+   * @param stage A filter used to retrieve items where the stage is equal to the given value. (optional)
+   * @param locale  (optional)
+   * @param dialogActName A filter used to retrieve items where the dialogAct name is equal to the given value. * &#x60;Dialog.ElicitSlot&#x60;: Alexa asked the user for the value of a specific slot. (https://developer.amazon.com/docs/custom-skills/dialog-interface-reference.html#elicitslot) * &#x60;Dialog.ConfirmSlot&#x60;: Alexa confirmed the value of a specific slot before continuing with the dialog. (https://developer.amazon.com/docs/custom-skills/dialog-interface-reference.html#confirmslot) * &#x60;Dialog.ConfirmIntent&#x60;: Alexa confirmed the all the information the user has provided for the intent before the skill took action. (https://developer.amazon.com/docs/custom-skills/dialog-interface-reference.html#confirmintent)  (optional)
+   * @param intentConfidenceBin  (optional)
+   * @param intentName A filter used to retrieve items where the intent name is equal to the given value. (optional)
+   * @param intentSlotsName A filter used to retrieve items where the one of the slot names is equal to the given value. (optional)
+   * @param interactionType  (optional)
+   * @param publicationStatus  (optional)
+   * @param utteranceText A filter used to retrieve items where the utterance text contains the given phrase. Each filter value can be at-least 1 character and at-most 100 characters long. (optional)
+   * @return com.amazon.ask.smapi.model.v1.skill.history.IntentRequests
    * @throws ServiceException if fails to make API call
    */
-  public void deleteSkillV1(String skillId) throws ServiceException {
-    this.callDeleteSkillV1(skillId).getResponse();
+  public com.amazon.ask.smapi.model.v1.skill.history.IntentRequests getUtteranceDataV1(String skillId, String nextToken, BigDecimal maxResults, String sortDirection, String sortField, List<com.amazon.ask.smapi.model.v1.StageType> stage, List<com.amazon.ask.smapi.model.v1.skill.history.LocaleInQuery> locale, List<com.amazon.ask.smapi.model.v1.skill.history.DialogActName> dialogActName, List<com.amazon.ask.smapi.model.v1.skill.history.IntentConfidenceBin> intentConfidenceBin, List<String> intentName, List<String> intentSlotsName, List<com.amazon.ask.smapi.model.v1.skill.history.InteractionType> interactionType, List<com.amazon.ask.smapi.model.v1.skill.history.PublicationStatus> publicationStatus, List<String> utteranceText) throws ServiceException {
+    return this.callGetUtteranceDataV1(skillId, nextToken, maxResults, sortDirection, sortField, stage, locale, dialogActName, intentConfidenceBin, intentName, intentSlotsName, interactionType, publicationStatus, utteranceText).getResponse();
   }
 
   /**
@@ -2142,9 +3736,8 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @param publicationStatus  (optional)
    * @param utteranceText A filter used to retrieve items where the utterance text contains the given phrase. Each filter value can be at-least 1 character and at-most 100 characters long. (optional)
    * @return com.amazon.ask.smapi.model.v1.skill.history.IntentRequests
-   * @throws ServiceException if fails to make API call
    */
-  public ApiResponse<com.amazon.ask.smapi.model.v1.skill.history.IntentRequests> callGetUtteranceDataV1(String skillId, String nextToken, BigDecimal maxResults, String sortDirection, String sortField, List<com.amazon.ask.smapi.model.v1.StageType> stage, List<com.amazon.ask.smapi.model.v1.skill.history.LocaleInQuery> locale, List<com.amazon.ask.smapi.model.v1.skill.history.DialogActName> dialogActName, List<com.amazon.ask.smapi.model.v1.skill.history.IntentConfidenceBin> intentConfidenceBin, List<String> intentName, List<String> intentSlotsName, List<com.amazon.ask.smapi.model.v1.skill.history.InteractionType> interactionType, List<com.amazon.ask.smapi.model.v1.skill.history.PublicationStatus> publicationStatus, List<String> utteranceText) throws ServiceException {
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.history.IntentRequests>> callGetUtteranceDataV1Async(String skillId, String nextToken, BigDecimal maxResults, String sortDirection, String sortField, List<com.amazon.ask.smapi.model.v1.StageType> stage, List<com.amazon.ask.smapi.model.v1.skill.history.LocaleInQuery> locale, List<com.amazon.ask.smapi.model.v1.skill.history.DialogActName> dialogActName, List<com.amazon.ask.smapi.model.v1.skill.history.IntentConfidenceBin> intentConfidenceBin, List<String> intentName, List<String> intentSlotsName, List<com.amazon.ask.smapi.model.v1.skill.history.InteractionType> interactionType, List<com.amazon.ask.smapi.model.v1.skill.history.PublicationStatus> publicationStatus, List<String> utteranceText) {
     List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
 
     if(nextToken != null) {
@@ -2219,48 +3812,13 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
-
-    String accessToken = lwaClient.getAccessTokenForRefreshToken();
-    headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
-
-    String path = "/v1/skills/{skillId}/history/intentRequests";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.history.IntentRequests.class, 200, "Returns a list of utterance items for the given skill."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Bad Request."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "Unauthorized."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "Skill Not Found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
 
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.smapi.model.v1.skill.history.IntentRequests.class, false);
-  }
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-  /**
-   * The Intent Request History API provides customers with the aggregated and anonymized transcription of user speech data and intent request details for their skills.
-   * 
-   * @param skillId The skill ID. (required)
-   * @param nextToken When response to this API call is truncated (that is, isTruncated response element value is true), the response also includes the nextToken element. The value of nextToken can be used in the next request as the continuation-token to list the next set of objects. The continuation token is an opaque value that Skill Management API understands. Token has expiry of 24 hours. (optional)
-   * @param maxResults Sets the maximum number of results returned in the response body. If you want to retrieve fewer than upper limit of 50 results, you can add this parameter to your request. maxResults should not exceed the upper limit. The response might contain fewer results than maxResults, but it will never contain more. If there are additional results that satisfy the search criteria, but these results were not returned, the response contains isTruncated &#x3D; true. (optional)
-   * @param sortDirection Sets the sorting direction of the result items. When set to &#39;asc&#39; these items are returned in ascending order of sortField value and when set to &#39;desc&#39; these items are returned in descending order of sortField value. (optional)
-   * @param sortField Sets the field on which the sorting would be applied. (optional)
-   * @param stage A filter used to retrieve items where the stage is equal to the given value. (optional)
-   * @param locale  (optional)
-   * @param dialogActName A filter used to retrieve items where the dialogAct name is equal to the given value. * &#x60;Dialog.ElicitSlot&#x60;: Alexa asked the user for the value of a specific slot. (https://developer.amazon.com/docs/custom-skills/dialog-interface-reference.html#elicitslot) * &#x60;Dialog.ConfirmSlot&#x60;: Alexa confirmed the value of a specific slot before continuing with the dialog. (https://developer.amazon.com/docs/custom-skills/dialog-interface-reference.html#confirmslot) * &#x60;Dialog.ConfirmIntent&#x60;: Alexa confirmed the all the information the user has provided for the intent before the skill took action. (https://developer.amazon.com/docs/custom-skills/dialog-interface-reference.html#confirmintent)  (optional)
-   * @param intentConfidenceBin  (optional)
-   * @param intentName A filter used to retrieve items where the intent name is equal to the given value. (optional)
-   * @param intentSlotsName A filter used to retrieve items where the one of the slot names is equal to the given value. (optional)
-   * @param interactionType  (optional)
-   * @param publicationStatus  (optional)
-   * @param utteranceText A filter used to retrieve items where the utterance text contains the given phrase. Each filter value can be at-least 1 character and at-most 100 characters long. (optional)
-   * @return com.amazon.ask.smapi.model.v1.skill.history.IntentRequests
-   * @throws ServiceException if fails to make API call
-   */
-  public com.amazon.ask.smapi.model.v1.skill.history.IntentRequests getUtteranceDataV1(String skillId, String nextToken, BigDecimal maxResults, String sortDirection, String sortField, List<com.amazon.ask.smapi.model.v1.StageType> stage, List<com.amazon.ask.smapi.model.v1.skill.history.LocaleInQuery> locale, List<com.amazon.ask.smapi.model.v1.skill.history.DialogActName> dialogActName, List<com.amazon.ask.smapi.model.v1.skill.history.IntentConfidenceBin> intentConfidenceBin, List<String> intentName, List<String> intentSlotsName, List<com.amazon.ask.smapi.model.v1.skill.history.InteractionType> interactionType, List<com.amazon.ask.smapi.model.v1.skill.history.PublicationStatus> publicationStatus, List<String> utteranceText) throws ServiceException {
-    return this.callGetUtteranceDataV1(skillId, nextToken, maxResults, sortDirection, sortField, stage, locale, dialogActName, intentConfidenceBin, intentName, intentSlotsName, interactionType, publicationStatus, utteranceText).getResponse();
+      return this.executeRequestAsync(GET_UTTERANCE_DATA_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
   }
 
   /**
@@ -2272,11 +3830,10 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callImportSkillPackageV1(com.amazon.ask.smapi.model.v1.skill.UpdateSkillWithPackageRequest updateSkillWithPackageRequest, String skillId, String ifMatch) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     if (ifMatch != null) {
       headerParams.add(new Pair<String, String>("If-Match", ifMatch));
@@ -2285,21 +3842,8 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/imports";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 202, "Accepted."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 409, "The request could not be completed due to a conflict with the current state of the target resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 413, "Payload too large."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("POST", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, updateSkillWithPackageRequest, null, false);
+    return this.executeRequest(IMPORT_SKILL_PACKAGE_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, updateSkillWithPackageRequest);
   }
 
   /**
@@ -2314,6 +3858,31 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     this.callImportSkillPackageV1(updateSkillWithPackageRequest, skillId, ifMatch).getResponse();
   }
 
+  /**
+   * 
+   * Creates a new import for a skill with given skillId. 
+   * @param updateSkillWithPackageRequest Defines the request body for updatePackage API. (required)
+   * @param skillId The skill ID. (required)
+   * @param ifMatch Request header that specified an entity tag. The server will update the resource only if the eTag matches with the resource&#39;s current eTag. (optional)
+   */
+  public CompletableFuture<ApiResponse<Void>> callImportSkillPackageV1Async(com.amazon.ask.smapi.model.v1.skill.UpdateSkillWithPackageRequest updateSkillWithPackageRequest, String skillId, String ifMatch) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    if (ifMatch != null) {
+      headerParams.add(new Pair<String, String>("If-Match", ifMatch));
+    }
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(IMPORT_SKILL_PACKAGE_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, updateSkillWithPackageRequest);
+    });
+  }
+
   /**
    * 
    * Get analytic metrics report of skill usage.
@@ -2376,25 +3945,12 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/metrics";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.metrics.GetMetricDataResponse.class, 200, "Get analytic metrics report successfully."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Bad request due to invalid or missing data."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 403, "The operation being requested is not allowed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.smapi.model.v1.skill.metrics.GetMetricDataResponse.class, false);
+    return this.executeRequest(GET_SKILL_METRICS_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -2418,6 +3974,76 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     return this.callGetSkillMetricsV1(skillId, startTime, endTime, period, metric, stage, skillType, intent, locale, maxResults, nextToken).getResponse();
   }
 
+  /**
+   * 
+   * Get analytic metrics report of skill usage.
+   * @param skillId The skill ID. (required)
+   * @param startTime The start time of query. (required)
+   * @param endTime The end time of query (The maximum time duration is 1 week) (required)
+   * @param period The aggregation period to use when retrieving the metric, follows ISO_8601#Durations format. (required)
+   * @param metric A distinct set of logic which predictably returns a set of data. (required)
+   * @param stage The stage of the skill (live, development). (required)
+   * @param skillType The type of the skill (custom, smartHome and flashBriefing). (required)
+   * @param intent The intent of the skill. (optional)
+   * @param locale The locale for the skill. e.g. en-GB, en-US, de-DE and etc. (optional)
+   * @param maxResults Sets the maximum number of results returned in the response body. If you want to retrieve fewer than upper limit of 50 results, you can add this parameter to your request. maxResults should not exceed the upper limit. The response might contain fewer results than maxResults, but it will never contain more. If there are additional results that satisfy the search criteria, but these results were not returned, the response contains isTruncated &#x3D; true. (optional)
+   * @param nextToken When response to this API call is truncated (that is, isTruncated response element value is true), the response also includes the nextToken element. The value of nextToken can be used in the next request as the continuation-token to list the next set of objects. The continuation token is an opaque value that Skill Management API understands. Token has expiry of 24 hours. (optional)
+   * @return com.amazon.ask.smapi.model.v1.skill.metrics.GetMetricDataResponse
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.metrics.GetMetricDataResponse>> callGetSkillMetricsV1Async(String skillId, OffsetDateTime startTime, OffsetDateTime endTime, String period, String metric, String stage, String skillType, String intent, String locale, BigDecimal maxResults, String nextToken) {
+    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+
+    if(startTime != null) {
+    queryParams.add(new Pair<String, String>("startTime", startTime.toString()));
+  }
+
+    if(endTime != null) {
+    queryParams.add(new Pair<String, String>("endTime", endTime.toString()));
+  }
+
+    if(period != null) {
+    queryParams.add(new Pair<String, String>("period", period));
+  }
+
+    if(metric != null) {
+    queryParams.add(new Pair<String, String>("metric", metric));
+  }
+
+    if(stage != null) {
+    queryParams.add(new Pair<String, String>("stage", stage));
+  }
+
+    if(skillType != null) {
+    queryParams.add(new Pair<String, String>("skillType", skillType));
+  }
+
+    if(intent != null) {
+    queryParams.add(new Pair<String, String>("intent", intent));
+  }
+
+    if(locale != null) {
+    queryParams.add(new Pair<String, String>("locale", locale));
+  }
+
+    if(maxResults != null) {
+    queryParams.add(new Pair<String, String>("maxResults", maxResults.toString()));
+  }
+
+    if(nextToken != null) {
+    queryParams.add(new Pair<String, String>("nextToken", nextToken));
+  }
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(GET_SKILL_METRICS_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * Simulate executing a skill with the given id.
    * This is an asynchronous API that simulates a skill execution in the Alexa eco-system given an utterance text of what a customer would say to Alexa. A successful response will contain a header with the location of the simulation resource. In cases where requests to this API results in an error, the response will contain an error code and a description of the problem. The skill being simulated must be in development stage, and it must also belong to and be enabled by the user of this API. Concurrent requests per user is currently not supported. 
@@ -2427,30 +4053,16 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.smapi.model.v1.skill.simulations.SimulationsApiResponse> callSimulateSkillV1(String skillId, com.amazon.ask.smapi.model.v1.skill.simulations.SimulationsApiRequest simulationsApiRequest) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/simulations";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.simulations.SimulationsApiResponse.class, 200, "Skill simulation has successfully began."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Bad request due to invalid or missing data."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "API user does not have permission to call this API or is currently in a state that does not allow simulation of this skill. "));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "The specified skill does not exist."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 409, "This requests conflicts with another one currently being processed. "));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "API user has exceeded the permitted request rate."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal service error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("POST", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, simulationsApiRequest, com.amazon.ask.smapi.model.v1.skill.simulations.SimulationsApiResponse.class, false);
+    return this.executeRequest(SIMULATE_SKILL_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, simulationsApiRequest);
   }
 
   /**
@@ -2465,6 +4077,27 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     return this.callSimulateSkillV1(skillId, simulationsApiRequest).getResponse();
   }
 
+  /**
+   * Simulate executing a skill with the given id.
+   * This is an asynchronous API that simulates a skill execution in the Alexa eco-system given an utterance text of what a customer would say to Alexa. A successful response will contain a header with the location of the simulation resource. In cases where requests to this API results in an error, the response will contain an error code and a description of the problem. The skill being simulated must be in development stage, and it must also belong to and be enabled by the user of this API. Concurrent requests per user is currently not supported. 
+   * @param skillId The skill ID. (required)
+   * @param simulationsApiRequest Payload sent to the skill simulation API. (required)
+   * @return com.amazon.ask.smapi.model.v1.skill.simulations.SimulationsApiResponse
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.simulations.SimulationsApiResponse>> callSimulateSkillV1Async(String skillId, com.amazon.ask.smapi.model.v1.skill.simulations.SimulationsApiRequest simulationsApiRequest) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(SIMULATE_SKILL_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, simulationsApiRequest);
+    });
+  }
+
   /**
    * Get the result of a previously executed simulation.
    * This API gets the result of a previously executed simulation. A successful response will contain the status of the executed simulation. If the simulation successfully completed, the response will also contain information related to skill invocation. In cases where requests to this API results in an error, the response will contain an error code and a description of the problem. In cases where the simulation failed, the response will contain a status attribute indicating that a failure occurred and details about what was sent to the skill endpoint. Note that simulation results are stored for 10 minutes. A request for an expired simulation result will return a 404 HTTP status code. 
@@ -2474,29 +4107,17 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.smapi.model.v1.skill.simulations.SimulationsApiResponse> callGetSkillSimulationV1(String skillId, String simulationId) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     pathParams.put("simulationId", simulationId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/simulations/{simulationId}";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.simulations.SimulationsApiResponse.class, 200, "Successfully retrieved skill simulation information."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "API user does not have permission or is currently in a state that does not allow calls to this API. "));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "The specified skill or simulation does not exist. The error response will contain a description that indicates the specific resource type that was not found. "));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "API user has exceeded the permitted request rate."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal service error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.smapi.model.v1.skill.simulations.SimulationsApiResponse.class, false);
+    return this.executeRequest(GET_SKILL_SIMULATION_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -2511,6 +4132,28 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     return this.callGetSkillSimulationV1(skillId, simulationId).getResponse();
   }
 
+  /**
+   * Get the result of a previously executed simulation.
+   * This API gets the result of a previously executed simulation. A successful response will contain the status of the executed simulation. If the simulation successfully completed, the response will also contain information related to skill invocation. In cases where requests to this API results in an error, the response will contain an error code and a description of the problem. In cases where the simulation failed, the response will contain a status attribute indicating that a failure occurred and details about what was sent to the skill endpoint. Note that simulation results are stored for 10 minutes. A request for an expired simulation result will return a 404 HTTP status code. 
+   * @param skillId The skill ID. (required)
+   * @param simulationId Id of the simulation.  (required)
+   * @return com.amazon.ask.smapi.model.v1.skill.simulations.SimulationsApiResponse
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.simulations.SimulationsApiResponse>> callGetSkillSimulationV1Async(String skillId, String simulationId) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    pathParams.put("simulationId", simulationId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(GET_SKILL_SIMULATION_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * 
    * Returns the ssl certificate sets currently associated with this skill. Sets consist of one ssl certificate blob associated with a region as well as the default certificate for the skill.
@@ -2519,27 +4162,16 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.smapi.model.v1.skill.SSLCertificatePayload> callGetSSLCertificatesV1(String skillId) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/sslCertificateSets/~latest";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.SSLCertificatePayload.class, 200, "Response contains the latest version of the ssl certificates."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.smapi.model.v1.skill.SSLCertificatePayload.class, false);
+    return this.executeRequest(GET_SSLCERTIFICATES_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -2553,6 +4185,26 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     return this.callGetSSLCertificatesV1(skillId).getResponse();
   }
 
+  /**
+   * 
+   * Returns the ssl certificate sets currently associated with this skill. Sets consist of one ssl certificate blob associated with a region as well as the default certificate for the skill.
+   * @param skillId The skill ID. (required)
+   * @return com.amazon.ask.smapi.model.v1.skill.SSLCertificatePayload
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.SSLCertificatePayload>> callGetSSLCertificatesV1Async(String skillId) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(GET_SSLCERTIFICATES_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * 
    * Updates the ssl certificates associated with this skill.
@@ -2561,28 +4213,16 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callSetSSLCertificatesV1(String skillId, com.amazon.ask.smapi.model.v1.skill.SSLCertificatePayload sslCertificatePayload) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/sslCertificateSets/~latest";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 204, "Accepted; Request was successful and get will now result in the new values."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("PUT", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, sslCertificatePayload, null, false);
+    return this.executeRequest(SET_SSLCERTIFICATES_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, sslCertificatePayload);
   }
 
   /**
@@ -2596,6 +4236,26 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     this.callSetSSLCertificatesV1(skillId, sslCertificatePayload).getResponse();
   }
 
+  /**
+   * 
+   * Updates the ssl certificates associated with this skill.
+   * @param skillId The skill ID. (required)
+   * @param sslCertificatePayload Defines the input/output of the ssl certificates api for a skill. (required)
+   */
+  public CompletableFuture<ApiResponse<Void>> callSetSSLCertificatesV1Async(String skillId, com.amazon.ask.smapi.model.v1.skill.SSLCertificatePayload sslCertificatePayload) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(SET_SSLCERTIFICATES_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, sslCertificatePayload);
+    });
+  }
+
   /**
    * 
    * Deletes the enablement for given skillId/stage and customerId (retrieved from Auth token).
@@ -2604,30 +4264,17 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callDeleteSkillEnablementV1(String skillId, String stage) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     pathParams.put("stage", stage);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/stages/{stage}/enablement";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 204, "No Content; Confirms that enablement is successfully deleted."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 403, "The operation being requested is not allowed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("DELETE", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, null, false);
+    return this.executeRequest(DELETE_SKILL_ENABLEMENT_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -2641,6 +4288,27 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     this.callDeleteSkillEnablementV1(skillId, stage).getResponse();
   }
 
+  /**
+   * 
+   * Deletes the enablement for given skillId/stage and customerId (retrieved from Auth token).
+   * @param skillId The skill ID. (required)
+   * @param stage Stage for skill. (required)
+   */
+  public CompletableFuture<ApiResponse<Void>> callDeleteSkillEnablementV1Async(String skillId, String stage) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    pathParams.put("stage", stage);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(DELETE_SKILL_ENABLEMENT_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * 
    * Checks whether an enablement exist for given skillId/stage and customerId (retrieved from Auth token)
@@ -2649,30 +4317,17 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callGetSkillEnablementStatusV1(String skillId, String stage) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     pathParams.put("stage", stage);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/stages/{stage}/enablement";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 204, "No Content; Confirms that enablement resource exists for given skillId &amp; stage."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 403, "The operation being requested is not allowed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, null, false);
+    return this.executeRequest(GET_SKILL_ENABLEMENT_STATUS_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -2686,6 +4341,27 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     this.callGetSkillEnablementStatusV1(skillId, stage).getResponse();
   }
 
+  /**
+   * 
+   * Checks whether an enablement exist for given skillId/stage and customerId (retrieved from Auth token)
+   * @param skillId The skill ID. (required)
+   * @param stage Stage for skill. (required)
+   */
+  public CompletableFuture<ApiResponse<Void>> callGetSkillEnablementStatusV1Async(String skillId, String stage) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    pathParams.put("stage", stage);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(GET_SKILL_ENABLEMENT_STATUS_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * 
    * Creates/Updates the enablement for given skillId/stage and customerId (retrieved from Auth token)
@@ -2694,31 +4370,28 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callSetSkillEnablementV1(String skillId, String stage) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     pathParams.put("stage", stage);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/stages/{stage}/enablement";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 204, "No Content; Confirms that enablement is successfully created/updated."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 403, "The operation being requested is not allowed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 409, "The request could not be completed due to a conflict with the current state of the target resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
+    return this.executeRequest(SET_SKILL_ENABLEMENT_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
+  }
 
-    return this.executeRequest("PUT", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, null, false);
+  /**
+   * 
+   * Creates/Updates the enablement for given skillId/stage and customerId (retrieved from Auth token)
+   * @param skillId The skill ID. (required)
+   * @param stage Stage for skill. (required)
+   * @throws ServiceException if fails to make API call
+   */
+  public void setSkillEnablementV1(String skillId, String stage) throws ServiceException {
+    this.callSetSkillEnablementV1(skillId, stage).getResponse();
   }
 
   /**
@@ -2726,10 +4399,20 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * Creates/Updates the enablement for given skillId/stage and customerId (retrieved from Auth token)
    * @param skillId The skill ID. (required)
    * @param stage Stage for skill. (required)
-   * @throws ServiceException if fails to make API call
    */
-  public void setSkillEnablementV1(String skillId, String stage) throws ServiceException {
-    this.callSetSkillEnablementV1(skillId, stage).getResponse();
+  public CompletableFuture<ApiResponse<Void>> callSetSkillEnablementV1Async(String skillId, String stage) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    pathParams.put("stage", stage);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(SET_SKILL_ENABLEMENT_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
   }
 
   /**
@@ -2740,29 +4423,17 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callCreateExportRequestForSkillV1(String skillId, String stage) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     pathParams.put("stage", stage);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/stages/{stage}/exports";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 202, "Accepted."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 409, "The request could not be completed due to a conflict with the current state of the target resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("POST", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, null, false);
+    return this.executeRequest(CREATE_EXPORT_REQUEST_FOR_SKILL_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -2776,6 +4447,27 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     this.callCreateExportRequestForSkillV1(skillId, stage).getResponse();
   }
 
+  /**
+   * 
+   * Creates a new export for a skill with given skillId and stage. 
+   * @param skillId The skill ID. (required)
+   * @param stage Stage for skill. (required)
+   */
+  public CompletableFuture<ApiResponse<Void>> callCreateExportRequestForSkillV1Async(String skillId, String stage) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    pathParams.put("stage", stage);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(CREATE_EXPORT_REQUEST_FOR_SKILL_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * 
    * Get the list of in-skill products for the skillId.
@@ -2800,23 +4492,12 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     pathParams.put("skillId", skillId);
     pathParams.put("stage", stage);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/stages/{stage}/inSkillProducts";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.isp.ListInSkillProductResponse.class, 200, "Response contains list of in-skill products for the specified skillId and stage."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Bad request. Returned when a required parameter is not present, badly formatted. "));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "Requested resource not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Too many requests received."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error"));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.smapi.model.v1.isp.ListInSkillProductResponse.class, false);
+    return this.executeRequest(GET_ISP_LIST_FOR_SKILL_ID_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -2833,6 +4514,38 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     return this.callGetIspListForSkillIdV1(skillId, stage, nextToken, maxResults).getResponse();
   }
 
+  /**
+   * 
+   * Get the list of in-skill products for the skillId.
+   * @param skillId The skill ID. (required)
+   * @param stage Stage for skill. (required)
+   * @param nextToken When response to this API call is truncated (that is, isTruncated response element value is true), the response also includes the nextToken element. The value of nextToken can be used in the next request as the continuation-token to list the next set of objects. The continuation token is an opaque value that Skill Management API understands. Token has expiry of 24 hours. (optional)
+   * @param maxResults Sets the maximum number of results returned in the response body. If you want to retrieve fewer than upper limit of 50 results, you can add this parameter to your request. maxResults should not exceed the upper limit. The response might contain fewer results than maxResults, but it will never contain more. If there are additional results that satisfy the search criteria, but these results were not returned, the response contains isTruncated &#x3D; true. (optional)
+   * @return com.amazon.ask.smapi.model.v1.isp.ListInSkillProductResponse
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.isp.ListInSkillProductResponse>> callGetIspListForSkillIdV1Async(String skillId, String stage, String nextToken, BigDecimal maxResults) {
+    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+
+    if(nextToken != null) {
+    queryParams.add(new Pair<String, String>("nextToken", nextToken));
+  }
+
+    if(maxResults != null) {
+    queryParams.add(new Pair<String, String>("maxResults", maxResults.toString()));
+  }
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    pathParams.put("stage", stage);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(GET_ISP_LIST_FOR_SKILL_ID_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * Profile a test utterance.
    * This is a synchronous API that profiles an utterance against interaction model.
@@ -2844,30 +4557,18 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.smapi.model.v1.skill.evaluations.ProfileNluResponse> callProfileNluV1(com.amazon.ask.smapi.model.v1.skill.evaluations.ProfileNluRequest profileNluRequest, String skillId, String stage, String locale) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     pathParams.put("stage", stage);
     pathParams.put("locale", locale);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/stages/{stage}/interactionModel/locales/{locale}/profileNlu";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.evaluations.ProfileNluResponse.class, 200, "Profiled utterance against interaction model and returned nlu response successfully."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Bad request due to invalid or missing data."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 409, "This requests conflicts with another one currently being processed. "));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "API user has exceeded the permitted request rate."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 500, "Internal service error."));
-
-    return this.executeRequest("POST", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, profileNluRequest, com.amazon.ask.smapi.model.v1.skill.evaluations.ProfileNluResponse.class, false);
+    return this.executeRequest(PROFILE_NLU_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, profileNluRequest);
   }
 
   /**
@@ -2884,6 +4585,31 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     return this.callProfileNluV1(profileNluRequest, skillId, stage, locale).getResponse();
   }
 
+  /**
+   * Profile a test utterance.
+   * This is a synchronous API that profiles an utterance against interaction model.
+   * @param profileNluRequest Payload sent to the profile nlu API. (required)
+   * @param skillId The skill ID. (required)
+   * @param stage Stage for skill. (required)
+   * @param locale The locale for the model requested e.g. en-GB, en-US, de-DE. (required)
+   * @return com.amazon.ask.smapi.model.v1.skill.evaluations.ProfileNluResponse
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.evaluations.ProfileNluResponse>> callProfileNluV1Async(com.amazon.ask.smapi.model.v1.skill.evaluations.ProfileNluRequest profileNluRequest, String skillId, String stage, String locale) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    pathParams.put("stage", stage);
+    pathParams.put("locale", locale);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(PROFILE_NLU_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, profileNluRequest);
+    });
+  }
+
   /**
    * 
    * List private distribution accounts. 
@@ -2908,25 +4634,12 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     pathParams.put("skillId", skillId);
     pathParams.put("stage", stage);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/stages/{stage}/privateDistributionAccounts";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.Private.ListPrivateDistributionAccountsResponse.class, 200, "Returns list of private distribution accounts on success."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.smapi.model.v1.skill.Private.ListPrivateDistributionAccountsResponse.class, false);
+    return this.executeRequest(LIST_PRIVATE_DISTRIBUTION_ACCOUNTS_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -2943,6 +4656,38 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     return this.callListPrivateDistributionAccountsV1(skillId, stage, nextToken, maxResults).getResponse();
   }
 
+  /**
+   * 
+   * List private distribution accounts. 
+   * @param skillId The skill ID. (required)
+   * @param stage Stage for skill. (required)
+   * @param nextToken When response to this API call is truncated (that is, isTruncated response element value is true), the response also includes the nextToken element. The value of nextToken can be used in the next request as the continuation-token to list the next set of objects. The continuation token is an opaque value that Skill Management API understands. Token has expiry of 24 hours. (optional)
+   * @param maxResults Sets the maximum number of results returned in the response body. If you want to retrieve fewer than upper limit of 50 results, you can add this parameter to your request. maxResults should not exceed the upper limit. The response might contain fewer results than maxResults, but it will never contain more. If there are additional results that satisfy the search criteria, but these results were not returned, the response contains isTruncated &#x3D; true. (optional)
+   * @return com.amazon.ask.smapi.model.v1.skill.Private.ListPrivateDistributionAccountsResponse
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.Private.ListPrivateDistributionAccountsResponse>> callListPrivateDistributionAccountsV1Async(String skillId, String stage, String nextToken, BigDecimal maxResults) {
+    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+
+    if(nextToken != null) {
+    queryParams.add(new Pair<String, String>("nextToken", nextToken));
+  }
+
+    if(maxResults != null) {
+    queryParams.add(new Pair<String, String>("maxResults", maxResults.toString()));
+  }
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    pathParams.put("stage", stage);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(LIST_PRIVATE_DISTRIBUTION_ACCOUNTS_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * 
    * Remove an id from the private distribution accounts. 
@@ -2952,31 +4697,18 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callDeletePrivateDistributionAccountIdV1(String skillId, String stage, String id) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     pathParams.put("stage", stage);
     pathParams.put("id", id);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/stages/{stage}/privateDistributionAccounts/{id}";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 204, "Success."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("DELETE", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, null, false);
+    return this.executeRequest(DELETE_PRIVATE_DISTRIBUTION_ACCOUNT_ID_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -2991,6 +4723,29 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     this.callDeletePrivateDistributionAccountIdV1(skillId, stage, id).getResponse();
   }
 
+  /**
+   * 
+   * Remove an id from the private distribution accounts. 
+   * @param skillId The skill ID. (required)
+   * @param stage Stage for skill. (required)
+   * @param id ARN that a skill can be privately distributed to. (required)
+   */
+  public CompletableFuture<ApiResponse<Void>> callDeletePrivateDistributionAccountIdV1Async(String skillId, String stage, String id) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    pathParams.put("stage", stage);
+    pathParams.put("id", id);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(DELETE_PRIVATE_DISTRIBUTION_ACCOUNT_ID_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * 
    * Add an id to the private distribution accounts. 
@@ -3000,31 +4755,18 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callSetPrivateDistributionAccountIdV1(String skillId, String stage, String id) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     pathParams.put("stage", stage);
     pathParams.put("id", id);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/stages/{stage}/privateDistributionAccounts/{id}";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 204, "Success."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("PUT", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, null, false);
+    return this.executeRequest(SET_PRIVATE_DISTRIBUTION_ACCOUNT_ID_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -3039,6 +4781,29 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     this.callSetPrivateDistributionAccountIdV1(skillId, stage, id).getResponse();
   }
 
+  /**
+   * 
+   * Add an id to the private distribution accounts. 
+   * @param skillId The skill ID. (required)
+   * @param stage Stage for skill. (required)
+   * @param id ARN that a skill can be privately distributed to. (required)
+   */
+  public CompletableFuture<ApiResponse<Void>> callSetPrivateDistributionAccountIdV1Async(String skillId, String stage, String id) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    pathParams.put("stage", stage);
+    pathParams.put("id", id);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(SET_PRIVATE_DISTRIBUTION_ACCOUNT_ID_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * 
    * Delete AccountLinking information of a skill for the given stage. 
@@ -3047,29 +4812,17 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callDeleteAccountLinkingInfoV1(String skillId, String stageV2) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     pathParams.put("stageV2", stageV2);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/stages/{stageV2}/accountLinkingClient";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 204, "Success. No content."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The specified skill/stage/accountLinkingClient doesn't exist."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("DELETE", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, null, false);
+    return this.executeRequest(DELETE_ACCOUNT_LINKING_INFO_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -3083,6 +4836,27 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     this.callDeleteAccountLinkingInfoV1(skillId, stageV2).getResponse();
   }
 
+  /**
+   * 
+   * Delete AccountLinking information of a skill for the given stage. 
+   * @param skillId The skill ID. (required)
+   * @param stageV2 Stages of a skill including the new certified stage. * &#x60;development&#x60; - skills which are currently in development corresponds to this stage. * &#x60;certified&#x60; -  skills which have completed certification and ready for publishing corresponds to this stage. * &#x60;live&#x60; - skills which are currently live corresponds to this stage.  (required)
+   */
+  public CompletableFuture<ApiResponse<Void>> callDeleteAccountLinkingInfoV1Async(String skillId, String stageV2) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    pathParams.put("stageV2", stageV2);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(DELETE_ACCOUNT_LINKING_INFO_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * 
    * Get AccountLinking information for the skill. 
@@ -3092,29 +4866,17 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.smapi.model.v1.skill.accountLinking.AccountLinkingResponse> callGetAccountLinkingInfoV1(String skillId, String stageV2) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     pathParams.put("stageV2", stageV2);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/stages/{stageV2}/accountLinkingClient";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.accountLinking.AccountLinkingResponse.class, 200, "Returns AccountLinking response of the skill."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.smapi.model.v1.skill.accountLinking.AccountLinkingResponse.class, false);
+    return this.executeRequest(GET_ACCOUNT_LINKING_INFO_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -3129,6 +4891,28 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     return this.callGetAccountLinkingInfoV1(skillId, stageV2).getResponse();
   }
 
+  /**
+   * 
+   * Get AccountLinking information for the skill. 
+   * @param skillId The skill ID. (required)
+   * @param stageV2 Stages of a skill including the new certified stage. * &#x60;development&#x60; - skills which are currently in development corresponds to this stage. * &#x60;certified&#x60; -  skills which have completed certification and ready for publishing corresponds to this stage. * &#x60;live&#x60; - skills which are currently live corresponds to this stage.  (required)
+   * @return com.amazon.ask.smapi.model.v1.skill.accountLinking.AccountLinkingResponse
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.accountLinking.AccountLinkingResponse>> callGetAccountLinkingInfoV1Async(String skillId, String stageV2) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    pathParams.put("stageV2", stageV2);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(GET_ACCOUNT_LINKING_INFO_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * 
    * Create AccountLinking information for the skill. 
@@ -3139,12 +4923,11 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callUpdateAccountLinkingInfoV1(String skillId, String stageV2, com.amazon.ask.smapi.model.v1.skill.accountLinking.AccountLinkingRequest accountLinkingRequest, String ifMatch) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     pathParams.put("stageV2", stageV2);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     if (ifMatch != null) {
       headerParams.add(new Pair<String, String>("If-Match", ifMatch));
@@ -3153,21 +4936,8 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/stages/{stageV2}/accountLinkingClient";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 204, "Success"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error e.g. Authorization Url is invalid."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 412, "Precondition failed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("PUT", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, accountLinkingRequest, null, false);
+    return this.executeRequest(UPDATE_ACCOUNT_LINKING_INFO_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, accountLinkingRequest);
   }
 
   /**
@@ -3183,6 +4953,33 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     this.callUpdateAccountLinkingInfoV1(skillId, stageV2, accountLinkingRequest, ifMatch).getResponse();
   }
 
+  /**
+   * 
+   * Create AccountLinking information for the skill. 
+   * @param skillId The skill ID. (required)
+   * @param stageV2 Stages of a skill including the new certified stage. * &#x60;development&#x60; - skills which are currently in development corresponds to this stage. * &#x60;certified&#x60; -  skills which have completed certification and ready for publishing corresponds to this stage. * &#x60;live&#x60; - skills which are currently live corresponds to this stage.  (required)
+   * @param accountLinkingRequest The fields required to create accountLinking partner. (required)
+   * @param ifMatch Request header that specified an entity tag. The server will update the resource only if the eTag matches with the resource&#39;s current eTag. (optional)
+   */
+  public CompletableFuture<ApiResponse<Void>> callUpdateAccountLinkingInfoV1Async(String skillId, String stageV2, com.amazon.ask.smapi.model.v1.skill.accountLinking.AccountLinkingRequest accountLinkingRequest, String ifMatch) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    pathParams.put("stageV2", stageV2);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    if (ifMatch != null) {
+      headerParams.add(new Pair<String, String>("If-Match", ifMatch));
+    }
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(UPDATE_ACCOUNT_LINKING_INFO_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, accountLinkingRequest);
+    });
+  }
+
   /**
    * 
    * Gets the &#x60;InteractionModel&#x60; for the skill in the given stage. The path params **skillId**, **stage** and **locale** are required. 
@@ -3193,31 +4990,18 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.smapi.model.v1.skill.interactionModel.InteractionModelData> callGetInteractionModelV1(String skillId, String stageV2, String locale) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     pathParams.put("stageV2", stageV2);
     pathParams.put("locale", locale);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/stages/{stageV2}/interactionModel/locales/{locale}";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.interactionModel.InteractionModelData.class, 200, "Returns interaction model object on success"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The specified skill doesn't exist or there is no model defined for the locale."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.smapi.model.v1.skill.interactionModel.InteractionModelData.class, false);
+    return this.executeRequest(GET_INTERACTION_MODEL_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -3233,6 +5017,30 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     return this.callGetInteractionModelV1(skillId, stageV2, locale).getResponse();
   }
 
+  /**
+   * 
+   * Gets the &#x60;InteractionModel&#x60; for the skill in the given stage. The path params **skillId**, **stage** and **locale** are required. 
+   * @param skillId The skill ID. (required)
+   * @param stageV2 Stages of a skill including the new certified stage. * &#x60;development&#x60; - skills which are currently in development corresponds to this stage. * &#x60;certified&#x60; -  skills which have completed certification and ready for publishing corresponds to this stage. * &#x60;live&#x60; - skills which are currently live corresponds to this stage.  (required)
+   * @param locale The locale for the model requested e.g. en-GB, en-US, de-DE. (required)
+   * @return com.amazon.ask.smapi.model.v1.skill.interactionModel.InteractionModelData
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.interactionModel.InteractionModelData>> callGetInteractionModelV1Async(String skillId, String stageV2, String locale) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    pathParams.put("stageV2", stageV2);
+    pathParams.put("locale", locale);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(GET_INTERACTION_MODEL_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * 
    * Get the latest metadata for the interaction model resource for the given stage 
@@ -3242,31 +5050,18 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callGetInteractionModelMetadataV1(String skillId, String stageV2, String locale) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     pathParams.put("stageV2", stageV2);
     pathParams.put("locale", locale);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/stages/{stageV2}/interactionModel/locales/{locale}";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 204, "success. There is no content but returns etag"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The specified skill or stage or locale does not exist"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("HEAD", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, null, false);
+    return this.executeRequest(GET_INTERACTION_MODEL_METADATA_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -3281,6 +5076,29 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     this.callGetInteractionModelMetadataV1(skillId, stageV2, locale).getResponse();
   }
 
+  /**
+   * 
+   * Get the latest metadata for the interaction model resource for the given stage 
+   * @param skillId The skill ID. (required)
+   * @param stageV2 Stages of a skill including the new certified stage. * &#x60;development&#x60; - skills which are currently in development corresponds to this stage. * &#x60;certified&#x60; -  skills which have completed certification and ready for publishing corresponds to this stage. * &#x60;live&#x60; - skills which are currently live corresponds to this stage.  (required)
+   * @param locale The locale for the model requested e.g. en-GB, en-US, de-DE. (required)
+   */
+  public CompletableFuture<ApiResponse<Void>> callGetInteractionModelMetadataV1Async(String skillId, String stageV2, String locale) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    pathParams.put("stageV2", stageV2);
+    pathParams.put("locale", locale);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(GET_INTERACTION_MODEL_METADATA_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * 
    * Creates an &#x60;InteractionModel&#x60; for the skill. 
@@ -3292,13 +5110,12 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callSetInteractionModelV1(String skillId, String stageV2, String locale, com.amazon.ask.smapi.model.v1.skill.interactionModel.InteractionModelData interactionModel, String ifMatch) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     pathParams.put("stageV2", stageV2);
     pathParams.put("locale", locale);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     if (ifMatch != null) {
       headerParams.add(new Pair<String, String>("If-Match", ifMatch));
@@ -3307,21 +5124,8 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/stages/{stageV2}/interactionModel/locales/{locale}";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 202, "Returns build status location link on success."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error e.g. the input interaction model is invalid"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The specified skill or stage or locale does not exist"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 412, "Precondition failed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("PUT", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, interactionModel, null, false);
+    return this.executeRequest(SET_INTERACTION_MODEL_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, interactionModel);
   }
 
   /**
@@ -3338,6 +5142,35 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     this.callSetInteractionModelV1(skillId, stageV2, locale, interactionModel, ifMatch).getResponse();
   }
 
+  /**
+   * 
+   * Creates an &#x60;InteractionModel&#x60; for the skill. 
+   * @param skillId The skill ID. (required)
+   * @param stageV2 Stages of a skill including the new certified stage. * &#x60;development&#x60; - skills which are currently in development corresponds to this stage. * &#x60;certified&#x60; -  skills which have completed certification and ready for publishing corresponds to this stage. * &#x60;live&#x60; - skills which are currently live corresponds to this stage.  (required)
+   * @param locale The locale for the model requested e.g. en-GB, en-US, de-DE. (required)
+   * @param interactionModel  (required)
+   * @param ifMatch Request header that specified an entity tag. The server will update the resource only if the eTag matches with the resource&#39;s current eTag. (optional)
+   */
+  public CompletableFuture<ApiResponse<Void>> callSetInteractionModelV1Async(String skillId, String stageV2, String locale, com.amazon.ask.smapi.model.v1.skill.interactionModel.InteractionModelData interactionModel, String ifMatch) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    pathParams.put("stageV2", stageV2);
+    pathParams.put("locale", locale);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    if (ifMatch != null) {
+      headerParams.add(new Pair<String, String>("If-Match", ifMatch));
+    }
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(SET_INTERACTION_MODEL_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, interactionModel);
+    });
+  }
+
   /**
    * 
    * Get the list of interactionModel versions of a skill for the vendor.
@@ -3374,25 +5207,12 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     pathParams.put("stageV2", stageV2);
     pathParams.put("locale", locale);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/stages/{stageV2}/interactionModel/locales/{locale}/versions";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.interactionModel.version.ListResponse.class, 200, "Returns list of interactionModel versions of a skill for the vendor."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error e.g. the input interaction model is invalid."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The specified skill doesn't exist or there is no model defined for the locale."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.smapi.model.v1.skill.interactionModel.version.ListResponse.class, false);
+    return this.executeRequest(LIST_INTERACTION_MODEL_VERSIONS_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -3412,6 +5232,50 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     return this.callListInteractionModelVersionsV1(skillId, stageV2, locale, nextToken, maxResults, sortDirection, sortField).getResponse();
   }
 
+  /**
+   * 
+   * Get the list of interactionModel versions of a skill for the vendor.
+   * @param skillId The skill ID. (required)
+   * @param stageV2 Stages of a skill including the new certified stage. * &#x60;development&#x60; - skills which are currently in development corresponds to this stage. * &#x60;certified&#x60; -  skills which have completed certification and ready for publishing corresponds to this stage. * &#x60;live&#x60; - skills which are currently live corresponds to this stage.  (required)
+   * @param locale The locale for the model requested e.g. en-GB, en-US, de-DE. (required)
+   * @param nextToken When response to this API call is truncated (that is, isTruncated response element value is true), the response also includes the nextToken element. The value of nextToken can be used in the next request as the continuation-token to list the next set of objects. The continuation token is an opaque value that Skill Management API understands. Token has expiry of 24 hours. (optional)
+   * @param maxResults Sets the maximum number of results returned in the response body. If you want to retrieve fewer than upper limit of 50 results, you can add this parameter to your request. maxResults should not exceed the upper limit. The response might contain fewer results than maxResults, but it will never contain more. If there are additional results that satisfy the search criteria, but these results were not returned, the response contains isTruncated &#x3D; true. (optional)
+   * @param sortDirection Sets the sorting direction of the result items. When set to &#39;asc&#39; these items are returned in ascending order of sortField value and when set to &#39;desc&#39; these items are returned in descending order of sortField value. (optional)
+   * @param sortField Sets the field on which the sorting would be applied. (optional)
+   * @return com.amazon.ask.smapi.model.v1.skill.interactionModel.version.ListResponse
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.interactionModel.version.ListResponse>> callListInteractionModelVersionsV1Async(String skillId, String stageV2, String locale, String nextToken, BigDecimal maxResults, String sortDirection, String sortField) {
+    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+
+    if(nextToken != null) {
+    queryParams.add(new Pair<String, String>("nextToken", nextToken));
+  }
+
+    if(maxResults != null) {
+    queryParams.add(new Pair<String, String>("maxResults", maxResults.toString()));
+  }
+
+    if(sortDirection != null) {
+    queryParams.add(new Pair<String, String>("sortDirection", sortDirection));
+  }
+
+    if(sortField != null) {
+    queryParams.add(new Pair<String, String>("sortField", sortField));
+  }
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    pathParams.put("stageV2", stageV2);
+    pathParams.put("locale", locale);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(LIST_INTERACTION_MODEL_VERSIONS_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * 
    * Gets the specified version &#x60;InteractionModel&#x60; of a skill for the vendor. Use &#x60;~current&#x60; as version parameter to get the current version model. 
@@ -3423,32 +5287,19 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.smapi.model.v1.skill.interactionModel.InteractionModelData> callGetInteractionModelVersionV1(String skillId, String stageV2, String locale, String version) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     pathParams.put("stageV2", stageV2);
     pathParams.put("locale", locale);
     pathParams.put("version", version);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/stages/{stageV2}/interactionModel/locales/{locale}/versions/{version}";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.interactionModel.InteractionModelData.class, 200, "Returns interaction model object on success."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error e.g. the input interaction model is invalid."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The specified skill doesn't exist or there is no model defined for the locale or version."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.smapi.model.v1.skill.interactionModel.InteractionModelData.class, false);
+    return this.executeRequest(GET_INTERACTION_MODEL_VERSION_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -3465,6 +5316,32 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     return this.callGetInteractionModelVersionV1(skillId, stageV2, locale, version).getResponse();
   }
 
+  /**
+   * 
+   * Gets the specified version &#x60;InteractionModel&#x60; of a skill for the vendor. Use &#x60;~current&#x60; as version parameter to get the current version model. 
+   * @param skillId The skill ID. (required)
+   * @param stageV2 Stages of a skill including the new certified stage. * &#x60;development&#x60; - skills which are currently in development corresponds to this stage. * &#x60;certified&#x60; -  skills which have completed certification and ready for publishing corresponds to this stage. * &#x60;live&#x60; - skills which are currently live corresponds to this stage.  (required)
+   * @param locale The locale for the model requested e.g. en-GB, en-US, de-DE. (required)
+   * @param version Version for interaction model. (required)
+   * @return com.amazon.ask.smapi.model.v1.skill.interactionModel.InteractionModelData
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.interactionModel.InteractionModelData>> callGetInteractionModelVersionV1Async(String skillId, String stageV2, String locale, String version) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    pathParams.put("stageV2", stageV2);
+    pathParams.put("locale", locale);
+    pathParams.put("version", version);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(GET_INTERACTION_MODEL_VERSION_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * 
    * Returns the skill manifest for given skillId and stage.
@@ -3474,31 +5351,17 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.smapi.model.v1.skill.Manifest.SkillManifestEnvelope> callGetSkillManifestV1(String skillId, String stageV2) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     pathParams.put("stageV2", stageV2);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/stages/{stageV2}/manifest";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.Manifest.SkillManifestEnvelope.class, 200, "Response contains the latest version of skill manifest."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 303, "See Other"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.smapi.model.v1.skill.Manifest.SkillManifestEnvelope.class, false);
+    return this.executeRequest(GET_SKILL_MANIFEST_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -3513,6 +5376,28 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     return this.callGetSkillManifestV1(skillId, stageV2).getResponse();
   }
 
+  /**
+   * 
+   * Returns the skill manifest for given skillId and stage.
+   * @param skillId The skill ID. (required)
+   * @param stageV2 Stages of a skill including the new certified stage. * &#x60;development&#x60; - skills which are currently in development corresponds to this stage. * &#x60;certified&#x60; -  skills which have completed certification and ready for publishing corresponds to this stage. * &#x60;live&#x60; - skills which are currently live corresponds to this stage.  (required)
+   * @return com.amazon.ask.smapi.model.v1.skill.Manifest.SkillManifestEnvelope
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.Manifest.SkillManifestEnvelope>> callGetSkillManifestV1Async(String skillId, String stageV2) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    pathParams.put("stageV2", stageV2);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(GET_SKILL_MANIFEST_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * 
    * Updates skill manifest for given skillId and stage.
@@ -3523,12 +5408,11 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callUpdateSkillManifestV1(String skillId, String stageV2, com.amazon.ask.smapi.model.v1.skill.Manifest.SkillManifestEnvelope updateSkillRequest, String ifMatch) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     pathParams.put("stageV2", stageV2);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     if (ifMatch != null) {
       headerParams.add(new Pair<String, String>("If-Match", ifMatch));
@@ -3537,22 +5421,8 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/stages/{stageV2}/manifest";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 202, "Accepted; Returns a URL to track the status in 'Location' header."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 409, "The request could not be completed due to a conflict with the current state of the target resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 412, "Precondition failed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("PUT", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, updateSkillRequest, null, false);
+    return this.executeRequest(UPDATE_SKILL_MANIFEST_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, updateSkillRequest);
   }
 
   /**
@@ -3568,6 +5438,33 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     this.callUpdateSkillManifestV1(skillId, stageV2, updateSkillRequest, ifMatch).getResponse();
   }
 
+  /**
+   * 
+   * Updates skill manifest for given skillId and stage.
+   * @param skillId The skill ID. (required)
+   * @param stageV2 Stages of a skill including the new certified stage. * &#x60;development&#x60; - skills which are currently in development corresponds to this stage. * &#x60;certified&#x60; -  skills which have completed certification and ready for publishing corresponds to this stage. * &#x60;live&#x60; - skills which are currently live corresponds to this stage.  (required)
+   * @param updateSkillRequest Defines the request body for updateSkill API. (required)
+   * @param ifMatch Request header that specified an entity tag. The server will update the resource only if the eTag matches with the resource&#39;s current eTag. (optional)
+   */
+  public CompletableFuture<ApiResponse<Void>> callUpdateSkillManifestV1Async(String skillId, String stageV2, com.amazon.ask.smapi.model.v1.skill.Manifest.SkillManifestEnvelope updateSkillRequest, String ifMatch) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    pathParams.put("stageV2", stageV2);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    if (ifMatch != null) {
+      headerParams.add(new Pair<String, String>("If-Match", ifMatch));
+    }
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(UPDATE_SKILL_MANIFEST_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, updateSkillRequest);
+    });
+  }
+
   /**
    * Validate a skill.
    * This is an asynchronous API which allows a skill developer to execute various validations against their skill. 
@@ -3578,30 +5475,17 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.smapi.model.v1.skill.validations.ValidationsApiResponse> callSubmitSkillValidationV1(com.amazon.ask.smapi.model.v1.skill.validations.ValidationsApiRequest validationsApiRequest, String skillId, String stage) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     pathParams.put("stage", stage);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/stages/{stage}/validations";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.validations.ValidationsApiResponse.class, 202, "Skill validation has successfully begun."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "API user does not have permission or is currently in a state that does not allow calls to this API. "));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "The specified skill, stage or validation does not exist. The error response will contain a description that indicates the specific resource type that was not found. "));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 409, "This requests conflicts with another one currently being processed. "));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "API user has exceeded the permitted request rate."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal service error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("POST", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, validationsApiRequest, com.amazon.ask.smapi.model.v1.skill.validations.ValidationsApiResponse.class, false);
+    return this.executeRequest(SUBMIT_SKILL_VALIDATION_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, validationsApiRequest);
   }
 
   /**
@@ -3617,6 +5501,29 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     return this.callSubmitSkillValidationV1(validationsApiRequest, skillId, stage).getResponse();
   }
 
+  /**
+   * Validate a skill.
+   * This is an asynchronous API which allows a skill developer to execute various validations against their skill. 
+   * @param validationsApiRequest Payload sent to the skill validation API. (required)
+   * @param skillId The skill ID. (required)
+   * @param stage Stage for skill. (required)
+   * @return com.amazon.ask.smapi.model.v1.skill.validations.ValidationsApiResponse
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.validations.ValidationsApiResponse>> callSubmitSkillValidationV1Async(com.amazon.ask.smapi.model.v1.skill.validations.ValidationsApiRequest validationsApiRequest, String skillId, String stage) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    pathParams.put("stage", stage);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(SUBMIT_SKILL_VALIDATION_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, validationsApiRequest);
+    });
+  }
+
   /**
    * Get the result of a previously executed validation.
    * This API gets the result of a previously executed validation. A successful response will contain the status of the executed validation. If the validation successfully completed, the response will also contain information related to executed validations. In cases where requests to this API results in an error, the response will contain a description of the problem. In cases where the validation failed, the response will contain a status attribute indicating that a failure occurred. Note that validation results are stored for 60 minutes. A request for an expired validation result will return a 404 HTTP status code. 
@@ -3628,13 +5535,12 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.smapi.model.v1.skill.validations.ValidationsApiResponse> callGetSkillValidationsV1(String skillId, String validationId, String stage, String acceptLanguage) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     pathParams.put("validationId", validationId);
     pathParams.put("stage", stage);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     if (acceptLanguage != null) {
       headerParams.add(new Pair<String, String>("Accept-Language", acceptLanguage));
@@ -3643,18 +5549,8 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/stages/{stage}/validations/{validationId}";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.validations.ValidationsApiResponse.class, 200, "Successfully retrieved skill validation information."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "API user does not have permission or is currently in a state that does not allow calls to this API. "));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 404, "The specified skill, stage, or validation does not exist. The error response will contain a description that indicates the specific resource type that was not found. "));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 409, "This requests conflicts with another one currently being processed. "));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "API user has exceeded the permitted request rate."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 500, "Internal service error."));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.smapi.model.v1.skill.validations.ValidationsApiResponse.class, false);
+    return this.executeRequest(GET_SKILL_VALIDATIONS_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -3671,6 +5567,35 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     return this.callGetSkillValidationsV1(skillId, validationId, stage, acceptLanguage).getResponse();
   }
 
+  /**
+   * Get the result of a previously executed validation.
+   * This API gets the result of a previously executed validation. A successful response will contain the status of the executed validation. If the validation successfully completed, the response will also contain information related to executed validations. In cases where requests to this API results in an error, the response will contain a description of the problem. In cases where the validation failed, the response will contain a status attribute indicating that a failure occurred. Note that validation results are stored for 60 minutes. A request for an expired validation result will return a 404 HTTP status code. 
+   * @param skillId The skill ID. (required)
+   * @param validationId Id of the validation. Reserved word identifier of mostRecent can be used to get the most recent validation for the skill and stage. Note that the behavior of the API in this case would be the same as when the actual validation id of the most recent validation is used in the request.  (required)
+   * @param stage Stage for skill. (required)
+   * @param acceptLanguage User&#39;s locale/language in context. (optional)
+   * @return com.amazon.ask.smapi.model.v1.skill.validations.ValidationsApiResponse
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.validations.ValidationsApiResponse>> callGetSkillValidationsV1Async(String skillId, String validationId, String stage, String acceptLanguage) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    pathParams.put("validationId", validationId);
+    pathParams.put("stage", stage);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    if (acceptLanguage != null) {
+      headerParams.add(new Pair<String, String>("Accept-Language", acceptLanguage));
+    }
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(GET_SKILL_VALIDATIONS_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * 
    * Get the status of skill resource and its sub-resources for a given skillId.
@@ -3688,25 +5613,12 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/status";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.SkillStatus.class, 200, "Returns status for skill resource and sub-resources."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.smapi.model.v1.skill.SkillStatus.class, false);
+    return this.executeRequest(GET_SKILL_STATUS_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -3721,6 +5633,31 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     return this.callGetSkillStatusV1(skillId, resource).getResponse();
   }
 
+  /**
+   * 
+   * Get the status of skill resource and its sub-resources for a given skillId.
+   * @param skillId The skill ID. (required)
+   * @param resource Resource name for which status information is desired. It is an optional, filtering parameter and can be used more than once, to retrieve status for all the desired (sub)resources only, in single API call. If this parameter is not specified, status for all the resources/sub-resources will be returned.  (optional)
+   * @return com.amazon.ask.smapi.model.v1.skill.SkillStatus
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.SkillStatus>> callGetSkillStatusV1Async(String skillId, String resource) {
+    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+
+    if(resource != null) {
+    queryParams.add(new Pair<String, String>("resource", resource));
+  }
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(GET_SKILL_STATUS_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * 
    * Submit the skill for certification. 
@@ -3729,29 +5666,16 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callSubmitSkillForCertificationV1(String skillId, com.amazon.ask.smapi.model.v1.skill.SubmitSkillForCertificationRequest submitSkillForCertificationRequest) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/submit";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 202, "Success. There is no content but returns Location in the header."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("POST", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, submitSkillForCertificationRequest, null, false);
+    return this.executeRequest(SUBMIT_SKILL_FOR_CERTIFICATION_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, submitSkillForCertificationRequest);
   }
 
   /**
@@ -3765,6 +5689,26 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     this.callSubmitSkillForCertificationV1(skillId, submitSkillForCertificationRequest).getResponse();
   }
 
+  /**
+   * 
+   * Submit the skill for certification. 
+   * @param skillId The skill ID. (required)
+   * @param submitSkillForCertificationRequest Defines the request body for submitSkillForCertification API. (optional)
+   */
+  public CompletableFuture<ApiResponse<Void>> callSubmitSkillForCertificationV1Async(String skillId, com.amazon.ask.smapi.model.v1.skill.SubmitSkillForCertificationRequest submitSkillForCertificationRequest) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(SUBMIT_SKILL_FOR_CERTIFICATION_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, submitSkillForCertificationRequest);
+    });
+  }
+
   /**
    * 
    * Withdraws the skill from certification. 
@@ -3773,29 +5717,16 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<Void> callWithdrawSkillFromCertificationV1(String skillId, com.amazon.ask.smapi.model.v1.skill.WithdrawRequest withdrawRequest) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("skillId", skillId);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/{skillId}/withdraw";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(null, 204, "Success."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 403, "The operation being requested is not allowed."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 404, "The resource being requested is not found."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("POST", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, withdrawRequest, null, false);
+    return this.executeRequest(WITHDRAW_SKILL_FROM_CERTIFICATION_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, withdrawRequest);
   }
 
   /**
@@ -3809,6 +5740,26 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     this.callWithdrawSkillFromCertificationV1(skillId, withdrawRequest).getResponse();
   }
 
+  /**
+   * 
+   * Withdraws the skill from certification. 
+   * @param skillId The skill ID. (required)
+   * @param withdrawRequest The reason and message (in case of OTHER) to withdraw a skill. (required)
+   */
+  public CompletableFuture<ApiResponse<Void>> callWithdrawSkillFromCertificationV1Async(String skillId, com.amazon.ask.smapi.model.v1.skill.WithdrawRequest withdrawRequest) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("skillId", skillId);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(WITHDRAW_SKILL_FROM_CERTIFICATION_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, withdrawRequest);
+    });
+  }
+
   /**
    * 
    * Creates a new uploadUrl. 
@@ -3816,25 +5767,15 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.smapi.model.v1.skill.UploadResponse> callCreateUploadUrlV1() throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
-    Map<String, String> pathParams = new HashMap<String, String>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = Collections.emptyMap();
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/skills/uploads";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.UploadResponse.class, 201, "Created."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceeds the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("POST", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.smapi.model.v1.skill.UploadResponse.class, false);
+    return this.executeRequest(CREATE_UPLOAD_URL_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -3847,6 +5788,24 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     return this.callCreateUploadUrlV1().getResponse();
   }
 
+  /**
+   * 
+   * Creates a new uploadUrl. 
+   * @return com.amazon.ask.smapi.model.v1.skill.UploadResponse
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.UploadResponse>> callCreateUploadUrlV1Async() {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = Collections.emptyMap();
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(CREATE_UPLOAD_URL_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * 
    * Get the list of Vendor information. 
@@ -3854,25 +5813,15 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.smapi.model.v1.vendorManagement.Vendors> callGetVendorListV1() throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
-    Map<String, String> pathParams = new HashMap<String, String>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = Collections.emptyMap();
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/vendors";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.vendorManagement.Vendors.class, 200, "Return vendor information on success."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.Error.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.smapi.model.v1.vendorManagement.Vendors.class, false);
+    return this.executeRequest(GET_VENDOR_LIST_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -3885,6 +5834,24 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     return this.callGetVendorListV1().getResponse();
   }
 
+  /**
+   * 
+   * Get the list of Vendor information. 
+   * @return com.amazon.ask.smapi.model.v1.vendorManagement.Vendors
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.vendorManagement.Vendors>> callGetVendorListV1Async() {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = Collections.emptyMap();
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(GET_VENDOR_LIST_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
   /**
    * 
    * Get the current user permissions about Alexa hosted skill features.
@@ -3894,28 +5861,17 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
    * @throws ServiceException if fails to make API call
    */
   public ApiResponse<com.amazon.ask.smapi.model.v1.skill.AlexaHosted.HostedSkillPermission> callGetAlexaHostedSkillUserPermissionsV1(String vendorId, String permission) throws ServiceException {
-    List<Pair<String, String>> queryParams = new ArrayList<Pair<String, String>>();
+    List<Pair<String, String>> queryParams = Collections.emptyList();
     Map<String, String> pathParams = new HashMap<String, String>();
     pathParams.put("vendorId", vendorId);
     pathParams.put("permission", permission);
     List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
-    headerParams.add(new Pair<String, String>("Content-type", "application/json"));
 
     String accessToken = lwaClient.getAccessTokenForRefreshToken();
     headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
 
-    String path = "/v1/vendors/{vendorId}/alexaHosted/permissions/{permission}";
-
-    List<ServiceClientResponse> serviceResponseDefinitions = new ArrayList<>();
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.AlexaHosted.HostedSkillPermission.class, 200, "response contains the user's permission of hosted skill features"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.BadRequestError.class, 400, "Server cannot process the request due to a client error e.g. Authorization Url is invalid"));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 401, "The auth token is invalid/expired or doesn't have access to the resource."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 429, "Exceed the permitted request limit. Throttling criteria includes total requests, per API, ClientId, and CustomerId."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 500, "Internal Server Error."));
-    serviceResponseDefinitions.add(new ServiceClientResponse(com.amazon.ask.smapi.model.v1.skill.StandardizedError.class, 503, "Service Unavailable."));
-
-    return this.executeRequest("GET", this.apiEndpoint, path, queryParams, headerParams,
-      pathParams, serviceResponseDefinitions, null, com.amazon.ask.smapi.model.v1.skill.AlexaHosted.HostedSkillPermission.class, false);
+    return this.executeRequest(GET_ALEXA_HOSTED_SKILL_USER_PERMISSIONS_V1, this.apiEndpoint, queryParams, headerParams,
+      pathParams, null);
   }
 
   /**
@@ -3930,4 +5886,26 @@ public class SkillManagementServiceClient extends BaseServiceClient implements S
     return this.callGetAlexaHostedSkillUserPermissionsV1(vendorId, permission).getResponse();
   }
 
+  /**
+   * 
+   * Get the current user permissions about Alexa hosted skill features.
+   * @param vendorId vendorId (required)
+   * @param permission The permission of a hosted skill feature that customer needs to check. (required)
+   * @return com.amazon.ask.smapi.model.v1.skill.AlexaHosted.HostedSkillPermission
+   */
+  public CompletableFuture<ApiResponse<com.amazon.ask.smapi.model.v1.skill.AlexaHosted.HostedSkillPermission>> callGetAlexaHostedSkillUserPermissionsV1Async(String vendorId, String permission) {
+    List<Pair<String, String>> queryParams = Collections.emptyList();
+    Map<String, String> pathParams = new HashMap<String, String>();
+    pathParams.put("vendorId", vendorId);
+    pathParams.put("permission", permission);
+    List<Pair<String, String>> headerParams = new ArrayList<Pair<String, String>>();
+
+    return lwaClient.getAccessTokenForRefreshTokenAsync().thenCompose(accessToken -> {
+      headerParams.add(new Pair<>("Authorization", "Bearer " + accessToken));
+
+      return this.executeRequestAsync(GET_ALEXA_HOSTED_SKILL_USER_PERMISSIONS_V1, this.apiEndpoint, queryParams, headerParams,
+        pathParams, null);
+    });
+  }
+
 }
@@ -13,8 +13,10 @@
 
 package com.amazon.ask.smapi.model.utils;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
 * Static class that contains a mapping of all the Subtypes of an abstract base type sorted by their
@@ -61,6 +63,13 @@ public class SubTypesManifest {
     return baseTypes.get(baseTypeClass);
   }
 
+  /**
+  * @return Set of all the base types with subtypes
+  */
+  public static Set<Class> getBaseTypes() {
+    return Collections.unmodifiableSet(baseTypes.keySet());
+  }
+
   /**
   * @param baseTypeClass Base type to search the subType from
   * @param discriminatorValue String discriminator value to find the subtype from the base class
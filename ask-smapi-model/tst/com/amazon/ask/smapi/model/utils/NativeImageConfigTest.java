@@ -0,0 +1,110 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file
+ * except in compliance with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ */
+
+package com.amazon.ask.smapi.model.utils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class NativeImageConfigTest {
+
+    private static final String REFLECT_CONFIG =
+            "META-INF/native-image/com.amazon.alexa/ask-smapi-model/reflect-config.json";
+
+    @Test
+    public void subtypes_of_every_base_type_are_registered_for_reflection() throws Exception {
+        Map<String, Map<String, Object>> entries = loadReflectConfig();
+
+        assertFalse(SubTypesManifest.getBaseTypes().isEmpty());
+        for (Class<?> baseType : SubTypesManifest.getBaseTypes()) {
+            assertRegistered(entries, baseType);
+            for (Class<?> subType : SubTypesManifest.getSubType(baseType).values()) {
+                assertRegistered(entries, subType);
+            }
+        }
+    }
+
+    @Test
+    public void models_and_their_builders_are_registered_for_reflection() throws Exception {
+        Map<String, Map<String, Object>> entries = loadReflectConfig();
+
+        List<Class<?>> models = new ArrayList<>();
+        for (Class<?> type : loadModelClasses()) {
+            JsonDeserialize deserialize = type.getAnnotation(JsonDeserialize.class);
+            if (deserialize != null && deserialize.builder() != Void.class) {
+                models.add(type);
+                assertRegistered(entries, type);
+                assertRegistered(entries, deserialize.builder());
+            }
+        }
+        assertTrue(models.size() > SubTypesManifest.getBaseTypes().size());
+    }
+
+    private static void assertRegistered(Map<String, Map<String, Object>> entries, Class<?> type) {
+        Map<String, Object> entry = entries.get(type.getName());
+        assertNotNull(type.getName() + " is not registered", entry);
+        assertEquals(type.getName(), true, entry.get("allDeclaredConstructors"));
+        assertEquals(type.getName(), true, entry.get("allDeclaredMethods"));
+        assertEquals(type.getName(), true, entry.get("allDeclaredFields"));
+    }
+
+    private List<Class<?>> loadModelClasses() throws IOException, URISyntaxException, ClassNotFoundException {
+        Path root = Paths.get(SubTypesManifest.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        List<String> names;
+        try (Stream<Path> files = Files.walk(root)) {
+            names = files.map(root::relativize)
+                    .map(Path::toString)
+                    .filter(name -> name.endsWith(".class") && !name.contains("$"))
+                    .map(name -> name.substring(0, name.length() - ".class".length()).replace('/', '.').replace('\\', '.'))
+                    .collect(Collectors.toList());
+        }
+        List<Class<?>> classes = new ArrayList<>();
+        for (String name : names) {
+            classes.add(Class.forName(name, false, getClass().getClassLoader()));
+        }
+        return classes;
+    }
+
+    private Map<String, Map<String, Object>> loadReflectConfig() throws IOException {
+        try (InputStream config = getClass().getClassLoader().getResourceAsStream(REFLECT_CONFIG)) {
+            assertNotNull(REFLECT_CONFIG + " is missing", config);
+            List<Map<String, Object>> entries = new ObjectMapper().readValue(config,
+                    new TypeReference<List<Map<String, Object>>>() {});
+            Map<String, Map<String, Object>> entriesByName = new HashMap<>();
+            for (Map<String, Object> entry : entries) {
+                entriesByName.put((String) entry.get("name"), entry);
+            }
+            return entriesByName;
+        }
+    }
+}